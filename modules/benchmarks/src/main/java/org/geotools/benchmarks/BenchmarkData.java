@@ -0,0 +1,100 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.data.simple.SimpleFeatureIterator;
+
+/**
+ * Gives the benchmarks access to the shapefiles shipped with {@code gt-sample-data}. The files are copied out of the
+ * classpath into a temporary directory, so that they can be memory mapped and read exactly like a file on disk would
+ * be, without any network access.
+ */
+public class BenchmarkData {
+
+    static final String SHAPES = "/org/geotools/test-data/shapes/";
+
+    static final String[] SHAPEFILE_EXTENSIONS = {"shp", "shx", "dbf", "prj", "cpg"};
+
+    private final Path directory;
+
+    public BenchmarkData() throws IOException {
+        this.directory = Files.createTempDirectory("gt-benchmarks");
+    }
+
+    /**
+     * Copies the named shapefile (without extension) from the {@code shapes} sample data folder
+     *
+     * @return the main {@code .shp} file
+     */
+    public File shapefile(String name) throws IOException {
+        File result = null;
+        for (String extension : SHAPEFILE_EXTENSIONS) {
+            URL url = BenchmarkData.class.getResource(SHAPES + name + "." + extension);
+            if (url == null) continue;
+            Path target = directory.resolve(name + "." + extension);
+            try (InputStream is = url.openStream()) {
+                Files.copy(is, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if ("shp".equals(extension)) result = target.toFile();
+        }
+        if (result == null) {
+            throw new FileNotFoundException("Could not locate sample shapefile " + name);
+        }
+        return result;
+    }
+
+    /** Opens the named sample shapefile as a data store */
+    public ShapefileDataStore dataStore(String name) throws IOException {
+        return new ShapefileDataStore(shapefile(name).toURI().toURL());
+    }
+
+    /** Loads all the features of the named sample shapefile in memory */
+    public List<SimpleFeature> features(String name) throws IOException {
+        ShapefileDataStore store = dataStore(name);
+        try {
+            SimpleFeatureSource source = store.getFeatureSource();
+            List<SimpleFeature> result = new ArrayList<>();
+            try (SimpleFeatureIterator it = source.getFeatures().features()) {
+                while (it.hasNext()) {
+                    result.add(it.next());
+                }
+            }
+            return result;
+        } finally {
+            store.dispose();
+        }
+    }
+
+    /** Removes the temporary copies of the sample data */
+    public void dispose() throws IOException {
+        FileUtils.deleteDirectory(directory.toFile());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates filters built with the default {@link FilterFactory} against the in memory features of the {@code statepop}
+ * sample shapefile. The score is the time needed to evaluate the filter against all 49 states.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterEvaluationBenchmark {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Param({"equalTo", "between", "like", "bbox", "and"})
+    String filterType;
+
+    List<SimpleFeature> features;
+
+    Filter filter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchmarkData data = new BenchmarkData();
+        try {
+            features = data.features("statepop");
+        } finally {
+            data.dispose();
+        }
+        filter = buildFilter(filterType);
+    }
+
+    static Filter buildFilter(String filterType) {
+        ReferencedEnvelope bbox = new ReferencedEnvelope(-100, -80, 30, 45, null);
+        switch (filterType) {
+            case "equalTo":
+                return FF.equals(FF.property("STATE_ABBR"), FF.literal("TX"));
+            case "between":
+                return FF.between(FF.property("PERSONS"), FF.literal(1000000), FF.literal(5000000));
+            case "like":
+                return FF.like(FF.property("STATE_NAME"), "New*");
+            case "bbox":
+                return FF.bbox(FF.property("the_geom"), bbox);
+            case "and":
+                return FF.and(
+                        FF.bbox(FF.property("the_geom"), bbox), FF.greater(FF.property("LAND_KM"), FF.literal(100000)));
+            default:
+                throw new IllegalArgumentException("Unknown filter type " + filterType);
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int matches = 0;
+        for (SimpleFeature feature : features) {
+            if (filter.evaluate(feature)) matches++;
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.geometry.jts.WKTReader2;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses the geometries of a sample shapefile from their WKB and WKT representations, the score is the time needed to
+ * parse the whole data set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeometryParsingBenchmark {
+
+    @Param({"statepop", "roads"})
+    String shapefile;
+
+    byte[][] wkb;
+
+    String[] wkt;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchmarkData data = new BenchmarkData();
+        List<SimpleFeature> features;
+        try {
+            features = data.features(shapefile);
+        } finally {
+            data.dispose();
+        }
+        WKBWriter wkbWriter = new WKBWriter();
+        WKTWriter wktWriter = new WKTWriter();
+        wkb = new byte[features.size()][];
+        wkt = new String[features.size()];
+        for (int i = 0; i < features.size(); i++) {
+            Geometry geometry = (Geometry) features.get(i).getDefaultGeometry();
+            wkb[i] = wkbWriter.write(geometry);
+            wkt[i] = wktWriter.write(geometry);
+        }
+    }
+
+    @Benchmark
+    public void parseWKB(Blackhole bh) throws ParseException {
+        // readers are not thread safe, but cheap to create
+        WKBReader reader = new WKBReader();
+        for (byte[] bytes : wkb) {
+            bh.consume(reader.read(bytes));
+        }
+    }
+
+    @Benchmark
+    public void parseWKT(Blackhole bh) throws ParseException {
+        WKTReader2 reader = new WKTReader2();
+        for (String text : wkt) {
+            bh.consume(reader.read(text));
+        }
+    }
+}
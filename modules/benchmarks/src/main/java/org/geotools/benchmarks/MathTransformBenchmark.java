@@ -0,0 +1,155 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.referencing.operation.DefaultMathTransformFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transforms arrays of geographic coordinates through the map projections most commonly met in rendering and WFS
+ * output. The {@code raw} transforms are created by {@link DefaultMathTransformFactory} directly from the projection
+ * parameters, while the {@code crs} ones are the full concatenated chains returned by
+ * {@link CRS#findMathTransform(CoordinateReferenceSystem, CoordinateReferenceSystem)}, including axis swaps and unit
+ * conversions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MathTransformBenchmark {
+
+    static final String UTM_32N = "PROJCS[\"WGS 84 / UTM zone 32N\",GEOGCS[\"WGS"
+            + " 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS"
+            + " 84\",6378137,298.257223563]],PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]],"
+            + "PROJECTION[\"Transverse_Mercator\"],PARAMETER[\"latitude_of_origin\",0],"
+            + "PARAMETER[\"central_meridian\",9],PARAMETER[\"scale_factor\",0.9996],"
+            + "PARAMETER[\"false_easting\",500000],PARAMETER[\"false_northing\",0],UNIT[\"metre\",1]]";
+
+    static final String WEB_MERCATOR = "PROJCS[\"WGS 84 / Pseudo-Mercator\",GEOGCS[\"WGS"
+            + " 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS"
+            + " 84\",6378137,298.257223563]],PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]],"
+            + "PROJECTION[\"Mercator_1SP\"],PARAMETER[\"central_meridian\",0],PARAMETER[\"scale_factor\",1],"
+            + "PARAMETER[\"false_easting\",0],PARAMETER[\"false_northing\",0],UNIT[\"metre\",1]]";
+
+    static final String LAMBERT_93 = "PROJCS[\"RGF93 / Lambert-93\",GEOGCS[\"RGF93\",DATUM[\"RGF93\",SPHEROID[\"GRS"
+            + " 1980\",6378137,298.257222101]],PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]],"
+            + "PROJECTION[\"Lambert_Conformal_Conic_2SP\"],PARAMETER[\"standard_parallel_1\",49],"
+            + "PARAMETER[\"standard_parallel_2\",44],PARAMETER[\"latitude_of_origin\",46.5],"
+            + "PARAMETER[\"central_meridian\",3],PARAMETER[\"false_easting\",700000],"
+            + "PARAMETER[\"false_northing\",6600000],UNIT[\"metre\",1]]";
+
+    static final String ALBERS_CONUS =
+            "PROJCS[\"NAD83 / Conus Albers\",GEOGCS[\"NAD83\",DATUM[\"North_American_Datum_1983\",SPHEROID[\"GRS"
+                    + " 1980\",6378137,298.257222101]],PRIMEM[\"Greenwich\",0],UNIT[\"degree\",0.0174532925199433]],"
+                    + "PROJECTION[\"Albers_Conic_Equal_Area\"],PARAMETER[\"standard_parallel_1\",29.5],"
+                    + "PARAMETER[\"standard_parallel_2\",45.5],PARAMETER[\"latitude_of_center\",23],"
+                    + "PARAMETER[\"longitude_of_center\",-96],PARAMETER[\"false_easting\",0],"
+                    + "PARAMETER[\"false_northing\",0],UNIT[\"metre\",1]]";
+
+    @Param({"TransverseMercator", "Mercator", "LambertConformal", "AlbersEqualArea"})
+    String projection;
+
+    @Param({"raw", "crs"})
+    String chain;
+
+    @Param({"10000"})
+    int points;
+
+    MathTransform transform;
+
+    double[] source;
+
+    double[] target;
+
+    @Setup(Level.Trial)
+    public void setup() throws FactoryException {
+        String wkt;
+        double lon, lat;
+        switch (projection) {
+            case "TransverseMercator":
+                wkt = UTM_32N;
+                lon = 9;
+                lat = 45;
+                break;
+            case "Mercator":
+                wkt = WEB_MERCATOR;
+                lon = 0;
+                lat = 0;
+                break;
+            case "LambertConformal":
+                wkt = LAMBERT_93;
+                lon = 3;
+                lat = 46.5;
+                break;
+            case "AlbersEqualArea":
+                wkt = ALBERS_CONUS;
+                lon = -96;
+                lat = 37;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown projection " + projection);
+        }
+        CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
+        if ("raw".equals(chain)) {
+            DefaultMathTransformFactory factory =
+                    (DefaultMathTransformFactory) ReferencingFactoryFinder.getMathTransformFactory(null);
+            ParameterValueGroup parameters =
+                    CRS.getMapProjection(crs).getParameterValues().clone();
+            transform = factory.createParameterizedTransform(parameters);
+        } else {
+            transform = CRS.findMathTransform(DefaultGeographicCRS.WGS84, crs, true);
+        }
+
+        // points scattered in a 10x10 degrees area around the projection center
+        Random random = new Random(0);
+        source = new double[points * 2];
+        target = new double[points * 2];
+        for (int i = 0; i < source.length; i += 2) {
+            source[i] = lon - 5 + random.nextDouble() * 10;
+            source[i + 1] = lat - 5 + random.nextDouble() * 10;
+        }
+    }
+
+    @Benchmark
+    public double[] transform() throws TransformException {
+        transform.transform(source, 0, target, 0, points);
+        return target;
+    }
+}
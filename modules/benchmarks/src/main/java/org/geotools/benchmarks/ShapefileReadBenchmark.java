@@ -0,0 +1,115 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Measures a full scan, a projected scan and a bbox query through the shapefile feature reader. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShapefileReadBenchmark {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    @Param({"statepop", "roads", "streams"})
+    String shapefile;
+
+    BenchmarkData data;
+
+    ShapefileDataStore store;
+
+    Query bboxQuery;
+
+    Query projectedQuery;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = new BenchmarkData();
+        store = data.dataStore(shapefile);
+        store.setMemoryMapped(true);
+
+        // a query covering the central quarter of the data set
+        ReferencedEnvelope bounds = store.getFeatureSource().getBounds();
+        ReferencedEnvelope quarter = new ReferencedEnvelope(bounds);
+        quarter.expandBy(-bounds.getWidth() / 4, -bounds.getHeight() / 4);
+        String typeName = store.getTypeNames()[0];
+        String geometry = store.getSchema().getGeometryDescriptor().getLocalName();
+        bboxQuery = new Query(typeName, FF.bbox(FF.property(geometry), quarter));
+        projectedQuery = new Query(typeName);
+        projectedQuery.setPropertyNames(geometry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.dispose();
+        data.dispose();
+    }
+
+    @Benchmark
+    public void readAll(Blackhole bh) throws IOException {
+        read(new Query(store.getTypeNames()[0]), bh);
+    }
+
+    @Benchmark
+    public void readGeometryOnly(Blackhole bh) throws IOException {
+        read(projectedQuery, bh);
+    }
+
+    @Benchmark
+    public void readBBOX(Blackhole bh) throws IOException {
+        read(bboxQuery, bh);
+    }
+
+    private void read(Query query, Blackhole bh) throws IOException {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                bh.consume(feature.getDefaultGeometry());
+                bh.consume(feature.getAttributes());
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.renderer.lite.StreamingRenderer;
+import org.geotools.styling.SLD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a {@link MapContent} made of sample shapefile layers with the {@link StreamingRenderer}, using the default
+ * simple style of each layer. The map is painted at full extent on a fresh image at each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class StreamingRendererBenchmark {
+
+    /** Comma separated list of sample shapefiles, painted in order */
+    @Param({"statepop", "rstrct,streams,roads,bugsites,archsites"})
+    String layers;
+
+    @Param({"false", "true"})
+    boolean antialiasing;
+
+    @Param({"1024"})
+    int size;
+
+    BenchmarkData data;
+
+    List<ShapefileDataStore> stores = new ArrayList<>();
+
+    MapContent content;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = new BenchmarkData();
+        content = new MapContent();
+        for (String name : layers.split(",")) {
+            ShapefileDataStore store = data.dataStore(name);
+            stores.add(store);
+            SimpleFeatureSource source = store.getFeatureSource();
+            content.addLayer(new FeatureLayer(source, SLD.createSimpleStyle(source.getSchema())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        content.dispose();
+        for (ShapefileDataStore store : stores) {
+            store.dispose();
+        }
+        data.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            if (antialiasing) {
+                graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            }
+            StreamingRenderer renderer = new StreamingRenderer();
+            renderer.setMapContent(content);
+            ReferencedEnvelope bounds = content.getMaxBounds();
+            renderer.paint(graphics, new Rectangle(size, size), bounds);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
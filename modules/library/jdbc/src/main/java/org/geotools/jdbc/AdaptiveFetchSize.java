@@ -0,0 +1,163 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.util.Collection;
+import java.util.Map;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Computes the fetch size while reading a result set, based on the estimated size of the rows and on the time spent
+ * waiting for the database to return them.
+ *
+ * <p>At the end of each batch of rows (one fetch), the fetch size is doubled if a significant part of the time was
+ * spent waiting for the database, as fewer round trips will then help, and it's capped so that a single fetch does not
+ * use more than the target amount of memory, which keeps wide rows (e.g., large geometries) from exhausting the heap.
+ */
+class AdaptiveFetchSize {
+
+    /** Target memory for a single fetch */
+    static final long DEFAULT_TARGET_BYTES = 16 * 1024 * 1024;
+
+    /** Fraction of time spent waiting for the database above which the fetch size is grown */
+    static final double GROW_THRESHOLD = 0.2;
+
+    /** One row every SAMPLE_RATE has its size estimated */
+    static final int SAMPLE_RATE = 16;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final long targetBytes;
+
+    private int fetchSize;
+
+    private int rows;
+
+    private long sampledBytes;
+
+    private int samples;
+
+    private long waitNanos;
+
+    private long batchStart = -1;
+
+    /**
+     * Builds a new adaptive fetch size, that will move between one tenth and fifty times the initial fetch size
+     *
+     * @param initialSize The fetch size used for the first fetch
+     */
+    AdaptiveFetchSize(int initialSize) {
+        this(initialSize, Math.max(1, initialSize / 10), Math.max(initialSize, initialSize * 50), DEFAULT_TARGET_BYTES);
+    }
+
+    AdaptiveFetchSize(int initialSize, int minSize, int maxSize, long targetBytes) {
+        this.fetchSize = initialSize;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetBytes = targetBytes;
+    }
+
+    /** The current fetch size */
+    int getFetchSize() {
+        return fetchSize;
+    }
+
+    /** Records the time spent waiting for the next row */
+    void fetched(long nanos) {
+        if (batchStart < 0) {
+            batchStart = System.nanoTime() - nanos;
+        }
+        waitNanos += nanos;
+    }
+
+    /** Returns true if the size of the next row should be estimated and reported with {@link #sampled(long)} */
+    boolean isSampling() {
+        return rows % SAMPLE_RATE == 0;
+    }
+
+    /** Reports the estimated size of a row */
+    void sampled(long bytes) {
+        sampledBytes += bytes;
+        samples++;
+    }
+
+    /**
+     * Notifies a row has been read
+     *
+     * @return The new fetch size, if it needs to be changed, or -1 otherwise
+     */
+    int rowRead() {
+        rows++;
+        if (rows < fetchSize) {
+            return -1;
+        }
+
+        long elapsed = System.nanoTime() - batchStart;
+        int size = fetchSize;
+        if (elapsed > 0 && waitNanos > elapsed * GROW_THRESHOLD) {
+            size = size * 2;
+        }
+        if (samples > 0) {
+            long rowBytes = Math.max(1, sampledBytes / samples);
+            size = (int) Math.min(size, Math.max(1, targetBytes / rowBytes));
+        }
+        size = Math.max(minSize, Math.min(maxSize, size));
+
+        // start a new batch
+        rows = 0;
+        waitNanos = 0;
+        sampledBytes = 0;
+        samples = 0;
+        batchStart = -1;
+
+        if (size != fetchSize) {
+            fetchSize = size;
+            return size;
+        }
+        return -1;
+    }
+
+    /** Roughly estimates the memory used by the attributes of the feature */
+    static long estimateSize(SimpleFeature feature) {
+        long size = 0;
+        for (Object value : feature.getAttributes()) {
+            size += estimateSize(value);
+        }
+        return size;
+    }
+
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof Geometry geometry) {
+            // coordinates, plus some overhead for the objects holding them
+            return 16L * geometry.getNumPoints() * 3 + 64L * geometry.getNumGeometries();
+        } else if (value instanceof CharSequence cs) {
+            return 40 + 2L * cs.length();
+        } else if (value instanceof byte[] bytes) {
+            return 16 + bytes.length;
+        } else if (value instanceof Collection<?> collection) {
+            return 16 + 16L * collection.size();
+        } else if (value instanceof Map<?, ?> map) {
+            return 16 + 32L * map.size();
+        }
+        return 16;
+    }
+}
@@ -252,6 +252,14 @@ public final class JDBCDataStore extends ContentDataStore implements GmlObjectSt
      */
     public int fetchSize;
 
+    /**
+     * If true, the fetch size is adapted while reading, based on the row size and the time spent waiting for the dbms
+     */
+    protected boolean adaptiveFetchSize = false;
+
+    /** If true, features are read and decoded in a background thread, a batch ahead of the code consuming them */
+    protected boolean pipelinedReading = false;
+
     /**
      * The number of features to bufferize while inserting in order to do batch inserts.
      *
@@ -362,6 +370,32 @@ public void setFetchSize(int fetchSize) {
         this.fetchSize = fetchSize;
     }
 
+    /**
+     * Returns true if the fetch size is adapted while reading, starting from {@link #getFetchSize()} and moving based
+     * on the estimated row size and the time spent waiting for the dbms to return rows.
+     */
+    public boolean isAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    /** Enables or disables the adaptive fetch size. Has no effect if the fetch size is not positive. */
+    public void setAdaptiveFetchSize(boolean adaptiveFetchSize) {
+        this.adaptiveFetchSize = adaptiveFetchSize;
+    }
+
+    /**
+     * Returns true if features read outside of a transaction are read and decoded in a background thread, a batch ahead
+     * of the code consuming them.
+     */
+    public boolean isPipelinedReading() {
+        return pipelinedReading;
+    }
+
+    /** Enables or disables the pipelined reading of features. */
+    public void setPipelinedReading(boolean pipelinedReading) {
+        this.pipelinedReading = pipelinedReading;
+    }
+
     /** @return the number of features to bufferize while inserting in order to do batch inserts. */
     public int getBatchInsertSize() {
         return batchInsertSize;
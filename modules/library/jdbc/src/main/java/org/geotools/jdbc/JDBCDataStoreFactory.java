@@ -96,6 +96,26 @@ public abstract class JDBCDataStoreFactory implements DataStoreFactorySpi {
     public static final Param FETCHSIZE = new Param(
             "fetch size", Integer.class, "number of records read with each iteraction with the dbms", false, 1000);
 
+    /**
+     * If the fetch size should be adapted while reading, based on the row size and the time spent waiting for the dbms
+     */
+    public static final Param ADAPTIVE_FETCH_SIZE = new Param(
+            "adaptive fetch size",
+            Boolean.class,
+            "adapt the fetch size while reading, based on the size of the rows and the time spent waiting for the dbms",
+            false,
+            Boolean.FALSE,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
+    /** If features should be read and decoded in a background thread, a batch ahead of the code consuming them */
+    public static final Param PIPELINED_READING = new Param(
+            "pipelined reading",
+            Boolean.class,
+            "read and decode the features in a background thread, a batch ahead of the code consuming them",
+            false,
+            Boolean.FALSE,
+            Collections.singletonMap(Parameter.LEVEL, "advanced"));
+
     /** If different from one, the JDBCInsertFeatureWriter will buffer the features and insert them in batches */
     public static final Param BATCH_INSERT_SIZE = new Param(
             "Batch insert size",
@@ -267,6 +287,12 @@ public final JDBCDataStore createDataStore(Map<String, ?> params) throws IOExcep
         if (fetchSize != null && fetchSize > 0) dataStore.setFetchSize(fetchSize);
         else dataStore.setFetchSize((Integer) FETCHSIZE.sample);
 
+        Boolean adaptiveFetchSize = (Boolean) ADAPTIVE_FETCH_SIZE.lookUp(params);
+        dataStore.setAdaptiveFetchSize(Boolean.TRUE.equals(adaptiveFetchSize));
+
+        Boolean pipelinedReading = (Boolean) PIPELINED_READING.lookUp(params);
+        dataStore.setPipelinedReading(Boolean.TRUE.equals(pipelinedReading));
+
         Integer batchInsertSize = (Integer) BATCH_INSERT_SIZE.lookUp(params);
         if (batchInsertSize != null && batchInsertSize > 0) {
             dataStore.setBatchInsertSize(batchInsertSize);
@@ -406,6 +432,8 @@ protected void setupParameters(Map<String, Object> parameters) {
         parameters.put(MAXCONN.key, MAXCONN);
         parameters.put(MINCONN.key, MINCONN);
         parameters.put(FETCHSIZE.key, FETCHSIZE);
+        parameters.put(ADAPTIVE_FETCH_SIZE.key, ADAPTIVE_FETCH_SIZE);
+        parameters.put(PIPELINED_READING.key, PIPELINED_READING);
         parameters.put(BATCH_INSERT_SIZE.key, BATCH_INSERT_SIZE);
         parameters.put(MAXWAIT.key, MAXWAIT);
         if (getValidationQuery() != null) parameters.put(VALIDATECONN.key, VALIDATECONN);
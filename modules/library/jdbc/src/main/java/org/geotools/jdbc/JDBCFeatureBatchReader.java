@@ -0,0 +1,71 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DefaultFeatureBatch;
+
+/** Reads the rows of a {@link JDBCFeatureReader} result set straight into column batches. */
+class JDBCFeatureBatchReader implements FeatureBatchReader {
+
+    private final JDBCFeatureReader reader;
+
+    private final DefaultFeatureBatch batch;
+
+    /** The batch holds rows not returned yet */
+    private boolean filled;
+
+    /** The result set has been read to the end */
+    private boolean exhausted;
+
+    JDBCFeatureBatchReader(JDBCFeatureReader reader, int batchSize) {
+        this.reader = reader;
+        this.batch = new DefaultFeatureBatch(reader.getFeatureType(), batchSize);
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return reader.getFeatureType();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (!filled && !exhausted) {
+            filled = reader.readBatch(batch);
+            exhausted = !batch.isFull();
+        }
+        return filled;
+    }
+
+    @Override
+    public FeatureBatch next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more features in this reader");
+        }
+        filled = false;
+        return batch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
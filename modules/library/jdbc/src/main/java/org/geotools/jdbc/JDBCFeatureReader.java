@@ -35,6 +35,7 @@
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.FeatureWriter;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.FeatureFactory;
@@ -49,6 +50,7 @@
 import org.geotools.api.filter.identity.FeatureId;
 import org.geotools.api.geometry.BoundingBox;
 import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.data.DefaultFeatureBatch;
 import org.geotools.data.util.ScreenMap;
 import org.geotools.feature.GeometryAttributeImpl;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
@@ -61,7 +63,9 @@
 import org.geotools.util.factory.Hints;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 
 /**
@@ -127,6 +131,9 @@ public class JDBCFeatureReader implements FeatureReader<SimpleFeatureType, Simpl
     /** enum support */
     EnumMapping[] enumMappings;
 
+    /** Adapts the fetch size while reading, if enabled in the store */
+    AdaptiveFetchSize adaptiveFetchSize;
+
     @SuppressWarnings("PMD.CloseResource")
     public JDBCFeatureReader(
             String sql, Connection cx, JDBCFeatureSource featureSource, SimpleFeatureType featureType, Query query)
@@ -197,6 +204,9 @@ protected void init(JDBCFeatureSource featureSource, SimpleFeatureType featureTy
         this.tx = featureSource.getTransaction();
         this.query = query;
         this.hints = query != null ? query.getHints() : null;
+        if (dataStore.isAdaptiveFetchSize() && dataStore.getFetchSize() > 0 && !(this instanceof FeatureWriter)) {
+            this.adaptiveFetchSize = new AdaptiveFetchSize(dataStore.getFetchSize());
+        }
 
         // grab a geometry factory... check for a special hint
         geometryFactory = hints != null ? (GeometryFactory) hints.get(Hints.JTS_GEOMETRY_FACTORY) : null;
@@ -304,10 +314,34 @@ public PrimaryKey getPrimaryKey() {
         return pkey;
     }
 
+    /** Feeds the adaptive fetch size with the row just read, and applies the new fetch size when needed */
+    private void adaptFetchSize(SimpleFeature feature) {
+        if (feature != null && adaptiveFetchSize.isSampling()) {
+            adaptiveFetchSize.sampled(AdaptiveFetchSize.estimateSize(feature));
+        }
+        int fetchSize = adaptiveFetchSize.rowRead();
+        if (fetchSize > 0) {
+            try {
+                rs.setFetchSize(fetchSize);
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Could not change the fetch size, will keep the current one", e);
+                adaptiveFetchSize = null;
+            }
+        }
+    }
+
     public Query getQuery() {
         return query;
     }
 
+    /**
+     * Generic geometry bindings do not tell which kind of simplified shape should replace a geometry, those need to be
+     * decoded first
+     */
+    private static boolean isSimplifiable(Class<?> binding) {
+        return binding != Geometry.class && binding != GeometryCollection.class;
+    }
+
     @Override
     public boolean hasNext() throws IOException {
         ensureOpen();
@@ -316,11 +350,18 @@ public boolean hasNext() throws IOException {
             try {
                 while (nextFeature == null && !Boolean.FALSE.equals(next)) {
                     callback.beforeNext(rs);
+                    long start = adaptiveFetchSize != null ? System.nanoTime() : 0;
                     next = Boolean.valueOf(rs.next());
+                    if (adaptiveFetchSize != null) {
+                        adaptiveFetchSize.fetched(System.nanoTime() - start);
+                    }
                     callback.afterNext(rs, next);
 
                     if (next) {
                         nextFeature = readNextFeature();
+                        if (adaptiveFetchSize != null) {
+                            adaptFetchSize(nextFeature);
+                        }
                     }
                 }
 
@@ -362,25 +403,47 @@ protected SimpleFeature readNextFeature() {
 
                 // is this a geometry?
                 if (type instanceof GeometryDescriptor gatt) {
+                    int column = offset + attributeRsIndex[i];
 
-                    // read the geometry
-                    try {
-                        value = dataStore
-                                .getSQLDialect()
-                                .decodeGeometryValue(
-                                        gatt, rs, offset + attributeRsIndex[i], geometryFactory, cx, hints);
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
+                    // try to decide on the envelope alone, before decoding the geometry
+                    Envelope header = null;
+                    if (screenMap != null && isSimplifiable(gatt.getType().getBinding())) {
+                        try {
+                            header = dataStore.getSQLDialect().decodeGeometryHeaderEnvelope(gatt, rs, column, cx);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    if (header != null) {
+                        try {
+                            if (screenMap.canSimplify(header)) {
+                                if (screenMap.checkAndSet(header)) {
+                                    builder.reset();
+                                    return null;
+                                }
+                                Geometry simplified = screenMap.getSimplifiedShape(
+                                        header.getMinX(),
+                                        header.getMinY(),
+                                        header.getMaxX(),
+                                        header.getMaxY(),
+                                        geometryFactory,
+                                        gatt.getType().getBinding());
+                                simplified.setUserData(gatt.getCoordinateReferenceSystem());
+                                builder.add(simplified);
+                                continue;
+                            }
+                        } catch (TransformException e) {
+                            if (LOGGER.isLoggable(Level.WARNING)) {
+                                LOGGER.log(Level.WARNING, "Failed to process screenmap checks, proceeding without", e);
+                            }
+                        }
                     }
 
+                    // read the geometry
+                    value = readGeometry(gatt, column);
+
                     if (value != null) {
-                        // check to see if a crs was set
                         Geometry geometry = (Geometry) value;
-                        if (geometry.getUserData() == null) {
-                            // if not set, set from descriptor
-                            geometry.setUserData(gatt.getCoordinateReferenceSystem());
-                        }
-
                         try {
                             // is position already busy skip it
                             if (screenMap != null) {
@@ -404,37 +467,7 @@ protected SimpleFeature readNextFeature() {
                     value = rs.getObject(offset + attributeRsIndex[i]);
                 }
 
-                // they value may need conversion. We let converters chew the initial
-                // value towards the target type, if the result is not the same as the
-                // original, then a conversion happened, and we may want to report it to the
-                // user (being the feature type reverse engineered, it's unlikely a true
-                // conversion will be needed)
-                if (value != null) {
-                    EnumMapping mapping = enumMappings[i];
-                    Object converted = null;
-                    if (mapping != null) {
-                        String keyAsString = Converters.convert(value, String.class);
-                        // if the mapping is not found in the enum, mimic QGIS behavior by placing the key in
-                        // parentheses as value
-                        value = Objects.requireNonNullElse(mapping.fromKey(keyAsString), "(" + keyAsString + ")");
-                        converted = value;
-                    } else {
-                        converted = dataStore.dialect.convertValue(value, type);
-                    }
-
-                    if (converted != null && converted != value) {
-                        value = converted;
-                        if (dataStore.getLogger().isLoggable(Level.FINER)) {
-                            String msg = value
-                                    + " is not of type "
-                                    + type.getType().getBinding().getName()
-                                    + ", value was converted";
-                            dataStore.getLogger().finer(msg);
-                        }
-                    }
-                }
-
-                builder.add(value);
+                builder.add(convertValue(i, type, value));
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
@@ -449,6 +482,118 @@ protected SimpleFeature readNextFeature() {
         }
     }
 
+    /** Decodes the geometry of a column, defaulting its CRS to the one of the descriptor. */
+    private Geometry readGeometry(GeometryDescriptor gatt, int column) throws SQLException {
+        Geometry geometry;
+        try {
+            geometry = dataStore.getSQLDialect().decodeGeometryValue(gatt, rs, column, geometryFactory, cx, hints);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        // check to see if a crs was set
+        if (geometry != null && geometry.getUserData() == null) {
+            // if not set, set from descriptor
+            geometry.setUserData(gatt.getCoordinateReferenceSystem());
+        }
+        return geometry;
+    }
+
+    /**
+     * The value may need conversion. We let converters chew the initial value towards the target type, if the result is
+     * not the same as the original, then a conversion happened, and we may want to report it to the user (being the
+     * feature type reverse engineered, it's unlikely a true conversion will be needed)
+     */
+    private Object convertValue(int index, AttributeDescriptor type, Object value) {
+        if (value != null) {
+            EnumMapping mapping = enumMappings[index];
+            Object converted = null;
+            if (mapping != null) {
+                String keyAsString = Converters.convert(value, String.class);
+                // if the mapping is not found in the enum, mimic QGIS behavior by placing the key in
+                // parentheses as value
+                value = Objects.requireNonNullElse(mapping.fromKey(keyAsString), "(" + keyAsString + ")");
+                converted = value;
+            } else {
+                converted = dataStore.dialect.convertValue(value, type);
+            }
+
+            if (converted != null && converted != value) {
+                value = converted;
+                if (dataStore.getLogger().isLoggable(Level.FINER)) {
+                    String msg = value + " is not of type "
+                            + type.getType().getBinding().getName() + ", value was converted";
+                    dataStore.getLogger().finer(msg);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Reads the following rows into the batch, until it is full or the result set is exhausted. Numeric attributes are
+     * read from the result set as primitives, without boxing. The reader must not be used through
+     * {@link #hasNext()}/{@link #next()} at the same time, and must not be set up with a screen map.
+     *
+     * @return false if there were no more rows to read
+     */
+    boolean readBatch(DefaultFeatureBatch batch) throws IOException {
+        ensureOpen();
+        batch.clear();
+        final int attributeCount = featureType.getAttributeCount();
+        try {
+            while (!batch.isFull()) {
+                callback.beforeNext(rs);
+                boolean hasRow = rs.next();
+                callback.afterNext(rs, hasRow);
+                if (!hasRow) {
+                    callback.finish(this);
+                    break;
+                }
+
+                String fid;
+                try {
+                    fid = featureType.getTypeName() + "." + dataStore.encodeFID(pkey, rs, offset);
+                } catch (Exception e) {
+                    throw new IOException("Could not determine fid from primary key", e);
+                }
+                int row = batch.addRow(fid);
+                for (int i = 0; i < attributeCount; i++) {
+                    AttributeDescriptor type = featureType.getDescriptor(i);
+                    Class<?> binding = type.getType().getBinding();
+                    int column = offset + attributeRsIndex[i];
+                    if (type instanceof GeometryDescriptor gatt) {
+                        batch.setValue(i, row, convertValue(i, gatt, readGeometry(gatt, column)));
+                    } else if (enumMappings[i] == null && isIntegral(binding)) {
+                        long value = rs.getLong(column);
+                        if (rs.wasNull()) {
+                            batch.setNull(i, row);
+                        } else {
+                            batch.setLong(i, row, value);
+                        }
+                    } else if (enumMappings[i] == null && (binding == Double.class || binding == Float.class)) {
+                        double value = rs.getDouble(column);
+                        if (rs.wasNull()) {
+                            batch.setNull(i, row);
+                        } else {
+                            batch.setDouble(i, row, value);
+                        }
+                    } else {
+                        batch.setValue(i, row, convertValue(i, type, rs.getObject(column)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            callback.rowError(e);
+            throw new IOException(e);
+        }
+        return batch.size() > 0;
+    }
+
+    private static boolean isIntegral(Class<?> binding) {
+        return binding == Integer.class || binding == Long.class || binding == Short.class || binding == Byte.class;
+    }
+
     protected void ensureNext() {
         if (next == null) {
             throw new IllegalStateException("Must call hasNext before calling next");
@@ -31,6 +31,7 @@
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.FeatureSource;
 import org.geotools.api.data.Query;
@@ -457,7 +458,7 @@ protected int getCountInternal(Query query) throws IOException {
                 try (FeatureReader<SimpleFeatureType, SimpleFeature> preReader = getReader(preQuery)) {
                     // wrap with post filter
                     try (FilteringFeatureReader<SimpleFeatureType, SimpleFeature> reader =
-                            new FilteringFeatureReader<>(preReader, postFilter)) {
+                            new FilteringFeatureReader<>(preReader, postFilter, true)) {
                         while (reader.hasNext()) {
                             reader.next();
                             count++;
@@ -618,16 +619,7 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
 
             if (query.getJoins().isEmpty()) {
                 // regular query
-                if (dialect instanceof PreparedStatementSQLDialect) {
-                    PreparedStatement ps = getDataStore().selectSQLPS(querySchema, preQuery, cx);
-                    reader = new JDBCFeatureReader(ps, cx, this, querySchema, query);
-                } else {
-                    // build up a statement for the content
-                    String sql = getDataStore().selectSQL(querySchema, preQuery);
-                    getDataStore().getLogger().fine(sql);
-
-                    reader = new JDBCFeatureReader(sql, cx, this, querySchema, query);
-                }
+                reader = createReader(querySchema, preQuery, query, cx);
             } else {
                 JoinInfo join = JoinInfo.create(preQuery, this);
 
@@ -659,9 +651,17 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
             }
         }
 
+        // read and decode ahead in a background thread, only outside of transactions, as the
+        // connection of a transaction can be shared with other readers and writers
+        if (getDataStore().isPipelinedReading()
+                && query.getJoins().isEmpty()
+                && getState().getTransaction() == Transaction.AUTO_COMMIT) {
+            reader = new PipelinedFeatureReader(reader);
+        }
+
         // if post filter, wrap it
         if (postFilterRequired) {
-            reader = new FilteringFeatureReader<>(reader, postFilter);
+            reader = new FilteringFeatureReader<>(reader, postFilter, true);
             if (!returnedSchema.equals(querySchema)) {
                 reader = new ReTypeFeatureReader(reader, returnedSchema);
             }
@@ -684,6 +684,57 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         return reader;
     }
 
+    private JDBCFeatureReader createReader(SimpleFeatureType querySchema, Query preQuery, Query query, Connection cx)
+            throws SQLException, IOException {
+        if (getDataStore().getSQLDialect() instanceof PreparedStatementSQLDialect) {
+            PreparedStatement ps = getDataStore().selectSQLPS(querySchema, preQuery, cx);
+            return new JDBCFeatureReader(ps, cx, this, querySchema, query);
+        } else {
+            // build up a statement for the content
+            String sql = getDataStore().selectSQL(querySchema, preQuery);
+            getDataStore().getLogger().fine(sql);
+
+            return new JDBCFeatureReader(sql, cx, this, querySchema, query);
+        }
+    }
+
+    /**
+     * Reads the rows straight from the result set into the batches, when the whole filter can be encoded in SQL. Post
+     * filters, joins and screen maps need a feature per row, the batches are then gathered from
+     * {@link #getReader(Query)}.
+     */
+    @Override
+    protected FeatureBatchReader getBatchReaderInternal(Query query, int batchSize) throws IOException {
+        Filter[] split = splitFilter(query.getFilter(), query.getHints());
+        Filter postFilter = split[1];
+        if ((postFilter != null && postFilter != Filter.INCLUDE)
+                || !query.getJoins().isEmpty()
+                || query.getHints().get(Hints.SCREENMAP) != null) {
+            return null;
+        }
+
+        Query preQuery = new Query(query);
+        preQuery.setFilter(split[0]);
+        SimpleFeatureType querySchema = buildQueryAndReturnFeatureTypes(getSchema(), query.getPropertyNames(), null)[0];
+
+        Connection cx = getDataStore().getConnection(getState());
+        try {
+            if (getState().getTransaction() == Transaction.AUTO_COMMIT) {
+                cx.setAutoCommit(getDataStore().getSQLDialect().isAutoCommitQuery());
+            }
+            return new JDBCFeatureBatchReader(createReader(querySchema, preQuery, query, cx), batchSize);
+        } catch (Throwable e) { // NOSONAR
+            // close the connection
+            getDataStore().closeSafe(cx);
+            // safely rethrow
+            if (e instanceof Error error) {
+                throw error;
+            } else {
+                throw (IOException) new IOException().initCause(e);
+            }
+        }
+    }
+
     SimpleFeatureType[] buildQueryAndReturnFeatureTypes(
             SimpleFeatureType featureType, String[] propertyNames, Filter filter) {
 
@@ -23,6 +23,7 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.FeatureEvent;
 import org.geotools.api.data.FeatureEvent.Type;
 import org.geotools.api.data.FeatureReader;
@@ -216,6 +217,11 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         return delegate.getReaderInternal(query);
     }
 
+    @Override
+    protected FeatureBatchReader getBatchReaderInternal(Query query, int batchSize) throws IOException {
+        return delegate.getBatchReaderInternal(query, batchSize);
+    }
+
     @Override
     protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOException {
         return delegate.handleVisitor(query, visitor);
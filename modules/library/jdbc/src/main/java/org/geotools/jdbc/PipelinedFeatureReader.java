@@ -0,0 +1,214 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.DelegatingFeatureReader;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Reads features from the delegate in a background thread, a few batches ahead of the consumer. This way row reading,
+ * geometry decoding and feature building for the next batch overlap with the processing of the current one.
+ *
+ * <p>The delegate is only ever accessed by one thread at a time: the producer while reading, and the thread calling
+ * {@link #close()} once the producer has stopped.
+ */
+class PipelinedFeatureReader implements DelegatingFeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    static final Logger LOGGER = Logging.getLogger(PipelinedFeatureReader.class);
+
+    /** Number of features in each batch handed over to the consumer */
+    static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Number of batches the producer can read ahead of the consumer */
+    static final int QUEUED_BATCHES = 2;
+
+    /** Marks the end of the features */
+    private static final List<SimpleFeature> END = Collections.emptyList();
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "gt-jdbc-pipelined-reader-" + THREAD_COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final FeatureReader<SimpleFeatureType, SimpleFeature> delegate;
+
+    private final int batchSize;
+
+    private final BlockingQueue<List<SimpleFeature>> queue = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+
+    private volatile boolean closed;
+
+    private volatile Throwable failure;
+
+    private Future<?> producer;
+
+    private List<SimpleFeature> current;
+
+    private int index;
+
+    private boolean finished;
+
+    PipelinedFeatureReader(FeatureReader<SimpleFeatureType, SimpleFeature> delegate) {
+        this(delegate, DEFAULT_BATCH_SIZE);
+    }
+
+    PipelinedFeatureReader(FeatureReader<SimpleFeatureType, SimpleFeature> delegate, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize);
+        }
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public FeatureReader<SimpleFeatureType, SimpleFeature> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return delegate.getFeatureType();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            throw new IOException("Reader has been closed");
+        }
+        if (current != null && index < current.size()) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        if (producer == null) {
+            producer = EXECUTOR.submit(this::produce);
+        }
+
+        try {
+            current = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the next batch of features", e);
+        }
+        index = 0;
+
+        if (current == END) {
+            finished = true;
+            current = null;
+            Throwable t = failure;
+            if (t != null) {
+                if (t instanceof IOException exception) throw exception;
+                if (t instanceof RuntimeException exception) throw exception;
+                if (t instanceof Error error) throw error;
+                throw new IOException(t);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more features available");
+        }
+        SimpleFeature feature = current.get(index);
+        current.set(index++, null);
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (producer != null) {
+                queue.clear();
+                producer.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.FINE, "Pipelined reading failed", e);
+        } finally {
+            queue.clear();
+            current = null;
+            delegate.close();
+        }
+    }
+
+    /** Runs in the background thread, reads the delegate and queues up the batches */
+    private void produce() {
+        try {
+            List<SimpleFeature> batch = new ArrayList<>(batchSize);
+            while (!closed && delegate.hasNext()) {
+                batch.add(delegate.next());
+                if (batch.size() == batchSize) {
+                    if (!put(batch)) {
+                        return;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                put(batch);
+            }
+        } catch (Throwable t) { // NOSONAR, handed over to the consumer
+            failure = t;
+        } finally {
+            put(END);
+        }
+    }
+
+    /** Queues the batch, waiting for space to be available. Returns false if the reader got closed meanwhile */
+    private boolean put(List<SimpleFeature> batch) {
+        try {
+            while (!closed) {
+                if (queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -776,6 +776,22 @@ public Geometry decodeGeometryValue(
         return decodeGeometryValue(descriptor, rs, columnName, factory, cx, hints);
     }
 
+    /**
+     * Reads the envelope of a geometry value from the result of a query, without decoding the geometry itself.
+     *
+     * <p>Some storage formats keep the envelope in a header in front of the geometry, readers use it to skip rows that
+     * fall in an already occupied screen map pixel, or to replace sub-pixel geometries, before paying for the full
+     * geometry decoding. The column is read again by {@link #decodeGeometryValue(GeometryDescriptor, ResultSet, int,
+     * GeometryFactory, Connection, Hints)} if the row is not skipped.
+     *
+     * <p>The default implementation returns <code>null</code>, meaning the envelope is not available without decoding
+     * the geometry. Implementations should do the same for null and empty geometries.
+     */
+    public Envelope decodeGeometryHeaderEnvelope(GeometryDescriptor descriptor, ResultSet rs, int column, Connection cx)
+            throws IOException, SQLException {
+        return null;
+    }
+
     /**
      * Encodes the primary key definition in a CREATE TABLE statement.
      *
@@ -0,0 +1,101 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Test;
+import org.locationtech.jts.io.WKTReader;
+
+public class AdaptiveFetchSizeTest {
+
+    static final long WAIT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** Reads a full batch, returns the new fetch size as reported by the last row */
+    private int readBatch(AdaptiveFetchSize fs, long waitNanos, long rowBytes) {
+        int batch = fs.getFetchSize();
+        int result = -1;
+        for (int i = 0; i < batch; i++) {
+            fs.fetched(waitNanos);
+            if (fs.isSampling()) {
+                fs.sampled(rowBytes);
+            }
+            result = fs.rowRead();
+            if (i < batch - 1) assertEquals(-1, result);
+        }
+        return result;
+    }
+
+    @Test
+    public void testGrowsWhenWaiting() {
+        AdaptiveFetchSize fs = new AdaptiveFetchSize(10, 1, 100, 1024 * 1024);
+        assertEquals(20, readBatch(fs, WAIT, 100));
+        assertEquals(40, readBatch(fs, WAIT, 100));
+        assertEquals(80, readBatch(fs, WAIT, 100));
+        // capped at the max
+        assertEquals(100, readBatch(fs, WAIT, 100));
+        assertEquals(-1, readBatch(fs, WAIT, 100));
+        assertEquals(100, fs.getFetchSize());
+    }
+
+    @Test
+    public void testStableWhenNotWaiting() {
+        AdaptiveFetchSize fs = new AdaptiveFetchSize(10, 1, 100, 1024 * 1024);
+        assertEquals(-1, readBatch(fs, 0, 100));
+        assertEquals(-1, readBatch(fs, 0, 100));
+        assertEquals(10, fs.getFetchSize());
+    }
+
+    @Test
+    public void testShrinksOnLargeRows() {
+        AdaptiveFetchSize fs = new AdaptiveFetchSize(100, 5, 1000, 1000);
+        // 100 bytes per row, target is 1000 bytes
+        assertEquals(10, readBatch(fs, WAIT, 100));
+        // does not go below the min
+        assertEquals(5, readBatch(fs, WAIT, 1000));
+        assertEquals(-1, readBatch(fs, WAIT, 1000));
+    }
+
+    @Test
+    public void testDefaultLimits() {
+        AdaptiveFetchSize fs = new AdaptiveFetchSize(1000);
+        assertEquals(1000, fs.getFetchSize());
+        // huge rows, goes down to a tenth of the initial size
+        assertEquals(100, readBatch(fs, 0, 100 * 1024 * 1024));
+    }
+
+    @Test
+    public void testEstimateSize() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:LineString,name:String,value:Integer");
+        SimpleFeature small = SimpleFeatureBuilder.build(
+                type, new Object[] {new WKTReader().read("LINESTRING(0 0, 1 1)"), "a", 1}, null);
+        SimpleFeature large = SimpleFeatureBuilder.build(
+                type,
+                new Object[] {new WKTReader().read("LINESTRING(0 0, 1 1, 2 2, 3 3, 4 4)"), "abcdefghij", null},
+                null);
+        long smallSize = AdaptiveFetchSize.estimateSize(small);
+        long largeSize = AdaptiveFetchSize.estimateSize(large);
+        assertTrue(smallSize > 0);
+        assertTrue(largeSize > smallSize);
+    }
+}
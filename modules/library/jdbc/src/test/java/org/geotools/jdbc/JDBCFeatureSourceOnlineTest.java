@@ -27,6 +27,8 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.QueryCapabilities;
 import org.geotools.api.data.Transaction;
@@ -52,6 +54,7 @@
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.visitor.FeatureBatchVisitor;
 import org.geotools.filter.function.FilterFunction_strToLowerCase;
 import org.geotools.geometry.jts.LiteCoordinateSequenceFactory;
 import org.geotools.geometry.jts.ReferencedEnvelope;
@@ -590,6 +593,57 @@ public void visit(Feature feature) {
         }
     }
 
+    @Test
+    public void testGetBatchReader() throws Exception {
+        FilterFactory ff = dataStore.getFilterFactory();
+        Query q = new Query(featureSource.getSchema().getTypeName());
+        q.setFilter(ff.greater(ff.property(aname("intProperty")), ff.literal(0)));
+        q.setSortBy(ff.sort(aname("intProperty"), SortOrder.DESCENDING));
+
+        List<SimpleFeature> expected = DataUtilities.list(featureSource.getFeatures(q));
+        int row = 0;
+        try (FeatureBatchReader reader = featureSource.getBatchReader(q, 1)) {
+            SimpleFeatureType type = reader.getFeatureType();
+            while (reader.hasNext()) {
+                FeatureBatch batch = reader.next();
+                assertEquals(1, batch.size());
+                SimpleFeature feature = expected.get(row++);
+                assertEquals(feature.getID(), batch.getID(0));
+                for (int i = 0; i < type.getAttributeCount(); i++) {
+                    Object value = feature.getAttribute(type.getDescriptor(i).getLocalName());
+                    if (value instanceof Geometry geometry) {
+                        assertTrue(geometry.equalsExact((Geometry) batch.getValue(i, 0)));
+                    } else {
+                        assertEquals(value, batch.getValue(i, 0));
+                    }
+                    assertEquals(value == null, batch.isNull(i, 0));
+                }
+                assertEquals(
+                        ((Number) feature.getAttribute(aname("intProperty"))).longValue(),
+                        batch.getLong(type.indexOf(aname("intProperty")), 0));
+            }
+        }
+        assertEquals(2, row);
+
+        // batch aware visitors are handed the batches
+        class BatchVisitor implements FeatureBatchVisitor {
+            int rows = 0;
+
+            @Override
+            public void visit(Feature feature) {
+                fail("Features should be visited in batches");
+            }
+
+            @Override
+            public void visit(FeatureBatch batch) {
+                rows += batch.size();
+            }
+        }
+        BatchVisitor visitor = new BatchVisitor();
+        featureSource.accepts(q, visitor, null);
+        assertEquals(2, visitor.rows);
+    }
+
     /** Integration test checking that a CQL IN filter goes back being a IN in SQL */
     @Test
     public void testSimpleEncodeIn() throws Exception {
@@ -0,0 +1,158 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PipelinedFeatureReaderTest {
+
+    SimpleFeatureType type;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setup() throws Exception {
+        type = DataUtilities.createType("test", "id:Integer");
+        features = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            features.add(SimpleFeatureBuilder.build(type, new Object[] {i}, "test." + i));
+        }
+    }
+
+    /** A reader over the test features, tracking the thread reading and the close call */
+    class TestReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+        int index;
+        int failAt;
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicReference<Thread> readingThread = new AtomicReference<>();
+
+        TestReader(int failAt) {
+            this.failAt = failAt;
+        }
+
+        @Override
+        public SimpleFeatureType getFeatureType() {
+            return type;
+        }
+
+        @Override
+        public SimpleFeature next() throws IOException, NoSuchElementException {
+            readingThread.set(Thread.currentThread());
+            if (index == failAt) {
+                throw new IOException("Failed reading " + index);
+            }
+            return features.get(index++);
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            if (closed.get()) throw new IOException("Closed");
+            return index < features.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.set(true);
+        }
+    }
+
+    @Test
+    public void testReadAll() throws Exception {
+        TestReader delegate = new TestReader(-1);
+        List<SimpleFeature> read = new ArrayList<>();
+        try (PipelinedFeatureReader reader = new PipelinedFeatureReader(delegate, 64)) {
+            assertSame(type, reader.getFeatureType());
+            assertSame(delegate, reader.getDelegate());
+            while (reader.hasNext()) {
+                read.add(reader.next());
+            }
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+        assertEquals(features, read);
+        assertTrue(delegate.closed.get());
+        // the delegate has been read in the background
+        assertNotEquals(Thread.currentThread(), delegate.readingThread.get());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        features.clear();
+        TestReader delegate = new TestReader(-1);
+        try (PipelinedFeatureReader reader = new PipelinedFeatureReader(delegate)) {
+            assertFalse(reader.hasNext());
+        }
+        assertTrue(delegate.closed.get());
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        TestReader delegate = new TestReader(500);
+        try (PipelinedFeatureReader reader = new PipelinedFeatureReader(delegate, 100)) {
+            IOException e = assertThrows(IOException.class, () -> {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+            });
+            assertEquals("Failed reading 500", e.getMessage());
+            assertFalse(reader.hasNext());
+        }
+        assertTrue(delegate.closed.get());
+    }
+
+    @Test
+    public void testEarlyClose() throws Exception {
+        TestReader delegate = new TestReader(-1);
+        PipelinedFeatureReader reader = new PipelinedFeatureReader(delegate, 10);
+        assertTrue(reader.hasNext());
+        assertEquals(features.get(0), reader.next());
+        reader.close();
+        assertTrue(delegate.closed.get());
+        // the producer stopped after filling the queue, did not read everything
+        assertTrue(delegate.index < features.size());
+        assertThrows(IOException.class, reader::hasNext);
+        // closing again is a no-op
+        reader.close();
+    }
+
+    @Test
+    public void testCloseUnused() throws Exception {
+        TestReader delegate = new TestReader(-1);
+        new PipelinedFeatureReader(delegate).close();
+        assertTrue(delegate.closed.get());
+        assertEquals(0, delegate.index);
+    }
+}
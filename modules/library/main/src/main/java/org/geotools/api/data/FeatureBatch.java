@@ -0,0 +1,64 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.api.data;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * A batch of rows delivered column by column by a {@link FeatureBatchReader}.
+ *
+ * <p>Values are accessed by column, the index of the attribute in {@link #getFeatureType()}, and row, from 0 to
+ * {@link #size()} excluded. Numeric columns can be read without boxing with {@link #getDouble(int, int)} and
+ * {@link #getLong(int, int)}, whose result is unspecified for null values.
+ */
+public interface FeatureBatch {
+
+    /** The feature type describing the columns of the batch. */
+    SimpleFeatureType getFeatureType();
+
+    /** Number of rows in the batch. */
+    int size();
+
+    /** The feature identifier of a row. */
+    String getID(int row);
+
+    /** Returns true if the value of a column is null for a row. */
+    boolean isNull(int column, int row);
+
+    /** Returns the value of a column for a row, as an instance of the attribute binding. */
+    Object getValue(int column, int row);
+
+    /** Returns the value of a numeric column for a row, as a double. */
+    double getDouble(int column, int row);
+
+    /** Returns the value of a numeric column for a row, as a long. */
+    long getLong(int column, int row);
+
+    /** Builds a feature holding the values of a row. */
+    SimpleFeature getFeature(int row);
+
+    /**
+     * Returns a view of a subset of the rows of this batch.
+     *
+     * @param rows the rows of this batch making up the view
+     * @param count the number of rows in the view, the first entries of {@code rows}
+     */
+    default FeatureBatch select(int[] rows, int count) {
+        return new SelectedFeatureBatch(this, rows, count);
+    }
+}
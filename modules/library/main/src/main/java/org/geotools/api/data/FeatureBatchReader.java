@@ -0,0 +1,52 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.api.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * Reads the features matching a query in batches of rows held column by column, see
+ * {@link SimpleFeatureSource#getBatchReader(Query, int)}.
+ *
+ * <p>The batch returned by {@link #next()} may be reused by the reader, it is only valid until the following call to
+ * {@link #hasNext()}, {@link #next()} or {@link #close()}.
+ */
+public interface FeatureBatchReader extends Closeable {
+
+    /** The batch size used when none is specified. */
+    int DEFAULT_BATCH_SIZE = 1024;
+
+    /** The feature type of the batches. */
+    SimpleFeatureType getFeatureType();
+
+    /** Returns true if there is another batch to read. */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Reads the next batch, holding at least one row.
+     *
+     * @throws NoSuchElementException If there are no more batches
+     */
+    FeatureBatch next() throws IOException, NoSuchElementException;
+
+    /** Releases the resources held by the reader. */
+    @Override
+    void close() throws IOException;
+}
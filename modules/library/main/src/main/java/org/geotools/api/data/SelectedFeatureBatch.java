@@ -0,0 +1,76 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.api.data;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/** A view of a subset of the rows of a {@link FeatureBatch}. */
+class SelectedFeatureBatch implements FeatureBatch {
+
+    private final FeatureBatch batch;
+
+    private final int[] rows;
+
+    private final int count;
+
+    SelectedFeatureBatch(FeatureBatch batch, int[] rows, int count) {
+        this.batch = batch;
+        this.rows = rows;
+        this.count = count;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return batch.getFeatureType();
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public String getID(int row) {
+        return batch.getID(rows[row]);
+    }
+
+    @Override
+    public boolean isNull(int column, int row) {
+        return batch.isNull(column, rows[row]);
+    }
+
+    @Override
+    public Object getValue(int column, int row) {
+        return batch.getValue(column, rows[row]);
+    }
+
+    @Override
+    public double getDouble(int column, int row) {
+        return batch.getDouble(column, rows[row]);
+    }
+
+    @Override
+    public long getLong(int column, int row) {
+        return batch.getLong(column, rows[row]);
+    }
+
+    @Override
+    public SimpleFeature getFeature(int row) {
+        return batch.getFeature(rows[row]);
+    }
+}
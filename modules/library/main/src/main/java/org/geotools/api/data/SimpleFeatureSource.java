@@ -20,6 +20,8 @@
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.Filter;
+import org.geotools.data.FeatureReaderBatchAdapter;
+import org.geotools.data.simple.DelegateSimpleFeatureReader;
 import org.geotools.data.simple.SimpleFeatureCollection;
 
 /** FeatureSource explicitly working with SimpleFeatureCollection. */
@@ -32,4 +34,20 @@ public interface SimpleFeatureSource extends FeatureSource<SimpleFeatureType, Si
 
     @Override
     public SimpleFeatureCollection getFeatures(Query query) throws IOException;
+
+    /**
+     * Reads the features matching a query in batches of rows held column by column, for consumers such as aggregations
+     * and exports that do not need a feature object per row.
+     *
+     * <p>The default implementation gathers the features returned by {@link #getFeatures(Query)}, sources able to read
+     * columns directly override it.
+     *
+     * @param query The query selecting the features
+     * @param batchSize The maximum number of rows of each batch
+     */
+    default FeatureBatchReader getBatchReader(Query query, int batchSize) throws IOException {
+        SimpleFeatureCollection features = getFeatures(query);
+        return new FeatureReaderBatchAdapter(
+                new DelegateSimpleFeatureReader(features.getSchema(), features.features()), batchSize);
+    }
 }
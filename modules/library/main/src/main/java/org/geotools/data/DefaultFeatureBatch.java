@@ -0,0 +1,249 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data;
+
+import java.util.Arrays;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.util.Converters;
+
+/**
+ * A {@link FeatureBatch} filled row by row by a reader.
+ *
+ * <p>Integer, long, short and byte attributes are held in a {@code long[]} vector, double and float attributes in a
+ * {@code double[]} vector, all the others in an {@code Object[]} vector. The batch is meant to be reused: call
+ * {@link #clear()} before filling it again.
+ */
+public class DefaultFeatureBatch implements FeatureBatch {
+
+    private final SimpleFeatureType featureType;
+
+    private final int capacity;
+
+    private final String[] ids;
+
+    private final Class<?>[] bindings;
+
+    private final long[][] longs;
+
+    private final double[][] doubles;
+
+    private final Object[][] objects;
+
+    private final boolean[][] nulls;
+
+    private int size;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param featureType The feature type describing the columns
+     * @param capacity The maximum number of rows
+     */
+    public DefaultFeatureBatch(SimpleFeatureType featureType, int capacity) {
+        this.featureType = featureType;
+        this.capacity = capacity;
+        int columns = featureType.getAttributeCount();
+        ids = new String[capacity];
+        bindings = new Class<?>[columns];
+        longs = new long[columns][];
+        doubles = new double[columns][];
+        objects = new Object[columns][];
+        nulls = new boolean[columns][capacity];
+        for (int i = 0; i < columns; i++) {
+            Class<?> binding = featureType.getDescriptor(i).getType().getBinding();
+            bindings[i] = binding;
+            if (isIntegral(binding)) {
+                longs[i] = new long[capacity];
+            } else if (binding == Double.class || binding == Float.class) {
+                doubles[i] = new double[capacity];
+            } else {
+                objects[i] = new Object[capacity];
+            }
+        }
+    }
+
+    private static boolean isIntegral(Class<?> binding) {
+        return binding == Integer.class || binding == Long.class || binding == Short.class || binding == Byte.class;
+    }
+
+    private static Number number(Object value) {
+        Number number = Converters.convert(value, Number.class);
+        if (number == null) {
+            throw new IllegalArgumentException(value + " is not a number");
+        }
+        return number;
+    }
+
+    /** The maximum number of rows of the batch. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns true if the batch cannot take more rows. */
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /** Removes all the rows. */
+    public void clear() {
+        for (int i = 0; i < objects.length; i++) {
+            Arrays.fill(nulls[i], 0, size, false);
+            if (objects[i] != null) {
+                Arrays.fill(objects[i], 0, size, null);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Adds a row, whose values are then set with the setter methods.
+     *
+     * @param id The feature identifier of the row
+     * @return The index of the new row
+     * @throws IllegalStateException If the batch is full
+     */
+    public int addRow(String id) {
+        if (size == capacity) {
+            throw new IllegalStateException("The batch is full");
+        }
+        ids[size] = id;
+        return size++;
+    }
+
+    /** Sets the value of a column, converting it to the attribute binding if needed. */
+    public void setValue(int column, int row, Object value) {
+        if (value == null) {
+            setNull(column, row);
+        } else if (longs[column] != null) {
+            setLong(column, row, number(value).longValue());
+        } else if (doubles[column] != null) {
+            setDouble(column, row, number(value).doubleValue());
+        } else {
+            nulls[column][row] = false;
+            objects[column][row] = value;
+        }
+    }
+
+    /** Sets the value of a numeric column. */
+    public void setLong(int column, int row, long value) {
+        nulls[column][row] = false;
+        if (longs[column] != null) {
+            longs[column][row] = value;
+        } else if (doubles[column] != null) {
+            doubles[column][row] = value;
+        } else {
+            objects[column][row] = Converters.convert(value, bindings[column]);
+        }
+    }
+
+    /** Sets the value of a numeric column. */
+    public void setDouble(int column, int row, double value) {
+        nulls[column][row] = false;
+        if (doubles[column] != null) {
+            doubles[column][row] = value;
+        } else if (longs[column] != null) {
+            longs[column][row] = (long) value;
+        } else {
+            objects[column][row] = Converters.convert(value, bindings[column]);
+        }
+    }
+
+    /** Sets the value of a column to null. */
+    public void setNull(int column, int row) {
+        nulls[column][row] = true;
+        if (objects[column] != null) {
+            objects[column][row] = null;
+        }
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return featureType;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getID(int row) {
+        return ids[row];
+    }
+
+    @Override
+    public boolean isNull(int column, int row) {
+        return nulls[column][row];
+    }
+
+    @Override
+    public Object getValue(int column, int row) {
+        if (nulls[column][row]) {
+            return null;
+        }
+        Class<?> binding = bindings[column];
+        if (longs[column] != null) {
+            long value = longs[column][row];
+            if (binding == Integer.class) {
+                return (int) value;
+            } else if (binding == Short.class) {
+                return (short) value;
+            } else if (binding == Byte.class) {
+                return (byte) value;
+            }
+            return value;
+        } else if (doubles[column] != null) {
+            double value = doubles[column][row];
+            return binding == Float.class ? (Object) (float) value : (Object) value;
+        }
+        return objects[column][row];
+    }
+
+    @Override
+    public double getDouble(int column, int row) {
+        if (doubles[column] != null) {
+            return doubles[column][row];
+        } else if (longs[column] != null) {
+            return longs[column][row];
+        }
+        Object value = objects[column][row];
+        return value == null ? Double.NaN : number(value).doubleValue();
+    }
+
+    @Override
+    public long getLong(int column, int row) {
+        if (longs[column] != null) {
+            return longs[column][row];
+        } else if (doubles[column] != null) {
+            return (long) doubles[column][row];
+        }
+        Object value = objects[column][row];
+        return value == null ? 0 : number(value).longValue();
+    }
+
+    @Override
+    public SimpleFeature getFeature(int row) {
+        Object[] values = new Object[bindings.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getValue(i, row);
+        }
+        return SimpleFeatureBuilder.build(featureType, values, ids[row]);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/** Gathers the features of a {@link FeatureReader} in batches, for sources that cannot read columns directly. */
+public class FeatureReaderBatchAdapter implements FeatureBatchReader {
+
+    private final FeatureReader<SimpleFeatureType, SimpleFeature> reader;
+
+    private final DefaultFeatureBatch batch;
+
+    private boolean filled;
+
+    public FeatureReaderBatchAdapter(FeatureReader<SimpleFeatureType, SimpleFeature> reader, int batchSize) {
+        this.reader = reader;
+        this.batch = new DefaultFeatureBatch(reader.getFeatureType(), batchSize);
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return reader.getFeatureType();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (!filled) {
+            batch.clear();
+            int columns = batch.getFeatureType().getAttributeCount();
+            while (!batch.isFull() && reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                int row = batch.addRow(feature.getID());
+                for (int i = 0; i < columns; i++) {
+                    batch.setValue(i, row, feature.getAttribute(i));
+                }
+            }
+            filled = true;
+        }
+        return batch.size() > 0;
+    }
+
+    @Override
+    public FeatureBatch next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more features");
+        }
+        filled = false;
+        return batch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -17,14 +17,20 @@
 package org.geotools.data;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import org.geotools.api.data.DataSourceException;
 import org.geotools.api.data.DelegatingFeatureReader;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.feature.Feature;
 import org.geotools.api.feature.IllegalAttributeException;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.FeatureType;
 import org.geotools.api.filter.Filter;
+import org.geotools.filter.batch.BatchFilter;
 import org.geotools.filter.visitor.BindingFilterVisitor;
 
 /**
@@ -44,6 +50,23 @@
     protected final Filter filter;
     protected F next;
 
+    /** Smallest and largest number of features evaluated at once, when batch evaluation is possible */
+    static final int MIN_BATCH_SIZE = 16;
+
+    static final int MAX_BATCH_SIZE = 128;
+
+    /** The filter compiled for accelerated evaluation, or null if not beneficial */
+    private BatchFilter batchFilter;
+
+    /** Whether the delegate returns detached features, that can be held while reading ahead */
+    private final boolean detached;
+
+    private List<F> batch;
+
+    private BitSet matches;
+
+    private int batchIndex;
+
     /**
      * Creates a new instance of AbstractFeatureReader
      *
@@ -54,9 +77,32 @@
      * @param filter Filter used to limit the results of featureReader
      */
     public FilteringFeatureReader(FeatureReader<T, F> featureReader, Filter filter) {
+        this(featureReader, filter, false);
+    }
+
+    /**
+     * Creates a new instance of AbstractFeatureReader
+     *
+     * <p>When the delegate returns detached features, see {@link org.geotools.util.factory.Hints#FEATURE_DETACHED}, and
+     * the filter can be accelerated, the features are read and evaluated in batches of up to {@value #MAX_BATCH_SIZE}.
+     * Readers that reuse or recycle the feature instances across calls to next() must not be read ahead, and get the
+     * features evaluated one at a time.
+     *
+     * @param featureReader FeatureReader<SimpleFeatureType, SimpleFeature> being filtered
+     * @param filter Filter used to limit the results of featureReader
+     * @param detached true if the features returned by featureReader stay valid after the next call to next()
+     */
+    public FilteringFeatureReader(FeatureReader<T, F> featureReader, Filter filter, boolean detached) {
         this.featureReader = featureReader;
+        this.detached = detached;
         this.filter = (Filter) filter.accept(new BindingFilterVisitor(featureReader.getFeatureType()), null);
         next = null;
+        if (featureReader.getFeatureType() instanceof SimpleFeatureType schema) {
+            BatchFilter compiled = BatchFilter.compile(this.filter, schema);
+            if (compiled.isAccelerated()) {
+                batchFilter = compiled;
+            }
+        }
     }
 
     /** @return THe delegate reader. */
@@ -109,13 +155,16 @@ public boolean hasNext() throws IOException {
         if (next != null) {
             return true;
         }
+        if (batchFilter != null && detached) {
+            return hasNextBatched();
+        }
         try {
             F peek;
 
             while (featureReader.hasNext()) {
                 peek = featureReader.next();
 
-                if (filter.evaluate(peek)) {
+                if (batchFilter != null ? batchFilter.evaluate((SimpleFeature) peek) : filter.evaluate(peek)) {
                     next = peek;
                     return true;
                 }
@@ -125,4 +174,46 @@ public boolean hasNext() throws IOException {
         }
         return next != null;
     }
+
+    /**
+     * Reads features in batches, evaluating the filter on all of them at once. The batch size starts small and grows,
+     * to avoid reading too far ahead of the consumer when only the first features are needed.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean hasNextBatched() throws IOException {
+        try {
+            while (true) {
+                if (matches != null) {
+                    int i = matches.nextSetBit(batchIndex);
+                    if (i >= 0) {
+                        next = batch.get(i);
+                        batch.set(i, null);
+                        batchIndex = i + 1;
+                        return true;
+                    }
+                }
+
+                // load the next batch
+                int size;
+                if (batch == null) {
+                    size = MIN_BATCH_SIZE;
+                    batch = new ArrayList<>(size);
+                } else {
+                    size = Math.min(MAX_BATCH_SIZE, batch.size() * 2);
+                    batch.clear();
+                }
+                while (batch.size() < size && featureReader.hasNext()) {
+                    batch.add(featureReader.next());
+                }
+                if (batch.isEmpty()) {
+                    matches = null;
+                    return false;
+                }
+                matches = batchFilter.evaluate((List<SimpleFeature>) batch);
+                batchIndex = 0;
+            }
+        } catch (IllegalAttributeException e) {
+            throw new DataSourceException("Could not peek ahead", e);
+        }
+    }
 }
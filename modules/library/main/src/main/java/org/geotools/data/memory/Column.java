@@ -0,0 +1,409 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.util.Converters;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * The values of one attribute for all the rows of a {@link ColumnarTable}.
+ *
+ * <p>Columns are filled once, in row order, with {@link #add(Object)}, then {@link #trim(int) trimmed} and only read
+ * afterwards. Numbers, booleans and dates are held in primitive arrays, strings are dictionary encoded, geometries are
+ * held by {@link GeometryColumn}. Other values are kept as they are.
+ */
+abstract class Column {
+
+    static final int INITIAL_CAPACITY = 1024;
+
+    /** The rows holding a null value, allocated on the first one. */
+    BitSet nulls;
+
+    /** Creates a column for the values of the given attribute. */
+    static Column create(AttributeDescriptor descriptor) {
+        Class<?> binding = descriptor.getType().getBinding();
+        if (Geometry.class.isAssignableFrom(binding)) {
+            return new GeometryColumn();
+        } else if (binding == Integer.class || binding == Short.class || binding == Byte.class) {
+            return new IntColumn(binding);
+        } else if (binding == Long.class) {
+            return new LongColumn();
+        } else if (binding == Double.class || binding == Float.class) {
+            return new DoubleColumn(binding);
+        } else if (binding == Boolean.class) {
+            return new BooleanColumn();
+        } else if (Date.class.isAssignableFrom(binding)) {
+            return new DateColumn(binding);
+        } else if (binding == String.class) {
+            return new StringColumn();
+        }
+        return new ObjectColumn();
+    }
+
+    /** Appends the value of the next row. */
+    abstract void add(Object value);
+
+    /** Returns the value held for a row. */
+    abstract Object get(int row);
+
+    /** Releases the spare capacity once all the rows have been added. */
+    abstract void trim(int size);
+
+    /** Returns the approximate memory used by the column, in bytes. */
+    abstract long getSizeInBytes();
+
+    boolean isNull(int row) {
+        return nulls != null && nulls.get(row);
+    }
+
+    void addNull(int row) {
+        if (nulls == null) {
+            nulls = new BitSet();
+        }
+        nulls.set(row);
+    }
+
+    long nullsSize() {
+        return nulls == null ? 0 : nulls.size() / 8;
+    }
+
+    static int grow(int length, int required) {
+        return Math.max(required, Math.max(INITIAL_CAPACITY, length + (length >> 1)));
+    }
+
+    static <T> T convert(Object value, Class<T> target) {
+        if (target.isInstance(value)) {
+            return target.cast(value);
+        }
+        T converted = Converters.convert(value, target);
+        if (converted == null) {
+            throw new IllegalArgumentException("Cannot store " + value + " as " + target.getSimpleName());
+        }
+        return converted;
+    }
+
+    /** Integer, short and byte values. */
+    static class IntColumn extends Column {
+        final Class<?> binding;
+
+        int[] values = new int[0];
+
+        int size;
+
+        IntColumn(Class<?> binding) {
+            this.binding = binding;
+        }
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            if (value == null) {
+                addNull(size);
+            } else {
+                values[size] = convert(value, Number.class).intValue();
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            int value = values[row];
+            if (binding == Short.class) {
+                return (short) value;
+            } else if (binding == Byte.class) {
+                return (byte) value;
+            }
+            return value;
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 4L * values.length + nullsSize();
+        }
+    }
+
+    /** Long values. */
+    static class LongColumn extends Column {
+        long[] values = new long[0];
+
+        int size;
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            if (value == null) {
+                addNull(size);
+            } else {
+                values[size] = convert(value, Number.class).longValue();
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : values[row];
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 8L * values.length + nullsSize();
+        }
+    }
+
+    /** Double and float values. */
+    static class DoubleColumn extends Column {
+        final Class<?> binding;
+
+        double[] values = new double[0];
+
+        int size;
+
+        DoubleColumn(Class<?> binding) {
+            this.binding = binding;
+        }
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            if (value == null) {
+                addNull(size);
+            } else {
+                values[size] = convert(value, Number.class).doubleValue();
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            return binding == Float.class ? (Object) (float) values[row] : (Object) values[row];
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 8L * values.length + nullsSize();
+        }
+    }
+
+    /** Boolean values, one bit per row. */
+    static class BooleanColumn extends Column {
+        final BitSet values = new BitSet();
+
+        int size;
+
+        @Override
+        void add(Object value) {
+            if (value == null) {
+                addNull(size);
+            } else if (convert(value, Boolean.class)) {
+                values.set(size);
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : values.get(row);
+        }
+
+        @Override
+        void trim(int size) {}
+
+        @Override
+        long getSizeInBytes() {
+            return values.size() / 8 + nullsSize();
+        }
+    }
+
+    /**
+     * Dates, as milliseconds since the epoch. Values are returned as instances of the attribute binding, timestamps
+     * lose their sub-millisecond precision.
+     */
+    static class DateColumn extends Column {
+        final Class<?> binding;
+
+        long[] values = new long[0];
+
+        int size;
+
+        DateColumn(Class<?> binding) {
+            this.binding = binding;
+        }
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            if (value == null) {
+                addNull(size);
+            } else {
+                values[size] = convert(value, Date.class).getTime();
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            long time = values[row];
+            if (binding == java.sql.Timestamp.class) {
+                return new java.sql.Timestamp(time);
+            } else if (binding == java.sql.Date.class) {
+                return new java.sql.Date(time);
+            } else if (binding == java.sql.Time.class) {
+                return new java.sql.Time(time);
+            }
+            return new Date(time);
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        @Override
+        long getSizeInBytes() {
+            return 8L * values.length + nullsSize();
+        }
+    }
+
+    /** Strings, as indexes in a dictionary of the distinct values. */
+    static class StringColumn extends Column {
+        Map<String, Integer> codes = new HashMap<>();
+
+        String[] dictionary = new String[0];
+
+        int[] values = new int[0];
+
+        int size;
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            if (value == null) {
+                addNull(size);
+            } else {
+                String string = convert(value, String.class);
+                Integer code = codes.get(string);
+                if (code == null) {
+                    code = codes.size();
+                    codes.put(string, code);
+                    if (code == dictionary.length) {
+                        dictionary = Arrays.copyOf(dictionary, grow(dictionary.length, code + 1));
+                    }
+                    dictionary[code] = string;
+                }
+                values[size] = code;
+            }
+            size++;
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : dictionary[values[row]];
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+            dictionary = Arrays.copyOf(dictionary, codes.size());
+            codes = null;
+        }
+
+        @Override
+        long getSizeInBytes() {
+            long size = 4L * values.length + 8L * dictionary.length + nullsSize();
+            for (String string : dictionary) {
+                size += 40 + 2L * string.length();
+            }
+            return size;
+        }
+    }
+
+    /** Any other value, kept as is. */
+    static class ObjectColumn extends Column {
+        Object[] values = new Object[0];
+
+        int size;
+
+        @Override
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            }
+            values[size++] = value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        @Override
+        long getSizeInBytes() {
+            long size = 8L * values.length;
+            for (Object value : values) {
+                if (value != null) {
+                    size += 32;
+                }
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.Name;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.store.ContentDataStore;
+import org.geotools.data.store.ContentEntry;
+import org.geotools.data.store.ContentFeatureSource;
+
+/**
+ * A read only DataStore keeping features in memory column by column, for reference layers that are loaded once and
+ * queried many times.
+ *
+ * <p>Compared to {@link MemoryDataStore}, which keeps a feature object per row and scans all of them for each query:
+ *
+ * <ul>
+ *   <li>numbers, booleans and dates are held in primitive arrays, strings are dictionary encoded, and the coordinates
+ *       of all the geometries are packed in a single array
+ *   <li>the bounds of the default geometry are indexed with a packed Sort-Tile-Recursive tree, used to narrow down the
+ *       rows to check for queries with a spatial filter
+ *   <li>features are only created for the rows handed out by readers, and only decode the attributes that are accessed
+ * </ul>
+ *
+ * <p>The content of a feature type is replaced as a whole with {@link #setFeatures(SimpleFeatureCollection)}. Feature
+ * user data, geometry user data and measures are not kept, dates are kept to the millisecond.
+ */
+public class ColumnarDataStore extends ContentDataStore {
+
+    private final Map<String, ColumnarTable> tables = new ConcurrentHashMap<>();
+
+    public ColumnarDataStore() {
+        super();
+    }
+
+    /** Builds a store holding the given collections, one feature type each. */
+    public ColumnarDataStore(SimpleFeatureCollection... collections) {
+        for (SimpleFeatureCollection collection : collections) {
+            setFeatures(collection);
+        }
+    }
+
+    /**
+     * Loads the features of a collection, replacing the content of the feature type named after the collection schema,
+     * if any.
+     *
+     * @param features The new contents of the feature type
+     */
+    public void setFeatures(SimpleFeatureCollection features) {
+        SimpleFeatureType schema = features.getSchema();
+        String typeName = schema.getTypeName();
+        tables.put(typeName, new ColumnarTable(schema, features));
+        removeEntry(name(typeName));
+    }
+
+    /**
+     * Returns the approximate memory used by the features of a type, in bytes.
+     *
+     * @throws IOException If the feature type does not exist
+     */
+    public long getSizeInBytes(String typeName) throws IOException {
+        ColumnarTable table = tables.get(typeName);
+        if (table == null) {
+            throw new IOException("Schema '" + typeName + "' does not exist.");
+        }
+        return table.getSizeInBytes();
+    }
+
+    ColumnarTable getTable(String typeName) {
+        return tables.get(typeName);
+    }
+
+    @Override
+    protected List<Name> createTypeNames() throws IOException {
+        return tables.keySet().stream().sorted().map(this::name).collect(Collectors.toList());
+    }
+
+    @Override
+    protected ContentFeatureSource createFeatureSource(ContentEntry entry) throws IOException {
+        return new ColumnarFeatureSource(entry);
+    }
+
+    @Override
+    public void removeSchema(String typeName) throws IOException {
+        if (tables.remove(typeName) == null) {
+            throw new IOException("Schema '" + typeName + "' does not exist.");
+        }
+        removeEntry(name(typeName));
+    }
+
+    @Override
+    public void removeSchema(Name typeName) throws IOException {
+        removeSchema(typeName.getLocalPart());
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.GeometryAttribute;
+import org.geotools.api.feature.IllegalAttributeException;
+import org.geotools.api.feature.Property;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.filter.identity.FeatureIdImpl;
+
+/**
+ * A feature reading its values from a row of a {@link ColumnarTable}.
+ *
+ * <p>Values are decoded from the columns on first access, so that evaluating a filter only decodes the attributes it
+ * uses. The methods that are not about plain attribute values, and any modification, switch the feature to a
+ * {@link SimpleFeatureImpl} holding all the values, which then serves all the calls.
+ */
+class ColumnarFeature implements SimpleFeature {
+
+    private static final Object UNSET = new Object();
+
+    final ColumnarTable table;
+
+    final int row;
+
+    final SimpleFeatureType type;
+
+    /** Column of each attribute of the type */
+    final int[] columns;
+
+    final Object[] values;
+
+    Map<Object, Object> userData;
+
+    SimpleFeatureImpl feature;
+
+    ColumnarFeature(ColumnarTable table, int row) {
+        this(table, row, table.schema, null, null);
+    }
+
+    private ColumnarFeature(ColumnarTable table, int row, SimpleFeatureType type, int[] columns, Object[] values) {
+        this.table = table;
+        this.row = row;
+        this.type = type;
+        this.columns = columns;
+        if (values == null) {
+            values = new Object[type.getAttributeCount()];
+            Arrays.fill(values, UNSET);
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns a feature of a subset of the table attributes for the same row, reusing the values decoded so far.
+     *
+     * @param type the target type
+     * @param columns the column of each attribute of the target type
+     */
+    ColumnarFeature retype(SimpleFeatureType type, int[] columns) {
+        Object[] retyped = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            retyped[i] = values[column(columns[i])];
+        }
+        return new ColumnarFeature(table, row, type, columns, retyped);
+    }
+
+    private int column(int index) {
+        return columns == null ? index : columns[index];
+    }
+
+    /** Builds the full feature on first call. */
+    private SimpleFeatureImpl feature() {
+        if (feature == null) {
+            Object[] all = new Object[values.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = getAttribute(i);
+            }
+            feature = new SimpleFeatureImpl(all, type, getIdentifier(), false);
+            if (userData != null) {
+                feature.getUserData().putAll(userData);
+            }
+        }
+        return feature;
+    }
+
+    @Override
+    public String getID() {
+        return table.ids[row];
+    }
+
+    @Override
+    public FeatureId getIdentifier() {
+        return feature != null ? feature.getIdentifier() : new FeatureIdImpl(getID());
+    }
+
+    @Override
+    public SimpleFeatureType getType() {
+        return type;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return type;
+    }
+
+    @Override
+    public Object getAttribute(int index) throws IndexOutOfBoundsException {
+        if (feature != null) {
+            return feature.getAttribute(index);
+        }
+        Object value = values[index];
+        if (value == UNSET) {
+            value = table.columns[column(index)].get(row);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        int index = type.indexOf(name);
+        return index == -1 ? null : getAttribute(index);
+    }
+
+    @Override
+    public Object getAttribute(Name name) {
+        int index = type.indexOf(name);
+        return index == -1 ? null : getAttribute(index);
+    }
+
+    @Override
+    public List<Object> getAttributes() {
+        if (feature != null) {
+            return feature.getAttributes();
+        }
+        List<Object> attributes = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            attributes.add(getAttribute(i));
+        }
+        return attributes;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return values.length;
+    }
+
+    @Override
+    public Object getDefaultGeometry() {
+        if (feature != null) {
+            return feature.getDefaultGeometry();
+        }
+        AttributeDescriptor geometry = type.getGeometryDescriptor();
+        return geometry == null ? null : getAttribute(geometry.getName());
+    }
+
+    @Override
+    public Map<Object, Object> getUserData() {
+        if (feature != null) {
+            return feature.getUserData();
+        }
+        if (userData == null) {
+            userData = new HashMap<>();
+        }
+        return userData;
+    }
+
+    @Override
+    public Name getName() {
+        return type.getName();
+    }
+
+    @Override
+    public boolean isNillable() {
+        return true;
+    }
+
+    @Override
+    public AttributeDescriptor getDescriptor() {
+        return feature().getDescriptor();
+    }
+
+    @Override
+    public BoundingBox getBounds() {
+        return feature().getBounds();
+    }
+
+    @Override
+    public GeometryAttribute getDefaultGeometryProperty() {
+        return feature().getDefaultGeometryProperty();
+    }
+
+    @Override
+    public void setDefaultGeometryProperty(GeometryAttribute geometryAttribute) {
+        feature().setDefaultGeometryProperty(geometryAttribute);
+    }
+
+    @Override
+    public void setDefaultGeometry(Object geometry) {
+        feature().setDefaultGeometry(geometry);
+    }
+
+    @Override
+    public void setAttributes(List<Object> values) {
+        feature().setAttributes(values);
+    }
+
+    @Override
+    public void setAttributes(Object[] values) {
+        feature().setAttributes(values);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        feature().setAttribute(name, value);
+    }
+
+    @Override
+    public void setAttribute(Name name, Object value) {
+        feature().setAttribute(name, value);
+    }
+
+    @Override
+    public void setAttribute(int index, Object value) throws IndexOutOfBoundsException {
+        feature().setAttribute(index, value);
+    }
+
+    @Override
+    public void setValue(Collection<Property> values) {
+        feature().setValue(values);
+    }
+
+    @Override
+    public Collection<? extends Property> getValue() {
+        return feature().getValue();
+    }
+
+    @Override
+    public void setValue(Object newValue) {
+        feature().setValue(newValue);
+    }
+
+    @Override
+    public Collection<Property> getProperties(Name name) {
+        return feature().getProperties(name);
+    }
+
+    @Override
+    public Property getProperty(Name name) {
+        return feature().getProperty(name);
+    }
+
+    @Override
+    public Collection<Property> getProperties(String name) {
+        return feature().getProperties(name);
+    }
+
+    @Override
+    public Collection<Property> getProperties() {
+        return feature().getProperties();
+    }
+
+    @Override
+    public Property getProperty(String name) {
+        return feature().getProperty(name);
+    }
+
+    @Override
+    public void validate() throws IllegalAttributeException {
+        feature().validate();
+    }
+
+    @Override
+    public int hashCode() {
+        return getIdentifier().hashCode() * type.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof ColumnarFeature other) {
+            return feature().equals(other.feature());
+        }
+        return feature().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return feature().toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Reads the rows of a {@link ColumnarTable} matching a query.
+ *
+ * <p>The spatial index narrows down the candidate rows to those intersecting the bounds of the filter, the filter is
+ * then evaluated against a {@link ColumnarFeature} of each candidate, which only decodes the attributes the filter
+ * uses.
+ */
+class ColumnarFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    final ColumnarTable table;
+
+    final SimpleFeatureType featureType;
+
+    /** Column of each attribute of the feature type, null if it is the table schema */
+    final int[] columns;
+
+    final Filter filter;
+
+    /** Candidate rows, null to scan all of them */
+    final int[] rows;
+
+    final int candidates;
+
+    final int maxFeatures;
+
+    int position;
+
+    int returned;
+
+    ColumnarFeature next;
+
+    boolean closed;
+
+    ColumnarFeatureReader(ColumnarTable table, SimpleFeatureType featureType, Query query) {
+        this.table = table;
+        this.featureType = featureType;
+        if (featureType == table.schema) {
+            this.columns = null;
+        } else {
+            this.columns = new int[featureType.getAttributeCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = table.schema.indexOf(featureType.getDescriptor(i).getName());
+            }
+        }
+        this.filter = query.getFilter() == null ? Filter.INCLUDE : query.getFilter();
+        this.maxFeatures = query.getMaxFeatures();
+
+        Envelope envelope = (Envelope) filter.accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, null);
+        this.rows = filter == Filter.INCLUDE ? null : table.query(envelope);
+        this.candidates = rows == null ? table.size : rows.length;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return featureType;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            throw new IOException("Feature reader has been closed");
+        }
+        while (next == null && position < candidates && returned < maxFeatures) {
+            int row = rows == null ? position : rows[position];
+            position++;
+            ColumnarFeature feature = new ColumnarFeature(table, row);
+            if (filter == Filter.INCLUDE || filter.evaluate(feature)) {
+                next = columns == null ? feature : feature.retype(featureType, columns);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more features");
+        }
+        SimpleFeature result = next;
+        next = null;
+        returned++;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        next = null;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.io.IOException;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.store.ContentEntry;
+import org.geotools.data.store.ContentFeatureSource;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+/** Read access to the features of a {@link ColumnarDataStore}. */
+public class ColumnarFeatureSource extends ContentFeatureSource {
+
+    public ColumnarFeatureSource(ContentEntry entry) {
+        this(entry, Query.ALL);
+    }
+
+    public ColumnarFeatureSource(ContentEntry entry, Query query) {
+        super(entry, query);
+    }
+
+    /** Access parent ColumnarDataStore. */
+    @Override
+    public ColumnarDataStore getDataStore() {
+        return (ColumnarDataStore) super.getDataStore();
+    }
+
+    private ColumnarTable getTable() throws IOException {
+        ColumnarTable table = getDataStore().getTable(getEntry().getTypeName());
+        if (table == null) {
+            throw new IOException("Schema '" + getEntry().getTypeName() + "' does not exist.");
+        }
+        return table;
+    }
+
+    @Override
+    protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
+        if (query.getFilter() == Filter.INCLUDE) {
+            return new ReferencedEnvelope(getTable().bounds);
+        }
+        return null; // feature by feature scan required
+    }
+
+    @Override
+    protected int getCountInternal(Query query) throws IOException {
+        if (query.getFilter() == Filter.INCLUDE) {
+            return getTable().size;
+        }
+        return -1; // feature by feature count required
+    }
+
+    @Override
+    protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query) throws IOException {
+        ColumnarTable table = getTable();
+        SimpleFeatureType featureType = table.schema;
+        if (query.getPropertyNames() != Query.ALL_NAMES) {
+            featureType = SimpleFeatureTypeBuilder.retype(table.schema, query.getPropertyNames());
+        }
+        return new ColumnarFeatureReader(table, featureType, query);
+    }
+
+    @Override
+    protected SimpleFeatureType buildFeatureType() throws IOException {
+        return getTable().schema;
+    }
+
+    @Override
+    protected boolean canFilter(Query query) {
+        return true;
+    }
+
+    @Override
+    protected boolean canRetype(Query query) {
+        return true;
+    }
+
+    /** Sorting is done in memory on top of the reader, the limit has to be applied after it. */
+    @Override
+    protected boolean canLimit(Query query) {
+        return query.getSortBy() == null || query.getSortBy().length == 0;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * The features of one feature type, stored column by column.
+ *
+ * <p>A table is filled once from a feature collection and is read only afterwards, so that it can be shared by any
+ * number of concurrent readers without locking.
+ */
+class ColumnarTable {
+
+    final SimpleFeatureType schema;
+
+    final int size;
+
+    final String[] ids;
+
+    final Column[] columns;
+
+    /** Index of the default geometry attribute, -1 if there is none */
+    final int geometryIndex;
+
+    /** Index of the default geometry bounds, null unless it is the only geometry attribute */
+    final PackedSTRIndex index;
+
+    final ReferencedEnvelope bounds;
+
+    ColumnarTable(SimpleFeatureType schema, SimpleFeatureCollection features) {
+        this.schema = schema;
+        columns = new Column[schema.getAttributeCount()];
+        int geometries = 0;
+        for (int i = 0; i < columns.length; i++) {
+            AttributeDescriptor descriptor = schema.getDescriptor(i);
+            columns[i] = Column.create(descriptor);
+            if (descriptor instanceof GeometryDescriptor) {
+                geometries++;
+            }
+        }
+
+        String[] ids = new String[0];
+        int size = 0;
+        try (SimpleFeatureIterator it = features.features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, Column.grow(ids.length, size + 1));
+                }
+                ids[size++] = feature.getID();
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i].add(feature.getAttribute(i));
+                }
+            }
+        }
+        this.size = size;
+        this.ids = Arrays.copyOf(ids, size);
+        for (Column column : columns) {
+            column.trim(size);
+        }
+
+        GeometryDescriptor geometry = schema.getGeometryDescriptor();
+        geometryIndex = geometry == null ? -1 : schema.indexOf(geometry.getName());
+        bounds = new ReferencedEnvelope(schema.getCoordinateReferenceSystem());
+        if (geometryIndex >= 0) {
+            double[] rowBounds = ((GeometryColumn) columns[geometryIndex]).bounds;
+            for (int row = 0; row < size; row++) {
+                int b = 4 * row;
+                if (!Double.isNaN(rowBounds[b])) {
+                    bounds.expandToInclude(
+                            new Envelope(rowBounds[b], rowBounds[b + 2], rowBounds[b + 1], rowBounds[b + 3]));
+                }
+            }
+        }
+        // the bounds extracted from a filter are not tied to a geometry attribute
+        index = geometryIndex >= 0 && geometries == 1
+                ? new PackedSTRIndex(((GeometryColumn) columns[geometryIndex]).bounds, size)
+                : null;
+    }
+
+    /**
+     * Returns the rows whose default geometry bounds intersect the envelope, in ascending order, or null if all the
+     * rows have to be scanned.
+     */
+    int[] query(Envelope envelope) {
+        if (index == null
+                || envelope == null
+                || Double.isInfinite(envelope.getWidth())
+                || Double.isInfinite(envelope.getHeight())) {
+            return null;
+        }
+        return index.query(envelope);
+    }
+
+    /** Returns the approximate memory used by the table, in bytes. */
+    long getSizeInBytes() {
+        long total = 8L * ids.length;
+        for (String id : ids) {
+            total += 40 + 2L * id.length();
+        }
+        for (Column column : columns) {
+            total += column.getSizeInBytes();
+        }
+        if (index != null) {
+            for (double[] levelBounds : index.bounds) {
+                total += 8L * levelBounds.length;
+            }
+            total += 4L * index.rows.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * Geometries packed in two arrays shared by all the rows: the ordinates of all the coordinates, and the structure of
+ * each geometry (types, number of parts and number of coordinates).
+ *
+ * <p>Each geometry is stored as XY, or XYZ when it has at least one Z value. Measures, SRID and user data are not kept.
+ * Geometries are rebuilt on {@link #get(int)}, on top of {@link PackedCoordinateSequence}s.
+ */
+class GeometryColumn extends Column {
+
+    static final GeometryFactory FACTORY = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    static final int POINT = 1;
+
+    static final int LINESTRING = 2;
+
+    static final int LINEARRING = 3;
+
+    static final int POLYGON = 4;
+
+    static final int MULTIPOINT = 5;
+
+    static final int MULTILINESTRING = 6;
+
+    static final int MULTIPOLYGON = 7;
+
+    static final int COLLECTION = 8;
+
+    /** Structure of the geometries, starting with their dimension */
+    int[] structure = new int[0];
+
+    int structureSize;
+
+    /** Ordinates of all the coordinates */
+    double[] ordinates = new double[0];
+
+    int ordinatesSize;
+
+    /** Start of each row in {@link #structure}, -1 for null geometries */
+    int[] structureStart = new int[0];
+
+    /** Start of each row in {@link #ordinates} */
+    int[] ordinatesStart = new int[0];
+
+    /** Bounds of each row, as minx, miny, maxx, maxy, NaN for null and empty geometries */
+    double[] bounds = new double[0];
+
+    int size;
+
+    @Override
+    void add(Object value) {
+        if (size == structureStart.length) {
+            int capacity = grow(structureStart.length, size + 1);
+            structureStart = Arrays.copyOf(structureStart, capacity);
+            ordinatesStart = Arrays.copyOf(ordinatesStart, capacity);
+            bounds = Arrays.copyOf(bounds, 4 * capacity);
+        }
+        Geometry geometry = value == null ? null : convert(value, Geometry.class);
+        if (geometry == null) {
+            addNull(size);
+            structureStart[size] = -1;
+        } else {
+            structureStart[size] = structureSize;
+            ordinatesStart[size] = ordinatesSize;
+            int dimension = hasZ(geometry) ? 3 : 2;
+            addStructure(dimension);
+            encode(geometry, dimension);
+        }
+        Envelope envelope = geometry == null ? new Envelope() : geometry.getEnvelopeInternal();
+        int b = 4 * size;
+        if (envelope.isNull()) {
+            Arrays.fill(bounds, b, b + 4, Double.NaN);
+        } else {
+            bounds[b] = envelope.getMinX();
+            bounds[b + 1] = envelope.getMinY();
+            bounds[b + 2] = envelope.getMaxX();
+            bounds[b + 3] = envelope.getMaxY();
+        }
+        size++;
+    }
+
+    @Override
+    Object get(int row) {
+        int start = structureStart[row];
+        if (start < 0) {
+            return null;
+        }
+        Decoder decoder = new Decoder(start, ordinatesStart[row]);
+        return decoder.decode();
+    }
+
+    @Override
+    void trim(int size) {
+        structure = Arrays.copyOf(structure, structureSize);
+        ordinates = Arrays.copyOf(ordinates, ordinatesSize);
+        structureStart = Arrays.copyOf(structureStart, size);
+        ordinatesStart = Arrays.copyOf(ordinatesStart, size);
+        bounds = Arrays.copyOf(bounds, 4 * size);
+    }
+
+    @Override
+    long getSizeInBytes() {
+        return 4L * (structure.length + structureStart.length + ordinatesStart.length)
+                + 8L * (ordinates.length + bounds.length)
+                + nullsSize();
+    }
+
+    private void encode(Geometry geometry, int dimension) {
+        if (geometry instanceof Point point) {
+            addStructure(POINT);
+            addSequence(point.getCoordinateSequence(), dimension);
+        } else if (geometry instanceof LinearRing ring) {
+            addStructure(LINEARRING);
+            addSequence(ring.getCoordinateSequence(), dimension);
+        } else if (geometry instanceof LineString line) {
+            addStructure(LINESTRING);
+            addSequence(line.getCoordinateSequence(), dimension);
+        } else if (geometry instanceof Polygon polygon) {
+            addStructure(POLYGON);
+            if (polygon.isEmpty()) {
+                addStructure(0);
+            } else {
+                addStructure(1 + polygon.getNumInteriorRing());
+                addSequence(polygon.getExteriorRing().getCoordinateSequence(), dimension);
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    addSequence(polygon.getInteriorRingN(i).getCoordinateSequence(), dimension);
+                }
+            }
+        } else if (geometry instanceof GeometryCollection collection) {
+            if (geometry instanceof MultiPoint) {
+                addStructure(MULTIPOINT);
+            } else if (geometry instanceof MultiLineString) {
+                addStructure(MULTILINESTRING);
+            } else if (geometry instanceof MultiPolygon) {
+                addStructure(MULTIPOLYGON);
+            } else {
+                addStructure(COLLECTION);
+            }
+            addStructure(collection.getNumGeometries());
+            for (int i = 0; i < collection.getNumGeometries(); i++) {
+                encode(collection.getGeometryN(i), dimension);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported geometry type " + geometry.getGeometryType());
+        }
+    }
+
+    private void addStructure(int value) {
+        if (structureSize == structure.length) {
+            structure = Arrays.copyOf(structure, grow(structure.length, structureSize + 1));
+        }
+        structure[structureSize++] = value;
+    }
+
+    private void addSequence(CoordinateSequence sequence, int dimension) {
+        int count = sequence.size();
+        addStructure(count);
+        int required = ordinatesSize + count * dimension;
+        if (required > ordinates.length) {
+            ordinates = Arrays.copyOf(ordinates, grow(ordinates.length, required));
+        }
+        for (int i = 0; i < count; i++) {
+            ordinates[ordinatesSize++] = sequence.getX(i);
+            ordinates[ordinatesSize++] = sequence.getY(i);
+            if (dimension == 3) {
+                ordinates[ordinatesSize++] = sequence.getZ(i);
+            }
+        }
+    }
+
+    private static boolean hasZ(Geometry geometry) {
+        ZFilter filter = new ZFilter();
+        geometry.apply(filter);
+        return filter.found;
+    }
+
+    /** Looks for a coordinate with a Z value. */
+    private static class ZFilter implements CoordinateSequenceFilter {
+        boolean found;
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            if (sequence.hasZ() && !Double.isNaN(sequence.getZ(i))) {
+                found = true;
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return found;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return false;
+        }
+    }
+
+    /** Rebuilds a geometry walking the structure and ordinates of a row. */
+    private class Decoder {
+        int structurePosition;
+
+        int ordinatesPosition;
+
+        final int dimension;
+
+        Decoder(int structurePosition, int ordinatesPosition) {
+            this.structurePosition = structurePosition;
+            this.ordinatesPosition = ordinatesPosition;
+            this.dimension = structure[this.structurePosition++];
+        }
+
+        Geometry decode() {
+            int type = structure[structurePosition++];
+            switch (type) {
+                case POINT:
+                    return FACTORY.createPoint(sequence());
+                case LINESTRING:
+                    return FACTORY.createLineString(sequence());
+                case LINEARRING:
+                    return FACTORY.createLinearRing(sequence());
+                case POLYGON:
+                    return polygon();
+                case MULTIPOINT:
+                    return FACTORY.createMultiPoint(parts(new Point[structure[structurePosition++]]));
+                case MULTILINESTRING:
+                    return FACTORY.createMultiLineString(parts(new LineString[structure[structurePosition++]]));
+                case MULTIPOLYGON:
+                    return FACTORY.createMultiPolygon(parts(new Polygon[structure[structurePosition++]]));
+                case COLLECTION:
+                    return FACTORY.createGeometryCollection(parts(new Geometry[structure[structurePosition++]]));
+                default:
+                    throw new IllegalStateException("Unknown geometry type " + type);
+            }
+        }
+
+        private Polygon polygon() {
+            int rings = structure[structurePosition++];
+            if (rings == 0) {
+                return FACTORY.createPolygon();
+            }
+            LinearRing shell = FACTORY.createLinearRing(sequence());
+            LinearRing[] holes = new LinearRing[rings - 1];
+            for (int i = 0; i < holes.length; i++) {
+                holes[i] = FACTORY.createLinearRing(sequence());
+            }
+            return FACTORY.createPolygon(shell, holes);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Geometry> T[] parts(T[] parts) {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = (T) decode();
+            }
+            return parts;
+        }
+
+        private CoordinateSequence sequence() {
+            int count = structure[structurePosition++];
+            int end = ordinatesPosition + count * dimension;
+            double[] coordinates = Arrays.copyOfRange(ordinates, ordinatesPosition, end);
+            ordinatesPosition = end;
+            return new PackedCoordinateSequence.Double(coordinates, dimension, 0);
+        }
+    }
+}
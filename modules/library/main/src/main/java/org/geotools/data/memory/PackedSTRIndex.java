@@ -0,0 +1,191 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A read only R-tree over the bounds of the rows of a {@link ColumnarTable}, packed with the Sort-Tile-Recursive
+ * algorithm and held in primitive arrays, without an object per row or per node.
+ *
+ * <p>Each level is made of groups of {@link #NODE_CAPACITY} consecutive entries of the level below, which are sorted in
+ * STR order before being grouped.
+ */
+class PackedSTRIndex {
+
+    static final int NODE_CAPACITY = 16;
+
+    /** Bounds of the entries of each level, as minx, miny, maxx, maxy. Level 0 holds the rows. */
+    final List<double[]> bounds = new ArrayList<>();
+
+    /** First child of the entries of each level, in the level below. Unused for level 0. */
+    final List<int[]> children = new ArrayList<>();
+
+    /** Row of each entry of level 0 */
+    final int[] rows;
+
+    /**
+     * Builds the index.
+     *
+     * @param rowBounds bounds of each row, as minx, miny, maxx, maxy, NaN for the rows to skip
+     * @param size number of rows
+     */
+    PackedSTRIndex(double[] rowBounds, int size) {
+        int count = 0;
+        int[] indexed = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (!Double.isNaN(rowBounds[4 * row])) {
+                indexed[count++] = row;
+            }
+        }
+        double[] level = new double[4 * count];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(rowBounds, 4 * indexed[i], level, 4 * i, 4);
+        }
+        int[] order = strOrder(level, count);
+        rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = indexed[order[i]];
+        }
+        bounds.add(permute(level, order));
+        children.add(null);
+
+        while (count > NODE_CAPACITY) {
+            double[] below = bounds.get(bounds.size() - 1);
+            int parents = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+            double[] parentBounds = new double[4 * parents];
+            int[] first = new int[parents];
+            for (int p = 0; p < parents; p++) {
+                first[p] = p * NODE_CAPACITY;
+                int end = Math.min(first[p] + NODE_CAPACITY, count);
+                int b = 4 * p;
+                System.arraycopy(below, 4 * first[p], parentBounds, b, 4);
+                for (int c = first[p] + 1; c < end; c++) {
+                    parentBounds[b] = Math.min(parentBounds[b], below[4 * c]);
+                    parentBounds[b + 1] = Math.min(parentBounds[b + 1], below[4 * c + 1]);
+                    parentBounds[b + 2] = Math.max(parentBounds[b + 2], below[4 * c + 2]);
+                    parentBounds[b + 3] = Math.max(parentBounds[b + 3], below[4 * c + 3]);
+                }
+            }
+            order = strOrder(parentBounds, parents);
+            int[] sortedFirst = new int[parents];
+            for (int p = 0; p < parents; p++) {
+                sortedFirst[p] = first[order[p]];
+            }
+            bounds.add(permute(parentBounds, order));
+            children.add(sortedFirst);
+            count = parents;
+        }
+    }
+
+    /** Returns the number of indexed rows. */
+    int size() {
+        return rows.length;
+    }
+
+    /** Returns the rows whose bounds intersect the envelope, in ascending order. */
+    int[] query(Envelope envelope) {
+        RowCollector collector = new RowCollector();
+        if (!envelope.isNull()) {
+            int top = bounds.size() - 1;
+            search(
+                    top,
+                    0,
+                    bounds.get(top).length / 4,
+                    envelope.getMinX(),
+                    envelope.getMinY(),
+                    envelope.getMaxX(),
+                    envelope.getMaxY(),
+                    collector);
+        }
+        int[] result = Arrays.copyOf(collector.rows, collector.size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void search(
+            int level, int start, int end, double minX, double minY, double maxX, double maxY, RowCollector collector) {
+        double[] levelBounds = bounds.get(level);
+        for (int i = start; i < end; i++) {
+            int b = 4 * i;
+            if (levelBounds[b] > maxX
+                    || levelBounds[b + 2] < minX
+                    || levelBounds[b + 1] > maxY
+                    || levelBounds[b + 3] < minY) {
+                continue;
+            }
+            if (level == 0) {
+                collector.add(rows[i]);
+            } else {
+                int first = children.get(level)[i];
+                int last = Math.min(first + NODE_CAPACITY, bounds.get(level - 1).length / 4);
+                search(level - 1, first, last, minX, minY, maxX, maxY, collector);
+            }
+        }
+    }
+
+    /**
+     * Sorts the entries by the x of their center, splits them into vertical slices of ceil(sqrt(P)) nodes, P being the
+     * number of nodes, and sorts each slice by the y of the center.
+     */
+    private static int[] strOrder(double[] entries, int count) {
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Comparator<Integer> byX = Comparator.comparingDouble(i -> entries[i * 4] + entries[i * 4 + 2]);
+        Comparator<Integer> byY = Comparator.comparingDouble(i -> entries[i * 4 + 1] + entries[i * 4 + 3]);
+        Arrays.parallelSort(order, byX);
+
+        int nodes = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceSize = (int) Math.ceil(Math.sqrt(nodes)) * NODE_CAPACITY;
+        for (int start = 0; start < count; start += sliceSize) {
+            Arrays.sort(order, start, Math.min(start + sliceSize, count), byY);
+        }
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+    private static double[] permute(double[] entries, int[] order) {
+        double[] result = new double[entries.length];
+        for (int i = 0; i < order.length; i++) {
+            System.arraycopy(entries, 4 * order[i], result, 4 * i, 4);
+        }
+        return result;
+    }
+
+    /** Growable array of rows. */
+    private static class RowCollector {
+        int[] rows = new int[64];
+
+        int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, 2 * size);
+            }
+            rows[size++] = row;
+        }
+    }
+}
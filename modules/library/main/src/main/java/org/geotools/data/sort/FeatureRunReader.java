@@ -0,0 +1,188 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+
+/**
+ * Reads back a run of sorted features from a {@link FeatureSpillFile}, one block at a time, through a memory mapped
+ * window on the file
+ */
+class FeatureRunReader {
+
+    /** Size of the memory mapped window, will be larger only if a single block does not fit in it */
+    static final long WINDOW_SIZE = 16 * 1024 * 1024;
+
+    FeatureSpillFile spill;
+
+    int run;
+
+    long position;
+
+    long end;
+
+    int count;
+
+    ByteBuffer window;
+
+    long windowStart;
+
+    SimpleFeature[] block;
+
+    int blockIndex;
+
+    SimpleFeature curr;
+
+    SimpleFeatureIO io;
+
+    SimpleFeatureBuilder builder;
+
+    Inflater inflater;
+
+    public FeatureRunReader(FeatureSpillFile spill, int run, long start, long end, int count) {
+        this.spill = spill;
+        this.run = run;
+        this.position = start;
+        this.end = end;
+        this.count = count;
+    }
+
+    /** Returns the current feature, reading it if necessary */
+    public SimpleFeature feature() throws IOException {
+        if (curr == null && count > 0) {
+            curr = readNextFeature();
+        }
+        return curr;
+    }
+
+    /** Moves to the next feature, returns null if the run is over */
+    public SimpleFeature next() throws IOException {
+        curr = readNextFeature();
+        return curr;
+    }
+
+    private SimpleFeature readNextFeature() throws IOException {
+        if (count <= 0) {
+            release();
+            return null;
+        }
+
+        if (block == null || blockIndex >= block.length) {
+            block = readBlock();
+            blockIndex = 0;
+        }
+        count--;
+        SimpleFeature sf = block[blockIndex];
+        block[blockIndex++] = null;
+        return sf;
+    }
+
+    private SimpleFeature[] readBlock() throws IOException {
+        ByteBuffer header = slice(position, FeatureSpillFile.HEADER_SIZE);
+        boolean compressed = header.get() != 0;
+        int rawLength = header.getInt();
+        int storedLength = header.getInt();
+        ByteBuffer stored = slice(position + FeatureSpillFile.HEADER_SIZE, storedLength);
+        position += FeatureSpillFile.HEADER_SIZE + storedLength;
+
+        byte[] raw = new byte[rawLength];
+        if (compressed) {
+            if (inflater == null) {
+                inflater = new Inflater(true);
+            } else {
+                inflater.reset();
+            }
+            inflater.setInput(stored);
+            try {
+                int read = 0;
+                while (read < rawLength && !inflater.finished()) {
+                    int n = inflater.inflate(raw, read, rawLength - read);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    read += n;
+                }
+                if (read != rawLength) {
+                    throw new IOException("Truncated block in " + spill);
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted block in " + spill, e);
+            }
+        } else {
+            stored.get(raw);
+        }
+
+        return decodeBlock(raw);
+    }
+
+    private SimpleFeature[] decodeBlock(byte[] raw) throws IOException {
+        if (io == null) {
+            io = new SimpleFeatureIO(spill.schema);
+            builder = new SimpleFeatureBuilder(spill.schema);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        int size = in.readInt();
+        String[] fids = new String[size];
+        for (int i = 0; i < size; i++) {
+            fids[i] = in.readUTF();
+        }
+        List<AttributeDescriptor> attributes = spill.schema.getAttributeDescriptors();
+        Object[][] values = new Object[size][attributes.size()];
+        for (int a = 0; a < attributes.size(); a++) {
+            AttributeDescriptor ad = attributes.get(a);
+            for (int i = 0; i < size; i++) {
+                values[i][a] = io.readAttribute(in, ad);
+            }
+        }
+
+        SimpleFeature[] features = new SimpleFeature[size];
+        for (int i = 0; i < size; i++) {
+            builder.addAll(values[i]);
+            features[i] = builder.buildFeature(fids[i]);
+        }
+        return features;
+    }
+
+    /** Returns a buffer positioned on the requested file section, moving the mapped window if needed */
+    private ByteBuffer slice(long offset, int length) throws IOException {
+        if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+            long size = Math.min(Math.max(WINDOW_SIZE, length), end - offset);
+            window = spill.map(offset, size);
+            windowStart = offset;
+        }
+        int start = (int) (offset - windowStart);
+        return window.duplicate().position(start).limit(start + length);
+    }
+
+    private void release() {
+        window = null;
+        block = null;
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+}
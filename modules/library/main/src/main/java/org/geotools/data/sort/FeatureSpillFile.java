@@ -0,0 +1,184 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.Deflater;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+
+/**
+ * Temporary file storing the sorted runs of an external merge sort.
+ *
+ * <p>Each run is split in blocks of features. A block stores the features column by column (all the feature ids, then
+ * all the values of the first attribute, and so on), which keeps similar values close and helps compression. Runs are
+ * {@link #encodeRun(List) encoded} and compressed by the caller threads, possibly several at the same time, then
+ * {@link #appendRun(EncodedRun) appended} in order, and read back through memory mapped buffers by
+ * {@link FeatureRunReader}.
+ *
+ * <p>Each block is laid out as a compression flag byte, the raw length, the stored length, and the stored bytes.
+ * Compression is enabled by default, and can be disabled setting the {@link #COMPRESSION_KEY} system variable to false.
+ */
+class FeatureSpillFile implements Closeable {
+
+    /** System property controlling if spilled blocks get compressed, defaults to true */
+    public static final String COMPRESSION_KEY = "geotools.sort.spill.compression";
+
+    /** Number of features in a block */
+    static final int BLOCK_SIZE = 512;
+
+    /** Size of the block header, the compressed flag, the raw and stored lengths */
+    static final int HEADER_SIZE = 9;
+
+    File file;
+
+    FileChannel channel;
+
+    SimpleFeatureType schema;
+
+    boolean compress;
+
+    long size;
+
+    int runs;
+
+    public FeatureSpillFile(SimpleFeatureType schema) throws IOException {
+        this(schema, !"false".equalsIgnoreCase(System.getProperty(COMPRESSION_KEY)));
+    }
+
+    public FeatureSpillFile(SimpleFeatureType schema, boolean compress) throws IOException {
+        this.schema = schema;
+        this.compress = compress;
+        this.file = File.createTempFile("sorted", ".features");
+        this.channel = FileChannel.open(
+                file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /** A run of features encoded in blocks, ready to be appended to the file */
+    record EncodedRun(byte[][] blocks, int features) {}
+
+    /** Encodes a run of sorted features. Does not touch the file, can be called by multiple threads at once */
+    public EncodedRun encodeRun(List<SimpleFeature> features) throws IOException {
+        int blocks = (features.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        byte[][] encoded = new byte[blocks][];
+        try {
+            for (int b = 0; b < blocks; b++) {
+                encoded[b] =
+                        encodeBlock(features.subList(b * BLOCK_SIZE, Math.min(features.size(), (b + 1) * BLOCK_SIZE)));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new EncodedRun(encoded, features.size());
+    }
+
+    /** Appends an encoded run to the file, and returns a reader for it. Runs are numbered in the order of appending */
+    public FeatureRunReader appendRun(EncodedRun run) throws IOException {
+        long start = size;
+        for (byte[] block : run.blocks()) {
+            ByteBuffer bb = ByteBuffer.wrap(block);
+            while (bb.hasRemaining()) {
+                size += channel.write(bb, size);
+            }
+        }
+
+        return new FeatureRunReader(this, runs++, start, size, run.features());
+    }
+
+    /** Encodes a block of features, the result includes the block header */
+    byte[] encodeBlock(List<SimpleFeature> features) {
+        try {
+            // the IO has internal buffers, cannot be shared among threads
+            SimpleFeatureIO io = new SimpleFeatureIO(schema);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(features.size() * 64);
+            DataOutputStream out = new DataOutputStream(bos);
+            out.writeInt(features.size());
+            for (SimpleFeature sf : features) {
+                out.writeUTF(sf.getID());
+            }
+            for (AttributeDescriptor ad : schema.getAttributeDescriptors()) {
+                String name = ad.getLocalName();
+                for (SimpleFeature sf : features) {
+                    io.writeAttribute(out, ad, sf.getAttribute(name));
+                }
+            }
+            out.flush();
+            byte[] raw = bos.toByteArray();
+
+            byte[] stored = raw;
+            int storedLength = raw.length;
+            boolean compressed = false;
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+                try {
+                    deflater.setInput(raw);
+                    deflater.finish();
+                    byte[] target = new byte[raw.length];
+                    int length = deflater.deflate(target);
+                    // only keep the compressed version if it fit, and it's actually smaller
+                    if (deflater.finished() && length < raw.length) {
+                        stored = target;
+                        storedLength = length;
+                        compressed = true;
+                    }
+                } finally {
+                    deflater.end();
+                }
+            }
+
+            ByteBuffer block = ByteBuffer.allocate(HEADER_SIZE + storedLength);
+            block.put((byte) (compressed ? 1 : 0));
+            block.putInt(raw.length);
+            block.putInt(storedLength);
+            block.put(stored, 0, storedLength);
+            return block.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Maps the specified section of the file in memory */
+    MappedByteBuffer map(long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    /** Closes the file, and deletes it */
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FeatureSpillFile [schema=" + schema + ", file=" + file + "]";
+    }
+}
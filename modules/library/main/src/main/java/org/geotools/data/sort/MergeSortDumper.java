@@ -16,14 +16,20 @@
  */
 package org.geotools.data.sort;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -38,6 +44,18 @@
 
 class MergeSortDumper {
 
+    /** Maximum number of runs sorted at the same time, while the next one is being read */
+    static final int SORT_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /** Sorts and encodes the runs, shared by all the sorts */
+    private static final ExecutorService SORT_POOL = Executors.newFixedThreadPool(SORT_THREADS, r -> {
+        Thread t = new Thread(r, "gt-merge-sort-" + THREAD_COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
     static final boolean canSort(SimpleFeatureType schema, SortBy... sortBy) {
         if (sortBy == SortBy.UNSORTED) {
             return true;
@@ -112,43 +130,56 @@ static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[
                     + Arrays.toString(sortBy));
         }
 
-        int count = 0;
-        File file = null;
-        SimpleFeatureIO io = null;
+        // the features held in memory, the run being read and the ones being sorted, stay within maxFeatures
+        int runSize = getRunSize(maxFeatures);
+        FeatureSpillFile spill = null;
         List<SimpleFeature> features = new ArrayList<>();
-        List<FeatureBlockReader> readers = new ArrayList<>();
+        List<FeatureRunReader> readers = new ArrayList<>();
+        ArrayDeque<Future<FeatureSpillFile.EncodedRun>> pending = new ArrayDeque<>();
+        ArrayDeque<Integer> pendingSizes = new ArrayDeque<>();
+        int pendingFeatures = 0;
         boolean cleanFile = true;
         try (reader) {
-            // read and store into files as necessary
+            // read and store into files as necessary, sorting the runs in the background
             while (reader.hasNext()) {
-                SimpleFeature f = reader.next();
-                features.add(f);
-                count++;
-
-                if (count > maxFeatures) {
-                    Collections.sort(features, comparator);
-                    if (io == null) {
-                        file = File.createTempFile("sorted", ".features");
-                        file.delete();
-                        io = new SimpleFeatureIO(file, schema);
+                features.add(reader.next());
+
+                List<List<SimpleFeature>> runs = List.of();
+                if (spill == null && features.size() > maxFeatures) {
+                    // does not fit in memory, split what was read so far in runs, the rest stays in the buffer
+                    spill = new FeatureSpillFile(schema);
+                    int full = features.size() / runSize * runSize;
+                    runs = new ArrayList<>();
+                    for (int i = 0; i < full; i += runSize) {
+                        runs.add(features.subList(i, i + runSize));
+                    }
+                    features = new ArrayList<>(features.subList(full, features.size()));
+                } else if (spill != null && features.size() >= runSize) {
+                    runs = List.of(features);
+                    features = new ArrayList<>();
+                }
+                for (List<SimpleFeature> run : runs) {
+                    pending.add(sortRun(spill, run, comparator));
+                    pendingSizes.add(run.size());
+                    pendingFeatures += run.size();
+                    // wait for the oldest runs, leaving room for the next one in the budget
+                    while (!pending.isEmpty() && pendingFeatures + runSize > maxFeatures) {
+                        readers.add(spill.appendRun(get(pending.poll())));
+                        pendingFeatures -= pendingSizes.poll();
                     }
-                    FeatureBlockReader fbr = storeToFile(io, features);
-                    readers.add(fbr);
-                    count = 0;
-                    features.clear();
                 }
             }
             // if we got to file storing, store residual features to file too
-            if (count > 0 && io != null) {
-                Collections.sort(features, comparator);
-                file = File.createTempFile("sorted", ".features");
-                file.delete();
-                FeatureBlockReader fbr = storeToFile(io, features);
-                readers.add(fbr);
+            if (!features.isEmpty() && spill != null) {
+                pending.add(sortRun(spill, features, comparator));
+            }
+            // append in reading order, the merge relies on it to keep the sort stable
+            while (!pending.isEmpty()) {
+                readers.add(spill.appendRun(get(pending.poll())));
             }
 
             // return the appropriate reader
-            if (io == null) {
+            if (spill == null) {
                 // simple case, we managed to keep everything in memory, sort and return a
                 // reader based on the collection contents
                 Collections.sort(features, comparator);
@@ -158,26 +189,53 @@ static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[
             } else {
                 // go merge-sort
                 cleanFile = false;
-                return new MergeSortReader(schema, io, readers, comparator);
+                return new MergeSortReader(schema, spill, readers, comparator);
             }
 
         } finally {
-            if (cleanFile && io != null) {
-                io.close(true);
-                file.delete();
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+            if (cleanFile && spill != null) {
+                spill.close();
             }
         }
     }
 
-    /** Writes the feature attributes to a binary file */
-    static FeatureBlockReader storeToFile(SimpleFeatureIO io, List<SimpleFeature> features) throws IOException {
-        long start = io.getOffset();
+    /**
+     * Size of the runs spilled to disk. The {@code maxFeatures} budget is split among the runs being sorted and the one
+     * being read, as long as runs do not get smaller than a block, otherwise runs are sorted one at a time.
+     */
+    static int getRunSize(int maxFeatures) {
+        int runs = Math.max(1, Math.min(SORT_THREADS + 1, maxFeatures / FeatureSpillFile.BLOCK_SIZE));
+        return Math.max(1, maxFeatures / runs);
+    }
+
+    /**
+     * Sorts and encodes a run in the background. The sort is stable, like the in memory one. Several runs are sorted at
+     * the same time, as a single one is usually too small to benefit from a parallel sort.
+     */
+    static Future<FeatureSpillFile.EncodedRun> sortRun(
+            FeatureSpillFile spill, List<SimpleFeature> features, Comparator<SimpleFeature> comparator) {
+        return SORT_POOL.submit(() -> {
+            SimpleFeature[] sorted = features.toArray(new SimpleFeature[features.size()]);
+            Arrays.sort(sorted, comparator);
+            return spill.encodeRun(Arrays.asList(sorted));
+        });
+    }
 
-        // write each attribute in the random access file
-        for (SimpleFeature sf : features) {
-            io.write(sf);
+    private static FeatureSpillFile.EncodedRun get(Future<FeatureSpillFile.EncodedRun> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sorting features");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException exception) throw exception;
+            if (cause instanceof RuntimeException exception) throw exception;
+            if (cause instanceof Error error) throw error;
+            throw new IOException("Failed to sort features", cause);
         }
-
-        return new FeatureBlockReader(io, start, features.size());
     }
 }
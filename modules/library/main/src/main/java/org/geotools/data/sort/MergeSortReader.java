@@ -17,25 +17,26 @@
 package org.geotools.data.sort;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 
 /**
- * Reads from a list of {@link FeatureBlockReader} backed by a {@link RandomAccessFile} and performs the classic
- * merge-sort algorithm
+ * Reads from a list of {@link FeatureRunReader} backed by a {@link FeatureSpillFile} and performs a k-way merge of the
+ * sorted runs, using a priority queue to pick the smallest feature. Ties are resolved in favour of the earlier run, so
+ * that the overall sort is stable.
  *
  * @author Andrea Aime - GeoSolutions
  */
 class MergeSortReader implements SimpleFeatureReader {
 
-    List<FeatureBlockReader> readers;
+    PriorityQueue<FeatureRunReader> queue;
 
-    SimpleFeatureIO io;
+    FeatureSpillFile spill;
 
     SimpleFeatureType schema;
 
@@ -43,13 +44,27 @@ class MergeSortReader implements SimpleFeatureReader {
 
     public MergeSortReader(
             SimpleFeatureType schema,
-            SimpleFeatureIO io,
-            List<FeatureBlockReader> readers,
-            Comparator<SimpleFeature> comparator) {
+            FeatureSpillFile spill,
+            List<FeatureRunReader> readers,
+            Comparator<SimpleFeature> comparator)
+            throws IOException {
         this.schema = schema;
         this.comparator = comparator;
-        this.readers = readers;
-        this.io = io;
+        this.spill = spill;
+        this.queue = new PriorityQueue<>(Math.max(1, readers.size()), this::compareRuns);
+        for (FeatureRunReader reader : readers) {
+            if (reader.feature() != null) {
+                queue.add(reader);
+            }
+        }
+    }
+
+    private int compareRuns(FeatureRunReader r1, FeatureRunReader r2) {
+        int result = comparator.compare(r1.curr, r2.curr);
+        if (result == 0) {
+            result = Integer.compare(r1.run, r2.run);
+        }
+        return result;
     }
 
     @Override
@@ -59,25 +74,16 @@ public SimpleFeatureType getFeatureType() {
 
     @Override
     public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
-        if (readers.isEmpty()) {
+        // grab the reader with the smallest feature
+        FeatureRunReader reader = queue.poll();
+        if (reader == null) {
             throw new NoSuchElementException();
         }
 
-        // find the smallest feature
-        int selected = 0;
-        for (int i = 1; i < readers.size(); i++) {
-            SimpleFeature sf = readers.get(selected).feature();
-            SimpleFeature cf = readers.get(i).feature();
-            if (comparator.compare(sf, cf) > 0) {
-                selected = i;
-            }
-        }
-
-        // move on the reader of the selected feature
-        FeatureBlockReader reader = readers.get(selected);
+        // move on the reader of the selected feature, put it back in the queue if not done
         SimpleFeature sf = reader.feature();
-        if (reader.next() == null) {
-            readers.remove(selected);
+        if (reader.next() != null) {
+            queue.add(reader);
         }
 
         // return the selected feature
@@ -86,11 +92,12 @@ public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuch
 
     @Override
     public boolean hasNext() throws IOException {
-        return !readers.isEmpty();
+        return !queue.isEmpty();
     }
 
     @Override
     public void close() throws IOException {
-        io.close(true);
+        queue.clear();
+        spill.close();
     }
 }
@@ -18,6 +18,8 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -80,6 +82,18 @@ public SimpleFeatureIO(File file, SimpleFeatureType schema) throws FileNotFoundE
         this.enableDeserialization = System.getProperty(ENABLE_DESERIALIZATION);
     }
 
+    /**
+     * Builds an IO that is not backed by a file, usable only to encode and decode attributes via
+     * {@link #writeAttribute(DataOutput, AttributeDescriptor, Object)} and {@link #readAttribute(DataInput,
+     * AttributeDescriptor)}
+     */
+    SimpleFeatureIO(SimpleFeatureType schema) {
+        this.schema = schema;
+        this.builder = new SimpleFeatureBuilder(schema);
+        this.initialFileEmpty = true;
+        this.enableDeserialization = System.getProperty(ENABLE_DESERIALIZATION);
+    }
+
     /** Writes the feature to the file */
     public void write(SimpleFeature sf) throws IOException {
         // write each attribute in the random access file
@@ -94,9 +108,14 @@ public void write(SimpleFeature sf) throws IOException {
     }
 
     void writeAttribute(AttributeDescriptor ad, Object value) throws IOException {
+        writeAttribute(raf, ad, value);
+    }
+
+    /** Writes the attribute value to the given output */
+    void writeAttribute(DataOutput out, AttributeDescriptor ad, Object value) throws IOException {
         if (value == null) {
             // null marker
-            raf.writeBoolean(true);
+            out.writeBoolean(true);
         } else {
             // not null, write the contents. This one requires some explanation. We are not
             // writing any type metadata in the stream for the types we can optimize (primitives,
@@ -105,22 +124,22 @@ void writeAttribute(AttributeDescriptor ad, Object value) throws IOException {
             // actually the one we can optimize for, and not some subclass. Thus, we are authorized
             // to use identity comparison instead of isAssignableFrom or equality, when we read back
             // it must be as if we did not serialize stuff at all
-            raf.writeBoolean(false);
+            out.writeBoolean(false);
             Class<?> binding = ad.getType().getBinding();
             if (binding == Boolean.class) {
-                raf.writeBoolean((Boolean) value);
+                out.writeBoolean((Boolean) value);
             } else if (binding == Byte.class || binding == byte.class) {
-                raf.writeByte((Byte) value);
+                out.writeByte((Byte) value);
             } else if (binding == Short.class || binding == short.class) {
-                raf.writeShort((Short) value);
+                out.writeShort((Short) value);
             } else if (binding == Integer.class || binding == int.class) {
-                raf.writeInt((Integer) value);
+                out.writeInt((Integer) value);
             } else if (binding == Long.class || binding == long.class) {
-                raf.writeLong((Long) value);
+                out.writeLong((Long) value);
             } else if (binding == Float.class || binding == float.class) {
-                raf.writeFloat((Float) value);
+                out.writeFloat((Float) value);
             } else if (binding == Double.class || binding == double.class) {
-                raf.writeDouble((Double) value);
+                out.writeDouble((Double) value);
             } else if (binding == String.class) {
                 if (isBigString(ad)) {
                     // if attribute descriptor marked as Big String
@@ -133,26 +152,26 @@ void writeAttribute(AttributeDescriptor ad, Object value) throws IOException {
                         values.add(strVal);
                     }
                     // write total parts
-                    raf.writeInt(values.size());
+                    out.writeInt(values.size());
                     // write every string chunk
                     for (String evalue : values) {
-                        raf.writeUTF(evalue);
+                        out.writeUTF(evalue);
                     }
                 } else {
                     // normal string encoding
-                    raf.writeUTF((String) value);
+                    out.writeUTF((String) value);
                 }
             } else if (binding == java.sql.Date.class
                     || binding == java.sql.Time.class
                     || binding == java.sql.Timestamp.class
                     || binding == java.util.Date.class) {
-                raf.writeLong(((Date) value).getTime());
+                out.writeLong(((Date) value).getTime());
             } else if (Geometry.class.isAssignableFrom(binding)) {
                 ByteArrayOutStream os = getOutStream(this.buffer);
                 writer.write((Geometry) value, os);
                 int len = os.getPosition();
-                raf.writeInt(len);
-                raf.write(os.getBuffer(), 0, len);
+                out.writeInt(len);
+                out.write(os.getBuffer(), 0, len);
             } else {
                 // can't optimize, in this case we use an ObjectOutputStream to write out
                 // full metadata
@@ -161,8 +180,8 @@ void writeAttribute(AttributeDescriptor ad, Object value) throws IOException {
                 oos.writeObject(value);
                 oos.flush();
                 byte[] bytes = bos.toByteArray();
-                raf.writeInt(bytes.length);
-                raf.write(bytes);
+                out.writeInt(bytes.length);
+                out.write(bytes);
             }
         }
     }
@@ -190,59 +209,64 @@ public SimpleFeature read() throws IOException {
 
     /** Reads the attributes. */
     Object readAttribute(AttributeDescriptor ad) throws IOException {
+        return readAttribute(raf, ad);
+    }
+
+    /** Reads an attribute value from the given input */
+    Object readAttribute(DataInput in, AttributeDescriptor ad) throws IOException {
         // See the comments in {@link MergeSortDumper#writeAttribute(RandomAccessFile,
         // AttributeDescriptor, Object)} to get an insight on why the method is built like this
-        boolean isNull = raf.readBoolean();
+        boolean isNull = in.readBoolean();
         if (isNull) {
             return null;
         } else {
             Class<?> binding = ad.getType().getBinding();
             if (binding == Boolean.class) {
-                return raf.readBoolean();
+                return in.readBoolean();
             } else if (binding == Byte.class || binding == byte.class) {
-                return raf.readByte();
+                return in.readByte();
             } else if (binding == Short.class || binding == short.class) {
-                return raf.readShort();
+                return in.readShort();
             } else if (binding == Integer.class || binding == int.class) {
-                return raf.readInt();
+                return in.readInt();
             } else if (binding == Long.class || binding == long.class) {
-                return raf.readLong();
+                return in.readLong();
             } else if (binding == Float.class || binding == float.class) {
-                return raf.readFloat();
+                return in.readFloat();
             } else if (binding == Double.class || binding == double.class) {
-                return raf.readDouble();
+                return in.readDouble();
             } else if (binding == String.class) {
                 if (isBigString(ad)) {
                     // read total parts
-                    int parts = raf.readInt();
+                    int parts = in.readInt();
                     // read every part
                     StringBuilder sb = new StringBuilder();
                     for (int i = 0; i < parts; i++) {
-                        sb.append(raf.readUTF());
+                        sb.append(in.readUTF());
                     }
                     return sb.toString();
                 } else {
-                    return raf.readUTF();
+                    return in.readUTF();
                 }
             } else if (binding == java.sql.Date.class) {
-                return new java.sql.Date(raf.readLong());
+                return new java.sql.Date(in.readLong());
             } else if (binding == java.sql.Time.class) {
-                return new java.sql.Time(raf.readLong());
+                return new java.sql.Time(in.readLong());
             } else if (binding == java.sql.Timestamp.class) {
-                return new java.sql.Timestamp(raf.readLong());
+                return new java.sql.Timestamp(in.readLong());
             } else if (binding == java.util.Date.class) {
-                return new java.util.Date(raf.readLong());
+                return new java.util.Date(in.readLong());
             } else if (Geometry.class.isAssignableFrom(binding)) {
-                int length = raf.readInt();
+                int length = in.readInt();
                 byte[] buffer = getByteBuffer(length);
-                raf.read(buffer, 0, length);
+                in.readFully(buffer, 0, length);
                 try {
                     return reader.read(getInStream(buffer));
                 } catch (ParseException e) {
                     throw new IOException("Failed to parse the geometry WKB", e);
                 }
             } else {
-                return readObject();
+                return readObject(in);
             }
         }
     }
@@ -276,15 +300,15 @@ private byte[] getByteBuffer(int length) {
     }
 
     @SuppressWarnings("BanSerializableRead")
-    private Object readObject() throws IOException {
+    private Object readObject(DataInput in) throws IOException {
         if ("false".equalsIgnoreCase(this.enableDeserialization)) {
             throw new IllegalStateException("Object deserialization is not allowed");
         } else if (!this.initialFileEmpty && !"true".equalsIgnoreCase(this.enableDeserialization)) {
             throw new IllegalStateException("Object deserialization is only allowed when created with an empty file");
         }
-        int length = raf.readInt();
+        int length = in.readInt();
         byte[] buffer = new byte[length];
-        raf.read(buffer);
+        in.readFully(buffer);
         ByteArrayInputStream bis = new ByteArrayInputStream(buffer);
         ObjectInputStream ois = new ObjectInputStream(bis);
         try {
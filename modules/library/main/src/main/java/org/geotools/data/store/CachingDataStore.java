@@ -0,0 +1,399 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.DelegatingFeatureWriter;
+import org.geotools.api.data.FeatureEvent;
+import org.geotools.api.data.FeatureListener;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.FeatureWriter;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.CollectionFeatureReader;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+
+/**
+ * Caches the results of bounding box queries against the wrapped store, for clients issuing many overlapping queries on
+ * the same feature types, such as tile and map servers.
+ *
+ * <p>Each feature type is split in a regular grid of cells covering its bounds. A query made of a bounding box on the
+ * default geometry, possibly combined with other filters, is answered by stitching the blocks of features of the cells
+ * it covers, each block being loaded from the wrapped store on first use. Blocks are keyed by the non-spatial part of
+ * the filter and by the selected attributes, and evicted least recently used first once the estimated size of the
+ * cached features exceeds the budget.
+ *
+ * <p>Changes made through this store drop the blocks of the modified feature type, right away in auto-commit mode, and
+ * on commit when made in a transaction, whichever way they are written, feature stores or feature writers. The feature
+ * events issued by the wrapped store drop them too. Changes made behind the back of the wrapped store are not noticed,
+ * use {@link #invalidate(String)} in that case. The grid relies on the bounds returned by the wrapped store covering
+ * all the features.
+ *
+ * <p>Queries that cannot be answered from the blocks (sorted or paged queries, reprojection, geometry generalization
+ * hints, queries without a bounding box, feature types without reliable identifiers) and queries in a transaction go to
+ * the wrapped store. Features are returned in grid order, and are shared among queries, they must not be modified.
+ */
+public class CachingDataStore extends DecoratingDataStore {
+
+    /** Number of cells per side of the grid laid over each feature type */
+    public static final int DEFAULT_GRID_SIZE = 16;
+
+    final FeatureBlockCache cache;
+
+    final int gridSize;
+
+    private final Map<String, TypeState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a caching store using a grid of {@link #DEFAULT_GRID_SIZE} cells per side
+     *
+     * @param delegate the wrapped store
+     * @param maxSize the estimated memory size, in bytes, the cached features are allowed to take
+     */
+    public CachingDataStore(DataStore delegate, long maxSize) {
+        this(delegate, maxSize, DEFAULT_GRID_SIZE);
+    }
+
+    /**
+     * Creates a caching store
+     *
+     * @param delegate the wrapped store
+     * @param maxSize the estimated memory size, in bytes, the cached features are allowed to take
+     * @param gridSize the number of cells per side of the grid laid over each feature type
+     */
+    public CachingDataStore(DataStore delegate, long maxSize, int gridSize) {
+        super(delegate);
+        if (gridSize < 1) throw new IllegalArgumentException("Grid size must be positive: " + gridSize);
+        this.cache = new FeatureBlockCache(maxSize);
+        this.gridSize = gridSize;
+    }
+
+    @Override
+    public SimpleFeatureSource getFeatureSource(String typeName) throws IOException {
+        return wrap(delegate.getFeatureSource(typeName));
+    }
+
+    @Override
+    public SimpleFeatureSource getFeatureSource(Name typeName) throws IOException {
+        return wrap(delegate.getFeatureSource(typeName));
+    }
+
+    private SimpleFeatureSource wrap(SimpleFeatureSource source) {
+        if (source instanceof SimpleFeatureStore store) {
+            return new CachingFeatureStore(this, store);
+        }
+        return new CachingFeatureSource(this, source);
+    }
+
+    @Override
+    public FeatureReader<SimpleFeatureType, SimpleFeature> getFeatureReader(Query query, Transaction transaction)
+            throws IOException {
+        if (transaction == Transaction.AUTO_COMMIT) {
+            CachingFeatureSource source = (CachingFeatureSource) getFeatureSource(query.getTypeName());
+            List<SimpleFeature> features = source.getCachedFeatures(query);
+            if (features != null) {
+                return new CollectionFeatureReader(features, source.getReturnedType(query));
+            }
+        }
+        return delegate.getFeatureReader(query, transaction);
+    }
+
+    @Override
+    public FeatureWriter<SimpleFeatureType, SimpleFeature> getFeatureWriter(
+            String typeName, Filter filter, Transaction transaction) throws IOException {
+        return track(typeName, transaction, delegate.getFeatureWriter(typeName, filter, transaction));
+    }
+
+    @Override
+    public FeatureWriter<SimpleFeatureType, SimpleFeature> getFeatureWriter(String typeName, Transaction transaction)
+            throws IOException {
+        return track(typeName, transaction, delegate.getFeatureWriter(typeName, transaction));
+    }
+
+    @Override
+    public FeatureWriter<SimpleFeatureType, SimpleFeature> getFeatureWriterAppend(
+            String typeName, Transaction transaction) throws IOException {
+        return track(typeName, transaction, delegate.getFeatureWriterAppend(typeName, transaction));
+    }
+
+    private FeatureWriter<SimpleFeatureType, SimpleFeature> track(
+            String typeName, Transaction transaction, FeatureWriter<SimpleFeatureType, SimpleFeature> writer) {
+        if (transaction == Transaction.AUTO_COMMIT) {
+            return new InvalidatingFeatureWriter(typeName, writer);
+        }
+        written(typeName, transaction);
+        return writer;
+    }
+
+    /**
+     * Records a change of the feature type: its blocks are dropped right away in auto-commit mode, on commit otherwise
+     */
+    void written(String typeName, Transaction transaction) {
+        if (transaction == Transaction.AUTO_COMMIT) {
+            invalidate(typeName);
+            return;
+        }
+        synchronized (transaction) {
+            CommitState state = (CommitState) transaction.getState(this);
+            if (state == null) {
+                state = new CommitState();
+                transaction.putState(this, state);
+            }
+            state.typeNames.add(typeName);
+        }
+    }
+
+    @Override
+    public void updateSchema(Name typeName, SimpleFeatureType featureType) throws IOException {
+        delegate.updateSchema(typeName, featureType);
+        invalidate(typeName.getLocalPart());
+    }
+
+    @Override
+    public void updateSchema(String typeName, SimpleFeatureType featureType) throws IOException {
+        delegate.updateSchema(typeName, featureType);
+        invalidate(typeName);
+    }
+
+    @Override
+    public void removeSchema(Name typeName) throws IOException {
+        delegate.removeSchema(typeName);
+        forget(typeName.getLocalPart());
+    }
+
+    @Override
+    public void removeSchema(String typeName) throws IOException {
+        delegate.removeSchema(typeName);
+        forget(typeName);
+    }
+
+    @Override
+    public void dispose() {
+        for (String typeName : states.keySet()) {
+            forget(typeName);
+        }
+        cache.clear();
+        delegate.dispose();
+    }
+
+    /** Drops the cached features of the given type, to be used when the data changed without the store knowing */
+    public void invalidate(String typeName) {
+        TypeState state = states.get(typeName);
+        if (state != null) {
+            state.invalidate();
+        } else {
+            cache.invalidate(typeName);
+        }
+    }
+
+    /** @return the estimated memory size of the cached features, in bytes */
+    public long getCacheSize() {
+        return cache.getSize();
+    }
+
+    private void forget(String typeName) {
+        TypeState state = states.remove(typeName);
+        if (state != null) {
+            state.invalidate();
+            state.source.removeFeatureListener(state);
+        }
+    }
+
+    TypeState getState(String typeName) throws IOException {
+        TypeState state = states.get(typeName);
+        if (state == null) {
+            TypeState created = new TypeState(typeName, delegate.getFeatureSource(typeName));
+            state = states.putIfAbsent(typeName, created);
+            if (state == null) {
+                created.source.addFeatureListener(created);
+                state = created;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Drops the blocks of the feature types written in a transaction when it commits. The wrapped store may apply the
+     * changes after this state commits, so blocks of these types are not cached again until the transaction is closed.
+     */
+    class CommitState implements Transaction.State {
+
+        final Set<String> typeNames = ConcurrentHashMap.newKeySet();
+
+        /** The types whose caching is suspended by a commit, guarded by this */
+        private final Set<TypeState> committed = new HashSet<>();
+
+        @Override
+        public synchronized void setTransaction(Transaction transaction) {
+            if (transaction == null) {
+                committed.forEach(TypeState::endCommit);
+                committed.clear();
+            }
+        }
+
+        @Override
+        public void addAuthorization(String authID) {}
+
+        @Override
+        public synchronized void commit() throws IOException {
+            for (String typeName : typeNames) {
+                TypeState state = getState(typeName);
+                if (committed.add(state)) {
+                    state.beginCommit();
+                } else {
+                    state.invalidate();
+                }
+            }
+        }
+
+        @Override
+        public void rollback() {}
+    }
+
+    /** Drops the blocks of the feature type after each change made by an auto-commit writer */
+    class InvalidatingFeatureWriter implements DelegatingFeatureWriter<SimpleFeatureType, SimpleFeature> {
+
+        final String typeName;
+
+        final FeatureWriter<SimpleFeatureType, SimpleFeature> writer;
+
+        InvalidatingFeatureWriter(String typeName, FeatureWriter<SimpleFeatureType, SimpleFeature> writer) {
+            this.typeName = typeName;
+            this.writer = writer;
+        }
+
+        @Override
+        public FeatureWriter<SimpleFeatureType, SimpleFeature> getDelegate() {
+            return writer;
+        }
+
+        @Override
+        public SimpleFeatureType getFeatureType() {
+            return writer.getFeatureType();
+        }
+
+        @Override
+        public SimpleFeature next() throws IOException {
+            return writer.next();
+        }
+
+        @Override
+        public void remove() throws IOException {
+            try {
+                writer.remove();
+            } finally {
+                invalidate(typeName);
+            }
+        }
+
+        @Override
+        public void write() throws IOException {
+            try {
+                writer.write();
+            } finally {
+                invalidate(typeName);
+            }
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            return writer.hasNext();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /** Grid bounds and invalidation of the blocks of a feature type, following the events of the wrapped store */
+    class TypeState implements FeatureListener {
+
+        final String typeName;
+
+        final SimpleFeatureSource source;
+
+        /** Incremented on each invalidation, blocks loaded before it are not cached, guarded by this */
+        private int generation;
+
+        /** The grid bounds, guarded by this */
+        private ReferencedEnvelope bounds;
+
+        /** Number of transactions that committed changes and are still open, guarded by this */
+        private int committing;
+
+        TypeState(String typeName, SimpleFeatureSource source) {
+            this.typeName = typeName;
+            this.source = source;
+        }
+
+        synchronized int getGeneration() {
+            return generation;
+        }
+
+        synchronized ReferencedEnvelope getBounds() throws IOException {
+            if (bounds == null) {
+                bounds = source.getBounds();
+            }
+            return bounds;
+        }
+
+        /** Caches a block unless the feature type changed since its loading started, or is being committed */
+        synchronized void put(FeatureBlockCache.Key key, FeatureBlockCache.Block block, int expectedGeneration) {
+            if (generation == expectedGeneration && committing == 0) {
+                cache.put(key, block);
+            }
+        }
+
+        synchronized void beginCommit() {
+            committing++;
+            invalidate();
+        }
+
+        synchronized void endCommit() {
+            committing--;
+            // loads started during the commit may miss part of it, they are not cached either
+            invalidate();
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            bounds = null;
+            cache.invalidate(typeName);
+        }
+
+        @Override
+        public void changed(FeatureEvent featureEvent) {
+            // rollbacks are only notified to the transaction that was rolled back
+            if (featureEvent.getType() != FeatureEvent.Type.ROLLBACK) {
+                invalidate();
+            }
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import java.awt.RenderingHints;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.data.DataAccess;
+import org.geotools.api.data.FeatureListener;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.QueryCapabilities;
+import org.geotools.api.data.ResourceInfo;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.spatial.BBOX;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.filter.visitor.SimplifyingFilterVisitor;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.CRS;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Feature source answering bounding box queries from the feature blocks cached by a {@link CachingDataStore}, see the
+ * store documentation for the queries that can be cached.
+ */
+public class CachingFeatureSource implements SimpleFeatureSource {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory(null);
+
+    /** Hints changing the returned geometries, queries using them are not cached */
+    static final Set<RenderingHints.Key> GEOMETRY_HINTS = Set.of(
+            Hints.GEOMETRY_DISTANCE,
+            Hints.GEOMETRY_GENERALIZATION,
+            Hints.GEOMETRY_SIMPLIFICATION,
+            Hints.SCREENMAP,
+            Hints.VIRTUAL_TABLE_PARAMETERS);
+
+    protected final CachingDataStore store;
+
+    protected final SimpleFeatureSource delegate;
+
+    public CachingFeatureSource(CachingDataStore store, SimpleFeatureSource delegate) {
+        this.store = store;
+        this.delegate = delegate;
+    }
+
+    /** @return the transaction used to read the features, only auto-commit reads use the cache */
+    public Transaction getTransaction() {
+        return Transaction.AUTO_COMMIT;
+    }
+
+    @Override
+    public Name getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public ResourceInfo getInfo() {
+        return delegate.getInfo();
+    }
+
+    @Override
+    public DataAccess<SimpleFeatureType, SimpleFeature> getDataStore() {
+        return store;
+    }
+
+    @Override
+    public QueryCapabilities getQueryCapabilities() {
+        return delegate.getQueryCapabilities();
+    }
+
+    @Override
+    public void addFeatureListener(FeatureListener listener) {
+        delegate.addFeatureListener(listener);
+    }
+
+    @Override
+    public void removeFeatureListener(FeatureListener listener) {
+        delegate.removeFeatureListener(listener);
+    }
+
+    @Override
+    public SimpleFeatureType getSchema() {
+        return delegate.getSchema();
+    }
+
+    @Override
+    public ReferencedEnvelope getBounds() throws IOException {
+        return delegate.getBounds();
+    }
+
+    @Override
+    public ReferencedEnvelope getBounds(Query query) throws IOException {
+        return delegate.getBounds(query);
+    }
+
+    @Override
+    public int getCount(Query query) throws IOException {
+        return delegate.getCount(query);
+    }
+
+    /**
+     * Hides the hints preventing the use of the cache, so that callers do not add them to the queries, and the
+     * {@link Hints#FEATURE_DETACHED} one, as the cached features are shared among the queries and must not be modified
+     */
+    @Override
+    public Set<RenderingHints.Key> getSupportedHints() {
+        Set<RenderingHints.Key> hints = new HashSet<>(delegate.getSupportedHints());
+        hints.removeAll(GEOMETRY_HINTS);
+        hints.remove(Hints.FEATURE_DETACHED);
+        return hints;
+    }
+
+    @Override
+    public SimpleFeatureCollection getFeatures() throws IOException {
+        return delegate.getFeatures();
+    }
+
+    @Override
+    public SimpleFeatureCollection getFeatures(Filter filter) throws IOException {
+        return getFeatures(new Query(getSchema().getTypeName(), filter));
+    }
+
+    @Override
+    public SimpleFeatureCollection getFeatures(Query query) throws IOException {
+        List<SimpleFeature> features = getCachedFeatures(query);
+        if (features == null) {
+            return delegate.getFeatures(query);
+        }
+        return new ListFeatureCollection(getReturnedType(query), features);
+    }
+
+    SimpleFeatureType getReturnedType(Query query) {
+        if (query.getPropertyNames() == Query.ALL_NAMES) {
+            return getSchema();
+        }
+        return SimpleFeatureTypeBuilder.retype(getSchema(), query.getPropertyNames());
+    }
+
+    /**
+     * Answers the query from the cached blocks, loading the missing ones
+     *
+     * @return the features, or null if the query cannot be answered from the cache
+     */
+    List<SimpleFeature> getCachedFeatures(Query query) throws IOException {
+        SimpleFeatureType schema = getSchema();
+        GeometryDescriptor geometry = schema.getGeometryDescriptor();
+        if (getTransaction() != Transaction.AUTO_COMMIT || geometry == null || !isCacheable(query, geometry)) {
+            return null;
+        }
+
+        // split the filter into the bounding box and the rest, normalized to be used as key
+        Filter filter = SimplifyingFilterVisitor.simplify(query.getFilter());
+        List<Filter> children = filter instanceof And and ? and.getChildren() : List.of(filter);
+        BBOX bbox = null;
+        List<Filter> others = new ArrayList<>();
+        for (Filter child : children) {
+            if (bbox == null && isGridFilter(child, geometry)) {
+                bbox = (BBOX) child;
+            } else {
+                others.add(child);
+            }
+        }
+        if (bbox == null) {
+            return null;
+        }
+        others.sort(Comparator.comparing(Filter::toString));
+        Filter residual = others.isEmpty() ? Filter.INCLUDE : others.size() == 1 ? others.get(0) : FF.and(others);
+
+        // the generation is read before the bounds, so that blocks loaded with outdated bounds are not cached
+        CachingDataStore.TypeState state = store.getState(schema.getTypeName());
+        int generation = state.getGeneration();
+        ReferencedEnvelope bounds = state.getBounds();
+        if (bounds == null) {
+            return null;
+        }
+        Envelope requested = new Envelope(
+                bbox.getBounds().getMinX(),
+                bbox.getBounds().getMaxX(),
+                bbox.getBounds().getMinY(),
+                bbox.getBounds().getMaxY());
+        Envelope covered = requested.intersection(bounds);
+        List<SimpleFeature> result = new ArrayList<>();
+        if (covered.isNull()) {
+            return result;
+        }
+
+        int n = store.gridSize;
+        int col0 = lowCell(covered.getMinX(), bounds.getMinX(), bounds.getWidth(), n);
+        int col1 = highCell(covered.getMaxX(), bounds.getMinX(), bounds.getWidth(), n);
+        int row0 = lowCell(covered.getMinY(), bounds.getMinY(), bounds.getHeight(), n);
+        int row1 = highCell(covered.getMaxY(), bounds.getMinY(), bounds.getHeight(), n);
+        List<String> properties =
+                query.getPropertyNames() == Query.ALL_NAMES ? null : Arrays.asList(query.getPropertyNames());
+
+        // look up the covered cells, a single oversized one sends the whole query to the wrapped store
+        FeatureBlockCache.Block[][] blocks = new FeatureBlockCache.Block[row1 - row0 + 1][col1 - col0 + 1];
+        FeatureBlockCache.Key[][] keys = new FeatureBlockCache.Key[row1 - row0 + 1][col1 - col0 + 1];
+        int missCol0 = col1, missCol1 = col0 - 1, missRow0 = row1, missRow1 = row0 - 1;
+        for (int row = row0; row <= row1; row++) {
+            for (int col = col0; col <= col1; col++) {
+                FeatureBlockCache.Key key =
+                        new FeatureBlockCache.Key(schema.getTypeName(), residual, properties, col, row);
+                FeatureBlockCache.Block block = store.cache.get(key);
+                if (block == FeatureBlockCache.Block.OVERSIZED) {
+                    return null;
+                }
+                keys[row - row0][col - col0] = key;
+                blocks[row - row0][col - col0] = block;
+                if (block == null) {
+                    missCol0 = Math.min(missCol0, col);
+                    missCol1 = Math.max(missCol1, col);
+                    missRow0 = Math.min(missRow0, row);
+                    missRow1 = Math.max(missRow1, row);
+                }
+            }
+        }
+        if (missCol1 >= missCol0) {
+            loadBlocks(
+                    state,
+                    generation,
+                    bounds,
+                    residual,
+                    properties,
+                    query.getHints(),
+                    keys,
+                    blocks,
+                    col0,
+                    row0,
+                    new int[] {missCol0, missCol1, missRow0, missRow1});
+        }
+
+        // features spanning several cells are found in each of them
+        Set<String> ids = new HashSet<>();
+        int max = query.getMaxFeatures();
+        for (FeatureBlockCache.Block[] blockRow : blocks) {
+            for (FeatureBlockCache.Block block : blockRow) {
+                for (SimpleFeature feature : block.features) {
+                    if (bbox.evaluate(feature) && ids.add(feature.getID())) {
+                        result.add(feature);
+                        if (result.size() >= max) return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the missing blocks with a single query covering them, distributing the features among the cells they
+     * intersect, rather than issuing one query per cell
+     *
+     * @param missing the first and last column, first and last row of the rectangle of cells containing the missing
+     *     blocks
+     */
+    private void loadBlocks(
+            CachingDataStore.TypeState state,
+            int generation,
+            ReferencedEnvelope bounds,
+            Filter residual,
+            List<String> properties,
+            Hints hints,
+            FeatureBlockCache.Key[][] keys,
+            FeatureBlockCache.Block[][] blocks,
+            int col0,
+            int row0,
+            int[] missing)
+            throws IOException {
+        int n = store.gridSize;
+        String geometryName = getSchema().getGeometryDescriptor().getLocalName();
+        int missCol0 = missing[0], missCol1 = missing[1], missRow0 = missing[2], missRow1 = missing[3];
+        int cols = missCol1 - missCol0 + 1;
+        int rows = missRow1 - missRow0 + 1;
+        Filter[] cellFilters = new Filter[rows * cols];
+        List<List<SimpleFeature>> cellFeatures = new ArrayList<>(rows * cols);
+        long[] cellSizes = new long[rows * cols];
+        for (int row = missRow0; row <= missRow1; row++) {
+            for (int col = missCol0; col <= missCol1; col++) {
+                boolean isMissing = blocks[row - row0][col - col0] == null;
+                cellFilters[(row - missRow0) * cols + col - missCol0] =
+                        isMissing ? FF.bbox(FF.property(geometryName), cell(bounds, col, row)) : null;
+                cellFeatures.add(isMissing ? new ArrayList<>() : null);
+            }
+        }
+
+        ReferencedEnvelope area = new ReferencedEnvelope(
+                cellMin(missCol0, bounds.getMinX(), bounds.getWidth(), n),
+                cellMin(missCol1 + 1, bounds.getMinX(), bounds.getWidth(), n),
+                cellMin(missRow0, bounds.getMinY(), bounds.getHeight(), n),
+                cellMin(missRow1 + 1, bounds.getMinY(), bounds.getHeight(), n),
+                bounds.getCoordinateReferenceSystem());
+        Filter areaFilter = FF.bbox(FF.property(geometryName), area);
+        Query areaQuery = new Query(
+                getSchema().getTypeName(),
+                residual == Filter.INCLUDE ? areaFilter : FF.and(residual, areaFilter),
+                properties == null ? Query.ALL_NAMES : properties.toArray(new String[properties.size()]));
+        areaQuery.setHints(new Hints(hints));
+
+        try (SimpleFeatureIterator it = delegate.getFeatures(areaQuery).features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                BoundingBox envelope = feature.getBounds();
+                if (envelope == null || envelope.isEmpty()) continue;
+                int fromCol = Math.max(missCol0, lowCell(envelope.getMinX(), bounds.getMinX(), bounds.getWidth(), n));
+                int toCol = Math.min(missCol1, highCell(envelope.getMaxX(), bounds.getMinX(), bounds.getWidth(), n));
+                int fromRow = Math.max(missRow0, lowCell(envelope.getMinY(), bounds.getMinY(), bounds.getHeight(), n));
+                int toRow = Math.min(missRow1, highCell(envelope.getMaxY(), bounds.getMinY(), bounds.getHeight(), n));
+                long size = -1;
+                for (int row = fromRow; row <= toRow; row++) {
+                    for (int col = fromCol; col <= toCol; col++) {
+                        int cell = (row - missRow0) * cols + col - missCol0;
+                        // same test as a query on the cell alone would have made
+                        if (cellFilters[cell] != null && cellFilters[cell].evaluate(feature)) {
+                            if (size < 0) size = FeatureBlockCache.estimateSize(feature);
+                            cellFeatures.get(cell).add(feature);
+                            cellSizes[cell] += size;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int row = missRow0; row <= missRow1; row++) {
+            for (int col = missCol0; col <= missCol1; col++) {
+                int cell = (row - missRow0) * cols + col - missCol0;
+                if (cellFilters[cell] != null) {
+                    FeatureBlockCache.Block block =
+                            new FeatureBlockCache.Block(cellFeatures.get(cell), cellSizes[cell]);
+                    blocks[row - row0][col - col0] = block;
+                    state.put(keys[row - row0][col - col0], block, generation);
+                }
+            }
+        }
+    }
+
+    private ReferencedEnvelope cell(ReferencedEnvelope bounds, int col, int row) {
+        int n = store.gridSize;
+        return new ReferencedEnvelope(
+                cellMin(col, bounds.getMinX(), bounds.getWidth(), n),
+                cellMin(col + 1, bounds.getMinX(), bounds.getWidth(), n),
+                cellMin(row, bounds.getMinY(), bounds.getHeight(), n),
+                cellMin(row + 1, bounds.getMinY(), bounds.getHeight(), n),
+                bounds.getCoordinateReferenceSystem());
+    }
+
+    /** @return the start of a cell, the end of the last cell being the end of the span */
+    static double cellMin(int cell, double min, double span, int n) {
+        return cell >= n ? min + span : min + span * cell / n;
+    }
+
+    /** @return the first cell containing the ordinate, using the same arithmetic as {@link #cellMin} */
+    static int lowCell(double ordinate, double min, double span, int n) {
+        int cell = span > 0 ? Math.min(n - 1, Math.max(0, (int) Math.floor((ordinate - min) / span * n))) : 0;
+        while (cell > 0 && cellMin(cell, min, span, n) > ordinate) cell--;
+        return cell;
+    }
+
+    /** @return the last cell containing the ordinate, using the same arithmetic as {@link #cellMin} */
+    static int highCell(double ordinate, double min, double span, int n) {
+        int cell = span > 0 ? Math.min(n - 1, Math.max(0, (int) Math.floor((ordinate - min) / span * n))) : 0;
+        while (cell < n - 1 && cellMin(cell + 1, min, span, n) < ordinate) cell++;
+        return cell;
+    }
+
+    /** Queries with a different output than the wrapped store would return for the features of a cell */
+    boolean isCacheable(Query query, GeometryDescriptor geometry) {
+        if ((query.getSortBy() != null && query.getSortBy().length > 0)
+                || query.getStartIndex() != null
+                || query.getCoordinateSystem() != null
+                || query.getCoordinateSystemReproject() != null
+                || !query.getJoins().isEmpty()) {
+            return false;
+        }
+        for (RenderingHints.Key key : GEOMETRY_HINTS) {
+            if (query.getHints().containsKey(key)) return false;
+        }
+        // the geometry is needed to stitch the cells
+        if (query.getPropertyNames() != Query.ALL_NAMES
+                && !Arrays.asList(query.getPropertyNames()).contains(geometry.getLocalName())) {
+            return false;
+        }
+        // and the feature identifiers to remove the duplicates
+        return getQueryCapabilities().isReliableFIDSupported();
+    }
+
+    /** A bounding box on the default geometry, in the same CRS */
+    static boolean isGridFilter(Filter filter, GeometryDescriptor geometry) {
+        if (!(filter instanceof BBOX bbox)
+                || !(bbox.getExpression1() instanceof PropertyName name)
+                || !(bbox.getExpression2() instanceof Literal)) {
+            return false;
+        }
+        String propertyName = name.getPropertyName();
+        if (propertyName != null && !propertyName.isEmpty() && !propertyName.equals(geometry.getLocalName())) {
+            return false;
+        }
+        CoordinateReferenceSystem crs = bbox.getBounds().getCoordinateReferenceSystem();
+        CoordinateReferenceSystem nativeCrs = geometry.getCoordinateReferenceSystem();
+        return crs == null || nativeCrs == null || CRS.equalsIgnoreMetadata(crs, nativeCrs);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import java.io.IOException;
+import java.util.List;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.identity.FeatureId;
+import org.geotools.feature.FeatureCollection;
+
+/**
+ * Feature store returned by {@link CachingDataStore} for writable feature types. Writes go to the wrapped store and
+ * invalidate the cache, right away in auto-commit mode, on commit otherwise. Reads use the cache only when working in
+ * auto-commit mode.
+ */
+public class CachingFeatureStore extends CachingFeatureSource implements SimpleFeatureStore {
+
+    public CachingFeatureStore(CachingDataStore store, SimpleFeatureStore delegate) {
+        super(store, delegate);
+    }
+
+    SimpleFeatureStore getDelegateStore() {
+        return (SimpleFeatureStore) delegate;
+    }
+
+    @Override
+    public Transaction getTransaction() {
+        return getDelegateStore().getTransaction();
+    }
+
+    @Override
+    public void setTransaction(Transaction transaction) {
+        getDelegateStore().setTransaction(transaction);
+    }
+
+    /** Invalidates the cache even if the write failed, it may have been partially applied */
+    private void written() {
+        store.written(getSchema().getTypeName(), getTransaction());
+    }
+
+    @Override
+    public List<FeatureId> addFeatures(FeatureCollection<SimpleFeatureType, SimpleFeature> featureCollection)
+            throws IOException {
+        try {
+            return getDelegateStore().addFeatures(featureCollection);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void removeFeatures(Filter filter) throws IOException {
+        try {
+            getDelegateStore().removeFeatures(filter);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void modifyFeatures(Name[] attributeNames, Object[] attributeValues, Filter filter) throws IOException {
+        try {
+            getDelegateStore().modifyFeatures(attributeNames, attributeValues, filter);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void modifyFeatures(Name attributeName, Object attributeValue, Filter filter) throws IOException {
+        try {
+            getDelegateStore().modifyFeatures(attributeName, attributeValue, filter);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void modifyFeatures(String name, Object attributeValue, Filter filter) throws IOException {
+        try {
+            getDelegateStore().modifyFeatures(name, attributeValue, filter);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void modifyFeatures(String[] names, Object[] attributeValues, Filter filter) throws IOException {
+        try {
+            getDelegateStore().modifyFeatures(names, attributeValues, filter);
+        } finally {
+            written();
+        }
+    }
+
+    @Override
+    public void setFeatures(FeatureReader<SimpleFeatureType, SimpleFeature> reader) throws IOException {
+        try {
+            getDelegateStore().setFeatures(reader);
+        } finally {
+            written();
+        }
+    }
+}
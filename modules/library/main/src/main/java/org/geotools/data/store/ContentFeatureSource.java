@@ -30,6 +30,8 @@
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.FeatureListener;
 import org.geotools.api.data.FeatureLock;
 import org.geotools.api.data.FeatureLockException;
@@ -54,9 +56,11 @@
 import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.geometry.BoundingBox;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.util.ProgressListener;
 import org.geotools.data.DataUtilities;
 import org.geotools.data.Diff;
 import org.geotools.data.DiffFeatureReader;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.FilteringFeatureReader;
 import org.geotools.data.InProcessLockingManager;
 import org.geotools.data.MaxFeatureReader;
@@ -70,6 +74,7 @@
 import org.geotools.feature.FeatureTypes;
 import org.geotools.feature.SchemaException;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.feature.visitor.FeatureBatchVisitor;
 import org.geotools.filter.function.Collection_AverageFunction;
 import org.geotools.filter.function.Collection_BoundsFunction;
 import org.geotools.filter.function.Collection_MaxFunction;
@@ -634,7 +639,8 @@ && canRetype(query)
         // filtering
         if (!canFilter(query)) {
             if (query.getFilter() != null && query.getFilter() != Filter.INCLUDE) {
-                reader = new FilteringFeatureReader<>(reader, query.getFilter());
+                boolean detached = getSupportedHints().contains(Hints.FEATURE_DETACHED);
+                reader = new FilteringFeatureReader<>(reader, query.getFilter(), detached);
             }
         }
 
@@ -718,6 +724,43 @@ && canRetype(query)
         return reader;
     }
 
+    /**
+     * Returns a batch reader for the features specified by a query.
+     *
+     * <p>The batches are read natively when the subclass provides a {@link #getBatchReaderInternal(Query, int)} able to
+     * handle the whole query, otherwise they are gathered from {@link #getReader(Query)}.
+     */
+    @Override
+    public FeatureBatchReader getBatchReader(Query query, int batchSize) throws IOException {
+        FeatureBatchReader reader = getNativeBatchReader(query, batchSize);
+        if (reader != null) {
+            return reader;
+        }
+        return new FeatureReaderBatchAdapter(getReader(query), batchSize);
+    }
+
+    /**
+     * Returns the batch reader of the subclass, or null when the subclass cannot read batches or the query needs one of
+     * the wrappers applied by {@link #getReader(Query)}.
+     */
+    private FeatureBatchReader getNativeBatchReader(Query query, int batchSize) throws IOException {
+        query = joinQuery(query);
+        query = resolvePropertyNames(query);
+
+        if (!query.getJoins().isEmpty()
+                || query.getStartIndex() != null
+                || (!canTransact() && transaction != null && transaction != Transaction.AUTO_COMMIT)
+                || (!canReproject()
+                        && (query.getCoordinateSystem() != null || query.getCoordinateSystemReproject() != null))
+                || (!canFilter(query) && query.getFilter() != null && query.getFilter() != Filter.INCLUDE)
+                || (!canRetype(query) && query.getPropertyNames() != Query.ALL_NAMES)
+                || (!canSort(query) && query.getSortBy() != null && query.getSortBy().length != 0)
+                || (!canLimit(query) && query.getMaxFeatures() != -1 && query.getMaxFeatures() < Integer.MAX_VALUE)) {
+            return null;
+        }
+        return getBatchReaderInternal(query, batchSize);
+    }
+
     /** Returns all the properties used in the sortBy (excluding primary keys and the like, e.g., natural sorting) */
     private Set<String> getSortPropertyNames(SortBy... sortBy) {
         Set<String> result = new HashSet<>();
@@ -771,6 +814,15 @@ public void accepts(
             return;
         }
 
+        // batch aware visitors can go through the columns when the subclass reads batches
+        if (visitor instanceof FeatureBatchVisitor batchVisitor) {
+            FeatureBatchReader reader = getNativeBatchReader(query, FeatureBatchReader.DEFAULT_BATCH_SIZE);
+            if (reader != null) {
+                visitBatches(query, reader, batchVisitor, progress);
+                return;
+            }
+        }
+
         // subclass could not handle, resort to manually walkign through
         try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = getReader(query)) {
             float size = progress instanceof NullProgressListener ? 0.0f : (float) getCount(query);
@@ -800,6 +852,33 @@ public void accepts(
         }
     }
 
+    private void visitBatches(
+            Query query, FeatureBatchReader reader, FeatureBatchVisitor visitor, ProgressListener progress)
+            throws IOException {
+        try (reader) {
+            float size = progress instanceof NullProgressListener ? 0.0f : (float) getCount(query);
+            float position = 0;
+            progress.started();
+            while (reader.hasNext()) {
+                if (size > 0) progress.progress(position / size);
+                try {
+                    FeatureBatch batch = reader.next();
+                    position += batch.size();
+                    visitor.visit(batch);
+                } catch (IOException erp) {
+                    progress.exceptionOccurred(erp);
+                    throw erp;
+                } catch (Exception unexpected) {
+                    progress.exceptionOccurred(unexpected);
+                    throw new IOException(
+                            "Problem visiting " + query.getTypeName() + " visiting batch:" + unexpected, unexpected);
+                }
+            }
+        } finally {
+            progress.complete();
+        }
+    }
+
     /**
      * Subclass method which allows subclasses to natively handle a visitor.
      *
@@ -846,6 +925,22 @@ protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOEx
     protected abstract FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query)
             throws IOException;
 
+    /**
+     * Subclass method for returning a native batch reader from the datastore.
+     *
+     * <p>The method is called only for queries the subclass fully handles according to the flags listed in
+     * {@link #getReaderInternal(Query)}, the batches must contain exactly the features {@link #getReader(Query)} would
+     * return, in the same order. The default implementation returns null, in which case the batches are gathered from
+     * the feature reader.
+     *
+     * @param query The query being made
+     * @param batchSize The maximum number of rows of each batch
+     * @return A batch reader, or null if the subclass cannot read batches for the query
+     */
+    protected FeatureBatchReader getBatchReaderInternal(Query query, int batchSize) throws IOException {
+        return null;
+    }
+
     /**
      * Determines if the datastore can natively perform reprojection.
      *
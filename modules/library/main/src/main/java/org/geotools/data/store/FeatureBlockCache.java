@@ -0,0 +1,179 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Least recently used cache of feature blocks, each block holding the features of a feature type matching a non-spatial
+ * filter in a cell of a regular grid. The cache is bounded by the estimated memory size of the features it holds. A
+ * block larger than the whole budget is replaced by the {@link Block#OVERSIZED} marker, so that the queries covering
+ * its cell go to the wrapped store instead of loading it again and again.
+ */
+class FeatureBlockCache {
+
+    /** Estimated overhead of a feature, its attribute array and user data */
+    static final int FEATURE_OVERHEAD = 96;
+
+    /** Estimated overhead of an attribute value, or a geometry object */
+    static final int VALUE_OVERHEAD = 24;
+
+    /** Estimated size of a coordinate, between a packed XY pair and a Coordinate object */
+    static final int COORDINATE_SIZE = 32;
+
+    /** Identifies a block, a cell of a feature type for a given non-spatial filter and attribute selection */
+    static class Key {
+        final String typeName;
+
+        final Filter filter;
+
+        final List<String> properties;
+
+        final int col;
+
+        final int row;
+
+        Key(String typeName, Filter filter, List<String> properties, int col, int row) {
+            this.typeName = typeName;
+            this.filter = filter;
+            this.properties = properties;
+            this.col = col;
+            this.row = row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return col == other.col
+                    && row == other.row
+                    && typeName.equals(other.typeName)
+                    && filter.equals(other.filter)
+                    && Objects.equals(properties, other.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(typeName, filter, properties, col, row);
+        }
+    }
+
+    /** The features of a cell, with their estimated memory size */
+    static class Block {
+        /** Marks a cell whose features do not fit in the cache */
+        static final Block OVERSIZED = new Block(List.of(), 0);
+
+        final List<SimpleFeature> features;
+
+        final long size;
+
+        Block(List<SimpleFeature> features, long size) {
+            this.features = features;
+            this.size = size;
+        }
+    }
+
+    private final long maxSize;
+
+    private long size;
+
+    private final LinkedHashMap<Key, Block> blocks = new LinkedHashMap<>(16, 0.75f, true);
+
+    FeatureBlockCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    synchronized Block get(Key key) {
+        return blocks.get(key);
+    }
+
+    /**
+     * Adds a block, evicting the least recently used ones to stay within the budget, or the {@link Block#OVERSIZED}
+     * marker if it does not fit in the budget alone
+     */
+    synchronized void put(Key key, Block block) {
+        if (block.size > maxSize) block = Block.OVERSIZED;
+        Block previous = blocks.put(key, block);
+        if (previous != null) size -= previous.size;
+        size += block.size;
+        Iterator<Block> it = blocks.values().iterator();
+        while (size > maxSize && it.hasNext()) {
+            size -= it.next().size;
+            it.remove();
+        }
+    }
+
+    /** Drops all the blocks of a feature type */
+    synchronized void invalidate(String typeName) {
+        Iterator<Map.Entry<Key, Block>> it = blocks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Block> entry = it.next();
+            if (entry.getKey().typeName.equals(typeName)) {
+                size -= entry.getValue().size;
+                it.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        blocks.clear();
+        size = 0;
+    }
+
+    /** @return the estimated memory size of the cached features */
+    synchronized long getSize() {
+        return size;
+    }
+
+    synchronized int getBlockCount() {
+        return blocks.size();
+    }
+
+    /** @return a rough estimate of the memory used by the feature */
+    static long estimateSize(SimpleFeature feature) {
+        long result = FEATURE_OVERHEAD + 2L * feature.getID().length();
+        for (Object value : feature.getAttributes()) {
+            result += estimateSize(value);
+        }
+        return result;
+    }
+
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof Geometry g) {
+            // coordinates are the bulk of it, plus one object per component
+            return VALUE_OVERHEAD * (1L + g.getNumGeometries()) + COORDINATE_SIZE * (long) g.getNumPoints();
+        } else if (value instanceof CharSequence s) {
+            return VALUE_OVERHEAD + 2L * s.length();
+        } else if (value instanceof Collection<?> c) {
+            long result = VALUE_OVERHEAD;
+            for (Object o : c) result += estimateSize(o);
+            return result;
+        }
+        return VALUE_OVERHEAD;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.util;
+
+/**
+ * Positions along a Hilbert space filling curve covering a 2^16 by 2^16 grid. Sorting items by the position of their
+ * cell keeps the ones close in space close in the sorted order, which is used to pack spatial indexes.
+ *
+ * <p>The curve starts at the origin and visits each power of two square anchored there before leaving it, so cells with
+ * both coordinates below 2^n get positions below 2^(2n). For example, coordinates up to {@code (1 << 15) - 1} result in
+ * non negative positions, that can be shifted in the upper half of a long and still sort as signed values.
+ */
+public class HilbertCurve {
+
+    /** The largest cell coordinate, on both axes */
+    public static final int MAX = (1 << 16) - 1;
+
+    private HilbertCurve() {}
+
+    /**
+     * Returns the position of the cell (x, y) along the curve, computed without branches or loops. The result is to be
+     * considered as an unsigned integer, it's negative for some of the cells having a coordinate above 2^15.
+     *
+     * @param x the cell column, between 0 and {@link #MAX}
+     * @param y the cell row, between 0 and {@link #MAX}
+     */
+    public static int index(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int aa = a | (b >> 1);
+        int bb = (a >> 1) ^ a;
+        int cc = ((c >> 1) ^ (b & (d >> 1))) ^ c;
+        int dd = ((a & (c >> 1)) ^ (d >> 1)) ^ d;
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >> 2)) ^ (b & (b >> 2));
+        bb = (a & (b >> 2)) ^ (b & ((a ^ b) >> 2));
+        cc ^= (a & (c >> 2)) ^ (b & (d >> 2));
+        dd ^= (b & (c >> 2)) ^ ((a ^ b) & (d >> 2));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        aa = (a & (a >> 4)) ^ (b & (b >> 4));
+        bb = (a & (b >> 4)) ^ (b & ((a ^ b) >> 4));
+        cc ^= (a & (c >> 4)) ^ (b & (d >> 4));
+        dd ^= (b & (c >> 4)) ^ ((a ^ b) & (d >> 4));
+
+        a = aa;
+        b = bb;
+        c = cc;
+        d = dd;
+        cc ^= (a & (c >> 8)) ^ (b & (d >> 8));
+        dd ^= (b & (c >> 8)) ^ ((a ^ b) & (d >> 8));
+
+        a = cc ^ (cc >> 1);
+        b = dd ^ (dd >> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+        return (interleave(i1) << 1) | interleave(i0);
+    }
+
+    /** Spreads the lower 16 bits of the value on the even bits of the result */
+    private static int interleave(int x) {
+        x = (x | (x << 8)) & 0x00FF00FF;
+        x = (x | (x << 4)) & 0x0F0F0F0F;
+        x = (x | (x << 2)) & 0x33333333;
+        return (x | (x << 1)) & 0x55555555;
+    }
+}
@@ -16,6 +16,9 @@
  */
 package org.geotools.data.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.geometry.jts.JTS;
@@ -46,12 +49,27 @@
  *
  * When checkAndSet returns false the geometry sits in a pixel that has been already populated and can be skipped.
  *
+ * <p>The bitmap is split in square tiles that are allocated only when a pixel inside them is set, so that the memory
+ * used depends on the area actually touched, rather than on the full size of the screen (large meta-tiles are often
+ * mostly empty, or only partially covered by the data). Pixels are set atomically, so the same screenmap can be safely
+ * shared by several threads reading the same layer.
+ *
  * @author jeichar
  * @author Andrea Aime - OpenGeo
  */
 public class ScreenMap {
 
-    double[] point = new double[2];
+    /** Tiles are squares with a side of 2^TILE_SHIFT pixels */
+    static final int TILE_SHIFT = 6;
+
+    static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    static final int TILE_MASK = TILE_SIZE - 1;
+
+    /** Number of longs needed to store a tile */
+    static final int TILE_WORDS = TILE_SIZE * TILE_SIZE / Long.SIZE;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
 
     int width;
 
@@ -61,13 +79,13 @@ public class ScreenMap {
 
     private int miny;
 
-    MathTransform mt;
+    volatile MathTransform mt;
 
-    double spanX;
+    volatile double spanX;
 
-    double spanY;
+    volatile double spanY;
 
-    BitFieldMatrix bitfield;
+    volatile TiledBitField bitfield;
 
     public ScreenMap(int x, int y, int width, int height, MathTransform mt) {
         this.width = width;
@@ -78,13 +96,20 @@ public ScreenMap(int x, int y, int width, int height, MathTransform mt) {
         this.mt = mt;
     }
 
-    /** Returns the bitfield, azyly instantiating it as needed */
-    private BitFieldMatrix getBitField() {
-        if (this.bitfield == null) {
-            this.bitfield = new BitFieldMatrix();
+    /** Returns the bitfield, lazily instantiating it as needed */
+    private TiledBitField getBitField() {
+        TiledBitField result = bitfield;
+        if (result == null) {
+            synchronized (this) {
+                result = bitfield;
+                if (result == null) {
+                    result = new TiledBitField();
+                    bitfield = result;
+                }
+            }
         }
 
-        return bitfield;
+        return result;
     }
 
     public ScreenMap(ScreenMap original, int expandBy) {
@@ -108,8 +133,7 @@ public boolean checkAndSet(Envelope envelope) throws TransformException {
             return false;
         }
 
-        point[0] = (envelope.getMinX() + envelope.getMaxX()) / 2;
-        point[1] = (envelope.getMinY() + envelope.getMaxY()) / 2;
+        double[] point = {(envelope.getMinX() + envelope.getMaxX()) / 2, (envelope.getMinY() + envelope.getMaxY()) / 2};
         mt.transform(point, 0, point, 0, 1);
         int r = (int) point[0];
         int c = (int) point[1];
@@ -138,8 +162,7 @@ public boolean get(Envelope envelope) throws TransformException {
             return false;
         }
 
-        point[0] = (envelope.getMinX() + envelope.getMaxX()) / 2;
-        point[1] = (envelope.getMinY() + envelope.getMaxY()) / 2;
+        double[] point = {(envelope.getMinX() + envelope.getMaxX()) / 2, (envelope.getMinY() + envelope.getMaxY()) / 2};
         mt.transform(point, 0, point, 0, 1);
         int r = (int) point[0];
         int c = (int) point[1];
@@ -148,7 +171,9 @@ public boolean get(Envelope envelope) throws TransformException {
 
     /** Returns true if the pixel at location x,y is set or out of bounds. */
     public boolean get(int x, int y) {
-        return getBitField().get(x, y);
+        // no need to allocate the bitfield just to find out nothing is set
+        TiledBitField field = bitfield;
+        return field != null && field.get(x, y);
     }
 
     /**
@@ -228,78 +253,89 @@ public void set(int x, int y, boolean value) {
     }
 
     /**
-     * Incapsulates the bitfield representation and access logic, allows for lazy creation of the bitfield at the first
-     * time we actually need to use it (only fairly zoomed in requestes not pixel might ever be set)
+     * Incapsulates the bitfield representation and access logic. The bitfield is split in tiles, which are allocated at
+     * the first time a pixel inside them is set (only fairly zoomed in requests might not set any pixel at all), and
+     * whose bits are accessed atomically.
      */
-    final class BitFieldMatrix {
-        int[] pixels;
+    final class TiledBitField {
+        final int tilesX;
+
+        final AtomicReferenceArray<long[]> tiles;
 
-        public BitFieldMatrix() {
-            int arraySize = width * height / 32 + 1;
-            pixels = new int[arraySize];
+        TiledBitField() {
+            tilesX = (width + TILE_MASK) >> TILE_SHIFT;
+            int tilesY = (height + TILE_MASK) >> TILE_SHIFT;
+            tiles = new AtomicReferenceArray<>(Math.max(0, tilesX * tilesY));
         }
 
         public boolean checkAndSet(int x, int y) {
             // if it's outside of the screenmap we cannot say whether it's busy or not, and
             // we cannot skip it because rendering or geometry transformation might put the geometry
             // right in the map
-            if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return false;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1 << offset;
-
-            try {
-                if ((pixels[index] & mask) != 0) {
-                    return true;
-                } else {
-                    pixels[index] = pixels[index] | mask;
-                    return false;
-                }
-            } catch (Exception e) {
-                return true;
-            }
+            if (isOutside(x, y)) return false;
+            int dx = x - minx;
+            int dy = y - miny;
+            long[] tile = getTile(dx, dy, true);
+            int bit = bit(dx, dy);
+            long mask = 1L << (bit & 63);
+            long previous = (long) WORDS.getAndBitwiseOr(tile, bit >>> 6, mask);
+            return (previous & mask) != 0;
         }
 
         public boolean get(int x, int y) {
             // if it's outside of the screenmap we cannot say whether it's busy or not, and
             // we cannot skip it because rendering or geometry transformation might put the geometry
             // right in the map
-            if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return false;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1 << offset;
-
-            try {
-                return (pixels[index] & mask) != 0 ? true : false;
-            } catch (Exception e) {
-
-                return true;
+            if (isOutside(x, y)) return false;
+            int dx = x - minx;
+            int dy = y - miny;
+            long[] tile = getTile(dx, dy, false);
+            if (tile == null) {
+                return false;
             }
+            int bit = bit(dx, dy);
+            return ((long) WORDS.getVolatile(tile, bit >>> 6) & (1L << (bit & 63))) != 0;
         }
 
         public void set(int x, int y, boolean value) {
-            if (x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1) return;
-            int bit = bit(x - minx, y - miny);
-            int index = bit / 32;
-            int offset = bit % 32;
-            int mask = 1;
-            mask = mask << offset;
-
+            if (isOutside(x, y)) return;
+            int dx = x - minx;
+            int dy = y - miny;
+            long[] tile = getTile(dx, dy, value);
+            if (tile == null) {
+                // clearing a pixel in a tile that was never touched
+                return;
+            }
+            int bit = bit(dx, dy);
+            long mask = 1L << (bit & 63);
             if (value) {
-                pixels[index] = pixels[index] | mask;
+                WORDS.getAndBitwiseOr(tile, bit >>> 6, mask);
             } else {
-                int tmp = pixels[index];
-                tmp = ~tmp;
-                tmp = tmp | mask;
-                tmp = ~tmp;
-                pixels[index] = tmp;
+                WORDS.getAndBitwiseAnd(tile, bit >>> 6, ~mask);
+            }
+        }
+
+        private boolean isOutside(int x, int y) {
+            return x - minx < 0 || x - minx > width - 1 || y - miny < 0 || y - miny > height - 1;
+        }
+
+        /** Returns the tile containing the pixel, eventually creating it */
+        private long[] getTile(int dx, int dy, boolean create) {
+            int index = (dy >> TILE_SHIFT) * tilesX + (dx >> TILE_SHIFT);
+            long[] tile = tiles.get(index);
+            if (tile == null && create) {
+                tile = new long[TILE_WORDS];
+                if (!tiles.compareAndSet(index, null, tile)) {
+                    // another thread got there first
+                    tile = tiles.get(index);
+                }
             }
+            return tile;
         }
 
-        private int bit(int x, int y) {
-            return width * y + x;
+        /** Position of the pixel bit inside its tile, the word is bit / 64, the bit in the word is bit % 64 */
+        private int bit(int dx, int dy) {
+            return ((dy & TILE_MASK) << TILE_SHIFT) | (dx & TILE_MASK);
         }
     }
 }
@@ -0,0 +1,49 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.PropertyName;
+
+/**
+ * A visitor able to consume the rows of a {@link FeatureBatch} directly, without building a feature per row.
+ *
+ * <p>Feature sources reading columns natively hand batches to these visitors, see
+ * {@link org.geotools.api.data.SimpleFeatureSource#getBatchReader(org.geotools.api.data.Query, int)}.
+ */
+public interface FeatureBatchVisitor extends FeatureVisitor {
+
+    /** Visits all the rows of a batch. The default implementation visits each row as a feature. */
+    default void visit(FeatureBatch batch) {
+        for (int row = 0; row < batch.size(); row++) {
+            visit(batch.getFeature(row));
+        }
+    }
+
+    /**
+     * Returns the column of a batch an expression reads, or -1 if the expression is not a plain reference to one of the
+     * batch attributes.
+     */
+    static int columnOf(FeatureBatch batch, Expression expression) {
+        if (expression instanceof PropertyName name) {
+            return batch.getFeatureType().indexOf(name.getPropertyName());
+        }
+        return -1;
+    }
+}
@@ -19,11 +19,13 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.Feature;
 import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -34,7 +36,7 @@
 import org.locationtech.jts.geom.Point;
 
 /** Group features by one or several attributes and applies an aggregator visitor to each group. */
-public class GroupByVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class GroupByVisitor implements FeatureCalc, FeatureAttributeVisitor, FeatureBatchVisitor {
 
     private final Aggregate aggregate;
     private final Expression expression;
@@ -100,6 +102,11 @@ public void visit(Feature feature) {
         inMemoryGroupBy.index((SimpleFeature) feature);
     }
 
+    @Override
+    public void visit(FeatureBatch batch) {
+        inMemoryGroupBy.index(batch);
+    }
+
     public Expression getExpression() {
         return expression;
     }
@@ -173,6 +180,52 @@ void index(SimpleFeature feature) {
             calc.visit(feature);
         }
 
+        /**
+         * Splits a batch of features in groups, handing each group to its aggregation visitor as a single selection of
+         * the batch rows. Group by values are read straight from the batch columns when the group by expressions are
+         * plain attribute references.
+         *
+         * @param batch the batch of features to be indexed
+         */
+        void index(FeatureBatch batch) {
+            int[] columns = new int[groupByAttributes.size()];
+            boolean plainAttributes = true;
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = FeatureBatchVisitor.columnOf(batch, groupByAttributes.get(i));
+                plainAttributes &= columns[i] >= 0;
+            }
+            // rows of each group, the first slot holding the number of rows
+            Map<List<Object>, int[]> groups = new LinkedHashMap<>();
+            for (int row = 0; row < batch.size(); row++) {
+                SimpleFeature feature = plainAttributes ? null : batch.getFeature(row);
+                List<Object> groupByValues = new ArrayList<>(columns.length);
+                for (int i = 0; i < columns.length; i++) {
+                    groupByValues.add(
+                            columns[i] >= 0
+                                    ? batch.getValue(columns[i], row)
+                                    : groupByAttributes.get(i).evaluate(feature));
+                }
+                int[] rows = groups.computeIfAbsent(groupByValues, k -> new int[9]);
+                if (rows[0] + 1 == rows.length) {
+                    rows = Arrays.copyOf(rows, rows.length * 2);
+                    groups.put(groupByValues, rows);
+                }
+                rows[++rows[0]] = row;
+            }
+            for (Map.Entry<List<Object>, int[]> group : groups.entrySet()) {
+                int[] rows = group.getValue();
+                FeatureBatch selection = batch.select(Arrays.copyOfRange(rows, 1, rows[0] + 1), rows[0]);
+                FeatureCalc calc = groupByIndexes.computeIfAbsent(group.getKey(), k -> aggregate.create(expression));
+                if (calc instanceof FeatureBatchVisitor batchVisitor) {
+                    batchVisitor.visit(selection);
+                } else {
+                    for (int row = 0; row < selection.size(); row++) {
+                        calc.visit(selection.getFeature(row));
+                    }
+                }
+            }
+        }
+
         /**
          * We apply a copy of the aggregation visitor to each feature collection.
          *
@@ -19,6 +19,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.FilterFactory;
@@ -33,7 +34,7 @@
  * @author Cory Horner, Refractions Research Inc.
  * @since 2.2.M2
  */
-public class MaxVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class MaxVisitor implements FeatureCalc, FeatureAttributeVisitor, FeatureBatchVisitor {
     private Expression expr;
     Comparable maxvalue;
     boolean visited = false;
@@ -84,8 +85,67 @@ public void visit(SimpleFeature feature) {
 
     @Override
     public void visit(org.geotools.api.feature.Feature feature) {
-        Object attribValue = expr.evaluate(feature);
+        add(expr.evaluate(feature));
+    }
+
+    /** Scans the column values without building features when the expression is a plain attribute reference. */
+    @Override
+    public void visit(FeatureBatch batch) {
+        int column = FeatureBatchVisitor.columnOf(batch, expr);
+        if (column < 0) {
+            FeatureBatchVisitor.super.visit(batch);
+            return;
+        }
+
+        Class<?> binding =
+                batch.getFeatureType().getDescriptor(column).getType().getBinding();
+        int size = batch.size();
+        int best = -1;
+        if (binding == Double.class || binding == Float.class) {
+            double max = 0;
+            for (int row = 0; row < size; row++) {
+                if (batch.isNull(column, row)) {
+                    countNull++;
+                    continue;
+                }
+                double value = batch.getDouble(column, row);
+                if (binding == Double.class && (Double.isNaN(value) || Double.isInfinite(value))) {
+                    countNaN++;
+                    continue;
+                }
+                if (best < 0 || Double.compare(value, max) > 0) {
+                    max = value;
+                    best = row;
+                }
+            }
+        } else if (binding == Integer.class
+                || binding == Long.class
+                || binding == Short.class
+                || binding == Byte.class) {
+            long max = 0;
+            for (int row = 0; row < size; row++) {
+                if (batch.isNull(column, row)) {
+                    countNull++;
+                    continue;
+                }
+                long value = batch.getLong(column, row);
+                if (best < 0 || value > max) {
+                    max = value;
+                    best = row;
+                }
+            }
+        } else {
+            for (int row = 0; row < size; row++) {
+                add(batch.getValue(column, row));
+            }
+            return;
+        }
+        if (best >= 0) {
+            add(batch.getValue(column, best));
+        }
+    }
 
+    private void add(Object attribValue) {
         if (attribValue == null) {
             countNull++; // increment the null count, but don't store its value
             return;
@@ -19,6 +19,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.FilterFactory;
@@ -33,7 +34,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class MinVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class MinVisitor implements FeatureCalc, FeatureAttributeVisitor, FeatureBatchVisitor {
     private Expression expr;
     Comparable minvalue;
     boolean visited = false;
@@ -82,8 +83,57 @@ public void visit(SimpleFeature feature) {
 
     @Override
     public void visit(org.geotools.api.feature.Feature feature) {
-        Object attribValue = expr.evaluate(feature);
+        add(expr.evaluate(feature));
+    }
+
+    /** Scans the column values without building features when the expression is a plain attribute reference. */
+    @Override
+    public void visit(FeatureBatch batch) {
+        int column = FeatureBatchVisitor.columnOf(batch, expr);
+        if (column < 0) {
+            FeatureBatchVisitor.super.visit(batch);
+            return;
+        }
+
+        Class<?> binding =
+                batch.getFeatureType().getDescriptor(column).getType().getBinding();
+        int size = batch.size();
+        int best = -1;
+        if (binding == Double.class || binding == Float.class) {
+            double min = 0;
+            for (int row = 0; row < size; row++) {
+                if (batch.isNull(column, row)) continue;
+                double value = batch.getDouble(column, row);
+                if (best < 0 || Double.compare(value, min) < 0) {
+                    min = value;
+                    best = row;
+                }
+            }
+        } else if (binding == Integer.class
+                || binding == Long.class
+                || binding == Short.class
+                || binding == Byte.class) {
+            long min = 0;
+            for (int row = 0; row < size; row++) {
+                if (batch.isNull(column, row)) continue;
+                long value = batch.getLong(column, row);
+                if (best < 0 || value < min) {
+                    min = value;
+                    best = row;
+                }
+            }
+        } else {
+            for (int row = 0; row < size; row++) {
+                add(batch.getValue(column, row));
+            }
+            return;
+        }
+        if (best >= 0) {
+            add(batch.getValue(column, best));
+        }
+    }
 
+    private void add(Object attribValue) {
         if (attribValue == null) {
             return; // attribute is null, therefore skip
         }
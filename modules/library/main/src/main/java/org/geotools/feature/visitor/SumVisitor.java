@@ -19,6 +19,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.Feature;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -37,7 +38,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class SumVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class SumVisitor implements FeatureCalc, FeatureAttributeVisitor, FeatureBatchVisitor {
     private Expression expr;
 
     SumStrategy strategy;
@@ -124,6 +125,52 @@ public void visit(Feature feature) {
         }
     }
 
+    /** Sums the column values without building features when the expression is a plain attribute reference. */
+    @Override
+    public void visit(FeatureBatch batch) {
+        int column = FeatureBatchVisitor.columnOf(batch, expr);
+        if (column < 0) {
+            FeatureBatchVisitor.super.visit(batch);
+            return;
+        }
+
+        int size = batch.size();
+        int row = 0;
+        if (strategy == null) {
+            // pick the strategy from the first value, as when visiting features
+            while (row < size && batch.isNull(column, row)) {
+                row++;
+            }
+            if (row == size) {
+                return;
+            }
+            strategy = createStrategy(batch.getValue(column, row).getClass());
+        }
+
+        if (strategy instanceof DoubleSumStrategy sum) {
+            for (; row < size; row++) {
+                if (!batch.isNull(column, row)) sum.number += batch.getDouble(column, row);
+            }
+        } else if (strategy instanceof LongSumStrategy sum) {
+            for (; row < size; row++) {
+                if (!batch.isNull(column, row)) sum.number += batch.getLong(column, row);
+            }
+        } else if (strategy instanceof IntegerSumStrategy sum) {
+            for (; row < size; row++) {
+                if (!batch.isNull(column, row)) sum.number += (int) batch.getLong(column, row);
+            }
+        } else if (strategy instanceof FloatSumStrategy sum) {
+            for (; row < size; row++) {
+                if (!batch.isNull(column, row)) sum.number += (float) batch.getDouble(column, row);
+            }
+        } else {
+            for (; row < size; row++) {
+                Object value = batch.getValue(column, row);
+                if (value != null) strategy.add(value);
+            }
+        }
+    }
+
     public Expression getExpression() {
         return expr;
     }
@@ -0,0 +1,83 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.BitSet;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Specialized bounding box check. Geometries whose envelope is disjoint from the box are rejected, and if the box is a
+ * rectangle, geometries whose envelope is fully inside it are accepted, without going through the filter. All the other
+ * cases are delegated to the original filter.
+ */
+class BBOXPredicate extends BatchPredicate {
+
+    final Filter filter;
+
+    final int index;
+
+    final Envelope envelope;
+
+    final boolean rectangle;
+
+    BBOXPredicate(Filter filter, int index, Geometry box) {
+        this.filter = filter;
+        this.index = index;
+        this.envelope = box.getEnvelopeInternal();
+        this.rectangle = box.isRectangle();
+    }
+
+    @Override
+    void filter(FeatureBatch batch, BitSet candidates) {
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Boolean match = match(batch.getValue(index, i));
+            if (!(match != null ? match : filter.evaluate(batch.getFeature(i)))) {
+                candidates.clear(i);
+            }
+        }
+    }
+
+    @Override
+    boolean test(SimpleFeature feature) {
+        Boolean match = match(feature.getAttribute(index));
+        return match != null ? match : filter.evaluate(feature);
+    }
+
+    /** Checks the envelope of the geometry, returns null if the original filter has to check the geometry itself */
+    private Boolean match(Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Geometry geometry) {
+            Envelope ge = geometry.getEnvelopeInternal();
+            if (!envelope.intersects(ge)) {
+                return false;
+            } else if (rectangle && envelope.covers(ge)) {
+                return true;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    boolean isAccelerated() {
+        return true;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.BinaryComparisonOperator;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.MultiValuedFilter.MatchAction;
+import org.geotools.api.filter.Not;
+import org.geotools.api.filter.Or;
+import org.geotools.api.filter.PropertyIsBetween;
+import org.geotools.api.filter.PropertyIsEqualTo;
+import org.geotools.api.filter.PropertyIsNull;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.spatial.BBOX;
+import org.geotools.api.filter.spatial.BBOX3D;
+import org.geotools.filter.IsBetweenImpl;
+import org.geotools.filter.IsEqualsToImpl;
+import org.geotools.filter.IsGreaterThanImpl;
+import org.geotools.filter.IsGreaterThanOrEqualToImpl;
+import org.geotools.filter.IsLessThenImpl;
+import org.geotools.filter.IsLessThenOrEqualToImpl;
+import org.geotools.filter.IsNotEqualToImpl;
+import org.geotools.filter.IsNullImpl;
+import org.geotools.util.Converters;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Evaluates a filter over a block of features at once, either a list of features or a {@link FeatureBatch}, returning
+ * the matching rows as a {@link BitSet}.
+ *
+ * <p>The filter is compiled against a known feature type, resolving attributes by index instead of going through
+ * property accessors, and converting literals to the attribute bindings once. The following filters are compiled, when
+ * built by {@link org.geotools.filter.FilterFactoryImpl} (as CQL and the SLD/XML parsers do, the specialized code
+ * replicates the semantics of those implementations) and comparing a plain attribute name with literals:
+ *
+ * <ul>
+ *   <li>{@link PropertyIsEqualTo}, not equal to, less and greater than, {@link PropertyIsBetween}. Comparisons between
+ *       a numeric attribute and literals of the same class work on columns of primitive values
+ *   <li>is null
+ *   <li>{@link BBOX} against a geometry attribute, rejecting disjoint envelopes without going through the filter, and
+ *       accepting contained ones when the box is a rectangle
+ *   <li>and, or, not, include and exclude. Logic operators are evaluated by narrowing down the set of candidate rows
+ * </ul>
+ *
+ * Everything else, and the rows whose values cannot take the fast path, are evaluated with
+ * {@link Filter#evaluate(Object)}, so the results are the same as evaluating the filter one feature at a time.
+ *
+ * <p>Use {@link #isAccelerated()} to check if the filter has any specialized part, if not, there is no advantage in
+ * evaluating it in batches. The compiled filter can also be evaluated one feature at a time with
+ * {@link #evaluate(SimpleFeature)}, see also {@link org.geotools.filter.compiler.FilterCompiler}. The compiled filter
+ * is thread safe.
+ */
+public class BatchFilter {
+
+    Filter filter;
+
+    SimpleFeatureType schema;
+
+    BatchPredicate predicate;
+
+    /** Last feature type found to be equal, but not identical, to the compiled one */
+    private volatile SimpleFeatureType compatible;
+
+    BatchFilter(Filter filter, SimpleFeatureType schema, BatchPredicate predicate) {
+        this.filter = filter;
+        this.schema = schema;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Compiles the filter against the given feature type
+     *
+     * @param filter The filter to be evaluated
+     * @param schema The type of the features the filter will be evaluated against
+     */
+    public static BatchFilter compile(Filter filter, SimpleFeatureType schema) {
+        return new BatchFilter(filter, schema, new Compiler(schema).compile(filter));
+    }
+
+    /** Returns the original filter */
+    public Filter getFilter() {
+        return filter;
+    }
+
+    /** Returns the feature type the filter has been compiled against */
+    public SimpleFeatureType getSchema() {
+        return schema;
+    }
+
+    /** Returns true if at least part of the filter is evaluated with specialized code */
+    public boolean isAccelerated() {
+        return predicate.isAccelerated();
+    }
+
+    /**
+     * Evaluates the filter against the features
+     *
+     * @return A bit set with the positions of the matching features set
+     */
+    public BitSet evaluate(List<? extends SimpleFeature> features) {
+        BitSet result = new BitSet(features.size());
+        BitSet others = null;
+        for (int i = 0; i < features.size(); i++) {
+            SimpleFeature feature = features.get(i);
+            if (isCompatible(feature.getFeatureType())) {
+                result.set(i);
+            } else if (filter.evaluate(feature)) {
+                // features of other types cannot be accessed by index
+                if (others == null) {
+                    others = new BitSet(features.size());
+                }
+                others.set(i);
+            }
+        }
+        if (!result.isEmpty()) {
+            predicate.filter(new FeatureListBatch(features, schema), result);
+        }
+        if (others != null) {
+            result.or(others);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the filter against the rows of a batch. Batches whose type does not match the compiled one are
+     * evaluated with the original filter, one feature at a time.
+     *
+     * @return A bit set with the positions of the matching rows set
+     */
+    public BitSet evaluate(FeatureBatch batch) {
+        int size = batch.size();
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        if (size == 0) {
+            return result;
+        }
+        if (isCompatible(batch.getFeatureType())) {
+            predicate.filter(batch, result);
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (!filter.evaluate(batch.getFeature(i))) {
+                    result.clear(i);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the filter against a single feature. Features whose type does not match the compiled one are evaluated
+     * with the original filter.
+     */
+    public boolean evaluate(SimpleFeature feature) {
+        if (isCompatible(feature.getFeatureType())) {
+            return predicate.test(feature);
+        }
+        return filter.evaluate(feature);
+    }
+
+    private boolean isCompatible(SimpleFeatureType type) {
+        if (type == schema || type == compatible) {
+            return true;
+        }
+        if (schema.equals(type)) {
+            compatible = type;
+            return true;
+        }
+        return false;
+    }
+
+    /** Turns the filter tree in a tree of batch predicates */
+    static class Compiler {
+
+        SimpleFeatureType schema;
+
+        Compiler(SimpleFeatureType schema) {
+            this.schema = schema;
+        }
+
+        BatchPredicate compile(Filter filter) {
+            BatchPredicate result = null;
+            // the comparisons replicate the semantics of the default implementations, match them exactly
+            Class<?> type = filter.getClass();
+            if (filter == Filter.INCLUDE) {
+                result = new BatchPredicate.Constant(true);
+            } else if (filter == Filter.EXCLUDE) {
+                result = new BatchPredicate.Constant(false);
+            } else if (filter instanceof And and) {
+                result = new BatchPredicate.And(compile(and.getChildren()));
+            } else if (filter instanceof Or or) {
+                result = new BatchPredicate.Or(compile(or.getChildren()));
+            } else if (filter instanceof Not not) {
+                result = new BatchPredicate.Not(compile(not.getFilter()));
+            } else if (type == IsEqualsToImpl.class) {
+                result = compileEqual((BinaryComparisonOperator) filter, false);
+            } else if (type == IsNotEqualToImpl.class) {
+                result = compileEqual((BinaryComparisonOperator) filter, true);
+            } else if (type == IsLessThenImpl.class) {
+                result = compileOrder((BinaryComparisonOperator) filter, NumericPredicate.Operator.LESS);
+            } else if (type == IsLessThenOrEqualToImpl.class) {
+                result = compileOrder((BinaryComparisonOperator) filter, NumericPredicate.Operator.LESS_OR_EQUAL);
+            } else if (type == IsGreaterThanImpl.class) {
+                result = compileOrder((BinaryComparisonOperator) filter, NumericPredicate.Operator.GREATER);
+            } else if (type == IsGreaterThanOrEqualToImpl.class) {
+                result = compileOrder((BinaryComparisonOperator) filter, NumericPredicate.Operator.GREATER_OR_EQUAL);
+            } else if (type == IsBetweenImpl.class) {
+                result = compileBetween((PropertyIsBetween) filter);
+            } else if (type == IsNullImpl.class) {
+                int index = attributeIndex(((PropertyIsNull) filter).getExpression());
+                result = index >= 0 ? new ComparisonPredicate.IsNull(filter, index) : null;
+            } else if (filter instanceof BBOX bbox && !(filter instanceof BBOX3D)) {
+                result = compileBBOX(bbox);
+            }
+            return result != null ? result : new BatchPredicate.Fallback(filter);
+        }
+
+        private List<BatchPredicate> compile(List<Filter> filters) {
+            List<BatchPredicate> result = new ArrayList<>(filters.size());
+            for (Filter f : filters) {
+                result.add(compile(f));
+            }
+            return result;
+        }
+
+        private BatchPredicate compileEqual(BinaryComparisonOperator filter, boolean negate) {
+            Operands operands = operands(filter);
+            if (operands == null) {
+                return null;
+            }
+            if (!negate && isColumnar(operands.literal, operands.index)) {
+                return new NumericPredicate.Comparison(
+                        filter,
+                        operands.index,
+                        NumericPredicate.Operator.EQUAL,
+                        (Number) operands.literal,
+                        operands.literalFirst,
+                        true);
+            }
+            Object literal = operands.literal;
+            Class<?> binding = binding(operands.index);
+            Class<?> numericBinding = null;
+            Object converted = null;
+            if (binding != literal.getClass()
+                    && ComparisonPredicate.isPrimitiveNumber(binding)
+                    && ComparisonPredicate.isPrimitiveNumber(literal.getClass())) {
+                // the filter converts the literal to the value class before falling back on numeric comparison
+                numericBinding = binding;
+                converted = Converters.convert(literal, binding);
+            }
+            return new ComparisonPredicate.Equal(
+                    filter,
+                    operands.index,
+                    literal,
+                    operands.literalFirst,
+                    filter.isMatchingCase(),
+                    negate,
+                    numericBinding,
+                    converted);
+        }
+
+        private BatchPredicate compileOrder(BinaryComparisonOperator filter, NumericPredicate.Operator operator) {
+            Operands operands = operands(filter);
+            if (operands == null) {
+                return null;
+            }
+            Object literal = operands.literal;
+            boolean numeric = isNumeric(literal);
+            if (numeric && isColumnar(literal, operands.index)) {
+                return new NumericPredicate.Comparison(
+                        filter, operands.index, operator, (Number) literal, operands.literalFirst, true);
+            }
+            BatchPredicate result = compileOrder(filter, operator, operands);
+            if (result == null && numeric) {
+                // values of the same class as the literal can still be compared directly
+                result = new NumericPredicate.Comparison(
+                        filter, operands.index, operator, (Number) literal, operands.literalFirst, false);
+            }
+            return result;
+        }
+
+        private BatchPredicate compileOrder(
+                BinaryComparisonOperator filter, NumericPredicate.Operator operator, Operands operands) {
+            Object literal = operands.literal;
+            boolean anyNumber = ComparisonPredicate.isDoubleComparable(literal.getClass());
+            if (!anyNumber) {
+                Class<?> binding = binding(operands.index);
+                if (literal.getClass() != binding) {
+                    // the filter converts the right value to the class of the left one first, can only
+                    // replicate that when the literal is on the right
+                    if (operands.literalFirst) {
+                        return null;
+                    }
+                    literal = Converters.convert(literal, binding, IsEqualsToImpl.SAFE_CONVERSION_HINTS);
+                }
+                // other numbers are compared as doubles, not with their compareTo
+                if (!(literal instanceof Comparable)
+                        || literal instanceof Number && !ComparisonPredicate.isPrimitiveNumber(literal.getClass())) {
+                    return null;
+                }
+            }
+            return new ComparisonPredicate.Order(
+                    filter, operands.index, operator, literal, operands.literalFirst, anyNumber);
+        }
+
+        @SuppressWarnings("unchecked")
+        private BatchPredicate compileBetween(PropertyIsBetween filter) {
+            int index = attributeIndex(filter.getExpression());
+            if (index < 0
+                    || !(filter.getLowerBoundary() instanceof Literal lowerLiteral)
+                    || !(filter.getUpperBoundary() instanceof Literal upperLiteral)) {
+                return null;
+            }
+            Object lowerValue = lowerLiteral.getValue();
+            Object upperValue = upperLiteral.getValue();
+            boolean numeric = isNumeric(lowerValue) && NumericKind.kindOf(lowerValue) == NumericKind.kindOf(upperValue);
+            if (numeric && isColumnar(lowerValue, index)) {
+                return new NumericPredicate.Between(filter, index, (Number) lowerValue, (Number) upperValue, true);
+            }
+            // same conversion the filter applies to the boundaries, values of the binding class will match it
+            Class<?> binding = binding(index);
+            Object lower = Converters.convert(lowerValue, binding);
+            Object upper = Converters.convert(upperValue, binding);
+            if (lower instanceof Comparable && upper instanceof Comparable) {
+                return new ComparisonPredicate.Between(
+                        filter, index, binding, (Comparable<Object>) lower, (Comparable<Object>) upper);
+            } else if (numeric) {
+                return new NumericPredicate.Between(filter, index, (Number) lowerValue, (Number) upperValue, false);
+            }
+            return null;
+        }
+
+        private BatchPredicate compileBBOX(BBOX filter) {
+            if (filter.getMatchAction() != MatchAction.ANY
+                    || !(filter.getExpression1() instanceof PropertyName pn)
+                    || !(filter.getExpression2() instanceof Literal literal)) {
+                return null;
+            }
+            int index;
+            String name = pn.getPropertyName();
+            if (name == null || name.isEmpty()) {
+                GeometryDescriptor gd = schema.getGeometryDescriptor();
+                index = gd != null ? schema.indexOf(gd.getName()) : -1;
+            } else {
+                index = schema.indexOf(name);
+            }
+            // same conversion the filter applies, envelopes are turned into polygons
+            Geometry box = literal.evaluate(null, Geometry.class);
+            if (index < 0 || box == null || box.isEmpty()) {
+                return null;
+            }
+            return new BBOXPredicate(filter, index, box);
+        }
+
+        /** Splits a comparison between an attribute and a non null literal, in either order */
+        private Operands operands(BinaryComparisonOperator filter) {
+            int index = attributeIndex(filter.getExpression1());
+            Object literal = literalValue(filter.getExpression2());
+            boolean literalFirst = false;
+            if (index < 0 || literal == null) {
+                index = attributeIndex(filter.getExpression2());
+                literal = literalValue(filter.getExpression1());
+                literalFirst = true;
+            }
+            if (index < 0 || literal == null) {
+                return null;
+            }
+            return new Operands(index, literal, literalFirst);
+        }
+
+        /** Returns the index of the attribute, if the expression is a simple property name */
+        private int attributeIndex(Expression expression) {
+            if (expression instanceof PropertyName pn) {
+                String name = pn.getPropertyName();
+                return name != null ? schema.indexOf(name) : -1;
+            }
+            return -1;
+        }
+
+        /** Returns the literal value, if the expression is a literal holding a single value */
+        private Object literalValue(Expression expression) {
+            if (expression instanceof Literal literal) {
+                Object value = literal.getValue();
+                if (value != null
+                        && !(value instanceof Iterable)
+                        && !value.getClass().isArray()) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        /** Returns true if the value is one of the numbers supported by {@link NumericKind} */
+        private boolean isNumeric(Object value) {
+            byte kind = NumericKind.kindOf(value);
+            return kind != NumericKind.NULL && kind != NumericKind.OTHER;
+        }
+
+        /** Returns true if the literal is a number of the same class as the attribute binding */
+        private boolean isColumnar(Object literal, int index) {
+            return isNumeric(literal) && literal.getClass() == binding(index);
+        }
+
+        private Class<?> binding(int index) {
+            return schema.getDescriptor(index).getType().getBinding();
+        }
+    }
+
+    /** The attribute index and literal value of a comparison */
+    record Operands(int index, Object literal, boolean literalFirst) {}
+}
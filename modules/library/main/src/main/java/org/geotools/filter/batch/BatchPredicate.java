@@ -0,0 +1,203 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.BitSet;
+import java.util.List;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+
+/**
+ * A node of a compiled {@link BatchFilter}. Predicates work on a set of candidate rows, and clear the ones that do not
+ * match, so that in a conjunction each predicate only looks at the rows that survived the previous ones. They can also
+ * evaluate a single feature, of the type the filter has been compiled against, so that they can access attributes by
+ * index.
+ */
+abstract class BatchPredicate {
+
+    /**
+     * Clears from the candidates the rows of the batch not matching this predicate. The batch columns are the ones of
+     * the type the filter has been compiled against
+     */
+    abstract void filter(FeatureBatch batch, BitSet candidates);
+
+    /** Evaluates the predicate against a single feature, whose type is the one the filter was compiled against */
+    abstract boolean test(SimpleFeature feature);
+
+    /** Returns true if the predicate, or some of its children, has a specialized implementation */
+    abstract boolean isAccelerated();
+
+    /** Evaluates the original filter one feature at a time */
+    static class Fallback extends BatchPredicate {
+
+        final Filter filter;
+
+        Fallback(Filter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        void filter(FeatureBatch batch, BitSet candidates) {
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (!filter.evaluate(batch.getFeature(i))) {
+                    candidates.clear(i);
+                }
+            }
+        }
+
+        @Override
+        boolean test(SimpleFeature feature) {
+            return filter.evaluate(feature);
+        }
+
+        @Override
+        boolean isAccelerated() {
+            return false;
+        }
+    }
+
+    /** Matches everything, or nothing */
+    static class Constant extends BatchPredicate {
+
+        final boolean value;
+
+        Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        void filter(FeatureBatch batch, BitSet candidates) {
+            if (!value) {
+                candidates.clear();
+            }
+        }
+
+        @Override
+        boolean test(SimpleFeature feature) {
+            return value;
+        }
+
+        @Override
+        boolean isAccelerated() {
+            return true;
+        }
+    }
+
+    /** Applies the children one after the other, each narrowing down the candidates */
+    static class And extends BatchPredicate {
+
+        final List<BatchPredicate> children;
+
+        And(List<BatchPredicate> children) {
+            this.children = children;
+        }
+
+        @Override
+        void filter(FeatureBatch batch, BitSet candidates) {
+            for (BatchPredicate child : children) {
+                if (candidates.isEmpty()) {
+                    return;
+                }
+                child.filter(batch, candidates);
+            }
+        }
+
+        @Override
+        boolean test(SimpleFeature feature) {
+            for (BatchPredicate child : children) {
+                if (!child.test(feature)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean isAccelerated() {
+            return children.stream().anyMatch(BatchPredicate::isAccelerated);
+        }
+    }
+
+    /** Applies each child to the candidates not matched by the previous ones */
+    static class Or extends BatchPredicate {
+
+        final List<BatchPredicate> children;
+
+        Or(List<BatchPredicate> children) {
+            this.children = children;
+        }
+
+        @Override
+        void filter(FeatureBatch batch, BitSet candidates) {
+            BitSet remaining = (BitSet) candidates.clone();
+            BitSet matched = new BitSet(batch.size());
+            for (BatchPredicate child : children) {
+                if (remaining.isEmpty()) {
+                    break;
+                }
+                BitSet childMatches = (BitSet) remaining.clone();
+                child.filter(batch, childMatches);
+                matched.or(childMatches);
+                remaining.andNot(childMatches);
+            }
+            candidates.and(matched);
+        }
+
+        @Override
+        boolean test(SimpleFeature feature) {
+            for (BatchPredicate child : children) {
+                if (child.test(feature)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean isAccelerated() {
+            return children.stream().anyMatch(BatchPredicate::isAccelerated);
+        }
+    }
+
+    /** Negates the child */
+    static class Not extends BatchPredicate {
+
+        final BatchPredicate child;
+
+        Not(BatchPredicate child) {
+            this.child = child;
+        }
+
+        @Override
+        void filter(FeatureBatch batch, BitSet candidates) {
+            BitSet childMatches = (BitSet) candidates.clone();
+            child.filter(batch, childMatches);
+            candidates.andNot(childMatches);
+        }
+
+        @Override
+        boolean test(SimpleFeature feature) {
+            return !child.test(feature);
+        }
+
+        @Override
+        boolean isAccelerated() {
+            return child.isAccelerated();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.BitSet;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+
+/**
+ * Specialized comparisons between an attribute and literals, with the literals converted to the attribute binding at
+ * compile time. The fast paths replicate the semantics of {@link org.geotools.filter.IsEqualsToImpl},
+ * {@link org.geotools.filter.CompareFilterImpl} and {@link org.geotools.filter.IsBetweenImpl} for values of the
+ * expected class, any other value is evaluated with the original filter.
+ *
+ * <p>Unlike {@link NumericPredicate} they do not extract columns of values, batches are evaluated one row at a time.
+ */
+abstract class ComparisonPredicate extends BatchPredicate {
+
+    final Filter filter;
+
+    final int index;
+
+    ComparisonPredicate(Filter filter, int index) {
+        this.filter = filter;
+        this.index = index;
+    }
+
+    @Override
+    void filter(FeatureBatch batch, BitSet candidates) {
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Boolean match = match(batch.getValue(index, i));
+            if (!(match != null ? match : filter.evaluate(batch.getFeature(i)))) {
+                candidates.clear(i);
+            }
+        }
+    }
+
+    @Override
+    boolean test(SimpleFeature feature) {
+        Boolean match = match(feature.getAttribute(index));
+        return match != null ? match : filter.evaluate(feature);
+    }
+
+    /** Checks the attribute value, returns null if it must be checked by the original filter instead */
+    abstract Boolean match(Object value);
+
+    @Override
+    boolean isAccelerated() {
+        return true;
+    }
+
+    /** Returns true for the primitive wrappers, whose values can be compared as doubles without loss */
+    static boolean isPrimitiveNumber(Class<?> c) {
+        return c == Integer.class
+                || c == Double.class
+                || c == Long.class
+                || c == Float.class
+                || c == Short.class
+                || c == Byte.class;
+    }
+
+    /**
+     * Returns true for the primitive wrappers that the filters compare as doubles with no loss, whatever the class of
+     * the other number. Floats are excluded, they are converted through their string representation, or with unsafe
+     * conversions, when compared with numbers of other classes.
+     */
+    static boolean isDoubleComparable(Class<?> c) {
+        return c == Integer.class || c == Double.class || c == Long.class || c == Short.class || c == Byte.class;
+    }
+
+    /** Same logic as CompareFilterImpl.compare for two numbers */
+    static int compare(double left, double right) {
+        return left > right ? 1 : left == right ? 0 : -1;
+    }
+
+    /** Same logic as IsEqualsToImpl for two numbers of different classes */
+    static boolean numericEquals(Number n1, Number n2) {
+        final double fp1 = n1.doubleValue();
+        final double fp2 = n2.doubleValue();
+        final long lg1, lg2;
+        if (fp1 == (lg1 = n1.longValue()) && fp2 == (lg2 = n2.longValue())) {
+            return lg1 == lg2;
+        }
+        return fp1 == fp2 || Double.isNaN(fp1) && Double.isNaN(fp2);
+    }
+
+    /** Equality, and its negation */
+    static final class Equal extends ComparisonPredicate {
+
+        final Object literal;
+
+        final Class<?> literalClass;
+
+        final boolean literalFirst;
+
+        final boolean matchCase;
+
+        final boolean negate;
+
+        /** The attribute binding, when both the binding and the literal are primitive numbers of different classes */
+        final Class<?> numericBinding;
+
+        /** The literal converted to the numeric binding, might be null if the conversion failed */
+        final Object converted;
+
+        Equal(
+                Filter filter,
+                int index,
+                Object literal,
+                boolean literalFirst,
+                boolean matchCase,
+                boolean negate,
+                Class<?> numericBinding,
+                Object converted) {
+            super(filter, index);
+            this.literal = literal;
+            this.literalClass = literal.getClass();
+            this.literalFirst = literalFirst;
+            this.matchCase = matchCase;
+            this.negate = negate;
+            this.numericBinding = numericBinding;
+            this.converted = converted;
+        }
+
+        @Override
+        Boolean match(Object value) {
+            if (value == null) {
+                return negate;
+            }
+            Class<?> c = value.getClass();
+            boolean equal;
+            if (c == literalClass) {
+                if (!matchCase && value instanceof String s) {
+                    equal = s.equalsIgnoreCase((String) literal);
+                } else {
+                    equal = literalFirst ? literal.equals(value) : value.equals(literal);
+                }
+            } else if (c == numericBinding) {
+                equal = converted != null && converted.equals(value) || numericEquals((Number) value, (Number) literal);
+            } else {
+                return null;
+            }
+            return equal != negate;
+        }
+    }
+
+    /** Less and greater than comparisons */
+    static final class Order extends ComparisonPredicate {
+
+        final NumericPredicate.Operator operator;
+
+        final Object literal;
+
+        final Class<?> literalClass;
+
+        final boolean literalFirst;
+
+        /** True if the literal can be compared with numbers of other classes as a double */
+        final boolean anyNumber;
+
+        final boolean numeric;
+
+        final double number;
+
+        /** For string literals, the literal parsed as a number, or null if not numeric */
+        final Double parsed;
+
+        Order(
+                Filter filter,
+                int index,
+                NumericPredicate.Operator operator,
+                Object literal,
+                boolean literalFirst,
+                boolean anyNumber) {
+            super(filter, index);
+            this.operator = operator;
+            this.literal = literal;
+            this.literalClass = literal.getClass();
+            this.literalFirst = literalFirst;
+            this.anyNumber = anyNumber;
+            this.numeric = isPrimitiveNumber(literalClass);
+            this.number = numeric ? ((Number) literal).doubleValue() : Double.NaN;
+            this.parsed = literal instanceof String s ? parse(s) : null;
+        }
+
+        private static Double parse(String s) {
+            try {
+                return Double.parseDouble(s);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Boolean match(Object value) {
+            if (value == null) {
+                return false;
+            }
+            Class<?> c = value.getClass();
+            int cmp;
+            if (anyNumber ? isDoubleComparable(c) : numeric && c == literalClass) {
+                double v = ((Number) value).doubleValue();
+                cmp = literalFirst ? compare(number, v) : compare(v, number);
+            } else if (c == literalClass) {
+                if (value instanceof String s) {
+                    cmp = literalFirst
+                            ? compareStrings((String) literal, parsed, s, null)
+                            : compareStrings(s, null, (String) literal, parsed);
+                } else {
+                    cmp = literalFirst
+                            ? ((Comparable<Object>) literal).compareTo(value)
+                            : ((Comparable<Object>) value).compareTo(literal);
+                }
+            } else {
+                return null;
+            }
+            switch (operator) {
+                case LESS:
+                    return cmp < 0;
+                case LESS_OR_EQUAL:
+                    return cmp <= 0;
+                case GREATER:
+                    return cmp > 0;
+                case GREATER_OR_EQUAL:
+                    return cmp >= 0;
+                default:
+                    throw new IllegalStateException("Unexpected operator " + operator);
+            }
+        }
+
+        /**
+         * Strings are compared as numbers if both can be parsed, as strings otherwise. The literal has been parsed
+         * already, if it could not the comparison is a plain string one.
+         */
+        private int compareStrings(String left, Double leftParsed, String right, Double rightParsed) {
+            if (parsed != null) {
+                try {
+                    double l = leftParsed != null ? leftParsed : Double.parseDouble(left);
+                    double r = rightParsed != null ? rightParsed : Double.parseDouble(right);
+                    return Double.compare(l, r);
+                } catch (NumberFormatException e) {
+                    // fall back on string comparison
+                }
+            }
+            return left.compareTo(right);
+        }
+    }
+
+    /** Between two literals, converted to the attribute binding */
+    static final class Between extends ComparisonPredicate {
+
+        final Class<?> binding;
+
+        final Comparable<Object> lower;
+
+        final Comparable<Object> upper;
+
+        Between(Filter filter, int index, Class<?> binding, Comparable<Object> lower, Comparable<Object> upper) {
+            super(filter, index);
+            this.binding = binding;
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        @Override
+        Boolean match(Object value) {
+            if (value == null) {
+                return false;
+            }
+            if (value.getClass() == binding) {
+                return lower.compareTo(value) <= 0 && upper.compareTo(value) >= 0;
+            }
+            return null;
+        }
+    }
+
+    /** Matches when the attribute value is null */
+    static final class IsNull extends ComparisonPredicate {
+
+        IsNull(Filter filter, int index) {
+            super(filter, index);
+        }
+
+        @Override
+        Boolean match(Object value) {
+            return value == null;
+        }
+    }
+}
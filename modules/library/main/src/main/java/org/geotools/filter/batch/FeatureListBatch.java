@@ -0,0 +1,80 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.List;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * Exposes a list of features as a {@link FeatureBatch}, reading the values by attribute index. Only the rows holding
+ * features of the schema type can be accessed by column, the features are returned as they are.
+ */
+class FeatureListBatch implements FeatureBatch {
+
+    final List<? extends SimpleFeature> features;
+
+    final SimpleFeatureType schema;
+
+    FeatureListBatch(List<? extends SimpleFeature> features, SimpleFeatureType schema) {
+        this.features = features;
+        this.schema = schema;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return schema;
+    }
+
+    @Override
+    public int size() {
+        return features.size();
+    }
+
+    @Override
+    public String getID(int row) {
+        return features.get(row).getID();
+    }
+
+    @Override
+    public boolean isNull(int column, int row) {
+        return getValue(column, row) == null;
+    }
+
+    @Override
+    public Object getValue(int column, int row) {
+        return features.get(row).getAttribute(column);
+    }
+
+    @Override
+    public double getDouble(int column, int row) {
+        Object value = getValue(column, row);
+        return value instanceof Number n ? n.doubleValue() : Double.NaN;
+    }
+
+    @Override
+    public long getLong(int column, int row) {
+        Object value = getValue(column, row);
+        return value instanceof Number n ? n.longValue() : 0;
+    }
+
+    @Override
+    public SimpleFeature getFeature(int row) {
+        return features.get(row);
+    }
+}
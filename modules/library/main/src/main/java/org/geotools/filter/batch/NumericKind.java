@@ -0,0 +1,60 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+/**
+ * The kinds of numbers the specialized comparisons work on. The filters only take the fast path when the value has the
+ * same class as the literal it is compared to, to preserve the exact semantics of the filter implementations.
+ */
+class NumericKind {
+
+    static final byte NULL = 0;
+    static final byte BYTE = 1;
+    static final byte SHORT = 2;
+    static final byte INTEGER = 3;
+    static final byte LONG = 4;
+    static final byte FLOAT = 5;
+    static final byte DOUBLE = 6;
+    /** Not a supported number */
+    static final byte OTHER = 7;
+
+    /** Returns the kind of the value, matching the exact class only */
+    static byte kindOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        Class<?> c = value.getClass();
+        if (c == Integer.class) {
+            return INTEGER;
+        } else if (c == Double.class) {
+            return DOUBLE;
+        } else if (c == Long.class) {
+            return LONG;
+        } else if (c == Float.class) {
+            return FLOAT;
+        } else if (c == Short.class) {
+            return SHORT;
+        } else if (c == Byte.class) {
+            return BYTE;
+        }
+        return OTHER;
+    }
+
+    static boolean isIntegral(byte kind) {
+        return kind == BYTE || kind == SHORT || kind == INTEGER || kind == LONG;
+    }
+}
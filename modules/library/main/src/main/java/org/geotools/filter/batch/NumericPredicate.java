@@ -0,0 +1,185 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import java.util.BitSet;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+
+/**
+ * Specialized comparisons between a numeric attribute and literals. Rows whose value does not have the same class as
+ * the literals are evaluated with the original filter, as the filter implementations apply conversions that are not
+ * worth replicating here.
+ */
+abstract class NumericPredicate extends BatchPredicate {
+
+    final Filter filter;
+
+    final int index;
+
+    final byte kind;
+
+    /** True if the attribute binding is the class of the literals, so that all the values are of the same kind */
+    final boolean columnar;
+
+    NumericPredicate(Filter filter, int index, byte kind, boolean columnar) {
+        this.filter = filter;
+        this.index = index;
+        this.kind = kind;
+        this.columnar = columnar;
+    }
+
+    @Override
+    void filter(FeatureBatch batch, BitSet candidates) {
+        // batches hold values of the binding class, features built without validation might not
+        boolean primitive = columnar && !(batch instanceof FeatureListBatch);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            boolean match;
+            if (batch.isNull(index, i)) {
+                // comparisons with a null value are always false
+                match = false;
+            } else if (primitive) {
+                match = matches(batch.getDouble(index, i), batch.getLong(index, i));
+            } else {
+                Object value = batch.getValue(index, i);
+                if (NumericKind.kindOf(value) == kind) {
+                    Number n = (Number) value;
+                    match = matches(n.doubleValue(), n.longValue());
+                } else {
+                    match = filter.evaluate(batch.getFeature(i));
+                }
+            }
+            if (!match) {
+                candidates.clear(i);
+            }
+        }
+    }
+
+    @Override
+    boolean test(SimpleFeature feature) {
+        Object value = feature.getAttribute(index);
+        byte k = NumericKind.kindOf(value);
+        if (k == kind) {
+            Number n = (Number) value;
+            return matches(n.doubleValue(), n.longValue());
+        } else if (k == NumericKind.NULL) {
+            return false;
+        }
+        return filter.evaluate(feature);
+    }
+
+    /** Checks a value whose kind is the same as the literal(s), provided both as a double and as a long */
+    abstract boolean matches(double value, long longValue);
+
+    @Override
+    boolean isAccelerated() {
+        return true;
+    }
+
+    /** Same logic as CompareFilterImpl.compare for two numbers */
+    static int compare(double left, double right) {
+        return left > right ? 1 : left == right ? 0 : -1;
+    }
+
+    /** The binary comparison operators */
+    enum Operator {
+        EQUAL,
+        LESS,
+        LESS_OR_EQUAL,
+        GREATER,
+        GREATER_OR_EQUAL
+    }
+
+    /** Compares the attribute with a literal */
+    static class Comparison extends NumericPredicate {
+
+        final Operator operator;
+
+        final double literal;
+
+        final long longLiteral;
+
+        final long literalBits;
+
+        final boolean literalFirst;
+
+        Comparison(
+                Filter filter, int index, Operator operator, Number literal, boolean literalFirst, boolean columnar) {
+            super(filter, index, NumericKind.kindOf(literal), columnar);
+            this.operator = operator;
+            this.literal = literal.doubleValue();
+            this.longLiteral = literal.longValue();
+            this.literalBits = Double.doubleToLongBits(this.literal);
+            this.literalFirst = literalFirst;
+        }
+
+        @Override
+        boolean matches(double value, long longValue) {
+            if (operator == Operator.EQUAL) {
+                // IsEqualsToImpl uses equals() on values of the same class, for floating point
+                // numbers that means comparing the bits (NaN equals NaN, 0.0 does not equal -0.0)
+                if (NumericKind.isIntegral(kind)) {
+                    return longValue == longLiteral;
+                }
+                return Double.doubleToLongBits(value) == literalBits;
+            }
+            int result = literalFirst ? compare(literal, value) : compare(value, literal);
+            switch (operator) {
+                case LESS:
+                    return result < 0;
+                case LESS_OR_EQUAL:
+                    return result <= 0;
+                case GREATER:
+                    return result > 0;
+                case GREATER_OR_EQUAL:
+                    return result >= 0;
+                default:
+                    throw new IllegalStateException("Unexpected operator " + operator);
+            }
+        }
+    }
+
+    /** Checks the attribute is between two literals, extremes included */
+    static class Between extends NumericPredicate {
+
+        final double lower;
+
+        final double upper;
+
+        final long longLower;
+
+        final long longUpper;
+
+        Between(Filter filter, int index, Number lower, Number upper, boolean columnar) {
+            super(filter, index, NumericKind.kindOf(lower), columnar);
+            this.lower = lower.doubleValue();
+            this.upper = upper.doubleValue();
+            this.longLower = lower.longValue();
+            this.longUpper = upper.longValue();
+        }
+
+        @Override
+        boolean matches(double value, long longValue) {
+            // same as IsBetweenImpl, which uses Comparable.compareTo on values of the same class
+            if (NumericKind.isIntegral(kind)) {
+                return longLower <= longValue && longValue <= longUpper;
+            }
+            return Double.compare(lower, value) <= 0 && Double.compare(upper, value) >= 0;
+        }
+    }
+}
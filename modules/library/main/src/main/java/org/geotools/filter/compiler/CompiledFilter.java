@@ -0,0 +1,68 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterVisitor;
+import org.geotools.filter.batch.BatchFilter;
+
+/**
+ * A filter compiled against a known feature type by {@link FilterCompiler}.
+ *
+ * <p>Features of the compiled type are evaluated with the specialized predicates, anything else (features of other
+ * types, non feature objects) is evaluated with the original filter. Visitors are handed the original filter, so the
+ * compiled filter can be used wherever the original one was, as long as the caller does not depend on the filter
+ * implementation class.
+ */
+public class CompiledFilter implements Filter {
+
+    final BatchFilter compiled;
+
+    CompiledFilter(BatchFilter compiled) {
+        this.compiled = compiled;
+    }
+
+    /** Returns the original filter */
+    public Filter getFilter() {
+        return compiled.getFilter();
+    }
+
+    /** Returns the feature type the filter has been compiled against */
+    public SimpleFeatureType getSchema() {
+        return compiled.getSchema();
+    }
+
+    @Override
+    public boolean evaluate(Object object) {
+        if (object instanceof SimpleFeature feature) {
+            return compiled.evaluate(feature);
+        }
+        return compiled.getFilter().evaluate(object);
+    }
+
+    @Override
+    public Object accept(FilterVisitor visitor, Object extraData) {
+        return compiled.getFilter().accept(visitor, extraData);
+    }
+
+    @Override
+    public String toString() {
+        return compiled.getFilter().toString();
+    }
+}
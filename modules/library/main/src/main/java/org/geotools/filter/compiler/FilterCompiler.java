@@ -0,0 +1,56 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.filter.batch.BatchFilter;
+
+/**
+ * Compiles a {@link Filter} against a known {@link SimpleFeatureType}, for filters that are going to be evaluated
+ * against a large number of features one at a time, such as data store post filters and style rule filters.
+ *
+ * <p>The filter is compiled by {@link BatchFilter}, see its documentation for the filters that get specialized code,
+ * and wrapped in a {@link CompiledFilter} evaluating features with it. Any other filter, and any value not matching the
+ * expected class at evaluation time, is evaluated by the original filter, so the compiled filter returns the same
+ * results as the original one.
+ */
+public class FilterCompiler {
+
+    private FilterCompiler() {}
+
+    /**
+     * Compiles the filter against the given feature type
+     *
+     * @param filter The filter to be compiled
+     * @param schema The type of the features the filter will be evaluated against
+     * @return A {@link CompiledFilter}, or the original filter if no part of it could be compiled
+     */
+    public static Filter compile(Filter filter, SimpleFeatureType schema) {
+        if (filter instanceof CompiledFilter compiled) {
+            if (compiled.getSchema() == schema) {
+                return compiled;
+            }
+            filter = compiled.getFilter();
+        }
+        BatchFilter compiled = BatchFilter.compile(filter, schema);
+        if (!compiled.isAccelerated()) {
+            return filter;
+        }
+        return new CompiledFilter(compiled);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.WKTReader;
+
+public class FeatureReaderBatchAdapterTest {
+
+    SimpleFeatureType type;
+
+    SimpleFeature[] features;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("test", "geom:Point,count:Integer,value:Double,name:String");
+        WKTReader wkt = new WKTReader();
+        features = new SimpleFeature[] {
+            SimpleFeatureBuilder.build(type, new Object[] {wkt.read("POINT(1 1)"), 1, 1.5, "a"}, "test.1"),
+            SimpleFeatureBuilder.build(type, new Object[] {null, null, null, null}, "test.2"),
+            SimpleFeatureBuilder.build(type, new Object[] {wkt.read("POINT(3 3)"), 3, 3.5, "c"}, "test.3")
+        };
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        try (FeatureBatchReader reader = new FeatureReaderBatchAdapter(DataUtilities.reader(features), 2)) {
+            assertSame(type, reader.getFeatureType());
+
+            assertTrue(reader.hasNext());
+            FeatureBatch batch = reader.next();
+            assertEquals(2, batch.size());
+            assertEquals("test.1", batch.getID(0));
+            assertTrue(batch.getValue(0, 0) instanceof Point);
+            assertEquals(Integer.valueOf(1), batch.getValue(1, 0));
+            assertEquals(1, batch.getLong(1, 0));
+            assertEquals(1.5, batch.getDouble(2, 0), 0d);
+            assertEquals("a", batch.getValue(3, 0));
+            for (int column = 0; column < 4; column++) {
+                assertFalse(batch.isNull(column, 0));
+                assertTrue(batch.isNull(column, 1));
+                assertNull(batch.getValue(column, 1));
+            }
+            assertEquals(features[0], batch.getFeature(0));
+
+            assertTrue(reader.hasNext());
+            batch = reader.next();
+            assertEquals(1, batch.size());
+            assertEquals("test.3", batch.getID(0));
+            assertEquals(3, batch.getLong(1, 0));
+            assertEquals(features[2], batch.getFeature(0));
+
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        try (FeatureBatchReader reader = new FeatureReaderBatchAdapter(DataUtilities.reader(features), 10)) {
+            FeatureBatch batch = reader.next();
+            assertEquals(3, batch.size());
+
+            FeatureBatch selection = batch.select(new int[] {2, 0, 1}, 2);
+            assertEquals(2, selection.size());
+            assertSame(type, selection.getFeatureType());
+            assertEquals("test.3", selection.getID(0));
+            assertEquals(3.5, selection.getDouble(2, 0), 0d);
+            assertEquals("a", selection.getValue(3, 1));
+            assertEquals(features[0], selection.getFeature(1));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        try (FeatureBatchReader reader = new FeatureReaderBatchAdapter(new EmptyFeatureReader<>(type), 10)) {
+            assertFalse(reader.hasNext());
+        }
+    }
+}
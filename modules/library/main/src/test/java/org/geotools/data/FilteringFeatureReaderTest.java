@@ -22,6 +22,9 @@
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import org.geotools.api.data.DataSourceException;
 import org.geotools.api.data.FeatureReader;
@@ -29,6 +32,7 @@
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.Filter;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.junit.After;
 import org.junit.Test;
 
@@ -101,6 +105,68 @@ public void testFilteringFeatureReaderNONE() throws IOException {
         }
     }
 
+    @Test
+    public void testFilteringFeatureReaderBatched() throws IOException {
+        // a filter that can be evaluated in batches
+        Filter filter = ff.greater(ff.property("id"), ff.literal(1));
+        SimpleFeature[] expected =
+                Arrays.stream(roadFeatures).filter(f -> filter.evaluate(f)).toArray(SimpleFeature[]::new);
+        assertTrue(expected.length > 0);
+        assertTrue(expected.length < roadFeatures.length);
+        assertContents(expected, new FilteringFeatureReader<>(DataUtilities.reader(roadFeatures), filter));
+        assertContents(expected, new FilteringFeatureReader<>(DataUtilities.reader(roadFeatures), filter, true));
+
+        // more features than a single batch
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            features.addAll(Arrays.asList(roadFeatures));
+        }
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                new FilteringFeatureReader<>(DataUtilities.reader(features), filter, true)) {
+            assertEquals(expected.length * 100, count(reader));
+        }
+    }
+
+    @Test
+    public void testFilteringFeatureReaderRecycling() throws IOException {
+        // a reader returning the same feature instance over and over, must not be read ahead
+        Filter filter = ff.greater(ff.property("id"), ff.literal(1));
+        SimpleFeature recycled = SimpleFeatureBuilder.copy(roadFeatures[0]);
+        FeatureReader<SimpleFeatureType, SimpleFeature> delegate = DataUtilities.reader(roadFeatures);
+        FeatureReader<SimpleFeatureType, SimpleFeature> recycling = new FeatureReader<>() {
+            @Override
+            public SimpleFeatureType getFeatureType() {
+                return delegate.getFeatureType();
+            }
+
+            @Override
+            public SimpleFeature next() throws IOException {
+                recycled.setAttributes(delegate.next().getAttributes());
+                return recycled;
+            }
+
+            @Override
+            public boolean hasNext() throws IOException {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+        };
+
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = new FilteringFeatureReader<>(recycling, filter)) {
+            for (SimpleFeature expected : roadFeatures) {
+                if (filter.evaluate(expected)) {
+                    assertTrue(reader.hasNext());
+                    assertEquals(expected.getAttributes(), reader.next().getAttributes());
+                }
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
     void assertContents(SimpleFeature[] expected, FeatureReader<SimpleFeatureType, SimpleFeature> reader)
             throws IOException {
         assertNotNull(reader);
@@ -0,0 +1,315 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.WKTReader;
+
+public class ColumnarDataStoreTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType pointType;
+
+    List<SimpleFeature> points;
+
+    ColumnarDataStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        pointType = DataUtilities.createType("points", "geom:Point,id:Integer,kind:String,value:Double");
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(42);
+        points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            points.add(SimpleFeatureBuilder.build(
+                    pointType,
+                    new Object[] {
+                        gf.createPoint(new org.locationtech.jts.geom.Coordinate(x, y)),
+                        i,
+                        "kind" + (i % 5),
+                        random.nextDouble()
+                    },
+                    "points." + i));
+        }
+        store = new ColumnarDataStore(new ListFeatureCollection(pointType, points));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType(
+                "all",
+                "geom:Geometry,i:Integer,s:java.lang.Short,l:Long,d:Double,f:Float,b:Boolean,date:java.util.Date,"
+                        + "ts:java.sql.Timestamp,name:String,big:java.math.BigDecimal");
+        WKTReader reader = new WKTReader();
+        List<SimpleFeature> features = new ArrayList<>();
+        features.add(SimpleFeatureBuilder.build(
+                type,
+                new Object[] {
+                    reader.read("POLYGON((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 3, 3 3, 2 2))"),
+                    1,
+                    (short) 2,
+                    3L,
+                    4.5,
+                    5.5f,
+                    true,
+                    new Date(1000),
+                    new Timestamp(2000),
+                    "first",
+                    new BigDecimal("1.25")
+                },
+                "all.1"));
+        features.add(SimpleFeatureBuilder.build(
+                type,
+                new Object[] {
+                    reader.read("MULTILINESTRING Z((0 0 1, 1 1 2), (2 2 3, 3 3 4))"),
+                    -1,
+                    null,
+                    null,
+                    null,
+                    null,
+                    false,
+                    null,
+                    null,
+                    "first",
+                    null
+                },
+                "all.2"));
+        features.add(SimpleFeatureBuilder.build(
+                type,
+                new Object[] {
+                    reader.read("GEOMETRYCOLLECTION(POINT(1 1), MULTIPOINT((2 2), (3 3)), POLYGON EMPTY)"),
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null
+                },
+                "all.3"));
+        features.add(SimpleFeatureBuilder.build(type, new Object[11], "all.4"));
+
+        ColumnarDataStore all = new ColumnarDataStore(new ListFeatureCollection(type, features));
+        List<SimpleFeature> read = read(all.getFeatureSource("all"), Query.ALL);
+        assertEquals(features.size(), read.size());
+        for (int i = 0; i < features.size(); i++) {
+            SimpleFeature expected = features.get(i);
+            SimpleFeature actual = read.get(i);
+            assertEquals(expected.getID(), actual.getID());
+            for (int a = 0; a < type.getAttributeCount(); a++) {
+                Object value = expected.getAttribute(a);
+                if (value instanceof Geometry geometry) {
+                    assertTrue(geometry.equalsExact((Geometry) actual.getAttribute(a)));
+                } else {
+                    assertEquals(value, actual.getAttribute(a));
+                }
+            }
+            assertEquals(expected, DataUtilities.reType(type, actual));
+        }
+        Geometry lines = (Geometry) read.get(1).getDefaultGeometry();
+        assertEquals(4, lines.getCoordinates()[3].getZ(), 0d);
+        assertTrue(Double.isNaN(
+                ((Geometry) read.get(0).getDefaultGeometry()).getCoordinate().getZ()));
+    }
+
+    @Test
+    public void testBoundingBoxQuery() throws Exception {
+        SimpleFeatureSource source = store.getFeatureSource("points");
+        Random random = new Random(7);
+        for (int q = 0; q < 20; q++) {
+            double x = random.nextDouble() * 90;
+            double y = random.nextDouble() * 90;
+            double size = random.nextDouble() * 30;
+            Filter bbox = FF.bbox("geom", x, y, x + size, y + size, null);
+            Filter filter = q % 2 == 0 ? bbox : FF.and(bbox, FF.equals(FF.property("kind"), FF.literal("kind1")));
+
+            List<String> expected = new ArrayList<>();
+            for (SimpleFeature f : points) {
+                if (filter.evaluate(f)) {
+                    expected.add(f.getID());
+                }
+            }
+            assertEquals(expected, ids(read(source, new Query("points", filter))));
+            assertEquals(expected.size(), source.getFeatures(filter).size());
+        }
+    }
+
+    @Test
+    public void testAttributeQuery() throws Exception {
+        Filter filter = FF.less(FF.property("id"), FF.literal(10));
+        List<SimpleFeature> read = read(store.getFeatureSource("points"), new Query("points", filter));
+        assertEquals(10, read.size());
+        assertEquals("points.9", read.get(9).getID());
+        assertEquals(points.get(9).getAttribute("value"), read.get(9).getAttribute("value"));
+    }
+
+    @Test
+    public void testRetypeAndLimit() throws Exception {
+        Query query = new Query("points", FF.bbox("geom", 0, 0, 50, 50, null), "id");
+        query.setMaxFeatures(5);
+        List<SimpleFeature> read = read(store.getFeatureSource("points"), query);
+        assertEquals(5, read.size());
+        for (SimpleFeature f : read) {
+            assertEquals(1, f.getAttributeCount());
+            assertEquals(1, f.getFeatureType().getAttributeCount());
+            int id = (Integer) f.getAttribute("id");
+            Envelope envelope = ((Geometry) points.get(id).getDefaultGeometry()).getEnvelopeInternal();
+            assertTrue(new Envelope(0, 50, 0, 50).intersects(envelope));
+        }
+    }
+
+    @Test
+    public void testCountAndBounds() throws Exception {
+        SimpleFeatureSource source = store.getFeatureSource("points");
+        assertEquals(points.size(), source.getCount(Query.ALL));
+        ReferencedEnvelope expected = DataUtilities.collection(points).getBounds();
+        assertEquals(expected, source.getBounds());
+    }
+
+    @Test
+    public void testFlyweightFeature() throws Exception {
+        SimpleFeature feature =
+                read(store.getFeatureSource("points"), Query.ALL).get(3);
+        assertEquals(feature, points.get(3));
+        assertEquals(points.get(3).getBounds(), feature.getBounds());
+
+        feature.setAttribute("kind", "changed");
+        assertEquals("changed", feature.getAttribute("kind"));
+        // the store is not modified
+        SimpleFeature again = read(store.getFeatureSource("points"), Query.ALL).get(3);
+        assertEquals("kind3", again.getAttribute("kind"));
+    }
+
+    @Test
+    public void testReplaceAndRemove() throws Exception {
+        assertArrayEquals(new String[] {"points"}, store.getTypeNames());
+        store.setFeatures(new ListFeatureCollection(pointType, points.subList(0, 10)));
+        assertEquals(10, store.getFeatureSource("points").getCount(Query.ALL));
+        assertTrue(store.getSizeInBytes("points") > 0);
+
+        store.removeSchema("points");
+        assertEquals(0, store.getTypeNames().length);
+    }
+
+    @Test
+    public void testPackedSTRIndex() {
+        Random random = new Random(3);
+        int size = 5000;
+        double[] bounds = new double[4 * size];
+        for (int i = 0; i < size; i++) {
+            if (i % 100 == 0) {
+                Arrays.fill(bounds, 4 * i, 4 * i + 4, Double.NaN);
+                continue;
+            }
+            double x = random.nextDouble() * 1000;
+            double y = random.nextDouble() * 1000;
+            bounds[4 * i] = x;
+            bounds[4 * i + 1] = y;
+            bounds[4 * i + 2] = x + random.nextDouble() * 10;
+            bounds[4 * i + 3] = y + random.nextDouble() * 10;
+        }
+        PackedSTRIndex index = new PackedSTRIndex(bounds, size);
+        assertEquals(size - 50, index.size());
+        for (int q = 0; q < 50; q++) {
+            Envelope envelope = new Envelope(
+                    random.nextDouble() * 1000,
+                    random.nextDouble() * 1000,
+                    random.nextDouble() * 1000,
+                    random.nextDouble() * 1000);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(bounds[4 * i])
+                        && envelope.intersects(
+                                new Envelope(bounds[4 * i], bounds[4 * i + 2], bounds[4 * i + 1], bounds[4 * i + 3]))) {
+                    expected.add(i);
+                }
+            }
+            int[] actual = index.query(envelope);
+            assertEquals(expected, Arrays.stream(actual).boxed().toList());
+        }
+        assertEquals(0, index.query(new Envelope()).length);
+        assertFalse(index.bounds.size() < 3);
+    }
+
+    @Test
+    public void testNoGeometry() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("plain", "name:String");
+        ColumnarDataStore plain = new ColumnarDataStore(
+                DataUtilities.collection(SimpleFeatureBuilder.build(type, new Object[] {"a"}, "plain.1")));
+        List<SimpleFeature> read = read(plain.getFeatureSource("plain"), Query.ALL);
+        assertEquals(1, read.size());
+        assertEquals("a", read.get(0).getAttribute("name"));
+        assertNull(read.get(0).getDefaultGeometry());
+        assertTrue(plain.getFeatureSource("plain").getBounds().isEmpty());
+    }
+
+    private static List<SimpleFeature> read(SimpleFeatureSource source, Query query) throws IOException {
+        List<SimpleFeature> result = new ArrayList<>();
+        SimpleFeatureCollection collection = source.getFeatures(query);
+        try (SimpleFeatureIterator it = collection.features()) {
+            while (it.hasNext()) {
+                result.add(it.next());
+            }
+        }
+        return result;
+    }
+
+    private static List<String> ids(List<SimpleFeature> features) {
+        List<String> ids = new ArrayList<>();
+        for (SimpleFeature f : features) {
+            ids.add(f.getID());
+        }
+        return ids;
+    }
+}
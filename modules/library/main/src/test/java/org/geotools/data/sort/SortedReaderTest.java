@@ -5,7 +5,9 @@
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.NoSuchElementException;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
@@ -13,6 +15,8 @@
 import org.geotools.api.filter.FilterFactory;
 import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
 import org.geotools.data.simple.DelegateSimpleFeatureReader;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.factory.CommonFactoryFinder;
@@ -218,6 +222,96 @@ public void testSortNaturalPartialLastPage() throws IOException {
         }
     }
 
+    @Test
+    public void testFileSortStable() throws IOException {
+        // lots of ties on a single value, spread over many runs, should preserve the original
+        // order (the collection returns features sorted by fid)
+        SortBy[] byteAsc = {ff.sort("byte", SortOrder.ASCENDING)};
+        try (SimpleFeatureReader sr = new SortedFeatureReader(fr, byteAsc, 7)) {
+            Byte prevValue = null;
+            String prevId = null;
+            int count = 0;
+            while (sr.hasNext()) {
+                SimpleFeature f = sr.next();
+                Byte value = (Byte) f.getAttribute("byte");
+                String id = f.getID();
+                if (prevValue != null && value != null) {
+                    assertTrue(value >= prevValue);
+                    if (value.equals(prevValue)) {
+                        assertTrue(id.compareTo(prevId) > 0);
+                    }
+                }
+                if (value != null) {
+                    prevValue = value;
+                    prevId = id;
+                }
+                count++;
+            }
+            assertEquals(fc.size(), count);
+        }
+    }
+
+    @Test
+    public void testRunSizeWithinBudget() {
+        for (int maxFeatures : new int[] {0, 1, 7, 1000, 1024, 5000, 100_000}) {
+            int runSize = MergeSortDumper.getRunSize(maxFeatures);
+            assertTrue(runSize >= 1);
+            assertTrue(runSize <= Math.max(1, maxFeatures));
+            // split among at most the concurrent sorts and the run being read, never below a block
+            assertTrue(maxFeatures / runSize <= MergeSortDumper.SORT_THREADS + 1);
+            if (maxFeatures >= FeatureSpillFile.BLOCK_SIZE) {
+                assertTrue(runSize >= FeatureSpillFile.BLOCK_SIZE);
+            }
+        }
+    }
+
+    @Test
+    public void testFileSortSplitRuns() throws Exception {
+        // larger than the budget, split in several runs per budget when more than one processor is available
+        SimpleFeatureType type = DataUtilities.createType("split", "value:Integer");
+        int count = 5000;
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            features.add(SimpleFeatureBuilder.build(type, new Object[] {(i * 7919) % count}, "split." + i));
+        }
+        SimpleFeatureReader reader =
+                new DelegateSimpleFeatureReader(type, new ListFeatureCollection(type, features).features());
+        SortBy[] valueAsc = {ff.sort("value", SortOrder.ASCENDING)};
+        try (SimpleFeatureReader sr = new SortedFeatureReader(reader, valueAsc, 2 * FeatureSpillFile.BLOCK_SIZE)) {
+            int expected = 0;
+            while (sr.hasNext()) {
+                assertEquals(expected++, sr.next().getAttribute("value"));
+            }
+            assertEquals(count, expected);
+        }
+    }
+
+    @Test
+    public void testFileSortUncompressed() throws IOException {
+        System.setProperty(FeatureSpillFile.COMPRESSION_KEY, "false");
+        try (SimpleFeatureReader sr = new SortedFeatureReader(fr, peopleAsc, 50)) {
+            int count = 0;
+            int prev = -1;
+            while (sr.hasNext()) {
+                SimpleFeature f = sr.next();
+                int curr = (Integer) f.getAttribute("PERSONS");
+                assertTrue(curr >= prev);
+                // make sure all attributes made it back
+                if (curr >= 0) {
+                    assertEquals(String.valueOf(curr), f.getID());
+                    assertEquals(Long.valueOf(curr), f.getAttribute("long"));
+                    assertEquals(-140d + curr, ((Point) f.getDefaultGeometry()).getX(), 0d);
+                    assertEquals(2, ((LineString) f.getAttribute("otherGeom")).getNumPoints());
+                }
+                prev = curr;
+                count++;
+            }
+            assertEquals(fc.size(), count);
+        } finally {
+            System.clearProperty(FeatureSpillFile.COMPRESSION_KEY);
+        }
+    }
+
     private void assertSortedOnPeopleAsc(SimpleFeatureReader fr)
             throws IllegalArgumentException, NoSuchElementException, IOException {
         double prev = -1;
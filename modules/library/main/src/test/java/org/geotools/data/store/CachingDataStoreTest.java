@@ -0,0 +1,313 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.FeatureWriter;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.memory.MemoryDataStore;
+import org.geotools.data.memory.MemoryFeatureStore;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.JTSFactoryFinder;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class CachingDataStoreTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    static final GeometryFactory GF = JTSFactoryFinder.getGeometryFactory();
+
+    SimpleFeatureType type;
+
+    MemoryDataStore memory;
+
+    /** The queries run against the wrapped store */
+    List<Query> reads = new ArrayList<>();
+
+    CachingDataStore caching;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("shapes", "geom:Geometry,name:String");
+        memory = new MemoryDataStore() {
+            @Override
+            protected ContentFeatureSource createFeatureSource(ContentEntry entry, Query query) {
+                return new MemoryFeatureStore(entry, query) {
+                    @Override
+                    protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query)
+                            throws IOException {
+                        reads.add(query);
+                        return super.getReaderInternal(query);
+                    }
+                };
+            }
+        };
+        memory.createSchema(type);
+        // a 10x10 grid of points, and a line crossing all of it
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                memory.addFeature(feature("p" + x + "_" + y, GF.createPoint(new Coordinate(x, y))));
+            }
+        }
+        memory.addFeature(
+                feature("line", GF.createLineString(new Coordinate[] {new Coordinate(0, 0), new Coordinate(9, 9)})));
+        caching = new CachingDataStore(memory, 1024 * 1024, 4);
+    }
+
+    SimpleFeature feature(String id, Geometry geometry) {
+        return SimpleFeatureBuilder.build(type, new Object[] {geometry, id}, "shapes." + id);
+    }
+
+    Set<String> ids(SimpleFeatureSource source, Query query) throws IOException {
+        Set<String> result = new HashSet<>();
+        try (SimpleFeatureIterator it = source.getFeatures(query).features()) {
+            while (it.hasNext()) {
+                assertTrue(result.add(it.next().getID()));
+            }
+        }
+        return result;
+    }
+
+    Query bboxQuery(double minx, double miny, double maxx, double maxy) {
+        return new Query("shapes", FF.bbox("geom", minx, miny, maxx, maxy, null));
+    }
+
+    /** Runs the query against the caching and the plain store, checking they return the same features */
+    Set<String> assertSameFeatures(Query query) throws IOException {
+        Set<String> expected = ids(memory.getFeatureSource("shapes"), query);
+        Set<String> actual = ids(caching.getFeatureSource("shapes"), query);
+        assertEquals(expected, actual);
+        return actual;
+    }
+
+    @Test
+    public void testStitchCells() throws Exception {
+        Set<String> ids = assertSameFeatures(bboxQuery(2.5, 2.5, 6.5, 6.5));
+        // 4x4 points, the line being found once, in spite of crossing several cells
+        assertEquals(17, ids.size());
+        int blocks = caching.cache.getBlockCount();
+        assertTrue(blocks > 1);
+        assertTrue(caching.getCacheSize() > 0);
+
+        // an overlapping query reuses the cells already loaded
+        assertSameFeatures(bboxQuery(3, 3, 5, 5));
+        assertEquals(blocks, caching.cache.getBlockCount());
+        assertSameFeatures(bboxQuery(-10, -10, 20, 20));
+        assertEquals(16, caching.cache.getBlockCount());
+        assertSameFeatures(bboxQuery(20, 20, 30, 30));
+    }
+
+    @Test
+    public void testNonSpatialFilter() throws Exception {
+        Filter name = FF.equals(FF.property("name"), FF.literal("p3_3"));
+        Query query = bboxQuery(0, 0, 5, 5);
+        query.setFilter(FF.and(name, query.getFilter()));
+        assertEquals(Set.of("shapes.p3_3"), assertSameFeatures(query));
+
+        // same filter, children in a different order
+        Query swapped = bboxQuery(0, 0, 5, 5);
+        swapped.setFilter(FF.and(swapped.getFilter(), name));
+        int blocks = caching.cache.getBlockCount();
+        assertSameFeatures(swapped);
+        assertEquals(blocks, caching.cache.getBlockCount());
+
+        // different filter, different blocks
+        assertSameFeatures(bboxQuery(0, 0, 5, 5));
+        assertTrue(caching.cache.getBlockCount() > blocks);
+    }
+
+    @Test
+    public void testPropertySelectionAndLimit() throws Exception {
+        Query query = bboxQuery(0, 0, 9, 9);
+        query.setPropertyNames("geom");
+        assertSameFeatures(query);
+
+        query.setMaxFeatures(5);
+        assertEquals(5, ids(caching.getFeatureSource("shapes"), query).size());
+    }
+
+    @Test
+    public void testNotCached() throws Exception {
+        Query sorted = bboxQuery(0, 0, 5, 5);
+        sorted.setSortBy(FF.sort("name", SortOrder.ASCENDING));
+        assertSameFeatures(sorted);
+
+        Query noGeometry = bboxQuery(0, 0, 5, 5);
+        noGeometry.setPropertyNames("name");
+        assertSameFeatures(noGeometry);
+
+        assertSameFeatures(new Query("shapes", FF.equals(FF.property("name"), FF.literal("p3_3"))));
+        assertEquals(0, caching.cache.getBlockCount());
+    }
+
+    @Test
+    public void testInvalidateOnAutoCommitChange() throws Exception {
+        assertSameFeatures(bboxQuery(0, 0, 5, 5));
+        assertTrue(caching.cache.getBlockCount() > 0);
+
+        SimpleFeatureStore store = (SimpleFeatureStore) caching.getFeatureSource("shapes");
+        store.addFeatures(DataUtilities.collection(feature("new", GF.createPoint(new Coordinate(20, 20)))));
+        assertEquals(0, caching.cache.getBlockCount());
+        assertEquals(0, caching.getCacheSize());
+
+        // the grid covers the new bounds
+        assertEquals(102, assertSameFeatures(bboxQuery(-10, -10, 30, 30)).size());
+    }
+
+    @Test
+    public void testInvalidateOnCommit() throws Exception {
+        assertSameFeatures(bboxQuery(0, 0, 5, 5));
+        int blocks = caching.cache.getBlockCount();
+
+        try (Transaction t = new DefaultTransaction()) {
+            SimpleFeatureStore store = (SimpleFeatureStore) caching.getFeatureSource("shapes");
+            store.setTransaction(t);
+            store.removeFeatures(FF.id(FF.featureId("shapes.p1_1")));
+            // not visible until committed, the cache stays
+            assertEquals(blocks, caching.cache.getBlockCount());
+            assertTrue(!ids(store, bboxQuery(0, 0, 5, 5)).contains("shapes.p1_1"));
+            assertTrue(assertSameFeatures(bboxQuery(0, 0, 5, 5)).contains("shapes.p1_1"));
+
+            t.commit();
+        }
+        assertEquals(0, caching.cache.getBlockCount());
+        assertTrue(!assertSameFeatures(bboxQuery(0, 0, 5, 5)).contains("shapes.p1_1"));
+    }
+
+    @Test
+    public void testInvalidateOnWriterCommit() throws Exception {
+        assertSameFeatures(bboxQuery(0, 0, 5, 5));
+        int blocks = caching.cache.getBlockCount();
+
+        try (Transaction t = new DefaultTransaction()) {
+            try (FeatureWriter<SimpleFeatureType, SimpleFeature> writer =
+                    caching.getFeatureWriter("shapes", FF.id(FF.featureId("shapes.p1_1")), t)) {
+                assertTrue(writer.hasNext());
+                writer.next();
+                writer.remove();
+            }
+            assertEquals(blocks, caching.cache.getBlockCount());
+
+            t.commit();
+            assertEquals(0, caching.cache.getBlockCount());
+            // not cached again until the transaction is closed, the wrapped store may still be committing
+            assertTrue(!assertSameFeatures(bboxQuery(0, 0, 5, 5)).contains("shapes.p1_1"));
+            assertEquals(0, caching.cache.getBlockCount());
+        }
+        assertTrue(!assertSameFeatures(bboxQuery(0, 0, 5, 5)).contains("shapes.p1_1"));
+        assertTrue(caching.cache.getBlockCount() > 0);
+    }
+
+    @Test
+    public void testInvalidateOnAutoCommitWriter() throws Exception {
+        assertSameFeatures(bboxQuery(0, 0, 5, 5));
+        assertTrue(caching.cache.getBlockCount() > 0);
+
+        try (FeatureWriter<SimpleFeatureType, SimpleFeature> writer =
+                caching.getFeatureWriterAppend("shapes", Transaction.AUTO_COMMIT)) {
+            SimpleFeature feature = writer.next();
+            feature.setAttribute("geom", GF.createPoint(new Coordinate(1.5, 1.5)));
+            feature.setAttribute("name", "new");
+            writer.write();
+        }
+        assertEquals(0, caching.cache.getBlockCount());
+        // 6x6 points, the line and the new point
+        assertEquals(38, assertSameFeatures(bboxQuery(0, 0, 5, 5)).size());
+    }
+
+    @Test
+    public void testColdCellsLoadedAtOnce() throws Exception {
+        assertSameFeatures(bboxQuery(-10, -10, 20, 20));
+        // one query for the plain store, one for the 16 cells
+        assertEquals(2, reads.size());
+        assertEquals(16, caching.cache.getBlockCount());
+
+        // only the missing cells are loaded, again with a single query
+        caching.invalidate("shapes");
+        assertSameFeatures(bboxQuery(0, 0, 4, 4));
+        reads.clear();
+        assertSameFeatures(bboxQuery(-10, -10, 20, 20));
+        assertEquals(2, reads.size());
+        assertEquals(16, caching.cache.getBlockCount());
+
+        reads.clear();
+        assertSameFeatures(bboxQuery(-10, -10, 20, 20));
+        assertEquals(1, reads.size());
+    }
+
+    @Test
+    public void testOversizedCells() throws Exception {
+        // no cell fits
+        caching = new CachingDataStore(memory, 100, 4);
+        Query query = bboxQuery(2.5, 2.5, 6.5, 6.5);
+        assertSameFeatures(query);
+        assertEquals(0, caching.getCacheSize());
+
+        // the cells are known to be too large, the query goes as is to the wrapped store
+        reads.clear();
+        assertSameFeatures(query);
+        assertEquals(2, reads.size());
+        assertEquals(query.getFilter(), reads.get(1).getFilter());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        caching = new CachingDataStore(memory, 4096, 4);
+        assertSameFeatures(bboxQuery(0, 0, 9, 9));
+        assertTrue(caching.getCacheSize() <= 4096);
+        assertTrue(caching.cache.getBlockCount() < 16);
+        assertSameFeatures(bboxQuery(0, 0, 9, 9));
+    }
+
+    @Test
+    public void testFeatureReader() throws Exception {
+        Query query = bboxQuery(2.5, 2.5, 6.5, 6.5);
+        Set<String> ids = new HashSet<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                caching.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                ids.add(reader.next().getID());
+            }
+        }
+        assertEquals(ids(memory.getFeatureSource("shapes"), query), ids);
+        assertTrue(caching.cache.getBlockCount() > 0);
+    }
+}
@@ -20,22 +20,29 @@
 import static org.junit.Assert.assertFalse;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.geotools.api.data.DataStore;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.Name;
+import org.geotools.api.filter.Filter;
 import org.geotools.api.filter.FilterFactory;
 import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
 import org.geotools.data.EmptyFeatureReader;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.feature.NameImpl;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.feature.visitor.SumVisitor;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.junit.Test;
 import org.locationtech.jts.geom.LineString;
@@ -151,4 +158,74 @@ protected boolean canSort(Query query) {
             assertFalse(fi.hasNext());
         }
     }
+
+    @Test
+    public void testBatchVisitor() throws Exception {
+        List<SimpleFeature> features = List.of(
+                SimpleFeatureBuilder.build(TYPE, new Object[] {null, "a", 1, "x"}, "Mock.1"),
+                SimpleFeatureBuilder.build(TYPE, new Object[] {null, "b", 2, "y"}, "Mock.2"),
+                SimpleFeatureBuilder.build(TYPE, new Object[] {null, "c", 4, "x"}, "Mock.3"));
+        List<Query> batchQueries = new ArrayList<>();
+        DataStore store = new ContentDataStore() {
+
+            {
+                namespaceURI = TYPE.getName().getNamespaceURI();
+            }
+
+            @Override
+            protected List<Name> createTypeNames() throws IOException {
+                return List.of(TYPENAME);
+            }
+
+            @Override
+            protected ContentFeatureSource createFeatureSource(ContentEntry entry) throws IOException {
+                return new ContentFeatureSource(entry, null) {
+
+                    @Override
+                    protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
+                        throw new RuntimeException("Unexpected call");
+                    }
+
+                    @Override
+                    protected int getCountInternal(Query query) throws IOException {
+                        return -1;
+                    }
+
+                    @Override
+                    protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query query)
+                            throws IOException {
+                        return DataUtilities.reader(features);
+                    }
+
+                    @Override
+                    protected FeatureBatchReader getBatchReaderInternal(Query query, int batchSize) throws IOException {
+                        batchQueries.add(query);
+                        return new FeatureReaderBatchAdapter(DataUtilities.reader(features), 2);
+                    }
+
+                    @Override
+                    protected SimpleFeatureType buildFeatureType() throws IOException {
+                        return TYPE;
+                    }
+                };
+            }
+        };
+        SimpleFeatureSource fs = store.getFeatureSource(TYPE.getName());
+
+        // read natively in batches
+        SumVisitor sum = new SumVisitor("z", TYPE);
+        fs.getFeatures().accepts(sum, null);
+        assertEquals(7, sum.getResult().toInt());
+        assertEquals(1, batchQueries.size());
+
+        // the source cannot filter, the batches are gathered from the filtering reader
+        SumVisitor filtered = new SumVisitor("z", TYPE);
+        fs.getFeatures(ff.equals(ff.property("cat"), ff.literal("x"))).accepts(filtered, null);
+        assertEquals(5, filtered.getResult().toInt());
+        assertEquals(1, batchQueries.size());
+        try (FeatureBatchReader reader = fs.getBatchReader(new Query(TYPE.getTypeName(), Filter.EXCLUDE), 10)) {
+            assertFalse(reader.hasNext());
+        }
+        assertEquals(1, batchQueries.size());
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HilbertCurveTest {
+
+    @Test
+    public void testContinuous() {
+        // the square anchored at the origin is visited first, one cell at a time
+        int side = 256;
+        int[] cells = new int[side * side];
+        boolean[] visited = new boolean[cells.length];
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                int index = HilbertCurve.index(x, y);
+                assertTrue(index >= 0 && index < cells.length);
+                assertFalse(visited[index]);
+                visited[index] = true;
+                cells[index] = x * side + y;
+            }
+        }
+        assertEquals(0, cells[0]);
+        for (int i = 1; i < cells.length; i++) {
+            int dx = Math.abs(cells[i] / side - cells[i - 1] / side);
+            int dy = Math.abs(cells[i] % side - cells[i - 1] % side);
+            assertEquals("Cells " + (i - 1) + " and " + i + " are not adjacent", 1, dx + dy);
+        }
+    }
+
+    @Test
+    public void testRange() {
+        // the positions of the half resolution grid are positive, the full grid uses all the 32 bits
+        assertEquals(0, HilbertCurve.index(0, 0));
+        assertTrue(HilbertCurve.index(HilbertCurve.MAX >> 1, HilbertCurve.MAX >> 1) > 0);
+        assertTrue(HilbertCurve.index(HilbertCurve.MAX >> 1, 0) > 0);
+        assertEquals(-1, HilbertCurve.index(HilbertCurve.MAX, 0));
+    }
+}
@@ -16,6 +16,12 @@
  */
 package org.geotools.data.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -153,4 +159,63 @@ public void testOutsideScreen() throws Exception {
         Assert.assertTrue(map.checkAndSet(0, 0));
         Assert.assertTrue(map.get(0, 0));
     }
+
+    @Test
+    public void testTilesAllocatedOnDemand() throws Exception {
+        // a 8k x 8k meta tile, only a few pixels get set
+        ScreenMap map = new ScreenMap(-100, -100, 8192, 8192);
+        Assert.assertFalse(map.get(4000, 4000));
+        Assert.assertNull(map.bitfield);
+
+        Assert.assertFalse(map.checkAndSet(4000, 4000));
+        Assert.assertTrue(map.checkAndSet(4000, 4000));
+        Assert.assertFalse(map.checkAndSet(-100, -100));
+        Assert.assertFalse(map.checkAndSet(8091, 8091));
+        Assert.assertTrue(map.get(8091, 8091));
+        // neighbours in the same tile are not set
+        Assert.assertFalse(map.get(4001, 4000));
+        Assert.assertFalse(map.get(4000, 4001));
+        // clearing a pixel in an untouched tile does not allocate it
+        map.set(0, 0, false);
+
+        int allocated = 0;
+        for (int i = 0; i < map.bitfield.tiles.length(); i++) {
+            if (map.bitfield.tiles.get(i) != null) {
+                allocated++;
+            }
+        }
+        Assert.assertEquals(3, allocated);
+    }
+
+    @Test
+    public void testConcurrentCheckAndSet() throws Exception {
+        final int size = 300;
+        final int threads = 4;
+        ScreenMap map = new ScreenMap(0, 0, size, size);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // all threads try to set all pixels, each pixel must be won by exactly one of them
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    int won = 0;
+                    for (int x = 0; x < size; x++) {
+                        for (int y = 0; y < size; y++) {
+                            if (!map.checkAndSet(x, y)) {
+                                won++;
+                            }
+                        }
+                    }
+                    return won;
+                });
+            }
+            int total = 0;
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                total += future.get();
+            }
+            Assert.assertEquals(size * size, total);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -27,11 +27,14 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.expression.Expression;
 import org.geotools.api.filter.expression.PropertyName;
 import org.geotools.data.DataUtilities;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.util.NullProgressListener;
 import org.geotools.feature.FeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
@@ -546,4 +549,33 @@ private boolean checkArraysAreEqual(Object[] arrayA, Object[] arrayB) {
         }
         return true;
     }
+
+    @Test
+    public void testGroupByBatches() throws Exception {
+        GroupByVisitor visitor = buildVisitor("energy_consumption", "Sum", "building_type", "energy_type");
+        GroupByVisitor maxVisitor = buildVisitor("energy_consumption", "Max", "building_type");
+        try (FeatureBatchReader reader = new FeatureReaderBatchAdapter(DataUtilities.reader(featureCollection), 5)) {
+            while (reader.hasNext()) {
+                FeatureBatch batch = reader.next();
+                visitor.visit(batch);
+                maxVisitor.visit(batch);
+            }
+        }
+        checkResults(visitor.getResult(), new Object[][] {
+            new Object[] {"SCHOOL", "FLOWING_WATER", 50.0},
+            new Object[] {"SCHOOL", "NUCLEAR", 20.0},
+            new Object[] {"SCHOOL", "WIND", 20.0},
+            new Object[] {"SCHOOL", "SOLAR", 30.0},
+            new Object[] {"SCHOOL", "FUEL", 60.0},
+            new Object[] {"FABRIC", "FLOWING_WATER", 500.0},
+            new Object[] {"FABRIC", "NUCLEAR", 150.0},
+            new Object[] {"FABRIC", "WIND", 20.0},
+            new Object[] {"FABRIC", "SOLAR", 30.0},
+            new Object[] {"HOUSE", "FUEL", 6.0},
+            new Object[] {"HOUSE", "NUCLEAR", 4.0}
+        });
+        checkResults(maxVisitor.getResult(), new Object[][] {
+            new Object[] {"SCHOOL", 60.0}, new Object[] {"FABRIC", 500.0}, new Object[] {"HOUSE", 6.0}
+        });
+    }
 }
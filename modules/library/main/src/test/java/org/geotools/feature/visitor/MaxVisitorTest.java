@@ -16,7 +16,10 @@
  */
 package org.geotools.feature.visitor;
 
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.memory.MemoryFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
@@ -79,4 +82,26 @@ private static class PreVisitedMaxVisitor extends MaxVisitor {
             this.visited = true;
         }
     }
+
+    @Test
+    public void visitBatch() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Test", "ALong:java.lang.Long,ADouble:Double");
+        FeatureBatch batch = new FeatureReaderBatchAdapter(
+                        DataUtilities.reader(
+                                SimpleFeatureBuilder.build(type, new Object[] {3L, 2.5}, "1"),
+                                SimpleFeatureBuilder.build(type, new Object[] {null, Double.NaN}, "2"),
+                                SimpleFeatureBuilder.build(type, new Object[] {-1L, 7.0}, "3")),
+                        10)
+                .next();
+
+        MaxVisitor longs = new MaxVisitor("ALong");
+        longs.visit(batch);
+        Assert.assertEquals(Long.valueOf(3), longs.getMax());
+        Assert.assertEquals(1, longs.getNullCount());
+
+        MaxVisitor doubles = new MaxVisitor("ADouble");
+        doubles.visit(batch);
+        Assert.assertEquals(Double.valueOf(7.0), doubles.getMax());
+        Assert.assertEquals(1, doubles.getNaNCount());
+    }
 }
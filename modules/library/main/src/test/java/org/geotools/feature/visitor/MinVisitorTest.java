@@ -16,7 +16,10 @@
  */
 package org.geotools.feature.visitor;
 
+import org.geotools.api.data.FeatureBatch;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.memory.MemoryFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
@@ -78,4 +81,29 @@ private static class PreVisitedMinVisitor extends MinVisitor {
             this.visited = true;
         }
     }
+
+    @Test
+    public void visitBatch() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("Test", "AInteger:Integer,ADouble:Double,AString:String");
+        FeatureBatch batch = new FeatureReaderBatchAdapter(
+                        DataUtilities.reader(
+                                SimpleFeatureBuilder.build(type, new Object[] {3, 2.5, "b"}, "1"),
+                                SimpleFeatureBuilder.build(type, new Object[] {null, null, null}, "2"),
+                                SimpleFeatureBuilder.build(type, new Object[] {-1, 7.0, "a"}, "3")),
+                        10)
+                .next();
+
+        MinVisitor integers = new MinVisitor("AInteger");
+        integers.visit(batch);
+        Assert.assertEquals(Integer.valueOf(-1), integers.getMin());
+
+        MinVisitor doubles = new MinVisitor("ADouble");
+        doubles.visit(batch);
+        doubles.visit(batch.select(new int[] {1, 2}, 2));
+        Assert.assertEquals(Double.valueOf(2.5), doubles.getMin());
+
+        MinVisitor strings = new MinVisitor("AString");
+        strings.visit(batch);
+        Assert.assertEquals("a", strings.getMin());
+    }
 }
@@ -19,10 +19,15 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
 
 import java.util.List;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.FeatureReaderBatchAdapter;
 import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.junit.Before;
@@ -105,4 +110,28 @@ public void mixed() throws Exception {
         assertEquals(expectedValue, value);
         assertSame(expectedValue.getClass(), value.getClass());
     }
+
+    @Test
+    public void mixedBatches() throws Exception {
+        FeatureCalc calc = createVisitor(0, featureType);
+        assumeTrue(calc instanceof FeatureBatchVisitor);
+
+        int idx = 1;
+        for (T value : values) {
+            featureCollection.add(featureBuilder.buildFeature("f" + idx, value, idx));
+            ++idx;
+            featureCollection.add(featureBuilder.buildFeature("f" + idx, null, idx));
+            ++idx;
+        }
+
+        try (FeatureBatchReader reader =
+                new FeatureReaderBatchAdapter(DataUtilities.reader((SimpleFeatureCollection) featureCollection), 4)) {
+            while (reader.hasNext()) {
+                ((FeatureBatchVisitor) calc).visit(reader.next());
+            }
+        }
+        Object value = calc.getResult().getValue();
+        assertEquals(expectedValue, value);
+        assertSame(expectedValue.getClass(), value.getClass());
+    }
 }
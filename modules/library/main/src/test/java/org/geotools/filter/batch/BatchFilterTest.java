@@ -0,0 +1,213 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultFeatureBatch;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.filter.identity.FeatureIdImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class BatchFilterTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType schema;
+
+    List<SimpleFeature> features;
+
+    /** The same features in a batch, the values whose class does not match the binding get converted */
+    DefaultFeatureBatch batch;
+
+    @Before
+    public void setup() throws Exception {
+        schema = DataUtilities.createType(
+                "test", "geom:Geometry,i:Integer,l:Long,d:Double,f:Float,s:java.lang.Short,name:String");
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+        features = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Geometry geom;
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            if (i % 3 == 0) {
+                geom = gf.createPoint(new Coordinate(x, y));
+            } else {
+                geom = gf.createLineString(
+                        new Coordinate[] {new Coordinate(x, y), new Coordinate(x + 10, y + random.nextDouble() * 10)});
+            }
+            Object[] values = {
+                i % 50 == 0 ? null : geom,
+                i % 17 == 0 ? null : random.nextInt(20),
+                i % 19 == 0 ? null : (long) random.nextInt(20),
+                i % 23 == 0 ? Double.NaN : i % 29 == 0 ? -0d : random.nextInt(200) / 10d,
+                i % 31 == 0 ? null : random.nextInt(200) / 10f,
+                (short) random.nextInt(20),
+                "name" + i
+            };
+            // bypass validation to get some values whose class does not match the binding
+            if (i % 37 == 0) {
+                values[1] = Long.valueOf(5);
+                values[3] = "10";
+            }
+            features.add(new SimpleFeatureImpl(values, schema, new FeatureIdImpl("test." + i), false));
+        }
+        batch = new DefaultFeatureBatch(schema, features.size());
+        for (SimpleFeature feature : features) {
+            int row = batch.addRow(feature.getID());
+            for (int c = 0; c < schema.getAttributeCount(); c++) {
+                batch.setValue(c, row, feature.getAttribute(c));
+            }
+        }
+    }
+
+    /** Checks the batch evaluation gives the same results as the filter, returns the number of matches */
+    private int assertSameResults(Filter filter, boolean accelerated) {
+        BatchFilter batchFilter = BatchFilter.compile(filter, schema);
+        assertEquals(accelerated, batchFilter.isAccelerated());
+        BitSet result = batchFilter.evaluate(features);
+        int matches = 0;
+        for (int i = 0; i < features.size(); i++) {
+            boolean expected = filter.evaluate(features.get(i));
+            assertEquals("Mismatch on feature " + i + " for " + filter, expected, result.get(i));
+            assertEquals(
+                    "Mismatch on feature " + i + " for " + filter, expected, batchFilter.evaluate(features.get(i)));
+            if (expected) matches++;
+        }
+        BitSet batchResult = batchFilter.evaluate(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(
+                    "Mismatch on row " + i + " for " + filter,
+                    filter.evaluate(batch.getFeature(i)),
+                    batchResult.get(i));
+        }
+        return matches;
+    }
+
+    @Test
+    public void testBatchOfOtherType() throws Exception {
+        // the attributes are not at the same index, the rows must go through the original filter
+        SimpleFeatureType other = DataUtilities.createType("other", "i:Integer");
+        DefaultFeatureBatch otherBatch = new DefaultFeatureBatch(other, 3);
+        for (int i = 0; i < 3; i++) {
+            otherBatch.setValue(0, otherBatch.addRow("other." + i), i);
+        }
+        Filter filter = FF.greater(FF.property("i"), FF.literal(0));
+        BitSet result = BatchFilter.compile(filter, schema).evaluate(otherBatch);
+        assertEquals(BitSet.valueOf(new long[] {6}), result);
+    }
+
+    @Test
+    public void testComparisons() {
+        for (String name : new String[] {"i", "l", "d", "f", "s"}) {
+            for (Object literal : new Object[] {5, 5L, 5d, 5f, (short) 5, 2.5d, 2.5f, -0d}) {
+                boolean accelerated = true;
+                assertSameResults(FF.equals(FF.property(name), FF.literal(literal)), accelerated);
+                assertSameResults(FF.less(FF.property(name), FF.literal(literal)), accelerated);
+                assertSameResults(FF.lessOrEqual(FF.property(name), FF.literal(literal)), accelerated);
+                assertSameResults(FF.greater(FF.property(name), FF.literal(literal)), accelerated);
+                assertSameResults(FF.greaterOrEqual(FF.property(name), FF.literal(literal)), accelerated);
+                // literal first
+                assertSameResults(FF.less(FF.literal(literal), FF.property(name)), accelerated);
+                assertSameResults(FF.greaterOrEqual(FF.literal(literal), FF.property(name)), accelerated);
+            }
+        }
+    }
+
+    @Test
+    public void testNaN() {
+        assertSameResults(FF.equals(FF.property("d"), FF.literal(Double.NaN)), true);
+        assertSameResults(FF.less(FF.property("d"), FF.literal(Double.NaN)), true);
+    }
+
+    @Test
+    public void testBetween() {
+        for (String name : new String[] {"i", "l", "d", "f", "s"}) {
+            assertSameResults(FF.between(FF.property(name), FF.literal(3), FF.literal(7)), true);
+            assertSameResults(FF.between(FF.property(name), FF.literal(3L), FF.literal(7L)), true);
+            assertSameResults(FF.between(FF.property(name), FF.literal(-0d), FF.literal(7.5d)), true);
+            assertSameResults(FF.between(FF.property(name), FF.literal(0.5f), FF.literal(7.5f)), true);
+        }
+        // mixed literal classes are converted to the attribute binding
+        assertSameResults(FF.between(FF.property("i"), FF.literal(3), FF.literal(7d)), true);
+    }
+
+    @Test
+    public void testBBOX() {
+        int matches = assertSameResults(FF.bbox("geom", 20, 20, 50, 50, null), true);
+        assertTrue(matches > 0 && matches < features.size());
+        assertSameResults(FF.bbox("", 20, 20, 50, 50, null), true);
+        Geometry triangle = new GeometryFactory().createPolygon(new Coordinate[] {
+            new Coordinate(0, 0), new Coordinate(60, 0), new Coordinate(0, 60), new Coordinate(0, 0)
+        });
+        assertSameResults(FF.bbox(FF.property("geom"), FF.literal(triangle)), true);
+    }
+
+    @Test
+    public void testLogic() {
+        Filter less = FF.less(FF.property("i"), FF.literal(10));
+        Filter bbox = FF.bbox("geom", 20, 20, 80, 80, null);
+        Filter like = FF.like(FF.property("name"), "name1*");
+        int matches = assertSameResults(FF.and(less, bbox), true);
+        assertTrue(matches > 0 && matches < features.size());
+        assertSameResults(FF.and(like, less), true);
+        assertSameResults(FF.or(like, less), true);
+        assertSameResults(FF.or(FF.and(less, bbox), FF.not(like)), true);
+        assertSameResults(FF.not(less), true);
+        assertSameResults(FF.and(Filter.INCLUDE, less), true);
+        assertSameResults(Filter.EXCLUDE, true);
+    }
+
+    @Test
+    public void testNotAccelerated() {
+        Filter like = FF.like(FF.property("name"), "name1*");
+        assertSameResults(like, false);
+        assertSameResults(
+                FF.and(like, FF.equals(FF.function("strToUpperCase", FF.property("name")), FF.literal("NAME10"))),
+                false);
+        // unknown attribute, or literal that cannot be safely converted to the binding
+        assertFalse(BatchFilter.compile(FF.less(FF.property("x"), FF.literal(10)), schema)
+                .isAccelerated());
+        assertSameResults(FF.less(FF.property("i"), FF.literal("2.5")), false);
+        // literals compared to the attribute are converted, where the filter would do the same
+        assertSameResults(FF.less(FF.property("i"), FF.literal("10")), true);
+        assertSameResults(FF.and(like, FF.equals(FF.property("name"), FF.literal("name10"))), true);
+    }
+
+    @Test
+    public void testEmpty() {
+        BatchFilter filter = BatchFilter.compile(FF.less(FF.property("i"), FF.literal(10)), schema);
+        assertTrue(filter.evaluate(new ArrayList<>()).isEmpty());
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter.compiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.filter.FilterAttributeExtractor;
+import org.geotools.filter.identity.FeatureIdImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class FilterCompilerTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType schema;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setup() throws Exception {
+        schema = DataUtilities.createType(
+                "test", "geom:Geometry,i:Integer,l:Long,d:Double,f:Float,name:String,code:String,date:java.util.Date");
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+        features = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            Geometry geom = i % 3 == 0
+                    ? gf.createPoint(new Coordinate(x, y))
+                    : gf.createLineString(
+                            new Coordinate[] {new Coordinate(x, y), new Coordinate(x + 10, y + random.nextDouble() * 10)
+                            });
+            Object[] values = {
+                i % 50 == 0 ? null : geom,
+                i % 17 == 0 ? null : random.nextInt(20),
+                i % 19 == 0 ? null : (long) random.nextInt(20),
+                i % 23 == 0 ? Double.NaN : i % 29 == 0 ? -0d : random.nextInt(200) / 10d,
+                i % 31 == 0 ? null : random.nextInt(200) / 10f,
+                i % 13 == 0 ? "NAME" + i % 100 : "name" + i % 100,
+                i % 7 == 0 ? "abc" : String.valueOf(random.nextInt(20)),
+                i % 11 == 0 ? null : new Date(random.nextInt(20) * 1000L)
+            };
+            // bypass validation to get some values whose class does not match the binding
+            if (i % 37 == 0) {
+                values[1] = Long.valueOf(5);
+                values[3] = "10";
+                values[5] = 10;
+            }
+            features.add(new SimpleFeatureImpl(values, schema, new FeatureIdImpl("test." + i), false));
+        }
+    }
+
+    /** Checks the compiled filter gives the same results as the filter, returns the number of matches */
+    private int assertSameResults(Filter filter, boolean compiled) {
+        Filter result = FilterCompiler.compile(filter, schema);
+        assertEquals("Compilation of " + filter, compiled, result instanceof CompiledFilter);
+        int matches = 0;
+        for (int i = 0; i < features.size(); i++) {
+            boolean expected = filter.evaluate(features.get(i));
+            assertEquals("Mismatch on feature " + i + " for " + filter, expected, result.evaluate(features.get(i)));
+            if (expected) matches++;
+        }
+        return matches;
+    }
+
+    @Test
+    public void testNumericComparisons() {
+        for (String name : new String[] {"i", "l", "d", "f"}) {
+            for (Object literal : new Object[] {5, 5L, 5d, 5f, 2.5d, 2.5f, -0d, Double.NaN, 1L << 40, "5", "2.5"}) {
+                assertSameResults(FF.equals(FF.property(name), FF.literal(literal)), true);
+                assertSameResults(FF.notEqual(FF.property(name), FF.literal(literal)), true);
+                assertSameResults(FF.equals(FF.literal(literal), FF.property(name)), true);
+                // strings are converted to the binding, if the conversion is lossless
+                boolean integral = "i".equals(name) || "l".equals(name);
+                boolean ordered = !(integral && "2.5".equals(literal));
+                assertSameResults(FF.less(FF.property(name), FF.literal(literal)), ordered);
+                assertSameResults(FF.lessOrEqual(FF.property(name), FF.literal(literal)), ordered);
+                assertSameResults(FF.greater(FF.property(name), FF.literal(literal)), ordered);
+                assertSameResults(FF.greaterOrEqual(FF.property(name), FF.literal(literal)), ordered);
+                // literal first
+                boolean orderedFirst = !(literal instanceof String);
+                assertSameResults(FF.less(FF.literal(literal), FF.property(name)), orderedFirst);
+                assertSameResults(FF.greaterOrEqual(FF.literal(literal), FF.property(name)), orderedFirst);
+            }
+        }
+    }
+
+    @Test
+    public void testStringComparisons() {
+        for (String literal : new String[] {"name5", "NAME13", "10", "5", "abc", ""}) {
+            for (boolean matchCase : new boolean[] {true, false}) {
+                assertSameResults(FF.equal(FF.property("name"), FF.literal(literal), matchCase), true);
+                assertSameResults(FF.notEqual(FF.property("code"), FF.literal(literal), matchCase), true);
+            }
+            assertSameResults(FF.less(FF.property("code"), FF.literal(literal)), true);
+            assertSameResults(FF.greaterOrEqual(FF.literal(literal), FF.property("code")), true);
+            assertSameResults(FF.between(FF.property("name"), FF.literal(literal), FF.literal("name6")), true);
+        }
+    }
+
+    @Test
+    public void testDates() {
+        assertSameResults(FF.greater(FF.property("date"), FF.literal(new Date(5000))), true);
+        assertSameResults(
+                FF.between(FF.property("date"), FF.literal(new Date(5000)), FF.literal(new Date(12000))), true);
+        // not a safe conversion
+        assertSameResults(FF.lessOrEqual(FF.property("date"), FF.literal("1970-01-01T00:00:07Z")), false);
+        assertSameResults(FF.equals(FF.property("date"), FF.literal(new Date(5000))), true);
+    }
+
+    @Test
+    public void testBetween() {
+        for (String name : new String[] {"i", "l", "d", "f"}) {
+            assertSameResults(FF.between(FF.property(name), FF.literal(3), FF.literal(7.5)), true);
+            assertSameResults(FF.between(FF.property(name), FF.literal("3"), FF.literal(12L)), true);
+            assertSameResults(FF.between(FF.property(name), FF.literal(-0d), FF.literal(Double.NaN)), true);
+        }
+    }
+
+    @Test
+    public void testNullAndLogic() {
+        int matches = assertSameResults(FF.isNull(FF.property("i")), true);
+        assertTrue(matches > 0 && matches < features.size());
+        assertSameResults(
+                FF.and(List.of(
+                        FF.greater(FF.property("i"), FF.literal(5)),
+                        FF.or(
+                                FF.less(FF.property("l"), FF.literal(10)),
+                                FF.not(FF.between(FF.property("d"), FF.literal(2), FF.literal(8)))),
+                        FF.not(FF.isNull(FF.property("f"))))),
+                true);
+        assertSameResults(
+                FF.and(
+                        FF.or(
+                                FF.equals(FF.property("i"), FF.literal(3)),
+                                FF.equals(FF.function("strToUpperCase", FF.property("name")), FF.literal("NAME5"))),
+                        FF.not(FF.equals(FF.property("l"), FF.literal(2)))),
+                true);
+        assertSameResults(FF.and(Filter.INCLUDE, FF.not(Filter.EXCLUDE)), true);
+    }
+
+    @Test
+    public void testBBOX() {
+        assertSameResults(FF.bbox("geom", 10, 10, 40, 40, null), true);
+        assertSameResults(FF.bbox("", 10, 10, 40, 40, null), true);
+        assertSameResults(
+                FF.or(FF.bbox("geom", 10, 10, 40, 40, null), FF.equals(FF.property("i"), FF.literal(5))), true);
+        Geometry triangle = new GeometryFactory().createPolygon(new Coordinate[] {
+            new Coordinate(10, 10), new Coordinate(50, 10), new Coordinate(10, 50), new Coordinate(10, 10)
+        });
+        assertSameResults(FF.intersects(FF.property("geom"), FF.literal(triangle)), false);
+    }
+
+    @Test
+    public void testNotCompiled() {
+        Filter filter = FF.or(
+                FF.equals(FF.function("strToUpperCase", FF.property("name")), FF.literal("NAME5")),
+                FF.like(FF.property("name"), "na%"));
+        assertSame(filter, FilterCompiler.compile(filter, schema));
+        // unknown attribute
+        filter = FF.equals(FF.property("missing"), FF.literal(5));
+        assertSame(filter, FilterCompiler.compile(filter, schema));
+    }
+
+    @Test
+    public void testCompiledFilter() throws Exception {
+        Filter filter = FF.and(
+                FF.greater(FF.property("i"), FF.literal(5)), FF.equals(FF.property("name"), FF.literal("name10")));
+        CompiledFilter compiled = (CompiledFilter) FilterCompiler.compile(filter, schema);
+        assertSame(filter, compiled.getFilter());
+        assertSame(compiled, FilterCompiler.compile(compiled, schema));
+
+        // visitors see the original filter
+        FilterAttributeExtractor extractor = new FilterAttributeExtractor();
+        compiled.accept(extractor, null);
+        assertEquals(2, extractor.getAttributeNameSet().size());
+
+        // features of other types, and other objects, are handled by the original filter
+        SimpleFeatureType other = DataUtilities.createType("other", "name:String,i:Integer");
+        SimpleFeature feature = new SimpleFeatureImpl(new Object[] {"name10", 6}, other, null, false);
+        assertTrue(compiled.evaluate(feature));
+        assertFalse(compiled.evaluate(null));
+
+        // equal types are fine too
+        SimpleFeatureType copy = DataUtilities.createType(
+                "test", "geom:Geometry,i:Integer,l:Long,d:Double,f:Float,name:String,code:String,date:java.util.Date");
+        feature = new SimpleFeatureImpl(
+                new Object[] {null, 6, null, null, null, "name10", null, null}, copy, null, false);
+        assertTrue(compiled.evaluate(feature));
+    }
+}
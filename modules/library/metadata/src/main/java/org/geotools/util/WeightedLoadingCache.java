@@ -0,0 +1,349 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A cache bounded by the total weight of its values, typically their estimated size in bytes, evicting the least
+ * recently used entries once the budget is exceeded.
+ *
+ * <p>Values are loaded on demand by a {@link Loader}. A miss does not hold any lock while loading: concurrent requests
+ * for the same key wait for the same load to complete, while requests for other keys proceed independently. Values can
+ * also be {@link #prefetch(Object, Loader) prefetched} in the background, so that they are already available when
+ * requested. A request for a value whose prefetch is still queued in the executor does not wait for it, but loads the
+ * value in the calling thread, and the prefetch is then skipped. Unless an executor is provided at construction time,
+ * prefetches run on a small pool shared by all caches, whose queue is bounded: prefetches are best effort, and the ones
+ * that do not fit in the queue are dropped.
+ *
+ * <p>Unlike {@link SoftValueHashMap}, the memory used is predictable, and the cache does not get emptied all at once
+ * under memory pressure. Values heavier than the whole budget are returned to the caller, but not retained. This class
+ * is thread-safe and does not accept null keys or values.
+ *
+ * @param <K> The type of keys in the cache.
+ * @param <V> The type of values in the cache.
+ */
+public class WeightedLoadingCache<K, V> {
+
+    static final Logger LOGGER = Logging.getLogger(WeightedLoadingCache.class);
+
+    /** Rough estimate of the memory used by a value, besides its contents, in bytes */
+    public static final int VALUE_OVERHEAD = 128;
+
+    static final int FEATURE_OVERHEAD = 96;
+
+    static final int COORDINATE_SIZE = 40;
+
+    static final int ATTRIBUTE_SIZE = 64;
+
+    static final int PREFETCH_THREADS = 2;
+
+    static final int PREFETCH_QUEUE_SIZE = 64;
+
+    private static final ThreadPoolExecutor PREFETCH_EXECUTOR =
+            newPrefetchExecutor(PREFETCH_THREADS, PREFETCH_QUEUE_SIZE);
+
+    /**
+     * Loads the value associated to a key
+     *
+     * @param <K> The type of keys
+     * @param <V> The type of values
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        /** Loads the value for the given key. The value must not be null */
+        V load(K key) throws IOException;
+    }
+
+    private static class Entry<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+
+        /** Set by the thread performing the load, either a caller or a prefetch task */
+        final AtomicBoolean loading = new AtomicBoolean();
+
+        /** The weight of the value, or -1 if still loading */
+        long weight = -1;
+    }
+
+    /** The entries, in access order, guarded by their own monitor */
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long maxWeight;
+
+    private final ToLongFunction<? super V> weigher;
+
+    private final Executor executor;
+
+    private long weight;
+
+    /**
+     * Builds a new cache, prefetching values on the shared pool
+     *
+     * @param maxWeight The maximum total weight of the values retained in the cache
+     * @param weigher Computes the weight of a value, e.g., its estimated size in bytes
+     */
+    public WeightedLoadingCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        this(maxWeight, weigher, PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Builds a new cache
+     *
+     * @param maxWeight The maximum total weight of the values retained in the cache
+     * @param weigher Computes the weight of a value, e.g., its estimated size in bytes
+     * @param executor The executor used to prefetch values
+     */
+    public WeightedLoadingCache(long maxWeight, ToLongFunction<? super V> weigher, Executor executor) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("The maximum weight must be positive or zero: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.executor = executor;
+    }
+
+    /**
+     * Builds a pool of daemon threads with a bounded queue, rejecting the tasks that do not fit in it
+     *
+     * @param threads The number of threads
+     * @param queueSize The maximum number of queued tasks
+     */
+    static ThreadPoolExecutor newPrefetchExecutor(int threads, int queueSize) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread thread = new Thread(r, "gt-prefetch-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /** Returns the pool used to prefetch values by the caches not providing their own executor */
+    public static Executor getPrefetchExecutor() {
+        return PREFETCH_EXECUTOR;
+    }
+
+    /**
+     * Returns a rough estimate of the memory used by a decoded feature, in bytes, for weighing values holding features
+     * such as decoded vector tiles
+     *
+     * @param coordinates The number of coordinates of the feature geometry
+     * @param attributes The number of attributes of the feature
+     */
+    public static long estimateFeatureSize(long coordinates, int attributes) {
+        return FEATURE_OVERHEAD + coordinates * COORDINATE_SIZE + (long) attributes * ATTRIBUTE_SIZE;
+    }
+
+    /**
+     * Returns the value associated to the key, loading it in the calling thread if missing, or if its prefetch has not
+     * started yet. If the value is already being loaded by another thread, waits for that load to complete instead.
+     *
+     * @param key The key
+     * @param loader The loader used in case of a miss
+     * @return The value
+     * @throws IOException If the value could not be loaded
+     */
+    public V get(K key, Loader<? super K, ? extends V> loader) throws IOException {
+        while (true) {
+            Entry<V> entry;
+            synchronized (entries) {
+                entry = entries.get(key);
+                if (entry == null) {
+                    entry = new Entry<>();
+                    entries.put(key, entry);
+                }
+            }
+            // a new entry, or one whose prefetch is still queued
+            if (entry.loading.compareAndSet(false, true)) {
+                load(key, entry, loader);
+            }
+            try {
+                return entry.future.get();
+            } catch (CancellationException e) {
+                // a prefetch could not be scheduled, try again
+                continue;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException exception) throw exception;
+                if (cause instanceof Error error) throw error;
+                throw new IOException("Failed to load " + key, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + key + " to load");
+            }
+        }
+    }
+
+    /**
+     * Returns the value associated to the key, if already loaded, without waiting for pending loads
+     *
+     * @param key The key
+     * @return The value, or null if not available
+     */
+    public V peek(K key) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.future.getNow(null);
+    }
+
+    /**
+     * Schedules the load of the value associated to the key in the background, if not already cached or loading. Load
+     * failures are logged and otherwise ignored.
+     *
+     * @param key The key
+     * @param loader The loader used in case of a miss
+     * @return True if a load has been scheduled, false if the value is already cached or loading, or if the executor
+     *     rejected the load
+     */
+    public boolean prefetch(K key, Loader<? super K, ? extends V> loader) {
+        Entry<V> entry;
+        synchronized (entries) {
+            if (entries.containsKey(key)) {
+                return false;
+            }
+            entry = new Entry<>();
+            entries.put(key, entry);
+        }
+        try {
+            Entry<V> scheduled = entry;
+            executor.execute(() -> {
+                if (scheduled.loading.compareAndSet(false, true)) {
+                    load(key, scheduled, loader);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // the executor is shut down, or its queue is full
+            LOGGER.log(Level.FINE, "Could not schedule the prefetch of " + key, e);
+            // unless a caller took over the load already
+            if (entry.loading.compareAndSet(false, true)) {
+                synchronized (entries) {
+                    entries.remove(key, entry);
+                }
+                entry.future.cancel(false);
+            }
+            return false;
+        }
+    }
+
+    private void load(K key, Entry<V> entry, Loader<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.load(key);
+            if (value == null) {
+                throw new IOException("Loader returned a null value for " + key);
+            }
+        } catch (Exception | Error e) {
+            LOGGER.log(Level.FINE, "Failed to load " + key, e);
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            return;
+        }
+
+        long valueWeight = weigher.applyAsLong(value);
+        synchronized (entries) {
+            // the entry might have been removed while loading
+            if (entries.get(key) == entry) {
+                if (valueWeight > maxWeight) {
+                    entries.remove(key);
+                } else {
+                    entry.weight = valueWeight;
+                    weight += valueWeight;
+                    evict();
+                }
+            }
+        }
+        entry.future.complete(value);
+    }
+
+    /** Evicts the least recently used loaded entries until the weight is back within budget */
+    private void evict() {
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Entry<V> entry = it.next();
+            if (entry.weight >= 0) {
+                it.remove();
+                weight -= entry.weight;
+            }
+        }
+    }
+
+    /**
+     * Removes the value associated to the key, if any
+     *
+     * @param key The key
+     */
+    public void remove(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.remove(key);
+            if (entry != null && entry.weight >= 0) {
+                weight -= entry.weight;
+            }
+        }
+    }
+
+    /** Removes all values from the cache. Pending loads complete, but their values are not retained */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /** Returns the total weight of the values currently retained */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /** Returns the maximum total weight of the values retained */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /** Returns the number of entries in the cache, including the ones still loading */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class WeightedLoadingCacheTest {
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws Exception {
+        WeightedLoadingCache<Integer, byte[]> cache = new WeightedLoadingCache<>(100, v -> v.length, executor);
+        byte[] first = cache.get(1, k -> new byte[40]);
+        cache.get(2, k -> new byte[40]);
+        assertEquals(80, cache.getWeight());
+
+        // access the first, so that the second becomes the least recently used
+        assertSame(first, cache.get(1, k -> new byte[40]));
+        cache.get(3, k -> new byte[40]);
+        assertEquals(80, cache.getWeight());
+        assertSame(first, cache.peek(1));
+        assertNull(cache.peek(2));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testHeavyValuesNotRetained() throws Exception {
+        WeightedLoadingCache<Integer, byte[]> cache = new WeightedLoadingCache<>(100, v -> v.length, executor);
+        cache.get(1, k -> new byte[10]);
+        assertEquals(200, cache.get(2, k -> new byte[200]).length);
+        assertNull(cache.peek(2));
+        assertEquals(10, cache.getWeight());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testFailuresNotCached() throws Exception {
+        WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, executor);
+        assertThrows(
+                IOException.class,
+                () -> cache.get(1, k -> {
+                    throw new IOException("failed");
+                }));
+        assertEquals(0, cache.size());
+        assertEquals("one", cache.get(1, k -> "one"));
+    }
+
+    @Test
+    public void testConcurrentLoadsShared() throws Exception {
+        WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, executor);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WeightedLoadingCache.Loader<Integer, String> slow = k -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return "slow";
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(callers.submit(() -> cache.get(1, slow)));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(() -> cache.get(1, slow)));
+            }
+            // a different key is not blocked by the pending load
+            assertEquals("fast", cache.get(2, k -> "fast"));
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("slow", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testPrefetch() throws Exception {
+        WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, executor);
+        AtomicInteger loads = new AtomicInteger();
+        WeightedLoadingCache.Loader<Integer, String> loader = k -> {
+            loads.incrementAndGet();
+            return "value" + k;
+        };
+        assertTrue(cache.prefetch(1, loader));
+        assertEquals("value1", cache.get(1, loader));
+        assertFalse(cache.prefetch(1, loader));
+        assertEquals(1, loads.get());
+
+        // prefetch failures are not retained either
+        assertTrue(cache.prefetch(2, k -> {
+            throw new IOException("failed");
+        }));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertNull(cache.peek(2));
+        assertEquals(1, cache.size());
+
+        // cannot schedule anymore, but the cache keeps working
+        assertFalse(cache.prefetch(3, loader));
+        assertEquals("value3", cache.get(3, loader));
+    }
+
+    @Test
+    public void testQueuedPrefetchTakenOver() throws Exception {
+        // an executor that only queues the tasks, as if busy with other prefetches
+        List<Runnable> queued = new ArrayList<>();
+        WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, queued::add);
+        List<Thread> loaders = new ArrayList<>();
+        WeightedLoadingCache.Loader<Integer, String> loader = k -> {
+            loaders.add(Thread.currentThread());
+            return "value" + k;
+        };
+        assertTrue(cache.prefetch(1, loader));
+        assertEquals(1, queued.size());
+
+        // the request does not wait for the prefetch, but loads in the calling thread
+        assertEquals("value1", cache.get(1, loader));
+        assertEquals(List.of(Thread.currentThread()), loaders);
+
+        // the prefetch eventually runs, and does nothing
+        queued.get(0).run();
+        assertEquals(1, loaders.size());
+        assertEquals("value1", cache.peek(1));
+    }
+
+    @Test
+    public void testPrefetchQueueBounded() throws Exception {
+        ThreadPoolExecutor bounded = WeightedLoadingCache.newPrefetchExecutor(1, 1);
+        try {
+            WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, bounded);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            assertTrue(cache.prefetch(1, k -> {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return "one";
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            // the thread is busy, the second prefetch is queued and the third one dropped
+            assertTrue(cache.prefetch(2, k -> "two"));
+            assertFalse(cache.prefetch(3, k -> "three"));
+            assertEquals(2, cache.size());
+            assertEquals(1, bounded.getQueue().size());
+
+            // the dropped value can still be loaded on demand
+            assertEquals("three", cache.get(3, k -> "three"));
+            release.countDown();
+            assertEquals("one", cache.get(1, k -> "unexpected"));
+            assertEquals("two", cache.get(2, k -> "two"));
+        } finally {
+            bounded.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        WeightedLoadingCache<Integer, String> cache = new WeightedLoadingCache<>(100, String::length, executor);
+        cache.get(1, k -> "one");
+        cache.get(2, k -> "two");
+        cache.remove(1);
+        assertNull(cache.peek(1));
+        assertEquals(3, cache.getWeight());
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+/**
+ * Applies a two-dimensional affine transform on a block of interleaved (<var>x</var>,<var>y</var>) coordinates. Kernels
+ * are created by a {@link BatchKernelFactory} and used by
+ * {@link org.geotools.referencing.operation.transform.AffineTransform2D} for the affine steps surrounding map
+ * projections in concatenated transforms.
+ *
+ * <p>Kernels must be thread safe.
+ *
+ * @since 36
+ */
+public interface AffineKernel {
+    /**
+     * Transforms the given coordinates. The source and destination array sections may be the same, but shall not
+     * otherwise overlap.
+     *
+     * @param srcPts The source coordinates, as (<var>x</var>,<var>y</var>) pairs.
+     * @param srcOff Index of the first coordinate to transform in the source array.
+     * @param dstPts The destination array.
+     * @param dstOff Index where to write the first transformed coordinate.
+     * @param numPts The number of points to transform.
+     */
+    void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts);
+}
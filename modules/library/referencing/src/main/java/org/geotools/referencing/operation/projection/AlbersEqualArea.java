@@ -211,6 +211,20 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
         return new Point2D.Double(x, y);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ProjectionFormula getFormula() {
+        if (isFormulaOverridden(AlbersEqualArea.class)) {
+            return null;
+        }
+        if (isSpherical || excentricity < EPSILON) {
+            // The ellipsoidal qsfn degenerates to 2·sin(φ), which is the spherical formula.
+            return new ProjectionFormula(ProjectionFormula.Kind.ALBERS_EQUAL_AREA_SPHERICAL, n, c, rho0, EPSILON);
+        }
+        return new ProjectionFormula(
+                ProjectionFormula.Kind.ALBERS_EQUAL_AREA, excentricity, excentricitySquared, n, c, rho0, EPSILON);
+    }
+
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
     @Override
     protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
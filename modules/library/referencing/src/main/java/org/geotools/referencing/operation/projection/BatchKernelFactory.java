@@ -0,0 +1,43 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+/**
+ * Service provider for batch kernels. Implementations are discovered with {@link java.util.ServiceLoader} through a
+ * {@code META-INF/services/org.geotools.referencing.operation.projection.BatchKernelFactory} entry. When no factory is
+ * available, or when every factory returns {@code null}, points are transformed one by one as before.
+ *
+ * @since 36
+ * @see BatchKernels
+ */
+public interface BatchKernelFactory {
+    /**
+     * Creates a kernel evaluating the given projection equations.
+     *
+     * @param formula The projection equations and constants.
+     * @return The kernel, or {@code null} if this factory does not support the given equations.
+     */
+    ProjectionKernel createProjectionKernel(ProjectionFormula formula);
+
+    /**
+     * Creates a kernel applying the given affine transform. Coefficients are named as in
+     * {@link java.awt.geom.AffineTransform}.
+     *
+     * @return The kernel, or {@code null} if this factory does not support affine transforms.
+     */
+    AffineKernel createAffineKernel(double m00, double m10, double m01, double m11, double m02, double m12);
+}
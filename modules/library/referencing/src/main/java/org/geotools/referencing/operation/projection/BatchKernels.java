@@ -0,0 +1,117 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Looks up the {@link BatchKernelFactory} implementations available on the classpath. Batch kernels are an optional
+ * optimization: when no factory is found, or when the {@value #BATCH_KERNELS_KEY} system property is set to
+ * {@code false}, every method in this class returns {@code null} and callers transform points one by one.
+ *
+ * @since 36
+ */
+public final class BatchKernels {
+    /** The logger for batch kernel lookups. */
+    static final Logger LOGGER = Logging.getLogger(BatchKernels.class);
+
+    /** System property that can be set to {@code false} in order to disable batch kernels. */
+    public static final String BATCH_KERNELS_KEY = "org.geotools.referencing.batchKernels";
+
+    /** Arrays with less points than this threshold are transformed one by one, without kernel. */
+    public static final int MINIMUM_POINTS = 8;
+
+    /** Maximal number of points given to a kernel in a single call. */
+    static final int BLOCK_SIZE = 256;
+
+    /** Do not allow instantiation of this class. */
+    private BatchKernels() {}
+
+    /** Holds the factories, loaded only when first needed. */
+    private static final class Factories {
+        static final List<BatchKernelFactory> FACTORIES = load();
+
+        private static List<BatchKernelFactory> load() {
+            if (!Boolean.parseBoolean(System.getProperty(BATCH_KERNELS_KEY, "true"))) {
+                return Collections.emptyList();
+            }
+            final List<BatchKernelFactory> factories = new ArrayList<>();
+            try {
+                for (BatchKernelFactory factory : ServiceLoader.load(BatchKernelFactory.class)) {
+                    factories.add(factory);
+                }
+            } catch (ServiceConfigurationError | LinkageError e) {
+                LOGGER.log(Level.WARNING, "Failed to load batch kernel factories, using scalar transforms", e);
+            }
+            return Collections.unmodifiableList(factories);
+        }
+    }
+
+    /** Returns the available factories, or an empty list if batch kernels are disabled. */
+    public static List<BatchKernelFactory> getFactories() {
+        return Factories.FACTORIES;
+    }
+
+    /**
+     * Returns a kernel for the given projection equations.
+     *
+     * @param formula The projection equations, or {@code null}.
+     * @return The kernel of the first factory supporting the equations, or {@code null} if none.
+     */
+    public static ProjectionKernel getProjectionKernel(final ProjectionFormula formula) {
+        if (formula != null) {
+            for (BatchKernelFactory factory : getFactories()) {
+                try {
+                    final ProjectionKernel kernel = factory.createProjectionKernel(formula);
+                    if (kernel != null) {
+                        return kernel;
+                    }
+                } catch (RuntimeException | LinkageError e) {
+                    LOGGER.log(Level.FINE, "Batch kernel factory " + factory + " failed for " + formula, e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a kernel for the given affine transform. Coefficients are named as in
+     * {@link java.awt.geom.AffineTransform}.
+     *
+     * @return The kernel of the first factory supporting affine transforms, or {@code null} if none.
+     */
+    public static AffineKernel getAffineKernel(double m00, double m10, double m01, double m11, double m02, double m12) {
+        for (BatchKernelFactory factory : getFactories()) {
+            try {
+                final AffineKernel kernel = factory.createAffineKernel(m00, m10, m01, m11, m02, m12);
+                if (kernel != null) {
+                    return kernel;
+                }
+            } catch (RuntimeException | LinkageError e) {
+                LOGGER.log(Level.FINE, "Batch kernel factory " + factory + " failed for affine transform", e);
+            }
+        }
+        return null;
+    }
+}
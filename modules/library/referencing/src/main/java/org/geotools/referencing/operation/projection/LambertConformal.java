@@ -232,6 +232,21 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
         return new Point2D.Double(x, y);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ProjectionFormula getFormula() {
+        if (isFormulaOverridden(LambertConformal.class)) {
+            return null;
+        }
+        final double offset = belgium ? BELGE_A : 0;
+        if (isSpherical) {
+            return new ProjectionFormula(
+                    ProjectionFormula.Kind.LAMBERT_CONFORMAL_SPHERICAL, n, F, rho0, offset, EPSILON);
+        }
+        return new ProjectionFormula(
+                ProjectionFormula.Kind.LAMBERT_CONFORMAL, excentricity, n, F, rho0, offset, EPSILON);
+    }
+
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
     @Override
     protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
@@ -258,6 +258,17 @@ public abstract class MapProjection extends AbstractMathTransform implements Mat
     /** Marks if the projection is invertible. The vast majority is, subclasses can override. */
     protected boolean invertible = true;
 
+    /**
+     * The kernel used for transforming coordinate arrays, {@link #NO_KERNEL} if none is available, or {@code null} if
+     * not yet determined.
+     *
+     * @see #getProjectionKernel()
+     */
+    private transient volatile Object kernel;
+
+    /** Value of {@link #kernel} when there is no batch kernel for this projection. */
+    private static final Object NO_KERNEL = new Object();
+
     /**
      * Constructs a new map projection from the suplied parameters.
      *
@@ -812,6 +823,49 @@ protected abstract Point2D inverseTransformNormalized(double x, double y, final
     protected abstract Point2D transformNormalized(double lambda, double phi, final Point2D ptDst)
             throws ProjectionException;
 
+    /**
+     * Returns a description of the equations applied by {@link #transformNormalized transformNormalized}, for
+     * evaluation by a {@link ProjectionKernel}. The default implementation returns {@code null}, meaning that
+     * coordinate arrays are transformed one point at a time.
+     *
+     * <p>Projections overriding this method shall return {@code null} when {@link #isFormulaOverridden} reports that a
+     * subclass changed the equations.
+     *
+     * @return The projection equations, or {@code null} if they can not be evaluated by a kernel.
+     * @since 36
+     */
+    public ProjectionFormula getFormula() {
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if {@link #transformNormalized transformNormalized} is declared in a subclass of the given
+     * class, in which case the formula described by that class no longer applies.
+     *
+     * @param declaringClass The class which declares the equations described by {@link #getFormula}.
+     */
+    final boolean isFormulaOverridden(final Class<? extends MapProjection> declaringClass) {
+        for (Class<?> c = getClass(); c != declaringClass && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("transformNormalized", double.class, double.class, Point2D.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not declared at this level, check the parent class.
+            }
+        }
+        return false;
+    }
+
+    /** Returns the kernel for transforming coordinate arrays, or {@code null} if none. */
+    final ProjectionKernel getProjectionKernel() {
+        Object k = kernel;
+        if (k == null) {
+            k = BatchKernels.getProjectionKernel(getFormula());
+            kernel = k = k != null ? k : NO_KERNEL;
+        }
+        return k != NO_KERNEL ? (ProjectionKernel) k : null;
+    }
+
     /**
      * Transforms the specified {@code ptSrc} and stores the result in {@code ptDst}.
      *
@@ -868,6 +922,13 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
     @Override
     public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
+        if (numPts >= BatchKernels.MINIMUM_POINTS && (srcPts != dstPts || !needCopy(srcOff, 2, dstOff, 2, numPts))) {
+            final ProjectionKernel kernel = getProjectionKernel();
+            if (kernel != null) {
+                transform(kernel, srcPts, srcOff, dstPts, dstOff, numPts);
+                return;
+            }
+        }
         /*
          * Vérifie s'il faudra parcourir le tableau en sens inverse.
          * Ce sera le cas si les tableaux source et destination se
@@ -904,6 +965,75 @@ public final void transform(final double[] srcPts, int srcOff, final double[] ds
         }
     }
 
+    /**
+     * Transforms a list of coordinate point ordinal values using the given kernel. Points are normalized in blocks,
+     * given to the kernel, then scaled and translated as in {@link #transform(Point2D, Point2D)}. Points for which the
+     * kernel returns {@link Double#NaN} are transformed again one by one, in order to get the same exception than the
+     * scalar path. The destination section may overlap the source section only if it does not start after it.
+     */
+    private void transform(
+            final ProjectionKernel kernel,
+            final double[] srcPts,
+            int srcOff,
+            final double[] dstPts,
+            int dstOff,
+            int numPts)
+            throws ProjectionException {
+        final int blockSize = Math.min(numPts, BatchKernels.BLOCK_SIZE);
+        final double[] lambda = new double[blockSize];
+        final double[] phi = new double[blockSize];
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        while (numPts > 0) {
+            final int length = Math.min(numPts, blockSize);
+            for (int i = 0, s = srcOff; i < length; i++) {
+                final double x = srcPts[s++];
+                final double y = srcPts[s++];
+                if (verifyCoordinateRanges()) {
+                    if (verifyGeographicRanges(this, x, y)) {
+                        warningLogged();
+                    }
+                }
+                lambda[i] = centralMeridian != 0 ? rollLongitude(toRadians(x) - centralMeridian) : toRadians(x);
+                phi[i] = toRadians(y);
+            }
+            kernel.transform(lambda, phi, length);
+            for (int i = 0; i < length; i++) {
+                double x = lambda[i];
+                double y = phi[i];
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    // Either an invalid source point or a point the kernel could not handle.
+                    point.x = srcPts[srcOff];
+                    point.y = srcPts[srcOff + 1];
+                    try {
+                        transform(point, point);
+                        x = point.x;
+                        y = point.y;
+                    } catch (ProjectionException exception) {
+                        x = y = Double.NaN;
+                        if (firstException == null) {
+                            firstException = exception;
+                        }
+                    }
+                } else {
+                    x = globalScale * x + falseEasting;
+                    y = globalScale * y + falseNorthing;
+                    if (invertible) {
+                        assert checkReciprocal(
+                                new Point2D.Double(x, y), new Point2D.Double(srcPts[srcOff], srcPts[srcOff + 1]), true);
+                    }
+                }
+                srcOff += 2;
+                dstPts[dstOff++] = x;
+                dstPts[dstOff++] = y;
+            }
+            numPts -= length;
+        }
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
     /**
      * Transforms a list of coordinate point ordinal values. Ordinates must be
      * (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees.
@@ -153,6 +153,15 @@ protected Point2D transformNormalized(double x, double y, final Point2D ptDst) t
         return new Point2D.Double(x, y);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ProjectionFormula getFormula() {
+        if (isFormulaOverridden(Mercator.class)) {
+            return null;
+        }
+        return new ProjectionFormula(ProjectionFormula.Kind.MERCATOR, excentricity, EPSILON);
+    }
+
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
     @Override
     protected Point2D inverseTransformNormalized(double x, double y, final Point2D ptDst) throws ProjectionException {
@@ -211,6 +220,15 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
             return new Point2D.Double(x, y);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public ProjectionFormula getFormula() {
+            if (isFormulaOverridden(Spherical.class)) {
+                return null;
+            }
+            return new ProjectionFormula(ProjectionFormula.Kind.MERCATOR_SPHERICAL, EPSILON);
+        }
+
         /**
          * Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst} using
          * equations for a sphere.
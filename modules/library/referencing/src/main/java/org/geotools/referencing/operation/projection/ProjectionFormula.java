@@ -0,0 +1,151 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+import java.util.Arrays;
+
+/**
+ * Describes the equations applied by {@link MapProjection#transformNormalized transformNormalized} for the few
+ * projections that can be evaluated by a {@link ProjectionKernel}. The description is a {@linkplain Kind kind} of
+ * equations together with the constants computed by the projection at construction time, so a kernel can reproduce the
+ * exact computation without access to the projection internals.
+ *
+ * <p>The coefficients are given in the order documented on each {@link Kind}. Angles are in radians and linear values
+ * are on the unit sphere or ellipse, as for {@code transformNormalized}.
+ *
+ * @since 36
+ */
+public final class ProjectionFormula {
+    /** The equations described by a {@link ProjectionFormula}. */
+    public enum Kind {
+        /**
+         * Ellipsoidal Transverse Mercator. Coefficients are <var>e</var>², <var>e'</var>², the meridian distance at the
+         * latitude of origin, the five {@code mlfn} constants {@code en0} to {@code en4} and the tolerance used for
+         * detecting {@code cos(φ) = 0}.
+         */
+        TRANSVERSE_MERCATOR(9),
+
+        /**
+         * Spherical Transverse Mercator. Coefficients are the latitude of origin and the tolerance used for detecting
+         * points at infinity.
+         */
+        TRANSVERSE_MERCATOR_SPHERICAL(2),
+
+        /** Ellipsoidal Mercator. Coefficients are <var>e</var> and the tolerance used for detecting poles. */
+        MERCATOR(2),
+
+        /** Spherical Mercator. The only coefficient is the tolerance used for detecting poles. */
+        MERCATOR_SPHERICAL(1),
+
+        /**
+         * Ellipsoidal Lambert Conic Conformal. Coefficients are <var>e</var>, <var>n</var>, <var>F</var>,
+         * <var>ρ</var>₀, the offset subtracted from <var>n</var>·<var>λ</var> (non-zero for the Belgium variant) and
+         * the tolerance used for detecting poles.
+         */
+        LAMBERT_CONFORMAL(6),
+
+        /**
+         * Spherical Lambert Conic Conformal. Coefficients are <var>n</var>, <var>F</var>, <var>ρ</var>₀, the offset
+         * subtracted from <var>n</var>·<var>λ</var> and the tolerance used for detecting poles.
+         */
+        LAMBERT_CONFORMAL_SPHERICAL(5),
+
+        /**
+         * Ellipsoidal Albers Equal Area. Coefficients are <var>e</var>, <var>e</var>², <var>n</var>, <var>C</var>,
+         * <var>ρ</var>₀ and the tolerance under which a negative <var>ρ</var>² is rounded to zero.
+         */
+        ALBERS_EQUAL_AREA(6),
+
+        /**
+         * Spherical Albers Equal Area. Coefficients are <var>n</var>, <var>C</var>, <var>ρ</var>₀ and the tolerance
+         * under which a negative <var>ρ</var>² is rounded to zero.
+         */
+        ALBERS_EQUAL_AREA_SPHERICAL(4);
+
+        /** The number of coefficients expected for this kind. */
+        private final int coefficientCount;
+
+        Kind(final int coefficientCount) {
+            this.coefficientCount = coefficientCount;
+        }
+
+        /** Returns the number of coefficients expected for this kind of equations. */
+        public int getCoefficientCount() {
+            return coefficientCount;
+        }
+    }
+
+    /** The kind of equations. */
+    private final Kind kind;
+
+    /** The coefficients, in the order documented by {@link #kind}. */
+    private final double[] coefficients;
+
+    /**
+     * Creates a new formula description.
+     *
+     * @param kind The kind of equations.
+     * @param coefficients The coefficients, in the order documented on the kind.
+     * @throws IllegalArgumentException if the number of coefficients does not match the kind.
+     */
+    public ProjectionFormula(final Kind kind, final double... coefficients) throws IllegalArgumentException {
+        if (coefficients.length != kind.coefficientCount) {
+            throw new IllegalArgumentException(
+                    kind + " expects " + kind.coefficientCount + " coefficients, got " + coefficients.length);
+        }
+        this.kind = kind;
+        this.coefficients = coefficients.clone();
+    }
+
+    /** Returns the kind of equations. */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the coefficient at the given index.
+     *
+     * @param index The coefficient index, in the order documented on the {@linkplain #getKind kind}.
+     */
+    public double getCoefficient(final int index) {
+        return coefficients[index];
+    }
+
+    /** Returns a copy of all coefficients. */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (object instanceof ProjectionFormula) {
+            final ProjectionFormula that = (ProjectionFormula) object;
+            return kind == that.kind && Arrays.equals(coefficients, that.coefficients);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + Arrays.hashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        return kind + Arrays.toString(coefficients);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+/**
+ * Evaluates the equations described by a {@link ProjectionFormula} on a block of coordinates at once. Kernels are
+ * created by a {@link BatchKernelFactory} and used by {@link MapProjection} when transforming coordinate arrays.
+ *
+ * <p>Coordinates are given as two parallel arrays rather than interleaved, so implementations can load consecutive
+ * values directly in vector registers. Points that can not be projected (for example a pole in the Mercator projection)
+ * must be set to {@link Double#NaN}; the caller will then evaluate them again one by one in order to report the exact
+ * {@link ProjectionException}.
+ *
+ * <p>Kernels must be thread safe.
+ *
+ * @since 36
+ */
+public interface ProjectionKernel {
+    /**
+     * Transforms in place the given normalized coordinates.
+     *
+     * @param lambda On input the longitudes relative to the central meridian, in radians. On output the <var>x</var>
+     *     values as a linear distance on a unit sphere or ellipse.
+     * @param phi On input the latitudes in radians. On output the <var>y</var> values as a linear distance on a unit
+     *     sphere or ellipse.
+     * @param length The number of points to transform, starting at index 0.
+     */
+    void transform(double[] lambda, double[] phi, int length);
+}
@@ -171,6 +171,25 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
         return new Point2D.Double(x, y);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ProjectionFormula getFormula() {
+        if (isFormulaOverridden(TransverseMercator.class)) {
+            return null;
+        }
+        return new ProjectionFormula(
+                ProjectionFormula.Kind.TRANSVERSE_MERCATOR,
+                excentricitySquared,
+                esp,
+                ml0,
+                en0,
+                en1,
+                en2,
+                en3,
+                en4,
+                EPSILON);
+    }
+
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
     @Override
     protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
@@ -273,6 +292,16 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
             return new Point2D.Double(x, y);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public ProjectionFormula getFormula() {
+            if (isFormulaOverridden(Spherical.class)) {
+                return null;
+            }
+            return new ProjectionFormula(
+                    ProjectionFormula.Kind.TRANSVERSE_MERCATOR_SPHERICAL, latitudeOfOrigin, EPSILON);
+        }
+
         /** {@inheritDoc} */
         @Override
         protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
@@ -35,6 +35,8 @@
 import org.geotools.referencing.operation.matrix.Matrix2;
 import org.geotools.referencing.operation.matrix.Matrix3;
 import org.geotools.referencing.operation.matrix.XAffineTransform;
+import org.geotools.referencing.operation.projection.AffineKernel;
+import org.geotools.referencing.operation.projection.BatchKernels;
 import org.geotools.referencing.util.Formattable;
 import org.geotools.referencing.wkt.Formatter;
 import org.geotools.referencing.wkt.Symbols;
@@ -58,6 +60,12 @@ public class AffineTransform2D extends XAffineTransform
     /** The inverse transform. This field will be computed only when needed. */
     private transient AffineTransform2D inverse;
 
+    /**
+     * The kernel for transforming coordinate arrays, {@link Boolean#FALSE} if none is available, or {@code null} if not
+     * yet determined.
+     */
+    private transient volatile Object kernel;
+
     /** Constructs a new affine transform with the same coefficient than the specified transform. */
     public AffineTransform2D(final AffineTransform transform) {
         super(transform);
@@ -124,6 +132,27 @@ public Position transform(final Position ptSrc, Position ptDst) {
         return ptDst;
     }
 
+    /**
+     * Transforms an array of coordinates. Large arrays are given to the {@link AffineKernel} provided by
+     * {@link BatchKernels}, if any. Otherwise this method delegates to the {@link AffineTransform} implementation.
+     */
+    @Override
+    public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts) {
+        if (numPts >= BatchKernels.MINIMUM_POINTS && (srcPts != dstPts || srcOff == dstOff) && !isIdentity()) {
+            Object k = kernel;
+            if (k == null) {
+                k = BatchKernels.getAffineKernel(
+                        getScaleX(), getShearY(), getShearX(), getScaleY(), getTranslateX(), getTranslateY());
+                kernel = k = k != null ? k : Boolean.FALSE;
+            }
+            if (k instanceof AffineKernel) {
+                ((AffineKernel) k).transform(srcPts, srcOff, dstPts, dstOff, numPts);
+                return;
+            }
+        }
+        super.transform(srcPts, srcOff, dstPts, dstOff, numPts);
+    }
+
     /**
      * Transforms the specified shape.
      *
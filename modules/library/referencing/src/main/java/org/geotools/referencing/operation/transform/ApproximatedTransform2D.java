@@ -0,0 +1,528 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import org.geotools.api.geometry.Position;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.Matrix;
+import org.geotools.api.referencing.operation.NoninvertibleTransformException;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.operation.LinearTransform;
+import org.geotools.util.Utilities;
+
+/**
+ * A {@link MathTransform2D} approximating an other transform within a given error, inside a rectangular domain. The
+ * domain is recursively split in halves, until each cell can be approximated by a bilinear interpolation of the exact
+ * transform at its corners, with an error below the requested tolerance. Each cell is split along the axis showing the
+ * largest deviation from linearity, so that transforms bending in a single direction do not need to be refined in both.
+ * This is similar in spirit to what {@link WarpBuilder} does for rasters, but the cells are refined locally instead of
+ * forming a regular grid, and the result can be applied to arbitrary coordinates, such as the vertices of vector
+ * geometries being rendered.
+ *
+ * <p>Points outside of the domain, and points falling in cells that could not be approximated (e.g., because they are
+ * close to a singularity or the border of the projection area of validity) are transformed using the exact transform.
+ * The {@linkplain #inverse() inverse} and the {@linkplain #derivative(Point2D) derivatives} are the ones of the exact
+ * transform.
+ */
+public final class ApproximatedTransform2D extends AbstractMathTransform implements MathTransform2D {
+
+    /** Minimum number of splits along each axis, avoids trusting a handful of samples over the whole domain */
+    static final int MIN_DEPTH = 2;
+
+    /** Maximum number of splits along each axis, cells that still do not fit use the exact transform */
+    static final int MAX_DEPTH = 12;
+
+    /** Maximum number of cells */
+    static final int MAX_CELLS = 4096;
+
+    /** Number of rows and columns of the lookup grid used to skip the top levels of the tree */
+    static final int GRID = 32;
+
+    /** Number of samples along each side of a cell used to estimate the approximation error */
+    static final int SAMPLES = 5;
+
+    /**
+     * Number of values stored for each cell: the cell bounds in normalized domain coordinates (minimum u, maximum u,
+     * minimum v, maximum v), the inverse of its width and height, and the coefficients of the bilinear forms {@code a +
+     * b*s + c*t + d*s*t} for x and y, with {@code s} and {@code t} between 0 and 1 across the cell
+     */
+    private static final int CELL_SIZE = 14;
+
+    /** The exact transform */
+    private final MathTransform2D exact;
+
+    /** The approximated domain */
+    private final double minX, minY, width, height;
+
+    /** The maximum error, in target units */
+    private final double tolerance;
+
+    /**
+     * For each node, the index of its first child (the two children are contiguous) shifted left by one bit, with the
+     * lowest bit set if the node is split along the v axis. For cells, the complement of the cell index.
+     */
+    private final int[] nodes;
+
+    /** For each node, the normalized coordinate where it is split */
+    private final double[] splits;
+
+    /** The cells, see {@link #CELL_SIZE}. Cells using the exact transform have NaN coefficients */
+    private final double[] cells;
+
+    /** For each cell of a regular {@link #GRID} by {@link #GRID} grid, the deepest node fully containing it */
+    private final int[] grid;
+
+    /** Number of cells that are approximated */
+    private final int approximatedCells;
+
+    /**
+     * Returns a transform approximating {@code exact} within {@code domain}, with a maximum error of {@code tolerance},
+     * expressed in target units. Returns {@code exact} itself if it is already linear, if the parameters are not
+     * usable, or if no portion of the domain could be approximated.
+     *
+     * @param exact The transform to approximate.
+     * @param domain The area, in source units, where the approximation will be used.
+     * @param tolerance The maximum error, in target units.
+     */
+    public static MathTransform2D create(MathTransform2D exact, Rectangle2D domain, double tolerance) {
+        if (exact == null
+                || exact instanceof LinearTransform
+                || exact instanceof ApproximatedTransform2D
+                || exact.isIdentity()
+                || !(tolerance > 0)
+                || domain == null
+                || !(domain.getWidth() > 0)
+                || !(domain.getHeight() > 0)
+                || Double.isInfinite(domain.getWidth())
+                || Double.isInfinite(domain.getHeight())) {
+            return exact;
+        }
+        ApproximatedTransform2D approximated = new ApproximatedTransform2D(exact, domain, tolerance);
+        if (approximated.approximatedCells == 0) {
+            return exact;
+        }
+        return approximated;
+    }
+
+    private ApproximatedTransform2D(MathTransform2D exact, Rectangle2D domain, double tolerance) {
+        this.exact = exact;
+        this.minX = domain.getMinX();
+        this.minY = domain.getMinY();
+        this.width = domain.getWidth();
+        this.height = domain.getHeight();
+        this.tolerance = tolerance;
+
+        Builder builder = new Builder(tolerance * tolerance);
+        builder.build();
+        this.nodes = Arrays.copyOf(builder.nodes, builder.nodeCount);
+        this.splits = Arrays.copyOf(builder.splits, builder.nodeCount);
+        this.cells = Arrays.copyOf(builder.cells, builder.cellCount * CELL_SIZE);
+        this.approximatedCells = builder.approximatedCells;
+        this.grid = new int[GRID * GRID];
+        for (int j = 0; j < GRID; j++) {
+            for (int i = 0; i < GRID; i++) {
+                grid[j * GRID + i] = findNode(
+                        (double) i / GRID, (double) (i + 1) / GRID, (double) j / GRID, (double) (j + 1) / GRID);
+            }
+        }
+    }
+
+    /** Returns the deepest node fully containing the given normalized rectangle. */
+    private int findNode(double u0, double u1, double v0, double v1) {
+        int node = 0;
+        int n;
+        while ((n = nodes[node]) >= 0) {
+            final boolean alongU = (n & 1) == 0;
+            final double min = alongU ? u0 : v0;
+            final double max = alongU ? u1 : v1;
+            if (max <= splits[node]) {
+                node = n >>> 1;
+            } else if (min >= splits[node]) {
+                node = (n >>> 1) + 1;
+            } else {
+                break;
+            }
+        }
+        return node;
+    }
+
+    /** Returns the exact transform being approximated. */
+    public MathTransform2D getExactTransform() {
+        return exact;
+    }
+
+    /** Returns the domain where the approximation is used, in source units. */
+    public Rectangle2D getDomain() {
+        return new Rectangle2D.Double(minX, minY, width, height);
+    }
+
+    /** Returns the maximum error of the approximation, in target units. */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /** Returns the number of cells approximated by a bilinear interpolation. */
+    int getApproximatedCellCount() {
+        return approximatedCells;
+    }
+
+    @Override
+    public int getSourceDimensions() {
+        return 2;
+    }
+
+    @Override
+    public int getTargetDimensions() {
+        return 2;
+    }
+
+    @Override
+    public void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, final int numPts)
+            throws TransformException {
+        // with overlapping arrays, walk backward so that no source point gets overwritten before being read
+        int step = 2;
+        if (srcPts == dstPts && srcOff < dstOff && srcOff + numPts * 2 > dstOff) {
+            srcOff += (numPts - 1) * 2;
+            dstOff += (numPts - 1) * 2;
+            step = -2;
+        }
+        int[] pending = null;
+        double[] pendingPts = null;
+        int pendingCount = 0;
+        // consecutive points are usually close to each other, start by checking the cell of the previous one
+        int c = -1;
+        for (int i = 0; i < numPts; i++) {
+            final double x = srcPts[srcOff];
+            final double y = srcPts[srcOff + 1];
+            final double u = (x - minX) / width;
+            final double v = (y - minY) / height;
+            if (c < 0 || !(u >= cells[c] && u <= cells[c + 1] && v >= cells[c + 2] && v <= cells[c + 3])) {
+                c = u >= 0 && u <= 1 && v >= 0 && v <= 1 ? locate(u, v) : -1;
+            }
+            final double a;
+            if (c >= 0 && !Double.isNaN(a = cells[c + 6])) {
+                final double s = (u - cells[c]) * cells[c + 4];
+                final double t = (v - cells[c + 2]) * cells[c + 5];
+                final double st = s * t;
+                dstPts[dstOff] = a + cells[c + 7] * s + cells[c + 8] * t + cells[c + 9] * st;
+                dstPts[dstOff + 1] = cells[c + 10] + cells[c + 11] * s + cells[c + 12] * t + cells[c + 13] * st;
+            } else {
+                // collect the point, will be transformed along with the others using the exact transform
+                if (pending == null) {
+                    pending = new int[Math.min(numPts, 64)];
+                    pendingPts = new double[pending.length * 2];
+                } else if (pendingCount == pending.length) {
+                    int capacity = Math.min(numPts, pendingCount * 2);
+                    pending = Arrays.copyOf(pending, capacity);
+                    pendingPts = Arrays.copyOf(pendingPts, capacity * 2);
+                }
+                pending[pendingCount] = dstOff;
+                pendingPts[pendingCount * 2] = x;
+                pendingPts[pendingCount * 2 + 1] = y;
+                pendingCount++;
+            }
+            srcOff += step;
+            dstOff += step;
+        }
+        if (pendingCount > 0) {
+            exact.transform(pendingPts, 0, pendingPts, 0, pendingCount);
+            for (int i = 0; i < pendingCount; i++) {
+                dstPts[pending[i]] = pendingPts[i * 2];
+                dstPts[pending[i] + 1] = pendingPts[i * 2 + 1];
+            }
+        }
+    }
+
+    /** Returns the offset in {@link #cells} of the cell containing the given normalized coordinates. */
+    private int locate(final double u, final double v) {
+        final int i = Math.min((int) (u * GRID), GRID - 1);
+        final int j = Math.min((int) (v * GRID), GRID - 1);
+        int node = grid[j * GRID + i];
+        int n;
+        while ((n = nodes[node]) >= 0) {
+            final double coordinate = (n & 1) == 0 ? u : v;
+            node = (n >>> 1) + (coordinate >= splits[node] ? 1 : 0);
+        }
+        return ~n * CELL_SIZE;
+    }
+
+    /** Returns the derivative of the exact transform at the given point. */
+    @Override
+    public Matrix derivative(final Point2D point) throws TransformException {
+        return exact.derivative(point);
+    }
+
+    /** Returns the derivative of the exact transform at the given point. */
+    @Override
+    public Matrix derivative(final Position point) throws TransformException {
+        return exact.derivative(point);
+    }
+
+    /** Returns the inverse of the exact transform, the inverse is not approximated. */
+    @Override
+    public MathTransform2D inverse() throws NoninvertibleTransformException {
+        return exact.inverse();
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return false;
+    }
+
+    /** Returns the WKT of the exact transform, the approximation being a runtime optimization only. */
+    @Override
+    public String toWKT() throws UnsupportedOperationException {
+        return exact.toWKT();
+    }
+
+    @Override
+    public int hashCode() {
+        return exact.hashCode() ^ Double.hashCode(tolerance) ^ Double.hashCode(minX) ^ Double.hashCode(minY);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object instanceof ApproximatedTransform2D) {
+            final ApproximatedTransform2D that = (ApproximatedTransform2D) object;
+            return Utilities.equals(this.exact, that.exact)
+                    && Double.doubleToLongBits(this.tolerance) == Double.doubleToLongBits(that.tolerance)
+                    && Double.doubleToLongBits(this.minX) == Double.doubleToLongBits(that.minX)
+                    && Double.doubleToLongBits(this.minY) == Double.doubleToLongBits(that.minY)
+                    && Double.doubleToLongBits(this.width) == Double.doubleToLongBits(that.width)
+                    && Double.doubleToLongBits(this.height) == Double.doubleToLongBits(that.height);
+        }
+        return false;
+    }
+
+    /**
+     * Builds the tree breadth first, so that when the cell budget is exhausted the refinement is evenly spread over the
+     * domain. Works in normalized domain coordinates, where the domain spans from 0 to 1 on both axes.
+     */
+    private final class Builder {
+
+        /** Result of {@link #fit}, the cell is within tolerance */
+        static final int FITS = -1;
+
+        /** Result of {@link #fit}, the cell should be split along the u axis */
+        static final int SPLIT_U = 0;
+
+        /** Result of {@link #fit}, the cell should be split along the v axis */
+        static final int SPLIT_V = 1;
+
+        final double maxDistanceSquared;
+
+        int[] nodes = new int[64];
+
+        double[] splits = new double[64];
+
+        int nodeCount;
+
+        double[] cells = new double[64 * CELL_SIZE];
+
+        int cellCount;
+
+        int approximatedCells;
+
+        /** Sample points, source coordinates, transformed in place */
+        final double[] samples = new double[SAMPLES * SAMPLES * 2];
+
+        /** The bilinear coefficients computed by the last call to {@link #fit} */
+        final double[] coefficients = new double[8];
+
+        /** Breadth first queue of cells: node index, splits along u and v, cell bounds */
+        int[] queueNodes = new int[64];
+
+        int[] queueDepths = new int[64 * 2];
+
+        double[] queueBounds = new double[64 * 4];
+
+        int queueHead, queueTail;
+
+        Builder(double maxDistanceSquared) {
+            this.maxDistanceSquared = maxDistanceSquared;
+        }
+
+        void build() {
+            enqueue(newNode(), 0, 0, 0, 1, 0, 1);
+            int leaves = 1;
+            while (queueHead < queueTail) {
+                final int node = queueNodes[queueHead];
+                final int depthU = queueDepths[queueHead * 2];
+                final int depthV = queueDepths[queueHead * 2 + 1];
+                final int b = queueHead * 4;
+                final double u0 = queueBounds[b];
+                final double u1 = queueBounds[b + 1];
+                final double v0 = queueBounds[b + 2];
+                final double v1 = queueBounds[b + 3];
+                queueHead++;
+
+                final int balanced = depthU <= depthV ? SPLIT_U : SPLIT_V;
+                int split = fit(u0, u1, v0, v1, balanced);
+                if (split == FITS && (depthU < MIN_DEPTH || depthV < MIN_DEPTH)) {
+                    split = balanced;
+                }
+                // if the preferred axis cannot be split further, try the other one
+                if (split == SPLIT_U && depthU >= MAX_DEPTH) {
+                    split = SPLIT_V;
+                } else if (split == SPLIT_V && depthV >= MAX_DEPTH) {
+                    split = SPLIT_U;
+                }
+                if (split == FITS) {
+                    newCell(node, u0, u1, v0, v1, true);
+                } else if (leaves < MAX_CELLS && (split == SPLIT_U ? depthU : depthV) < MAX_DEPTH) {
+                    // split in two, children are stored contiguously, lower half first
+                    final int first = newNode();
+                    newNode();
+                    nodes[node] = (first << 1) | split;
+                    leaves++;
+                    if (split == SPLIT_U) {
+                        final double middle = splits[node] = (u0 + u1) / 2;
+                        enqueue(first, depthU + 1, depthV, u0, middle, v0, v1);
+                        enqueue(first + 1, depthU + 1, depthV, middle, u1, v0, v1);
+                    } else {
+                        final double middle = splits[node] = (v0 + v1) / 2;
+                        enqueue(first, depthU, depthV + 1, u0, u1, v0, middle);
+                        enqueue(first + 1, depthU, depthV + 1, u0, u1, middle, v1);
+                    }
+                } else {
+                    newCell(node, u0, u1, v0, v1, false);
+                }
+            }
+        }
+
+        /**
+         * Computes the bilinear coefficients of the given cell and checks the approximation error. Returns
+         * {@link #FITS} if the error is within the tolerance, otherwise the axis along which the cell should be split.
+         * The error measured along the edges parallel to an axis tells how far the transform is from being linear along
+         * that axis.
+         */
+        private int fit(double u0, double u1, double v0, double v1, int balanced) {
+            final int last = SAMPLES - 1;
+            int k = 0;
+            for (int j = 0; j < SAMPLES; j++) {
+                final double y = minY + height * (j == last ? v1 : v0 + (v1 - v0) * j / last);
+                for (int i = 0; i < SAMPLES; i++) {
+                    samples[k++] = minX + width * (i == last ? u1 : u0 + (u1 - u0) * i / last);
+                    samples[k++] = y;
+                }
+            }
+            try {
+                exact.transform(samples, 0, samples, 0, SAMPLES * SAMPLES);
+            } catch (TransformException e) {
+                return balanced;
+            }
+            final int p00 = 0;
+            final int p10 = last * 2;
+            final int p01 = last * SAMPLES * 2;
+            final int p11 = p01 + p10;
+            final double[] c = coefficients;
+            for (int d = 0; d < 2; d++) {
+                final double a = samples[p00 + d];
+                c[d * 4] = a;
+                c[d * 4 + 1] = samples[p10 + d] - a;
+                c[d * 4 + 2] = samples[p01 + d] - a;
+                c[d * 4 + 3] = samples[p11 + d] - samples[p10 + d] - samples[p01 + d] + a;
+            }
+            double maxError = 0;
+            double errorAlongU = 0;
+            double errorAlongV = 0;
+            k = 0;
+            for (int j = 0; j < SAMPLES; j++) {
+                final double t = (double) j / last;
+                for (int i = 0; i < SAMPLES; i++) {
+                    final double s = (double) i / last;
+                    final double st = s * t;
+                    final double dx = c[0] + c[1] * s + c[2] * t + c[3] * st - samples[k++];
+                    final double dy = c[4] + c[5] * s + c[6] * t + c[7] * st - samples[k++];
+                    final double error = dx * dx + dy * dy;
+                    if (Double.isNaN(error)) {
+                        return balanced;
+                    }
+                    maxError = Math.max(maxError, error);
+                    if (j == 0 || j == last) {
+                        errorAlongU = Math.max(errorAlongU, error);
+                    }
+                    if (i == 0 || i == last) {
+                        errorAlongV = Math.max(errorAlongV, error);
+                    }
+                }
+            }
+            if (maxError <= maxDistanceSquared) {
+                return FITS;
+            } else if (errorAlongU > errorAlongV) {
+                return SPLIT_U;
+            } else if (errorAlongV > errorAlongU) {
+                return SPLIT_V;
+            }
+            // the error is in the interior of the cell (twisting), split evenly
+            return balanced;
+        }
+
+        private int newNode() {
+            if (nodeCount == nodes.length) {
+                nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                splits = Arrays.copyOf(splits, nodeCount * 2);
+            }
+            return nodeCount++;
+        }
+
+        /** Turns the node into a cell, using the last computed coefficients if {@code approximated} is true */
+        private void newCell(int node, double u0, double u1, double v0, double v1, boolean approximated) {
+            if ((cellCount + 1) * CELL_SIZE > cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            nodes[node] = ~cellCount;
+            final int c = cellCount * CELL_SIZE;
+            cells[c] = u0;
+            cells[c + 1] = u1;
+            cells[c + 2] = v0;
+            cells[c + 3] = v1;
+            cells[c + 4] = 1 / (u1 - u0);
+            cells[c + 5] = 1 / (v1 - v0);
+            if (approximated) {
+                System.arraycopy(coefficients, 0, cells, c + 6, coefficients.length);
+                approximatedCells++;
+            } else {
+                Arrays.fill(cells, c + 6, c + CELL_SIZE, Double.NaN);
+            }
+            cellCount++;
+        }
+
+        private void enqueue(int node, int depthU, int depthV, double u0, double u1, double v0, double v1) {
+            if (queueTail == queueNodes.length) {
+                queueNodes = Arrays.copyOf(queueNodes, queueTail * 2);
+                queueDepths = Arrays.copyOf(queueDepths, queueTail * 2 * 2);
+                queueBounds = Arrays.copyOf(queueBounds, queueTail * 2 * 4);
+            }
+            queueNodes[queueTail] = node;
+            queueDepths[queueTail * 2] = depthU;
+            queueDepths[queueTail * 2 + 1] = depthV;
+            final int b = queueTail * 4;
+            queueBounds[b] = u0;
+            queueBounds[b + 1] = u1;
+            queueBounds[b + 2] = v0;
+            queueBounds[b + 3] = v1;
+            queueTail++;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Test;
+
+public class ApproximatedTransform2DTest {
+
+    static final String UTM_32N =
+            "PROJCS[\"WGS 84 / UTM zone 32N\",   GEOGCS[\"WGS 84\",     DATUM[\"World Geodetic System 1984\",      "
+                + " SPHEROID[\"WGS 84\", 6378137.0, 298.257223563, AUTHORITY[\"EPSG\",\"7030\"]],      "
+                + " AUTHORITY[\"EPSG\",\"6326\"]],     PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]],    "
+                + " UNIT[\"degree\", 0.017453292519943295],     AXIS[\"Geodetic longitude\", EAST],    "
+                + " AXIS[\"Geodetic latitude\", NORTH],     AUTHORITY[\"EPSG\",\"4326\"]],  "
+                + " PROJECTION[\"Transverse_Mercator\", AUTHORITY[\"EPSG\",\"9807\"]],  "
+                + " PARAMETER[\"central_meridian\", 9.0],   PARAMETER[\"latitude_of_origin\", 0.0],  "
+                + " PARAMETER[\"scale_factor\", 0.9996],   PARAMETER[\"false_easting\", 500000.0],  "
+                + " PARAMETER[\"false_northing\", 0.0],   UNIT[\"m\", 1.0],   AXIS[\"Easting\", EAST],  "
+                + " AXIS[\"Northing\", NORTH],   AUTHORITY[\"EPSG\",\"32632\"]]";
+
+    static final String POLAR_STEREOGRAPHIC =
+            "PROJCS[\"WGS 84 / Antarctic Polar Stereographic\",   GEOGCS[\"WGS 84\",     DATUM[\"World Geodetic System"
+                + " 1984\",       SPHEROID[\"WGS 84\", 6378137.0, 298.257223563, AUTHORITY[\"EPSG\",\"7030\"]],      "
+                + " AUTHORITY[\"EPSG\",\"6326\"]],     PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]],    "
+                + " UNIT[\"degree\", 0.017453292519943295],     AXIS[\"Geodetic longitude\", EAST],    "
+                + " AXIS[\"Geodetic latitude\", NORTH],     AUTHORITY[\"EPSG\",\"4326\"]],   PROJECTION[\"Polar"
+                + " Stereographic (variant B)\", AUTHORITY[\"EPSG\",\"9829\"]],   PARAMETER[\"central_meridian\","
+                + " 0.0],   PARAMETER[\"Standard_Parallel_1\", -71.0],   PARAMETER[\"false_easting\", 0.0],  "
+                + " PARAMETER[\"false_northing\", 0.0],   UNIT[\"m\", 1.0],   AXIS[\"Easting\", \"North along 90 deg"
+                + " East\"],   AXIS[\"Northing\", \"North along 0 deg\"],   AUTHORITY[\"EPSG\",\"3031\"]]";
+
+    static final String MERCATOR =
+            "PROJCS[\"WGS 84 / World Mercator\", GEOGCS[\"WGS 84\", DATUM[\"World Geodetic System 1984\","
+                    + " SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]], PRIMEM[\"Greenwich\", 0.0], UNIT[\"degree\","
+                    + " 0.017453292519943295], AXIS[\"Geodetic longitude\", EAST], AXIS[\"Geodetic latitude\", NORTH]],"
+                    + " PROJECTION[\"Mercator_1SP\"], PARAMETER[\"central_meridian\", 0.0], PARAMETER[\"scale_factor\","
+                    + " 1.0], PARAMETER[\"false_easting\", 0.0], PARAMETER[\"false_northing\", 0.0], UNIT[\"m\", 1.0],"
+                    + " AXIS[\"Easting\", EAST], AXIS[\"Northing\", NORTH]]";
+
+    @Test
+    public void testUTMWithinTolerance() throws Exception {
+        CoordinateReferenceSystem utm32n = CRS.parseWKT(UTM_32N);
+        MathTransform2D exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, utm32n);
+        Rectangle2D domain = new Rectangle2D.Double(0, 30, 18, 30);
+        // tolerances in meters, about a pixel at 1:1M and 1:100k
+        assertApproximation(exact, domain, 300);
+        assertApproximation(exact, domain, 30);
+    }
+
+    @Test
+    public void testPolarStereographicWithinTolerance() throws Exception {
+        CoordinateReferenceSystem polar = CRS.parseWKT(POLAR_STEREOGRAPHIC);
+        MathTransform2D exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, polar);
+        // includes the pole, where the transform is heavily non linear
+        assertApproximation(exact, new Rectangle2D.Double(-180, -90, 360, 40), 1000);
+    }
+
+    @Test
+    public void testScreenTransform() throws Exception {
+        // a typical rendering transform, from geographic coordinates to pixels
+        CoordinateReferenceSystem mercator = CRS.parseWKT(MERCATOR);
+        MathTransform2D toMercator = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, mercator);
+        AffineTransform worldToScreen = new AffineTransform(1024 / 4e6, 0, 0, -1024 / 4e6, 0, 1024);
+        MathTransform2D exact =
+                (MathTransform2D) ConcatenatedTransform.create(toMercator, new AffineTransform2D(worldToScreen));
+        ApproximatedTransform2D approximated = assertApproximation(exact, new Rectangle2D.Double(0, 40, 36, 30), 0.5);
+        assertTrue(approximated.getApproximatedCellCount() < ApproximatedTransform2D.MAX_CELLS);
+    }
+
+    @Test
+    public void testOutsideDomain() throws Exception {
+        CoordinateReferenceSystem utm32n = CRS.parseWKT(UTM_32N);
+        MathTransform2D exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, utm32n);
+        MathTransform2D approximated = ApproximatedTransform2D.create(exact, new Rectangle2D.Double(5, 40, 8, 8), 30);
+        // points outside the domain are transformed exactly, also when mixed with ones inside
+        double[] points = {0, 30, 9, 45, 20, 60, 10, 41};
+        double[] expected = new double[points.length];
+        exact.transform(points, 0, expected, 0, 4);
+        double[] actual = new double[points.length];
+        approximated.transform(points, 0, actual, 0, 4);
+        assertEquals(expected[0], actual[0], 0);
+        assertEquals(expected[1], actual[1], 0);
+        assertEquals(expected[4], actual[4], 0);
+        assertEquals(expected[5], actual[5], 0);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(expected[i], actual[i], 30);
+        }
+    }
+
+    @Test
+    public void testOverlappingArrays() throws Exception {
+        CoordinateReferenceSystem utm32n = CRS.parseWKT(UTM_32N);
+        MathTransform2D exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, utm32n);
+        MathTransform2D approximated = ApproximatedTransform2D.create(exact, new Rectangle2D.Double(5, 40, 8, 8), 30);
+        assertTrue(approximated instanceof ApproximatedTransform2D);
+        double[] points = {6, 41, 7, 42, 30, 10, 8, 43, 9, 44};
+        double[] expected = new double[points.length];
+        exact.transform(points, 0, expected, 0, 5);
+        // shift forward and backward over the same array
+        double[] buffer = new double[points.length + 2];
+        System.arraycopy(points, 0, buffer, 0, points.length);
+        approximated.transform(buffer, 0, buffer, 2, 5);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(expected[i], buffer[i + 2], 30);
+        }
+        System.arraycopy(points, 0, buffer, 2, points.length);
+        approximated.transform(buffer, 2, buffer, 0, 5);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(expected[i], buffer[i], 30);
+        }
+    }
+
+    @Test
+    public void testNotApproximated() throws Exception {
+        MathTransform2D affine = new AffineTransform2D(AffineTransform.getScaleInstance(2, 3));
+        assertSame(affine, ApproximatedTransform2D.create(affine, new Rectangle2D.Double(0, 0, 10, 10), 1));
+
+        CoordinateReferenceSystem utm32n = CRS.parseWKT(UTM_32N);
+        MathTransform2D exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, utm32n);
+        assertSame(exact, ApproximatedTransform2D.create(exact, new Rectangle2D.Double(0, 0, 10, 10), 0));
+        assertSame(exact, ApproximatedTransform2D.create(exact, new Rectangle2D.Double(0, 0, 0, 10), 1));
+    }
+
+    private ApproximatedTransform2D assertApproximation(MathTransform2D exact, Rectangle2D domain, double tolerance)
+            throws Exception {
+        MathTransform2D result = ApproximatedTransform2D.create(exact, domain, tolerance);
+        assertTrue(result instanceof ApproximatedTransform2D);
+        ApproximatedTransform2D approximated = (ApproximatedTransform2D) result;
+        assertSame(exact, approximated.getExactTransform());
+        assertEquals(domain, approximated.getDomain());
+
+        Random random = new Random(42);
+        int count = 10000;
+        double[] points = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = domain.getMinX() + random.nextDouble() * domain.getWidth();
+            points[i * 2 + 1] = domain.getMinY() + random.nextDouble() * domain.getHeight();
+        }
+        double[] expected = new double[points.length];
+        exact.transform(points, 0, expected, 0, count);
+        double[] actual = new double[points.length];
+        approximated.transform(points, 0, actual, 0, count);
+        for (int i = 0; i < count; i++) {
+            double dx = expected[i * 2] - actual[i * 2];
+            double dy = expected[i * 2 + 1] - actual[i * 2 + 1];
+            // the error is checked on a sample grid, allow some slack between the samples
+            assertTrue(
+                    "Error too large at " + points[i * 2] + ", " + points[i * 2 + 1],
+                    Math.sqrt(dx * dx + dy * dy) <= tolerance * 1.5);
+        }
+        return approximated;
+    }
+}
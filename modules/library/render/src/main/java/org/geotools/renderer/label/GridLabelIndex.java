@@ -0,0 +1,136 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link LabelIndex} backed by a fixed size grid of cells, rather than a quadtree. With cells about as big as the
+ * typical label box, each label lands in a handful of cells and each conflict check looks at a handful of cells, with
+ * no tree to rebalance or descend. Boxes spanning too many cells (reserved areas, very long labels) are kept in a
+ * separate list, which is always checked.
+ */
+class GridLabelIndex extends LabelIndex {
+
+    /** Boxes covering more cells than this are not split among cells */
+    static final int MAX_CELLS_PER_ITEM = 64;
+
+    final double cellSize;
+
+    final Map<Long, List<Envelope>> cells = new HashMap<>();
+
+    final List<Envelope> large = new ArrayList<>();
+
+    GridLabelIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public boolean labelsWithinDistance(Rectangle2D bounds, double distance) {
+        if (distance < 0) return false;
+
+        Envelope e = toEnvelope(bounds);
+        e.expandBy(distance);
+        for (Envelope other : large) {
+            if (other.intersects(e)) {
+                return true;
+            }
+        }
+        long minX = cell(e.getMinX());
+        long maxX = cell(e.getMaxX());
+        long minY = cell(e.getMinY());
+        long maxY = cell(e.getMaxY());
+        if (cellCount(minX, maxX, minY, maxY) > cells.size()) {
+            // cheaper to scan all the non empty cells
+            for (List<Envelope> items : cells.values()) {
+                for (Envelope other : items) {
+                    if (other.intersects(e)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        for (long y = minY; y <= maxY; y++) {
+            for (long x = minX; x <= maxX; x++) {
+                List<Envelope> items = cells.get(key(x, y));
+                if (items != null) {
+                    for (Envelope other : items) {
+                        if (other.intersects(e)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void addLabel(LabelCacheItem item, Rectangle2D bounds) {
+        insert(toEnvelope(bounds));
+    }
+
+    @Override
+    public void reserveArea(List<Rectangle2D> reserved) {
+        for (Rectangle2D area : reserved) {
+            insert(toEnvelope(area));
+        }
+    }
+
+    private void insert(Envelope e) {
+        long minX = cell(e.getMinX());
+        long maxX = cell(e.getMaxX());
+        long minY = cell(e.getMinY());
+        long maxY = cell(e.getMaxY());
+        if (cellCount(minX, maxX, minY, maxY) > MAX_CELLS_PER_ITEM) {
+            large.add(e);
+            return;
+        }
+        for (long y = minY; y <= maxY; y++) {
+            for (long x = minX; x <= maxX; x++) {
+                cells.computeIfAbsent(key(x, y), k -> new ArrayList<>(4)).add(e);
+            }
+        }
+    }
+
+    private long cell(double ordinate) {
+        return (long) Math.floor(ordinate / cellSize);
+    }
+
+    /** Number of cells in the range, as a double to avoid overflows with extreme coordinates */
+    private static double cellCount(long minX, long maxX, long minY, long maxY) {
+        return ((double) maxX - minX + 1) * ((double) maxY - minY + 1);
+    }
+
+    /** Packs the cell coordinates in a key, cells far apart might collide, which is harmless */
+    private static Long key(long x, long y) {
+        return (x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static Envelope toEnvelope(Rectangle2D bounds) {
+        return new Envelope(bounds.getMinX(), bounds.getMaxX(), bounds.getMinY(), bounds.getMaxY());
+    }
+}
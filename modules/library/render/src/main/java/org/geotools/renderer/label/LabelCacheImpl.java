@@ -34,11 +34,17 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -113,6 +119,28 @@ public class LabelCacheImpl implements LabelCache {
     public static boolean DISABLE_LETTER_LEVEL_CONFLICT =
             Boolean.getBoolean("org.geotools.labelcache.disableLetterLevelConflict");
 
+    /** Default value for {@link #setGridLabelEngine(boolean)} */
+    public static boolean GRID_LABEL_ENGINE = Boolean.getBoolean("org.geotools.labelcache.gridLabelEngine");
+
+    /** Smallest and largest cell size used by the grid label engine, in pixels */
+    static final double MIN_GRID_CELL_SIZE = 16;
+
+    static final double MAX_GRID_CELL_SIZE = 256;
+
+    /** Cell size used by the grid label engine when no label could be laid out in advance */
+    static final double DEFAULT_GRID_CELL_SIZE = 64;
+
+    static final int PREPARE_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicInteger PREPARE_THREAD_COUNT = new AtomicInteger();
+
+    /** The pool preparing the labels for the grid label engine, shared by all the label caches */
+    private static final ExecutorService PREPARE_POOL = Executors.newFixedThreadPool(PREPARE_THREADS, r -> {
+        Thread t = new Thread(r, "gt-label-prepare-" + PREPARE_THREAD_COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
     public enum LabelRenderingMode {
         /**
          * Always uses {@link Graphics2D#drawGlyphVector(java.awt.font.GlyphVector, float, float)} to draw the straight
@@ -169,6 +197,8 @@ public enum LabelRenderingMode {
 
     protected LabelRenderingMode labelRenderingMode = LabelRenderingMode.STRING;
 
+    protected boolean gridLabelEngine = GRID_LABEL_ENGINE;
+
     // SLDStyleFactory caches by identity, we have to re-use the same labellels equivalent
     LoadingCache<TextSymbolizer, TextSymbolizer> labellessCache = CacheBuilder.newBuilder()
             .softValues()
@@ -242,6 +272,20 @@ public void setLabelRenderingMode(LabelRenderingMode mode) {
         this.labelRenderingMode = mode;
     }
 
+    public boolean isGridLabelEngine() {
+        return gridLabelEngine;
+    }
+
+    /**
+     * Enables the grid label engine. The layout of the labels and the representative location of each label group are
+     * computed in parallel before painting, and the conflict checks use a grid of cells sized after the typical label,
+     * instead of a quadtree. The labels are still painted one at a time in priority order, so the result is the same as
+     * with the default engine.
+     */
+    public void setGridLabelEngine(boolean gridLabelEngine) {
+        this.gridLabelEngine = gridLabelEngine;
+    }
+
     /** Change the method used to construct LabelPainters. Defaults to {@link LabelPainter#LabelPainter}. */
     public void setConstructPainter(BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter) {
         this.constructPainter = constructPainter;
@@ -545,9 +589,6 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
                     + " are layers that started rendering but have not completed,"
                     + " stop() or endLayer() must be called before end() is called");
         }
-        LabelIndex glyphs = new LabelIndex();
-        glyphs.reserveArea(reserved);
-
         // Used to check the paintLineLabel function
         int paintedLineLabels = 0;
 
@@ -572,11 +613,28 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
         } else {
             items = getActiveLabels();
         }
+        LabelIndex glyphs;
+        if (gridLabelEngine) {
+            glyphs = new GridLabelIndex(prepareLabels(graphics, displayArea, items));
+        } else {
+            glyphs = new LabelIndex();
+        }
+        glyphs.reserveArea(reserved);
+
         LabelPainter painter = constructPainter.apply(graphics, labelRenderingMode);
-        for (LabelCacheItem labelItem : items) {
-            if (stop) return;
+        try {
+            for (LabelCacheItem labelItem : items) {
+                if (stop) return;
 
-            paintedLineLabels = paintLabel(graphics, displayArea, glyphs, paintedLineLabels, painter, labelItem);
+                paintedLineLabels = paintLabel(graphics, displayArea, glyphs, paintedLineLabels, painter, labelItem);
+            }
+        } finally {
+            if (gridLabelEngine) {
+                // don't leave around results computed for this display area
+                for (LabelCacheItem item : items) {
+                    clearPrepared(item);
+                }
+            }
         }
         // Output for line labels
         LOGGER.log(Level.FINE, "TOTAL LINE LABELS : {0}", items.size());
@@ -584,6 +642,166 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
         LOGGER.log(Level.FINE, "REMAINING LINE LABELS : {0}", items.size() - paintedLineLabels);
     }
 
+    /**
+     * Computes in parallel the parts of the labelling that do not depend on the labels already painted, that is, the
+     * text layout and the representative location of each label group, storing them in the items.
+     *
+     * @return The cell size for the label index, based on the size of the typical label box
+     */
+    double prepareLabels(Graphics2D graphics, Rectangle displayArea, List<LabelCacheItem> items) {
+        // computing the representative location alters the geometries (e.g., resets their envelope), skip
+        // the items sharing geometries with others, they will be handled while painting
+        Map<Geometry, Integer> geometryUsage = new IdentityHashMap<>();
+        for (LabelCacheItem item : items) {
+            for (Geometry g : item.getGeoms()) {
+                geometryUsage.merge(g, 1, Integer::sum);
+            }
+        }
+
+        int tasks = Math.max(1, Math.min(PREPARE_THREADS, items.size() / 32));
+        Graphics2D[] scratch = new Graphics2D[tasks];
+        for (int t = 0; t < tasks; t++) {
+            // laying out the labels alters the graphics state, each task gets its own copy
+            scratch[t] = (Graphics2D) graphics.create();
+        }
+        double[] sizes = new double[items.size()];
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        Throwable failure;
+        try {
+            for (int t = 0; t < tasks; t++) {
+                int task = t;
+                futures.add(PREPARE_POOL.submit(() -> {
+                    LabelSplitter splitter = new LabelSplitter();
+                    for (int i = task; i < items.size() && !stop; i += tasks) {
+                        LabelCacheItem item = items.get(i);
+                        boolean exclusive = true;
+                        for (Geometry g : item.getGeoms()) {
+                            exclusive &= geometryUsage.get(g) == 1;
+                        }
+                        sizes[i] = prepareLabel(item, scratch[task], splitter, displayArea, exclusive);
+                    }
+                }));
+            }
+        } finally {
+            // the scratch graphics cannot be disposed while still in use
+            failure = awaitAll(futures);
+            for (Graphics2D g : scratch) {
+                g.dispose();
+            }
+        }
+        if (failure instanceof RuntimeException exception) throw exception;
+        if (failure instanceof Error error) throw error;
+        if (failure != null) throw new RuntimeException(failure);
+
+        // size the cells after the median label
+        double[] valid = Arrays.stream(sizes).filter(s -> s > 0).sorted().toArray();
+        if (valid.length == 0) {
+            return DEFAULT_GRID_CELL_SIZE;
+        }
+        return Math.max(MIN_GRID_CELL_SIZE, Math.min(MAX_GRID_CELL_SIZE, valid[valid.length / 2]));
+    }
+
+    /**
+     * Waits for all the preparation tasks to complete, returning the first failure, if any. If interrupted, stops the
+     * labelling, lets the tasks wind down, and restores the interrupted flag.
+     */
+    private Throwable awaitAll(List<Future<?>> futures) {
+        boolean interrupted = false;
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    stop = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return failure;
+    }
+
+    /**
+     * Prepares a single label, returns the size of the label box (the larger between width and height, including halo
+     * and space around), or 0 if the label could not be laid out
+     */
+    private double prepareLabel(
+            LabelCacheItem item, Graphics2D graphics, LabelSplitter splitter, Rectangle displayArea, boolean location) {
+        try {
+            List<LineInfo> layout = splitter.layout(item, graphics);
+            item.preparedLayout = layout;
+
+            if (location) {
+                Geometry geom = item.getGeometry();
+                if (geom instanceof LineString && !(geom instanceof LinearRing) || geom instanceof MultiLineString) {
+                    item.preparedLines = getLineSetRepresentativeLocation(
+                            item.getGeoms(), displayArea, item.removeGroupOverlaps(), item.isPartialsEnabled());
+                    item.locationPrepared = true;
+                } else if ((geom instanceof Polygon || geom instanceof MultiPolygon || geom instanceof LinearRing)
+                        && item.getTextStyle().isPointPlacement()
+                        && !item.isFollowLineEnabled()) {
+                    item.preparedPolygon =
+                            getPolySetRepresentativeLocation(item.getGeoms(), displayArea, item.isPartialsEnabled());
+                    item.locationPrepared = true;
+                }
+            }
+
+            double width = 0;
+            double height = 0;
+            for (LineInfo line : layout) {
+                width = Math.max(width, line.getWidth());
+                height += line.getLineHeight();
+            }
+            TextStyle2D style = item.getTextStyle();
+            int haloRadius = Math.round(style.getHaloFill() != null ? style.getHaloRadius() : 0);
+            return Math.max(width, height) + 2 * (haloRadius + item.getSpaceAround());
+        } catch (Exception e) {
+            // will be computed again, and the error reported, while painting
+            LOGGER.log(Level.FINE, "Failed to prepare label, will be handled while painting", e);
+            clearPrepared(item);
+            return 0;
+        }
+    }
+
+    private void clearPrepared(LabelCacheItem item) {
+        item.preparedLayout = null;
+        clearPreparedLocation(item);
+    }
+
+    private void clearPreparedLocation(LabelCacheItem item) {
+        item.locationPrepared = false;
+        item.preparedLines = null;
+        item.preparedPolygon = null;
+    }
+
+    /** Returns the representative lines of the item, using the ones computed in advance if available */
+    private List<LineString> getRepresentativeLines(LabelCacheItem item, Rectangle displayArea) {
+        if (item.locationPrepared) {
+            List<LineString> lines = item.preparedLines;
+            clearPreparedLocation(item);
+            return lines;
+        }
+        return getLineSetRepresentativeLocation(
+                item.getGeoms(), displayArea, item.removeGroupOverlaps(), item.isPartialsEnabled());
+    }
+
+    /** Returns the representative polygon of the item, using the one computed in advance if available */
+    private Polygon getRepresentativePolygon(LabelCacheItem item, Rectangle displayArea) {
+        if (item.locationPrepared) {
+            Polygon polygon = item.preparedPolygon;
+            clearPreparedLocation(item);
+            return polygon;
+        }
+        return getPolySetRepresentativeLocation(item.getGeoms(), displayArea, item.isPartialsEnabled());
+    }
+
     int paintLabel(
             Graphics2D graphics,
             Rectangle displayArea,
@@ -718,8 +936,7 @@ private boolean paintLineLabelsWithLetterConflict(
             LabelPainter painter, AffineTransform originalTransform, Rectangle displayArea, LabelIndex paintedBounds)
             throws Exception {
         final LabelCacheItem labelItem = painter.getLabel();
-        List<LineString> lines = getLineSetRepresentativeLocation(
-                labelItem.getGeoms(), displayArea, labelItem.removeGroupOverlaps(), labelItem.isPartialsEnabled());
+        List<LineString> lines = getRepresentativeLines(labelItem, displayArea);
 
         if (lines == null || lines.isEmpty()) return false;
 
@@ -921,8 +1138,7 @@ private boolean paintLineLabels(
             LabelPainter painter, AffineTransform originalTransform, Rectangle displayArea, LabelIndex paintedBounds)
             throws Exception {
         final LabelCacheItem labelItem = painter.getLabel();
-        List<LineString> lines = getLineSetRepresentativeLocation(
-                labelItem.getGeoms(), displayArea, labelItem.removeGroupOverlaps(), labelItem.isPartialsEnabled());
+        List<LineString> lines = getRepresentativeLines(labelItem, displayArea);
 
         if (lines == null || lines.isEmpty()) return false;
 
@@ -1479,8 +1695,7 @@ private boolean paintPolygonLabel(
             LabelPainter painter, AffineTransform tempTransform, Rectangle displayArea, LabelIndex glyphs)
             throws Exception {
         LabelCacheItem labelItem = painter.getLabel();
-        Polygon geom =
-                getPolySetRepresentativeLocation(labelItem.getGeoms(), displayArea, labelItem.isPartialsEnabled());
+        Polygon geom = getRepresentativePolygon(labelItem, displayArea);
         if (geom == null) {
             return false;
         }
@@ -25,6 +25,8 @@
 import org.geotools.geometry.jts.LiteShape2;
 import org.geotools.renderer.style.TextStyle2D;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
 
 /**
  * The Labelling information that is put in the label cache.
@@ -104,6 +106,18 @@ public double getGoodnessOfFit() {
 
     TextSymbolizer.GraphicPlacement graphicPlacement;
 
+    /** The label layout, computed ahead of painting by the grid label engine */
+    List<LineInfo> preparedLayout;
+
+    /** True if the representative location below has been computed ahead of painting */
+    boolean locationPrepared;
+
+    /** The representative lines for line labels, computed ahead of painting */
+    List<LineString> preparedLines;
+
+    /** The representative polygon for polygon labels, computed ahead of painting */
+    Polygon preparedPolygon;
+
     /**
      * A value between 0 and 1 representing the portion of the label that overlaps with the geometry (atm used only for
      * polygons)
@@ -118,6 +132,7 @@ public String getLabel() {
 
     public void setLabel(String l) {
         label = l;
+        preparedLayout = null;
     }
 
     /** space around - "dont put any label near me by this # of pixels" */
@@ -196,6 +211,17 @@ public TextStyle2D getTextStyle() {
 
     void setTextStyle(TextStyle2D textStyle) {
         this.textStyle = textStyle;
+        preparedLayout = null;
+    }
+
+    /**
+     * Returns the layout prepared ahead of painting, if any, and clears it, so that further layouts of this item are
+     * computed from scratch
+     */
+    List<LineInfo> takePreparedLayout() {
+        List<LineInfo> result = preparedLayout;
+        preparedLayout = null;
+        return result;
     }
 
     /** @see java.lang.Object#hashCode() */
@@ -113,8 +113,11 @@ public void setLabel(LabelCacheItem labelItem) {
         labelBounds = null;
         lines = null;
 
-        // layout the label elements
-        lines = splitter.layout(labelItem, graphics);
+        // layout the label elements, unless already done in parallel by the label cache
+        lines = labelItem.takePreparedLayout();
+        if (lines == null) {
+            lines = splitter.layout(labelItem, graphics);
+        }
 
         // compute the max line length
         double maxWidth = 0;
@@ -19,10 +19,14 @@
 import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
 import org.geotools.api.filter.expression.Expression;
 import org.geotools.api.filter.sort.SortBy;
 import org.geotools.api.style.Rule;
 import org.geotools.data.util.ScreenMap;
+import org.geotools.filter.compiler.FilterCompiler;
 import org.geotools.map.Layer;
 import org.geotools.renderer.crs.ProjectionHandler;
 
@@ -91,6 +95,11 @@ final class LiteFeatureTypeStyle {
     /** The meta buffer for the current layer */
     int metaBuffer;
 
+    /** The filters of {@link #ruleList}, compiled against {@link #ruleFiltersType} */
+    private Filter[] ruleFilters;
+
+    private SimpleFeatureType ruleFiltersType;
+
     /**
      * use this for only the 1st FTS. We don't actually create an image for it -- we just use the graphics. WATCH OUT
      * FOR THIS. NOTE: image=null in this case
@@ -103,4 +112,23 @@ public LiteFeatureTypeStyle(
         this.elseRules = elseRuleList.toArray(new Rule[elseRuleList.size()]);
         this.transformation = transformation;
     }
+
+    /**
+     * Returns the filters of {@link #ruleList}, in the same order, compiled against the type of the given feature when
+     * it is a simple one. The compiled filters are cached until a feature of a different type shows up, so this method
+     * should only be called once the rule list is final, that is, when features are being processed.
+     */
+    Filter[] getRuleFilters(Object feature) {
+        SimpleFeatureType type = feature instanceof SimpleFeature sf ? sf.getFeatureType() : null;
+        if (ruleFilters == null || type != ruleFiltersType) {
+            Filter[] filters = new Filter[ruleList.length];
+            for (int i = 0; i < ruleList.length; i++) {
+                Filter filter = ruleList[i].getFilter();
+                filters[i] = filter != null && type != null ? FilterCompiler.compile(filter, type) : filter;
+            }
+            ruleFilters = filters;
+            ruleFiltersType = type;
+        }
+        return ruleFilters;
+    }
 }
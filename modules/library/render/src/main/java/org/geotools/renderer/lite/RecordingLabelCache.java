@@ -0,0 +1,126 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.style.TextSymbolizer;
+import org.geotools.geometry.jts.LiteShape2;
+import org.geotools.util.NumberRange;
+
+/**
+ * A {@link LabelCache} that does not paint anything, but just records the labels and obstacles it receives, so that
+ * they can be replayed later into another cache. Used by the {@link StreamingRenderer} when rendering layers in
+ * parallel, labels have to be collected in the main label cache, in layer order, to get the same conflict resolution as
+ * a sequential rendering.
+ */
+class RecordingLabelCache implements LabelCache {
+
+    /** A label put in the cache */
+    private record Label(
+            TextSymbolizer symbolizer, Feature feature, LiteShape2 shape, NumberRange<Double> scaleRange) {}
+
+    private final List<Label> labels = new ArrayList<>();
+
+    private final List<Rectangle2D> obstacles = new ArrayList<>();
+
+    @Override
+    public void start() {
+        // nothing to do
+    }
+
+    @Override
+    public void startLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public synchronized void put(
+            String layerId,
+            TextSymbolizer symbolizer,
+            Feature feature,
+            LiteShape2 shape,
+            NumberRange<Double> scaleRange) {
+        labels.add(new Label(symbolizer, feature, shape, scaleRange));
+    }
+
+    @Override
+    public synchronized void put(Rectangle2D geometry) {
+        obstacles.add(geometry);
+    }
+
+    @Override
+    public void endLayer(String layerId, Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do
+    }
+
+    @Override
+    public void end(Graphics2D graphics, Rectangle displayArea) {
+        // nothing to do, labels are painted by the cache they are replayed into
+    }
+
+    @Override
+    public void stop() {
+        // nothing to do
+    }
+
+    @Override
+    public synchronized void clear() {
+        labels.clear();
+        obstacles.clear();
+    }
+
+    @Override
+    public void clear(String layerId) {
+        clear();
+    }
+
+    @Override
+    public void disableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public void enableLayer(String layerId) {
+        // nothing to do
+    }
+
+    @Override
+    public List orderedLabels() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Adds the recorded labels and obstacles into the target cache, associating them to the specified layer
+     *
+     * @param target The cache receiving the labels
+     * @param layerId The layer identifier in the target cache
+     */
+    public synchronized void replay(LabelCache target, String layerId) {
+        for (Label label : labels) {
+            target.put(layerId, label.symbolizer(), label.feature(), label.shape(), label.scaleRange());
+        }
+        for (Rectangle2D obstacle : obstacles) {
+            target.put(obstacle);
+        }
+    }
+}
@@ -24,11 +24,13 @@
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.RenderingHints.Key;
 import java.awt.Shape;
+import java.awt.Transparency;
 import java.awt.font.GlyphVector;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.NoninvertibleTransformException;
@@ -51,10 +53,12 @@
 import java.util.Spliterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -140,6 +144,7 @@
 import org.geotools.referencing.operation.LinearTransform;
 import org.geotools.referencing.operation.matrix.XAffineTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.geotools.referencing.operation.transform.ApproximatedTransform2D;
 import org.geotools.referencing.operation.transform.ConcatenatedTransform;
 import org.geotools.referencing.operation.transform.ProjectiveTransform;
 import org.geotools.referencing.operation.transform.WarpBuilder;
@@ -344,6 +349,21 @@ public class StreamingRenderer implements GTRenderer {
      */
     public static final String OPTIMIZE_FTS_RENDERING_KEY = "optimizeFTSRendering";
 
+    /**
+     * Boolean flag enabling parallel rendering of the map layers, disabled by default. Requires a thread pool to be set
+     * with {@link #setThreadPool(ExecutorService)}. The layers are not rendered in that pool, which is already running
+     * the painter threads, but in a separate, shared pool of daemon threads, sized after the number of processors.
+     *
+     * <p>When enabled, the plain vector and raster layers are rendered concurrently, each one in its own back buffer
+     * (as big as the image being rendered), and then merged on the output graphics in layer order. Labels are collected
+     * in the main label cache in layer order, so conflict resolution is not affected. Layers using a background, alpha
+     * compositing or z-ordering, as well as direct layers, are still rendered sequentially.
+     *
+     * <p>This trades memory for speed, and works best when the map contains several layers of similar complexity.
+     * Render listeners may be called from multiple threads when this flag is enabled.
+     */
+    public static final String PARALLEL_LAYER_RENDERING_KEY = "parallelLayerRendering";
+
     /**
      * Enables advanced reprojection handling. Geometries will be sliced to fit into the area of definition of the
      * rendering projection.
@@ -375,6 +395,14 @@ public class StreamingRenderer implements GTRenderer {
 
     private static double ADVANCED_PROJECTION_DENSIFICATION_TOLERANCE_DEFAULT = 0.8;
 
+    /**
+     * Maximum error, in pixels, tolerated when reprojecting vector geometries (as a Double). When set to a positive
+     * value the transformation of geometry vertices is approximated by an {@link ApproximatedTransform2D} built over
+     * the rendering area, which is considerably faster than the exact reprojection on heavily vertexed layers. Not set,
+     * or set to zero, by default, meaning all vertices are transformed exactly.
+     */
+    public static final String VECTOR_TRANSFORM_TOLERANCE_KEY = "vectorTransformTolerance";
+
     /** Boolean flag indicating whether advanced projection wrapping heuristic should be used or nto. */
     public static final String DATELINE_WRAPPING_HEURISTIC_KEY = "datelineWrappingCheckEnabled";
 
@@ -414,8 +442,25 @@ public class StreamingRenderer implements GTRenderer {
     /** The thread pool used to submit the painter workers. */
     private ExecutorService threadPool;
 
+    private static final AtomicInteger LAYER_THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * The pool rendering layers in parallel. Kept separate from {@link #threadPool}, as the painter thread of the main
+     * rendering would otherwise compete for the same threads as the layers it is waiting for, and deadlock a fully used
+     * pool
+     */
+    private static final ExecutorService LAYER_THREAD_POOL =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "gt-parallel-layer-rendering-" + LAYER_THREAD_COUNT.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
     private PainterThread painterThread;
 
+    /** The renderers painting layers in parallel, tracked so that rendering can be stopped */
+    private final List<StreamingRenderer> layerRenderers = new CopyOnWriteArrayList<>();
+
     private static int MAX_PIXELS_DENSIFY =
             Integer.valueOf(System.getProperty("ADVANCED_PROJECTION_DENSIFY_MAX_PIXELS", "5"));
 
@@ -515,6 +560,14 @@ private void fireErrorEvent(Throwable t) {
     @Override
     public void stopRendering() {
         renderingStopRequested = true;
+        // stop the renderers painting layers in parallel, if any
+        for (StreamingRenderer renderer : layerRenderers) {
+            renderer.stopRendering();
+        }
+        // the parallel layer renderers might be stopped before they started painting
+        if (requests == null) {
+            return;
+        }
         // un-block the queue in case it was filled with requests and the main
         // thread got blocked on it
         requests.clear();
@@ -787,6 +840,12 @@ public void paint(
         }
         Future painterFuture = localThreadPool.submit(painterThread);
         List<CompositingGroup> compositingGroups = null;
+        // layers being rendered in parallel, if enabled
+        boolean parallelLayers = threadPool != null
+                && isParallelLayerRenderingEnabled()
+                && !concatTransforms
+                && graphics.getTransform().isIdentity();
+        Map<Layer, Future<LayerRendering>> layerRenderings = new IdentityHashMap<>();
         try {
             if (mapContent == null) {
                 throw new IllegalStateException("Cannot call paint, you did not set a MapContent in this renderer");
@@ -816,6 +875,10 @@ public void paint(
                     impl.setLabelRenderingMode(LabelRenderingMode.valueOf(getTextRenderingMethod()));
                 }
 
+                if (parallelLayers) {
+                    submitParallelLayers(currentMapContent, graphics, paintArea, layerRenderings);
+                }
+
                 for (Layer layer : currentMapContent.layers()) {
                     try {
                         renderListeners.forEach(l -> l.layerStart(layer));
@@ -840,7 +903,10 @@ public void paint(
                     }
 
                     labelCache.startLayer(layerId);
-                    if (layer instanceof DirectLayer directLayer) {
+                    Future<LayerRendering> layerRendering = layerRenderings.remove(layer);
+                    if (layerRendering != null) {
+                        mergeLayerRendering(compositingGraphic, layerRendering, layerId);
+                    } else if (layer instanceof DirectLayer directLayer) {
                         RenderingRequest request = new RenderDirectLayerRequest(compositingGraphic, directLayer);
                         try {
                             requests.put(request);
@@ -883,6 +949,11 @@ public void paint(
             }
         } finally {
             try {
+                // the layers rendered in parallel are not needed anymore if we got here
+                // because of a stop request or an error
+                for (Future<LayerRendering> layerRendering : layerRenderings.values()) {
+                    layerRendering.cancel(true);
+                }
                 // clean up generated map contents (in finally block to ensure it's done regardless
                 // of how we got here
                 if (compositingGroups != null) {
@@ -933,6 +1004,118 @@ public void paint(
         }
     }
 
+    /**
+     * Starts rendering in parallel the layers of the map content that can be painted in isolation, each one on its own
+     * back buffer, using the layer thread pool. Does nothing if less than two layers can be painted this way.
+     */
+    private void submitParallelLayers(
+            MapContent content,
+            Graphics2D graphics,
+            Rectangle paintArea,
+            Map<Layer, Future<LayerRendering>> layerRenderings) {
+        List<Layer> layers =
+                content.layers().stream().filter(this::isParallelRenderable).collect(Collectors.toList());
+        if (layers.size() < 2) {
+            return;
+        }
+
+        GraphicsConfiguration configuration = graphics.getDeviceConfiguration();
+        RenderingHints hints = graphics.getRenderingHints();
+        for (Layer layer : layers) {
+            layerRenderings.put(
+                    layer, LAYER_THREAD_POOL.submit(() -> renderLayer(layer, configuration, hints, paintArea)));
+        }
+    }
+
+    /**
+     * Checks if the layer can be painted on a separate back buffer, and then merged with the others, without altering
+     * the output. Layers with backgrounds, alpha compositing or z-ordering need to see what has been painted before
+     * them, and direct layers might not be thread safe.
+     */
+    private boolean isParallelRenderable(Layer layer) {
+        if (!layer.isVisible() || layer instanceof DirectLayer || layer instanceof ZGroupLayer) {
+            return false;
+        }
+        Style style = layer.getStyle();
+        if (style == null || style.getBackground() != null) {
+            return false;
+        }
+        for (FeatureTypeStyle fts : style.featureTypeStyles()) {
+            if (SLDStyleFactory.getComposite(fts.getOptions()) != null || CompositingGroup.isCompositingBase(fts)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders a single layer on its own back buffer, using a separate renderer sharing the configuration of this one.
+     * The labels are recorded, to be added in the main label cache later, in layer order.
+     */
+    private LayerRendering renderLayer(
+            Layer layer, GraphicsConfiguration configuration, RenderingHints hints, Rectangle paintArea) {
+        RecordingLabelCache labels = new RecordingLabelCache();
+        Map<Object, Object> layerHints = new HashMap<>(rendererHints);
+        layerHints.remove(PARALLEL_LAYER_RENDERING_KEY);
+        layerHints.put(LABEL_CACHE_KEY, labels);
+
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.setRendererHints(layerHints);
+        renderer.setJava2DHints(java2dHints);
+        renderer.setGeneralizationDistance(generalizationDistance);
+        renderer.setInteractive(interactive);
+        renderer.addRenderListener(new RenderListener() {
+
+            @Override
+            public void featureRenderer(SimpleFeature feature) {
+                renderListeners.forEach(l -> l.featureRenderer(feature));
+            }
+
+            @Override
+            public void errorOccurred(Exception e) {
+                renderListeners.forEach(l -> l.errorOccurred(e));
+            }
+        });
+
+        BufferedImage image = configuration.createCompatibleImage(
+                paintArea.x + paintArea.width, paintArea.y + paintArea.height, Transparency.TRANSLUCENT);
+        Graphics2D layerGraphics = image.createGraphics();
+        layerGraphics.setRenderingHints(hints);
+        MapContent layerContent = new MapContent();
+        layerContent.addLayer(layer);
+        renderer.setMapContent(layerContent);
+        layerRenderers.add(renderer);
+        try {
+            if (!renderingStopRequested) {
+                renderer.paint(layerGraphics, paintArea, originalMapExtent, worldToScreenTransform);
+            }
+        } finally {
+            layerRenderers.remove(renderer);
+            layerGraphics.dispose();
+            // the layer is owned by the caller map content, don't dispose it
+            layerContent.removeLayer(layer);
+            layerContent.dispose();
+        }
+
+        return new LayerRendering(image, labels);
+    }
+
+    /**
+     * Waits for a layer rendered in parallel to complete, adds its labels to the label cache and queues the merge of
+     * its back buffer on the output graphics.
+     */
+    private void mergeLayerRendering(Graphics2D graphics, Future<LayerRendering> layerRendering, String layerId) {
+        try {
+            LayerRendering rendering = layerRendering.get();
+            rendering.labels().replay(labelCache, layerId);
+            requests.put(new MergeLayerImageRequest(graphics, rendering.image()));
+        } catch (ExecutionException e) {
+            fireErrorEvent(e.getCause());
+        } catch (InterruptedException e) {
+            fireErrorEvent(e);
+        }
+    }
+
     protected void fillBackground(Graphics2D graphics, Rectangle paintArea, Style style) {
         // get the paint, could be a repeated image too (TexturePaint)
         Paint background = styleFactory.getPaint(style.getBackground(), null, null);
@@ -1595,6 +1778,14 @@ private boolean isOptimizedFTSRenderingEnabled() {
         return Boolean.TRUE.equals(result);
     }
 
+    /** Checks if parallel layer rendering is enabled */
+    private boolean isParallelLayerRenderingEnabled() {
+        if (rendererHints == null) return false;
+        Object result = rendererHints.get(PARALLEL_LAYER_RENDERING_KEY);
+        if (result == null) return false;
+        return Boolean.TRUE.equals(result);
+    }
+
     /** Checks if the advanced projection handling is enabled */
     private boolean isAdvancedProjectionHandlingEnabled() {
         if (rendererHints == null) return false;
@@ -1649,6 +1840,14 @@ private double getAdvancedProjectionDensificationTolerance() {
         return ((Double) result).doubleValue();
     }
 
+    /** Returns the tolerance, in pixels, used to approximate the reprojection of vector geometries, or 0 if disabled */
+    private double getVectorTransformTolerance() {
+        if (rendererHints == null) return 0;
+        Object result = rendererHints.get(VECTOR_TRANSFORM_TOLERANCE_KEY);
+        if (result == null) return 0;
+        return ((Number) result).doubleValue();
+    }
+
     /** Checks if advanced projection wrapping heuristic should be enabled. */
     private boolean isWrappingHeuristicEnabled() {
         if (rendererHints == null) return true;
@@ -2718,14 +2917,15 @@ void processFeature(RenderableFeature rf, LiteFeatureTypeStyle fts, ProjectionHa
             boolean doElse = true;
             Rule[] elseRuleList = fts.elseRules;
             Rule[] ruleList = fts.ruleList;
+            Filter[] ruleFilters = fts.getRuleFilters(rf.feature);
             Rule r;
             Filter filter;
             Graphics2D graphics = fts.graphics;
             // applicable rules
             int paintCommands = 0;
-            for (Rule value : ruleList) {
-                r = value;
-                filter = r.getFilter();
+            for (int i = 0; i < ruleList.length; i++) {
+                r = ruleList[i];
+                filter = ruleFilters[i];
 
                 if (filter == null || filter.evaluate(rf.feature)) {
                     doElse = false;
@@ -3231,6 +3431,7 @@ class RenderableFeature {
         private List<Shape> shapes = new ArrayList<>();
         private boolean clone;
         private IdentityHashMap<MathTransform, Decimator> decimators = new IdentityHashMap<>();
+        private Map<MathTransform, MathTransform> approximations = new HashMap<>();
         private ScreenMap screenMap;
         private String layerId;
 
@@ -3307,6 +3508,7 @@ && getGeometryIndex(g) == -1) {
                     } else {
                         sa.rxform = sa.crsxform;
                     }
+                    approximateTransforms(sa);
 
                     symbolizerAssociationHT.put(symbolizer, sa);
                 }
@@ -3325,6 +3527,40 @@ && getGeometryIndex(g) == -1) {
             }
         }
 
+        /**
+         * Replaces the reprojecting transforms of the association with approximations built over the rendering area, if
+         * a vector transform tolerance has been set. The approximations are shared among the symbolizers of the layer.
+         */
+        private void approximateTransforms(SymbolizerAssociation sa) {
+            double tolerance = getVectorTransformTolerance();
+            if (tolerance <= 0 || sa.crs == null || sa.crsxform == null || sa.crsxform.isIdentity()) return;
+
+            Rectangle2D domain;
+            try {
+                ReferencedEnvelope envelope = transformEnvelope(mapExtent, sa.crs);
+                if (envelope == null || envelope.isEmpty()) return;
+                domain = new Rectangle2D.Double(
+                        envelope.getMinX(), envelope.getMinY(), envelope.getWidth(), envelope.getHeight());
+            } catch (Exception e) {
+                LOGGER.log(
+                        Level.FINE, "Could not compute the rendering area in the data CRS, using exact transforms", e);
+                return;
+            }
+
+            // the full transform goes to the screen, the rendering one to the map CRS
+            sa.xform = approximate(sa.xform, domain, tolerance);
+            double scale = XAffineTransform.getScale(worldToScreenTransform);
+            if (scale > 0) {
+                sa.rxform = approximate(sa.rxform, domain, tolerance / scale);
+            }
+        }
+
+        private MathTransform approximate(MathTransform transform, Rectangle2D domain, double tolerance) {
+            if (!(transform instanceof MathTransform2D)) return transform;
+            return approximations.computeIfAbsent(
+                    transform, t -> ApproximatedTransform2D.create((MathTransform2D) t, domain, tolerance));
+        }
+
         private LiteShape2 getPointSymbolizerShape(Geometry g, SymbolizerAssociation sa, boolean clone)
                 throws TransformException, FactoryException {
             // if the coordinate transformation will occurr in place on the coordinate sequence
@@ -3583,6 +3819,30 @@ void execute() {
         }
     }
 
+    /** The back buffer and labels of a layer rendered in parallel */
+    private record LayerRendering(BufferedImage image, RecordingLabelCache labels) {}
+
+    /** A request to paint the back buffer of a layer rendered in parallel on the output graphics */
+    protected static class MergeLayerImageRequest extends RenderingRequest {
+        Graphics2D graphics;
+
+        BufferedImage image;
+
+        public MergeLayerImageRequest(Graphics2D graphics, BufferedImage image) {
+            this.graphics = graphics;
+            this.image = image;
+        }
+
+        @Override
+        void execute() {
+            if (graphics instanceof DelayedBackbufferGraphic graphic) {
+                graphic.init();
+            }
+            graphics.setComposite(AlphaComposite.SrcOver);
+            graphics.drawImage(image, 0, 0, null);
+        }
+    }
+
     protected static class MargeCompositingGroupRequest extends RenderingRequest {
         Graphics2D graphics;
 
@@ -0,0 +1,65 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class GridLabelIndexTest {
+
+    @Test
+    public void testSameAsQuadtree() {
+        Random random = new Random(0);
+        LabelIndex expected = new LabelIndex();
+        GridLabelIndex actual = new GridLabelIndex(32);
+        // a large reserved area, and one crossing the origin
+        List<Rectangle2D> reserved =
+                List.of(new Rectangle2D.Double(500, 500, 400, 300), new Rectangle2D.Double(-20, -20, 30, 30));
+        expected.reserveArea(reserved);
+        actual.reserveArea(reserved);
+        for (int i = 0; i < 2000; i++) {
+            Rectangle2D bounds = new Rectangle2D.Double(
+                    random.nextDouble() * 1000 - 50,
+                    random.nextDouble() * 1000 - 50,
+                    random.nextDouble() * 80,
+                    random.nextDouble() * 20);
+            double distance = random.nextInt(5) - 1;
+            boolean conflict = expected.labelsWithinDistance(bounds, distance);
+            assertEquals("Label " + i, conflict, actual.labelsWithinDistance(bounds, distance));
+            if (!conflict) {
+                expected.addLabel(null, bounds);
+                actual.addLabel(null, bounds);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeQuery() {
+        GridLabelIndex index = new GridLabelIndex(16);
+        index.addLabel(null, new Rectangle2D.Double(100, 100, 10, 10));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(-1e9, -1e9, 2e9, 2e9), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(0, 0, 50, 50), 0));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(0, 0, 50, 50), 60));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(0, 0, 50, 50), -1));
+    }
+}
@@ -1,6 +1,7 @@
 package org.geotools.renderer.label;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -16,6 +17,7 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -261,6 +263,70 @@ public void testFollowLineAutoWrap() throws Exception {
         assertEquals(0, item.getAutoWrap());
     }
 
+    @Test
+    public void testGridLabelEngine() throws Exception {
+        Font font = sb.createFont("Bitstream Vera Sans", 12);
+        TextSymbolizer point = sb.createTextSymbolizer(Color.BLACK, font, "name");
+        TextSymbolizer line = sb.createTextSymbolizer(Color.BLUE, font, "name");
+        line.setLabelPlacement(sb.createLinePlacement(0));
+        line.getOptions().put(org.geotools.api.style.TextSymbolizer.FOLLOW_LINE_KEY, "true");
+        TextSymbolizer polygon = sb.createTextSymbolizer(Color.RED, font, "name");
+        polygon.setHalo(sb.createHalo(Color.WHITE, 2));
+
+        LabelCacheImpl grid = new LabelCacheImpl();
+        grid.setGridLabelEngine(true);
+        grid.startLayer(LAYER_ID);
+        Random random = new Random(0);
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 256;
+            double y = random.nextDouble() * 256;
+            Geometry geom;
+            TextSymbolizer ts;
+            if (i % 3 == 0) {
+                geom = geometry("POINT(" + x + " " + y + ")");
+                ts = point;
+            } else if (i % 3 == 1) {
+                geom = geometry("LINESTRING(" + x + " " + y + ", " + (x + 80) + " " + (y + 30) + ", " + (x + 120) + " "
+                        + y + ")");
+                ts = line;
+            } else {
+                geom = geometry("POLYGON((" + x + " " + y + ", " + (x + 60) + " " + y + ", " + (x + 60) + " " + (y + 40)
+                        + ", " + x + " " + (y + 40) + ", " + x + " " + y + "))");
+                ts = polygon;
+            }
+            SimpleFeature f = createFeature("label" + i, geom);
+            addToCache(cache, ts, f);
+            addToCache(grid, ts, f);
+        }
+        cache.endLayer(LAYER_ID, null, null);
+        grid.endLayer(LAYER_ID, null, null);
+
+        // same labels painted in the same positions
+        BufferedImage expected = paintLabels(cache);
+        BufferedImage actual = paintLabels(grid);
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals("Pixel " + x + "," + y, expected.getRGB(x, y), actual.getRGB(x, y));
+            }
+        }
+        // the prepared state is not kept around
+        for (LabelCacheItem item : grid.getActiveLabels()) {
+            assertNull(item.preparedLayout);
+            assertFalse(item.locationPrepared);
+        }
+    }
+
+    private BufferedImage paintLabels(LabelCacheImpl cache) {
+        BufferedImage bi = new BufferedImage(256, 256, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = bi.createGraphics();
+        try {
+            cache.end(graphics, new Rectangle(0, 0, 256, 256));
+        } finally {
+            graphics.dispose();
+        }
+        return bi;
+    }
+
     private SimpleFeature createFeature(String label, Geometry geom) {
         fb.add(label);
         fb.add(geom);
@@ -0,0 +1,132 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.style.Style;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.shapefile.ShapefileDataStoreFactory;
+import org.geotools.data.store.CachingDataStore;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.geometry.jts.JTSFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.styling.StyleBuilder;
+import org.geotools.util.factory.Hints;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+public class CachingDataStoreRenderingTest {
+
+    private DataStore shapefile;
+
+    private CachingDataStore caching;
+
+    @Before
+    public void setUp() throws Exception {
+        SimpleFeatureTypeBuilder ftb = new SimpleFeatureTypeBuilder();
+        ftb.setName("cachedLines");
+        ftb.add("the_geom", LineString.class, DefaultGeographicCRS.WGS84);
+        ftb.add("name", String.class);
+        SimpleFeatureType type = ftb.buildFeatureType();
+
+        GeometryFactory gf = JTSFactoryFinder.getGeometryFactory();
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = -10; i <= 10; i++) {
+            LineString line = gf.createLineString(
+                    new Coordinate[] {new Coordinate(i, -10), new Coordinate(i + 0.5, 0), new Coordinate(-i, 10)});
+            features.add(SimpleFeatureBuilder.build(type, new Object[] {line, "line" + i}, null));
+        }
+
+        File shpFile = new File("./target/cachingDataStore/cachedLines.shp");
+        shpFile.getParentFile().mkdirs();
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, shpFile.toURI().toURL());
+        shapefile = new ShapefileDataStoreFactory().createNewDataStore(params);
+        shapefile.createSchema(type);
+        SimpleFeatureStore store = (SimpleFeatureStore) shapefile.getFeatureSource("cachedLines");
+        store.addFeatures(DataUtilities.collection(features));
+
+        caching = new CachingDataStore(shapefile, 1024 * 1024, 4);
+    }
+
+    @After
+    public void tearDown() {
+        caching.dispose();
+    }
+
+    @Test
+    public void testRenderThroughCache() throws Exception {
+        // the features get reprojected while rendering
+        CoordinateReferenceSystem webMercator = CRS.decode("EPSG:3857");
+        ReferencedEnvelope bounds =
+                new ReferencedEnvelope(-12, 12, -12, 12, DefaultGeographicCRS.WGS84).transform(webMercator, true);
+
+        // the cached source hides the hints that would bypass the cache, or let the renderer alter its features
+        assertTrue(shapefile.getFeatureSource("cachedLines").getSupportedHints().contains(Hints.SCREENMAP));
+        assertFalse(caching.getFeatureSource("cachedLines").getSupportedHints().contains(Hints.SCREENMAP));
+        assertFalse(caching.getFeatureSource("cachedLines").getSupportedHints().contains(Hints.FEATURE_DETACHED));
+
+        BufferedImage expected = render(shapefile, bounds);
+        BufferedImage first = render(caching, bounds);
+        assertTrue(caching.getCacheSize() > 0);
+        // the cached features have not been modified by the first rendering
+        BufferedImage second = render(caching, bounds);
+
+        ImageAssert.assertEquals(expected, first, 0);
+        ImageAssert.assertEquals(expected, second, 0);
+    }
+
+    private BufferedImage render(DataStore store, ReferencedEnvelope bounds) throws Exception {
+        StyleBuilder sb = new StyleBuilder();
+        Style style = sb.createStyle(sb.createLineSymbolizer(Color.BLUE, 2));
+        MapContent mc = new MapContent();
+        try {
+            mc.addLayer(new FeatureLayer(store.getFeatureSource("cachedLines"), style));
+            mc.getViewport().setCoordinateReferenceSystem(bounds.getCoordinateReferenceSystem());
+            StreamingRenderer renderer = new StreamingRenderer();
+            renderer.setMapContent(mc);
+            return RendererBaseTest.renderImage(renderer, bounds, null);
+        } finally {
+            mc.dispose();
+        }
+    }
+}
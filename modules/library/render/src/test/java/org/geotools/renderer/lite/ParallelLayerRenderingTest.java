@@ -0,0 +1,152 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.style.Style;
+import org.geotools.data.property.PropertyDataStore;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.renderer.RenderListener;
+import org.geotools.styling.StyleBuilder;
+import org.geotools.test.TestData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelLayerRenderingTest {
+
+    private static final ReferencedEnvelope BOUNDS = new ReferencedEnvelope(0, 10, 0, 10, DefaultGeographicCRS.WGS84);
+
+    private PropertyDataStore ds;
+
+    private MapContent mc;
+
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() throws Exception {
+        File property =
+                new File(TestData.getResource(this, "buildings.properties").toURI());
+        ds = new PropertyDataStore(property.getParentFile());
+
+        StyleBuilder sb = new StyleBuilder();
+        Style polygons = sb.createStyle(sb.createPolygonSymbolizer(Color.GRAY, Color.BLACK, 1));
+        Style lines = sb.createStyle(sb.createLineSymbolizer(Color.BLUE, 3));
+        Style labels = sb.createStyle(sb.createTextSymbolizer(Color.BLACK, sb.createFont("Serif", 14), "name"));
+        Style points = sb.createStyle(sb.createPointSymbolizer(sb.createGraphic(null, sb.createMark("circle"), null)));
+
+        mc = new MapContent();
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("buildings"), polygons));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("line"), lines));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("diaglines"), labels));
+        // same labels again, will conflict with the ones of the previous layer
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("diaglines"), labels));
+        mc.addLayer(new FeatureLayer(ds.getFeatureSource("point"), points));
+
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+        mc.dispose();
+        ds.dispose();
+    }
+
+    @Test
+    public void testSameOutputAsSequential() throws Exception {
+        CountingListener sequentialListener = new CountingListener();
+        BufferedImage sequential = RendererBaseTest.renderImage(buildRenderer(false), BOUNDS, sequentialListener);
+
+        CountingListener parallelListener = new CountingListener();
+        BufferedImage parallel = RendererBaseTest.renderImage(buildRenderer(true), BOUNDS, parallelListener);
+
+        ImageAssert.assertEquals(sequential, parallel, 0);
+        assertEquals(sequentialListener.features.get(), parallelListener.features.get());
+        assertEquals(0, parallelListener.errors.get());
+    }
+
+    @Test
+    public void testNoThreadPool() throws Exception {
+        BufferedImage sequential = RendererBaseTest.renderImage(buildRenderer(false), BOUNDS, null);
+
+        // without a thread pool the hint is ignored
+        StreamingRenderer renderer = buildRenderer(true);
+        renderer.setThreadPool(null);
+        BufferedImage image = RendererBaseTest.renderImage(renderer, BOUNDS, null);
+
+        ImageAssert.assertEquals(sequential, image, 0);
+    }
+
+    @Test(timeout = 60000)
+    public void testSingleThreadPool() throws Exception {
+        BufferedImage sequential = RendererBaseTest.renderImage(buildRenderer(false), BOUNDS, null);
+
+        // the painter thread takes the only thread of the pool, the layers must not wait for it
+        ExecutorService single = Executors.newFixedThreadPool(1);
+        try {
+            StreamingRenderer renderer = buildRenderer(true);
+            renderer.setThreadPool(single);
+            BufferedImage image = RendererBaseTest.renderImage(renderer, BOUNDS, null);
+
+            ImageAssert.assertEquals(sequential, image, 0);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    private StreamingRenderer buildRenderer(boolean parallel) {
+        StreamingRenderer renderer = new StreamingRenderer();
+        Map<Object, Object> hints = new HashMap<>();
+        hints.put(StreamingRenderer.PARALLEL_LAYER_RENDERING_KEY, parallel);
+        renderer.setRendererHints(hints);
+        renderer.setThreadPool(pool);
+        renderer.setMapContent(mc);
+        return renderer;
+    }
+
+    private static class CountingListener implements RenderListener {
+
+        AtomicInteger features = new AtomicInteger();
+
+        AtomicInteger errors = new AtomicInteger();
+
+        @Override
+        public void featureRenderer(SimpleFeature feature) {
+            features.incrementAndGet();
+        }
+
+        @Override
+        public void errorOccurred(Exception e) {
+            errors.incrementAndGet();
+        }
+    }
+}
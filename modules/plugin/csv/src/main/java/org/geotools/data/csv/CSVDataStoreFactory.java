@@ -120,6 +120,13 @@ public class CSVDataStoreFactory implements FileDataStoreFactorySpi {
             false,
             false,
             new KVP(Param.LEVEL, "advanced"));
+    public static final Param READTHREADS = new Param(
+            "readThreads",
+            Integer.class,
+            "Maximum number of chunks of large files parsed in parallel per reader, 1 parses them sequentially",
+            false,
+            1,
+            new KVP(Param.LEVEL, "advanced"));
     public static final Param[] parametersInfo = {
         FILE_PARAM,
         NAMESPACEP,
@@ -131,7 +138,8 @@ public class CSVDataStoreFactory implements FileDataStoreFactorySpi {
         QUOTEALL,
         QUOTECHAR,
         SEPERATORCHAR,
-        LINESEPSTRING
+        LINESEPSTRING,
+        READTHREADS
     };
 
     @Override
@@ -284,6 +292,10 @@ private FileDataStore createDataStoreFromFile(File file, URI namespace, Map<Stri
         if (lineSep != null) {
             csvStrategy.setLineSeparator(lineSep);
         }
+        Integer readThreads = (Integer) READTHREADS.lookUp(params);
+        if (readThreads != null) {
+            csvStrategy.setReadThreads(readThreads);
+        }
         CSVDataStore store = new CSVDataStore(csvFileState, csvStrategy);
         if (namespace != null) {
             store.setNamespaceURI(namespace.toString());
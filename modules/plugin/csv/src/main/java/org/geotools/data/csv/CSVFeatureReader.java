@@ -19,18 +19,18 @@
 
 import java.io.IOException;
 import java.util.NoSuchElementException;
+import org.geotools.api.data.CloseableIterator;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
-import org.geotools.data.csv.parse.CSVIterator;
 import org.geotools.data.csv.parse.CSVStrategy;
 
 public class CSVFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
 
     private SimpleFeatureType featureType;
 
-    private CSVIterator iterator;
+    private CloseableIterator<SimpleFeature> iterator;
 
     public CSVFeatureReader(CSVStrategy csvStrategy) throws IOException {
         this(csvStrategy, Query.ALL);
@@ -38,7 +38,7 @@ public CSVFeatureReader(CSVStrategy csvStrategy) throws IOException {
 
     public CSVFeatureReader(CSVStrategy csvStrategy, Query query) throws IOException {
         this.featureType = csvStrategy.getFeatureType();
-        this.iterator = csvStrategy.iterator();
+        this.iterator = csvStrategy.iterator(query);
     }
 
     @Override
@@ -45,6 +45,8 @@ public class CSVFileState {
     private char escapechar = '\\';
     private String lineSeparator = System.lineSeparator();
     private boolean quoteAllFields = false;
+    private int readThreads = 1;
+    private int readChunkSize = 8 * 1024 * 1024;
 
     static final Logger LOGGER = Logging.getLogger(CSVFileState.class);
 
@@ -146,14 +148,7 @@ public CSVReader openCSVReader() throws IOException, CsvValidationException {
             reader = new StringReader(dataInput);
         }
 
-        final CSVParser parser = new CSVParserBuilder()
-                .withSeparator(separator)
-                .withEscapeChar(escapechar)
-                .withQuoteChar(quotechar)
-                .withIgnoreLeadingWhiteSpace(true)
-                .build();
-        final CSVReader csvReader =
-                new CSVReaderBuilder(reader).withCSVParser(parser).build();
+        final CSVReader csvReader = createCSVReader(reader);
 
         String[] tnames;
         if ((tnames = csvReader.readNext()) == null) {
@@ -172,6 +167,20 @@ public CSVReader openCSVReader() throws IOException, CsvValidationException {
         return csvReader;
     }
 
+    /**
+     * Wraps a reader positioned on data records with a CSVReader using the separator, quote and escape characters of
+     * this file. Unlike {@link #openCSVReader()} the headers are not read.
+     */
+    public CSVReader createCSVReader(Reader reader) {
+        final CSVParser parser = new CSVParserBuilder()
+                .withSeparator(separator)
+                .withEscapeChar(escapechar)
+                .withQuoteChar(quotechar)
+                .withIgnoreLeadingWhiteSpace(true)
+                .build();
+        return new CSVReaderBuilder(reader).withCSVParser(parser).build();
+    }
+
     public String[] getCSVHeaders() {
         if (headers == null) {
             throw new RuntimeException("Attempting to access unopened CSV Reader");
@@ -228,4 +237,28 @@ public boolean isQuoteAllFields() {
     public void setQuoteAllFields(boolean quoteAllFields) {
         this.quoteAllFields = quoteAllFields;
     }
+
+    /** @return the maximum number of chunks of the file parsed in parallel by a single reader */
+    public int getReadThreads() {
+        return readThreads;
+    }
+
+    /**
+     * @param readThreads the maximum number of chunks of the file parsed in parallel by a single reader, 1 parses it
+     *     sequentially. The chunks are parsed on a pool shared by all readers, sized after the number of available
+     *     processors.
+     */
+    public void setReadThreads(int readThreads) {
+        this.readThreads = readThreads;
+    }
+
+    /** @return the approximate size in bytes of the chunks parsed by each thread */
+    public int getReadChunkSize() {
+        return readChunkSize;
+    }
+
+    /** @param readChunkSize the approximate size in bytes of the chunks parsed by each thread */
+    public void setReadChunkSize(int readChunkSize) {
+        this.readChunkSize = readChunkSize;
+    }
 }
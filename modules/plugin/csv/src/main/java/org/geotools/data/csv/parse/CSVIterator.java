@@ -19,14 +19,13 @@
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
-import java.io.Closeable;
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.geotools.api.data.CloseableIterator;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.data.csv.CSVFileState;
 
-public class CSVIterator implements Iterator<SimpleFeature>, Closeable {
+public class CSVIterator implements CloseableIterator<SimpleFeature> {
 
     private int idx;
 
@@ -0,0 +1,416 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.data.csv.CSVFileState;
+
+/**
+ * Iterates over the features of a CSV file parsing it on multiple threads.
+ *
+ * <p>The file is read sequentially in chunks of about {@link CSVFileState#getReadChunkSize()} bytes, each chunk being
+ * cut at the last record boundary it contains. Finding the boundaries requires tracking quotes, as quoted values can
+ * contain newlines, but it's a simple byte scan, the actual parsing and decoding of the records happens on the worker
+ * threads. The chunk buffers are recycled once parsed, and the number of chunks in flight is bounded, keeping the
+ * memory usage under control.
+ *
+ * <p>Features are returned either in file order, or in the order the chunks are parsed, when the caller does not care.
+ * Feature ids are the same as the ones generated by {@link CSVIterator}.
+ *
+ * <p>The chunks are parsed on a pool of daemon threads shared by all the readers, sized after the number of available
+ * processors. Each reader keeps at most {@link CSVFileState#getReadThreads()} chunks in flight.
+ */
+public class CSVParallelIterator implements CloseableIterator<SimpleFeature> {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService PARSE_POOL =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "gt-csv-parallel-read-" + THREAD_COUNT.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final CSVFileState csvFileState;
+
+    private final CSVStrategy csvStrategy;
+
+    private final boolean ordered;
+
+    private final int maxPending;
+
+    private final byte separator;
+
+    private final byte quotechar;
+
+    private final byte escapechar;
+
+    private final boolean stopAtBlankLine;
+
+    private final FileChannel channel;
+
+    /** The chunks being parsed, in file order */
+    private final ArrayDeque<ParseTask> pending = new ArrayDeque<>();
+
+    /** The chunks parsed, in completion order, used when the features are not returned in file order */
+    private final BlockingQueue<ParseTask> completed = new LinkedBlockingQueue<>();
+
+    /** The first record of the chunk where decoding ended, later chunks are discarded */
+    private long endRecord = Long.MAX_VALUE;
+
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    private Iterator<SimpleFeature> current = Collections.emptyIterator();
+
+    private boolean ended;
+
+    // scanning state, carried over from one chunk to the next
+    private byte[] leftover = new byte[0];
+
+    private boolean eof;
+
+    private boolean headerPending = true;
+
+    private boolean inQuotes;
+
+    private boolean inField;
+
+    private boolean escaping;
+
+    private boolean lineEmpty = true;
+
+    private long nextRecord = 1;
+
+    /**
+     * Returns true if the file can be split in chunks: it must be a file larger than a chunk, and the separator, quote
+     * and escape characters must be single byte UTF-8 characters
+     */
+    public static boolean canSplit(CSVFileState csvFileState) {
+        File file = csvFileState.getFile();
+        return file != null
+                && file.length() > csvFileState.getReadChunkSize()
+                && csvFileState.getSeparator() < 128
+                && csvFileState.getQuotechar() < 128
+                && csvFileState.getEscapechar() < 128;
+    }
+
+    /**
+     * @param csvFileState the file to read
+     * @param csvStrategy the strategy decoding the records
+     * @param ordered true if the features should be returned in file order
+     */
+    public CSVParallelIterator(CSVFileState csvFileState, CSVStrategy csvStrategy, boolean ordered) throws IOException {
+        this.csvFileState = csvFileState;
+        this.csvStrategy = csvStrategy;
+        this.ordered = ordered;
+        this.separator = (byte) csvFileState.getSeparator();
+        this.quotechar = (byte) csvFileState.getQuotechar();
+        this.escapechar = (byte) csvFileState.getEscapechar();
+        // make sure the headers are parsed, and the feature type built, before going parallel
+        csvStrategy.getFeatureType();
+        // the strategies return no feature for a blank line, and the sequential reader stops there,
+        // unless there is a single column, where a blank line is an empty value
+        this.stopAtBlankLine = csvFileState.getCSVHeaders().length > 1;
+        int threads = csvFileState.getReadThreads();
+        this.maxPending = threads;
+        this.channel = FileChannel.open(csvFileState.getFile().toPath(), StandardOpenOption.READ);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (!current.hasNext()) {
+                if (ended) {
+                    return false;
+                }
+                while (pending.size() < maxPending) {
+                    Chunk chunk = nextChunk();
+                    if (chunk == null) {
+                        break;
+                    }
+                    ParseTask task = new ParseTask(chunk);
+                    pending.add(task);
+                    PARSE_POOL.execute(task);
+                }
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                ParseTask task;
+                if (ordered) {
+                    task = pending.poll();
+                } else {
+                    task = completed.take();
+                    if (task.firstRecord > endRecord) {
+                        // cancelled, or completed before it could be
+                        continue;
+                    }
+                    pending.remove(task);
+                }
+                Chunk chunk = get(task);
+                current = chunk.features.iterator();
+                if (chunk.ended) {
+                    // no more features past this chunk, in unordered mode the chunks before it
+                    // might still be pending, drain them but cancel the ones after it
+                    stopReading();
+                    if (ordered) {
+                        ended = true;
+                    } else {
+                        cancelAfter(chunk.firstRecord);
+                    }
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(
+                    (IOException) new InterruptedIOException("Interrupted while reading csv file").initCause(e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** @return true if the features are returned in file order */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    @Override
+    public SimpleFeature next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ParseTask task : pending) {
+            task.cancel(true);
+        }
+        pending.clear();
+        channel.close();
+    }
+
+    /** Cancels the pending chunks following the given record, their features are past the end of the read */
+    private void cancelAfter(long record) {
+        endRecord = Math.min(endRecord, record);
+        for (Iterator<ParseTask> it = pending.iterator(); it.hasNext(); ) {
+            ParseTask task = it.next();
+            if (task.firstRecord > endRecord) {
+                task.cancel(true);
+                it.remove();
+            }
+        }
+    }
+
+    private void stopReading() {
+        eof = true;
+        leftover = new byte[0];
+    }
+
+    private Chunk get(ParseTask task) throws IOException, InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException exception) {
+                throw exception;
+            } else if (cause instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IOException("Failure reading csv file", cause);
+        }
+    }
+
+    /** Reads the next chunk of the file, cut at the last record boundary found, or returns null if the file is over */
+    private Chunk nextChunk() throws IOException {
+        if (eof && leftover.length == 0) {
+            return null;
+        }
+        byte[] buffer = buffers.poll();
+        int size = Math.max(csvFileState.getReadChunkSize(), leftover.length * 2);
+        if (buffer == null || buffer.length < size) {
+            buffer = new byte[size];
+        }
+        System.arraycopy(leftover, 0, buffer, 0, leftover.length);
+        int length = leftover.length;
+        // the leftover has already been scanned, it does not contain any record boundary
+        int scanned = length;
+        int start = 0;
+        int end = -1;
+        long records = 0;
+        while (end < 0) {
+            if (length == buffer.length) {
+                // a record longer than the buffer, grow it
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = eof ? -1 : channel.read(ByteBuffer.wrap(buffer, length, buffer.length - length));
+            if (read < 0) {
+                eof = true;
+                end = length;
+                break;
+            }
+            length += read;
+            for (int i = scanned; i < length; i++) {
+                byte b = buffer[i];
+                if (escaping) {
+                    escaping = false;
+                    if (b == quotechar || b == escapechar) {
+                        continue;
+                    }
+                }
+                if (b == escapechar && (inQuotes || inField)) {
+                    escaping = true;
+                    inField = true;
+                    lineEmpty = false;
+                } else if (b == quotechar) {
+                    inQuotes = !inQuotes;
+                    inField = true;
+                    lineEmpty = false;
+                } else if (b == '\n' && !inQuotes) {
+                    inField = false;
+                    if (headerPending) {
+                        headerPending = false;
+                        start = i + 1;
+                    } else {
+                        records++;
+                        end = i + 1;
+                        if (lineEmpty && stopAtBlankLine) {
+                            // the sequential reader stops here, nothing to be read past this point
+                            stopReading();
+                            length = end;
+                            break;
+                        }
+                    }
+                    lineEmpty = true;
+                } else if (b == separator) {
+                    inField = false;
+                    lineEmpty = false;
+                } else if (b != '\r') {
+                    inField = true;
+                    lineEmpty = false;
+                }
+            }
+            scanned = length;
+        }
+        leftover = Arrays.copyOfRange(buffer, end, length);
+        Chunk chunk = new Chunk(buffer, start, end - start, nextRecord, headerPending);
+        headerPending = false;
+        nextRecord += records;
+        return chunk.length > 0 ? chunk : null;
+    }
+
+    /** Parses and decodes the records of a chunk, on a worker thread */
+    private Chunk parse(Chunk chunk) throws IOException {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(chunk.buffer, chunk.offset, chunk.length);
+        try (CSVReader reader = csvFileState.createCSVReader(new InputStreamReader(bytes, StandardCharsets.UTF_8))) {
+            if (chunk.skipHeader) {
+                reader.readNext();
+            }
+            long idx = chunk.firstRecord;
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                SimpleFeature feature = csvStrategy.decode("fid" + idx++, record);
+                if (feature == null) {
+                    chunk.ended = true;
+                    break;
+                }
+                chunk.features.add(feature);
+            }
+        } catch (CsvValidationException e) {
+            throw new IOException(e);
+        } finally {
+            buffers.add(chunk.buffer);
+            chunk.buffer = null;
+        }
+        return chunk;
+    }
+
+    /** Parses a chunk on the pool, queueing itself among the completed ones when done */
+    private class ParseTask extends FutureTask<Chunk> {
+
+        final long firstRecord;
+
+        ParseTask(Chunk chunk) {
+            super(() -> parse(chunk));
+            this.firstRecord = chunk.firstRecord;
+        }
+
+        @Override
+        protected void done() {
+            if (!ordered) {
+                completed.add(this);
+            }
+        }
+    }
+
+    /** A range of records, and the features decoded out of it */
+    private static class Chunk {
+
+        byte[] buffer;
+
+        final int offset;
+
+        final int length;
+
+        final long firstRecord;
+
+        /** No record boundary found in the whole file, the header is still to be skipped */
+        final boolean skipHeader;
+
+        final List<SimpleFeature> features = new ArrayList<>();
+
+        boolean ended;
+
+        Chunk(byte[] buffer, int offset, int length, long firstRecord, boolean skipHeader) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+            this.firstRecord = firstRecord;
+            this.skipHeader = skipHeader;
+        }
+    }
+}
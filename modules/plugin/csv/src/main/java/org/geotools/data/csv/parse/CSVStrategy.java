@@ -25,8 +25,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.Query;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.sort.SortBy;
 import org.geotools.data.csv.CSVFileState;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 
@@ -44,6 +47,33 @@ public CSVIterator iterator() throws IOException {
         return new CSVIterator(csvFileState, this);
     }
 
+    /**
+     * Returns an iterator over the features matching the query. When more than one read thread is configured and the
+     * file is larger than a read chunk, the file is parsed in parallel. Features are then returned in file order,
+     * unless the query is sorted and not paged, in which case they are returned as soon as they are parsed, the sort
+     * will reorder them anyways. Paged queries keep the file order, so that features sorting the same come back in the
+     * same order on every page.
+     */
+    public CloseableIterator<SimpleFeature> iterator(Query query) throws IOException {
+        if (csvFileState.getReadThreads() > 1 && CSVParallelIterator.canSplit(csvFileState)) {
+            boolean paged = query.getStartIndex() != null || !query.isMaxFeaturesUnlimited();
+            return new CSVParallelIterator(csvFileState, this, paged || !isSorted(query));
+        }
+        return iterator();
+    }
+
+    private static boolean isSorted(Query query) {
+        SortBy[] sortBy = query.getSortBy();
+        if (sortBy != null) {
+            for (SortBy sb : sortBy) {
+                if (sb != SortBy.NATURAL_ORDER) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     protected abstract SimpleFeatureType buildFeatureType();
 
     public abstract void createSchema(SimpleFeatureType featureType) throws IOException;
@@ -203,6 +233,30 @@ public void setQuoteAllFields(boolean quoteAllFields) {
         csvFileState.setQuoteAllFields(quoteAllFields);
     }
 
+    /** @return the maximum number of chunks of the file parsed in parallel by a single reader */
+    public int getReadThreads() {
+        return csvFileState.getReadThreads();
+    }
+
+    /**
+     * @param readThreads the maximum number of chunks of the file parsed in parallel by a single reader, 1 parses it
+     *     sequentially. The chunks are parsed on a pool shared by all readers, sized after the number of available
+     *     processors.
+     */
+    public void setReadThreads(int readThreads) {
+        csvFileState.setReadThreads(readThreads);
+    }
+
+    /** @return the approximate size in bytes of the chunks parsed by each thread */
+    public int getReadChunkSize() {
+        return csvFileState.getReadChunkSize();
+    }
+
+    /** @param readChunkSize the approximate size in bytes of the chunks parsed by each thread */
+    public void setReadChunkSize(int readChunkSize) {
+        csvFileState.setReadChunkSize(readChunkSize);
+    }
+
     public void setWritePrj(boolean booleanValue) {
         this.writePrj = booleanValue;
     }
@@ -0,0 +1,223 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.csv.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.csv.CSVDataStore;
+import org.geotools.data.csv.CSVFileState;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CSVParallelIteratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOrdered() throws IOException {
+        File file = writeFile("ordered.csv", 3000, null);
+        CSVFileState fileState = parallelState(file);
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(fileState);
+        assertTrue(CSVParallelIterator.canSplit(fileState));
+
+        List<SimpleFeature> expected = readSequentially(file);
+        assertEquals(3000, expected.size());
+        List<SimpleFeature> actual = new ArrayList<>();
+        try (CloseableIterator<SimpleFeature> iterator = strategy.iterator(Query.ALL)) {
+            assertTrue(iterator instanceof CSVParallelIterator);
+            while (iterator.hasNext()) {
+                actual.add(iterator.next());
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUnordered() throws IOException {
+        File file = writeFile("unordered.csv", 3000, null);
+        CSVFileState fileState = parallelState(file);
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(fileState);
+
+        List<SimpleFeature> actual = new ArrayList<>();
+        try (CSVParallelIterator iterator = new CSVParallelIterator(fileState, strategy, false)) {
+            while (iterator.hasNext()) {
+                actual.add(iterator.next());
+            }
+        }
+        actual.sort(Comparator.comparing(f -> (Integer) f.getAttribute("n")));
+        assertEquals(readSequentially(file), actual);
+    }
+
+    @Test
+    public void testBlankLine() throws IOException {
+        File file = writeFile("blank.csv", 1000, 600);
+        CSVFileState fileState = parallelState(file);
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(fileState);
+
+        List<SimpleFeature> expected = readSequentially(file);
+        assertEquals(600, expected.size());
+        for (boolean ordered : new boolean[] {true, false}) {
+            try (CSVParallelIterator iterator = new CSVParallelIterator(fileState, strategy, ordered)) {
+                int count = 0;
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    count++;
+                }
+                assertEquals(600, count);
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyRecord() throws IOException {
+        // not a blank line, but decoded as one, the read ends after the chunks past it are queued
+        File file = writeFile("empty.csv", 3000, 600, "\"\"\n");
+        CSVFileState fileState = parallelState(file);
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(fileState);
+
+        List<SimpleFeature> expected = readSequentially(file);
+        assertEquals(600, expected.size());
+        for (boolean ordered : new boolean[] {true, false}) {
+            List<SimpleFeature> actual = new ArrayList<>();
+            try (CSVParallelIterator iterator = new CSVParallelIterator(fileState, strategy, ordered)) {
+                while (iterator.hasNext()) {
+                    actual.add(iterator.next());
+                }
+            }
+            // the empty value makes the "n" column a string one
+            actual.sort(Comparator.comparing(f -> Integer.valueOf((String) f.getAttribute("n"))));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testSortedQuery() throws IOException {
+        File file = writeFile("sorted.csv", 2000, null);
+        CSVFileState fileState = parallelState(file);
+        CSVDataStore store = new CSVDataStore(fileState, new CSVLatLonStrategy(fileState));
+
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Query query = new Query(store.getTypeName().getLocalPart());
+        query.setSortBy(ff.sort("n", SortOrder.DESCENDING));
+        try (SimpleFeatureIterator it =
+                store.getFeatureSource().getFeatures(query).features()) {
+            for (int i = 1999; i >= 0; i--) {
+                assertTrue(it.hasNext());
+                SimpleFeature feature = it.next();
+                assertEquals(i, feature.getAttribute("n"));
+                assertEquals("sorted-fid" + (i + 1), feature.getID());
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void testSortedPagedQuery() throws IOException {
+        File file = writeFile("paged.csv", 2000, null);
+        CSVFileState fileState = parallelState(file);
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(fileState);
+
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Query query = new Query();
+        query.setSortBy(ff.sort("n", SortOrder.DESCENDING));
+        assertFalse(isOrdered(strategy, query));
+
+        // features sorting the same must come back in the same order on every page
+        query.setStartIndex(100);
+        assertTrue(isOrdered(strategy, query));
+        query.setStartIndex(null);
+        query.setMaxFeatures(50);
+        assertTrue(isOrdered(strategy, query));
+    }
+
+    private boolean isOrdered(CSVStrategy strategy, Query query) throws IOException {
+        try (CSVParallelIterator iterator = (CSVParallelIterator) strategy.iterator(query)) {
+            return iterator.isOrdered();
+        }
+    }
+
+    private CSVFileState parallelState(File file) {
+        CSVFileState fileState = new CSVFileState(file);
+        fileState.setReadThreads(4);
+        fileState.setReadChunkSize(1024);
+        return fileState;
+    }
+
+    private List<SimpleFeature> readSequentially(File file) throws IOException {
+        CSVLatLonStrategy strategy = new CSVLatLonStrategy(new CSVFileState(file));
+        List<SimpleFeature> features = new ArrayList<>();
+        try (CSVIterator iterator = strategy.iterator()) {
+            while (iterator.hasNext()) {
+                features.add(iterator.next());
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Writes a point file whose records contain quoted separators, newlines, doubled and escaped quotes, so that the
+     * chunk boundaries have to be found with care
+     */
+    private File writeFile(String name, int count, Integer blankLineAt) throws IOException {
+        return writeFile(name, count, blankLineAt, "\n");
+    }
+
+    private File writeFile(String name, int count, Integer blankLineAt, String blankLine) throws IOException {
+        StringBuilder sb = new StringBuilder("n,lat,lon,\"description\"\r\n");
+        for (int i = 0; i < count; i++) {
+            if (blankLineAt != null && i == blankLineAt) {
+                sb.append(blankLine);
+            }
+            sb.append(i).append(',').append(i % 90).append(',').append(i % 180).append(',');
+            switch (i % 4) {
+                case 0:
+                    sb.append("plain ").append(i);
+                    break;
+                case 1:
+                    sb.append("\"with, separator\nand newline\n").append(i).append('"');
+                    break;
+                case 2:
+                    sb.append("\"with \"\"quotes\"\"\n").append(i).append('"');
+                    break;
+                default:
+                    sb.append("\"escaped \\\"\n,quote ").append(i).append('"');
+            }
+            sb.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
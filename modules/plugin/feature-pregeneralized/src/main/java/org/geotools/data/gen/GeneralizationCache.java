@@ -0,0 +1,305 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.gen;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.DataStore;
+import org.geotools.api.data.FeatureEvent;
+import org.geotools.api.data.FeatureListener;
+import org.geotools.api.data.FeatureWriter;
+import org.geotools.api.data.Repository;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.gen.info.Generalization;
+import org.geotools.data.gen.info.GeneralizationInfo;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.NameImpl;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * Builds generalized copies of the base features on demand, used by {@link PreGeneralizedDataStore} when no
+ * pregeneralized copy has been configured for the requested distance.
+ *
+ * <p>Requested distances are rounded down to a power of two, the first request for a level schedules the build of the
+ * copy in the background, and is answered with the generalizations already available (or the base features) until the
+ * copy is ready. The copies are written in a cache data store looked up in the {@link Repository}, one feature type per
+ * generalized feature and level, a GeoPackage being a good fit. Any feature event on the base feature source drops all
+ * the levels of the feature, which are rebuilt on the next request.
+ *
+ * <p>The cache data store should be dedicated to this purpose, feature types in it are replaced without notice.
+ */
+public class GeneralizationCache {
+
+    static final Logger LOGGER = Logging.getLogger(GeneralizationCache.class);
+
+    private final Repository repository;
+
+    private final String dataSourceNameSpace;
+
+    private final String dataSourceName;
+
+    private final Executor executor;
+
+    private final ExecutorService ownExecutor;
+
+    private final Map<String, CachedFeature> features = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache building the generalized copies in a background thread
+     *
+     * @param repository the repository used to look up the cache data store
+     * @param dataSourceNameSpace the namespace of the cache data store, may be null
+     * @param dataSourceName the name of the cache data store
+     */
+    public GeneralizationCache(Repository repository, String dataSourceNameSpace, String dataSourceName) {
+        this(repository, dataSourceNameSpace, dataSourceName, null);
+    }
+
+    /**
+     * Creates a cache building the generalized copies with the given executor
+     *
+     * @param repository the repository used to look up the cache data store
+     * @param dataSourceNameSpace the namespace of the cache data store, may be null
+     * @param dataSourceName the name of the cache data store
+     * @param executor the executor running the builds, if null a background thread is created and stopped on
+     *     {@link #dispose()}
+     */
+    public GeneralizationCache(
+            Repository repository, String dataSourceNameSpace, String dataSourceName, Executor executor) {
+        this.repository = repository;
+        this.dataSourceNameSpace = dataSourceNameSpace;
+        this.dataSourceName = dataSourceName;
+        if (executor == null) {
+            this.ownExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "GeneralizationCache");
+                t.setDaemon(true);
+                return t;
+            });
+            this.executor = ownExecutor;
+        } else {
+            this.ownExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Looks up a cached generalization for the requested distance, scheduling the build of the matching level if
+     * missing.
+     *
+     * @param info the generalized feature
+     * @param base the base feature source, source of the copies and of the events invalidating them
+     * @param requestedDistance the distance requested by the query
+     * @return the largest ready level not exceeding the requested distance, null if none is ready yet
+     */
+    public Generalization getGeneralization(GeneralizationInfo info, SimpleFeatureSource base, double requestedDistance)
+            throws IOException {
+        if (!(requestedDistance > 0) || Double.isInfinite(requestedDistance)) return null;
+        CachedFeature feature = features.computeIfAbsent(info.getFeatureName(), n -> new CachedFeature(info, base));
+        return feature.getGeneralization(getLevel(requestedDistance));
+    }
+
+    /** Drops all the cached levels of the given feature, they will be rebuilt on the next request */
+    public void invalidate(String featureName) {
+        CachedFeature feature = features.get(featureName);
+        if (feature != null) feature.invalidate();
+    }
+
+    /** Stops listening to the base feature sources and, if owned, shuts down the build thread */
+    public void dispose() {
+        for (CachedFeature feature : features.values()) {
+            feature.invalidate();
+            feature.base.removeFeatureListener(feature);
+        }
+        features.clear();
+        if (ownExecutor != null) ownExecutor.shutdownNow();
+    }
+
+    /** @return the largest power of two not exceeding the distance */
+    static double getLevel(double distance) {
+        return Math.scalb(1d, Math.getExponent(distance));
+    }
+
+    /** @return the name of the cached feature type for the given feature and level */
+    static String getTypeName(String featureName, double level) {
+        int exponent = Math.getExponent(level);
+        return featureName + "_gen" + (exponent < 0 ? "_m" + -exponent : "_" + exponent);
+    }
+
+    DataStore getDataStore() throws IOException {
+        DataStore ds = repository.dataStore(new NameImpl(dataSourceNameSpace, dataSourceName));
+        if (ds == null) throw new IOException("Generalization cache data store " + dataSourceName + " not found");
+        return ds;
+    }
+
+    /** A level of a feature, built or being built */
+    private static class CachedLevel {
+        final double distance;
+
+        final String typeName;
+
+        volatile boolean ready;
+
+        CachedLevel(double distance, String typeName) {
+            this.distance = distance;
+            this.typeName = typeName;
+        }
+    }
+
+    /** The cached levels of a generalized feature, invalidated by the events of its base feature source */
+    private class CachedFeature implements FeatureListener {
+        final GeneralizationInfo info;
+
+        final SimpleFeatureSource base;
+
+        /** Levels by distance, modified while holding the lock on this */
+        final NavigableMap<Double, CachedLevel> levels = new ConcurrentSkipListMap<>();
+
+        /** Serializes the builds, two levels of a feature are never written at the same time */
+        final Object buildLock = new Object();
+
+        /** Incremented on each invalidation, builds started before it are discarded, guarded by this */
+        int generation;
+
+        CachedFeature(GeneralizationInfo info, SimpleFeatureSource base) {
+            this.info = info;
+            this.base = base;
+            base.addFeatureListener(this);
+        }
+
+        Generalization getGeneralization(double level) {
+            // the build is started outside of the lock, the executor might run it in the calling thread
+            CachedLevel scheduled = null;
+            int expected;
+            synchronized (this) {
+                expected = generation;
+                if (!levels.containsKey(level)) {
+                    scheduled = new CachedLevel(level, getTypeName(info.getFeatureName(), level));
+                    levels.put(level, scheduled);
+                }
+            }
+            if (scheduled != null) {
+                CachedLevel requested = scheduled;
+                executor.execute(() -> build(requested, expected));
+            }
+            return getReadyGeneralization(level);
+        }
+
+        synchronized Generalization getReadyGeneralization(double level) {
+            for (CachedLevel candidate :
+                    levels.headMap(level, true).descendingMap().values()) {
+                if (candidate.ready) {
+                    Generalization result = new Generalization(
+                            candidate.distance, candidate.typeName, info.getGeomPropertyName(), info);
+                    result.setDataSourceName(dataSourceName);
+                    result.setDataSourceNameSpace(dataSourceNameSpace);
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void changed(FeatureEvent featureEvent) {
+            invalidate();
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            for (CachedLevel level : levels.values()) {
+                level.ready = false;
+            }
+            levels.clear();
+        }
+
+        synchronized boolean isCurrent(int expected) {
+            return generation == expected;
+        }
+
+        void build(CachedLevel level, int expected) {
+            synchronized (buildLock) {
+                if (!isCurrent(expected)) return;
+                try {
+                    write(level);
+                } catch (IOException | RuntimeException e) {
+                    // the level stays unavailable until the next invalidation, no point retrying on each request
+                    LOGGER.log(Level.WARNING, "Failed to build generalized features " + level.typeName, e);
+                    return;
+                }
+                synchronized (this) {
+                    if (generation == expected) level.ready = true;
+                }
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine("Built generalized features " + level.typeName);
+                }
+            }
+        }
+
+        void write(CachedLevel level) throws IOException {
+            DataStore store = getDataStore();
+            SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+            tb.init(base.getSchema());
+            tb.setName(level.typeName);
+            SimpleFeatureType schema = tb.buildFeatureType();
+            if (Arrays.asList(store.getTypeNames()).contains(level.typeName)) {
+                store.removeSchema(level.typeName);
+            }
+            store.createSchema(schema);
+
+            String geomPropertyName = info.getGeomPropertyName();
+            try (Transaction t = new DefaultTransaction("generalization")) {
+                try (FeatureWriter<SimpleFeatureType, SimpleFeature> w =
+                                store.getFeatureWriterAppend(level.typeName, t);
+                        SimpleFeatureIterator it = base.getFeatures().features()) {
+                    while (it.hasNext()) {
+                        SimpleFeature feature = it.next();
+                        SimpleFeature generalized = w.next();
+                        generalized.setAttributes(feature.getAttributes());
+                        Geometry geom = (Geometry) feature.getAttribute(geomPropertyName);
+                        if (geom != null) {
+                            generalized.setAttribute(
+                                    geomPropertyName, TopologyPreservingSimplifier.simplify(geom, level.distance));
+                        }
+                        generalized.getUserData().put(Hints.USE_PROVIDED_FID, true);
+                        generalized.getUserData().put(Hints.PROVIDED_FID, feature.getID());
+                        w.write();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    t.rollback();
+                    throw e;
+                }
+                t.commit();
+            }
+        }
+    }
+}
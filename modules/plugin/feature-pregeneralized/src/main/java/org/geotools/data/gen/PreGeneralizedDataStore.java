@@ -53,6 +53,8 @@
  *     geometries and returns these geometries instead of the original ones.
  *     <p>This process results in a lower memory usage, lower cpu usage for further processing and will decrease
  *     response time for the user.
+ *     <p>If a {@link GeneralizationCache} is set, distances not covered by the configured generalizations are
+ *     generalized on demand, and the copies kept in the cache data store.
  */
 public class PreGeneralizedDataStore implements DataStore {
 
@@ -64,6 +66,8 @@ public URI getNamespace() {
 
     private URI namespace;
 
+    private GeneralizationCache generalizationCache;
+
     /** */
     public PreGeneralizedDataStore(GeneralizationInfos infos, Repository repository) {
         this(infos, repository, null);
@@ -78,6 +82,20 @@ public PreGeneralizedDataStore(GeneralizationInfos infos, Repository repository,
         }
     }
 
+    /** @return the cache building generalizations on demand, null if only the configured ones are used */
+    public GeneralizationCache getGeneralizationCache() {
+        return generalizationCache;
+    }
+
+    /**
+     * Sets the cache building generalizations on demand, for distances not covered by the configured ones
+     *
+     * @param generalizationCache the cache, null to use only the configured generalizations
+     */
+    public void setGeneralizationCache(GeneralizationCache generalizationCache) {
+        this.generalizationCache = generalizationCache;
+    }
+
     @Override
     public FeatureReader<SimpleFeatureType, SimpleFeature> getFeatureReader(Query query, Transaction transaction)
             throws IOException {
@@ -143,6 +161,9 @@ public void dispose() {
         for (PreGeneralizedFeatureSource fs : featureSources.values()) {
             fs.reset();
         }
+        if (generalizationCache != null) {
+            generalizationCache.dispose();
+        }
     }
 
     @Override
@@ -38,6 +38,8 @@
  *     {@link GeneralizationInfosProvider}
  *     <p>GeneralizationInfosProviderProviderParam (Object,optional) Parameter object for
  *     {@link GeneralizationInfosProvider#getGeneralizationInfos(Object)}
+ *     <p>GeneralizationCacheDataSourceName (String,optional) Name of the data store, found in the repository, where
+ *     generalizations are built on demand by a {@link GeneralizationCache}
  */
 public class PreGeneralizedDataStoreFactory implements DataStoreFactorySpi {
 
@@ -61,6 +63,12 @@ public class PreGeneralizedDataStoreFactory implements DataStoreFactorySpi {
             "Optional config parameter for GeneralizationInfosProvider implementation",
             false);
 
+    public static final Param GENERALIZATION_CACHE_DATASOURCE_NAME = new Param(
+            "GeneralizationCacheDataSourceName",
+            String.class,
+            "Optional name of the data store where generalizations are built on demand",
+            false);
+
     public static final Param NAMESPACEP =
             new Param("namespace", URI.class, "uri to a the namespace", false); // not required
 
@@ -72,6 +80,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
 
         String providerParam = (String) GENERALIZATION_INFOS_PROVIDER_PARAM.lookUp(params);
         URI namespace = (URI) NAMESPACEP.lookUp(params);
+        String cacheName = (String) GENERALIZATION_CACHE_DATASOURCE_NAME.lookUp(params);
 
         try {
             Class<?> providerClass = Class.forName(providerClassName);
@@ -83,7 +92,11 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             Repository repository =
                     (Repository) repositoryClass.getDeclaredConstructor().newInstance();
 
-            return new PreGeneralizedDataStore(gInfos, repository, namespace);
+            PreGeneralizedDataStore dataStore = new PreGeneralizedDataStore(gInfos, repository, namespace);
+            if (cacheName != null) {
+                dataStore.setGeneralizationCache(new GeneralizationCache(repository, null, cacheName));
+            }
+            return dataStore;
         } catch (Exception ex) {
             throw new IOException(ex.getMessage());
         }
@@ -124,7 +137,11 @@ public String getDisplayName() {
     @Override
     public Param[] getParametersInfo() {
         return new Param[] {
-            REPOSITORY_CLASS, GENERALIZATION_INFOS_PROVIDER_CLASS, GENERALIZATION_INFOS_PROVIDER_PARAM, NAMESPACEP
+            REPOSITORY_CLASS,
+            GENERALIZATION_INFOS_PROVIDER_CLASS,
+            GENERALIZATION_INFOS_PROVIDER_PARAM,
+            GENERALIZATION_CACHE_DATASOURCE_NAME,
+            NAMESPACEP
         };
     }
 
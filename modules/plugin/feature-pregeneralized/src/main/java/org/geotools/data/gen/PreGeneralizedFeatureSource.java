@@ -143,7 +143,7 @@ public ReferencedEnvelope getBounds() throws IOException {
 
     @Override
     public ReferencedEnvelope getBounds(Query query) throws IOException {
-        Generalization di = info.getGeneralizationForDistance(getRequestedDistance(query));
+        Generalization di = getGeneralization(getRequestedDistance(query));
         SimpleFeatureSource fs = getBaseFeatureSource();
         Query newQuery = getProxyObject(query, fs, di);
 
@@ -152,7 +152,7 @@ public ReferencedEnvelope getBounds(Query query) throws IOException {
 
     @Override
     public int getCount(Query query) throws IOException {
-        Generalization di = info.getGeneralizationForDistance(getRequestedDistance(query));
+        Generalization di = getGeneralization(getRequestedDistance(query));
         SimpleFeatureSource fs = getBaseFeatureSource();
         Query newQuery = getProxyObject(query, fs, di);
 
@@ -190,7 +190,7 @@ public SimpleFeatureCollection getFeatures(Filter filter) throws IOException {
     public SimpleFeatureCollection getFeatures(Query query) throws IOException {
 
         SimpleFeatureSource fs = getFeatureSourceFor(query);
-        Generalization di = info.getGeneralizationForDistance(getRequestedDistance(query));
+        Generalization di = getGeneralization(getRequestedDistance(query));
         Query newQuery = getProxyObject(query, fs, di);
         if (di != null) logDistanceInfo(di);
         return new PreGeneralizedFeatureCollection(
@@ -218,7 +218,7 @@ public FeatureReader<SimpleFeatureType, SimpleFeature> getFeatureReader(Query qu
         SimpleFeatureSource fs = getFeatureSourceFor(query);
         DataAccess<SimpleFeatureType, SimpleFeature> access = fs.getDataStore();
         if (access instanceof DataStore store) {
-            Generalization di = info.getGeneralizationForDistance(getRequestedDistance(query));
+            Generalization di = getGeneralization(getRequestedDistance(query));
             if (di != null) logDistanceInfo(di);
 
             Query newQuery = getProxyObject(query, fs, di);
@@ -419,10 +419,24 @@ public void removeFeatureListener(FeatureListener listener) {
     private SimpleFeatureSource getFeatureSourceFor(Double requestedDistance) throws IOException {
 
         if (requestedDistance == null || requestedDistance == 0) return getBaseFeatureSource();
-        Generalization di = info.getGeneralizationForDistance(requestedDistance);
+        Generalization di = getGeneralization(requestedDistance);
         return getFeatureSourceFor(di);
     }
 
+    /**
+     * @return the configured generalization for the requested distance or, if the data store has a
+     *     {@link GeneralizationCache}, the cached one when it is closer to the requested distance
+     */
+    private Generalization getGeneralization(Double requestedDistance) throws IOException {
+        Generalization di = info.getGeneralizationForDistance(requestedDistance);
+        GeneralizationCache cache = dataStore.getGeneralizationCache();
+        if (cache == null || requestedDistance == null) return di;
+
+        Generalization cached = cache.getGeneralization(info, getBaseFeatureSource(), requestedDistance);
+        if (cached != null && (di == null || cached.getDistance() > di.getDistance())) return cached;
+        return di;
+    }
+
     private SimpleFeatureSource getFeatureSourceFor(Generalization di) throws IOException {
         if (di == null) return getBaseFeatureSource();
 
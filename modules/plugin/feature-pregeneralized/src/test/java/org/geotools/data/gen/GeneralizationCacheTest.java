@@ -0,0 +1,183 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.gen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultRepository;
+import org.geotools.data.gen.info.GeneralizationInfo;
+import org.geotools.data.gen.info.GeneralizationInfos;
+import org.geotools.data.memory.MemoryDataStore;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.JTSFactoryFinder;
+import org.geotools.util.factory.Hints;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class GeneralizationCacheTest {
+
+    static final int POINTS = 1000;
+
+    SimpleFeatureType type;
+
+    MemoryDataStore base;
+
+    MemoryDataStore cache;
+
+    DefaultRepository repository;
+
+    PreGeneralizedDataStore dataStore;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("lines", "geom:LineString,name:String");
+        base = new MemoryDataStore();
+        base.createSchema(type);
+        base.addFeature(zigzag("lines.1", 0));
+        cache = new MemoryDataStore();
+
+        repository = new DefaultRepository();
+        repository.register("base", base);
+        repository.register("cache", cache);
+
+        GeneralizationInfos infos = new GeneralizationInfos();
+        GeneralizationInfo info = new GeneralizationInfo("lines", "GenLines", "geom", infos);
+        info.setDataSourceName("base");
+        infos.addGeneralizationInfo(info);
+        dataStore = new PreGeneralizedDataStore(infos, repository);
+    }
+
+    /** A line zigzagging with a 0.5 amplitude, reduced to its end points by any distance above that */
+    SimpleFeature zigzag(String id, double y) {
+        GeometryFactory gf = JTSFactoryFinder.getGeometryFactory();
+        Coordinate[] coordinates = new Coordinate[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            coordinates[i] = new Coordinate(i, y + (i % 2) * 0.5);
+        }
+        return SimpleFeatureBuilder.build(type, new Object[] {gf.createLineString(coordinates), id}, id);
+    }
+
+    /** Reads all the features for the given distance and returns their total number of points */
+    int countPoints(Double distance) throws Exception {
+        Query query = new Query("GenLines");
+        if (distance != null) query.getHints().put(Hints.GEOMETRY_DISTANCE, distance);
+        int points = 0;
+        try (SimpleFeatureIterator it =
+                dataStore.getFeatureSource("GenLines").getFeatures(query).features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                assertEquals(feature.getID(), feature.getAttribute("name"));
+                points += ((Geometry) feature.getDefaultGeometry()).getNumPoints();
+            }
+        }
+        return points;
+    }
+
+    void addFeature(String id, double y) throws Exception {
+        SimpleFeatureStore store = (SimpleFeatureStore) base.getFeatureSource("lines");
+        SimpleFeature feature = zigzag(id, y);
+        feature.getUserData().put(Hints.USE_PROVIDED_FID, true);
+        store.addFeatures(DataUtilities.collection(feature));
+    }
+
+    @Test
+    public void testLevels() {
+        assertEquals(2, GeneralizationCache.getLevel(3), 0d);
+        assertEquals(4, GeneralizationCache.getLevel(4), 0d);
+        assertEquals(0.25, GeneralizationCache.getLevel(0.3), 0d);
+        assertEquals("lines_gen_1", GeneralizationCache.getTypeName("lines", 2));
+        assertEquals("lines_gen_m2", GeneralizationCache.getTypeName("lines", 0.25));
+    }
+
+    @Test
+    public void testBuildOnDemand() throws Exception {
+        dataStore.setGeneralizationCache(new GeneralizationCache(repository, null, "cache", Runnable::run));
+
+        // no distance, no copy
+        assertEquals(POINTS, countPoints(null));
+        assertEquals(0, cache.getTypeNames().length);
+
+        assertEquals(2, countPoints(3.0));
+        assertEquals(Arrays.asList("GenLines_gen_1"), Arrays.asList(cache.getTypeNames()));
+        assertEquals(1, cache.getFeatureSource("GenLines_gen_1").getCount(Query.ALL));
+
+        // a smaller distance uses a separate copy, a larger one in the same level the existing copy
+        assertEquals(POINTS, countPoints(0.3));
+        assertEquals(2, countPoints(3.5));
+        assertEquals(2, cache.getTypeNames().length);
+
+        dataStore.dispose();
+    }
+
+    @Test
+    public void testBackgroundBuild() throws Exception {
+        List<Runnable> builds = new ArrayList<>();
+        Executor executor = builds::add;
+        dataStore.setGeneralizationCache(new GeneralizationCache(repository, null, "cache", executor));
+
+        // base features returned while the copy is being built
+        assertEquals(POINTS, countPoints(3.0));
+        assertEquals(1, builds.size());
+        assertEquals(POINTS, countPoints(3.0));
+        assertEquals(1, builds.size());
+
+        builds.remove(0).run();
+        assertEquals(2, countPoints(3.0));
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        List<Runnable> builds = new ArrayList<>();
+        Executor executor = builds::add;
+        dataStore.setGeneralizationCache(new GeneralizationCache(repository, null, "cache", executor));
+
+        countPoints(3.0);
+        builds.remove(0).run();
+        assertEquals(2, countPoints(3.0));
+
+        // the event drops the copy, the base features are used until it's rebuilt
+        addFeature("lines.2", 10);
+        assertEquals(2 * POINTS, countPoints(3.0));
+        assertEquals(1, builds.size());
+
+        // a build started before an event is discarded
+        addFeature("lines.3", 20);
+        builds.remove(0).run();
+        assertEquals(3 * POINTS, countPoints(3.0));
+        assertEquals(1, builds.size());
+
+        builds.remove(0).run();
+        assertTrue(builds.isEmpty());
+        assertEquals(6, countPoints(3.0));
+        assertFalse(Arrays.asList(cache.getTypeNames()).isEmpty());
+    }
+}
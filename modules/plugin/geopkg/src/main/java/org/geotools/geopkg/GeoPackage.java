@@ -982,6 +982,22 @@ public void add(FeatureEntry entry, SimpleFeatureSource source, Filter filter) t
         add(entry, source.getFeatures(filter));
     }
 
+    /**
+     * Adds a new, possibly large, feature dataset to the geopackage, along with its spatial index.
+     *
+     * <p>Uses a {@link GeoPkgBulkLoader} with default settings, create one directly to tune the batch size, commit
+     * interval or number of encoding threads. Unlike {@link #add(FeatureEntry, SimpleFeatureCollection)} the load is
+     * split into several transactions, a failure leaves the features committed so far in the table.
+     *
+     * @param entry Contains metadata about the feature entry.
+     * @param collection The simple feature collection to add to the geopackage.
+     * @return the number of features added
+     * @throws IOException Any errors occurring while adding the new feature dataset.
+     */
+    public long bulkLoad(FeatureEntry entry, SimpleFeatureCollection collection) throws IOException {
+        return new GeoPkgBulkLoader(this).load(entry, collection);
+    }
+
     /**
      * Returns a writer used to modify or add to the contents of a feature dataset.
      *
@@ -0,0 +1,700 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geopkg;
+
+import static org.geotools.jdbc.util.SqlUtil.prepare;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.geopkg.geom.GeoPkgGeomWriter;
+import org.geotools.jdbc.JDBCDataStore;
+import org.geotools.jdbc.JDBCFeatureStore;
+import org.geotools.jdbc.PrimaryKey;
+import org.geotools.util.Converters;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Loads large feature collections into a new GeoPackage feature table.
+ *
+ * <p>Compared to {@link GeoPackage#add(FeatureEntry, SimpleFeatureCollection)}, which goes through the generic JDBC
+ * feature writer, the loader:
+ *
+ * <ul>
+ *   <li>inserts rows with a single batched prepared statement, committing every {@link #getCommitInterval()} rows
+ *       instead of using a single transaction for the whole dataset;
+ *   <li>encodes geometries into GeoPackage binaries with {@link GeoPkgGeomWriter} on a pool of worker threads, while
+ *       the calling thread reads the source and writes to the database;
+ *   <li>keeps the rtree insert trigger disabled while loading and fills the spatial index once at the end, inserting
+ *       the envelopes in Sort-Tile-Recursive order so that neighbouring features end up in the same rtree nodes.
+ * </ul>
+ *
+ * The feature ids of the source are not preserved, rows are numbered sequentially. The envelopes used for the final
+ * spatial index fill are kept in memory, about 40 bytes per feature.
+ *
+ * <p>The SQLite journal mode and synchronous flag can be relaxed for the duration of the load, see
+ * {@link #setJournalMode(JournalMode)} and {@link #setSynchronous(Synchronous)}. They are left untouched by default, as
+ * they trade durability for speed: with {@link Synchronous#OFF} a power loss during the load can corrupt the whole
+ * GeoPackage, not just the table being loaded.
+ *
+ * <p>The intermediate commits make the load neither atomic nor isolated. While loading, the rtree insert trigger is
+ * dropped and the spatial index is only filled at the end: concurrent readers see the committed rows, but spatial
+ * queries going through the index miss them. If the load fails, the loader rolls back the current transaction, indexes
+ * the rows already committed and restores the trigger, but if the JVM crashes after an intermediate commit the table is
+ * left without its rtree insert trigger and with rows missing from the spatial index. When durability matters, set a
+ * {@link #setCommitInterval(int) commit interval} larger than the number of features, so that the trigger drop, the
+ * rows and the spatial index are committed in a single transaction.
+ */
+public class GeoPkgBulkLoader {
+
+    static final Logger LOGGER = Logging.getLogger(GeoPkgBulkLoader.class);
+
+    /** The SQLite journal modes, see https://www.sqlite.org/pragma.html#pragma_journal_mode */
+    public enum JournalMode {
+        DELETE,
+        TRUNCATE,
+        PERSIST,
+        MEMORY,
+        WAL,
+        OFF
+    }
+
+    /** The SQLite synchronous flag values, see https://www.sqlite.org/pragma.html#pragma_synchronous */
+    public enum Synchronous {
+        OFF,
+        NORMAL,
+        FULL,
+        EXTRA
+    }
+
+    /**
+     * Number of entries grouped together in a STR tile. SQLite rtree nodes hold up to ~50 2D entries on the default 4KB
+     * pages, grouping by that amount makes each tile roughly fill a leaf.
+     */
+    static final int STR_NODE_CAPACITY = 50;
+
+    final GeoPackage geopkg;
+
+    int batchSize = 1000;
+
+    int commitInterval = 100000;
+
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    boolean spatialIndex = true;
+
+    JournalMode journalMode;
+
+    Synchronous synchronous;
+
+    public GeoPkgBulkLoader(GeoPackage geopkg) {
+        this.geopkg = geopkg;
+    }
+
+    /** Number of rows sent to the database in a single JDBC batch, and encoded by a single worker task. */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Number of rows inserted before the transaction is committed and a new one started. Use {@link Integer#MAX_VALUE}
+     * to load in a single transaction, see the class javadoc about intermediate commits.
+     */
+    public int getCommitInterval() {
+        return commitInterval;
+    }
+
+    public void setCommitInterval(int commitInterval) {
+        if (commitInterval <= 0) {
+            throw new IllegalArgumentException("Commit interval must be positive");
+        }
+        this.commitInterval = commitInterval;
+    }
+
+    /** Number of threads encoding geometries, defaults to the number of available processors */
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive");
+        }
+        this.threads = threads;
+    }
+
+    /** Whether the rtree spatial index is built at the end of the load, true by default */
+    public boolean isSpatialIndex() {
+        return spatialIndex;
+    }
+
+    public void setSpatialIndex(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * The journal mode used during the load, the previous one is restored at the end. Null, the default, leaves the
+     * journal mode of the database unchanged.
+     */
+    public JournalMode getJournalMode() {
+        return journalMode;
+    }
+
+    public void setJournalMode(JournalMode journalMode) {
+        this.journalMode = journalMode;
+    }
+
+    /**
+     * The synchronous flag used during the load, the previous one is restored at the end. Null, the default, leaves the
+     * flag unchanged.
+     */
+    public Synchronous getSynchronous() {
+        return synchronous;
+    }
+
+    public void setSynchronous(Synchronous synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Creates a new feature table and loads the collection into it.
+     *
+     * <p>If the entry has no bounds, they are computed while loading and written into the contents table at the end.
+     *
+     * @param entry Contains metadata about the feature entry, will be updated with the table name, bounds and the other
+     *     values computed during the load.
+     * @param collection The features to load.
+     * @return the number of features loaded
+     * @throws IOException Any errors occurring while creating the table or loading the features.
+     */
+    public long load(FeatureEntry entry, SimpleFeatureCollection collection) throws IOException {
+        FeatureEntry e = new FeatureEntry();
+        e.init(entry);
+
+        collection = GeoPackage.forceXY(collection);
+        SimpleFeatureType sourceType = collection.getSchema();
+
+        boolean computeBounds = e.getBounds() == null;
+        if (computeBounds) {
+            // placeholder, the actual bounds are written at the end of the load
+            e.setBounds(new ReferencedEnvelope(sourceType.getCoordinateReferenceSystem()));
+        }
+        geopkg.create(e, sourceType);
+
+        JDBCDataStore dataStore = geopkg.dataStore();
+        SimpleFeatureType tableType = dataStore.getSchema(e.getTableName());
+        PrimaryKey pk = ((JDBCFeatureStore) dataStore.getFeatureSource(e.getTableName())).getPrimaryKey();
+        if (pk.getColumns().size() != 1) {
+            throw new IOException("Bulk load only supported for primary key of single column.");
+        }
+        String pkColumn = pk.getColumns().get(0).getName();
+
+        boolean indexed = spatialIndex && e.getGeometryColumn() != null;
+        if (indexed) {
+            // the table is still empty, this just sets up the rtree, its triggers and the extension
+            geopkg.createSpatialIndex(e);
+        }
+
+        RowEncoder encoder = new RowEncoder(sourceType, tableType, e);
+        Envelope bounds = new Envelope();
+        long count;
+        try (Connection cx = geopkg.getDataSource().getConnection()) {
+            LoadState state = new LoadState(cx, e, pkColumn, indexed);
+            count = state.load(collection, encoder, dataStore, bounds);
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
+
+        if (computeBounds) {
+            e.setBounds(new ReferencedEnvelope(bounds, sourceType.getCoordinateReferenceSystem()));
+        }
+        e.setLastChange(new Date());
+        updateContents(e);
+
+        entry.init(e);
+        return count;
+    }
+
+    void updateContents(FeatureEntry e) throws IOException {
+        String sql = "UPDATE %s SET min_x = ?, min_y = ?, max_x = ?, max_y = ?, last_change = ? WHERE table_name = ?"
+                .formatted(GeoPackage.GEOPACKAGE_CONTENTS);
+        ReferencedEnvelope b = e.getBounds();
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                PreparedStatement ps = prepare(cx, sql)
+                        .set(b.isNull() ? 0d : b.getMinX())
+                        .set(b.isNull() ? 0d : b.getMinY())
+                        .set(b.isNull() ? 0d : b.getMaxX())
+                        .set(b.isNull() ? 0d : b.getMaxY())
+                        .set(GeoPackage.getDateFormat().format(e.getLastChange()))
+                        .set(e.getTableName())
+                        .log(Level.FINE)
+                        .statement()) {
+            ps.execute();
+        } catch (SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /** State of a single load, bound to the connection performing it */
+    class LoadState {
+
+        final Connection cx;
+
+        final FeatureEntry entry;
+
+        final String pkColumn;
+
+        final String rtree;
+
+        final String insertTrigger;
+
+        String insertTriggerSQL;
+
+        long firstId;
+
+        long nextId;
+
+        /** rtree entries, fid and envelope, collected during the load */
+        long[] ids = new long[1024];
+
+        double[] envelopes = new double[4 * 1024];
+
+        int indexed;
+
+        LoadState(Connection cx, FeatureEntry entry, String pkColumn, boolean spatialIndex) {
+            this.cx = cx;
+            this.entry = entry;
+            this.pkColumn = pkColumn;
+            this.rtree = spatialIndex ? geopkg.getSpatialIndexName(entry) : null;
+            this.insertTrigger = spatialIndex ? rtree + "_insert" : null;
+        }
+
+        long load(SimpleFeatureCollection collection, RowEncoder encoder, JDBCDataStore dataStore, Envelope bounds)
+                throws SQLException, IOException {
+            boolean autoCommit = cx.getAutoCommit();
+            ExecutorService executor = null;
+            String previousJournalMode = null;
+            String previousSynchronous = null;
+            boolean success = false;
+            try {
+                // pragmas cannot change the journal mode within a transaction
+                if (journalMode != null) {
+                    previousJournalMode = pragma("journal_mode", journalMode.name());
+                }
+                if (synchronous != null) {
+                    previousSynchronous = pragma("synchronous", synchronous.name());
+                }
+                executor = Executors.newFixedThreadPool(threads, r -> {
+                    Thread t = new Thread(r, "GeoPkgBulkLoader");
+                    t.setDaemon(true);
+                    return t;
+                });
+                cx.setAutoCommit(false);
+                firstId = nextId = maxId() + 1;
+                if (rtree != null) {
+                    disableInsertTrigger();
+                }
+
+                long count = insert(collection, encoder, dataStore, executor, bounds);
+                if (rtree != null) {
+                    fillSpatialIndex();
+                    enableInsertTrigger();
+                }
+                cx.commit();
+                success = true;
+                return count;
+            } finally {
+                if (executor != null) {
+                    executor.shutdownNow();
+                }
+                if (!success) {
+                    recover();
+                }
+                cx.setAutoCommit(autoCommit);
+                restorePragma("synchronous", previousSynchronous);
+                restorePragma("journal_mode", previousJournalMode);
+            }
+        }
+
+        /**
+         * Sets a pragma on the connection
+         *
+         * @return the previous value
+         */
+        String pragma(String name, String value) throws SQLException {
+            String previous;
+            try (Statement st = cx.createStatement();
+                    ResultSet rs = st.executeQuery("PRAGMA " + name)) {
+                previous = rs.next() ? rs.getString(1) : null;
+            }
+            execute("PRAGMA %s = %s".formatted(name, value));
+            return previous;
+        }
+
+        /** Restores a pragma, the connection goes back to the pool */
+        void restorePragma(String name, String value) {
+            if (value != null) {
+                try {
+                    execute("PRAGMA %s = %s".formatted(name, value));
+                } catch (SQLException ex) {
+                    LOGGER.log(Level.WARNING, "Failed to restore the " + name + " pragma to " + value, ex);
+                }
+            }
+        }
+
+        long maxId() throws SQLException {
+            String sql = "SELECT MAX(\"%s\") FROM \"%s\"".formatted(pkColumn, entry.getTableName());
+            try (Statement st = cx.createStatement();
+                    ResultSet rs = st.executeQuery(sql)) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+
+        void disableInsertTrigger() throws SQLException {
+            String sql = "SELECT sql FROM sqlite_master WHERE type = 'trigger' AND name = ?";
+            try (PreparedStatement ps =
+                            prepare(cx, sql).set(insertTrigger).log(Level.FINE).statement();
+                    ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    insertTriggerSQL = rs.getString(1);
+                }
+            }
+            if (insertTriggerSQL != null) {
+                execute("DROP TRIGGER \"%s\"".formatted(insertTrigger));
+            }
+        }
+
+        void enableInsertTrigger() throws SQLException {
+            if (insertTriggerSQL != null) {
+                execute(insertTriggerSQL);
+                insertTriggerSQL = null;
+            }
+        }
+
+        /**
+         * Reads the collection on the calling thread and hands over batches to the executor for encoding, keeping a
+         * bounded number of them in flight. Encoded batches are written in the same order they were read.
+         */
+        long insert(
+                SimpleFeatureCollection collection,
+                RowEncoder encoder,
+                JDBCDataStore dataStore,
+                ExecutorService executor,
+                Envelope bounds)
+                throws SQLException, IOException {
+            ArrayDeque<Future<EncodedBatch>> pending = new ArrayDeque<>();
+            int maxPending = threads * 2;
+            long count = 0;
+            long uncommitted = 0;
+            try (PreparedStatement ps = cx.prepareStatement(encoder.insertSQL(entry.getTableName(), pkColumn));
+                    SimpleFeatureIterator it = collection.features()) {
+                while (it.hasNext()) {
+                    List<Object[]> batch = new ArrayList<>(batchSize);
+                    while (it.hasNext() && batch.size() < batchSize) {
+                        SimpleFeature f = it.next();
+                        // copy the values, some readers recycle the feature objects
+                        batch.add(f.getAttributes().toArray());
+                    }
+                    pending.add(executor.submit(() -> encoder.encode(batch)));
+
+                    if (pending.size() >= maxPending) {
+                        uncommitted += write(pending.poll(), ps, encoder, dataStore, bounds);
+                    }
+                    if (uncommitted >= commitInterval) {
+                        count += uncommitted;
+                        uncommitted = 0;
+                        cx.commit();
+                    }
+                }
+                while (!pending.isEmpty()) {
+                    uncommitted += write(pending.poll(), ps, encoder, dataStore, bounds);
+                }
+            } finally {
+                pending.forEach(f -> f.cancel(true));
+            }
+            return count + uncommitted;
+        }
+
+        int write(
+                Future<EncodedBatch> future,
+                PreparedStatement ps,
+                RowEncoder encoder,
+                JDBCDataStore dataStore,
+                Envelope bounds)
+                throws SQLException, IOException {
+            EncodedBatch batch;
+            try {
+                batch = future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            } catch (ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+
+            for (int i = 0; i < batch.rows.size(); i++) {
+                long id = nextId++;
+                ps.setLong(1, id);
+                encoder.setValues(batch.rows.get(i), ps, (GeoPkgDialect) dataStore.getSQLDialect(), cx);
+                ps.addBatch();
+
+                Envelope envelope = batch.envelopes[i];
+                if (envelope != null) {
+                    bounds.expandToInclude(envelope);
+                    if (rtree != null) {
+                        addIndexEntry(id, envelope);
+                    }
+                }
+            }
+            ps.executeBatch();
+            return batch.rows.size();
+        }
+
+        void addIndexEntry(long id, Envelope envelope) {
+            if (indexed == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+                envelopes = Arrays.copyOf(envelopes, envelopes.length * 2);
+            }
+            ids[indexed] = id;
+            int base = indexed * 4;
+            envelopes[base] = envelope.getMinX();
+            envelopes[base + 1] = envelope.getMaxX();
+            envelopes[base + 2] = envelope.getMinY();
+            envelopes[base + 3] = envelope.getMaxY();
+            indexed++;
+        }
+
+        /** Inserts the collected envelopes in the rtree following the Sort-Tile-Recursive order */
+        void fillSpatialIndex() throws SQLException {
+            Integer[] order = strOrder();
+            String sql = "INSERT INTO \"%s\" VALUES (?, ?, ?, ?, ?)".formatted(rtree);
+            try (PreparedStatement ps = cx.prepareStatement(sql)) {
+                int batched = 0;
+                for (Integer idx : order) {
+                    int base = idx * 4;
+                    ps.setLong(1, ids[idx]);
+                    ps.setDouble(2, envelopes[base]);
+                    ps.setDouble(3, envelopes[base + 1]);
+                    ps.setDouble(4, envelopes[base + 2]);
+                    ps.setDouble(5, envelopes[base + 3]);
+                    ps.addBatch();
+                    if (++batched == batchSize) {
+                        ps.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    ps.executeBatch();
+                }
+            }
+        }
+
+        /**
+         * Sorts the entries by the x of their center, splits them into vertical slices of ceil(sqrt(P)) tiles, P being
+         * the number of leaf tiles, and sorts each slice by the y of the center.
+         */
+        Integer[] strOrder() {
+            Integer[] order = new Integer[indexed];
+            for (int i = 0; i < indexed; i++) {
+                order[i] = i;
+            }
+            Comparator<Integer> byX = Comparator.comparingDouble(i -> envelopes[i * 4] + envelopes[i * 4 + 1]);
+            Comparator<Integer> byY = Comparator.comparingDouble(i -> envelopes[i * 4 + 2] + envelopes[i * 4 + 3]);
+            Arrays.parallelSort(order, byX);
+
+            int tiles = (indexed + STR_NODE_CAPACITY - 1) / STR_NODE_CAPACITY;
+            int sliceSize = (int) Math.ceil(Math.sqrt(tiles)) * STR_NODE_CAPACITY;
+            for (int start = 0; start < indexed; start += sliceSize) {
+                Arrays.sort(order, start, Math.min(start + sliceSize, indexed), byY);
+            }
+            return order;
+        }
+
+        /**
+         * Rolls back the uncommitted rows, then makes sure the committed ones are indexed and the insert trigger is in
+         * place again, so that the table is left consistent.
+         */
+        void recover() {
+            try {
+                cx.rollback();
+                if (insertTriggerSQL != null) {
+                    String c = entry.getGeometryColumn();
+                    execute(("INSERT OR REPLACE INTO \"%1$s\" SELECT \"%2$s\", ST_MinX(\"%3$s\"), ST_MaxX(\"%3$s\"), "
+                                    + "ST_MinY(\"%3$s\"), ST_MaxY(\"%3$s\") FROM \"%4$s\" "
+                                    + "WHERE \"%2$s\" >= %5$d AND \"%3$s\" NOT NULL AND NOT ST_IsEmpty(\"%3$s\")")
+                            .formatted(rtree, pkColumn, c, entry.getTableName(), firstId));
+                    enableInsertTrigger();
+                    cx.commit();
+                }
+            } catch (SQLException ex) {
+                LOGGER.log(Level.WARNING, "Failed to restore the spatial index of " + entry.getTableName(), ex);
+            }
+        }
+
+        void execute(String sql) throws SQLException {
+            LOGGER.fine(sql);
+            try (Statement st = cx.createStatement()) {
+                st.execute(sql);
+            }
+        }
+    }
+
+    /** A batch of rows ready for insertion, geometries already encoded */
+    static class EncodedBatch {
+        final List<Object[]> rows;
+
+        final Envelope[] envelopes;
+
+        EncodedBatch(List<Object[]> rows, Envelope[] envelopes) {
+            this.rows = rows;
+            this.envelopes = envelopes;
+        }
+    }
+
+    /** Maps source values to the table columns, and encodes the geometry ones. Thread safe. */
+    class RowEncoder {
+
+        final AttributeDescriptor[] columns;
+
+        /** Position of each column in the source attributes, -1 if missing */
+        final int[] sourceIndexes;
+
+        final int geometryColumn;
+
+        final int srid;
+
+        final GeoPkgGeomWriter.Configuration writerConfig;
+
+        RowEncoder(SimpleFeatureType sourceType, SimpleFeatureType tableType, FeatureEntry entry) {
+            this.columns = tableType.getAttributeDescriptors().toArray(new AttributeDescriptor[0]);
+            this.sourceIndexes = new int[columns.length];
+            int geometry = -1;
+            for (int i = 0; i < columns.length; i++) {
+                String name = columns[i].getLocalName();
+                sourceIndexes[i] = sourceType.indexOf(name);
+                if (name.equals(entry.getGeometryColumn())) {
+                    geometry = i;
+                }
+            }
+            this.geometryColumn = geometry;
+            this.srid = entry.getSrid() != null ? entry.getSrid() : 0;
+            this.writerConfig = geopkg.getWriterConfiguration();
+        }
+
+        String insertSQL(String tableName, String pkColumn) {
+            StringBuilder sql =
+                    new StringBuilder("INSERT INTO \"").append(tableName).append("\" (\"");
+            sql.append(pkColumn).append("\"");
+            StringBuilder values = new StringBuilder("?");
+            for (AttributeDescriptor column : columns) {
+                sql.append(", \"").append(column.getLocalName()).append("\"");
+                values.append(", ?");
+            }
+            return sql.append(") VALUES (").append(values).append(")").toString();
+        }
+
+        /** Runs on the worker threads, replaces geometries with their binary encoding */
+        EncodedBatch encode(List<Object[]> source) throws IOException {
+            List<Object[]> rows = new ArrayList<>(source.size());
+            Envelope[] envelopes = new Envelope[source.size()];
+            for (int r = 0; r < source.size(); r++) {
+                Object[] values = source.get(r);
+                Object[] row = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    int idx = sourceIndexes[i];
+                    Object value = idx >= 0 ? values[idx] : null;
+                    if (columns[i] instanceof GeometryDescriptor gd) {
+                        if (value instanceof Geometry g) {
+                            // the srid goes in the header only, the geometry belongs to the caller
+                            value = new GeoPkgGeomWriter(getDimension(gd), writerConfig).write(g, srid);
+                            if (i == geometryColumn && !g.isEmpty()) {
+                                envelopes[r] = g.getEnvelopeInternal();
+                            }
+                        } else {
+                            value = null;
+                        }
+                    }
+                    row[i] = value;
+                }
+                rows.add(row);
+            }
+            return new EncodedBatch(rows, envelopes);
+        }
+
+        int getDimension(GeometryDescriptor gd) {
+            Object dimension = gd.getUserData().get(Hints.COORDINATE_DIMENSION);
+            return dimension instanceof Integer d ? d : 2;
+        }
+
+        void setValues(Object[] row, PreparedStatement ps, GeoPkgDialect dialect, Connection cx) throws SQLException {
+            for (int i = 0; i < columns.length; i++) {
+                AttributeDescriptor column = columns[i];
+                Object value = row[i];
+                int position = i + 2;
+                if (column instanceof GeometryDescriptor) {
+                    if (value == null) {
+                        ps.setNull(position, Types.BLOB);
+                    } else {
+                        ps.setBytes(position, (byte[]) value);
+                    }
+                } else if (dialect.isArray(column)) {
+                    dialect.setArrayValue(value, column, ps, position, cx);
+                } else {
+                    Class<?> binding = column.getType().getBinding();
+                    if (value != null && !binding.isInstance(value)) {
+                        Object converted = Converters.convert(value, binding);
+                        value = converted != null ? converted : value;
+                    }
+                    dialect.setValue(value, binding, column, ps, position, cx);
+                }
+            }
+        }
+    }
+}
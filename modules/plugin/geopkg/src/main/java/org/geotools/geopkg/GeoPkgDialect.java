@@ -63,8 +63,11 @@
 import org.geotools.geometry.jts.MultiSurface;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.geopkg.Entry.DataType;
+import org.geotools.geopkg.geom.EnvelopeType;
 import org.geotools.geopkg.geom.GeoPkgGeomReader;
 import org.geotools.geopkg.geom.GeoPkgGeomWriter;
+import org.geotools.geopkg.geom.GeometryHeader;
+import org.geotools.geopkg.geom.GeometryHeaderFlags;
 import org.geotools.jdbc.EnumMapping;
 import org.geotools.jdbc.JDBCDataStore;
 import org.geotools.jdbc.PreparedFilterToSQL;
@@ -166,8 +169,29 @@ public void encodeGeometryEnvelope(String tableName, String geometryColumn, Stri
 
     @Override
     public Envelope decodeGeometryEnvelope(ResultSet rs, int column, Connection cx) throws SQLException, IOException {
-        Geometry g = geometry(rs.getBytes(column));
-        return g != null ? g.getEnvelopeInternal() : null;
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        // the envelope is normally found in the header, the geometry gets decoded only if missing
+        GeoPkgGeomReader reader = new GeoPkgGeomReader(bytes);
+        return reader.getHeader().getFlags().isEmpty() ? new Envelope() : reader.getEnvelope();
+    }
+
+    /** Returns the envelope stored in the GeoPackage binary header, if any, without parsing the WKB that follows */
+    @Override
+    public Envelope decodeGeometryHeaderEnvelope(GeometryDescriptor descriptor, ResultSet rs, int column, Connection cx)
+            throws IOException, SQLException {
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        GeometryHeader header = new GeoPkgGeomReader(bytes).getHeader();
+        GeometryHeaderFlags flags = header.getFlags();
+        if (flags.isEmpty() || flags.getEnvelopeIndicator() == EnvelopeType.NONE) {
+            return null;
+        }
+        return header.getEnvelope();
     }
 
     @Override
@@ -68,21 +68,31 @@ public GeoPkgGeomWriter(int dim, Configuration config) {
     }
 
     public byte[] write(Geometry g) throws IOException {
+        return write(g, g.getSRID());
+    }
+
+    /**
+     * Encodes the geometry using the given srid in the header, instead of the one of the geometry, which is left
+     * untouched. Useful when the geometry is shared with other threads, or owned by the caller.
+     */
+    public byte[] write(Geometry g, int srid) throws IOException {
         // rough guess at the size... each geom has 5 bytes header, uses 64bit doubles for points
         int numGeometries = g.getNumGeometries();
         int wkbSize = g.getNumPoints() * 3 * 8 + numGeometries * 5;
         int headerSize = 8 + (config.writeEnvelope ? 32 : 0);
         ByteArrayOutputStream bout = new ByteArrayOutputStream(headerSize + wkbSize);
-        write(g, bout);
+        write(g, srid, new OutputStreamOutStream(bout));
         return bout.toByteArray();
     }
 
     public void write(Geometry g, OutputStream out) throws IOException {
-        write(g, new OutputStreamOutStream(out));
+        if (g != null) {
+            write(g, g.getSRID(), new OutputStreamOutStream(out));
+        }
         out.flush();
     }
 
-    void write(Geometry g, OutStream out) throws IOException {
+    void write(Geometry g, int srid, OutStream out) throws IOException {
         if (g == null) {
             return;
         }
@@ -92,13 +102,14 @@ void write(Geometry g, OutStream out) throws IOException {
         flags.setBinaryType(GeopackageBinaryType.StandardGeoPackageBinary);
         flags.setEmpty(g.isEmpty());
         flags.setEndianess(ByteOrderValues.BIG_ENDIAN);
-        flags.setEnvelopeIndicator(config.isWriteEnvelope() ? EnvelopeType.XY : EnvelopeType.NONE);
+        // empty geometries have no envelope to write
+        flags.setEnvelopeIndicator(config.isWriteEnvelope() && !g.isEmpty() ? EnvelopeType.XY : EnvelopeType.NONE);
 
         GeometryHeader h = new GeometryHeader();
         h.setVersion((byte) 0);
         h.setFlags(flags);
-        h.setSrid(g.getSRID());
-        if (config.isWriteEnvelope()) {
+        h.setSrid(srid);
+        if (flags.getEnvelopeIndicator() != EnvelopeType.NONE) {
             h.setEnvelope(g.getEnvelopeInternal());
         }
 
@@ -111,7 +122,7 @@ void write(Geometry g, OutStream out) throws IOException {
         out.write(buf, 4);
 
         int order = flags.getEndianess();
-        ByteOrderValues.putInt(g.getSRID(), buf, order);
+        ByteOrderValues.putInt(srid, buf, order);
         out.write(buf, 4);
 
         if (flags.getEnvelopeIndicator() != EnvelopeType.NONE) {
@@ -24,6 +24,7 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -31,6 +32,7 @@
 
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -66,7 +68,9 @@
 import org.eclipse.imagen.PlanarImage;
 import org.geotools.TestData;
 import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.data.SimpleFeatureStore;
 import org.geotools.api.data.SimpleFeatureWriter;
 import org.geotools.api.data.Transaction;
@@ -91,6 +95,7 @@
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.data.store.ContentFeatureCollection;
 import org.geotools.data.store.ContentFeatureSource;
+import org.geotools.data.util.ScreenMap;
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.feature.FeatureTypes;
 import org.geotools.feature.collection.DecoratingSimpleFeatureIterator;
@@ -110,6 +115,7 @@
 import org.geotools.parameter.Parameter;
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.referencing.operation.transform.AffineTransform2D;
 import org.geotools.util.NumberRange;
 import org.geotools.util.URLs;
 import org.geotools.util.factory.Hints;
@@ -120,6 +126,7 @@
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -887,6 +894,195 @@ public void testSpatialIndexNullGeometries() throws Exception {
         assertEquals(features.size() / 2, ids.size());
     }
 
+    @Test
+    public void testBulkLoad() throws Exception {
+        ShapefileDataStore shp = new ShapefileDataStore(setUpShapefile());
+        SimpleFeatureCollection coll = shp.getFeatureSource().getFeatures();
+
+        // small batches and commit interval to exercise the pipelining and the intermediate commits
+        GeoPkgBulkLoader loader = new GeoPkgBulkLoader(geopkg);
+        loader.setBatchSize(7);
+        loader.setCommitInterval(20);
+        loader.setThreads(3);
+        FeatureEntry entry = new FeatureEntry();
+        assertEquals(coll.size(), loader.load(entry, coll));
+
+        assertTableExists("bugsites");
+        assertEquals(coll.getBounds(), entry.getBounds());
+        assertFeatureEntry(entry);
+
+        try (SimpleFeatureReader re = Features.simple(shp.getFeatureReader());
+                SimpleFeatureReader ra = geopkg.reader(entry, null, null)) {
+            while (re.hasNext()) {
+                assertTrue(ra.hasNext());
+                assertSimilar(re.next(), ra.next());
+            }
+            assertFalse(ra.hasNext());
+        }
+
+        // the index has been filled and is searchable
+        assertTrue(geopkg.hasSpatialIndex(entry));
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM rtree_bugsites_the_geom")) {
+            assertTrue(rs.next());
+            assertEquals(coll.size(), rs.getInt(1));
+        }
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Set<Identifier> ids = geopkg.searchSpatialIndex(entry, 590230.0, 4915038.0, 590234.0, 4915040.0);
+        try (SimpleFeatureReader sfr = geopkg.reader(entry, ff.id(ids), null)) {
+            assertTrue(sfr.hasNext());
+            assertEquals("bugsites.1", sfr.next().getID());
+            assertFalse(sfr.hasNext());
+        }
+
+        // the insert trigger is back in place, later writes keep the index up to date
+        try (Transaction tx = new DefaultTransaction();
+                SimpleFeatureWriter w = geopkg.writer(entry, true, null, tx);
+                SimpleFeatureIterator it = coll.features()) {
+            SimpleFeature f = it.next();
+            SimpleFeature g = w.next();
+            g.setAttributes(f.getAttributes());
+            w.write();
+            tx.commit();
+        }
+        assertEquals(
+                coll.size() + 1,
+                geopkg.searchSpatialIndex(entry, null, null, null, null).size());
+    }
+
+    @Test
+    public void testBulkLoadNullGeometries() throws Exception {
+        ShapefileDataStore shp = new ShapefileDataStore(setUpShapefile());
+
+        FeatureEntry entry = new FeatureEntry();
+        ContentFeatureCollection features = shp.getFeatureSource().getFeatures();
+        try (SimpleFeatureIterator fi = features.features();
+                SimpleFeatureIterator fiNulls = new OddEvenNullIterator(fi, features)) {
+            assertEquals(features.size(), geopkg.bulkLoad(entry, DataUtilities.collection(fiNulls)));
+        }
+
+        assertTrue(geopkg.hasSpatialIndex(entry));
+        Set<Identifier> ids = geopkg.searchSpatialIndex(entry, 0d, 0d, 1e7, 1e7);
+        assertEquals(features.size() / 2, ids.size());
+    }
+
+    @Test
+    public void testBulkLoadEmptyGeometries() throws Exception {
+        SimpleFeatureType schema = DataUtilities.createType("empties", "geom:Point:srid=4326,name:String");
+        GeometryFactory gf = new GeometryFactory();
+        Point point = gf.createPoint(new Coordinate(1, 2));
+        Point empty = gf.createPoint();
+        SimpleFeatureCollection collection = DataUtilities.collection(new SimpleFeature[] {
+            SimpleFeatureBuilder.build(schema, new Object[] {point, "a"}, "empties.1"),
+            SimpleFeatureBuilder.build(schema, new Object[] {empty, "b"}, "empties.2"),
+            SimpleFeatureBuilder.build(schema, new Object[] {null, "c"}, "empties.3")
+        });
+
+        String journalMode = pragma("journal_mode");
+        String synchronous = pragma("synchronous");
+        GeoPkgBulkLoader loader = new GeoPkgBulkLoader(geopkg);
+        loader.setJournalMode(GeoPkgBulkLoader.JournalMode.MEMORY);
+        loader.setSynchronous(GeoPkgBulkLoader.Synchronous.OFF);
+        FeatureEntry entry = new FeatureEntry();
+        assertEquals(3, loader.load(entry, collection));
+
+        // the pragmas are restored, the source geometries are left alone
+        assertEquals(journalMode, pragma("journal_mode"));
+        assertEquals(synchronous, pragma("synchronous"));
+        assertEquals(0, point.getSRID());
+        assertEquals(0, empty.getSRID());
+
+        // empty geometries are stored as such, not as nulls, and stay out of the index
+        try (SimpleFeatureReader r = geopkg.reader(entry, null, null)) {
+            Geometry g = (Geometry) r.next().getDefaultGeometry();
+            assertEquals(point, g);
+            assertEquals(4326, g.getSRID());
+            g = (Geometry) r.next().getDefaultGeometry();
+            assertNotNull(g);
+            assertTrue(g.isEmpty());
+            assertNull(r.next().getDefaultGeometry());
+            assertFalse(r.hasNext());
+        }
+        assertEquals(1, geopkg.searchSpatialIndex(entry, null, null, null, null).size());
+        assertEquals(
+                new ReferencedEnvelope(1, 1, 2, 2, entry.getBounds().getCoordinateReferenceSystem()),
+                entry.getBounds());
+    }
+
+    String pragma(String name) throws SQLException {
+        try (Connection cx = geopkg.getDataSource().getConnection();
+                Statement st = cx.createStatement();
+                ResultSet rs = st.executeQuery("PRAGMA " + name)) {
+            assertTrue(rs.next());
+            return rs.getString(1);
+        }
+    }
+
+    @Test
+    public void testScreenMapUsesHeaderEnvelope() throws Exception {
+        SimpleFeatureType schema = DataUtilities.createType("screenmap", "geom:Polygon:srid=4326,name:String");
+        WKTReader reader = new WKTReader();
+        SimpleFeatureCollection collection = DataUtilities.collection(new SimpleFeature[] {
+            SimpleFeatureBuilder.build(
+                    schema, new Object[] {reader.read("POLYGON((0 0, 0 1, 1 1, 1 0, 0 0))"), "a"}, "screenmap.1"),
+            SimpleFeatureBuilder.build(
+                    schema, new Object[] {reader.read("POLYGON((2 2, 2 3, 3 3, 3 2, 2 2))"), "b"}, "screenmap.2"),
+            SimpleFeatureBuilder.build(
+                    schema, new Object[] {reader.read("POLYGON((0 0, 0 50, 50 50, 50 0, 0 0))"), "c"}, "screenmap.3")
+        });
+        FeatureEntry entry = new FeatureEntry();
+        geopkg.add(entry, collection);
+
+        // break the WKB of the two small polygons, keeping the header and its envelope
+        try (Connection cx = geopkg.getDataSource().getConnection()) {
+            for (String name : List.of("a", "b")) {
+                byte[] blob;
+                try (PreparedStatement ps = cx.prepareStatement("SELECT geom FROM screenmap WHERE name = ?")) {
+                    ps.setString(1, name);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        assertTrue(rs.next());
+                        blob = rs.getBytes(1);
+                    }
+                }
+                // 8 bytes of header plus the 4 doubles of the envelope
+                byte[] broken = Arrays.copyOf(blob, 40 + 5);
+                Arrays.fill(broken, 40, broken.length, (byte) 0x7F);
+                try (PreparedStatement ps = cx.prepareStatement("UPDATE screenmap SET geom = ? WHERE name = ?")) {
+                    ps.setBytes(1, broken);
+                    ps.setString(2, name);
+                    assertEquals(1, ps.executeUpdate());
+                }
+            }
+        }
+
+        // pixels are 10x10, the small polygons fall in the same pixel, the large one does not fit one
+        ScreenMap screenMap =
+                new ScreenMap(0, 0, 10, 10, new AffineTransform2D(AffineTransform.getScaleInstance(0.1, 0.1)));
+        screenMap.setSpans(10, 10);
+        Query q = new Query("screenmap");
+        q.setHints(new Hints(Hints.SCREENMAP, screenMap));
+        SimpleFeatureSource source = geopkg.dataStore().getFeatureSource("screenmap");
+        try (SimpleFeatureIterator it = source.getFeatures(q).features()) {
+            // the first small polygon is replaced by a pixel sized square, without decoding it
+            assertTrue(it.hasNext());
+            SimpleFeature f = it.next();
+            assertEquals("a", f.getAttribute("name"));
+            assertEquals(new Envelope(-4.5, 5.5, -4.5, 5.5), ((Geometry) f.getDefaultGeometry()).getEnvelopeInternal());
+            // the second small one is skipped, the large one is decoded
+            assertTrue(it.hasNext());
+            f = it.next();
+            assertEquals("c", f.getAttribute("name"));
+            assertEquals(new Envelope(0, 50, 0, 50), ((Geometry) f.getDefaultGeometry()).getEnvelopeInternal());
+            assertFalse(it.hasNext());
+        }
+
+        // bounds come from the headers as well (filtering to skip the bounds stored in gpkg_contents)
+        FilterFactory ff = CommonFactoryFinder.getFilterFactory();
+        Query bq = new Query("screenmap", ff.notEqual(ff.property("name"), ff.literal("z")));
+        assertEquals(new Envelope(0, 50, 0, 50), new Envelope(source.getBounds(bq)));
+    }
+
     @Test
     public void testSpatialIndexWithSpecificTypeName() throws Exception {
         List<String> featureTypeNamesToTest =
@@ -27,10 +27,11 @@
  * {@link ImageMosaicFormat#CACHE_GRANULES} read parameter. Implementations must be thread-safe.
  *
  * <p>Entries are keyed by owning mosaic plus granule URL, image index and band selection, so the pool can shed a
- * mosaic's whole footprint at once through {@link #invalidateMosaic(String)} when its reader is disposed (store reload,
- * remove or reset): heap then tracks the mosaic's lifecycle instead of lingering until the LRU bound reclaims it. A
- * stale single granule (an in-place overwrite, a re-harvest, a delete) is dropped with {@link #invalidateGranule(URL)},
- * and {@link #invalidateAll()} clears the pool. The band selection is part of the key because it's typically associated
+ * mosaic's whole footprint at once through {@link #releaseMosaic(String)} when its reader is disposed (store reload,
+ * remove or reset): heap then tracks the mosaic's lifecycle instead of lingering until the LRU bound reclaims it.
+ * {@link #invalidateMosaic(String)} drops the mosaic's entries everywhere, for when its data is removed. A stale single
+ * granule (an in-place overwrite, a re-harvest, a delete) is dropped with {@link #invalidateGranule(URL)}, and
+ * {@link #invalidateAll()} clears the pool. The band selection is part of the key because it's typically associated
  * with multispectral/hyperspectral images where there are too many bands to cache the whole set.
  *
  * <p>A cached BufferedImage is shared, as-is, by every request that hits it, so the read path must treat it strictly
@@ -58,9 +59,17 @@ public interface GranuleImageCache {
     /** Drops every cached read of the given granule, whatever the mosaic, image index or band selection. */
     void invalidateGranule(URL granuleUrl);
 
-    /** Drops every entry owned by the given mosaic, called when its reader is disposed to free heap at once. */
+    /** Drops every entry owned by the given mosaic, called when its data is removed. */
     void invalidateMosaic(String mosaicId);
 
+    /**
+     * Frees the heap held by the given mosaic, called when its reader is disposed. Entries kept outside the heap, that
+     * a later reader on the same mosaic can still use, may be retained. Defaults to {@link #invalidateMosaic(String)}.
+     */
+    default void releaseMosaic(String mosaicId) {
+        invalidateMosaic(mosaicId);
+    }
+
     /** Maximum size of the pool, in bytes. */
     long getMaximumSizeBytes();
 
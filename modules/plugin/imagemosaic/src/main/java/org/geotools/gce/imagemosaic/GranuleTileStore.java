@@ -0,0 +1,732 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import java.awt.color.ColorSpace;
+import java.awt.image.BandedSampleModel;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferDouble;
+import java.awt.image.DataBufferFloat;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DataBufferShort;
+import java.awt.image.DataBufferUShort;
+import java.awt.image.DirectColorModel;
+import java.awt.image.IndexColorModel;
+import java.awt.image.MultiPixelPackedSampleModel;
+import java.awt.image.PixelInterleavedSampleModel;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Local store of decoded granule images, one memory-mapped file per image, bounded by total file bytes with LRU
+ * eviction. Pixels are kept in the raw, uncompressed layout of the image's {@link DataBuffer} banks, next to a small
+ * header describing the key, sample model and color model, so reading an image back is a straight copy out of the
+ * mapping, with no decoding.
+ *
+ * <p>The store survives restarts: on creation the directory is scanned and every readable file is indexed again, in
+ * last access order, so a restarted process finds the previous working set. Each file also records the last
+ * modification time and size the granule file had when the image was stored, and an image whose granule no longer
+ * matches is dropped, on indexing and on every read, so a granule rewritten while the process was down, or behind its
+ * back, is decoded again instead of served stale. Granules that are not local files (e.g. remote COGs) cannot be
+ * checked this way and rely on explicit invalidation. Only images built on the standard JDK sample models, color models
+ * and data buffers can be stored, anything else is refused and simply not kept. Thread-safe.
+ */
+final class GranuleTileStore {
+
+    private static final Logger LOGGER = Logging.getLogger(GranuleTileStore.class);
+
+    static final String SUFFIX = ".tile";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final int MAGIC = 0x47544943; // "GTIC"
+
+    private static final int VERSION = 2;
+
+    /** Pixel data starts at a multiple of this, so that the typed views over the mapping are aligned */
+    private static final int DATA_ALIGNMENT = 8;
+
+    private static final int COMPONENT_SM = 0;
+    private static final int PIXEL_INTERLEAVED_SM = 1;
+    private static final int BANDED_SM = 2;
+    private static final int SINGLE_PIXEL_PACKED_SM = 3;
+    private static final int MULTI_PIXEL_PACKED_SM = 4;
+
+    private static final int COMPONENT_CM = 0;
+    private static final int INDEX_CM = 1;
+    private static final int DIRECT_CM = 2;
+
+    private static final int[] COLOR_SPACES = {
+        ColorSpace.CS_sRGB, ColorSpace.CS_LINEAR_RGB, ColorSpace.CS_GRAY, ColorSpace.CS_CIEXYZ, ColorSpace.CS_PYCC
+    };
+
+    /** Last modification time and size of a granule file, both -1 for granules that are not local files */
+    private record Stamp(long lastModified, long length) {
+
+        static final Stamp UNKNOWN = new Stamp(-1, -1);
+
+        /** The current stamp of the key's granule, zeros for a local file that does not exist */
+        static Stamp of(ImageCacheKey key) {
+            File file = key.granuleFile();
+            return file != null ? new Stamp(file.lastModified(), file.length()) : UNKNOWN;
+        }
+    }
+
+    private record Tile(Path path, long bytes, Stamp stamp) {}
+
+    private record Indexed(ImageCacheKey key, Stamp stamp) {}
+
+    private final Path directory;
+
+    // access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<ImageCacheKey, Tile> tiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long maximumSizeBytes;
+
+    private long sizeBytes;
+
+    /** Opens the store over the given directory, creating it if missing and indexing the images already found in it. */
+    GranuleTileStore(File directory, long maximumSizeBytes) throws IOException {
+        this.directory = directory.toPath();
+        this.maximumSizeBytes = maximumSizeBytes;
+        Files.createDirectories(this.directory);
+        load();
+    }
+
+    File getDirectory() {
+        return directory.toFile();
+    }
+
+    synchronized long getMaximumSizeBytes() {
+        return maximumSizeBytes;
+    }
+
+    /** Sets the byte budget, evicting the least recently used images at once if the store is over it. */
+    synchronized void setMaximumSizeBytes(long maximumSizeBytes) {
+        this.maximumSizeBytes = maximumSizeBytes;
+        trim();
+    }
+
+    /** Total size of the stored files, in bytes. */
+    synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /** Number of stored images. */
+    synchronized int size() {
+        return tiles.size();
+    }
+
+    synchronized boolean contains(ImageCacheKey key) {
+        return tiles.containsKey(key);
+    }
+
+    /**
+     * Stores the image, replacing any previous one for the same key. Returns {@code false} if the image layout is not
+     * supported, does not fit the budget, or could not be written.
+     */
+    boolean put(ImageCacheKey key, BufferedImage image) {
+        Stamp stamp = Stamp.of(key);
+        byte[] header;
+        try {
+            header = encodeHeader(key, stamp, image);
+        } catch (IOException e) {
+            // in memory, not expected
+            header = null;
+        }
+        if (header == null) {
+            LOGGER.fine(() -> "Granule image layout not supported by the tile store, not spilled: " + key);
+            return false;
+        }
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        long dataOffset = align(Integer.BYTES + header.length);
+        long bytes = dataOffset + bankBytes(buffer);
+        synchronized (this) {
+            if (bytes > maximumSizeBytes) return false;
+        }
+        // a single mapping is limited to 2GB
+        if (bytes > Integer.MAX_VALUE) return false;
+
+        Path target;
+        try {
+            Path temp = Files.createTempFile(directory, "granule", TEMP_SUFFIX);
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                    mapped.putInt(header.length);
+                    mapped.put(header);
+                    mapped.position((int) dataOffset);
+                    mapped.order(ByteOrder.nativeOrder());
+                    writeBanks(mapped, buffer);
+                }
+                String name = temp.getFileName().toString();
+                target = temp.resolveSibling(name.substring(0, name.length() - TEMP_SUFFIX.length()) + SUFFIX);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                delete(temp);
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Could not spill granule image " + key, e);
+            return false;
+        }
+
+        synchronized (this) {
+            Tile previous = tiles.put(key, new Tile(target, bytes, stamp));
+            if (previous != null) {
+                sizeBytes -= previous.bytes();
+                delete(previous.path());
+            }
+            sizeBytes += bytes;
+            trim();
+        }
+        return true;
+    }
+
+    /** Returns the stored image for the key, or {@code null} if missing, stale or unreadable. */
+    BufferedImage get(ImageCacheKey key) {
+        Tile tile;
+        synchronized (this) {
+            tile = tiles.get(key);
+        }
+        if (tile == null) return null;
+        if (!tile.stamp().equals(Stamp.of(key))) {
+            LOGGER.fine(() -> "Granule changed since it was spilled, dropping " + key);
+            remove(key, tile);
+            return null;
+        }
+        try {
+            BufferedImage image = read(tile.path(), key);
+            // keeps the access order for the next restart
+            Files.setLastModifiedTime(tile.path(), FileTime.fromMillis(System.currentTimeMillis()));
+            return image;
+        } catch (IOException | RuntimeException e) {
+            // evicted by a concurrent put, or damaged on disk
+            LOGGER.log(Level.FINE, "Could not read back spilled granule image " + key, e);
+            remove(key, tile);
+            return null;
+        }
+    }
+
+    private synchronized void remove(ImageCacheKey key, Tile tile) {
+        if (tiles.remove(key, tile)) {
+            sizeBytes -= tile.bytes();
+            delete(tile.path());
+        }
+    }
+
+    /** Drops every image whose key matches the predicate. */
+    synchronized void invalidate(Predicate<ImageCacheKey> predicate) {
+        Iterator<Map.Entry<ImageCacheKey, Tile>> it = tiles.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<ImageCacheKey, Tile> entry = it.next();
+            if (predicate.test(entry.getKey())) {
+                it.remove();
+                sizeBytes -= entry.getValue().bytes();
+                delete(entry.getValue().path());
+            }
+        }
+    }
+
+    /** Drops all stored images. */
+    void invalidateAll() {
+        invalidate(key -> true);
+    }
+
+    private void trim() {
+        Iterator<Tile> it = tiles.values().iterator();
+        while (sizeBytes > maximumSizeBytes && it.hasNext()) {
+            Tile eldest = it.next();
+            it.remove();
+            sizeBytes -= eldest.bytes();
+            delete(eldest.path());
+        }
+    }
+
+    private synchronized void load() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(SUFFIX)) paths.add(path);
+                // left behind by a crash in the middle of a write
+                else if (name.endsWith(TEMP_SUFFIX)) delete(path);
+            }
+        }
+        // least recently used first, so that the rebuilt access order matches the one of the previous run
+        List<Map.Entry<Path, FileTime>> times = new ArrayList<>();
+        for (Path path : paths) {
+            times.add(Map.entry(path, Files.getLastModifiedTime(path)));
+        }
+        times.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        for (Map.Entry<Path, FileTime> entry : times) {
+            Path path = entry.getKey();
+            try {
+                Indexed indexed = readKey(path);
+                ImageCacheKey key = indexed.key();
+                if (!indexed.stamp().equals(Stamp.of(key))) {
+                    LOGGER.fine(() -> "Dropping granule tile " + path + ", the granule changed since it was stored");
+                    delete(path);
+                    continue;
+                }
+                Tile tile = new Tile(path, Files.size(path), indexed.stamp());
+                Tile previous = tiles.put(key, tile);
+                if (previous != null) {
+                    sizeBytes -= previous.bytes();
+                    delete(previous.path());
+                }
+                sizeBytes += tile.bytes();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.FINE, "Dropping unreadable granule tile " + path, e);
+                delete(path);
+            }
+        }
+        trim();
+        LOGGER.fine(() -> "Indexed " + tiles.size() + " granule tiles, " + sizeBytes + " bytes, in " + directory);
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not delete granule tile " + path, e);
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + DATA_ALIGNMENT - 1) / DATA_ALIGNMENT * DATA_ALIGNMENT;
+    }
+
+    private static Indexed readKey(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, length, 0);
+            ByteBuffer header = ByteBuffer.allocate(checkHeaderLength(length.getInt(0), channel.size()));
+            readFully(channel, header, Integer.BYTES);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(header.array()));
+            checkVersion(in);
+            ImageCacheKey key = ImageCacheKey.read(in);
+            return new Indexed(key, new Stamp(in.readLong(), in.readLong()));
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new IOException("Truncated granule tile");
+        }
+    }
+
+    private static int checkHeaderLength(int headerLength, long fileSize) throws IOException {
+        if (headerLength <= 0 || headerLength > fileSize - Integer.BYTES) {
+            throw new IOException("Invalid granule tile header length " + headerLength);
+        }
+        return headerLength;
+    }
+
+    private static void checkVersion(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("Not a granule tile");
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("Unsupported granule tile version " + version);
+    }
+
+    private static BufferedImage read(Path path, ImageCacheKey key) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int headerLength = checkHeaderLength(mapped.getInt(), size);
+            byte[] header = new byte[headerLength];
+            mapped.get(header);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(header));
+            checkVersion(in);
+            if (!key.equals(ImageCacheKey.read(in))) throw new IOException("Granule tile key mismatch");
+            // granule stamp, already checked against the index
+            in.readLong();
+            in.readLong();
+
+            SampleModel sampleModel = readSampleModel(in);
+            ColorModel colorModel = readColorModel(in);
+            ByteOrder order = in.readBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            int dataType = in.readInt();
+            int bufferSize = in.readInt();
+            int numBanks = in.readInt();
+            int[] lengths = new int[numBanks];
+            int[] offsets = new int[numBanks];
+            for (int b = 0; b < numBanks; b++) {
+                lengths[b] = in.readInt();
+                offsets[b] = in.readInt();
+            }
+
+            mapped.position((int) align(Integer.BYTES + headerLength));
+            mapped.order(order);
+            DataBuffer buffer = readBanks(mapped, dataType, bufferSize, lengths, offsets);
+            WritableRaster raster = Raster.createWritableRaster(sampleModel, buffer, null);
+            return new BufferedImage(colorModel, raster, colorModel.isAlphaPremultiplied(), null);
+        }
+    }
+
+    /** Returns the header for the image, or {@code null} if its layout cannot be stored. */
+    private static byte[] encodeHeader(ImageCacheKey key, Stamp stamp, BufferedImage image) throws IOException {
+        WritableRaster raster = image.getRaster();
+        // a child raster (e.g. from getSubimage) shares a larger buffer, its layout does not describe it alone
+        if (raster.getParent() != null
+                || raster.getSampleModelTranslateX() != 0
+                || raster.getSampleModelTranslateY() != 0
+                || !isSupported(raster.getDataBuffer())) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        key.write(out);
+        out.writeLong(stamp.lastModified());
+        out.writeLong(stamp.length());
+        if (!writeSampleModel(out, raster.getSampleModel()) || !writeColorModel(out, image.getColorModel())) {
+            return null;
+        }
+        DataBuffer buffer = raster.getDataBuffer();
+        out.writeBoolean(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN);
+        out.writeInt(buffer.getDataType());
+        out.writeInt(buffer.getSize());
+        out.writeInt(buffer.getNumBanks());
+        for (int b = 0; b < buffer.getNumBanks(); b++) {
+            out.writeInt(bankLength(buffer, b));
+            out.writeInt(buffer.getOffsets()[b]);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static boolean isSupported(DataBuffer buffer) {
+        return buffer instanceof DataBufferByte
+                || buffer instanceof DataBufferUShort
+                || buffer instanceof DataBufferShort
+                || buffer instanceof DataBufferInt
+                || buffer instanceof DataBufferFloat
+                || buffer instanceof DataBufferDouble;
+    }
+
+    private static boolean writeSampleModel(DataOutputStream out, SampleModel sm) throws IOException {
+        // exact classes only, subclasses may carry layout state not captured here
+        Class<?> type = sm.getClass();
+        if (type == ComponentSampleModel.class
+                || type == PixelInterleavedSampleModel.class
+                || type == BandedSampleModel.class) {
+            ComponentSampleModel csm = (ComponentSampleModel) sm;
+            out.writeInt(
+                    type == BandedSampleModel.class
+                            ? BANDED_SM
+                            : type == PixelInterleavedSampleModel.class ? PIXEL_INTERLEAVED_SM : COMPONENT_SM);
+            writeSize(out, sm);
+            out.writeInt(csm.getPixelStride());
+            out.writeInt(csm.getScanlineStride());
+            writeInts(out, csm.getBankIndices());
+            writeInts(out, csm.getBandOffsets());
+        } else if (type == SinglePixelPackedSampleModel.class) {
+            SinglePixelPackedSampleModel sppsm = (SinglePixelPackedSampleModel) sm;
+            out.writeInt(SINGLE_PIXEL_PACKED_SM);
+            writeSize(out, sm);
+            out.writeInt(sppsm.getScanlineStride());
+            writeInts(out, sppsm.getBitMasks());
+        } else if (type == MultiPixelPackedSampleModel.class) {
+            MultiPixelPackedSampleModel mppsm = (MultiPixelPackedSampleModel) sm;
+            out.writeInt(MULTI_PIXEL_PACKED_SM);
+            writeSize(out, sm);
+            out.writeInt(mppsm.getPixelBitStride());
+            out.writeInt(mppsm.getScanlineStride());
+            out.writeInt(mppsm.getDataBitOffset());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeSize(DataOutputStream out, SampleModel sm) throws IOException {
+        out.writeInt(sm.getDataType());
+        out.writeInt(sm.getWidth());
+        out.writeInt(sm.getHeight());
+    }
+
+    private static SampleModel readSampleModel(DataInputStream in) throws IOException {
+        int kind = in.readInt();
+        int dataType = in.readInt();
+        int width = in.readInt();
+        int height = in.readInt();
+        switch (kind) {
+            case COMPONENT_SM:
+            case PIXEL_INTERLEAVED_SM:
+            case BANDED_SM: {
+                int pixelStride = in.readInt();
+                int scanlineStride = in.readInt();
+                int[] bankIndices = readInts(in);
+                int[] bandOffsets = readInts(in);
+                if (kind == BANDED_SM) {
+                    return new BandedSampleModel(dataType, width, height, scanlineStride, bankIndices, bandOffsets);
+                } else if (kind == PIXEL_INTERLEAVED_SM) {
+                    return new PixelInterleavedSampleModel(
+                            dataType, width, height, pixelStride, scanlineStride, bandOffsets);
+                }
+                return new ComponentSampleModel(
+                        dataType, width, height, pixelStride, scanlineStride, bankIndices, bandOffsets);
+            }
+            case SINGLE_PIXEL_PACKED_SM: {
+                int scanlineStride = in.readInt();
+                return new SinglePixelPackedSampleModel(dataType, width, height, scanlineStride, readInts(in));
+            }
+            case MULTI_PIXEL_PACKED_SM: {
+                int numberOfBits = in.readInt();
+                int scanlineStride = in.readInt();
+                int dataBitOffset = in.readInt();
+                return new MultiPixelPackedSampleModel(
+                        dataType, width, height, numberOfBits, scanlineStride, dataBitOffset);
+            }
+            default:
+                throw new IOException("Unknown sample model kind " + kind);
+        }
+    }
+
+    private static boolean writeColorModel(DataOutputStream out, ColorModel cm) throws IOException {
+        Class<?> type = cm.getClass();
+        if (type == IndexColorModel.class) {
+            IndexColorModel icm = (IndexColorModel) cm;
+            int[] rgbs = new int[icm.getMapSize()];
+            icm.getRGBs(rgbs);
+            out.writeInt(INDEX_CM);
+            out.writeInt(icm.getPixelSize());
+            writeInts(out, rgbs);
+            out.writeBoolean(icm.hasAlpha());
+            out.writeInt(icm.getTransparentPixel());
+            out.writeInt(icm.getTransferType());
+            return true;
+        }
+        int colorSpace = colorSpaceId(cm.getColorSpace());
+        if (colorSpace < 0) return false;
+        if (type == ComponentColorModel.class) {
+            out.writeInt(COMPONENT_CM);
+            out.writeInt(colorSpace);
+            writeInts(out, cm.getComponentSize());
+            out.writeBoolean(cm.hasAlpha());
+            out.writeBoolean(cm.isAlphaPremultiplied());
+            out.writeInt(cm.getTransparency());
+            out.writeInt(cm.getTransferType());
+        } else if (type == DirectColorModel.class) {
+            DirectColorModel dcm = (DirectColorModel) cm;
+            out.writeInt(DIRECT_CM);
+            out.writeInt(colorSpace);
+            out.writeInt(dcm.getPixelSize());
+            out.writeInt(dcm.getRedMask());
+            out.writeInt(dcm.getGreenMask());
+            out.writeInt(dcm.getBlueMask());
+            out.writeInt(dcm.getAlphaMask());
+            out.writeBoolean(dcm.isAlphaPremultiplied());
+            out.writeInt(dcm.getTransferType());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static ColorModel readColorModel(DataInputStream in) throws IOException {
+        int kind = in.readInt();
+        switch (kind) {
+            case INDEX_CM: {
+                int bits = in.readInt();
+                int[] rgbs = readInts(in);
+                boolean hasAlpha = in.readBoolean();
+                int transparentPixel = in.readInt();
+                int transferType = in.readInt();
+                return new IndexColorModel(bits, rgbs.length, rgbs, 0, hasAlpha, transparentPixel, transferType);
+            }
+            case COMPONENT_CM: {
+                ColorSpace colorSpace = ColorSpace.getInstance(in.readInt());
+                int[] bits = readInts(in);
+                boolean hasAlpha = in.readBoolean();
+                boolean premultiplied = in.readBoolean();
+                int transparency = in.readInt();
+                int transferType = in.readInt();
+                return new ComponentColorModel(colorSpace, bits, hasAlpha, premultiplied, transparency, transferType);
+            }
+            case DIRECT_CM: {
+                ColorSpace colorSpace = ColorSpace.getInstance(in.readInt());
+                int bits = in.readInt();
+                int red = in.readInt();
+                int green = in.readInt();
+                int blue = in.readInt();
+                int alpha = in.readInt();
+                boolean premultiplied = in.readBoolean();
+                int transferType = in.readInt();
+                return new DirectColorModel(colorSpace, bits, red, green, blue, alpha, premultiplied, transferType);
+            }
+            default:
+                throw new IOException("Unknown color model kind " + kind);
+        }
+    }
+
+    private static int colorSpaceId(ColorSpace colorSpace) {
+        // the predefined color spaces are singletons, anything else cannot be rebuilt from an id
+        for (int id : COLOR_SPACES) {
+            if (ColorSpace.getInstance(id) == colorSpace) return id;
+        }
+        return -1;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) out.writeInt(value);
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) values[i] = in.readInt();
+        return values;
+    }
+
+    private static int bankLength(DataBuffer buffer, int bank) {
+        if (buffer instanceof DataBufferByte b) return b.getData(bank).length;
+        if (buffer instanceof DataBufferUShort b) return b.getData(bank).length;
+        if (buffer instanceof DataBufferShort b) return b.getData(bank).length;
+        if (buffer instanceof DataBufferInt b) return b.getData(bank).length;
+        if (buffer instanceof DataBufferFloat b) return b.getData(bank).length;
+        return ((DataBufferDouble) buffer).getData(bank).length;
+    }
+
+    private static long bankBytes(DataBuffer buffer) {
+        long elements = 0;
+        for (int b = 0; b < buffer.getNumBanks(); b++) {
+            elements += bankLength(buffer, b);
+        }
+        return elements * (DataBuffer.getDataTypeSize(buffer.getDataType()) / 8);
+    }
+
+    private static void writeBanks(ByteBuffer target, DataBuffer buffer) {
+        for (int b = 0; b < buffer.getNumBanks(); b++) {
+            int position = target.position();
+            if (buffer instanceof DataBufferByte db) {
+                target.put(db.getData(b));
+            } else if (buffer instanceof DataBufferUShort db) {
+                target.asShortBuffer().put(db.getData(b));
+                target.position(position + db.getData(b).length * Short.BYTES);
+            } else if (buffer instanceof DataBufferShort db) {
+                target.asShortBuffer().put(db.getData(b));
+                target.position(position + db.getData(b).length * Short.BYTES);
+            } else if (buffer instanceof DataBufferInt db) {
+                target.asIntBuffer().put(db.getData(b));
+                target.position(position + db.getData(b).length * Integer.BYTES);
+            } else if (buffer instanceof DataBufferFloat db) {
+                target.asFloatBuffer().put(db.getData(b));
+                target.position(position + db.getData(b).length * Float.BYTES);
+            } else {
+                double[] data = ((DataBufferDouble) buffer).getData(b);
+                target.asDoubleBuffer().put(data);
+                target.position(position + data.length * Double.BYTES);
+            }
+        }
+    }
+
+    private static DataBuffer readBanks(ByteBuffer source, int dataType, int size, int[] lengths, int[] offsets)
+            throws IOException {
+        int numBanks = lengths.length;
+        switch (dataType) {
+            case DataBuffer.TYPE_BYTE: {
+                byte[][] banks = new byte[numBanks][];
+                for (int b = 0; b < numBanks; b++) {
+                    banks[b] = new byte[lengths[b]];
+                    source.get(banks[b]);
+                }
+                return new DataBufferByte(banks, size, offsets);
+            }
+            case DataBuffer.TYPE_USHORT:
+            case DataBuffer.TYPE_SHORT: {
+                short[][] banks = new short[numBanks][];
+                for (int b = 0; b < numBanks; b++) {
+                    banks[b] = new short[lengths[b]];
+                    int position = source.position();
+                    source.asShortBuffer().get(banks[b]);
+                    source.position(position + lengths[b] * Short.BYTES);
+                }
+                return dataType == DataBuffer.TYPE_USHORT
+                        ? new DataBufferUShort(banks, size, offsets)
+                        : new DataBufferShort(banks, size, offsets);
+            }
+            case DataBuffer.TYPE_INT: {
+                int[][] banks = new int[numBanks][];
+                for (int b = 0; b < numBanks; b++) {
+                    banks[b] = new int[lengths[b]];
+                    int position = source.position();
+                    source.asIntBuffer().get(banks[b]);
+                    source.position(position + lengths[b] * Integer.BYTES);
+                }
+                return new DataBufferInt(banks, size, offsets);
+            }
+            case DataBuffer.TYPE_FLOAT: {
+                float[][] banks = new float[numBanks][];
+                for (int b = 0; b < numBanks; b++) {
+                    banks[b] = new float[lengths[b]];
+                    int position = source.position();
+                    source.asFloatBuffer().get(banks[b]);
+                    source.position(position + lengths[b] * Float.BYTES);
+                }
+                return new DataBufferFloat(banks, size, offsets);
+            }
+            case DataBuffer.TYPE_DOUBLE: {
+                double[][] banks = new double[numBanks][];
+                for (int b = 0; b < numBanks; b++) {
+                    banks[b] = new double[lengths[b]];
+                    int position = source.position();
+                    source.asDoubleBuffer().get(banks[b]);
+                    source.position(position + lengths[b] * Double.BYTES);
+                }
+                return new DataBufferDouble(banks, size, offsets);
+            }
+            default:
+                throw new IOException("Unsupported data type " + dataType);
+        }
+    }
+}
@@ -19,10 +19,16 @@
 import java.awt.Rectangle;
 import java.awt.image.DataBuffer;
 import java.awt.image.SampleModel;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.logging.Logger;
+import org.geotools.util.URLs;
 import org.geotools.util.logging.Logging;
 
 /**
@@ -44,12 +50,40 @@ class ImageCacheKey {
     private final int[] bands;
 
     ImageCacheKey(String mosaicId, URL granuleUrl, int imageIndex, int[] bands) {
+        this(mosaicId, granuleUrl.toExternalForm(), imageIndex, bands);
+    }
+
+    private ImageCacheKey(String mosaicId, String granuleUrlSpec, int imageIndex, int[] bands) {
         this.mosaicId = mosaicId;
-        this.granuleUrlSpec = granuleUrl.toExternalForm();
+        this.granuleUrlSpec = granuleUrlSpec;
         this.imageIndex = imageIndex;
         this.bands = bands;
     }
 
+    /** Writes this key in the form read back by {@link #read(DataInput)}, used to index spilled granules on disk. */
+    void write(DataOutput out) throws IOException {
+        out.writeBoolean(mosaicId != null);
+        if (mosaicId != null) out.writeUTF(mosaicId);
+        out.writeUTF(granuleUrlSpec);
+        out.writeInt(imageIndex);
+        out.writeInt(bands != null ? bands.length : -1);
+        if (bands != null) for (int band : bands) out.writeInt(band);
+    }
+
+    /** Reads back a key written by {@link #write(DataOutput)}. */
+    static ImageCacheKey read(DataInput in) throws IOException {
+        String mosaicId = in.readBoolean() ? in.readUTF() : null;
+        String granuleUrlSpec = in.readUTF();
+        int imageIndex = in.readInt();
+        int numBands = in.readInt();
+        int[] bands = null;
+        if (numBands >= 0) {
+            bands = new int[numBands];
+            for (int i = 0; i < numBands; i++) bands[i] = in.readInt();
+        }
+        return new ImageCacheKey(mosaicId, granuleUrlSpec, imageIndex, bands);
+    }
+
     /**
      * Whether a whole-granule read of this size is small enough to cache: its estimated decoded bytes must not exceed
      * the threshold (the per-request {@code thresholdOverrideKB} when positive, otherwise the pool default).
@@ -77,6 +111,16 @@ boolean sameGranule(URL granuleUrl) {
         return granuleUrl != null && granuleUrlSpec.equals(granuleUrl.toExternalForm());
     }
 
+    /** Returns the granule as a local file, or {@code null} if it is not a {@code file:} URL (e.g. a remote COG). */
+    File granuleFile() {
+        try {
+            URL url = new URL(granuleUrlSpec);
+            return "file".equalsIgnoreCase(url.getProtocol()) ? URLs.urlToFile(url) : null;
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
     /** Returns whether this key belongs to the given mosaic. */
     boolean sameMosaic(String mosaicId) {
         return Objects.equals(this.mosaicId, mosaicId);
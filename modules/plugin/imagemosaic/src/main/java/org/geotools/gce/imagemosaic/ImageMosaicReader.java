@@ -693,7 +693,7 @@ public synchronized void dispose() {
             try {
                 // free this mosaic's cached granule images when the reader goes (store reload/remove/reset), so heap
                 // tracks the mosaic lifecycle rather than waiting for the shared pool's size bound to reclaim it
-                if (granuleImageCache != null) granuleImageCache.invalidateMosaic(getMosaicId());
+                if (granuleImageCache != null) granuleImageCache.releaseMosaic(getMosaicId());
                 if (granuleCatalog != null) this.granuleCatalog.dispose();
                 disposeManagers();
             } catch (Exception e) {
@@ -898,6 +898,8 @@ private boolean removeCoverage(String coverageName, final boolean forceDelete, f
         RasterManager manager = getRasterManager(coverageName);
         if (manager != null) {
             manager.removeStore(coverageName, forceDelete, checkForReferences);
+            // the granules are gone, drop their cached images from every tier
+            if (forceDelete && granuleImageCache != null) granuleImageCache.invalidateMosaic(getMosaicId());
 
             // Should I preserve managers for future re-harvesting or it's ok
             // to remove them
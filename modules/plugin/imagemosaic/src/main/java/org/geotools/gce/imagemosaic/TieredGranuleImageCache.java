@@ -0,0 +1,223 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.Callable;
+
+/**
+ * Two tier {@link GranuleImageCache}: a heap pool like {@link GuavaGranuleImageCache}, backed by a local store of
+ * memory-mapped files where the images evicted from the heap are spilled, in their raw, uncompressed pixel layout. A
+ * heap miss that hits the disk tier copies the pixels back out of the mapping instead of decoding the granule again,
+ * which pays off for expensive formats (JPEG-in-TIFF, deflate COGs) and working sets larger than the heap budget.
+ *
+ * <p>The disk tier has its own byte budget and LRU eviction, and keeps its contents across restarts: a cache built on
+ * the same directory indexes the images found there, so a warm restart avoids re-decoding. For the same reason
+ * disposing a reader only frees its heap entries, see {@link #releaseMosaic(String)}, the spilled ones are dropped only
+ * when the mosaic data is removed, or when a granule file no longer matches the size and modification time recorded
+ * when it was spilled. Images promoted back to the heap stay on disk, so each image is written at most once while it
+ * remains in the disk budget. Spilling happens on the thread whose insertion caused the heap eviction. Images whose
+ * layout cannot be stored (non standard sample models, color models or color spaces) are dropped on eviction, as in the
+ * heap-only pool. Thread-safe.
+ *
+ * <p>Unlike the heap-only pool, a change of heap size keeps the current entries, with the ones exceeding the new budget
+ * spilled to disk.
+ */
+public final class TieredGranuleImageCache implements GranuleImageCache {
+
+    private final GranuleTileStore store;
+
+    private final RemovalListener<ImageCacheKey, BufferedImage> spiller = this::spill;
+
+    private volatile Cache<ImageCacheKey, BufferedImage> cache;
+    private volatile long maximumSizeBytes;
+    private volatile long defaultThresholdBytes;
+
+    /**
+     * Builds the cache, indexing the spilled images already found in the directory.
+     *
+     * @param maximumSizeBytes the heap tier budget, in bytes
+     * @param defaultThresholdBytes the largest decoded granule eligible for caching, in bytes
+     * @param directory the directory of the disk tier, created if missing
+     * @param diskMaximumSizeBytes the disk tier budget, in bytes, a non-positive value disables spilling
+     */
+    public TieredGranuleImageCache(
+            long maximumSizeBytes, long defaultThresholdBytes, File directory, long diskMaximumSizeBytes)
+            throws IOException {
+        this.store = new GranuleTileStore(directory, diskMaximumSizeBytes);
+        reconfigure(maximumSizeBytes, defaultThresholdBytes);
+    }
+
+    @Override
+    public synchronized void reconfigure(long maximumSizeBytes, long defaultThresholdBytes) {
+        this.defaultThresholdBytes = defaultThresholdBytes;
+        if (cache == null || this.maximumSizeBytes != maximumSizeBytes) {
+            this.maximumSizeBytes = maximumSizeBytes;
+            Weigher<ImageCacheKey, BufferedImage> weigher = (key, image) -> imageBytes(image);
+            Cache<ImageCacheKey, BufferedImage> previous = cache;
+            Cache<ImageCacheKey, BufferedImage> rebuilt = CacheBuilder.newBuilder()
+                    .maximumWeight(maximumSizeBytes)
+                    .weigher(weigher)
+                    .removalListener(spiller)
+                    .build();
+            // carry the entries over, what does not fit the new budget gets spilled by the size eviction
+            if (previous != null) {
+                rebuilt.putAll(previous.asMap());
+            }
+            this.cache = rebuilt;
+            if (previous != null) {
+                // explicit removal, not spilled again
+                previous.invalidateAll();
+            }
+        }
+    }
+
+    private static int imageBytes(BufferedImage image) {
+        // getPixelSize is total bits across all bands, so it already accounts for the band count
+        int bytesPerPixel = (image.getColorModel().getPixelSize() + 7) / 8;
+        long bytes = (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private void spill(RemovalNotification<ImageCacheKey, BufferedImage> notification) {
+        ImageCacheKey key = notification.getKey();
+        BufferedImage image = notification.getValue();
+        // only size evictions spill, invalidations and replacements must really drop the image
+        if (notification.getCause() != RemovalCause.SIZE || key == null || image == null || store.contains(key)) {
+            return;
+        }
+        store.put(key, image);
+    }
+
+    /** Sets the disk tier budget, evicting the least recently used spilled images at once if over it. */
+    public void setDiskMaximumSizeBytes(long diskMaximumSizeBytes) {
+        store.setMaximumSizeBytes(diskMaximumSizeBytes);
+    }
+
+    /** Maximum size of the disk tier, in bytes. */
+    public long getDiskMaximumSizeBytes() {
+        return store.getMaximumSizeBytes();
+    }
+
+    /** Current size of the disk tier, in bytes. */
+    public long getDiskSizeBytes() {
+        return store.getSizeBytes();
+    }
+
+    /** Number of granule images currently held in the heap tier. */
+    public long heapSize() {
+        cache.cleanUp();
+        return cache.size();
+    }
+
+    /** Number of granule images currently held in the disk tier. */
+    public long diskSize() {
+        return store.size();
+    }
+
+    /** The directory of the disk tier. */
+    public File getDirectory() {
+        return store.getDirectory();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return maximumSizeBytes > 0;
+    }
+
+    /** Number of distinct granule images held, across both tiers. */
+    @Override
+    public long size() {
+        cache.cleanUp();
+        long heapOnly = cache.asMap().keySet().stream()
+                .filter(key -> !store.contains(key))
+                .count();
+        return heapOnly + store.size();
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+        store.invalidateAll();
+    }
+
+    @Override
+    public void invalidateGranule(URL granuleUrl) {
+        cache.asMap().keySet().removeIf(key -> key.sameGranule(granuleUrl));
+        store.invalidate(key -> key.sameGranule(granuleUrl));
+    }
+
+    @Override
+    public void invalidateMosaic(String mosaicId) {
+        cache.asMap().keySet().removeIf(key -> key.sameMosaic(mosaicId));
+        store.invalidate(key -> key.sameMosaic(mosaicId));
+    }
+
+    /** Drops the mosaic's heap entries only, its spilled images stay for the next reader on the same mosaic. */
+    @Override
+    public void releaseMosaic(String mosaicId) {
+        cache.asMap().keySet().removeIf(key -> key.sameMosaic(mosaicId));
+    }
+
+    @Override
+    public long getMaximumSizeBytes() {
+        return maximumSizeBytes;
+    }
+
+    @Override
+    public long getDefaultThresholdBytes() {
+        return defaultThresholdBytes;
+    }
+
+    @Override
+    public BufferedImage get(ImageCacheKey key) {
+        Cache<ImageCacheKey, BufferedImage> cache = this.cache;
+        BufferedImage image = cache.getIfPresent(key);
+        if (image == null) {
+            image = store.get(key);
+            if (image != null) {
+                cache.put(key, image);
+            }
+        }
+        return image;
+    }
+
+    @Override
+    public BufferedImage getOrLoad(ImageCacheKey key, Callable<BufferedImage> loader) throws Exception {
+        try {
+            return cache.get(key, () -> {
+                BufferedImage spilled = store.get(key);
+                return spilled != null ? spilled : loader.call();
+            });
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof MissingRasterException) {
+                return null;
+            }
+            throw e;
+        }
+    }
+}
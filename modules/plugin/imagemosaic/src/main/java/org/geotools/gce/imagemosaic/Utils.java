@@ -435,6 +435,9 @@ public static class Prop {
 
         public static final String QUERY_CACHE_MAX_FEATURES = "QueryCacheMaxFeatures";
 
+        /** Whether to keep the granules in memory, indexed by footprint and dimensions, to answer catalog queries */
+        public static final String DIMENSION_INDEX = "DimensionIndex";
+
         public static final String COLLECT_RAT = "CollectAttributeTables";
     }
 
@@ -0,0 +1,332 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.catalog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.data.sort.SortedFeatureReader;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Keeps the granules of each catalog type in memory, indexed by footprint and by the attributes used in the queries
+ * (time, elevation and custom dimensions), see {@link GranuleIndex}. Queries are answered from memory, intersecting the
+ * index lookups of the filter parts before evaluating the filter on the surviving granules, while the wrapped catalog
+ * stays the reference for everything else.
+ *
+ * <p>Unlike {@link QueryCacheGranuleCatalog} any query benefits, not just repeated ones, and unlike the
+ * {@link STRTreeGranuleCatalog} the catalog stays writable: added and removed granules update the index incrementally,
+ * at once on auto commit, or when the transaction commits otherwise. Each type is loaded on its first query. Queries in
+ * a transaction, or with a start index, go to the wrapped catalog.
+ *
+ * <p>The granules returned are copies, limited to the properties requested by the query, so that callers can modify
+ * them without altering the index.
+ *
+ * <p>Granules are indexed as added, so identifiers assigned by the store on insert are not seen until the type is
+ * loaded again; a removal whose count disagrees with the index triggers such a reload.
+ */
+public class DimensionIndexGranuleCatalog extends DelegatingGranuleCatalog {
+
+    static final Logger LOGGER = Logging.getLogger(DimensionIndexGranuleCatalog.class);
+
+    private final Map<String, GranuleIndex> indexes = new HashMap<>();
+
+    private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+
+    public DimensionIndexGranuleCatalog(GranuleCatalog adaptee) {
+        super(adaptee);
+    }
+
+    @Override
+    public SimpleFeatureCollection getGranules(Query q) throws IOException {
+        return getGranules(q, Transaction.AUTO_COMMIT);
+    }
+
+    @Override
+    public SimpleFeatureCollection getGranules(Query q, Transaction t) throws IOException {
+        if (!isIndexable(q, t)) {
+            return adaptee.getGranules(q, t);
+        }
+        Comparator<SimpleFeature> comparator = null;
+        if (q.getSortBy() != null && q.getSortBy().length > 0) {
+            comparator = SortedFeatureReader.getComparator(q.getSortBy());
+            if (comparator == null) return adaptee.getGranules(q, t);
+        }
+        Lock lock = readIndex(q.getTypeName());
+        try {
+            GranuleIndex index = indexes.get(q.getTypeName());
+            List<SimpleFeature> granules = index.query(q.getFilter());
+            if (comparator != null) {
+                granules.sort(comparator);
+            }
+            int maxGranules = q.getMaxFeatures();
+            if (maxGranules > 0 && granules.size() > maxGranules) {
+                granules = new ArrayList<>(granules.subList(0, maxGranules));
+            }
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Matched " + granules.size() + " granules out of " + index.size() + " in memory");
+            }
+            SimpleFeatureType schema = index.getSchema();
+            if (q.getPropertyNames() != Query.ALL_NAMES) {
+                schema = SimpleFeatureTypeBuilder.retype(schema, q.getPropertyNames());
+            }
+            return new ListFeatureCollection(schema, copy(granules, schema));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Copies the granules into features of the given type, the indexed ones are shared by all queries */
+    private static List<SimpleFeature> copy(List<SimpleFeature> granules, SimpleFeatureType schema) {
+        SimpleFeatureBuilder builder = new SimpleFeatureBuilder(schema);
+        List<SimpleFeature> copies = new ArrayList<>(granules.size());
+        for (SimpleFeature granule : granules) {
+            for (AttributeDescriptor ad : schema.getAttributeDescriptors()) {
+                Object value = granule.getAttribute(ad.getLocalName());
+                builder.add(value instanceof Geometry g ? g.copy() : value);
+            }
+            copies.add(builder.buildFeature(granule.getID()));
+        }
+        return copies;
+    }
+
+    @Override
+    public int getGranulesCount(Query q) throws IOException {
+        if (!isIndexable(q, Transaction.AUTO_COMMIT)) {
+            return adaptee.getGranulesCount(q);
+        }
+        Lock lock = readIndex(q.getTypeName());
+        try {
+            int count = indexes.get(q.getTypeName()).match(q.getFilter()).length;
+            return q.getMaxFeatures() > 0 ? Math.min(count, q.getMaxFeatures()) : count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isIndexable(Query q, Transaction t) {
+        return (t == null || t == Transaction.AUTO_COMMIT) && q.getTypeName() != null && q.getStartIndex() == null;
+    }
+
+    /** Returns the read lock, held, with the index of the given type loaded. */
+    private Lock readIndex(String typeName) throws IOException {
+        Lock readLock = rwLock.readLock();
+        readLock.lock();
+        if (indexes.containsKey(typeName)) {
+            return readLock;
+        }
+        readLock.unlock();
+        Lock writeLock = rwLock.writeLock();
+        writeLock.lock();
+        try {
+            if (!indexes.containsKey(typeName)) {
+                indexes.put(typeName, load(typeName));
+            }
+            // downgrade
+            readLock.lock();
+        } finally {
+            writeLock.unlock();
+        }
+        return readLock;
+    }
+
+    private GranuleIndex load(String typeName) throws IOException {
+        long start = System.currentTimeMillis();
+        SimpleFeatureCollection granules = adaptee.getGranules(new Query(typeName));
+        GranuleIndex index = new GranuleIndex(granules.getSchema());
+        try (SimpleFeatureIterator it = granules.features()) {
+            while (it.hasNext()) {
+                index.add(it.next());
+            }
+        }
+        index.pack();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Indexed " + index.size() + " granules of " + typeName + " in "
+                    + (System.currentTimeMillis() - start) + "ms");
+        }
+        return index;
+    }
+
+    @Override
+    public void addGranule(String typeName, SimpleFeature granule, Transaction transaction) throws IOException {
+        addGranules(typeName, List.of(granule), transaction);
+    }
+
+    @Override
+    public void addGranules(String typeName, Collection<SimpleFeature> granules, Transaction transaction)
+            throws IOException {
+        adaptee.addGranules(typeName, granules, transaction);
+        List<SimpleFeature> added = new ArrayList<>(granules);
+        if (transaction == null || transaction == Transaction.AUTO_COMMIT) {
+            Lock lock = rwLock.writeLock();
+            lock.lock();
+            try {
+                applyAdd(typeName, added);
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            getState(transaction).changes.add(() -> applyAdd(typeName, added));
+        }
+    }
+
+    /** Must be called with the write lock held. */
+    private void applyAdd(String typeName, List<SimpleFeature> granules) {
+        GranuleIndex index = indexes.get(typeName);
+        // not loaded yet, the granules will be read along with the others
+        if (index == null) return;
+        for (SimpleFeature granule : granules) {
+            if (!index.getSchema().equals(granule.getFeatureType())) {
+                // attributes are looked up by position, a different layout needs a reload
+                indexes.remove(typeName);
+                return;
+            }
+            index.add(granule);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public int removeGranules(Query query) {
+        return removeGranules(query, Transaction.AUTO_COMMIT);
+    }
+
+    @Override
+    public int removeGranules(Query query, Transaction transaction) {
+        String typeName = query.getTypeName();
+        Filter filter = query.getFilter();
+        if (transaction == null || transaction == Transaction.AUTO_COMMIT) {
+            Lock lock = rwLock.writeLock();
+            lock.lock();
+            try {
+                int removed = adaptee.removeGranules(query, transaction);
+                applyRemove(typeName, filter, removed);
+                return removed;
+            } finally {
+                lock.unlock();
+            }
+        }
+        int removed = adaptee.removeGranules(query, transaction);
+        getState(transaction).changes.add(() -> applyRemove(typeName, filter, removed));
+        return removed;
+    }
+
+    /** Must be called with the write lock held. */
+    private void applyRemove(String typeName, Filter filter, int removed) {
+        GranuleIndex index = indexes.get(typeName);
+        if (index == null || removed == 0) return;
+        int[] ids = index.match(filter);
+        if (ids.length == removed) {
+            index.remove(ids);
+        } else {
+            // the index and the store disagree (a failure, or granules the index does not know by identifier)
+            LOGGER.fine(() -> "Index of " + typeName + " out of sync after a removal, reloading it");
+            indexes.remove(typeName);
+        }
+    }
+
+    private IndexState getState(Transaction transaction) {
+        IndexState state = (IndexState) transaction.getState(this);
+        if (state == null) {
+            state = new IndexState();
+            transaction.putState(this, state);
+        }
+        return state;
+    }
+
+    @Override
+    public void removeType(String typeName) throws IOException {
+        invalidate(typeName);
+        super.removeType(typeName);
+    }
+
+    @Override
+    public void drop() throws IOException {
+        invalidate(null);
+        super.drop();
+    }
+
+    @Override
+    public void dispose() {
+        invalidate(null);
+        super.dispose();
+    }
+
+    /** Drops the index of the given type, or all of them if {@code null}, forcing a reload on the next query. */
+    public void invalidate(String typeName) {
+        Lock lock = rwLock.writeLock();
+        lock.lock();
+        try {
+            if (typeName == null) indexes.clear();
+            else indexes.remove(typeName);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Index updates recorded in a transaction, applied in order on commit and dropped on rollback. */
+    private class IndexState implements Transaction.State {
+
+        final List<Runnable> changes = new ArrayList<>();
+
+        @Override
+        public void setTransaction(Transaction transaction) {
+            if (transaction == null) changes.clear();
+        }
+
+        @Override
+        public void addAuthorization(String authId) {}
+
+        @Override
+        public void commit() {
+            Lock lock = rwLock.writeLock();
+            lock.lock();
+            try {
+                changes.forEach(Runnable::run);
+            } finally {
+                changes.clear();
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void rollback() {
+            changes.clear();
+        }
+    }
+}
@@ -83,7 +83,9 @@ public static GranuleCatalog createGranuleCatalog(
         } else {
             Integer maxAge = Converters.convert(params.get(Utils.Prop.QUERY_CACHE_MAX_AGE), Integer.class);
             Integer maxFeatures = Converters.convert(params.get(Utils.Prop.QUERY_CACHE_MAX_FEATURES), Integer.class);
-            if (maxAge != null && maxFeatures != null) {
+            if (Boolean.TRUE.equals(Converters.convert(params.get(Utils.Prop.DIMENSION_INDEX), Boolean.class))) {
+                catalog = new CachingDataStoreGranuleCatalog(new DimensionIndexGranuleCatalog(gtCatalog));
+            } else if (maxAge != null && maxFeatures != null) {
                 GranuleCatalog queryCache = new QueryCacheGranuleCatalog(gtCatalog, maxFeatures, maxAge);
                 catalog = new CachingDataStoreGranuleCatalog(queryCache);
             } else {
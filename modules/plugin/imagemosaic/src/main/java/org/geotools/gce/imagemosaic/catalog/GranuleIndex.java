@@ -0,0 +1,399 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.BinaryComparisonOperator;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.Or;
+import org.geotools.api.filter.PropertyIsBetween;
+import org.geotools.api.filter.PropertyIsEqualTo;
+import org.geotools.api.filter.PropertyIsGreaterThan;
+import org.geotools.api.filter.PropertyIsGreaterThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsLessThan;
+import org.geotools.api.filter.PropertyIsLessThanOrEqualTo;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.api.filter.spatial.Beyond;
+import org.geotools.api.filter.spatial.BinarySpatialOperator;
+import org.geotools.api.filter.spatial.DWithin;
+import org.geotools.api.filter.spatial.Disjoint;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.CRS;
+import org.geotools.util.Converters;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * In memory index of the granules of a single catalog type. Footprints are indexed by a {@link PackedRTree}, and each
+ * attribute used in a filter (time, elevation, custom dimensions) gets a {@link SortedAttributeIndex} on first use. A
+ * filter is first turned into a candidate set by intersecting (and uniting) the lookups of its spatial and comparison
+ * parts, then evaluated in full on the candidates only, so the index never changes the result, it just avoids
+ * evaluating granules that cannot match.
+ *
+ * <p>Granules get increasing identifiers as they are added. The packed structures cover the identifiers below
+ * {@code packedCount}, later additions are scanned linearly and removals are masked out, until the pending changes grow
+ * large enough to repack everything, which keeps updates cheap and amortizes the rebuild cost over many of them.
+ *
+ * <p>Not thread-safe: lookups can run concurrently, but updates need exclusive access.
+ */
+final class GranuleIndex {
+
+    /** Pending changes never trigger a repack below this size */
+    static final int MIN_PENDING_CHANGES = 4096;
+
+    private final SimpleFeatureType schema;
+
+    private final GeometryDescriptor geometry;
+
+    private final Map<String, SortedAttributeIndex> attributes = new ConcurrentHashMap<>();
+
+    private SimpleFeature[] features = new SimpleFeature[64];
+
+    /** Granule bounds, four values per identifier, a NaN minimum x for granules without a geometry */
+    private double[] bounds = new double[64 * 4];
+
+    private final BitSet live = new BitSet();
+
+    private int size;
+
+    private int liveCount;
+
+    private int packedCount;
+
+    private int removedSincePack;
+
+    private PackedRTree tree = new PackedRTree(new int[0], 0, new double[0]);
+
+    GranuleIndex(SimpleFeatureType schema) {
+        this.schema = schema;
+        this.geometry = schema.getGeometryDescriptor();
+    }
+
+    SimpleFeatureType getSchema() {
+        return schema;
+    }
+
+    /** Number of granules in the index. */
+    int size() {
+        return liveCount;
+    }
+
+    /** Adds a granule, packing the index if enough changes are pending. */
+    void add(SimpleFeature feature) {
+        if (size == features.length) {
+            features = Arrays.copyOf(features, size * 2);
+            bounds = Arrays.copyOf(bounds, size * 2 * 4);
+        }
+        features[size] = feature;
+        setBounds(size, feature);
+        live.set(size);
+        size++;
+        liveCount++;
+        packIfNeeded();
+    }
+
+    /** Removes the given granules, as returned by {@link #match(Filter)}. */
+    void remove(int[] ids) {
+        for (int id : ids) {
+            if (live.get(id)) {
+                live.clear(id);
+                features[id] = null;
+                liveCount--;
+                removedSincePack++;
+            }
+        }
+        packIfNeeded();
+    }
+
+    private void setBounds(int id, SimpleFeature feature) {
+        Object value = geometry != null ? feature.getAttribute(geometry.getName()) : null;
+        Envelope envelope = value instanceof Geometry g ? g.getEnvelopeInternal() : null;
+        if (envelope == null || envelope.isNull()) {
+            bounds[id * 4] = Double.NaN;
+        } else {
+            bounds[id * 4] = envelope.getMinX();
+            bounds[id * 4 + 1] = envelope.getMinY();
+            bounds[id * 4 + 2] = envelope.getMaxX();
+            bounds[id * 4 + 3] = envelope.getMaxY();
+        }
+    }
+
+    private void packIfNeeded() {
+        int pending = size - packedCount + removedSincePack;
+        if (pending > Math.max(MIN_PENDING_CHANGES, liveCount / 8)) {
+            pack();
+        }
+    }
+
+    /** Renumbers the live granules and rebuilds the packed structures over all of them. */
+    void pack() {
+        SimpleFeature[] packedFeatures = new SimpleFeature[Math.max(64, liveCount + liveCount / 4)];
+        double[] packedBounds = new double[packedFeatures.length * 4];
+        int[] ids = new int[liveCount];
+        int[] spatialIds = new int[liveCount];
+        int numSpatial = 0;
+        int count = 0;
+        for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+            packedFeatures[count] = features[id];
+            System.arraycopy(bounds, id * 4, packedBounds, count * 4, 4);
+            if (!Double.isNaN(packedBounds[count * 4])) spatialIds[numSpatial++] = count;
+            ids[count] = count;
+            count++;
+        }
+        this.features = packedFeatures;
+        this.bounds = packedBounds;
+        this.size = count;
+        this.packedCount = count;
+        this.removedSincePack = 0;
+        live.clear();
+        live.set(0, count);
+        this.tree = new PackedRTree(spatialIds, numSpatial, packedBounds);
+        for (SortedAttributeIndex index : attributes.values()) {
+            index.pack(ids, count, count);
+        }
+    }
+
+    /** Returns the granules matching the filter, in identifier order. */
+    List<SimpleFeature> query(Filter filter) {
+        int[] ids = match(filter);
+        List<SimpleFeature> result = new ArrayList<>(ids.length);
+        for (int id : ids) result.add(features[id]);
+        return result;
+    }
+
+    /** Returns the identifiers of the granules matching the filter, in increasing order. */
+    int[] match(Filter filter) {
+        BitSet candidates = candidates(filter);
+        if (candidates == null) {
+            candidates = (BitSet) live.clone();
+        } else {
+            candidates.and(live);
+        }
+        int[] result = new int[candidates.cardinality()];
+        int count = 0;
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (filter == Filter.INCLUDE || filter.evaluate(features[id])) result[count++] = id;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns a superset of the identifiers matching the filter, which may include removed ones, or {@code null} if the
+     * filter cannot be narrowed down by the index.
+     */
+    BitSet candidates(Filter filter) {
+        if (filter == Filter.INCLUDE) {
+            return null;
+        } else if (filter == Filter.EXCLUDE) {
+            return new BitSet();
+        } else if (filter instanceof And and) {
+            BitSet result = null;
+            for (Filter child : and.getChildren()) {
+                BitSet candidates = candidates(child);
+                if (candidates == null) continue;
+                if (result == null) result = candidates;
+                else result.and(candidates);
+            }
+            return result;
+        } else if (filter instanceof Or or) {
+            BitSet result = new BitSet();
+            for (Filter child : or.getChildren()) {
+                BitSet candidates = candidates(child);
+                if (candidates == null) return null;
+                result.or(candidates);
+            }
+            return result;
+        } else if (filter instanceof BinarySpatialOperator op
+                && !(filter instanceof Disjoint)
+                && !(filter instanceof Beyond)
+                && !(filter instanceof DWithin)) {
+            // every other spatial operator can only match granules whose bounds intersect the literal ones
+            Envelope envelope = spatialLiteral(op.getExpression1(), op.getExpression2());
+            if (envelope == null) envelope = spatialLiteral(op.getExpression2(), op.getExpression1());
+            return envelope != null ? spatialCandidates(envelope) : null;
+        } else if (filter instanceof PropertyIsBetween between) {
+            SortedAttributeIndex index = attributeIndex(between.getExpression());
+            if (index == null || !index.isNumeric()) return null;
+            Object lower = literalKey(index, between.getLowerBoundary());
+            Object upper = literalKey(index, between.getUpperBoundary());
+            if (lower == null || upper == null) return null;
+            BitSet result = new BitSet();
+            index.range(lower, true, upper, true, size, result);
+            return result;
+        } else if (filter instanceof BinaryComparisonOperator op) {
+            return comparisonCandidates(op);
+        }
+        return null;
+    }
+
+    private BitSet comparisonCandidates(BinaryComparisonOperator op) {
+        boolean equal = op instanceof PropertyIsEqualTo;
+        // normalized as "property <op> literal"
+        boolean lessThan = op instanceof PropertyIsLessThan || op instanceof PropertyIsLessThanOrEqualTo;
+        boolean greaterThan = op instanceof PropertyIsGreaterThan || op instanceof PropertyIsGreaterThanOrEqualTo;
+        if (!equal && !lessThan && !greaterThan) return null;
+
+        Expression property = op.getExpression1();
+        Expression literal = op.getExpression2();
+        if (!(property instanceof PropertyName)) {
+            property = op.getExpression2();
+            literal = op.getExpression1();
+            boolean swap = lessThan;
+            lessThan = greaterThan;
+            greaterThan = swap;
+        }
+        SortedAttributeIndex index = attributeIndex(property);
+        if (index == null) return null;
+        // strings are compared as numbers by the filters when both sides parse as such, and case insensitive
+        // comparisons do not follow the natural string order, leave those to the filter evaluation
+        if (!index.isNumeric() && (!equal || !op.isMatchingCase())) return null;
+        Object key = literalKey(index, literal);
+        if (key == null) return null;
+
+        // numeric keys may lose precision (long values, dates with nanoseconds) so bounds are always inclusive,
+        // the filter evaluation sorts out the strict comparisons
+        BitSet result = new BitSet();
+        if (equal) {
+            index.range(key, true, key, true, size, result);
+        } else if (lessThan) {
+            index.range(null, false, key, true, size, result);
+        } else {
+            index.range(key, true, null, false, size, result);
+        }
+        return result;
+    }
+
+    private SortedAttributeIndex attributeIndex(Expression expression) {
+        if (!(expression instanceof PropertyName name)) return null;
+        Object evaluated = name.evaluate(schema);
+        if (!(evaluated instanceof AttributeDescriptor descriptor)) return null;
+        Class<?> binding = descriptor.getType().getBinding();
+        if (!isIndexable(binding)) return null;
+        int attributeIndex = schema.indexOf(descriptor.getName());
+        if (attributeIndex < 0) return null;
+        return attributes.computeIfAbsent(descriptor.getLocalName(), n -> {
+            SortedAttributeIndex index = new SortedAttributeIndex(attributeIndex, binding, id -> features[id]);
+            int[] ids = new int[packedCount];
+            int count = 0;
+            for (int id = live.nextSetBit(0); id >= 0 && id < packedCount; id = live.nextSetBit(id + 1)) {
+                ids[count++] = id;
+            }
+            index.pack(ids, count, packedCount);
+            return index;
+        });
+    }
+
+    /**
+     * Float values do not widen exactly to doubles, and big numbers not at all, so they stay out of the index along
+     * with anything that is not a string, a primitive number or a date.
+     */
+    private static boolean isIndexable(Class<?> binding) {
+        return String.class.equals(binding)
+                || Integer.class.equals(binding)
+                || Long.class.equals(binding)
+                || Short.class.equals(binding)
+                || Byte.class.equals(binding)
+                || Double.class.equals(binding)
+                || Date.class.isAssignableFrom(binding);
+    }
+
+    /** Returns the literal as an index key, or {@code null} if it cannot be compared with the indexed values. */
+    private Object literalKey(SortedAttributeIndex index, Expression expression) {
+        if (!(expression instanceof Literal literal)) return null;
+        Object value = literal.getValue();
+        if (value == null) return null;
+        if (!index.isNumeric()) return value instanceof String ? value : null;
+        boolean temporal = Date.class.isAssignableFrom(index.getBinding());
+        if (value instanceof String) {
+            // same conversion as the filters, to the attribute binding
+            Class<?> target = temporal ? index.getBinding() : Double.class;
+            Object converted = Converters.convert(value, target);
+            if (converted instanceof Date date) return (double) date.getTime();
+            return converted instanceof Double d && !d.isNaN() ? d : null;
+        } else if (temporal) {
+            return value instanceof Date date ? (double) date.getTime() : null;
+        } else if (value instanceof Float f) {
+            // the filters widen floats through their decimal representation
+            return Double.valueOf(f.toString());
+        } else if (value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double) {
+            double key = ((Number) value).doubleValue();
+            return Double.isNaN(key) ? null : key;
+        }
+        return null;
+    }
+
+    private Envelope spatialLiteral(Expression property, Expression literal) {
+        if (!(property instanceof PropertyName name) || !(literal instanceof Literal) || geometry == null) return null;
+        if (!geometry.equals(name.evaluate(schema))) return null;
+        Object value = ((Literal) literal).getValue();
+        CoordinateReferenceSystem crs = null;
+        Envelope envelope = null;
+        if (value instanceof Geometry g) {
+            envelope = g.getEnvelopeInternal();
+            if (g.getUserData() instanceof CoordinateReferenceSystem c) crs = c;
+        } else if (value instanceof BoundingBox box) {
+            ReferencedEnvelope reference = ReferencedEnvelope.reference(box);
+            envelope = reference;
+            crs = reference.getCoordinateReferenceSystem();
+        } else if (value instanceof Envelope e) {
+            envelope = e;
+        }
+        // the filter may reproject a literal in another CRS, leave it to the evaluation
+        CoordinateReferenceSystem nativeCrs = geometry.getCoordinateReferenceSystem();
+        if (crs != null && nativeCrs != null && !CRS.equalsIgnoreMetadata(crs, nativeCrs)) return null;
+        return envelope;
+    }
+
+    private BitSet spatialCandidates(Envelope envelope) {
+        BitSet result = new BitSet();
+        if (envelope.isNull()) return result;
+        double minX = envelope.getMinX(), minY = envelope.getMinY();
+        double maxX = envelope.getMaxX(), maxY = envelope.getMaxY();
+        tree.query(minX, minY, maxX, maxY, result::set);
+        for (int id = packedCount; id < size; id++) {
+            int b = id * 4;
+            if (features[id] != null
+                    && !Double.isNaN(bounds[b])
+                    && bounds[b] <= maxX
+                    && bounds[b + 1] <= maxY
+                    && bounds[b + 2] >= minX
+                    && bounds[b + 3] >= minY) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+}
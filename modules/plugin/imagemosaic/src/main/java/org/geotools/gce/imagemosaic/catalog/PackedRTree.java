@@ -0,0 +1,150 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import org.geotools.data.util.HilbertCurve;
+
+/**
+ * Immutable, packed R-tree over integer item identifiers and their bounding boxes. Items are sorted along a Hilbert
+ * curve and grouped bottom up into full nodes, so the tree is built with a single primitive sort and stored in flat
+ * arrays, with no per node objects.
+ */
+final class PackedRTree {
+
+    static final int NODE_SIZE = 16;
+
+    private static final int HILBERT_MAX = HilbertCurve.MAX;
+
+    /** Item identifiers, in packed order */
+    private final int[] items;
+
+    /** Item bounds, four values (minX, minY, maxX, maxY) per item, in packed order */
+    private final double[] itemBounds;
+
+    /** Node bounds per level, bottom up, four values per node; the last level holds the root */
+    private final double[][] levels;
+
+    /**
+     * Builds the tree over the first {@code count} identifiers of {@code ids}, whose bounds are read from
+     * {@code bounds}, four values per identifier and indexed by identifier.
+     */
+    PackedRTree(int[] ids, int count, double[] bounds) {
+        this.items = new int[count];
+        this.itemBounds = new double[count * 4];
+        if (count == 0) {
+            this.levels = new double[0][];
+            return;
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int b = ids[i] * 4;
+            minX = Math.min(minX, bounds[b]);
+            minY = Math.min(minY, bounds[b + 1]);
+            maxX = Math.max(maxX, bounds[b + 2]);
+            maxY = Math.max(maxY, bounds[b + 3]);
+        }
+        double width = maxX - minX;
+        double height = maxY - minY;
+
+        // hilbert value in the upper bits, position in the input in the lower ones, sorted as plain longs
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int b = ids[i] * 4;
+            int x = width > 0 ? (int) (HILBERT_MAX * ((bounds[b] + bounds[b + 2]) / 2 - minX) / width) : 0;
+            int y = height > 0 ? (int) (HILBERT_MAX * ((bounds[b + 1] + bounds[b + 3]) / 2 - minY) / height) : 0;
+            keys[i] = (HilbertCurve.index(x, y) & 0xFFFFFFFFL) << 31 | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < count; i++) {
+            int id = ids[(int) (keys[i] & Integer.MAX_VALUE)];
+            items[i] = id;
+            System.arraycopy(bounds, id * 4, itemBounds, i * 4, 4);
+        }
+
+        int numLevels = 0;
+        for (int n = count; ; n = (n + NODE_SIZE - 1) / NODE_SIZE) {
+            numLevels++;
+            if (n <= NODE_SIZE) break;
+        }
+        this.levels = new double[numLevels][];
+        double[] children = itemBounds;
+        int childCount = count;
+        for (int level = 0; level < numLevels; level++) {
+            int nodeCount = (childCount + NODE_SIZE - 1) / NODE_SIZE;
+            double[] nodes = new double[nodeCount * 4];
+            for (int node = 0; node < nodeCount; node++) {
+                int from = node * NODE_SIZE;
+                int to = Math.min(from + NODE_SIZE, childCount);
+                double nMinX = Double.POSITIVE_INFINITY, nMinY = Double.POSITIVE_INFINITY;
+                double nMaxX = Double.NEGATIVE_INFINITY, nMaxY = Double.NEGATIVE_INFINITY;
+                for (int c = from; c < to; c++) {
+                    nMinX = Math.min(nMinX, children[c * 4]);
+                    nMinY = Math.min(nMinY, children[c * 4 + 1]);
+                    nMaxX = Math.max(nMaxX, children[c * 4 + 2]);
+                    nMaxY = Math.max(nMaxY, children[c * 4 + 3]);
+                }
+                nodes[node * 4] = nMinX;
+                nodes[node * 4 + 1] = nMinY;
+                nodes[node * 4 + 2] = nMaxX;
+                nodes[node * 4 + 3] = nMaxY;
+            }
+            levels[level] = nodes;
+            children = nodes;
+            childCount = nodeCount;
+        }
+    }
+
+    /** Number of items in the tree. */
+    int size() {
+        return items.length;
+    }
+
+    /** Passes to the consumer every item whose bounds intersect the given ones. */
+    void query(double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        if (levels.length == 0) return;
+        visit(levels.length - 1, 0, levels[levels.length - 1].length / 4, minX, minY, maxX, maxY, consumer);
+    }
+
+    private void visit(
+            int level, int from, int to, double minX, double minY, double maxX, double maxY, IntConsumer consumer) {
+        double[] nodes = levels[level];
+        for (int node = from; node < to; node++) {
+            int b = node * 4;
+            if (nodes[b] > maxX || nodes[b + 1] > maxY || nodes[b + 2] < minX || nodes[b + 3] < minY) continue;
+            int childFrom = node * NODE_SIZE;
+            if (level == 0) {
+                int childTo = Math.min(childFrom + NODE_SIZE, items.length);
+                for (int i = childFrom; i < childTo; i++) {
+                    int ib = i * 4;
+                    if (itemBounds[ib] <= maxX
+                            && itemBounds[ib + 1] <= maxY
+                            && itemBounds[ib + 2] >= minX
+                            && itemBounds[ib + 3] >= minY) {
+                        consumer.accept(items[i]);
+                    }
+                }
+            } else {
+                int childTo = Math.min(childFrom + NODE_SIZE, levels[level - 1].length / 4);
+                visit(level - 1, childFrom, childTo, minX, minY, maxX, maxY, consumer);
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.catalog;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.function.IntFunction;
+import org.geotools.api.feature.simple.SimpleFeature;
+
+/**
+ * Index of a single granule attribute (a time, elevation or custom dimension), made of the attribute keys sorted in a
+ * primitive array next to the matching granule identifiers. Numbers and dates are keyed as doubles, strings as
+ * themselves; a range lookup is then a pair of binary searches. The sorted part covers the identifiers below
+ * {@code packedCount}, granules added since are scanned linearly until the owning {@link GranuleIndex} packs them in.
+ *
+ * <p>Null values are not indexed, as comparisons never match them. Values that cannot be keyed (NaN, unexpected types)
+ * are returned by every lookup, leaving the decision to the filter evaluation.
+ */
+final class SortedAttributeIndex {
+
+    private final int attributeIndex;
+
+    private final Class<?> binding;
+
+    private final boolean numeric;
+
+    private final IntFunction<SimpleFeature> features;
+
+    private double[] numericKeys = new double[0];
+
+    private String[] stringKeys = new String[0];
+
+    private int[] ids = new int[0];
+
+    private int[] unkeyed = new int[0];
+
+    private int packedCount;
+
+    /**
+     * @param attributeIndex the attribute position in the granule schema
+     * @param binding the attribute binding, a number or a date keyed as a double, or a string
+     * @param features resolves a granule identifier to its feature
+     */
+    SortedAttributeIndex(int attributeIndex, Class<?> binding, IntFunction<SimpleFeature> features) {
+        this.attributeIndex = attributeIndex;
+        this.binding = binding;
+        this.numeric = !String.class.equals(binding);
+        this.features = features;
+    }
+
+    Class<?> getBinding() {
+        return binding;
+    }
+
+    /** Whether the keys are doubles, {@code false} for strings. */
+    boolean isNumeric() {
+        return numeric;
+    }
+
+    /** Sorts the keys of the given live identifiers, which become the packed part of the index. */
+    void pack(int[] liveIds, int count, int packedCount) {
+        this.packedCount = packedCount;
+        int[] keyed = new int[count];
+        int[] unkeyed = new int[count];
+        int numKeyed = 0, numUnkeyed = 0;
+        for (int i = 0; i < count; i++) {
+            int id = liveIds[i];
+            Object value = value(id);
+            if (value == null) continue;
+            if (isKeyable(value)) keyed[numKeyed++] = id;
+            else unkeyed[numUnkeyed++] = id;
+        }
+        this.unkeyed = Arrays.copyOf(unkeyed, numUnkeyed);
+        this.ids = Arrays.copyOf(keyed, numKeyed);
+        if (numeric) {
+            double[] keys = new double[numKeyed];
+            for (int i = 0; i < numKeyed; i++) keys[i] = numericKey(value(ids[i]));
+            sort(
+                    new Pairs() {
+                        @Override
+                        public int compare(int i, int j) {
+                            return Double.compare(keys[i], keys[j]);
+                        }
+
+                        @Override
+                        public void swap(int i, int j) {
+                            double k = keys[i];
+                            keys[i] = keys[j];
+                            keys[j] = k;
+                            swapIds(i, j);
+                        }
+                    },
+                    0,
+                    numKeyed);
+            this.numericKeys = keys;
+        } else {
+            String[] keys = new String[numKeyed];
+            for (int i = 0; i < numKeyed; i++) keys[i] = (String) value(ids[i]);
+            sort(
+                    new Pairs() {
+                        @Override
+                        public int compare(int i, int j) {
+                            return keys[i].compareTo(keys[j]);
+                        }
+
+                        @Override
+                        public void swap(int i, int j) {
+                            String k = keys[i];
+                            keys[i] = keys[j];
+                            keys[j] = k;
+                            swapIds(i, j);
+                        }
+                    },
+                    0,
+                    numKeyed);
+            this.stringKeys = keys;
+        }
+    }
+
+    private Object value(int id) {
+        return features.apply(id).getAttribute(attributeIndex);
+    }
+
+    private void swapIds(int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+    }
+
+    /** Positions in the key and identifier arrays, sorted together */
+    private interface Pairs {
+        int compare(int i, int j);
+
+        void swap(int i, int j);
+    }
+
+    /** Three way quicksort of the pairs in [from, to), robust to the long runs of equal keys dimensions tend to have */
+    private static void sort(Pairs pairs, int from, int to) {
+        while (to - from > 16) {
+            pairs.swap(from, (from + to) >>> 1);
+            int lt = from, i = from + 1, gt = to - 1;
+            // the pivot value moves along with lt, everything in [lt, i) is equal to it
+            while (i <= gt) {
+                int c = pairs.compare(i, lt);
+                if (c < 0) pairs.swap(lt++, i++);
+                else if (c > 0) pairs.swap(i, gt--);
+                else i++;
+            }
+            // recurse on the smaller side, iterate on the larger one
+            if (lt - from < to - gt - 1) {
+                sort(pairs, from, lt);
+                from = gt + 1;
+            } else {
+                sort(pairs, gt + 1, to);
+                to = lt;
+            }
+        }
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && pairs.compare(j - 1, j) > 0; j--) {
+                pairs.swap(j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Sets in {@code result} the granules whose value falls in the range, scanning the identifiers between the packed
+     * part and {@code size}. A {@code null} bound leaves that side open; bounds are keys, a {@link Double} for numeric
+     * indexes and a {@link String} otherwise.
+     */
+    void range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive, int size, BitSet result) {
+        if (numeric) {
+            lower = lower == null ? null : (Object) normalize((Double) lower);
+            upper = upper == null ? null : (Object) normalize((Double) upper);
+        }
+        int from = lower == null ? 0 : lowerInclusive ? lowerBound(lower) : upperBound(lower);
+        int to = upper == null ? ids.length : upperInclusive ? upperBound(upper) : lowerBound(upper);
+        for (int i = from; i < to; i++) result.set(ids[i]);
+        for (int id : unkeyed) result.set(id);
+
+        for (int id = packedCount; id < size; id++) {
+            SimpleFeature feature = features.apply(id);
+            if (feature == null) continue;
+            Object value = feature.getAttribute(attributeIndex);
+            if (value == null) continue;
+            if (!isKeyable(value)) {
+                result.set(id);
+                continue;
+            }
+            Object key = numeric ? (Object) numericKey(value) : value;
+            if (lower != null) {
+                int c = compare(key, lower);
+                if (c < 0 || (c == 0 && !lowerInclusive)) continue;
+            }
+            if (upper != null) {
+                int c = compare(key, upper);
+                if (c > 0 || (c == 0 && !upperInclusive)) continue;
+            }
+            result.set(id);
+        }
+    }
+
+    private int compare(Object key, Object bound) {
+        return numeric ? Double.compare((Double) key, (Double) bound) : ((String) key).compareTo((String) bound);
+    }
+
+    /** First position whose key is not less than the bound. */
+    private int lowerBound(Object bound) {
+        int low = 0, high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePacked(mid, bound) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /** First position whose key is greater than the bound. */
+    private int upperBound(Object bound) {
+        int low = 0, high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePacked(mid, bound) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int comparePacked(int position, Object bound) {
+        return numeric
+                ? Double.compare(numericKeys[position], (Double) bound)
+                : stringKeys[position].compareTo((String) bound);
+    }
+
+    private boolean isKeyable(Object value) {
+        if (numeric) {
+            if (value instanceof Date) return true;
+            return value instanceof Number n && !Double.isNaN(n.doubleValue());
+        }
+        return value instanceof String;
+    }
+
+    /** Key of a number or date value. */
+    static double numericKey(Object value) {
+        return normalize(value instanceof Date d ? d.getTime() : ((Number) value).doubleValue());
+    }
+
+    /**
+     * Turns -0.0 into 0.0: the filters consider them equal, while {@link Double#compare(double, double)} sorts the
+     * former first.
+     */
+    private static double normalize(double key) {
+        return key == 0.0 ? 0.0 : key;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TieredGranuleImageCacheTest {
+
+    private static final String MOSAIC_A = "file:/mosaic/a";
+    private static final String MOSAIC_B = "file:/mosaic/b";
+
+    // a 64x64 4 byte image weighs 16KB
+    private static final long IMAGE_BYTES = 64 * 64 * 4;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testEvictedImagesSpillToDisk() throws Exception {
+        File dir = tempFolder.newFolder();
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(2 * IMAGE_BYTES, IMAGE_BYTES, dir, 1024 * 1024);
+        BufferedImage[] images = new BufferedImage[5];
+        for (int i = 0; i < images.length; i++) {
+            images[i] = image(BufferedImage.TYPE_INT_ARGB, i);
+            BufferedImage loaded = images[i];
+            cache.getOrLoad(key(MOSAIC_A, i), () -> loaded);
+        }
+        assertTrue(cache.heapSize() <= 2);
+        assertTrue(cache.diskSize() >= 3);
+        assertEquals(5, cache.size());
+
+        // every image is available again, without loading
+        for (int i = 0; i < images.length; i++) {
+            BufferedImage cached = cache.getOrLoad(key(MOSAIC_A, i), () -> {
+                throw new AssertionError("Should not load again");
+            });
+            assertSamePixels(images[i], cached);
+        }
+    }
+
+    @Test
+    public void testImageLayouts() throws Exception {
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(0, IMAGE_BYTES, tempFolder.newFolder(), 1 << 24);
+        BufferedImage[] images = {
+            image(BufferedImage.TYPE_3BYTE_BGR, 1),
+            image(BufferedImage.TYPE_4BYTE_ABGR, 2),
+            image(BufferedImage.TYPE_BYTE_GRAY, 3),
+            image(BufferedImage.TYPE_USHORT_GRAY, 4),
+            image(BufferedImage.TYPE_BYTE_INDEXED, 5),
+            image(BufferedImage.TYPE_BYTE_BINARY, 6),
+            image(BufferedImage.TYPE_INT_RGB, 7),
+            floatImage(8)
+        };
+        for (int i = 0; i < images.length; i++) {
+            BufferedImage loaded = images[i];
+            // zero sized heap, everything is spilled at once
+            cache.getOrLoad(key(MOSAIC_A, i), () -> loaded);
+        }
+        assertEquals(images.length, cache.diskSize());
+        for (int i = 0; i < images.length; i++) {
+            BufferedImage cached = cache.get(key(MOSAIC_A, i));
+            assertNotNull(cached);
+            assertEquals(images[i].getColorModel(), cached.getColorModel());
+            assertEquals(
+                    images[i].getSampleModel().getClass(),
+                    cached.getSampleModel().getClass());
+            assertSamePixels(images[i], cached);
+        }
+    }
+
+    @Test
+    public void testWarmRestart() throws Exception {
+        File dir = tempFolder.newFolder();
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(0, IMAGE_BYTES, dir, 1 << 24);
+        BufferedImage image = image(BufferedImage.TYPE_4BYTE_ABGR, 1);
+        cache.getOrLoad(key(MOSAIC_A, 0), () -> image);
+        cache.getOrLoad(key(MOSAIC_B, 1), () -> image(BufferedImage.TYPE_4BYTE_ABGR, 2));
+
+        TieredGranuleImageCache restarted = new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, dir, 1 << 24);
+        assertEquals(2, restarted.diskSize());
+        assertEquals(cache.getDiskSizeBytes(), restarted.getDiskSizeBytes());
+        AtomicInteger loads = new AtomicInteger();
+        BufferedImage cached = restarted.getOrLoad(key(MOSAIC_A, 0), () -> {
+            loads.incrementAndGet();
+            return image;
+        });
+        assertEquals(0, loads.get());
+        assertSamePixels(image, cached);
+
+        // damaged files are dropped on restart
+        File[] files = dir.listFiles((d, name) -> name.endsWith(GranuleTileStore.SUFFIX));
+        for (File file : files) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(3);
+            }
+        }
+        TieredGranuleImageCache damaged = new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, dir, 1 << 24);
+        assertEquals(0, damaged.diskSize());
+        assertEquals(0, dir.listFiles().length);
+    }
+
+    @Test
+    public void testDiskBudgetLRU() throws Exception {
+        File dir = tempFolder.newFolder();
+        // room for two spilled images, headers included
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(0, IMAGE_BYTES, dir, 2 * IMAGE_BYTES + 1024);
+        cache.getOrLoad(key(MOSAIC_A, 0), () -> image(BufferedImage.TYPE_INT_ARGB, 0));
+        cache.getOrLoad(key(MOSAIC_A, 1), () -> image(BufferedImage.TYPE_INT_ARGB, 1));
+        // touch the first, the second becomes the eldest
+        assertNotNull(cache.get(key(MOSAIC_A, 0)));
+        cache.getOrLoad(key(MOSAIC_A, 2), () -> image(BufferedImage.TYPE_INT_ARGB, 2));
+
+        assertEquals(2, cache.diskSize());
+        assertTrue(cache.getDiskSizeBytes() <= cache.getDiskMaximumSizeBytes());
+        assertNotNull(cache.get(key(MOSAIC_A, 0)));
+        assertNull(cache.get(key(MOSAIC_A, 1)));
+        assertNotNull(cache.get(key(MOSAIC_A, 2)));
+        assertEquals(2, dir.listFiles().length);
+
+        cache.setDiskMaximumSizeBytes(0);
+        assertEquals(0, cache.diskSize());
+        assertEquals(0, dir.listFiles().length);
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        File dir = tempFolder.newFolder();
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, dir, 1 << 24);
+        for (int i = 0; i < 3; i++) {
+            int seed = i;
+            cache.getOrLoad(key(MOSAIC_A, i), () -> image(BufferedImage.TYPE_INT_ARGB, seed));
+            cache.getOrLoad(key(MOSAIC_B, i), () -> image(BufferedImage.TYPE_INT_ARGB, seed));
+        }
+        assertEquals(6, cache.size());
+
+        cache.invalidateGranule(url(1));
+        assertNull(cache.get(key(MOSAIC_A, 1)));
+        assertNull(cache.get(key(MOSAIC_B, 1)));
+        assertEquals(4, cache.size());
+
+        cache.invalidateMosaic(MOSAIC_A);
+        assertNull(cache.get(key(MOSAIC_A, 0)));
+        assertNotNull(cache.get(key(MOSAIC_B, 0)));
+        assertEquals(2, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, dir.listFiles().length);
+    }
+
+    @Test
+    public void testReleaseKeepsDiskTier() throws Exception {
+        File dir = tempFolder.newFolder();
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, dir, 1 << 24);
+        for (int i = 0; i < 3; i++) {
+            int seed = i;
+            cache.getOrLoad(key(MOSAIC_A, i), () -> image(BufferedImage.TYPE_INT_ARGB, seed));
+        }
+        long spilled = cache.diskSize();
+        assertTrue(spilled >= 2);
+
+        // a disposed reader frees the heap, the spilled images stay for the next reader
+        cache.releaseMosaic(MOSAIC_A);
+        assertEquals(0, cache.heapSize());
+        assertEquals(spilled, cache.diskSize());
+        TieredGranuleImageCache restarted = new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, dir, 1 << 24);
+        assertEquals(spilled, restarted.diskSize());
+    }
+
+    @Test
+    public void testChangedGranuleDropped() throws Exception {
+        File dir = tempFolder.newFolder();
+        File granule = tempFolder.newFile("granule.tif");
+        Files.write(granule.toPath(), new byte[] {1, 2, 3});
+        ImageCacheKey key = new ImageCacheKey(MOSAIC_A, granule.toURI().toURL(), 0, null);
+        TieredGranuleImageCache cache = new TieredGranuleImageCache(0, IMAGE_BYTES, dir, 1 << 24);
+        cache.getOrLoad(key, () -> image(BufferedImage.TYPE_INT_ARGB, 1));
+        assertEquals(1, cache.diskSize());
+        assertNotNull(cache.get(key));
+
+        // rewritten while the process was down, the spilled image is stale and dropped on restart
+        Files.write(granule.toPath(), new byte[] {1, 2, 3, 4});
+        TieredGranuleImageCache restarted = new TieredGranuleImageCache(0, IMAGE_BYTES, dir, 1 << 24);
+        assertEquals(0, restarted.diskSize());
+        assertEquals(0, dir.listFiles().length);
+
+        // rewritten behind the back of a running cache, dropped on read
+        restarted.getOrLoad(key, () -> image(BufferedImage.TYPE_INT_ARGB, 2));
+        assertEquals(1, restarted.diskSize());
+        Files.write(granule.toPath(), new byte[] {1, 2});
+        assertNull(restarted.get(key));
+        assertEquals(0, restarted.diskSize());
+        assertEquals(0, dir.listFiles().length);
+    }
+
+    @Test
+    public void testReconfigureKeepsEntries() throws Exception {
+        TieredGranuleImageCache cache =
+                new TieredGranuleImageCache(4 * IMAGE_BYTES, IMAGE_BYTES, tempFolder.newFolder(), 1 << 24);
+        for (int i = 0; i < 3; i++) {
+            int seed = i;
+            cache.getOrLoad(key(MOSAIC_A, i), () -> image(BufferedImage.TYPE_INT_ARGB, seed));
+        }
+        assertEquals(3, cache.heapSize());
+        assertEquals(0, cache.diskSize());
+
+        cache.reconfigure(IMAGE_BYTES, IMAGE_BYTES);
+        assertEquals(IMAGE_BYTES, cache.getMaximumSizeBytes());
+        assertTrue(cache.heapSize() <= 1);
+        assertEquals(3, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertSamePixels(image(BufferedImage.TYPE_INT_ARGB, i), cache.get(key(MOSAIC_A, i)));
+        }
+    }
+
+    @Test
+    public void testMissingRaster() throws Exception {
+        TieredGranuleImageCache cache =
+                new TieredGranuleImageCache(IMAGE_BYTES, IMAGE_BYTES, tempFolder.newFolder(), 1 << 24);
+        assertNull(cache.getOrLoad(key(MOSAIC_A, 0), () -> {
+            throw new GranuleImageCache.MissingRasterException();
+        }));
+        assertEquals(0, cache.size());
+    }
+
+    private static ImageCacheKey key(String mosaic, int granule) {
+        return new ImageCacheKey(mosaic, url(granule), 0, granule % 2 == 0 ? null : new int[] {0, 2});
+    }
+
+    private static URL url(int granule) {
+        try {
+            return new URL("file:/data/granule" + granule + ".tif");
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static BufferedImage image(int type, int seed) {
+        BufferedImage image = new BufferedImage(64, 64, type);
+        fill(image.getRaster(), seed);
+        return image;
+    }
+
+    private static BufferedImage floatImage(int seed) {
+        ComponentColorModel cm = new ComponentColorModel(
+                ColorSpace.getInstance(ColorSpace.CS_GRAY), false, false, Transparency.OPAQUE, DataBuffer.TYPE_FLOAT);
+        WritableRaster raster = cm.createCompatibleWritableRaster(64, 64);
+        fill(raster, seed);
+        return new BufferedImage(cm, raster, false, null);
+    }
+
+    private static void fill(WritableRaster raster, int seed) {
+        Random random = new Random(seed);
+        int bits = raster.getSampleModel().getSampleSize(0);
+        int max = bits >= 31 ? Integer.MAX_VALUE : 1 << bits;
+        for (int y = 0; y < raster.getHeight(); y++) {
+            for (int x = 0; x < raster.getWidth(); x++) {
+                for (int b = 0; b < raster.getNumBands(); b++) {
+                    raster.setSample(x, y, b, random.nextInt(max));
+                }
+            }
+        }
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+        assertNotNull(actual);
+        Raster e = expected.getRaster();
+        Raster a = actual.getRaster();
+        assertEquals(e.getWidth(), a.getWidth());
+        assertEquals(e.getHeight(), a.getHeight());
+        assertEquals(e.getNumBands(), a.getNumBands());
+        assertArrayEquals(
+                e.getPixels(0, 0, e.getWidth(), e.getHeight(), (double[]) null),
+                a.getPixels(0, 0, a.getWidth(), a.getHeight(), (double[]) null),
+                0);
+    }
+}
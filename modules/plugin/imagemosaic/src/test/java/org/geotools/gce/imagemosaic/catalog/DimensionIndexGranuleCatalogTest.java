@@ -0,0 +1,409 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.gce.imagemosaic.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.QueryCapabilities;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.api.geometry.BoundingBox;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.DefaultTransaction;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.SchemaException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.visitor.FeatureCalc;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.util.factory.Hints;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+
+public class DimensionIndexGranuleCatalogTest {
+
+    private static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    private static final long DAY = 24 * 3600 * 1000L;
+
+    private static final String[] VARIABLES = {"temperature", "salinity", "pressure"};
+
+    private SimpleFeatureType schema;
+
+    private Random random;
+
+    private int nextId;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType(
+                "granules",
+                "the_geom:Polygon,location:String,time:java.util.Date,elevation:Double,run:Integer,"
+                        + "variable:String,weight:Float");
+        random = new Random(42);
+    }
+
+    @Test
+    public void testIndexMatchesFilterEvaluation() {
+        GranuleIndex index = new GranuleIndex(schema);
+        List<SimpleFeature> granules = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            SimpleFeature granule = granule();
+            granules.add(granule);
+            index.add(granule);
+        }
+        index.pack();
+        assertMatches(index, granules);
+
+        // the index narrows down the candidates, of dimension filters too
+        List<Filter> filters = filters();
+        for (Filter filter : List.of(filters.get(2), filters.get(4), filters.get(6), filters.get(7), filters.get(12))) {
+            assertTrue(filter.toString(), index.candidates(filter).cardinality() < granules.size() / 2);
+        }
+        assertNull(index.candidates(filters.get(13)));
+
+        // incremental updates, staying below and then going over the repack threshold
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < GranuleIndex.MIN_PENDING_CHANGES / 2; i++) {
+                SimpleFeature granule = granule();
+                granules.add(granule);
+                index.add(granule);
+            }
+            Filter removal = FF.equals(FF.property("run"), FF.literal(round));
+            index.remove(index.match(removal));
+            granules.removeIf(removal::evaluate);
+            assertEquals(granules.size(), index.size());
+            assertMatches(index, granules);
+        }
+    }
+
+    @Test
+    public void testNegativeZero() {
+        GranuleIndex index = new GranuleIndex(schema);
+        List<SimpleFeature> granules = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            SimpleFeature granule = granule();
+            // a mix of negative and positive zeros, among other elevations
+            if (i % 3 != 2) granule.setAttribute("elevation", i % 3 == 0 ? -0.0 : 0.0);
+            granules.add(granule);
+            index.add(granule);
+            // the last ones are scanned, not packed
+            if (i == 80) index.pack();
+        }
+        List<Filter> filters = List.of(
+                FF.equals(FF.property("elevation"), FF.literal(0)),
+                FF.equals(FF.property("elevation"), FF.literal(-0.0)),
+                FF.greaterOrEqual(FF.property("elevation"), FF.literal(0)),
+                FF.lessOrEqual(FF.property("elevation"), FF.literal(-0.0)),
+                FF.between(FF.property("elevation"), FF.literal(-0.0), FF.literal(0.0)));
+        assertMatches(index, granules, filters);
+    }
+
+    private void assertMatches(GranuleIndex index, List<SimpleFeature> granules) {
+        assertMatches(index, granules, filters());
+    }
+
+    private void assertMatches(GranuleIndex index, List<SimpleFeature> granules, List<Filter> filters) {
+        for (Filter filter : filters) {
+            List<String> expected = granules.stream()
+                    .filter(filter::evaluate)
+                    .map(SimpleFeature::getID)
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> actual = index.query(filter).stream()
+                    .map(SimpleFeature::getID)
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(filter.toString(), expected, actual);
+        }
+    }
+
+    private List<Filter> filters() {
+        List<Filter> filters = new ArrayList<>();
+        Date t1 = new Date(20 * DAY);
+        Date t2 = new Date(40 * DAY);
+        filters.add(Filter.INCLUDE);
+        filters.add(Filter.EXCLUDE);
+        filters.add(FF.bbox(FF.property("the_geom"), new ReferencedEnvelope(10, 30, 10, 30, null)));
+        filters.add(FF.intersects(FF.property("the_geom"), FF.literal(JTS.toGeometry(new Envelope(50, 55, 0, 100)))));
+        filters.add(FF.equals(FF.property("time"), FF.literal(t1)));
+        filters.add(FF.equals(FF.literal(t1), FF.property("time")));
+        filters.add(FF.between(FF.property("time"), FF.literal(t1), FF.literal(t2)));
+        filters.add(FF.less(FF.property("elevation"), FF.literal(100)));
+        filters.add(FF.lessOrEqual(FF.property("elevation"), FF.literal(100.0)));
+        filters.add(FF.greater(FF.literal(100), FF.property("elevation")));
+        filters.add(FF.greaterOrEqual(FF.property("elevation"), FF.literal("250")));
+        filters.add(FF.greater(FF.property("run"), FF.literal(3)));
+        filters.add(FF.equals(FF.property("variable"), FF.literal("salinity")));
+        filters.add(FF.equal(FF.property("variable"), FF.literal("SALINITY"), false));
+        filters.add(FF.less(FF.property("weight"), FF.literal(0.5f)));
+        filters.add(FF.equals(FF.property("time"), FF.literal("1970-01-21T00:00:00Z")));
+        // the typical time and elevation request with a footprint
+        filters.add(FF.and(List.of(
+                FF.bbox(FF.property("the_geom"), new ReferencedEnvelope(0, 60, 0, 60, null)),
+                FF.or(FF.equals(FF.property("time"), FF.literal(t1)), FF.equals(FF.property("time"), FF.literal(t2))),
+                FF.lessOrEqual(FF.literal(200), FF.property("elevation")),
+                FF.equals(FF.property("variable"), FF.literal("temperature")))));
+        // a time range filter on a start/end pair of attributes, and a filter the index cannot narrow
+        filters.add(FF.and(
+                FF.lessOrEqual(FF.property("time"), FF.literal(t2)),
+                FF.greaterOrEqual(FF.property("time"), FF.literal(t1))));
+        filters.add(FF.or(FF.equals(FF.property("run"), FF.literal(1)), FF.like(FF.property("location"), "*7*")));
+        filters.add(FF.not(FF.equals(FF.property("run"), FF.literal(1))));
+        return filters;
+    }
+
+    @Test
+    public void testQueries() throws Exception {
+        MemoryCatalog memory = new MemoryCatalog();
+        for (int i = 0; i < 500; i++) memory.granules.add(granule());
+        DimensionIndexGranuleCatalog catalog = new DimensionIndexGranuleCatalog(memory);
+
+        for (Filter filter : filters()) {
+            Query query = new Query("granules", filter);
+            assertEquals(ids(memory.matching(filter)), ids(catalog.getGranules(query)));
+            assertEquals(memory.getGranulesCount(query), catalog.getGranulesCount(query));
+        }
+        // a single load from the wrapped catalog
+        assertEquals(1, memory.queries);
+
+        Query sorted = new Query("granules", FF.greater(FF.property("run"), FF.literal(3)));
+        sorted.setSortBy(FF.sort("elevation", SortOrder.DESCENDING));
+        sorted.setMaxFeatures(10);
+        List<SimpleFeature> features = features(catalog.getGranules(sorted));
+        assertEquals(10, features.size());
+        for (int i = 1; i < features.size(); i++) {
+            assertTrue((Double) features.get(i - 1).getAttribute("elevation")
+                    >= (Double) features.get(i).getAttribute("elevation"));
+        }
+        assertEquals(1, memory.queries);
+    }
+
+    @Test
+    public void testQueryReturnsCopies() throws Exception {
+        MemoryCatalog memory = new MemoryCatalog();
+        for (int i = 0; i < 100; i++) memory.granules.add(granule());
+        DimensionIndexGranuleCatalog catalog = new DimensionIndexGranuleCatalog(memory);
+
+        // only the requested properties are returned
+        Query query = new Query("granules", FF.greater(FF.property("run"), FF.literal(3)));
+        query.setPropertyNames("the_geom", "location");
+        SimpleFeatureCollection granules = catalog.getGranules(query);
+        assertEquals(2, granules.getSchema().getAttributeCount());
+        List<SimpleFeature> features = features(granules);
+        assertEquals(ids(memory.matching(query.getFilter())), ids(granules));
+        for (SimpleFeature feature : features) {
+            assertEquals(2, feature.getAttributeCount());
+            assertEquals(granules.getSchema(), feature.getFeatureType());
+        }
+
+        // altering the returned granules does not alter the index
+        Query all = new Query("granules");
+        for (SimpleFeature feature : features(catalog.getGranules(all))) {
+            feature.setAttribute("run", -1);
+            ((Geometry) feature.getDefaultGeometry()).apply(AffineTransformation.translationInstance(1000, 0));
+        }
+        for (SimpleFeature feature : features(catalog.getGranules(all))) {
+            assertTrue((Integer) feature.getAttribute("run") >= 0);
+            assertTrue(((Geometry) feature.getDefaultGeometry()).getEnvelopeInternal().getMaxX() <= 105);
+        }
+    }
+
+    @Test
+    public void testIncrementalUpdates() throws Exception {
+        MemoryCatalog memory = new MemoryCatalog();
+        for (int i = 0; i < 200; i++) memory.granules.add(granule());
+        DimensionIndexGranuleCatalog catalog = new DimensionIndexGranuleCatalog(memory);
+        Query all = new Query("granules");
+        assertEquals(200, catalog.getGranulesCount(all));
+
+        catalog.addGranules("granules", List.of(granule(), granule()), Transaction.AUTO_COMMIT);
+        assertEquals(202, catalog.getGranulesCount(all));
+
+        Query run = new Query("granules", FF.equals(FF.property("run"), FF.literal(2)));
+        int removed = catalog.removeGranules(run, Transaction.AUTO_COMMIT);
+        assertTrue(removed > 0);
+        assertEquals(0, catalog.getGranulesCount(run));
+        assertEquals(202 - removed, catalog.getGranulesCount(all));
+
+        // changes in a transaction are seen once committed
+        try (Transaction t = new DefaultTransaction()) {
+            catalog.addGranules("granules", List.of(granule()), t);
+            catalog.removeGranules(new Query("granules", FF.equals(FF.property("run"), FF.literal(3))), t);
+            assertEquals(202 - removed, catalog.getGranulesCount(all));
+            t.commit();
+        }
+        assertEquals(ids(memory.matching(Filter.INCLUDE)), ids(catalog.getGranules(all)));
+        // and dropped on rollback, the in memory catalog here is not transactional so we compare to the earlier count
+        int count = catalog.getGranulesCount(all);
+        try (Transaction t = new DefaultTransaction()) {
+            catalog.addGranules("granules", List.of(granule()), t);
+            t.rollback();
+        }
+        assertEquals(count, catalog.getGranulesCount(all));
+        assertEquals(1, memory.queries);
+
+        // a removal the index does not agree with forces a reload
+        memory.granules.add(granule());
+        catalog.removeGranules(new Query("granules", Filter.INCLUDE), Transaction.AUTO_COMMIT);
+        assertEquals(0, catalog.getGranulesCount(all));
+        assertEquals(2, memory.queries);
+    }
+
+    private static List<String> ids(SimpleFeatureCollection collection) throws IOException {
+        return features(collection).stream().map(SimpleFeature::getID).sorted().collect(Collectors.toList());
+    }
+
+    private static List<SimpleFeature> features(SimpleFeatureCollection collection) throws IOException {
+        List<SimpleFeature> features = new ArrayList<>();
+        collection.accepts(f -> features.add((SimpleFeature) f), null);
+        return features;
+    }
+
+    private SimpleFeature granule() {
+        double x = random.nextInt(100);
+        double y = random.nextInt(100);
+        int size = 1 + random.nextInt(5);
+        int id = nextId++;
+        return SimpleFeatureBuilder.build(
+                schema,
+                new Object[] {
+                    JTS.toGeometry(new Envelope(x, x + size, y, y + size)),
+                    "granule_" + id + ".tif",
+                    random.nextInt(20) == 0 ? null : new Date(random.nextInt(60) * DAY),
+                    random.nextInt(20) == 0 ? null : (double) random.nextInt(20) * 25,
+                    random.nextInt(6),
+                    VARIABLES[random.nextInt(VARIABLES.length)],
+                    random.nextFloat()
+                },
+                "granules." + id);
+    }
+
+    /** A non transactional catalog over a list of features, counting the queries it gets */
+    private class MemoryCatalog extends GranuleCatalog {
+
+        final List<SimpleFeature> granules = new ArrayList<>();
+
+        int queries;
+
+        MemoryCatalog() {
+            super(new Hints(), null);
+        }
+
+        SimpleFeatureCollection matching(Filter filter) {
+            return new ListFeatureCollection(
+                    schema, granules.stream().filter(filter::evaluate).collect(Collectors.toList()));
+        }
+
+        @Override
+        public SimpleFeatureCollection getGranules(Query q) throws IOException {
+            queries++;
+            return matching(q.getFilter());
+        }
+
+        @Override
+        public int getGranulesCount(Query q) throws IOException {
+            return (int) granules.stream().filter(q.getFilter()::evaluate).count();
+        }
+
+        @Override
+        public void addGranules(String typeName, Collection<SimpleFeature> granules, Transaction transaction) {
+            this.granules.addAll(granules);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public int removeGranules(Query query) {
+            int size = granules.size();
+            granules.removeIf(query.getFilter()::evaluate);
+            return size - granules.size();
+        }
+
+        @Override
+        public int removeGranules(Query query, Transaction transaction) {
+            return removeGranules(query);
+        }
+
+        @Override
+        public void computeAggregateFunction(Query q, FeatureCalc function) {}
+
+        @Override
+        public void createType(String namespace, String typeName, String typeSpec) throws SchemaException {}
+
+        @Override
+        public void createType(SimpleFeatureType featureType) {}
+
+        @Override
+        public void createType(String identification, String typeSpec) {}
+
+        @Override
+        public void dispose() {}
+
+        @Override
+        public BoundingBox getBounds(String typeName) {
+            return null;
+        }
+
+        @Override
+        public void getGranuleDescriptors(Query q, GranuleCatalogVisitor visitor) {}
+
+        @Override
+        public QueryCapabilities getQueryCapabilities(String typeName) {
+            return null;
+        }
+
+        @Override
+        public SimpleFeatureType getType(String typeName) {
+            return schema;
+        }
+
+        @Override
+        public void removeType(String typeName) {}
+
+        @Override
+        public String[] getTypeNames() {
+            return new String[] {"granules"};
+        }
+
+        @Override
+        public void drop() {}
+
+        @Override
+        protected String getParentLocation() {
+            return null;
+        }
+    }
+}
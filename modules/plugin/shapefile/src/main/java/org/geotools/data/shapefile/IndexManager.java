@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import static org.geotools.data.shapefile.files.ShpFileType.FIX;
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
 import static org.geotools.data.shapefile.files.ShpFileType.QIX;
 import static org.geotools.data.shapefile.files.ShpFileType.SHP;
 import static org.geotools.data.shapefile.files.ShpFileType.SHX;
@@ -39,6 +40,7 @@
 import org.geotools.data.shapefile.files.FileWriter;
 import org.geotools.data.shapefile.files.ShpFileType;
 import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.shapefile.files.StorageFile;
 import org.geotools.data.shapefile.index.CachedQuadTree;
 import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.shapefile.index.DataDefinition;
@@ -46,11 +48,17 @@
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
+import org.geotools.data.shapefile.index.rtree.PackedRTree;
+import org.geotools.data.shapefile.index.rtree.PackedRTreeBuilder;
 import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapeType;
+import org.geotools.data.shapefile.shp.ShapefileReader;
+import org.geotools.data.shapefile.shp.ShapefileReader.Record;
 import org.geotools.data.util.NullProgressListener;
 import org.geotools.util.URLs;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
 
 /**
  * Manages the index files on behalf of the the {@link ShapefileDataStore}
@@ -69,6 +77,11 @@ class IndexManager {
 
     CachedQuadTree cachedTree;
 
+    /** The memory mapped packed R-tree, if in use, along with the last modification time of its file */
+    PackedRTree packedTree;
+
+    long packedTreeLastModified;
+
     ShapefileDataStore store;
 
     /** Used to lock the files when doing accesses to check indexes and the like */
@@ -113,9 +126,10 @@ public boolean createSpatialIndex(boolean force) {
             return false;
         }
         try {
-            if (isIndexStale(QIX) || force) {
-                // get a write lock on the .qix, waiting for other index builds
-                final URL treeURL = shpFiles.acquireWrite(QIX, writer);
+            ShpFileType indexType = getSpatialIndexType();
+            if (isIndexStale(indexType) || force) {
+                // get a write lock on the index file, waiting for other index builds
+                final URL treeURL = shpFiles.acquireWrite(indexType, writer);
                 try {
                     // check again, may force be false and another thread just have created it
                     if (isIndexStale(treeURL) || force) {
@@ -135,9 +149,37 @@ public boolean createSpatialIndex(boolean force) {
     protected void doCreateSpatialIndex() throws Exception {
         ShapefileDataStoreFactory.LOGGER.fine("Creating spatial index for " + shpFiles.get(SHP));
 
-        ShapeFileIndexer indexer = new ShapeFileIndexer();
-        indexer.setShapeFileName(shpFiles);
-        indexer.index(false, new NullProgressListener());
+        if (store.isPackedSpatialIndex()) {
+            createPackedSpatialIndex();
+        } else {
+            ShapeFileIndexer indexer = new ShapeFileIndexer();
+            indexer.setShapeFileName(shpFiles);
+            indexer.index(false, new NullProgressListener());
+        }
+    }
+
+    /** Builds the packed R-tree out of the bounds of the shapefile records */
+    private void createPackedSpatialIndex() throws IOException {
+        StorageFile storage = shpFiles.getStorageFile(PRX);
+        try (IndexFile shx = new IndexFile(shpFiles, false);
+                ShapefileReader reader = new ShapefileReader(shpFiles, true, false, new GeometryFactory())) {
+            PackedRTreeBuilder builder =
+                    new PackedRTreeBuilder(shx.getRecordCount(), PackedRTreeBuilder.DEFAULT_NODE_SIZE);
+            while (reader.hasNext()) {
+                Record rec = reader.nextRecord();
+                // null shapes have no bounds and cannot match any spatial filter
+                if (rec.type != ShapeType.NULL) {
+                    builder.add(rec.minX, rec.minY, rec.maxX, rec.maxY, rec.offset());
+                }
+            }
+            builder.write(storage.getFile());
+        }
+        storage.replaceOriginal();
+    }
+
+    /** Returns the type of spatial index in use */
+    ShpFileType getSpatialIndexType() {
+        return store.isPackedSpatialIndex() ? PRX : QIX;
     }
 
     /** If the fid index can be used and it is missing this method will try to create it */
@@ -184,7 +226,7 @@ boolean isIndexUseable(ShpFileType indexType) {
 
     /** Returns true if the index file is available */
     boolean isSpatialIndexAvailable() {
-        return shpFiles.isLocal() && shpFiles.exists(QIX);
+        return shpFiles.isLocal() && shpFiles.exists(getSpatialIndexType());
     }
 
     /** Returns true if the specified index file is outdated compared to the shapefile .shp and .shx files */
@@ -292,6 +334,14 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
         // check if the spatial index needs recreating
         createSpatialIndex(false);
 
+        if (store.isPackedSpatialIndex()) {
+            PackedRTree tree = openPackedTree();
+            if (tree != null && !bbox.contains(tree.getBounds())) {
+                return tree.search(bbox);
+            }
+            return null;
+        }
+
         if (cachedTree == null) {
             boolean canCache = false;
             URL treeURL = shpFiles.acquireRead(QIX, writer);
@@ -368,7 +418,35 @@ protected QuadTree openQuadTree() throws StoreException {
         }
     }
 
+    /**
+     * Returns the packed R-tree, memory mapping its file if not done already, or if it changed since it was last
+     * mapped.
+     *
+     * @return The packed R-tree, or null if the index file is not available
+     */
+    synchronized PackedRTree openPackedTree() throws IOException {
+        if (!shpFiles.isLocal()) {
+            return null;
+        }
+        URL treeURL = shpFiles.acquireRead(PRX, writer);
+        try {
+            File treeFile = URLs.urlToFile(treeURL);
+            if (treeFile == null || !treeFile.exists() || treeFile.length() == 0) {
+                return null;
+            }
+            long lastModified = treeFile.lastModified();
+            if (packedTree == null || packedTreeLastModified != lastModified) {
+                packedTree = PackedRTree.open(treeFile);
+                packedTreeLastModified = lastModified;
+            }
+            return packedTree;
+        } finally {
+            shpFiles.unlockRead(treeURL, writer);
+        }
+    }
+
     public void dispose() {
         this.cachedTree = null;
+        this.packedTree = null;
     }
 }
@@ -78,6 +78,16 @@ public boolean hasNext() throws IOException {
 
             Record record = shp.nextRecord();
 
+            // if parts of the filter can be checked on the raw dbf record, do so before parsing the geometry
+            Row row = null;
+            if (dbfFilters != null) {
+                ((IndexedDbaseFileReader) dbf).goTo(record.number);
+                row = dbf.readRow();
+                if (row.isDeleted() || !matchesDbfFilters()) {
+                    continue;
+                }
+            }
+
             // read the geometry, so that we can decide if this row is to be skipped or not
             Geometry geometry = getGeometry(record);
             if (geometry == SKIP) {
@@ -85,12 +95,12 @@ public boolean hasNext() throws IOException {
             }
 
             // read the dbf only if the geometry was not skipped
-            Row row;
-            if (dbf != null) {
+            if (row == null && dbf != null) {
                 ((IndexedDbaseFileReader) dbf).goTo(record.number);
                 row = dbf.readRow();
-            } else {
-                row = null;
+                if (row.isDeleted()) {
+                    continue;
+                }
             }
 
             nextFeature = buildFeature(record.number, geometry, row, record.envelope());
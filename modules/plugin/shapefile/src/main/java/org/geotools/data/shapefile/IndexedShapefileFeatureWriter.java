@@ -107,6 +107,7 @@ public void close() throws IOException {
                 }
 
                 deleteFile(ShpFileType.QIX);
+                deleteFile(ShpFileType.PRX);
             }
         } catch (Throwable e) {
             ShapefileDataStoreFactory.LOGGER.log(Level.WARNING, "Error creating Spatial index", e);
@@ -106,6 +106,12 @@ public class ShapefileDataStore extends ContentDataStore implements FileDataStor
 
     boolean indexCreationEnabled = true;
 
+    boolean packedSpatialIndex = false;
+
+    boolean parallelScan = false;
+
+    int parallelScanSplitSize = ShapefileParallelScan.DEFAULT_SPLIT_SIZE;
+
     boolean fidIndexed = true;
 
     IndexManager indexManager;
@@ -501,6 +507,33 @@ public void setIndexCreationEnabled(boolean indexCreationEnabled) {
         this.indexCreationEnabled = indexCreationEnabled;
     }
 
+    public boolean isPackedSpatialIndex() {
+        return packedSpatialIndex;
+    }
+
+    /**
+     * When set to true, the spatial index will be a Hilbert packed R-tree stored in a .prx file and accessed through
+     * memory mapping, instead of the .qix quadtree. The packed index uses next to no heap, and is better suited for
+     * large shapefiles, but it's specific to GeoTools.
+     */
+    public void setPackedSpatialIndex(boolean packedSpatialIndex) {
+        this.packedSpatialIndex = packedSpatialIndex;
+    }
+
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    /**
+     * When set to true, visits with aggregate visitors (count, sum, min, max, bounds) that cannot use the spatial or
+     * fid index will split the records in ranges, using the .shx file, and scan them in parallel on a dedicated pool of
+     * daemon threads, sized after the number of available processors and shared by all the stores, merging the partial
+     * results at the end.
+     */
+    public void setParallelScan(boolean parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
     @Override
     public void removeSchema(String typeName) throws IOException {
         removeSchema(new NameImpl(null, typeName));
@@ -168,6 +168,25 @@ public String text(Object value) {
             true,
             new KVP(Param.LEVEL, "advanced"));
 
+    /** Optional - use a packed R-tree spatial index instead of the quadtree one */
+    public static final Param PACKED_SPATIAL_INDEX = new Param(
+            "packed spatial index",
+            Boolean.class,
+            "use a memory mapped, packed R-tree spatial index (.prx file) instead of the quadtree one (.qix file)",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
+    /** Optional - scan the file in parallel when computing aggregates */
+    public static final Param PARALLEL_SCAN = new Param(
+            "parallel scan",
+            Boolean.class,
+            "scan large files in parallel, using multiple threads, when computing aggregates such as counts, sums and"
+                    + " bounds",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
     /** Optional - skip the scan for alternative shapefile extensions (i.e. .SHP, .shp.XML, ...) */
     public static final Param SKIP_SCAN = new Param(
             "skipScan",
@@ -194,6 +213,8 @@ public Param[] getParametersInfo() {
             NAMESPACEP,
             ENABLE_SPATIAL_INDEX,
             CREATE_SPATIAL_INDEX,
+            PACKED_SPATIAL_INDEX,
+            PARALLEL_SCAN,
             DBFCHARSET,
             DBFTIMEZONE,
             MEMORY_MAPPED,
@@ -223,6 +244,8 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
         Charset dbfCharset = lookup(DBFCHARSET, params, Charset.class);
         TimeZone dbfTimeZone = lookup(DBFTIMEZONE, params, TimeZone.class);
         Boolean isCreateSpatialIndex = lookup(CREATE_SPATIAL_INDEX, params, Boolean.class);
+        Boolean isPackedSpatialIndex = lookup(PACKED_SPATIAL_INDEX, params, Boolean.class);
+        Boolean isParallelScan = lookup(PARALLEL_SCAN, params, Boolean.class);
         Boolean skipScan = lookup(SKIP_SCAN, params, Boolean.class);
         Boolean isEnableSpatialIndex = (Boolean) ENABLE_SPATIAL_INDEX.lookUp(params);
         if (isEnableSpatialIndex == null) {
@@ -258,6 +281,8 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             store.setTimeZone(dbfTimeZone);
             store.setIndexed(enableIndex);
             store.setIndexCreationEnabled(createIndex);
+            store.setPackedSpatialIndex(isPackedSpatialIndex);
+            store.setParallelScan(isParallelScan);
             return store;
         }
     }
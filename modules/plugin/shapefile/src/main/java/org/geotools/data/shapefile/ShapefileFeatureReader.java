@@ -17,6 +17,8 @@
 package org.geotools.data.shapefile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -27,8 +29,21 @@
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.BinaryComparisonOperator;
 import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.PropertyIsEqualTo;
+import org.geotools.api.filter.PropertyIsGreaterThan;
+import org.geotools.api.filter.PropertyIsGreaterThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsLessThan;
+import org.geotools.api.filter.PropertyIsLessThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsNotEqualTo;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
 import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.data.shapefile.dbf.DbaseFieldComparison;
+import org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator;
 import org.geotools.data.shapefile.dbf.DbaseFileHeader;
 import org.geotools.data.shapefile.dbf.DbaseFileReader;
 import org.geotools.data.shapefile.dbf.DbaseFileReader.Row;
@@ -85,6 +100,12 @@ public String toString() {
 
     Filter filter;
 
+    /**
+     * Comparisons extracted from the filter that can be checked on the raw dbf record, before parsing the geometry and
+     * decoding the attributes, or null if there is none
+     */
+    DbaseFieldComparison[] dbfFilters;
+
     public ShapefileFeatureReader(
             SimpleFeatureType schema, ShapefileReader shp, DbaseFileReader dbf, IndexedFidReader fidReader)
             throws IOException {
@@ -171,25 +192,31 @@ public boolean hasNext() throws IOException {
         while (nextFeature == null && filesHaveMore()) {
             Record record = shp != null ? shp.nextRecord() : null;
 
+            // if parts of the filter can be checked on the raw dbf record, do so before parsing the geometry
+            Row row = null;
+            if (dbfFilters != null) {
+                row = dbf.readRow();
+                if (row.isDeleted() || !matchesDbfFilters()) {
+                    continue;
+                }
+            }
+
             final Geometry geometry =
                     record != null ? getGeometry(record) : SKIP.getFactory().createEmpty(0);
             if (geometry != SKIP) {
                 // also grab the dbf row
-                Row row;
-                if (dbf != null) {
+                if (dbf != null && row == null) {
                     row = dbf.readRow();
                     if (row.isDeleted()) {
                         continue;
                     }
-                } else {
-                    row = null;
                 }
 
                 final int number = record != null ? record.number : 0;
                 final Envelope envelope = record != null ? record.envelope() : geometry.getEnvelopeInternal();
                 nextFeature = buildFeature(number, geometry, row, envelope);
             } else {
-                if (dbf != null) {
+                if (dbf != null && row == null) {
                     dbf.skip();
                 }
             }
@@ -198,6 +225,16 @@ public boolean hasNext() throws IOException {
         return nextFeature != null;
     }
 
+    /** Checks the comparisons that can be performed on the raw bytes of the dbf record just read */
+    boolean matchesDbfFilters() {
+        for (DbaseFieldComparison comparison : dbfFilters) {
+            if (!comparison.matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Reads the geometry, it will return {@link #SKIP} if the records is to be skipped because of the screenmap or
      * because it does not match the target bbox
@@ -354,5 +391,74 @@ public Filter getFilter() {
 
     public void setFilter(Filter filter) {
         this.filter = filter;
+        this.dbfFilters = buildDbfFilters(filter);
+    }
+
+    /**
+     * Extracts from the top level conjuncts of the filter the attribute comparisons that can be checked on the raw
+     * bytes of the dbf records. The full filter is still evaluated on the decoded features.
+     */
+    private DbaseFieldComparison[] buildDbfFilters(Filter filter) {
+        if (dbf == null || filter == null) {
+            return null;
+        }
+        List<Filter> conjuncts = filter instanceof And and ? and.getChildren() : Collections.singletonList(filter);
+        List<DbaseFieldComparison> result = new ArrayList<>();
+        for (Filter conjunct : conjuncts) {
+            DbaseFieldComparison comparison = buildDbfFilter(conjunct);
+            if (comparison != null) {
+                result.add(comparison);
+            }
+        }
+        return result.isEmpty() ? null : result.toArray(new DbaseFieldComparison[result.size()]);
+    }
+
+    private DbaseFieldComparison buildDbfFilter(Filter filter) {
+        if (!(filter instanceof BinaryComparisonOperator)) {
+            return null;
+        }
+        BinaryComparisonOperator comparison = (BinaryComparisonOperator) filter;
+        Operator operator = getOperator(comparison);
+        if (operator == null) {
+            return null;
+        }
+        Expression ex1 = comparison.getExpression1();
+        Expression ex2 = comparison.getExpression2();
+        if (ex1 instanceof Literal && ex2 instanceof PropertyName) {
+            Expression tmp = ex1;
+            ex1 = ex2;
+            ex2 = tmp;
+            operator = operator.swap();
+        }
+        if (!(ex1 instanceof PropertyName) || !(ex2 instanceof Literal)) {
+            return null;
+        }
+        Object value = ((Literal) ex2).getValue();
+        // case insensitive comparisons cannot be checked on the raw bytes
+        if (value instanceof String && !comparison.isMatchingCase()) {
+            return null;
+        }
+        int index = schema.indexOf(((PropertyName) ex1).getPropertyName());
+        if (index < 0 || dbfindexes[index] < 0) {
+            return null;
+        }
+        return DbaseFieldComparison.build(dbf, dbfindexes[index], operator, value);
+    }
+
+    private Operator getOperator(BinaryComparisonOperator comparison) {
+        if (comparison instanceof PropertyIsEqualTo) {
+            return Operator.EQUAL;
+        } else if (comparison instanceof PropertyIsNotEqualTo) {
+            return Operator.NOT_EQUAL;
+        } else if (comparison instanceof PropertyIsLessThan) {
+            return Operator.LESS;
+        } else if (comparison instanceof PropertyIsLessThanOrEqualTo) {
+            return Operator.LESS_OR_EQUAL;
+        } else if (comparison instanceof PropertyIsGreaterThan) {
+            return Operator.GREATER;
+        } else if (comparison instanceof PropertyIsGreaterThanOrEqualTo) {
+            return Operator.GREATER_OR_EQUAL;
+        }
+        return null;
     }
 }
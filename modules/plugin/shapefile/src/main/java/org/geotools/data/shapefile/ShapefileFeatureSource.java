@@ -278,17 +278,9 @@ protected int getCountInternal(Query query) throws IOException {
     @Override
     protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Query q) throws IOException {
         SimpleFeatureType resultSchema = getResultSchema(q);
-        SimpleFeatureType readSchema = getReadSchema(q);
-        GeometryFactory geometryFactory = getGeometryFactory(q);
 
         // grab the target bbox, if any
-        Envelope bbox = new ReferencedEnvelope();
-        if (q != null && q.getFilter() != null) {
-            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
-            if (bbox == null) {
-                bbox = new ReferencedEnvelope();
-            }
-        }
+        Envelope bbox = getTargetBBox(q);
 
         // see if we can use indexing to speedup the data access
         Filter filter = q != null ? q.getFilter() : null;
@@ -322,6 +314,25 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
             return new EmptyFeatureReader<>(resultSchema);
         }
 
+        return getReaderInternal(q, bbox, goodRecs);
+    }
+
+    /**
+     * Builds a reader for the specified query
+     *
+     * @param q The query
+     * @param bbox The query target bbox, as returned by {@link #getTargetBBox(Query)}
+     * @param goodRecs The records to be read, in the form of record numbers and .shp offsets, or null to read all of
+     *     them sequentially
+     */
+    FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(
+            Query q, Envelope bbox, CloseableIterator<Data> goodRecs) throws IOException {
+        SimpleFeatureType resultSchema = getResultSchema(q);
+        SimpleFeatureType readSchema = getReadSchema(q);
+        GeometryFactory geometryFactory = getGeometryFactory(q);
+        Filter filter = q != null ? q.getFilter() : null;
+        IndexManager indexManager = getDataStore().indexManager;
+
         // get the .fix file reader, if we have a .fix file
         @SuppressWarnings("PMD.CloseResource") // wrapped and returned
         IndexedFidReader fidReader = null;
@@ -392,6 +403,18 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         }
     }
 
+    /** Returns the bbox of the query filter, if any, or an empty envelope otherwise */
+    Envelope getTargetBBox(Query q) {
+        Envelope bbox = new ReferencedEnvelope();
+        if (q != null && q.getFilter() != null) {
+            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
+            if (bbox == null) {
+                bbox = new ReferencedEnvelope();
+            }
+        }
+        return bbox;
+    }
+
     SimpleFeatureType getResultSchema(Query q) {
         if (q.getPropertyNames() == null) {
             return getSchema();
@@ -587,6 +610,10 @@ protected List<AttributeDescriptor> readAttributes() throws IOException {
 
     @Override
     protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOException {
+        if (getDataStore().isParallelScan()
+                && new ShapefileParallelScan(this, getDataStore().parallelScanSplitSize).visit(query, visitor)) {
+            return true;
+        }
         return super.handleVisitor(query, visitor);
     }
 }
@@ -0,0 +1,192 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.StreamSupport;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.Id;
+import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.feature.visitor.BoundsVisitor;
+import org.geotools.feature.visitor.CalcResult;
+import org.geotools.feature.visitor.CountVisitor;
+import org.geotools.feature.visitor.FeatureCalc;
+import org.geotools.feature.visitor.MaxVisitor;
+import org.geotools.feature.visitor.MinVisitor;
+import org.geotools.feature.visitor.SumVisitor;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Runs aggregate visitors over a shapefile in parallel. The records are split in ranges by a
+ * {@link ShapefileRecordSpliterator}, each range is visited by its own copy of the visitor in a {@link ForkJoinPool}
+ * dedicated to the scans, so that the I/O bound splits do not hold the threads of the common pool, and the partial
+ * results are merged back into the original visitor.
+ *
+ * <p>Only visitors whose partial results can be merged are supported, the others are left to the sequential scan. Mind
+ * that the sum of floating point values can differ in the last digits from the sequential one, as the order of the
+ * additions changes.
+ */
+class ShapefileParallelScan {
+
+    /** Default minimum number of records in a split */
+    static final int DEFAULT_SPLIT_SIZE = 16384;
+
+    static final Set<Class<?>> SUPPORTED_VISITORS =
+            Set.of(CountVisitor.class, SumVisitor.class, MinVisitor.class, MaxVisitor.class, BoundsVisitor.class);
+
+    /** The pool running the scans, its threads are daemons like all fork join worker threads */
+    static final ForkJoinPool SCAN_POOL = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("gt-shapefile-parallel-scan-" + thread.getPoolIndex());
+                return thread;
+            },
+            null,
+            false);
+
+    private final ShapefileFeatureSource source;
+
+    private final int splitSize;
+
+    ShapefileParallelScan(ShapefileFeatureSource source, int splitSize) {
+        this.source = source;
+        this.splitSize = Math.max(1, splitSize);
+    }
+
+    /**
+     * Visits the features matching the query in parallel, if possible
+     *
+     * @return true if the visit was performed, false if the visitor or the query are not suitable for a parallel scan
+     *     (or the file is too small to benefit from it), and a sequential scan is needed
+     */
+    boolean visit(Query query, FeatureVisitor visitor) throws IOException {
+        if (!SUPPORTED_VISITORS.contains(visitor.getClass()) || !isParallelizable(query)) {
+            return false;
+        }
+
+        int count;
+        try (IndexFile shx = source.getDataStore().shpManager.openIndexFile()) {
+            if (shx == null) {
+                return false;
+            }
+            count = shx.getRecordCount();
+        }
+        if (count < splitSize * 2L) {
+            return false;
+        }
+
+        ShapefileRecordSpliterator records = new ShapefileRecordSpliterator(source, query, 0, count, splitSize);
+        FeatureVisitor result;
+        try {
+            // a parallel stream started from a fork join pool thread runs in that pool
+            result = SCAN_POOL
+                    .submit(() -> StreamSupport.stream(records, true)
+                            .collect(() -> newPartial(visitor), FeatureVisitor::visit, ShapefileParallelScan::merge))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while scanning " + source.getName());
+        } catch (ExecutionException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+        merge(visitor, result);
+        return true;
+    }
+
+    /** Checks the query can be run as a parallel scan, and would not benefit from the spatial or fid indexes */
+    private boolean isParallelizable(Query query) {
+        ShapefileDataStore store = source.getDataStore();
+        // pending changes in a transaction are not visible to the split readers
+        Transaction transaction = source.getTransaction();
+        if (!store.shpFiles.isLocal() || transaction != null && transaction != Transaction.AUTO_COMMIT) {
+            return false;
+        }
+        if (query.getMaxFeatures() != Query.DEFAULT_MAX
+                || query.getStartIndex() != null
+                || (query.getSortBy() != null && query.getSortBy().length > 0)
+                || query.getCoordinateSystem() != null
+                || query.getCoordinateSystemReproject() != null) {
+            return false;
+        }
+        // the screenmap is not thread safe
+        Hints hints = query.getHints();
+        if (hints != null && hints.get(Hints.SCREENMAP) != null) {
+            return false;
+        }
+        if (query.getFilter() instanceof Id) {
+            return false;
+        }
+        Envelope bbox = source.getTargetBBox(query);
+        return !store.isIndexed() || bbox.isNull() || Double.isInfinite(bbox.getWidth());
+    }
+
+    /** Returns a new, empty visitor computing the same aggregate as the one provided */
+    static FeatureVisitor newPartial(FeatureVisitor visitor) {
+        if (visitor instanceof CountVisitor) {
+            return new CountVisitor();
+        } else if (visitor instanceof SumVisitor sum) {
+            return new SumVisitor(sum.getExpression());
+        } else if (visitor instanceof MinVisitor min) {
+            return new MinVisitor(min.getExpression());
+        } else if (visitor instanceof MaxVisitor max) {
+            return new MaxVisitor(max.getExpression());
+        } else if (visitor instanceof BoundsVisitor) {
+            return new BoundsVisitor();
+        }
+        throw new IllegalArgumentException("Unsupported visitor " + visitor);
+    }
+
+    /** Merges the result of the partial visitor into the target one */
+    static void merge(FeatureVisitor target, FeatureVisitor partial) {
+        if (target instanceof BoundsVisitor bounds) {
+            bounds.getBounds().include(((BoundsVisitor) partial).getBounds());
+            return;
+        }
+
+        CalcResult merged = ((FeatureCalc) target).getResult().merge(((FeatureCalc) partial).getResult());
+        if (merged == CalcResult.NULL_RESULT) {
+            return;
+        }
+        if (target instanceof CountVisitor count) {
+            count.setValue(merged.toInt());
+        } else if (target instanceof SumVisitor sum) {
+            sum.setValue(merged.getValue());
+        } else if (target instanceof MinVisitor min) {
+            min.setValue(merged.getValue());
+        } else if (target instanceof MaxVisitor max) {
+            max.setValue(merged.getValue());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.DataDefinition;
+import org.geotools.data.shapefile.shp.IndexFile;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link Spliterator} over a range of records of a shapefile. The range is split in halves until the minimum split
+ * size is reached, each split reads its records with its own set of channels, locating them with the .shx file, so that
+ * the splits can be read in parallel.
+ */
+class ShapefileRecordSpliterator implements Spliterator<SimpleFeature> {
+
+    static final DataDefinition RECORD_DEFINITION = new DataDefinition("US-ASCII");
+
+    static {
+        RECORD_DEFINITION.addField(Integer.class);
+        RECORD_DEFINITION.addField(Long.class);
+    }
+
+    private final ShapefileFeatureSource source;
+
+    private final Query query;
+
+    private final Envelope bbox;
+
+    private final int minSplitSize;
+
+    /** First record of the range, zero based */
+    private int from;
+
+    /** Last record of the range, exclusive */
+    private final int to;
+
+    private FeatureReader<SimpleFeatureType, SimpleFeature> reader;
+
+    /**
+     * Builds a spliterator over a range of records
+     *
+     * @param source The source to read from
+     * @param query The query to run against each split
+     * @param from First record of the range, zero based
+     * @param to Last record of the range, exclusive
+     * @param minSplitSize The minimum number of records in a split
+     */
+    ShapefileRecordSpliterator(ShapefileFeatureSource source, Query query, int from, int to, int minSplitSize) {
+        this.source = source;
+        this.query = query;
+        this.bbox = source.getTargetBBox(query);
+        this.from = from;
+        this.to = to;
+        this.minSplitSize = Math.max(1, minSplitSize);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super SimpleFeature> action) {
+        try {
+            if (reader == null) {
+                reader = openReader();
+            }
+            if (reader.hasNext()) {
+                action.accept(reader.next());
+                return true;
+            }
+            close();
+            return false;
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super SimpleFeature> action) {
+        try {
+            if (reader == null) {
+                reader = openReader();
+            }
+            while (reader.hasNext()) {
+                action.accept(reader.next());
+            }
+            close();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+    }
+
+    @Override
+    public Spliterator<SimpleFeature> trySplit() {
+        // cannot split once reading started, or if the halves would be too small
+        if (reader != null || to - from < minSplitSize * 2L) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        ShapefileRecordSpliterator prefix = new ShapefileRecordSpliterator(source, query, from, middle, minSplitSize);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private FeatureReader<SimpleFeatureType, SimpleFeature> openReader() throws IOException {
+        IndexFile shx = source.getDataStore().shpManager.openIndexFile();
+        if (shx == null) {
+            throw new IOException("Cannot read records in parallel without a .shx file");
+        }
+        return source.getReaderInternal(query, bbox, new RecordRangeIterator(shx, from, to));
+    }
+
+    private void close() throws IOException {
+        if (reader != null) {
+            try {
+                reader.close();
+            } finally {
+                // mark the split as fully read
+                from = to;
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            ShapefileFeatureSource.LOGGER.log(Level.FINE, "Failed to close split reader", e);
+        }
+    }
+
+    /** Returns the record numbers and .shp offsets of a range of records, reading them from the .shx file */
+    static class RecordRangeIterator implements CloseableIterator<Data> {
+
+        private final IndexFile shx;
+
+        private final int to;
+
+        private int current;
+
+        RecordRangeIterator(IndexFile shx, int from, int to) {
+            this.shx = shx;
+            this.current = from;
+            this.to = Math.min(to, shx.getRecordCount());
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current < to;
+        }
+
+        @Override
+        public Data next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Data data = new Data(RECORD_DEFINITION);
+                data.addValue(Integer.valueOf(current + 1));
+                data.addValue(Long.valueOf(shx.getOffsetInBytes(current)));
+                current++;
+                return data;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the offset of record " + current, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            shx.close();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compares a field of the current record of a {@link DbaseFileReader} with a constant value, working directly on the
+ * raw record bytes, without decoding the other fields of the record, nor building any feature.
+ *
+ * <p>The comparison is conservative, when the outcome cannot be determined on the raw bytes (e.g., the field is null,
+ * or contains a value that would need a type conversion) {@link #matches()} returns true, leaving the decision to the
+ * full filter evaluation on the decoded feature.
+ */
+public class DbaseFieldComparison {
+
+    /** The supported comparison operators */
+    public enum Operator {
+        EQUAL,
+        NOT_EQUAL,
+        LESS,
+        LESS_OR_EQUAL,
+        GREATER,
+        GREATER_OR_EQUAL;
+
+        /** Returns the operator to use when swapping the operands */
+        public Operator swap() {
+            switch (this) {
+                case LESS:
+                    return GREATER;
+                case LESS_OR_EQUAL:
+                    return GREATER_OR_EQUAL;
+                case GREATER:
+                    return LESS;
+                case GREATER_OR_EQUAL:
+                    return LESS_OR_EQUAL;
+                default:
+                    return this;
+            }
+        }
+    }
+
+    private final DbaseFileReader reader;
+
+    private final int column;
+
+    private final Operator operator;
+
+    /** The expected bytes, for string comparisons */
+    private final byte[] expected;
+
+    /** The expected value, for numeric comparisons */
+    private final double value;
+
+    /** Whether the field holds integral numbers */
+    private final boolean integral;
+
+    private DbaseFieldComparison(
+            DbaseFileReader reader, int column, Operator operator, byte[] expected, double value, boolean integral) {
+        this.reader = reader;
+        this.column = column;
+        this.operator = operator;
+        this.expected = expected;
+        this.value = value;
+        this.integral = integral;
+    }
+
+    /**
+     * Builds a comparison between the specified field and value, if it can be performed on the raw bytes of the
+     * records.
+     *
+     * @param reader The reader whose current record will be checked
+     * @param column The field number (zero based)
+     * @param operator The comparison operator, the field is the first operand
+     * @param value The value the field is compared with
+     * @return The comparison, or null if it cannot be performed on the raw bytes
+     */
+    public static DbaseFieldComparison build(DbaseFileReader reader, int column, Operator operator, Object value) {
+        if (value == null || column < 0 || column >= reader.header.getNumFields()) {
+            return null;
+        }
+        Class<?> binding = reader.header.getFieldClass(column);
+        if (binding == String.class && value instanceof String string) {
+            // strings can be compared on the raw bytes only if there is a char per byte
+            if (!reader.isOneBytePerChar() || (operator != Operator.EQUAL && operator != Operator.NOT_EQUAL)) {
+                return null;
+            }
+            String trimmed = string.trim();
+            // values with leading or trailing blanks can never match, keep it simple and let the filter decide
+            if (!trimmed.equals(string) || string.isEmpty()) {
+                return null;
+            }
+            byte[] expected = new byte[string.length()];
+            for (int i = 0; i < expected.length; i++) {
+                char c = string.charAt(i);
+                if (c > 0xFF) {
+                    return null;
+                }
+                expected[i] = (byte) c;
+            }
+            return new DbaseFieldComparison(reader, column, operator, expected, Double.NaN, false);
+        } else if ((binding == Integer.class || binding == Long.class || binding == Double.class)
+                && value instanceof Number number
+                && !(value instanceof Float && Float.isNaN(number.floatValue()))) {
+            double expected = number.doubleValue();
+            boolean integral = binding != Double.class;
+            // a non integral value would need a conversion to compare with an integral field
+            if (Double.isNaN(expected) || Double.isInfinite(expected) || integral && expected != Math.rint(expected)) {
+                return null;
+            }
+            return new DbaseFieldComparison(reader, column, operator, null, expected, integral);
+        }
+        return null;
+    }
+
+    /** Returns false if the current record of the reader does not satisfy the comparison, true otherwise */
+    public boolean matches() {
+        final byte[] bytes = reader.bytes;
+        final int offset = reader.fieldOffsets[column];
+        final int length = reader.fieldLengths[column];
+        if (length == 0) {
+            return true;
+        }
+        if (expected != null) {
+            // a null string, the filter will decide
+            if (bytes[offset] == '\0') {
+                return true;
+            }
+            int start = offset;
+            int end = offset + length;
+            while (start < end && (bytes[start] & 0xFF) <= ' ') {
+                start++;
+            }
+            while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+                end--;
+            }
+            boolean equal = Arrays.equals(bytes, start, end, expected, 0, expected.length);
+            return operator == Operator.EQUAL ? equal : !equal;
+        } else {
+            double actual = integral ? parseIntegral(bytes, offset, length) : parseDouble(bytes, offset, length);
+            if (Double.isNaN(actual)) {
+                return true;
+            }
+            switch (operator) {
+                case EQUAL:
+                    return actual == value;
+                case NOT_EQUAL:
+                    return actual != value;
+                case LESS:
+                    return actual < value;
+                case LESS_OR_EQUAL:
+                    return actual <= value;
+                case GREATER:
+                    return actual > value;
+                case GREATER_OR_EQUAL:
+                    return actual >= value;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /** Parses an integral number, returns NaN if the field is null or does not contain a plain integer */
+    private static double parseIntegral(byte[] bytes, int offset, int length) {
+        long parsed = DbaseFileReader.parseLong(bytes, offset, length);
+        if (parsed == DbaseFileReader.NOT_A_LONG) {
+            return Double.NaN;
+        }
+        // beyond this the double conversion is not exact anymore
+        if (Math.abs(parsed) > (1L << 53)) {
+            return Double.NaN;
+        }
+        return parsed;
+    }
+
+    /** Parses a floating point number, returns NaN if the field is null or cannot be parsed */
+    private static double parseDouble(byte[] bytes, int offset, int length) {
+        if (bytes[offset] == '*') {
+            return Double.NaN;
+        }
+        long parsed = DbaseFileReader.parseLong(bytes, offset, length);
+        if (parsed != DbaseFileReader.NOT_A_LONG && Math.abs(parsed) <= (1L << 53)) {
+            return parsed;
+        }
+        try {
+            return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
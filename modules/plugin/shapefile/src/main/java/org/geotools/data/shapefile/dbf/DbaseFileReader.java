@@ -561,9 +561,23 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
                     if (bytes[fieldOffset] == '*') {
                         break;
                     } else {
+                        Class<?> clazz = header.getFieldClass(fieldNum);
+                        if (clazz == Integer.class || clazz == Long.class) {
+                            // fast path, plain integers are parsed straight from the record bytes
+                            final long parsed = parseLong(bytes, fieldOffset, fieldLen);
+                            if (parsed != NOT_A_LONG) {
+                                if (clazz == Integer.class
+                                        && parsed >= Integer.MIN_VALUE
+                                        && parsed <= Integer.MAX_VALUE) {
+                                    object = (int) parsed;
+                                } else {
+                                    object = parsed;
+                                }
+                                break;
+                            }
+                        }
                         final String string =
                                 fastParse(bytes, fieldOffset, fieldLen).trim();
-                        Class<?> clazz = header.getFieldClass(fieldNum);
                         if (clazz == Integer.class) {
                             try {
                                 object = Integer.parseInt(string);
@@ -603,6 +617,49 @@ private Object readObject(final int fieldOffset, final int fieldNum) throws IOEx
         return object;
     }
 
+    /** Marker value returned by {@link #parseLong(byte[], int, int)} when the field does not contain a plain integer */
+    static final long NOT_A_LONG = Long.MIN_VALUE;
+
+    /**
+     * Parses a plain integer, optionally signed and surrounded by blanks, directly from the record bytes.
+     *
+     * @return The parsed value, or {@link #NOT_A_LONG} if the field contents are not a plain integer (or are too long
+     *     to be safely parsed without overflow checks)
+     */
+    static long parseLong(final byte[] bytes, final int fieldOffset, final int fieldLen) {
+        int start = fieldOffset;
+        int end = fieldOffset + fieldLen;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        boolean negative = false;
+        if (start < end && (bytes[start] == '-' || bytes[start] == '+')) {
+            negative = bytes[start] == '-';
+            start++;
+        }
+        // 18 digits always fit in a long
+        if (start == end || end - start > 18) {
+            return NOT_A_LONG;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_A_LONG;
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    /** Returns true if the charset used to decode strings uses exactly one byte per char */
+    boolean isOneBytePerChar() {
+        return oneBytePerChar;
+    }
+
     /**
      * Performs a faster byte[] to String conversion under the assumption the content is represented with one byte per
      * char
@@ -47,7 +47,12 @@ public enum ShpFileType {
     /** the .shp.xml file, it contains the metadata about the shapefile */
     SHP_XML("shp.xml"),
     /** the .cpg file is used to specify the code page */
-    CPG("cpg");
+    CPG("cpg"),
+    /**
+     * the .prx file, a Hilbert packed R-tree spatial index of the shapefile, accessed through memory mapping. It is
+     * specific to GeoTools, and used instead of the .qix file when the packed spatial index is enabled
+     */
+    PRX("prx");
 
     public final String extension;
     public final String extensionWithPeriod;
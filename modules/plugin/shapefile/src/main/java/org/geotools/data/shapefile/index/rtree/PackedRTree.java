@@ -0,0 +1,245 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.rtree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.DataDefinition;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A static, Hilbert packed R-tree read straight from a memory mapped file, without materializing any node on the heap.
+ *
+ * <p>The file is little endian and laid out as follows:
+ *
+ * <ul>
+ *   <li>the header: the {@link #MAGIC} bytes, the version, the node size, the number of items, the total number of
+ *       entries (items and nodes) and the number of levels, as integers, followed by the end position of each level
+ *   <li>the bounding boxes of all entries, as four floats each (minx, miny, maxx, maxy), rounded outwards. Items come
+ *       first, sorted by the Hilbert code of their center, then the nodes of each level, up to the root
+ *   <li>one integer per entry, the byte offset of the record in the .shp file for items, the position of the first
+ *       child for nodes
+ * </ul>
+ *
+ * <p>Searches only use absolute reads on the mapped buffer, so a single instance can be shared among threads.
+ *
+ * @see PackedRTreeBuilder
+ */
+public class PackedRTree {
+
+    /** The file signature */
+    static final byte[] MAGIC = {'G', 'T', 'P', 'R'};
+
+    /** The current version of the file format */
+    static final int VERSION = 1;
+
+    /** Size of the fixed part of the header, in bytes */
+    static final int HEADER_SIZE = 24;
+
+    static final DataDefinition DATA_DEFINITION = new DataDefinition("US-ASCII");
+
+    static {
+        DATA_DEFINITION.addField(Integer.class);
+        DATA_DEFINITION.addField(Long.class);
+    }
+
+    private final ByteBuffer buffer;
+
+    private final int nodeSize;
+
+    private final int numItems;
+
+    private final int numEntries;
+
+    private final int[] levelBounds;
+
+    private final int boxesStart;
+
+    private final int indicesStart;
+
+    PackedRTree(ByteBuffer buffer) throws StoreException {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                throw new StoreException("Not a packed R-tree index file");
+            }
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new StoreException("Unsupported packed R-tree index version " + version);
+        }
+        this.nodeSize = buffer.getInt(8);
+        this.numItems = buffer.getInt(12);
+        this.numEntries = buffer.getInt(16);
+        int numLevels = buffer.getInt(20);
+        this.levelBounds = new int[numLevels];
+        for (int i = 0; i < numLevels; i++) {
+            levelBounds[i] = buffer.getInt(HEADER_SIZE + i * 4);
+        }
+        this.boxesStart = HEADER_SIZE + numLevels * 4;
+        this.indicesStart = boxesStart + numEntries * 16;
+        if (buffer.capacity() < indicesStart + numEntries * 4) {
+            throw new StoreException("Truncated packed R-tree index file");
+        }
+    }
+
+    /**
+     * Memory maps the specified index file. The file can be closed, replaced or deleted after this method returns, the
+     * mapping stays valid until the tree is garbage collected.
+     */
+    public static PackedRTree open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                FileChannel channel = raf.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new StoreException("Packed R-tree index file too large: " + file);
+            }
+            return new PackedRTree(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /** The number of items in the tree */
+    public int size() {
+        return numItems;
+    }
+
+    /** The bounds of the items in the tree, or an empty envelope if the tree has no items */
+    public Envelope getBounds() {
+        if (numItems == 0) {
+            return new Envelope();
+        }
+        int root = numEntries - 1;
+        return new Envelope(minX(root), maxX(root), minY(root), maxY(root));
+    }
+
+    /**
+     * Returns the shapefile records whose bounding box intersects the specified envelope, in the same form as the
+     * quadtree index, sorted by offset to allow sequential access to the .shp file.
+     */
+    public CloseableIterator<Data> search(Envelope bounds) {
+        final int[] offsets = collectOffsets(bounds);
+        final Data data = new Data(DATA_DEFINITION);
+        return new CloseableIterator<>() {
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < offsets.length;
+            }
+
+            @Override
+            public Data next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    data.clear();
+                    data.addValue(0);
+                    data.addValue((long) offsets[idx++]);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return data;
+            }
+
+            @Override
+            public void close() throws IOException {
+                // nothing to release
+            }
+        };
+    }
+
+    /** Collects the sorted .shp offsets of the items intersecting the bounds */
+    int[] collectOffsets(Envelope bounds) {
+        if (numItems == 0 || bounds.isNull()) {
+            return new int[0];
+        }
+        double qMinX = bounds.getMinX();
+        double qMinY = bounds.getMinY();
+        double qMaxX = bounds.getMaxX();
+        double qMaxY = bounds.getMaxY();
+
+        int[] result = new int[16];
+        int found = 0;
+        int[] stack = new int[16];
+        int stackSize = 0;
+        stack[stackSize++] = numEntries - 1;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            int level = levelOf(node);
+            int first = index(node);
+            int end = Math.min(first + nodeSize, levelBounds[level - 1]);
+            for (int pos = first; pos < end; pos++) {
+                if (maxX(pos) < qMinX || maxY(pos) < qMinY || minX(pos) > qMaxX || minY(pos) > qMaxY) {
+                    continue;
+                }
+                if (pos < numItems) {
+                    if (found == result.length) {
+                        result = Arrays.copyOf(result, found * 2);
+                    }
+                    result[found++] = index(pos);
+                } else {
+                    if (stackSize == stack.length) {
+                        stack = Arrays.copyOf(stack, stackSize * 2);
+                    }
+                    stack[stackSize++] = pos;
+                }
+            }
+        }
+
+        int[] offsets = Arrays.copyOf(result, found);
+        Arrays.sort(offsets);
+        return offsets;
+    }
+
+    /** The level the entry belongs to, 0 being the items one */
+    private int levelOf(int entry) {
+        int level = 0;
+        while (levelBounds[level] <= entry) {
+            level++;
+        }
+        return level;
+    }
+
+    private float minX(int entry) {
+        return buffer.getFloat(boxesStart + entry * 16);
+    }
+
+    private float minY(int entry) {
+        return buffer.getFloat(boxesStart + entry * 16 + 4);
+    }
+
+    private float maxX(int entry) {
+        return buffer.getFloat(boxesStart + entry * 16 + 8);
+    }
+
+    private float maxY(int entry) {
+        return buffer.getFloat(boxesStart + entry * 16 + 12);
+    }
+
+    private int index(int entry) {
+        return buffer.getInt(indicesStart + entry * 4);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.rtree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.geotools.data.util.HilbertCurve;
+
+/**
+ * Builds a {@link PackedRTree} index file. Items are accumulated in primitive arrays, sorted along a Hilbert curve, and
+ * then written level by level, the parent nodes being computed from the data already written in the output file.
+ */
+public class PackedRTreeBuilder {
+
+    /** The default number of children of each node */
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    /**
+     * Resolution of the grid, 2^15 cells per side uses the first quarter of the {@link HilbertCurve}, keeping the codes
+     * positive when packed in a long
+     */
+    private static final int HILBERT_MAX = (1 << 15) - 1;
+
+    private final int nodeSize;
+
+    private float[] boxes;
+
+    private int[] offsets;
+
+    private int numItems;
+
+    private double minX = Double.POSITIVE_INFINITY;
+
+    private double minY = Double.POSITIVE_INFINITY;
+
+    private double maxX = Double.NEGATIVE_INFINITY;
+
+    private double maxY = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates a new builder
+     *
+     * @param expectedItems the expected number of items, used to size the internal arrays
+     * @param nodeSize the number of children of each node
+     */
+    public PackedRTreeBuilder(int expectedItems, int nodeSize) {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("Node size must be at least 2, was " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        int capacity = Math.max(expectedItems, 16);
+        this.boxes = new float[capacity * 4];
+        this.offsets = new int[capacity];
+    }
+
+    /**
+     * Adds an item to the tree
+     *
+     * @param offset the byte offset of the record in the .shp file
+     */
+    public void add(double minX, double minY, double maxX, double maxY, int offset) {
+        if (numItems == offsets.length) {
+            int capacity = offsets.length + (offsets.length >> 1);
+            boxes = Arrays.copyOf(boxes, capacity * 4);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        int b = numItems * 4;
+        boxes[b] = floorFloat(minX);
+        boxes[b + 1] = floorFloat(minY);
+        boxes[b + 2] = ceilFloat(maxX);
+        boxes[b + 3] = ceilFloat(maxY);
+        offsets[numItems] = offset;
+        numItems++;
+
+        this.minX = Math.min(this.minX, minX);
+        this.minY = Math.min(this.minY, minY);
+        this.maxX = Math.max(this.maxX, maxX);
+        this.maxY = Math.max(this.maxY, maxY);
+    }
+
+    /** The number of items added so far */
+    public int size() {
+        return numItems;
+    }
+
+    /** Sorts the items and writes the tree in the specified file */
+    public void write(File file) throws IOException {
+        // compute the number of entries for each level, up to the root
+        List<Integer> bounds = new ArrayList<>();
+        long numEntries = numItems;
+        bounds.add(numItems);
+        if (numItems > 0) {
+            int n = numItems;
+            do {
+                n = (n + nodeSize - 1) / nodeSize;
+                numEntries += n;
+                bounds.add((int) Math.min(numEntries, Integer.MAX_VALUE));
+            } while (n != 1);
+        }
+        int numLevels = bounds.size();
+        long boxesStart = PackedRTree.HEADER_SIZE + numLevels * 4L;
+        long indicesStart = boxesStart + numEntries * 16;
+        long fileSize = indicesStart + numEntries * 4;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new StoreException("Too many items for a packed R-tree index: " + numItems);
+        }
+
+        int[] order = hilbertOrder();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                FileChannel channel = raf.getChannel()) {
+            raf.setLength(fileSize);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            // header
+            buffer.put(PackedRTree.MAGIC);
+            buffer.putInt(PackedRTree.VERSION);
+            buffer.putInt(nodeSize);
+            buffer.putInt(numItems);
+            buffer.putInt((int) numEntries);
+            buffer.putInt(numLevels);
+            for (Integer bound : bounds) {
+                buffer.putInt(bound);
+            }
+
+            // items, in Hilbert order
+            int boxesPosition = (int) boxesStart;
+            int indicesPosition = (int) indicesStart;
+            for (int i = 0; i < numItems; i++) {
+                int item = order[i];
+                int b = item * 4;
+                int position = boxesPosition + i * 16;
+                buffer.putFloat(position, boxes[b]);
+                buffer.putFloat(position + 4, boxes[b + 1]);
+                buffer.putFloat(position + 8, boxes[b + 2]);
+                buffer.putFloat(position + 12, boxes[b + 3]);
+                buffer.putInt(indicesPosition + i * 4, offsets[item]);
+            }
+            // the item arrays are not needed anymore, allow them to be collected
+            boxes = null;
+            offsets = null;
+
+            // the nodes, each one enclosing nodeSize entries of the previous level
+            int pos = 0;
+            int node = numItems;
+            for (int level = 1; level < numLevels; level++) {
+                int end = bounds.get(level - 1);
+                while (pos < end) {
+                    float nMinX = Float.POSITIVE_INFINITY;
+                    float nMinY = Float.POSITIVE_INFINITY;
+                    float nMaxX = Float.NEGATIVE_INFINITY;
+                    float nMaxY = Float.NEGATIVE_INFINITY;
+                    int first = pos;
+                    for (int i = 0; i < nodeSize && pos < end; i++, pos++) {
+                        int position = boxesPosition + pos * 16;
+                        nMinX = Math.min(nMinX, buffer.getFloat(position));
+                        nMinY = Math.min(nMinY, buffer.getFloat(position + 4));
+                        nMaxX = Math.max(nMaxX, buffer.getFloat(position + 8));
+                        nMaxY = Math.max(nMaxY, buffer.getFloat(position + 12));
+                    }
+                    int position = boxesPosition + node * 16;
+                    buffer.putFloat(position, nMinX);
+                    buffer.putFloat(position + 4, nMinY);
+                    buffer.putFloat(position + 8, nMaxX);
+                    buffer.putFloat(position + 12, nMaxY);
+                    buffer.putInt(indicesPosition + node * 4, first);
+                    node++;
+                }
+            }
+            buffer.force();
+        }
+    }
+
+    /** Returns the item indexes sorted by the Hilbert code of the item centers */
+    private int[] hilbertOrder() {
+        double width = maxX - minX;
+        double height = maxY - minY;
+        long[] keys = new long[numItems];
+        for (int i = 0; i < numItems; i++) {
+            int b = i * 4;
+            int x = 0;
+            int y = 0;
+            if (width > 0) {
+                x = (int) Math.floor(HILBERT_MAX * ((boxes[b] + boxes[b + 2]) / 2 - minX) / width);
+            }
+            if (height > 0) {
+                y = (int) Math.floor(HILBERT_MAX * ((boxes[b + 1] + boxes[b + 3]) / 2 - minY) / height);
+            }
+            x = Math.max(0, Math.min(HILBERT_MAX, x));
+            y = Math.max(0, Math.min(HILBERT_MAX, y));
+            keys[i] = ((long) HilbertCurve.index(x, y) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[numItems];
+        for (int i = 0; i < numItems; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /** Rounds down to the closest float, so that the float box contains the original one */
+    private static float floorFloat(double value) {
+        float f = (float) value;
+        return f > value ? Math.nextDown(f) : f;
+    }
+
+    /** Rounds up to the closest float, so that the float box contains the original one */
+    private static float ceilFloat(double value) {
+        float f = (float) value;
+        return f < value ? Math.nextUp(f) : f;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.junit.Test;
+
+/** Checks the filters partially evaluated on the raw dbf records return the same results as a full evaluation */
+public class ShapefileDbfFilterTest extends TestCaseSupport {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory(null);
+
+    @Test
+    public void testFilters() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        ShapefileDataStore scan = createDataStore(shp, false);
+        ShapefileDataStore indexed = createDataStore(shp, true);
+        try {
+            List<SimpleFeature> all = readAll(scan);
+            ReferencedEnvelope bounds = scan.getFeatureSource().getBounds();
+            String geom = scan.getSchema().getGeometryDescriptor().getLocalName();
+            Filter bbox = FF.bbox(geom, bounds.getMinX(), bounds.getMinY(), bounds.centre().x, bounds.centre().y, null);
+
+            Filter[] filters = {
+                FF.equals(FF.property("STATE_NAME"), FF.literal("Illinois")),
+                FF.notEqual(FF.property("STATE_NAME"), FF.literal("Illinois")),
+                FF.equal(FF.property("STATE_ABBR"), FF.literal("il"), false),
+                FF.equals(FF.property("SUB_REGION"), FF.literal("Pacific")),
+                FF.greater(FF.property("PERSONS"), FF.literal(5000000)),
+                FF.lessOrEqual(FF.literal(5000000), FF.property("PERSONS")),
+                FF.less(FF.property("LAND_KM"), FF.literal(50000.5)),
+                FF.and(
+                        FF.equals(FF.property("SUB_REGION"), FF.literal("Mtn")),
+                        FF.greaterOrEqual(FF.property("PERSONS"), FF.literal(1000000))),
+                FF.and(bbox, FF.notEqual(FF.property("SUB_REGION"), FF.literal("N Eng"))),
+                FF.or(
+                        FF.equals(FF.property("STATE_ABBR"), FF.literal("CA")),
+                        FF.equals(FF.property("STATE_ABBR"), FF.literal("TX")))
+            };
+            for (Filter filter : filters) {
+                Set<String> expected = new HashSet<>();
+                for (SimpleFeature feature : all) {
+                    if (filter.evaluate(feature)) {
+                        expected.add(feature.getID());
+                    }
+                }
+                assertFalse(filter.toString(), expected.isEmpty());
+                assertEquals(filter.toString(), expected, getIds(scan, filter));
+                assertEquals(filter.toString(), expected, getIds(indexed, filter));
+            }
+        } finally {
+            scan.dispose();
+            indexed.dispose();
+        }
+    }
+
+    @Test
+    public void testExtractedComparisons() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        ShapefileDataStore store = createDataStore(shp, false);
+        try {
+            Filter filter = FF.and(
+                    FF.equals(FF.property("STATE_NAME"), FF.literal("Illinois")),
+                    FF.like(FF.property("SUB_REGION"), "E*"));
+            try (ShapefileFeatureReader reader =
+                    (ShapefileFeatureReader) ((ShapefileFeatureStore) store.getFeatureSource())
+                            .getReaderInternal(new Query(store.getTypeNames()[0], filter))) {
+                assertNotNull(reader.dbfFilters);
+                assertEquals(1, reader.dbfFilters.length);
+            }
+
+            // case insensitive, the comparison cannot be performed on the raw bytes
+            filter = FF.equal(FF.property("STATE_NAME"), FF.literal("illinois"), false);
+            try (ShapefileFeatureReader reader =
+                    (ShapefileFeatureReader) ((ShapefileFeatureStore) store.getFeatureSource())
+                            .getReaderInternal(new Query(store.getTypeNames()[0], filter))) {
+                assertNull(reader.dbfFilters);
+            }
+        } finally {
+            store.dispose();
+        }
+    }
+
+    private ShapefileDataStore createDataStore(File shp, boolean indexed) throws Exception {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, shp.toURI().toURL());
+        params.put(ShapefileDataStoreFactory.ENABLE_SPATIAL_INDEX.key, indexed);
+        return (ShapefileDataStore) new ShapefileDataStoreFactory().createDataStore(params);
+    }
+
+    private List<SimpleFeature> readAll(ShapefileDataStore store) throws Exception {
+        try (SimpleFeatureIterator it = store.getFeatureSource().getFeatures().features()) {
+            List<SimpleFeature> result = new ArrayList<>();
+            while (it.hasNext()) {
+                result.add(it.next());
+            }
+            return result;
+        }
+    }
+
+    private Set<String> getIds(ShapefileDataStore store, Filter filter) throws Exception {
+        Set<String> ids = new HashSet<>();
+        try (SimpleFeatureIterator it =
+                store.getFeatureSource().getFeatures(filter).features()) {
+            while (it.hasNext()) {
+                ids.add(it.next().getID());
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.shapefile.files.ShpFileType;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.rtree.PackedRTree;
+import org.geotools.data.shapefile.index.rtree.PackedRTreeBuilder;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+
+public class ShapefilePackedRTreeTest extends TestCaseSupport {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory(null);
+
+    @Test
+    public void testQueriesMatchFullScan() throws Exception {
+        String[] files = {"shapes/statepop.shp", "shapes/polygontest.shp", "shapes/pointtest.shp", "shapes/streams.shp"
+        };
+        for (String file : files) {
+            File shp = copyShapefiles(file);
+            // other tests might have left a quadtree behind
+            sibling(shp, "qix").delete();
+            ShapefileDataStore packed = createDataStore(shp, true, true);
+            ShapefileDataStore scan = createDataStore(shp, false, false);
+            try {
+                ReferencedEnvelope bounds = scan.getFeatureSource().getBounds();
+                String geom = scan.getSchema().getGeometryDescriptor().getLocalName();
+                // a grid of queries over the data, plus one outside of it
+                int steps = 4;
+                double dx = bounds.getWidth() / steps;
+                double dy = bounds.getHeight() / steps;
+                for (int i = 0; i < steps; i++) {
+                    for (int j = 0; j < steps; j++) {
+                        double minX = bounds.getMinX() + i * dx;
+                        double minY = bounds.getMinY() + j * dy;
+                        Filter bbox = FF.bbox(geom, minX, minY, minX + dx, minY + dy, null);
+                        assertEquals(file, getIds(scan, bbox), getIds(packed, bbox));
+                    }
+                }
+                Filter outside = FF.bbox(
+                        geom,
+                        bounds.getMaxX() + 1,
+                        bounds.getMaxY() + 1,
+                        bounds.getMaxX() + 2,
+                        bounds.getMaxY() + 2,
+                        null);
+                assertTrue(getIds(packed, outside).isEmpty());
+
+                assertTrue(packed.shpFiles.exists(ShpFileType.PRX));
+                assertFalse(packed.shpFiles.exists(ShpFileType.QIX));
+            } finally {
+                packed.dispose();
+                scan.dispose();
+            }
+        }
+    }
+
+    @Test
+    public void testIndexRebuiltAfterWrite() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        ShapefileDataStore packed = createDataStore(shp, true, true);
+        try {
+            ReferencedEnvelope bounds = packed.getFeatureSource().getBounds();
+            String geom = packed.getSchema().getGeometryDescriptor().getLocalName();
+            Filter bbox = FF.bbox(geom, bounds.getMinX(), bounds.getMinY(), bounds.centre().x, bounds.centre().y, null);
+            Set<String> before = getIds(packed, bbox);
+            assertFalse(before.isEmpty());
+            assertNotNull(packed.indexManager.openPackedTree());
+
+            // remove a feature, the index must be rebuilt and not return it anymore
+            String removed = before.iterator().next();
+            SimpleFeatureStore store = (SimpleFeatureStore) packed.getFeatureSource();
+            store.removeFeatures(FF.id(FF.featureId(removed)));
+
+            Set<String> after = getIds(packed, bbox);
+            assertEquals(before.size() - 1, after.size());
+            assertFalse(after.contains(removed));
+        } finally {
+            packed.dispose();
+        }
+    }
+
+    @Test
+    public void testRandomBoxes() throws Exception {
+        Random random = new Random(0);
+        List<Envelope> boxes = new ArrayList<>();
+        PackedRTreeBuilder builder = new PackedRTreeBuilder(10, 4);
+        for (int i = 0; i < 1000; i++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            Envelope box = new Envelope(x, x + random.nextDouble() * 5, y, y + random.nextDouble() * 5);
+            boxes.add(box);
+            // use the position as the offset
+            builder.add(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), i);
+        }
+        File file = getTempFile();
+        builder.write(file);
+        PackedRTree tree = PackedRTree.open(file);
+        assertEquals(1000, tree.size());
+
+        for (int q = 0; q < 100; q++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            Envelope query = new Envelope(x, x + random.nextDouble() * 20, y, y + random.nextDouble() * 20);
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < boxes.size(); i++) {
+                if (boxes.get(i).intersects(query)) {
+                    expected.add(i);
+                }
+            }
+
+            Set<Integer> actual = new HashSet<>();
+            long previous = -1;
+            try (CloseableIterator<Data> it = tree.search(query)) {
+                while (it.hasNext()) {
+                    long offset = (Long) it.next().getValue(1);
+                    assertTrue("Offsets should be sorted", offset > previous);
+                    previous = offset;
+                    actual.add((int) offset);
+                }
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testEmptyTree() throws Exception {
+        File file = getTempFile();
+        new PackedRTreeBuilder(0, PackedRTreeBuilder.DEFAULT_NODE_SIZE).write(file);
+        PackedRTree tree = PackedRTree.open(file);
+        assertEquals(0, tree.size());
+        assertTrue(tree.getBounds().isNull());
+        try (CloseableIterator<Data> it = tree.search(new Envelope(0, 10, 0, 10))) {
+            assertFalse(it.hasNext());
+        }
+    }
+
+    private ShapefileDataStore createDataStore(File shp, boolean indexed, boolean packed) throws Exception {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, shp.toURI().toURL());
+        params.put(ShapefileDataStoreFactory.ENABLE_SPATIAL_INDEX.key, indexed);
+        params.put(ShapefileDataStoreFactory.PACKED_SPATIAL_INDEX.key, packed);
+        return (ShapefileDataStore) new ShapefileDataStoreFactory().createDataStore(params);
+    }
+
+    private Set<String> getIds(ShapefileDataStore store, Filter filter) throws Exception {
+        Set<String> ids = new HashSet<>();
+        try (SimpleFeatureIterator it =
+                store.getFeatureSource().getFeatures(filter).features()) {
+            while (it.hasNext()) {
+                ids.add(it.next().getID());
+            }
+        }
+        return ids;
+    }
+}
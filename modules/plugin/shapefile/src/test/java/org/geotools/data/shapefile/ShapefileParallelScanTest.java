@@ -0,0 +1,178 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.visitor.BoundsVisitor;
+import org.geotools.feature.visitor.CountVisitor;
+import org.geotools.feature.visitor.FeatureCalc;
+import org.geotools.feature.visitor.MaxVisitor;
+import org.geotools.feature.visitor.MinVisitor;
+import org.geotools.feature.visitor.SumVisitor;
+import org.geotools.feature.visitor.UniqueVisitor;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.junit.Test;
+
+public class ShapefileParallelScanTest extends TestCaseSupport {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory(null);
+
+    @Test
+    public void testVisitorsMatchSequentialScan() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        ShapefileDataStore sequential = createDataStore(shp, false);
+        ShapefileDataStore parallel = createDataStore(shp, true);
+        // force splitting on the small test file
+        parallel.parallelScanSplitSize = 4;
+        try {
+            String typeName = sequential.getTypeNames()[0];
+            List<Filter> filters = List.of(
+                    Filter.INCLUDE,
+                    FF.greater(FF.property("PERSONS"), FF.literal(3000000)),
+                    FF.equals(FF.property("SUB_REGION"), FF.literal("Mtn")),
+                    FF.equals(FF.property("SUB_REGION"), FF.literal("Not there")));
+            for (Filter filter : filters) {
+                Query query = new Query(typeName, filter);
+                assertEquals(
+                        filter.toString(),
+                        visit(sequential, query, new CountVisitor()),
+                        visit(parallel, query, new CountVisitor()));
+                assertEquals(
+                        filter.toString(),
+                        visit(sequential, query, new MinVisitor("PERSONS")),
+                        visit(parallel, query, new MinVisitor("PERSONS")));
+                assertEquals(
+                        filter.toString(),
+                        visit(sequential, query, new MaxVisitor("STATE_NAME")),
+                        visit(parallel, query, new MaxVisitor("STATE_NAME")));
+                Object expectedSum = visit(sequential, query, new SumVisitor("PERSONS", sequential.getSchema()));
+                Object sum = visit(parallel, query, new SumVisitor("PERSONS", parallel.getSchema()));
+                if (expectedSum == null) {
+                    assertEquals(expectedSum, sum);
+                } else {
+                    assertEquals(((Number) expectedSum).doubleValue(), ((Number) sum).doubleValue(), 1e-3);
+                }
+
+                BoundsVisitor expectedBounds = new BoundsVisitor();
+                sequential.getFeatureSource().getFeatures(query).accepts(expectedBounds, null);
+                BoundsVisitor bounds = new BoundsVisitor();
+                parallel.getFeatureSource().getFeatures(query).accepts(bounds, null);
+                assertEquals(
+                        filter.toString(),
+                        new ReferencedEnvelope(expectedBounds.getBounds()),
+                        new ReferencedEnvelope(bounds.getBounds()));
+            }
+        } finally {
+            sequential.dispose();
+            parallel.dispose();
+        }
+    }
+
+    @Test
+    public void testParallelScanApplicability() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        ShapefileDataStore store = createDataStore(shp, true);
+        try {
+            ShapefileFeatureSource source = ((ShapefileFeatureStore) store.getFeatureSource()).delegate;
+            String typeName = store.getTypeNames()[0];
+            ShapefileParallelScan scan = new ShapefileParallelScan(source, 4);
+
+            CountVisitor count = new CountVisitor();
+            assertTrue(scan.visit(new Query(typeName), count));
+            assertEquals(49, count.getCount());
+
+            // visitors whose partial results cannot be merged are left to the sequential scan
+            assertFalse(scan.visit(new Query(typeName), new UniqueVisitor("STATE_NAME")));
+
+            // limits and fid filters are left to the sequential scan
+            Query limited = new Query(typeName);
+            limited.setMaxFeatures(10);
+            assertFalse(scan.visit(limited, new CountVisitor()));
+            Query fids = new Query(typeName, FF.id(FF.featureId("statepop.1")));
+            assertFalse(scan.visit(fids, new CountVisitor()));
+
+            // files too small to be split are read sequentially
+            assertFalse(new ShapefileParallelScan(source, 100).visit(new Query(typeName), new CountVisitor()));
+        } finally {
+            store.dispose();
+        }
+    }
+
+    @Test
+    public void testDeletedRows() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        markDeleted(new File(shp.getPath().replace(".shp", ".dbf")), 0, 7, 30, 48);
+        ShapefileDataStore sequential = createDataStore(shp, false);
+        ShapefileDataStore parallel = createDataStore(shp, true);
+        parallel.parallelScanSplitSize = 4;
+        try {
+            Query query = new Query(sequential.getTypeNames()[0]);
+            assertEquals(45, visit(sequential, query, new CountVisitor()));
+            assertEquals(45, visit(parallel, query, new CountVisitor()));
+            assertEquals(
+                    visit(sequential, query, new MaxVisitor("STATE_NAME")),
+                    visit(parallel, query, new MaxVisitor("STATE_NAME")));
+            assertEquals(
+                    ((Number) visit(sequential, query, new SumVisitor("PERSONS", sequential.getSchema())))
+                            .doubleValue(),
+                    ((Number) visit(parallel, query, new SumVisitor("PERSONS", parallel.getSchema()))).doubleValue(),
+                    1e-3);
+        } finally {
+            sequential.dispose();
+            parallel.dispose();
+        }
+    }
+
+    /** Flags the given records of the dbf file as deleted */
+    private void markDeleted(File dbf, int... records) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(dbf, "rw")) {
+            raf.seek(8);
+            int headerLength = Short.reverseBytes(raf.readShort()) & 0xFFFF;
+            int recordLength = Short.reverseBytes(raf.readShort()) & 0xFFFF;
+            for (int record : records) {
+                raf.seek(headerLength + (long) record * recordLength);
+                raf.write('*');
+            }
+        }
+    }
+
+    private Object visit(ShapefileDataStore store, Query query, FeatureVisitor visitor) throws Exception {
+        store.getFeatureSource().getFeatures(query).accepts(visitor, null);
+        return ((FeatureCalc) visitor).getResult().getValue();
+    }
+
+    private ShapefileDataStore createDataStore(File shp, boolean parallel) throws Exception {
+        Map<String, Serializable> params = new HashMap<>();
+        params.put(ShapefileDataStoreFactory.URLP.key, shp.toURI().toURL());
+        params.put(ShapefileDataStoreFactory.PARALLEL_SCAN.key, parallel);
+        return (ShapefileDataStore) new ShapefileDataStoreFactory().createDataStore(params);
+    }
+}
@@ -96,6 +96,8 @@ public void tearDown() throws Exception {
             dieDieDIE(sibling(targetFile, "fix"));
             // R-Tree index
             dieDieDIE(sibling(targetFile, "grx"));
+            // Packed R-Tree index
+            dieDieDIE(sibling(targetFile, "prx"));
             dieDieDIE(sibling(targetFile, "prj"));
             dieDieDIE(sibling(targetFile, "shp.xml"));
             dieDieDIE(sibling(targetFile, "cpg"));
@@ -0,0 +1,157 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.dbf;
+
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.EQUAL;
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.GREATER;
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.GREATER_OR_EQUAL;
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.LESS;
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.LESS_OR_EQUAL;
+import static org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator.NOT_EQUAL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.data.shapefile.dbf.DbaseFieldComparison.Operator;
+import org.junit.Test;
+
+public class DbaseFieldComparisonTest {
+
+    static final Object[][] RECORDS = {
+        {"Alpha", 10, 1.5},
+        {"Beta", -3, 2.25},
+        {"Gamma", 10, -7.0},
+        {null, null, null},
+        {"alpha", 1234567, 0.0}
+    };
+
+    @Test
+    public void testStringComparisons() throws Exception {
+        // null values cannot be decided on the raw bytes, they always pass
+        assertEquals("10010", matches(StandardCharsets.ISO_8859_1, 0, EQUAL, "Alpha"));
+        assertEquals("01111", matches(StandardCharsets.ISO_8859_1, 0, NOT_EQUAL, "Alpha"));
+        assertEquals("00010", matches(StandardCharsets.ISO_8859_1, 0, EQUAL, "Delta"));
+        // ordering, padded values and multi byte charsets are left to the full filter evaluation
+        assertNull(build(StandardCharsets.ISO_8859_1, 0, LESS, "Alpha"));
+        assertNull(build(StandardCharsets.ISO_8859_1, 0, EQUAL, " Alpha"));
+        assertNull(build(StandardCharsets.UTF_8, 0, EQUAL, "Alpha"));
+        assertNull(build(StandardCharsets.ISO_8859_1, 0, EQUAL, 10));
+    }
+
+    @Test
+    public void testIntegerComparisons() throws Exception {
+        assertEquals("10110", matches(StandardCharsets.ISO_8859_1, 1, EQUAL, 10));
+        assertEquals("01011", matches(StandardCharsets.ISO_8859_1, 1, NOT_EQUAL, 10L));
+        assertEquals("01010", matches(StandardCharsets.ISO_8859_1, 1, LESS, 10));
+        assertEquals("11110", matches(StandardCharsets.ISO_8859_1, 1, LESS_OR_EQUAL, 10.0));
+        assertEquals("00011", matches(StandardCharsets.ISO_8859_1, 1, GREATER, 10));
+        assertEquals("10111", matches(StandardCharsets.ISO_8859_1, 1, GREATER_OR_EQUAL, 10));
+        // a non integral value would need a conversion
+        assertNull(build(StandardCharsets.ISO_8859_1, 1, EQUAL, 10.5));
+        assertNull(build(StandardCharsets.ISO_8859_1, 1, EQUAL, "10"));
+    }
+
+    @Test
+    public void testDoubleComparisons() throws Exception {
+        assertEquals("01010", matches(StandardCharsets.ISO_8859_1, 2, EQUAL, 2.25));
+        assertEquals("10111", matches(StandardCharsets.ISO_8859_1, 2, LESS, 2));
+        assertEquals("01010", matches(StandardCharsets.ISO_8859_1, 2, GREATER, 1.5f));
+        assertEquals("00111", matches(StandardCharsets.ISO_8859_1, 2, LESS_OR_EQUAL, 0));
+    }
+
+    @Test
+    public void testSwap() {
+        for (Operator operator : Operator.values()) {
+            assertEquals(operator, operator.swap().swap());
+        }
+        assertEquals(GREATER, LESS.swap());
+        assertEquals(EQUAL, EQUAL.swap());
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(42, parseLong("   42"));
+        assertEquals(-42, parseLong("-42  "));
+        assertEquals(42, parseLong("+42"));
+        assertEquals(123456789012345678L, parseLong("123456789012345678"));
+        assertEquals(DbaseFileReader.NOT_A_LONG, parseLong("1234567890123456789"));
+        assertEquals(DbaseFileReader.NOT_A_LONG, parseLong("     "));
+        assertEquals(DbaseFileReader.NOT_A_LONG, parseLong("-"));
+        assertEquals(DbaseFileReader.NOT_A_LONG, parseLong("4.5"));
+        assertEquals(DbaseFileReader.NOT_A_LONG, parseLong("*****"));
+    }
+
+    @Test
+    public void testReadIntegers() throws Exception {
+        try (DbaseFileReader reader = createReader(StandardCharsets.ISO_8859_1)) {
+            List<Object> values = new ArrayList<>();
+            while (reader.hasNext()) {
+                values.add(reader.readEntry()[1]);
+            }
+            assertEquals(List.of(10, -3, 10), values.subList(0, 3));
+            assertNull(values.get(3));
+            assertEquals(1234567, values.get(4));
+        }
+    }
+
+    private long parseLong(String value) {
+        byte[] bytes = ("#" + value + "#").getBytes(StandardCharsets.ISO_8859_1);
+        return DbaseFileReader.parseLong(bytes, 1, value.length());
+    }
+
+    /** Returns a string with a 1 for each record matching the comparison, 0 otherwise */
+    private String matches(Charset charset, int column, Operator operator, Object value) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        try (DbaseFileReader reader = createReader(charset)) {
+            DbaseFieldComparison comparison = DbaseFieldComparison.build(reader, column, operator, value);
+            assertNotNull(comparison);
+            while (reader.hasNext()) {
+                reader.read();
+                sb.append(comparison.matches() ? '1' : '0');
+            }
+        }
+        return sb.toString();
+    }
+
+    private DbaseFieldComparison build(Charset charset, int column, Operator operator, Object value) throws Exception {
+        try (DbaseFileReader reader = createReader(charset)) {
+            return DbaseFieldComparison.build(reader, column, operator, value);
+        }
+    }
+
+    private DbaseFileReader createReader(Charset charset) throws Exception {
+        DbaseFileHeader header = new DbaseFileHeader(charset);
+        header.addColumn("NAME", 'C', 10, 0);
+        header.addColumn("CODE", 'N', 8, 0);
+        header.addColumn("VALUE", 'N', 12, 3);
+        header.setNumRecords(RECORDS.length);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DbaseFileWriter writer = new DbaseFileWriter(header, Channels.newChannel(out), charset);
+        for (Object[] record : RECORDS) {
+            writer.write(record);
+        }
+        writer.close();
+        return new DbaseFileReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), false, charset);
+    }
+}
@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Set;
 import org.geotools.api.data.DataAccess;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.FeatureListener;
 import org.geotools.api.data.FeatureLock;
 import org.geotools.api.data.Query;
@@ -140,6 +141,11 @@ public int getCount(Query query) throws IOException {
         return delegate.getCount(query);
     }
 
+    @Override
+    public FeatureBatchReader getBatchReader(Query query, int batchSize) throws IOException {
+        return delegate.getBatchReader(query, batchSize);
+    }
+
     @Override
     public Set<Key> getSupportedHints() {
         return delegate.getSupportedHints();
@@ -23,15 +23,15 @@
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -48,8 +48,8 @@
 import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
-import org.geotools.geometry.jts.Geometries;
 import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.util.Converters;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -63,12 +63,6 @@
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
-import tools.jackson.databind.node.ArrayNode;
-import tools.jackson.databind.node.BooleanNode;
-import tools.jackson.databind.node.DoubleNode;
-import tools.jackson.databind.node.IntNode;
-import tools.jackson.databind.node.ObjectNode;
-import tools.jackson.databind.node.StringNode;
 
 /**
  * Utility class to provide a reader for GeoJSON streams
@@ -118,6 +112,9 @@ public class GeoJSONReader implements AutoCloseable {
             .disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
             .build();
 
+    /** Reads the features straight from the token stream, without building a tree for each of them */
+    private final GeoJSONTokenParser tokenParser = new GeoJSONTokenParser(GEOM_FACTORY);
+
     /**
      * ID Strategy. AUTO is autogenerated using basename and incremented integer. PREFIX uses a provided ID and prefix
      * string. PROVIDED uses a provided ID without a prefix. *
@@ -263,11 +260,8 @@ public boolean isConnected() {
     public static SimpleFeature parseFeature(String json) throws StreamReadException, IOException {
         try (JsonParser lParser = factory.createParser(
                 ObjectReadContext.empty(), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
-            ObjectMapper mapper = ObjectMapperFactory.getDefaultMapper();
-            JsonNode node = mapper.readTree(lParser);
             try (GeoJSONReader reader = new GeoJSONReader((InputStream) null)) {
-                SimpleFeature feature = reader.getNextFeature(node);
-                return feature;
+                return reader.readFeature(lParser);
             }
         }
     }
@@ -287,8 +281,6 @@ public static SimpleFeature parseFeature(String json, IdStrategy idStrategy, Str
             throws StreamReadException, IOException {
         try (JsonParser lParser = factory.createParser(
                 ObjectReadContext.empty(), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
-            ObjectMapper mapper = ObjectMapperFactory.getDefaultMapper();
-            JsonNode node = mapper.readTree(lParser);
             try (GeoJSONReader reader = new GeoJSONReader((InputStream) null)) {
                 reader.setIdStrategy(idStrategy);
                 if (idPrefix != null) {
@@ -297,8 +289,7 @@ public static SimpleFeature parseFeature(String json, IdStrategy idStrategy, Str
                 if (idFieldName != null) {
                     reader.setIdFieldName(idFieldName);
                 }
-                SimpleFeature feature = reader.getNextFeature(node);
-                return feature;
+                return reader.readFeature(lParser);
             }
         }
     }
@@ -327,9 +318,7 @@ public static Geometry parseGeometry(String input) {
 
     /** Parses and returns a single feature from the source */
     public SimpleFeature getFeature() throws IOException {
-        ObjectMapper mapper = ObjectMapperFactory.getDefaultMapper();
-        JsonNode node = mapper.readTree(parser);
-        return getNextFeature(node);
+        return readFeature(parser);
     }
 
     /**
@@ -364,9 +353,7 @@ public SimpleFeatureCollection getFeatures() throws IOException {
                     break;
                 }
                 while (parser.nextToken() == JsonToken.START_OBJECT) {
-                    JsonNode node = mapper.readTree(parser);
-                    SimpleFeature feature = getNextFeature(node);
-                    features.add(feature);
+                    features.add(readFeature(parser));
                 }
             }
             // support paged feature collections, OGC API style
@@ -422,7 +409,7 @@ else if ("context".equalsIgnoreCase(name)) {
         // in case no features are found, we'd be without a schema, have an empty one
         // rather than a null one
         if (schema == null) {
-            this.schema = getBuilder(mapper.createObjectNode(), null).getFeatureType();
+            this.schema = getBuilder(Collections.emptyMap(), null).getFeatureType();
         }
 
         // a GeoJSON feature collection has an array of features -> it's an ordered entity
@@ -442,26 +429,18 @@ protected PagingFeatureCollection getPagingFeatureCollection(
         return new PagingFeatureCollection(result, next, matched);
     }
 
-    /** */
-    private SimpleFeature getNextFeature(JsonNode node) throws IOException {
-        JsonNode type = node.get("type");
-        if (type == null) {
-            throw new RuntimeException("Missing object type in GeoJSON Parsing, expected type=Feature here");
-        }
-        if (!"Feature".equalsIgnoreCase(type.asString())) {
-            throw new RuntimeException(
-                    "Unexpected object type in GeoJSON Parsing, expected Feature got '" + type.asString() + "'");
+    /**
+     * Reads the feature the parser is positioned on, straight from the token stream, leaving the parser on the feature
+     * closing token
+     */
+    private SimpleFeature readFeature(JsonParser parser) throws IOException {
+        if (parser.currentToken() == null) {
+            parser.nextToken();
         }
-        JsonNode geom = node.get("geometry");
-
-        // the geometry might have been selected away by a property selection
-        Geometry g = null;
-        if (geom != null && !geom.isNull()) g = GEOM_PARSER.geometryFromJson(geom);
-
-        JsonNode props = node.get("properties");
-        // accommodate for STAC servers that remove the properties object altogether, when
-        // no property is selected using the STAC API Search Fields extension
-        if (props == null) props = mapper.createObjectNode();
+        ParsedFeature parsed = new ParsedFeature();
+        tokenParser.readFeature(parser, parsed);
+        Geometry g = parsed.geometry;
+        Map<String, Object> props = parsed.properties;
 
         if (builder == null
                 || builder.getFeatureType().getGeometryDescriptor() == null && g != null
@@ -478,9 +457,7 @@ private SimpleFeature getNextFeature(JsonNode node) throws IOException {
         while (restart) {
             restart = false;
 
-            Iterator<Entry<String, JsonNode>> fields = props.properties().iterator();
-            while (fields.hasNext()) {
-                Entry<String, JsonNode> n = fields.next();
+            for (Entry<String, Object> n : props.entrySet()) {
                 AttributeDescriptor descriptor = schema.getDescriptor(n.getKey());
                 if (descriptor == null) {
                     // we haven't seen this attribute before
@@ -491,115 +468,78 @@ private SimpleFeature getNextFeature(JsonNode node) throws IOException {
                     setSchemaChanged(true);
                     descriptor = schema.getDescriptor(n.getKey());
                 }
-                Class<?> binding = descriptor.getType().getBinding();
-                if (n.getValue().isNull()) {
-                    builder.set(n.getKey(), null);
-                } else if (binding == Integer.class) {
-                    builder.set(n.getKey(), n.getValue().asInt());
-                } else if (binding == Double.class) {
-                    builder.set(n.getKey(), n.getValue().asDouble());
-                } else if (binding == String.class) {
-                    builder.set(n.getKey(), n.getValue().asString());
-                } else if (binding == Boolean.class) {
-                    builder.set(n.getKey(), n.getValue().booleanValue());
-                } else if (binding == JsonNode.class) {
-                    builder.set(n.getKey(), n.getValue());
-                } else if (binding == List.class) {
-                    ArrayNode array = (ArrayNode) n.getValue();
-                    List<Object> list = new ArrayList<>();
-                    for (int i = 0; i < array.size(); i++) {
-                        JsonNode item = array.get(i);
-                        Object vc;
-                        switch (item.getNodeType()) {
-                            case BOOLEAN:
-                                vc = item.asBoolean();
-                                break;
-                            case NUMBER:
-                                vc = item.asDouble();
-                                break;
-                            case STRING:
-                                vc = item.asString();
-                                break;
-                            case OBJECT:
-                                vc = item;
-                                break;
-                            case ARRAY:
-                                vc = item;
-                                break;
-                            case NULL:
-                                vc = null;
-                                break;
-                            default:
-                                throw new IllegalArgumentException(
-                                        "Cannot handle arrays with values of type " + item.getNodeType());
-                        }
-                        list.add(vc);
-                    }
-                    builder.set(n.getKey(), list);
-                } else if (Geometry.class.isAssignableFrom(binding)) {
-                    Geometry geomAtt = GEOM_PARSER.geometryFromJson(n.getValue());
-                    builder.set(n.getKey(), geomAtt);
-                } else if (Date.class.isAssignableFrom(binding)) {
-                    String text = n.getValue().asString();
-                    Date date = dateParser.parse(text);
-                    if (date != null) {
-                        builder.set(n.getKey(), date);
-                    } else {
-                        // will go through the Converter machinery which, depending on the
-                        // classpath, might try out a larger set of conversions, or end up
-                        // with a null value
-                        builder.set(n.getKey(), n.getValue().asString());
-                    }
-
-                } else {
-                    LOGGER.warning("Unable to parse object of type " + binding);
-                    builder.set(n.getKey(), n.getValue().asString());
-                }
+                builder.set(
+                        n.getKey(), convert(n.getValue(), descriptor.getType().getBinding()));
             }
             if (g != null) builder.set(GEOMETRY_NAME, g);
-            String newId = getOrGenerateId(node);
+            String newId = getOrGenerateId(parsed.members);
             feature = builder.buildFeature(newId);
-            if (node.properties().iterator().hasNext()) {
-                Map<String, Object> topLevelAttributes = new HashMap<>();
-                node.properties().iterator().forEachRemaining(e -> {
-                    String k = e.getKey();
-                    if (!"geometry".equals(k) && !"type".equals(k) && !"properties".equals(k) && !"bbox".equals(k)) {
-                        topLevelAttributes.put(k, e.getValue());
-                    }
-                });
-                if (!topLevelAttributes.isEmpty()) {
-                    feature.getUserData().put(TOP_LEVEL_ATTRIBUTES, topLevelAttributes);
-                }
+            if (!parsed.members.isEmpty()) {
+                Map<String, Object> topLevelAttributes = new HashMap<>(parsed.members);
+                feature.getUserData().put(TOP_LEVEL_ATTRIBUTES, topLevelAttributes);
             }
         }
         return feature;
     }
 
-    private String getOrGenerateId(JsonNode node) {
+    /** Converts a property value, as returned by the token parser, to the attribute binding */
+    private Object convert(Object value, Class<?> binding) {
+        if (value == null) {
+            return null;
+        } else if (binding == Integer.class) {
+            return value instanceof Number number ? number.intValue() : Converters.convert(value, Integer.class);
+        } else if (binding == Long.class) {
+            return value instanceof Number number ? number.longValue() : Converters.convert(value, Long.class);
+        } else if (binding == Double.class) {
+            return value instanceof Number number ? number.doubleValue() : Converters.convert(value, Double.class);
+        } else if (binding == String.class) {
+            return String.valueOf(value);
+        } else if (binding == Boolean.class) {
+            return Boolean.TRUE.equals(value);
+        } else if (binding == JsonNode.class) {
+            if (value instanceof Geometry geometry) {
+                return mapper.readTree(GeoJSONWriter.toGeoJSON(geometry));
+            }
+            return value instanceof JsonNode ? value : mapper.valueToTree(value);
+        } else if (binding == List.class) {
+            return value instanceof List ? value : Collections.singletonList(value);
+        } else if (Geometry.class.isAssignableFrom(binding)) {
+            return value;
+        } else if (Date.class.isAssignableFrom(binding)) {
+            Date date = value instanceof String text ? dateParser.parse(text) : null;
+            // if not a date, will go through the Converter machinery which, depending on the
+            // classpath, might try out a larger set of conversions, or end up with a null value
+            return date != null ? date : value;
+        }
+        LOGGER.warning("Unable to parse object of type " + binding);
+        return String.valueOf(value);
+    }
+
+    private String getOrGenerateId(Map<String, JsonNode> members) {
         switch (idStrategy) {
             case AUTO:
-                return autogenerateId(node);
+                return autogenerateId();
             case PREFIX:
-                return prefixId(node);
+                return prefixId(members);
             case PROVIDED:
-                return providedId(node);
+                return providedId(members);
             default:
                 throw new IllegalArgumentException("Unknown id strategy");
         }
     }
 
-    private String providedId(JsonNode node) {
-        if (idFieldName != null && node.has(idFieldName)) {
-            return node.get(idFieldName).asString();
+    private String providedId(Map<String, JsonNode> members) {
+        if (idFieldName != null && members.containsKey(idFieldName)) {
+            return members.get(idFieldName).asString();
         } else {
             return null; // Passing null to the builder will generate a new id
         }
     }
 
-    private String prefixId(JsonNode node) {
+    private String prefixId(Map<String, JsonNode> members) {
         String id = null;
-        if (idFieldName != null && node.has(idFieldName)) {
-            id = node.get(idFieldName).asString();
+        if (idFieldName != null && members.containsKey(idFieldName)) {
+            id = members.get(idFieldName).asString();
         } else {
             id = UUID.randomUUID().toString();
         }
@@ -610,12 +550,12 @@ private String prefixId(JsonNode node) {
         }
     }
 
-    private String autogenerateId(JsonNode node) {
+    private String autogenerateId() {
         return baseName + "." + nextID++;
     }
 
     /** Create a simpleFeatureBuilder for the current schema + these new properties. */
-    private SimpleFeatureBuilder getBuilder(JsonNode props, Geometry g) {
+    private SimpleFeatureBuilder getBuilder(Map<String, Object> props, Geometry g) {
 
         SimpleFeatureTypeBuilder typeBuilder = new SimpleFeatureTypeBuilder();
         // GeoJSON is always WGS84
@@ -649,38 +589,33 @@ private SimpleFeatureBuilder getBuilder(JsonNode props, Geometry g) {
             }
         }
 
-        Iterator<Entry<String, JsonNode>> fields = props.properties().iterator();
-        while (fields.hasNext()) {
-            Entry<String, JsonNode> n = fields.next();
+        for (Entry<String, Object> n : props.entrySet()) {
             if (existing.contains(n.getKey())) {
                 continue;
             } else {
                 existing.add(n.getKey());
             }
             typeBuilder.nillable(true);
-            JsonNode value = n.getValue();
+            Object value = n.getValue();
 
-            if (value instanceof IntNode) {
+            if (value instanceof Integer) {
                 typeBuilder.add(n.getKey(), Integer.class);
-            } else if (value instanceof DoubleNode) {
+            } else if (value instanceof Long) {
+                typeBuilder.add(n.getKey(), Long.class);
+            } else if (value instanceof Double) {
                 typeBuilder.add(n.getKey(), Double.class);
-            } else if (value instanceof BooleanNode) {
+            } else if (value instanceof Boolean) {
                 typeBuilder.add(n.getKey(), Boolean.class);
-            } else if (value instanceof ObjectNode) {
-                if (Optional.ofNullable(value.get("type"))
-                        .map(t -> t.asString())
-                        .map(t -> Geometries.getForName(t))
-                        .isPresent()) {
-                    typeBuilder.add(n.getKey(), Geometry.class, DefaultGeographicCRS.WGS84);
-                } else {
-                    // a complex object, we don't know what it is going to be
-                    typeBuilder.add(n.getKey(), JsonNode.class);
-                }
-            } else if (value instanceof ArrayNode) {
+            } else if (value instanceof Geometry) {
+                typeBuilder.add(n.getKey(), Geometry.class, DefaultGeographicCRS.WGS84);
+            } else if (value instanceof JsonNode) {
+                // a complex object, we don't know what it is going to be
+                typeBuilder.add(n.getKey(), JsonNode.class);
+            } else if (value instanceof List) {
                 typeBuilder.add(n.getKey(), List.class);
-            } else if (value instanceof StringNode && guessingDates) {
+            } else if (value instanceof String text && guessingDates) {
                 // it could be a date too
-                Date date = dateParser.parse(value.asString());
+                Date date = dateParser.parse(text);
                 if (date != null) {
                     typeBuilder.add(n.getKey(), Date.class);
                 } else {
@@ -753,6 +688,31 @@ public void close() throws IOException {
         }
     }
 
+    /** A feature as found in the document, before being bound to the feature type */
+    private static class ParsedFeature implements GeoJSONTokenParser.FeatureHandler {
+
+        Geometry geometry;
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+
+        Map<String, JsonNode> members = new LinkedHashMap<>();
+
+        @Override
+        public void geometry(Geometry geometry) {
+            this.geometry = geometry;
+        }
+
+        @Override
+        public void property(String name, Object value) {
+            properties.put(name, value);
+        }
+
+        @Override
+        public void member(String name, JsonNode value) {
+            members.put(name, value);
+        }
+    }
+
     private class GeoJsonIterator implements SimpleFeatureIterator, AutoCloseable {
         JsonParser parser;
 
@@ -789,8 +749,7 @@ public boolean hasNext() {
             try {
 
                 if (parser.nextToken() == JsonToken.START_OBJECT) {
-                    JsonNode node = mapper.readTree(parser);
-                    feature = getNextFeature(node);
+                    feature = readFeature(parser);
                     if (feature != null) return true;
                 }
             } catch (IOException e) {
@@ -0,0 +1,384 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FilenameUtils;
+import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.filter.identity.FeatureIdImpl;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * Reads a GeoJSON text sequence file (one feature per line, or per RFC 8142 record) parsing it in parallel. The file is
+ * split in chunks of about {@link #setChunkSize(int) chunkSize} bytes, aligned on line (or record) boundaries, each
+ * chunk is parsed by a {@link GeoJSONStreamReader} on a pool of daemon threads shared by all readers, and the features
+ * are returned in file order.
+ *
+ * <p>The feature type is inferred from a sample taken at the beginning of the file, before the parallel parsing starts,
+ * see {@link GeoJSONStreamReader} for the inference rules.
+ */
+public class GeoJSONSeqParallelReader implements SimpleFeatureReader {
+
+    /** Default size of the chunks handed to the parsing threads */
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService PARSE_POOL =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "gt-geojson-parallel-read-" + THREAD_COUNT.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final Path file;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private int sampleSize = GeoJSONStreamReader.DEFAULT_SAMPLE_SIZE;
+
+    private String typeName;
+
+    private String idPrefix;
+
+    private String idFieldName = "id";
+
+    private IdStrategy idStrategy = IdStrategy.PROVIDED;
+
+    private boolean guessingDates = true;
+
+    private GeometryFactory geometryFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private SimpleFeatureType schema;
+
+    private FileChannel channel;
+
+    private long size;
+
+    private long position;
+
+    private byte separator;
+
+    private boolean started;
+
+    private final ArrayDeque<Future<List<SimpleFeature>>> pending = new ArrayDeque<>();
+
+    private Iterator<SimpleFeature> current = Collections.emptyIterator();
+
+    private int nextID;
+
+    /** Builds a reader for the given file, using the file base name as the type name */
+    public GeoJSONSeqParallelReader(Path file) {
+        this.file = file;
+        this.typeName = FilenameUtils.getBaseName(file.getFileName().toString());
+    }
+
+    /** Returns the number of chunks this reader parses concurrently */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of chunks this reader parses concurrently, defaults to the number of available processors. The
+     * parsing threads are shared among all readers, so this limits the share of the pool a single reader takes.
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be positive");
+        }
+        this.threads = threads;
+    }
+
+    /** Returns the approximate size in bytes of the chunks handed to the parsing threads */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the approximate size in bytes of the chunks handed to the parsing threads, chunks are extended to the end of
+     * the line they stop in
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /** Returns the number of features used to infer the feature type */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /** Sets the number of features used to infer the feature type */
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    /** Returns the name of the inferred feature type */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /** Sets the name of the inferred feature type, also used as the prefix of generated ids */
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /** Returns the strategy used to generate feature ids */
+    public IdStrategy getIdStrategy() {
+        return idStrategy;
+    }
+
+    /** Sets the strategy used to generate feature ids, defaults to {@link IdStrategy#PROVIDED} */
+    public void setIdStrategy(IdStrategy idStrategy) {
+        this.idStrategy = idStrategy;
+    }
+
+    /** Returns the prefix used by the {@link IdStrategy#PREFIX} strategy */
+    public String getIdPrefix() {
+        return idPrefix;
+    }
+
+    /** Sets the prefix used by the {@link IdStrategy#PREFIX} strategy, defaults to the type name */
+    public void setIdPrefix(String idPrefix) {
+        this.idPrefix = idPrefix;
+    }
+
+    /** Returns the name of the top level member holding the feature id */
+    public String getIdFieldName() {
+        return idFieldName;
+    }
+
+    /** Sets the name of the top level member holding the feature id */
+    public void setIdFieldName(String idFieldName) {
+        this.idFieldName = idFieldName;
+    }
+
+    /** Returns true if string properties are checked for dates during the type inference */
+    public boolean isGuessingDates() {
+        return guessingDates;
+    }
+
+    /** Sets whether string properties are checked for dates during the type inference */
+    public void setGuessingDates(boolean guessingDates) {
+        this.guessingDates = guessingDates;
+    }
+
+    /** Returns the factory used to build geometries */
+    public GeometryFactory getGeometryFactory() {
+        return geometryFactory;
+    }
+
+    /** Sets the factory used to build geometries, it will be shared among the parsing threads */
+    public void setGeometryFactory(GeometryFactory geometryFactory) {
+        this.geometryFactory = geometryFactory;
+    }
+
+    /** Sets the feature type to read against, disabling the type inference. Must be called before reading. */
+    public void setSchema(SimpleFeatureType schema) {
+        if (started) {
+            throw new IllegalStateException("The schema must be set before reading");
+        }
+        this.schema = schema;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        if (schema == null) {
+            try (GeoJSONStreamReader reader = new GeoJSONStreamReader(Files.newInputStream(file), true)) {
+                configure(reader);
+                reader.setSampleSize(sampleSize);
+                schema = reader.getFeatureType();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to infer the feature type of " + file, e);
+            }
+        }
+        return schema;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (current.hasNext()) {
+            return true;
+        }
+        start();
+        while (true) {
+            // keep a bounded number of chunks in flight, so that memory stays under control
+            while (pending.size() < threads * 2 && position < size) {
+                long start = position;
+                long end = nextBoundary(start);
+                position = end;
+                pending.add(PARSE_POOL.submit(() -> readChunk(start, end)));
+            }
+            Future<List<SimpleFeature>> future = pending.poll();
+            if (future == null) {
+                return false;
+            }
+            current = get(future).iterator();
+            if (current.hasNext()) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SimpleFeature feature = current.next();
+        if (idStrategy == IdStrategy.AUTO) {
+            // the chunks do not know how many features came before them, number them here
+            SimpleFeature renamed = new SimpleFeatureImpl(
+                    feature.getAttributes(), schema, new FeatureIdImpl(typeName + "." + nextID++));
+            renamed.getUserData().putAll(feature.getUserData());
+            feature = renamed;
+        }
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Future<List<SimpleFeature>> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void start() throws IOException {
+        if (started) {
+            return;
+        }
+        started = true;
+        getFeatureType();
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        size = channel.size();
+        separator = startsWithRecordSeparator() ? (byte) GeoJSONStreamReader.RECORD_SEPARATOR : (byte) '\n';
+    }
+
+    private boolean startsWithRecordSeparator() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int read = channel.read(buffer, 0);
+        for (int i = 0; i < read; i++) {
+            byte b = buffer.get(i);
+            if (!Character.isWhitespace(b)) {
+                return b == GeoJSONStreamReader.RECORD_SEPARATOR;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the end of the chunk starting at the given position. Newline delimited chunks include the final newline,
+     * record separated chunks stop right before the next separator. JSON does not allow either character inside
+     * strings, and UTF-8 never uses them in multibyte sequences, so the boundaries are always safe.
+     */
+    private long nextBoundary(long start) throws IOException {
+        long offset = start + chunkSize;
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == separator) {
+                    return separator == '\n' ? offset + i + 1 : offset + i;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private List<SimpleFeature> readChunk(long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+        InputStream is = new ByteArrayInputStream(buffer.array(), 0, buffer.position());
+        try (GeoJSONStreamReader reader = new GeoJSONStreamReader(is, true)) {
+            configure(reader);
+            reader.setSchema(schema);
+            List<SimpleFeature> features = new ArrayList<>();
+            while (reader.hasNext()) {
+                features.add(reader.next());
+            }
+            return features;
+        }
+    }
+
+    private void configure(GeoJSONStreamReader reader) {
+        reader.setTypeName(typeName);
+        reader.setIdStrategy(idStrategy);
+        reader.setIdPrefix(idPrefix);
+        reader.setIdFieldName(idFieldName);
+        reader.setGuessingDates(guessingDates);
+        reader.setGeometryFactory(geometryFactory);
+    }
+
+    private List<SimpleFeature> get(Future<List<SimpleFeature>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw (IOException) new InterruptedIOException("Interrupted while parsing " + file).initCause(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException exception) {
+                throw exception;
+            } else if (cause instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IOException("Failed to parse " + file, cause);
+        }
+    }
+}
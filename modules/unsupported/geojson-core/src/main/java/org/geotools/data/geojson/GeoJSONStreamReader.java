@@ -0,0 +1,628 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.apache.commons.io.FilenameUtils;
+import org.geotools.api.data.DataSourceException;
+import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.filter.identity.FeatureIdImpl;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.util.Converters;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.core.json.JsonFactoryBuilder;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * A streaming GeoJSON reader working directly on the Jackson token stream, without building a {@link JsonNode} tree for
+ * each feature: coordinates go straight into packed coordinate sequences and property values straight into the
+ * features. Unlike {@link GeoJSONReader}, whose feature type evolves as new properties show up, all features share a
+ * single feature type.
+ *
+ * <p>The feature type is inferred from a sample of the first features (see {@link #setSampleSize(int)}), the sampled
+ * features are kept in memory and returned first, then the rest of the document is streamed against the inferred type.
+ * Properties that do not show up in the sample are ignored. Values that cannot be converted to the inferred type
+ * without loss, such as a decimal number in an integer attribute, make the read fail, asking for a larger sample.
+ * Alternatively, the feature type can be provided with {@link #setSchema}, skipping the inference altogether.
+ *
+ * <p>The reader handles both GeoJSON FeatureCollection documents and GeoJSON text sequences (newline delimited
+ * features, optionally preceded by the RFC 8142 record separator character).
+ */
+public class GeoJSONStreamReader implements SimpleFeatureReader {
+
+    static final Logger LOGGER = Logging.getLogger(GeoJSONStreamReader.class);
+
+    /** Default number of features used to infer the feature type */
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    /** The RFC 8142 record separator */
+    static final int RECORD_SEPARATOR = 0x1E;
+
+    private static final JsonFactory FACTORY = new JsonFactoryBuilder().build();
+
+    private final InputStream is;
+
+    private final boolean sequence;
+
+    private JsonParser parser;
+
+    private GeoJSONTokenParser tokenParser;
+
+    private GeometryFactory geometryFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+    private String typeName = "features";
+
+    private String idPrefix;
+
+    private String idFieldName = "id";
+
+    private IdStrategy idStrategy = IdStrategy.PROVIDED;
+
+    private boolean guessingDates = true;
+
+    private final DateParser dateParser = new DateParser();
+
+    private SimpleFeatureType schema;
+
+    private Map<String, Integer> indexes;
+
+    private Class<?>[] bindings;
+
+    private int geometryIndex = -1;
+
+    private boolean inferred;
+
+    private Set<String> ignored;
+
+    private ArrayDeque<RawFeature> sample;
+
+    private boolean started;
+
+    private boolean finished;
+
+    private SimpleFeature next;
+
+    private int nextID;
+
+    /**
+     * Builds a reader for the given stream
+     *
+     * @param is the GeoJSON source
+     * @param sequence true if the source is a GeoJSON text sequence, false if it's a FeatureCollection
+     */
+    public GeoJSONStreamReader(InputStream is, boolean sequence) {
+        this.sequence = sequence;
+        this.is = sequence ? new RecordSeparatorFilter(is) : is;
+    }
+
+    /**
+     * Builds a reader for the given URL, using the file base name as the type name
+     *
+     * @param url the GeoJSON source
+     * @param sequence true if the source is a GeoJSON text sequence, false if it's a FeatureCollection
+     */
+    public GeoJSONStreamReader(URL url, boolean sequence) throws IOException {
+        this(url.openStream(), sequence);
+        this.typeName = FilenameUtils.getBaseName(url.getPath());
+    }
+
+    /** Returns the number of features used to infer the feature type */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /** Sets the number of features used to infer the feature type, they will be held in memory during the process */
+    public void setSampleSize(int sampleSize) {
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException("The sample size must be positive");
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    /** Returns the name of the inferred feature type */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /** Sets the name of the inferred feature type, also used as the prefix of generated ids */
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /** Returns the strategy used to generate feature ids */
+    public IdStrategy getIdStrategy() {
+        return idStrategy;
+    }
+
+    /** Sets the strategy used to generate feature ids, defaults to {@link IdStrategy#PROVIDED} */
+    public void setIdStrategy(IdStrategy idStrategy) {
+        this.idStrategy = idStrategy;
+    }
+
+    /** Returns the prefix used by the {@link IdStrategy#PREFIX} strategy */
+    public String getIdPrefix() {
+        return idPrefix;
+    }
+
+    /** Sets the prefix used by the {@link IdStrategy#PREFIX} strategy, defaults to the type name */
+    public void setIdPrefix(String idPrefix) {
+        this.idPrefix = idPrefix;
+    }
+
+    /** Returns the name of the top level member holding the feature id */
+    public String getIdFieldName() {
+        return idFieldName;
+    }
+
+    /** Sets the name of the top level member holding the feature id */
+    public void setIdFieldName(String idFieldName) {
+        this.idFieldName = idFieldName;
+    }
+
+    /** Returns true if string properties are checked for dates during the type inference */
+    public boolean isGuessingDates() {
+        return guessingDates;
+    }
+
+    /** Sets whether string properties are checked for dates during the type inference */
+    public void setGuessingDates(boolean guessingDates) {
+        this.guessingDates = guessingDates;
+    }
+
+    /** Returns the factory used to build geometries */
+    public GeometryFactory getGeometryFactory() {
+        return geometryFactory;
+    }
+
+    /**
+     * Sets the factory used to build geometries. Defaults to a factory using packed double coordinate sequences, which
+     * can be filled without creating one object per coordinate.
+     */
+    public void setGeometryFactory(GeometryFactory geometryFactory) {
+        this.geometryFactory = geometryFactory;
+    }
+
+    /** Sets the feature type to read against, disabling the type inference. Must be called before reading. */
+    public void setSchema(SimpleFeatureType schema) {
+        if (started) {
+            throw new IllegalStateException("The schema must be set before reading");
+        }
+        this.schema = schema;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        start();
+        return schema;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (next != null) {
+            return true;
+        }
+        start();
+        BoundFeature bound = new BoundFeature();
+        try {
+            if (!sample.isEmpty()) {
+                sample.poll().replay(bound);
+            } else if (nextFeature()) {
+                tokenParser.readFeature(parser, bound);
+            } else {
+                return false;
+            }
+        } catch (ConversionException e) {
+            throw new DataSourceException(e.getMessage(), e);
+        }
+        next = bound.build();
+        return true;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SimpleFeature result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (parser != null) {
+                parser.close();
+            }
+        } finally {
+            is.close();
+        }
+    }
+
+    /** Positions the parser on the first feature and sets up the feature type */
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        tokenParser = new GeoJSONTokenParser(geometryFactory);
+        parser = FACTORY.createParser(ObjectReadContext.empty(), is);
+        sample = new ArrayDeque<>();
+        if (!sequence && !moveToFeatures()) {
+            finished = true;
+        }
+        if (schema == null) {
+            while (sample.size() < sampleSize && nextFeature()) {
+                RawFeature raw = new RawFeature();
+                tokenParser.readFeature(parser, raw);
+                sample.add(raw);
+            }
+            schema = inferSchema();
+            inferred = true;
+        }
+        indexes = new HashMap<>();
+        bindings = new Class<?>[schema.getAttributeCount()];
+        for (int i = 0; i < bindings.length; i++) {
+            AttributeDescriptor descriptor = schema.getDescriptor(i);
+            indexes.put(descriptor.getLocalName(), i);
+            bindings[i] = descriptor.getType().getBinding();
+        }
+        GeometryDescriptor geometry = schema.getGeometryDescriptor();
+        geometryIndex = geometry != null ? schema.indexOf(geometry.getName()) : -1;
+        ignored = new HashSet<>();
+    }
+
+    /** Looks for the features array in a FeatureCollection, skipping over all other members */
+    private boolean moveToFeatures() {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new StreamReadException(parser, "Expected a GeoJSON FeatureCollection object");
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            if ("features".equalsIgnoreCase(name) && token == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /** Moves the parser to the start of the next feature, returns false if there are no more features */
+    private boolean nextFeature() {
+        if (finished) {
+            return false;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (token == null || !sequence && token == JsonToken.END_ARRAY) {
+            finished = true;
+            return false;
+        }
+        throw new StreamReadException(parser, "Expected a GeoJSON Feature object, got " + token);
+    }
+
+    /** Infers the feature type from the sampled features */
+    private SimpleFeatureType inferSchema() {
+        boolean hasGeometry = false;
+        Class<?> geometryBinding = null;
+        Map<String, Class<?>> properties = new LinkedHashMap<>();
+        for (RawFeature raw : sample) {
+            if (raw.hasGeometry) {
+                hasGeometry = true;
+                if (raw.geometry != null) {
+                    Class<?> binding = raw.geometry.getClass();
+                    if (geometryBinding == null) {
+                        geometryBinding = binding;
+                    } else if (geometryBinding != binding) {
+                        geometryBinding = Geometry.class;
+                    }
+                }
+            }
+            for (Map.Entry<String, Object> entry : raw.properties.entrySet()) {
+                Class<?> binding = getBinding(entry.getValue());
+                properties.put(entry.getKey(), mergeBindings(properties.get(entry.getKey()), binding));
+            }
+        }
+
+        SimpleFeatureTypeBuilder typeBuilder = new SimpleFeatureTypeBuilder();
+        // GeoJSON is always WGS84
+        typeBuilder.setCRS(DefaultGeographicCRS.WGS84);
+        typeBuilder.setName(typeName);
+        if (hasGeometry) {
+            typeBuilder.add(
+                    GeoJSONReader.GEOMETRY_NAME,
+                    geometryBinding != null ? geometryBinding : Geometry.class,
+                    DefaultGeographicCRS.WGS84);
+            typeBuilder.setDefaultGeometry(GeoJSONReader.GEOMETRY_NAME);
+        }
+        for (Map.Entry<String, Class<?>> entry : properties.entrySet()) {
+            Class<?> binding = entry.getValue() != null ? entry.getValue() : String.class;
+            typeBuilder.nillable(true);
+            if (binding == Geometry.class) {
+                typeBuilder.add(entry.getKey(), binding, DefaultGeographicCRS.WGS84);
+            } else {
+                if (binding == String.class) {
+                    typeBuilder.defaultValue("");
+                }
+                typeBuilder.add(entry.getKey(), binding);
+            }
+        }
+        return typeBuilder.buildFeatureType();
+    }
+
+    private Class<?> getBinding(Object value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof String text) {
+            return guessingDates && dateParser.parse(text) != null ? Date.class : String.class;
+        } else if (value instanceof Geometry) {
+            return Geometry.class;
+        } else if (value instanceof List) {
+            return List.class;
+        } else if (value instanceof JsonNode) {
+            return JsonNode.class;
+        }
+        return value.getClass();
+    }
+
+    /** Finds a binding able to hold values of both types, widening numbers and falling back on strings */
+    static Class<?> mergeBindings(Class<?> b1, Class<?> b2) {
+        if (b1 == null || b1 == b2) {
+            return b2;
+        } else if (b2 == null) {
+            return b1;
+        } else if (isNumeric(b1) && isNumeric(b2)) {
+            return b1 == Double.class || b2 == Double.class ? Double.class : Long.class;
+        }
+        return String.class;
+    }
+
+    private static boolean isNumeric(Class<?> binding) {
+        return binding == Integer.class || binding == Long.class || binding == Double.class;
+    }
+
+    /** Converts the value to the attribute binding, failing if that cannot be done without loss */
+    private Object convert(int index, Object value) {
+        Class<?> binding = bindings[index];
+        if (value == null || binding.isInstance(value)) {
+            return value;
+        }
+        boolean numeric = value instanceof Number && isNumeric(binding);
+        Object converted = null;
+        if (numeric) {
+            converted = convertNumber((Number) value, binding);
+        } else if (binding == String.class) {
+            converted = value instanceof JsonNode ? value.toString() : String.valueOf(value);
+        } else if (binding == Date.class && value instanceof String text) {
+            converted = dateParser.parse(text);
+        }
+        if (converted == null && !numeric) {
+            // will go through the Converter machinery, which might try out a larger set of conversions
+            converted = Converters.convert(value, binding);
+        }
+        if (converted == null) {
+            String message = "Cannot convert "
+                    + value
+                    + " to "
+                    + binding.getSimpleName()
+                    + " for attribute "
+                    + schema.getDescriptor(index).getLocalName();
+            if (inferred) {
+                message += ", as inferred from the first " + sampleSize + " features. Increase the sample size, "
+                        + "or provide the feature type with setSchema";
+            }
+            throw new ConversionException(message);
+        }
+        return converted;
+    }
+
+    /** Converts a number to a numeric binding, returns null if the value does not fit */
+    private static Number convertNumber(Number number, Class<?> binding) {
+        if (binding == Double.class) {
+            return number.doubleValue();
+        }
+        long value = number.longValue();
+        if (!(number instanceof Integer || number instanceof Long) && value != number.doubleValue()) {
+            return null;
+        }
+        if (binding == Long.class) {
+            return value;
+        }
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Number) (int) value : null;
+    }
+
+    private String getOrGenerateId(Map<String, JsonNode> members) {
+        switch (idStrategy) {
+            case AUTO:
+                return typeName + "." + nextID++;
+            case PREFIX:
+                String id = getProvidedId(members);
+                if (id == null) {
+                    id = UUID.randomUUID().toString();
+                }
+                return (idPrefix != null ? idPrefix : typeName) + "." + id;
+            case PROVIDED:
+                return getProvidedId(members);
+            default:
+                throw new IllegalArgumentException("Unknown id strategy");
+        }
+    }
+
+    private String getProvidedId(Map<String, JsonNode> members) {
+        if (idFieldName != null && members != null) {
+            JsonNode id = members.get(idFieldName);
+            if (id != null && !id.isNull()) {
+                return id.asString();
+            }
+        }
+        return null;
+    }
+
+    /** Collects the values of a feature directly in the feature type attribute order */
+    private class BoundFeature implements GeoJSONTokenParser.FeatureHandler {
+
+        Object[] values = new Object[bindings.length];
+
+        Map<String, JsonNode> members;
+
+        @Override
+        public void geometry(Geometry geometry) {
+            if (geometryIndex >= 0) {
+                values[geometryIndex] = convert(geometryIndex, geometry);
+            }
+        }
+
+        @Override
+        public void property(String name, Object value) {
+            Integer index = indexes.get(name);
+            if (index != null) {
+                values[index] = convert(index, value);
+            } else if (ignored.add(name) && LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Ignoring property " + name + " as it's not part of the feature type");
+            }
+        }
+
+        @Override
+        public void member(String name, JsonNode value) {
+            if (members == null) {
+                members = new HashMap<>();
+            }
+            members.put(name, value);
+        }
+
+        SimpleFeature build() {
+            String id = getOrGenerateId(members);
+            FeatureIdImpl fid = new FeatureIdImpl(id != null ? id : SimpleFeatureBuilder.createDefaultFeatureId());
+            SimpleFeature feature = new SimpleFeatureImpl(values, schema, fid, false);
+            if (members != null) {
+                feature.getUserData().put(GeoJSONReader.TOP_LEVEL_ATTRIBUTES, members);
+            }
+            return feature;
+        }
+    }
+
+    /** A sampled feature, as found in the document, before the feature type is known */
+    private static class RawFeature implements GeoJSONTokenParser.FeatureHandler {
+
+        boolean hasGeometry;
+
+        Geometry geometry;
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+
+        Map<String, JsonNode> members = new LinkedHashMap<>();
+
+        void replay(GeoJSONTokenParser.FeatureHandler handler) {
+            if (hasGeometry) {
+                handler.geometry(geometry);
+            }
+            properties.forEach(handler::property);
+            members.forEach(handler::member);
+        }
+
+        @Override
+        public void geometry(Geometry geometry) {
+            this.hasGeometry = true;
+            this.geometry = geometry;
+        }
+
+        @Override
+        public void property(String name, Object value) {
+            properties.put(name, value);
+        }
+
+        @Override
+        public void member(String name, JsonNode value) {
+            members.put(name, value);
+        }
+    }
+
+    /** Thrown out of the parser callbacks when a value does not fit the feature type */
+    private static class ConversionException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        ConversionException(String message) {
+            super(message);
+        }
+    }
+
+    /** Turns RFC 8142 record separators into plain whitespace, so that the JSON parser can skip them */
+    private static class RecordSeparatorFilter extends FilterInputStream {
+
+        RecordSeparatorFilter(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            return b == RECORD_SEPARATOR ? ' ' : b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            for (int i = off; i < off + read; i++) {
+                if (b[i] == RECORD_SEPARATOR) {
+                    b[i] = ' ';
+                }
+            }
+            return read;
+        }
+    }
+}
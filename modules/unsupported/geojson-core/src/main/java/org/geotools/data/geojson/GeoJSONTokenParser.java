@@ -0,0 +1,400 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import com.bedatadriven.jackson.datatype.jts.parsers.GenericGeometryParser;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.geotools.geometry.jts.Geometries;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads GeoJSON features straight out of a Jackson token stream, without building an intermediate {@link JsonNode} tree
+ * for the feature and its geometry. Coordinates are collected in packed ordinate arrays and turned into
+ * {@link CoordinateSequence} objects directly, property values are returned as plain Java objects. Only nested JSON
+ * objects and arrays found in the properties, and unknown top level members, are still parsed as trees.
+ */
+class GeoJSONTokenParser {
+
+    /** Receives the parts of a feature, in the order they are found in the document */
+    interface FeatureHandler {
+
+        /** A geometry member was found, the geometry may be null */
+        void geometry(Geometry geometry);
+
+        /** A property was found, the value is a plain Java object, a {@link JsonNode} or a {@link Geometry} */
+        void property(String name, Object value);
+
+        /** A top level member other than type, geometry, properties and bbox was found */
+        void member(String name, JsonNode value);
+    }
+
+    private final GeometryFactory geometryFactory;
+
+    /** Reads the nested objects as trees, the parser is expected to move on after them */
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+            .build();
+
+    private final GenericGeometryParser nodeGeometryParser;
+
+    GeoJSONTokenParser(GeometryFactory geometryFactory) {
+        this.geometryFactory = geometryFactory;
+        this.nodeGeometryParser = new GenericGeometryParser(geometryFactory);
+    }
+
+    /**
+     * Reads a feature, the parser must be positioned on the feature {@link JsonToken#START_OBJECT} token, and will be
+     * left on the matching {@link JsonToken#END_OBJECT} one.
+     */
+    void readFeature(JsonParser parser, FeatureHandler handler) {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new StreamReadException(parser, "Expected a GeoJSON Feature object");
+        }
+        String type = null;
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "type":
+                    type = parser.getValueAsString();
+                    break;
+                case "geometry":
+                    handler.geometry(readGeometry(parser));
+                    break;
+                case "properties":
+                    readProperties(parser, handler);
+                    break;
+                case "bbox":
+                    parser.skipChildren();
+                    break;
+                default:
+                    handler.member(name, MAPPER.readTree(parser));
+            }
+        }
+        if (type == null) {
+            throw new RuntimeException("Missing object type in GeoJSON Parsing, expected type=Feature here");
+        }
+        if (!"Feature".equalsIgnoreCase(type)) {
+            throw new RuntimeException(
+                    "Unexpected object type in GeoJSON Parsing, expected Feature got '" + type + "'");
+        }
+    }
+
+    private void readProperties(JsonParser parser, FeatureHandler handler) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new StreamReadException(parser, "Expected a properties object");
+        }
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            handler.property(name, readValue(parser));
+        }
+    }
+
+    /** Reads the property value the parser is positioned on */
+    private Object readValue(JsonParser parser) {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_STRING:
+                return parser.getString();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        // too large for a long, keep the text
+                        return parser.getString();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case START_ARRAY:
+                return readList(parser);
+            case START_OBJECT:
+                JsonNode node = MAPPER.readTree(parser);
+                if (isGeometry(node)) {
+                    return nodeGeometryParser.geometryFromJson(node);
+                }
+                return node;
+            default:
+                throw new StreamReadException(parser, "Unexpected token " + parser.currentToken());
+        }
+    }
+
+    private List<Object> readList(JsonParser parser) {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            switch (token) {
+                case VALUE_NULL:
+                    list.add(null);
+                    break;
+                case VALUE_TRUE:
+                    list.add(Boolean.TRUE);
+                    break;
+                case VALUE_FALSE:
+                    list.add(Boolean.FALSE);
+                    break;
+                case VALUE_STRING:
+                    list.add(parser.getString());
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    list.add(parser.getDoubleValue());
+                    break;
+                case START_ARRAY:
+                case START_OBJECT:
+                    list.add(MAPPER.readTree(parser));
+                    break;
+                default:
+                    throw new StreamReadException(parser, "Cannot handle arrays with values of type " + token);
+            }
+        }
+        return list;
+    }
+
+    private static boolean isGeometry(JsonNode node) {
+        JsonNode type = node.get("type");
+        return type != null && type.isString() && Geometries.getForName(type.asString()) != null;
+    }
+
+    /**
+     * Reads a geometry, the parser must be positioned on the geometry {@link JsonToken#START_OBJECT} token, or on a
+     * {@link JsonToken#VALUE_NULL} one.
+     */
+    Geometry readGeometry(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new StreamReadException(parser, "Expected a GeoJSON geometry object");
+        }
+        // members can come in any order, coordinates are read before knowing the geometry type
+        String type = null;
+        Object coordinates = Collections.emptyList();
+        List<Geometry> geometries = Collections.emptyList();
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            if ("type".equals(name)) {
+                type = parser.getValueAsString();
+            } else if ("coordinates".equals(name) && token == JsonToken.START_ARRAY) {
+                coordinates = readCoordinates(parser);
+            } else if ("geometries".equals(name) && token == JsonToken.START_ARRAY) {
+                geometries = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    geometries.add(readGeometry(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (type == null) {
+            throw new StreamReadException(parser, "Missing type in GeoJSON geometry");
+        }
+        switch (type) {
+            case "Point":
+                CoordinateSequence point = toSequence(parser, coordinates);
+                return point.size() == 0 ? geometryFactory.createPoint() : geometryFactory.createPoint(point);
+            case "MultiPoint":
+                return geometryFactory.createMultiPoint(toSequence(parser, coordinates));
+            case "LineString":
+                return geometryFactory.createLineString(toSequence(parser, coordinates));
+            case "MultiLineString":
+                List<?> lines = toParts(parser, coordinates);
+                LineString[] lineStrings = new LineString[lines.size()];
+                for (int i = 0; i < lineStrings.length; i++) {
+                    lineStrings[i] = geometryFactory.createLineString(toSequence(parser, lines.get(i)));
+                }
+                return geometryFactory.createMultiLineString(lineStrings);
+            case "Polygon":
+                return toPolygon(parser, coordinates);
+            case "MultiPolygon":
+                List<?> parts = toParts(parser, coordinates);
+                Polygon[] polygons = new Polygon[parts.size()];
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = toPolygon(parser, parts.get(i));
+                }
+                return geometryFactory.createMultiPolygon(polygons);
+            case "GeometryCollection":
+                return geometryFactory.createGeometryCollection(geometries.toArray(new Geometry[geometries.size()]));
+            default:
+                throw new StreamReadException(parser, "Invalid geometry type: " + type);
+        }
+    }
+
+    private Polygon toPolygon(JsonParser parser, Object coordinates) {
+        List<?> rings = toParts(parser, coordinates);
+        if (rings.isEmpty()) {
+            return geometryFactory.createPolygon();
+        }
+        LinearRing shell = geometryFactory.createLinearRing(toSequence(parser, rings.get(0)));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = geometryFactory.createLinearRing(toSequence(parser, rings.get(i + 1)));
+        }
+        return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private List<?> toParts(JsonParser parser, Object coordinates) {
+        if (coordinates instanceof List<?> list) {
+            return list;
+        }
+        throw new StreamReadException(parser, "Unexpected coordinates nesting");
+    }
+
+    private CoordinateSequence toSequence(JsonParser parser, Object coordinates) {
+        if (coordinates instanceof CoordinateSequence sequence) {
+            return sequence;
+        } else if (coordinates instanceof double[] position) {
+            return createSequence(position, 1, position.length);
+        } else if (coordinates instanceof List<?> list && list.isEmpty()) {
+            return geometryFactory.getCoordinateSequenceFactory().create(0, 2);
+        }
+        throw new StreamReadException(parser, "Unexpected coordinates nesting");
+    }
+
+    /**
+     * Reads a coordinates array, the parser must be positioned on its {@link JsonToken#START_ARRAY} token. Returns a
+     * <code>double[]</code> for a single position, a {@link CoordinateSequence} for an array of positions, and a list
+     * of the above for deeper nestings.
+     */
+    private Object readCoordinates(JsonParser parser) {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return Collections.emptyList();
+        }
+        if (token.isNumeric()) {
+            return readPosition(parser);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new StreamReadException(parser, "Expected a coordinates array");
+        }
+        Object first = readCoordinates(parser);
+        if (first instanceof double[] position) {
+            return readSequence(parser, position);
+        }
+        List<Object> parts = new ArrayList<>();
+        parts.add(first);
+        while ((token = parser.nextToken()) == JsonToken.START_ARRAY) {
+            parts.add(readCoordinates(parser));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new StreamReadException(parser, "Expected a coordinates array");
+        }
+        return parts;
+    }
+
+    /** Reads a position, starting from its first ordinate, keeping at most three ordinates */
+    private double[] readPosition(JsonParser parser) {
+        double x = parser.getDoubleValue();
+        if (!parser.nextToken().isNumeric()) {
+            throw new StreamReadException(parser, "A position needs at least two ordinates");
+        }
+        double y = parser.getDoubleValue();
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return new double[] {x, y};
+        }
+        double z = parser.getDoubleValue();
+        // measures and other extra ordinates are not supported, skip them
+        while (parser.nextToken() != JsonToken.END_ARRAY) {}
+        return new double[] {x, y, z};
+    }
+
+    /**
+     * Reads the remaining positions of an array whose first position has already been read, packing all ordinates in a
+     * single array. The dimension of the first position is used for the whole sequence.
+     */
+    private CoordinateSequence readSequence(JsonParser parser, double[] first) {
+        int dimension = first.length;
+        double[] ordinates = new double[dimension * 16];
+        System.arraycopy(first, 0, ordinates, 0, dimension);
+        int size = 1;
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_ARRAY) {
+            int base = size * dimension;
+            if (base + dimension > ordinates.length) {
+                ordinates = Arrays.copyOf(ordinates, ordinates.length * 2);
+            }
+            int read = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (!token.isNumeric()) {
+                    throw new StreamReadException(parser, "Expected a number in a position");
+                }
+                if (read < dimension) {
+                    ordinates[base + read] = parser.getDoubleValue();
+                }
+                read++;
+            }
+            if (read < 2) {
+                throw new StreamReadException(parser, "A position needs at least two ordinates");
+            }
+            for (; read < dimension; read++) {
+                ordinates[base + read] = Double.NaN;
+            }
+            size++;
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new StreamReadException(parser, "Expected a position array");
+        }
+        return createSequence(ordinates, size, dimension);
+    }
+
+    private CoordinateSequence createSequence(double[] ordinates, int size, int dimension) {
+        CoordinateSequenceFactory factory = geometryFactory.getCoordinateSequenceFactory();
+        if (factory instanceof PackedCoordinateSequenceFactory packed) {
+            int length = size * dimension;
+            return packed.create(ordinates.length == length ? ordinates : Arrays.copyOf(ordinates, length), dimension);
+        }
+        CoordinateSequence sequence = factory.create(size, dimension);
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d < dimension; d++) {
+                sequence.setOrdinate(i, d, ordinates[i * dimension + d]);
+            }
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.locationtech.jts.geom.Point;
+import tools.jackson.core.JacksonException;
+
+public class GeoJSONSeqParallelReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadLines() throws IOException {
+        File file = writeFeatures("lines.geojsonl", 5000, "", "\n");
+        try (GeoJSONSeqParallelReader reader = new GeoJSONSeqParallelReader(file.toPath())) {
+            reader.setThreads(4);
+            reader.setChunkSize(1000);
+            reader.setSampleSize(10);
+            reader.setIdStrategy(IdStrategy.AUTO);
+            SimpleFeatureType type = reader.getFeatureType();
+            assertEquals("lines", type.getTypeName());
+            assertEquals(Point.class, type.getGeometryDescriptor().getType().getBinding());
+            assertEquals(Integer.class, type.getDescriptor("n").getType().getBinding());
+            checkFeatures(reader, 5000, true);
+        }
+    }
+
+    @Test
+    public void testReadRecords() throws IOException {
+        File file = writeFeatures("records.geojsons", 2000, "\u001e", "\n");
+        try (GeoJSONSeqParallelReader reader = new GeoJSONSeqParallelReader(file.toPath())) {
+            reader.setThreads(3);
+            reader.setChunkSize(500);
+            checkFeatures(reader, 2000, false);
+        }
+    }
+
+    @Test
+    public void testSingleChunk() throws IOException {
+        File file = writeFeatures("single.geojsonl", 10, "", "\r\n");
+        try (GeoJSONSeqParallelReader reader = new GeoJSONSeqParallelReader(file.toPath())) {
+            checkFeatures(reader, 10, false);
+        }
+    }
+
+    @Test
+    public void testParseError() throws IOException {
+        File file = writeFeatures("broken.geojsonl", 100, "", "\n");
+        Files.write(
+                file.toPath(),
+                "{\"type\":\"Feature\",\"geometry\":[\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        try (GeoJSONSeqParallelReader reader = new GeoJSONSeqParallelReader(file.toPath())) {
+            reader.setChunkSize(100);
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            fail("Should have failed parsing the last line");
+        } catch (JacksonException e) {
+            // fine
+        }
+    }
+
+    private void checkFeatures(GeoJSONSeqParallelReader reader, int count, boolean autoIds) throws IOException {
+        for (int i = 0; i < count; i++) {
+            assertTrue(reader.hasNext());
+            SimpleFeature feature = reader.next();
+            assertEquals(i, feature.getAttribute("n"));
+            assertEquals("name " + i, feature.getAttribute("name"));
+            assertEquals(i, ((Point) feature.getDefaultGeometry()).getX(), 0d);
+            assertEquals(autoIds ? reader.getTypeName() + "." + i : "f" + i, feature.getID());
+        }
+        assertFalse(reader.hasNext());
+    }
+
+    private File writeFeatures(String name, int count, String prefix, String suffix) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(prefix)
+                    .append("{\"type\":\"Feature\",\"id\":\"f")
+                    .append(i)
+                    .append("\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[")
+                    .append(i)
+                    .append(",")
+                    .append(-i)
+                    .append("]},\"properties\":{\"n\":")
+                    .append(i)
+                    .append(",\"name\":\"name ")
+                    .append(i)
+                    .append("\"}}")
+                    .append(suffix);
+        }
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.data.DataSourceException;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.geojson.GeoJSONReader.IdStrategy;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.test.TestData;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactoryBuilder;
+import tools.jackson.databind.JsonNode;
+
+public class GeoJSONStreamReaderTest {
+
+    @Test
+    public void testSameAsGeoJSONReader() throws IOException {
+        for (String name : Arrays.asList("locations.json", "geometryless.json", "propertyless.json", "dates.json")) {
+            URL url = TestData.url(GeoJSONReaderTest.class, name);
+            List<SimpleFeature> expected = new ArrayList<>();
+            SimpleFeatureType expectedType;
+            try (GeoJSONReader reader = new GeoJSONReader(url, IdStrategy.AUTO)) {
+                try (SimpleFeatureIterator it = reader.getFeatures().features()) {
+                    while (it.hasNext()) {
+                        expected.add(it.next());
+                    }
+                }
+                expectedType = (SimpleFeatureType) reader.getSchema();
+            }
+
+            List<SimpleFeature> actual = new ArrayList<>();
+            try (GeoJSONStreamReader reader = new GeoJSONStreamReader(url, false)) {
+                reader.setIdStrategy(IdStrategy.AUTO);
+                SimpleFeatureType type = reader.getFeatureType();
+                assertEquals(name, expectedType.getTypeName(), type.getTypeName());
+                assertEquals(name, expectedType.getAttributeCount(), type.getAttributeCount());
+                for (AttributeDescriptor ad : expectedType.getAttributeDescriptors()) {
+                    assertEquals(
+                            name + "/" + ad.getLocalName(),
+                            ad.getType().getBinding(),
+                            type.getDescriptor(ad.getLocalName()).getType().getBinding());
+                }
+                while (reader.hasNext()) {
+                    actual.add(reader.next());
+                }
+            }
+
+            assertEquals(name, expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                SimpleFeature e = expected.get(i);
+                SimpleFeature a = actual.get(i);
+                assertEquals(name, e.getID(), a.getID());
+                for (AttributeDescriptor ad : e.getFeatureType().getAttributeDescriptors()) {
+                    Object ev = e.getAttribute(ad.getLocalName());
+                    Object av = a.getAttribute(ad.getLocalName());
+                    if (ev instanceof Geometry geometry) {
+                        assertTrue(name + "/" + i, geometry.equalsExact((Geometry) av));
+                    } else {
+                        assertEquals(name + "/" + i + "/" + ad.getLocalName(), ev, av);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGeometries() throws IOException {
+        List<String> geometries = Arrays.asList(
+                "{\"type\":\"Point\",\"coordinates\":[1.5,2.5]}",
+                "{\"coordinates\":[1.5,2.5,3.5],\"type\":\"Point\"}",
+                "{\"type\":\"Point\",\"coordinates\":[]}",
+                "{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4]]}",
+                "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4],[5,6],[7,8]]}",
+                "{\"type\":\"LineString\",\"coordinates\":[[1,2,3],[3,4,5]]}",
+                "{\"type\":\"MultiLineString\",\"coordinates\":[[[1,2],[3,4]],[[5,6],[7,8]]]}",
+                "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[10,0],[10,10],[0,10],[0,0]],"
+                        + "[[1,1],[2,1],[2,2],[1,1]]]}",
+                "{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]],"
+                        + "[[[5,5],[6,5],[6,6],[5,5]]]]}",
+                "{\"type\":\"Polygon\",\"coordinates\":[]}",
+                "{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"Point\",\"coordinates\":[1,2]},"
+                        + "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]}]}");
+        GeoJSONTokenParser tokenParser =
+                new GeoJSONTokenParser(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+        for (String json : geometries) {
+            try (JsonParser parser = new JsonFactoryBuilder().build().createParser(ObjectReadContext.empty(), json)) {
+                parser.nextToken();
+                Geometry actual = tokenParser.readGeometry(parser);
+                Geometry expected = GeoJSONReader.parseGeometry(json);
+                assertEquals(json, expected.getGeometryType(), actual.getGeometryType());
+                assertTrue(json, expected.equalsExact(actual));
+                assertEquals(
+                        json,
+                        expected.getCoordinate() == null
+                                ? Double.NaN
+                                : expected.getCoordinate().getZ(),
+                        actual.getCoordinate() == null
+                                ? Double.NaN
+                                : actual.getCoordinate().getZ(),
+                        0d);
+            }
+        }
+    }
+
+    @Test
+    public void testInference() throws IOException {
+        String json = "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]},"
+                + "\"properties\":{\"i\":1,\"d\":1,\"l\":1,\"s\":\"2020-01-01\",\"n\":null,\"t\":\"2020-01-01\","
+                + "\"b\":true,\"a\":[1,\"a\"],\"o\":{\"x\":1}}}\n"
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]},"
+                + "\"properties\":{\"i\":2,\"d\":1.5,\"l\":10000000000,\"s\":\"abc\",\"n\":null,"
+                + "\"t\":\"2020-01-02\",\"x\":\"extra\"}}\n";
+        try (GeoJSONStreamReader reader = sequenceReader(json)) {
+            SimpleFeatureType type = reader.getFeatureType();
+            assertEquals(DefaultGeographicCRS.WGS84, type.getCoordinateReferenceSystem());
+            assertEquals(Geometry.class, type.getGeometryDescriptor().getType().getBinding());
+            assertEquals("geometry", type.getDescriptor(0).getLocalName());
+            assertEquals(Integer.class, binding(type, "i"));
+            assertEquals(Double.class, binding(type, "d"));
+            assertEquals(Long.class, binding(type, "l"));
+            assertEquals(String.class, binding(type, "s"));
+            assertEquals(String.class, binding(type, "n"));
+            assertEquals(Date.class, binding(type, "t"));
+            assertEquals(Boolean.class, binding(type, "b"));
+            assertEquals(List.class, binding(type, "a"));
+            assertEquals(JsonNode.class, binding(type, "o"));
+            assertEquals(String.class, binding(type, "x"));
+
+            SimpleFeature first = reader.next();
+            assertTrue(first.getDefaultGeometry() instanceof Point);
+            assertEquals(1d, first.getAttribute("d"));
+            assertEquals(1L, first.getAttribute("l"));
+            assertEquals("2020-01-01", first.getAttribute("s"));
+            assertTrue(first.getAttribute("t") instanceof Date);
+            assertEquals(Arrays.asList(1d, "a"), first.getAttribute("a"));
+            assertEquals(1, ((JsonNode) first.getAttribute("o")).get("x").asInt());
+            assertNull(first.getAttribute("x"));
+
+            SimpleFeature second = reader.next();
+            assertTrue(second.getDefaultGeometry() instanceof LineString);
+            assertEquals(2, second.getAttribute("i"));
+            assertEquals(10000000000L, second.getAttribute("l"));
+            assertEquals("abc", second.getAttribute("s"));
+            assertEquals("extra", second.getAttribute("x"));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testSampleSize() throws IOException {
+        String json = "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"i\":1}}\n"
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"i\":2.0,\"x\":1}}\n"
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"i\":2.5}}\n";
+        try (GeoJSONStreamReader reader = sequenceReader(json)) {
+            reader.setSampleSize(1);
+            SimpleFeatureType type = reader.getFeatureType();
+            assertEquals(2, type.getAttributeCount());
+            assertEquals(Integer.class, binding(type, "i"));
+            assertNull(type.getDescriptor("x"));
+
+            assertEquals(1, reader.next().getAttribute("i"));
+            SimpleFeature second = reader.next();
+            // converted to the sampled type
+            assertEquals(2, second.getAttribute("i"));
+            // values not fitting the sampled type fail the read, rather than being lost
+            DataSourceException e = assertThrows(DataSourceException.class, reader::next);
+            assertTrue(e.getMessage(), e.getMessage().contains("Cannot convert 2.5 to Integer for attribute i"));
+        }
+    }
+
+    @Test
+    public void testSchema() throws Exception {
+        String json = "{\"type\":\"Feature\",\"id\":\"f.1\",\"geometry\":{\"type\":\"MultiPolygon\","
+                + "\"coordinates\":[[[[0,0],[1,0],[1,1],[0,0]]]]},\"properties\":{\"name\":\"a\",\"v\":1}}";
+        try (GeoJSONStreamReader reader = sequenceReader(json)) {
+            SimpleFeatureType schema = DataUtilities.createType("test", "geometry:MultiPolygon,v:Double");
+            reader.setSchema(schema);
+            assertEquals(schema, reader.getFeatureType());
+            SimpleFeature feature = reader.next();
+            assertEquals("f.1", feature.getID());
+            assertTrue(feature.getDefaultGeometry() instanceof MultiPolygon);
+            assertEquals(1d, feature.getAttribute("v"));
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testRecordSeparators() throws IOException {
+        String json = "\u001e{\"type\":\"Feature\",\"id\":1,\"geometry\":{\"type\":\"GeometryCollection\","
+                + "\"geometries\":[]},\"properties\":{\"name\":\"a\"}}\n"
+                + "\u001e{\"type\":\"Feature\",\"id\":2,\"geometry\":null,\"properties\":{\"name\":\"b\"}}\n";
+        try (GeoJSONStreamReader reader = sequenceReader(json)) {
+            SimpleFeature first = reader.next();
+            assertEquals("1", first.getID());
+            assertTrue(((GeometryCollection) first.getDefaultGeometry()).isEmpty());
+            SimpleFeature second = reader.next();
+            assertEquals("2", second.getID());
+            assertEquals("b", second.getAttribute("name"));
+            assertNull(second.getDefaultGeometry());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void testIdsAndTopLevelAttributes() throws IOException {
+        String json = "{\"type\":\"Feature\",\"id\":\"a\",\"links\":[1],\"geometry\":null,\"properties\":{}}\n"
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{}}\n";
+        try (GeoJSONStreamReader reader = sequenceReader(json)) {
+            reader.setIdStrategy(IdStrategy.PREFIX);
+            reader.setIdPrefix("p");
+            SimpleFeature first = reader.next();
+            assertEquals("p.a", first.getID());
+            @SuppressWarnings("unchecked")
+            Map<String, Object> topLevel =
+                    (Map<String, Object>) first.getUserData().get(GeoJSONReader.TOP_LEVEL_ATTRIBUTES);
+            assertTrue(topLevel.get("links") instanceof JsonNode);
+            assertTrue(reader.next().getID().startsWith("p."));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        URL url = TestData.url(GeoJSONReaderTest.class, "empty.json");
+        try (GeoJSONStreamReader reader = new GeoJSONStreamReader(url, false)) {
+            assertEquals(0, reader.getFeatureType().getAttributeCount());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    private static Class<?> binding(SimpleFeatureType type, String name) {
+        return type.getDescriptor(name).getType().getBinding();
+    }
+
+    private static GeoJSONStreamReader sequenceReader(String json) {
+        return new GeoJSONStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), true);
+    }
+}
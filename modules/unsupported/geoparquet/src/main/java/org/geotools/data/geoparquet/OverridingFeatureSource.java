@@ -17,13 +17,19 @@
 package org.geotools.data.geoparquet;
 
 import java.io.IOException;
+import java.util.NoSuchElementException;
 import org.geotools.api.data.DataStore;
+import org.geotools.api.data.FeatureBatch;
+import org.geotools.api.data.FeatureBatchReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.filter.Filter;
 import org.geotools.data.duckdb.ForwardingFeatureSource;
+import org.geotools.data.geoparquet.OverridingFeatureCollection.OverridingFeature;
 import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 
 /**
  * A feature source implementation that overrides the schema of its delegate source.
@@ -36,7 +42,7 @@
  *
  * <ul>
  *   <li>Overriding the feature type schema with one that has more specific geometry types
- *   <li>Wrapping feature collections to ensure features report the correct schema
+ *   <li>Wrapping feature collections and batch readers to ensure features report the correct schema
  *   <li>Delegating all other operations to the underlying feature source
  * </ul>
  */
@@ -76,4 +82,114 @@ public SimpleFeatureCollection getFeatures(Filter filter) throws IOException {
     public SimpleFeatureCollection getFeatures(Query query) throws IOException {
         return new OverridingFeatureCollection(delegate.getFeatures(query), overridingType);
     }
+
+    /**
+     * Returns a batch reader for the features specified by a query, setting the GeoParquetDialect.CURRENT_TYPENAME
+     * thread-local variable while the delegate builds the query, as {@link OverridingFeatureCollection#features()}
+     * does.
+     */
+    @Override
+    public FeatureBatchReader getBatchReader(Query query, int batchSize) throws IOException {
+        GeoParquetDialect.CURRENT_TYPENAME.set(overridingType.getTypeName());
+        try {
+            return new OverridingFeatureBatchReader(delegate.getBatchReader(query, batchSize), overridingType);
+        } finally {
+            GeoParquetDialect.CURRENT_TYPENAME.remove();
+        }
+    }
+
+    /**
+     * A batch reader that overrides the feature type of the delegate batches, retyped to the attributes actually read
+     * when the query selects a subset of them.
+     */
+    static class OverridingFeatureBatchReader implements FeatureBatchReader {
+
+        private final FeatureBatchReader batches;
+        private final SimpleFeatureType featureType;
+
+        public OverridingFeatureBatchReader(FeatureBatchReader batches, SimpleFeatureType overridingType) {
+            this.batches = batches;
+            SimpleFeatureType readType = batches.getFeatureType();
+            if (readType.getAttributeCount() == overridingType.getAttributeCount()) {
+                this.featureType = overridingType;
+            } else {
+                String[] names = readType.getAttributeDescriptors().stream()
+                        .map(d -> d.getLocalName())
+                        .toArray(String[]::new);
+                this.featureType = SimpleFeatureTypeBuilder.retype(overridingType, names);
+            }
+        }
+
+        @Override
+        public SimpleFeatureType getFeatureType() {
+            return featureType;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            return batches.hasNext();
+        }
+
+        @Override
+        public FeatureBatch next() throws IOException, NoSuchElementException {
+            return new OverridingFeatureBatch(batches.next(), featureType);
+        }
+
+        @Override
+        public void close() throws IOException {
+            batches.close();
+        }
+    }
+
+    /** A batch wrapper that overrides the feature type of the delegate batch and of the features it builds. */
+    static class OverridingFeatureBatch implements FeatureBatch {
+
+        private final FeatureBatch batch;
+        private final SimpleFeatureType featureType;
+
+        public OverridingFeatureBatch(FeatureBatch batch, SimpleFeatureType featureType) {
+            this.batch = batch;
+            this.featureType = featureType;
+        }
+
+        @Override
+        public SimpleFeatureType getFeatureType() {
+            return featureType;
+        }
+
+        @Override
+        public int size() {
+            return batch.size();
+        }
+
+        @Override
+        public String getID(int row) {
+            return batch.getID(row);
+        }
+
+        @Override
+        public boolean isNull(int column, int row) {
+            return batch.isNull(column, row);
+        }
+
+        @Override
+        public Object getValue(int column, int row) {
+            return batch.getValue(column, row);
+        }
+
+        @Override
+        public double getDouble(int column, int row) {
+            return batch.getDouble(column, row);
+        }
+
+        @Override
+        public long getLong(int column, int row) {
+            return batch.getLong(column, row);
+        }
+
+        @Override
+        public SimpleFeature getFeature(int row) {
+            return new OverridingFeature(batch.getFeature(row), featureType);
+        }
+    }
 }
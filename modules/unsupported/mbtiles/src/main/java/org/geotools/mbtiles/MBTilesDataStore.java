@@ -20,6 +20,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -35,6 +36,7 @@
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.referencing.CRS;
 import org.geotools.referencing.crs.DefaultEngineeringCRS;
+import org.geotools.util.WeightedLoadingCache;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Geometry;
 
@@ -68,6 +70,11 @@ public MBTilesDataStore(MBTilesFile mbtiles) throws IOException {
     }
 
     public MBTilesDataStore(String namespaceURI, MBTilesFile mbtiles) throws IOException {
+        this(namespaceURI, mbtiles, WeightedLoadingCache.getPrefetchExecutor());
+    }
+
+    /** Builds a store prefetching tiles with the given executor, instead of the shared pool */
+    MBTilesDataStore(String namespaceURI, MBTilesFile mbtiles, Executor prefetchExecutor) throws IOException {
         this.namespaceURI = namespaceURI;
         this.mbtiles = mbtiles;
         MBTilesMetadata metadata = mbtiles.loadMetaData();
@@ -91,7 +98,7 @@ public MBTilesDataStore(String namespaceURI, MBTilesFile mbtiles) throws IOExcep
                     "Could not parse the 'json' metadata field, failed to initialize the store", e);
         }
 
-        this.tileCache = new MBtilesCache(schemas);
+        this.tileCache = new MBtilesCache(schemas, prefetchExecutor);
     }
 
     private SimpleFeatureType buildFeatureType(VectorLayerMetadata layerMetadata) {
@@ -131,4 +138,10 @@ protected ContentFeatureSource createFeatureSource(ContentEntry entry) throws IO
         SimpleFeatureType schema = schemas.get(entry.getTypeName());
         return new MBTilesFeatureSource(entry, schema, mbtiles, tileCache);
     }
+
+    @Override
+    public void dispose() {
+        tileCache.clear();
+        super.dispose();
+    }
 }
@@ -53,6 +53,9 @@ class MBTilesFeatureSource extends ContentFeatureSource {
 
     static final Logger LOGGER = Logging.getLogger(MBTilesFeatureSource.class);
 
+    /** Maximum number of tiles prefetched for a single request */
+    static final int MAX_PREFETCH = 64;
+
     private final MBTilesFile mbtiles;
     private final MBtilesCache tileCache;
 
@@ -109,6 +112,7 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         try {
             long z = getTargetZLevel(query);
             List<RectangleLong> tileBounds = getTileBoundsFor(query, z);
+            prefetch(z, tileBounds);
             List<ReaderSupplier> suppliers = tileBounds.stream()
                     .flatMap(tb -> getReaderSuppliersFor(z, tb).stream())
                     .collect(Collectors.toList());
@@ -127,6 +131,49 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         }
     }
 
+    /**
+     * When the request spans tile edges, the client is likely panning or zooming, so the tiles adjacent to the
+     * requested ones, and their parent tiles, are loaded in the background. Large requests are not considered.
+     */
+    protected void prefetch(long z, List<RectangleLong> tileBounds) throws SQLException {
+        RectangleLong levelBounds = mbtiles.getTileBounds(z, false);
+        int budget = MAX_PREFETCH;
+        for (RectangleLong rect : tileBounds) {
+            long tiles = getTileCount(rect);
+            if (tiles <= 1 || tiles > MAX_PREFETCH) {
+                continue;
+            }
+            RectangleLong ring = new RectangleLong(
+                            rect.getMinX() - 1, rect.getMaxX() + 1, rect.getMinY() - 1, rect.getMaxY() + 1)
+                    .intersection(levelBounds);
+            for (long y = ring.getMinY(); y <= ring.getMaxY() && budget > 0; y++) {
+                for (long x = ring.getMinX(); x <= ring.getMaxX() && budget > 0; x++) {
+                    boolean inside =
+                            x >= rect.getMinX() && x <= rect.getMaxX() && y >= rect.getMinY() && y <= rect.getMaxY();
+                    if (!inside && tileCache.prefetch(new MBTilesTileLocation(z, x, y), mbtiles)) {
+                        budget--;
+                    }
+                }
+            }
+            if (z > 0) {
+                for (long y = rect.getMinY() >> 1; y <= rect.getMaxY() >> 1 && budget > 0; y++) {
+                    for (long x = rect.getMinX() >> 1; x <= rect.getMaxX() >> 1 && budget > 0; x++) {
+                        if (tileCache.prefetch(new MBTilesTileLocation(z - 1, x, y), mbtiles)) {
+                            budget--;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static long getTileCount(RectangleLong rect) {
+        if (rect.isNull()) {
+            return 0;
+        }
+        return (rect.getMaxX() - rect.getMinX() + 1) * (rect.getMaxY() - rect.getMinY() + 1);
+    }
+
     protected List<ReaderSupplier> getReaderSuppliersFor(long z, RectangleLong tb) {
         List<ReaderSupplier> result = new ArrayList<>();
 
@@ -27,6 +27,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.GZIPInputStream;
@@ -41,8 +42,7 @@
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.ReferencedEnvelope;
-import org.geotools.util.CanonicalSet;
-import org.geotools.util.SoftValueHashMap;
+import org.geotools.util.WeightedLoadingCache;
 import org.geotools.util.factory.Hints;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.CoordinateSequence;
@@ -51,34 +51,47 @@
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.util.AffineTransformation;
 
-/** Caches MBTiles in their parsed and clipped form, to avoid re-parsing the tiles over and over. */
+/**
+ * Caches MBTiles in their parsed and clipped form, to avoid re-parsing the tiles over and over. The cache is bounded by
+ * the estimated size of the decoded tiles, see {@link #TILE_CACHE_SIZE_KEY}, and can prefetch tiles in the background.
+ */
 class MBtilesCache {
 
     static final Logger LOGGER = Logging.getLogger(MBtilesCache.class);
 
-    CanonicalSet<MBTilesTileLocation> canonicalizer = CanonicalSet.newInstance(MBTilesTileLocation.class);
-    SoftValueHashMap<MBTilesTileLocation, Map<String, CollectionProvider>> cache = new SoftValueHashMap<>(0);
+    /** System property setting the size of the decoded tiles cache, in bytes, for each store */
+    public static final String TILE_CACHE_SIZE_KEY = "org.geotools.mbtiles.tileCacheSize";
+
+    static final long DEFAULT_TILE_CACHE_SIZE = 64 * 1024 * 1024;
+
+    WeightedLoadingCache<MBTilesTileLocation, Map<String, CollectionProvider>> cache;
     Map<String, SimpleFeatureType> schemas = new HashMap<>();
 
     public MBtilesCache(Map<String, SimpleFeatureType> schemas) {
+        this(schemas, WeightedLoadingCache.getPrefetchExecutor());
+    }
+
+    public MBtilesCache(Map<String, SimpleFeatureType> schemas, Executor prefetchExecutor) {
+        this(schemas, Long.getLong(TILE_CACHE_SIZE_KEY, DEFAULT_TILE_CACHE_SIZE), prefetchExecutor);
+    }
+
+    public MBtilesCache(Map<String, SimpleFeatureType> schemas, long maxSize) {
+        this(schemas, maxSize, WeightedLoadingCache.getPrefetchExecutor());
+    }
+
+    public MBtilesCache(Map<String, SimpleFeatureType> schemas, long maxSize, Executor prefetchExecutor) {
         this.schemas = schemas;
+        this.cache = new WeightedLoadingCache<>(maxSize, MBtilesCache::getSize, prefetchExecutor);
     }
 
     public SimpleFeatureCollection getFeatures(MBTilesTile tile, String layerName) throws IOException {
-        MBTilesTileLocation location = canonicalizer.unique(tile.toLocation());
-        Map<String, CollectionProvider> layers = cache.get(location);
+        MBTilesTileLocation location = tile.toLocation();
+        Map<String, CollectionProvider> layers = cache.peek(location);
         if (layers == null) {
-            synchronized (location) {
-                layers = cache.get(location);
-                if (layers == null) {
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(Level.FINE, "Miss for " + tile + ", looking for layer " + layerName);
-                    }
-                    Map<String, List<VectorTileDecoder.Feature>> mvtFeaturesMap = fillCache(tile);
-                    layers = mapToProviders(location, mvtFeaturesMap);
-                    cache.put(location, layers);
-                }
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Miss for " + tile + ", looking for layer " + layerName);
             }
+            layers = cache.get(location, l -> decode(l, tile.getData()));
         } else if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.log(Level.FINE, "Hit for " + tile + ", looking for layer " + layerName);
         }
@@ -87,6 +100,38 @@ public SimpleFeatureCollection getFeatures(MBTilesTile tile, String layerName) t
                 .orElse(null);
     }
 
+    /**
+     * Loads and decodes the tile in the background, if not already cached. Missing tiles are cached as empty ones.
+     *
+     * @return True if the tile load has been scheduled
+     */
+    public boolean prefetch(MBTilesTileLocation location, MBTilesFile mbtiles) {
+        return cache.prefetch(location, l -> {
+            MBTilesTile tile = mbtiles.loadTile(l.getZoomLevel(), l.getTileColumn(), l.getTileRow());
+            return decode(l, tile.getData());
+        });
+    }
+
+    /** Removes all the tiles from the cache */
+    public void clear() {
+        cache.clear();
+    }
+
+    private Map<String, CollectionProvider> decode(MBTilesTileLocation location, byte[] data) throws IOException {
+        if (data == null) {
+            return new HashMap<>();
+        }
+        return mapToProviders(location, fillCache(data));
+    }
+
+    private static long getSize(Map<String, CollectionProvider> layers) {
+        long size = WeightedLoadingCache.VALUE_OVERHEAD;
+        for (CollectionProvider provider : layers.values()) {
+            size += provider.size;
+        }
+        return size;
+    }
+
     public Map<String, CollectionProvider> mapToProviders(
             MBTilesTileLocation location, Map<String, List<VectorTileDecoder.Feature>> mvtFeaturesMap) {
         return mvtFeaturesMap.entrySet().stream().collect(toMap(e -> e.getKey(), e -> {
@@ -96,11 +141,11 @@ public Map<String, CollectionProvider> mapToProviders(
         }));
     }
 
-    private Map<String, List<VectorTileDecoder.Feature>> fillCache(MBTilesTile tile) throws IOException {
+    private Map<String, List<VectorTileDecoder.Feature>> fillCache(byte[] data) throws IOException {
         VectorTileDecoder decoder = new VectorTileDecoder();
         decoder.setAutoScale(false);
 
-        byte[] gzippedData = getPbfFromTile(tile);
+        byte[] gzippedData = getPbfFromTile(data);
         Map<String, List<VectorTileDecoder.Feature>> result = new HashMap<>();
         for (VectorTileDecoder.Feature mvtFeature : decoder.decode(gzippedData)) {
             String layer = mvtFeature.getLayerName();
@@ -121,9 +166,8 @@ private Map<String, List<VectorTileDecoder.Feature>> fillCache(MBTilesTile tile)
         return result;
     }
 
-    private byte[] getPbfFromTile(MBTilesTile tile) throws IOException {
+    private byte[] getPbfFromTile(byte[] raw) throws IOException {
         // from spec, the MVT contents are g-zipped
-        byte[] raw = tile.getData();
         try (GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(raw))) {
             return IOUtils.toByteArray(stream);
         }
@@ -143,7 +187,7 @@ public Map<MBTilesTileLocation, SimpleFeatureCollection> getCachedFeatures(
         Map<MBTilesTileLocation, SimpleFeatureCollection> result = new LinkedHashMap<>();
         tb.forEach((x, y) -> {
             MBTilesTileLocation loc = new MBTilesTileLocation(z, x, y);
-            Map<String, CollectionProvider> tileContents = cache.get(loc);
+            Map<String, CollectionProvider> tileContents = cache.peek(loc);
             if (tileContents != null) {
                 SimpleFeatureCollection features = null;
                 if (tileContents.containsKey(layerName)) {
@@ -308,10 +352,18 @@ private static class CollectionProvider {
         List<VectorTileDecoder.Feature> mvtFeatures;
         volatile SimpleFeatureCollection converted;
         LayerFeatureBuilder builder;
+        final long size;
 
         public CollectionProvider(List<VectorTileDecoder.Feature> mvtFeatures, LayerFeatureBuilder builder) {
             this.mvtFeatures = mvtFeatures;
             this.builder = builder;
+            // geometries are converted in place, the estimate covers both the MVT and the GeoTools features
+            long size = 0;
+            for (VectorTileDecoder.Feature f : mvtFeatures) {
+                size += WeightedLoadingCache.estimateFeatureSize(
+                        f.getGeometry().getNumPoints(), f.getAttributes().size());
+            }
+            this.size = size;
         }
 
         public SimpleFeatureCollection getGeoToolsFeatures() {
@@ -0,0 +1,453 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.mbtiles;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.geometry.jts.GeometryClipper;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Encodes features into a single Mapbox Vector Tile. Geometries are clipped to the tile envelope (plus a buffer), then
+ * quantized to the tile grid and written straight into the protobuf command stream, without building tile space copies
+ * of them. Vertices falling closer than the generalization distance to the previous one are dropped while encoding, in
+ * the same way the renderer {@code Decimator} does.
+ *
+ * <p>The geometries provided to {@link #addFeature(String, SimpleFeature, Geometry)} must be expressed in the same
+ * coordinate reference system as the tile envelope. The output of {@link #encode()} is the raw protobuf, MBTiles
+ * requires it to be gzipped before storage.
+ */
+public class MVTEncoder {
+
+    /** The default tile extent, in tile units */
+    public static final int DEFAULT_EXTENT = 4096;
+
+    /** The default buffer around the tile, in tile units */
+    public static final int DEFAULT_BUFFER = 64;
+
+    // geometry types
+    static final int POINT = 1;
+    static final int LINESTRING = 2;
+    static final int POLYGON = 3;
+
+    // geometry commands
+    static final int MOVE_TO = 1;
+    static final int LINE_TO = 2;
+    static final int CLOSE_PATH = 7;
+
+    // tile, layer, feature and value fields
+    static final int TILE_LAYERS = 3;
+    static final int LAYER_VERSION = 15;
+    static final int LAYER_NAME = 1;
+    static final int LAYER_FEATURES = 2;
+    static final int LAYER_KEYS = 3;
+    static final int LAYER_VALUES = 4;
+    static final int LAYER_EXTENT = 5;
+    static final int FEATURE_ID = 1;
+    static final int FEATURE_TAGS = 2;
+    static final int FEATURE_TYPE = 3;
+    static final int FEATURE_GEOMETRY = 4;
+    static final int VALUE_STRING = 1;
+    static final int VALUE_FLOAT = 2;
+    static final int VALUE_DOUBLE = 3;
+    static final int VALUE_SINT = 6;
+    static final int VALUE_BOOL = 7;
+
+    private final int extent;
+
+    private final double minX, maxY, scaleX, scaleY;
+
+    private final double generalizationDistance;
+
+    private final GeometryClipper clipper;
+
+    private final Map<String, Layer> layers = new LinkedHashMap<>();
+
+    /** Encoded geometry commands of the current feature */
+    private int[] commands = new int[256];
+
+    private int commandCount;
+
+    /** Quantized coordinates of the current part, as x/y pairs */
+    private int[] part = new int[256];
+
+    private int partCount;
+
+    /** The geometry cursor, relative moves are computed from it */
+    private int cursorX, cursorY;
+
+    private int[] tags = new int[32];
+
+    private final ProtobufWriter featureWriter = new ProtobufWriter();
+
+    /**
+     * Builds an encoder with the default extent and buffer, and no generalization beyond the tile grid resolution.
+     *
+     * @param tileEnvelope The tile envelope, in the coordinate reference system of the geometries
+     */
+    public MVTEncoder(Envelope tileEnvelope) {
+        this(tileEnvelope, DEFAULT_EXTENT, DEFAULT_BUFFER, 0);
+    }
+
+    /**
+     * Builds a new encoder
+     *
+     * @param tileEnvelope The tile envelope, in the coordinate reference system of the geometries
+     * @param extent The number of tile units along each side of the tile
+     * @param buffer The buffer around the tile, in tile units, used to clip the geometries
+     * @param generalizationDistance The distance, in tile units, below which consecutive vertices are merged. Zero only
+     *     removes vertices collapsing on the same tile unit.
+     */
+    public MVTEncoder(Envelope tileEnvelope, int extent, int buffer, double generalizationDistance) {
+        if (extent <= 0) {
+            throw new IllegalArgumentException("The tile extent must be positive, but was " + extent);
+        }
+        this.extent = extent;
+        this.minX = tileEnvelope.getMinX();
+        this.maxY = tileEnvelope.getMaxY();
+        this.scaleX = extent / tileEnvelope.getWidth();
+        this.scaleY = extent / tileEnvelope.getHeight();
+        this.generalizationDistance = Math.max(0, generalizationDistance);
+        Envelope clip = new Envelope(tileEnvelope);
+        clip.expandBy(buffer / scaleX, buffer / scaleY);
+        this.clipper = new GeometryClipper(clip);
+    }
+
+    /**
+     * Adds a feature to the tile. All non geometric attributes of the feature are encoded as tags, the numeric suffix
+     * of the feature id, if any, as the feature id.
+     *
+     * @param layerName The layer the feature belongs to
+     * @param feature The feature providing the id and the attributes
+     * @param geometry The feature geometry, in the coordinate reference system of the tile envelope
+     * @return true if the feature has been added, false if its geometry did not contribute anything to the tile
+     */
+    public boolean addFeature(String layerName, SimpleFeature feature, Geometry geometry) {
+        if (geometry == null || geometry.isEmpty()) return false;
+        // heterogeneous collections, encode each element as a separate feature
+        if (geometry.getClass() == GeometryCollection.class) {
+            boolean added = false;
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                added |= addFeature(layerName, feature, geometry.getGeometryN(i));
+            }
+            return added;
+        }
+
+        Geometry clipped = clipper.clipSafe(geometry, false, 0);
+        if (clipped == null || clipped.isEmpty()) return false;
+        int type = encodeGeometry(clipped);
+        if (type == 0) return false;
+
+        Layer layer = layers.computeIfAbsent(layerName, Layer::new);
+        int tagCount = layer.collectTags(feature);
+
+        ProtobufWriter writer = featureWriter;
+        writer.reset();
+        long id = getNumericId(feature.getID());
+        if (id >= 0) {
+            writer.writeVarint(FEATURE_ID, id);
+        }
+        if (tagCount > 0) {
+            writer.writePacked(FEATURE_TAGS, tags, tagCount);
+        }
+        writer.writeVarint(FEATURE_TYPE, type);
+        writer.writePacked(FEATURE_GEOMETRY, commands, commandCount);
+        layer.features.writeMessage(LAYER_FEATURES, writer);
+        layer.featureCount++;
+        return true;
+    }
+
+    /** Returns true if no feature has been added to the tile */
+    public boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    /** Returns the number of features added to the given layer */
+    public int getFeatureCount(String layerName) {
+        Layer layer = layers.get(layerName);
+        return layer == null ? 0 : layer.featureCount;
+    }
+
+    /** Encodes the tile, returning the raw protobuf bytes */
+    public byte[] encode() {
+        ProtobufWriter tile = new ProtobufWriter(
+                layers.values().stream().mapToInt(l -> l.features.size()).sum() + 1024);
+        ProtobufWriter layerWriter = new ProtobufWriter();
+        ProtobufWriter valueWriter = new ProtobufWriter(32);
+        for (Layer layer : layers.values()) {
+            layerWriter.reset();
+            layerWriter.writeVarint(LAYER_VERSION, 2);
+            layerWriter.writeString(LAYER_NAME, layer.name);
+            layerWriter.writeBytes(layer.features.buffer, 0, layer.features.size());
+            for (String key : layer.keys.keySet()) {
+                layerWriter.writeString(LAYER_KEYS, key);
+            }
+            for (Object value : layer.values.keySet()) {
+                valueWriter.reset();
+                writeValue(valueWriter, value);
+                layerWriter.writeMessage(LAYER_VALUES, valueWriter);
+            }
+            layerWriter.writeVarint(LAYER_EXTENT, extent);
+            tile.writeMessage(TILE_LAYERS, layerWriter);
+        }
+        return tile.toByteArray();
+    }
+
+    /** Encodes the geometry commands, returns the MVT geometry type, or zero if nothing was left to encode */
+    private int encodeGeometry(Geometry geometry) {
+        commandCount = 0;
+        cursorX = 0;
+        cursorY = 0;
+        if (geometry instanceof Point || geometry instanceof MultiPoint) {
+            // a single MoveTo with all the points, duplicates are kept, they are separate features
+            int header = commandCount;
+            addCommand(0);
+            int count = 0;
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                Point point = (Point) geometry.getGeometryN(i);
+                if (point.isEmpty()) continue;
+                CoordinateSequence cs = point.getCoordinateSequence();
+                moveCursor(tileX(cs.getX(0)), tileY(cs.getY(0)));
+                count++;
+            }
+            if (count == 0) return 0;
+            commands[header] = command(MOVE_TO, count);
+            return POINT;
+        } else if (geometry instanceof LineString || geometry instanceof MultiLineString) {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                LineString line = (LineString) geometry.getGeometryN(i);
+                if (collectPart(line.getCoordinateSequence(), false) >= 2) {
+                    writePart(false, false);
+                }
+            }
+            return commandCount > 0 ? LINESTRING : 0;
+        } else if (geometry instanceof Polygon || geometry instanceof MultiPolygon) {
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                Polygon polygon = (Polygon) geometry.getGeometryN(i);
+                if (collectPart(polygon.getExteriorRing().getCoordinateSequence(), true) < 3) continue;
+                long area = partArea();
+                // the exterior ring collapsed
+                if (area == 0) continue;
+                writePart(true, area < 0);
+                for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+                    if (collectPart(polygon.getInteriorRingN(j).getCoordinateSequence(), true) < 3) continue;
+                    area = partArea();
+                    if (area == 0) continue;
+                    writePart(true, area > 0);
+                }
+            }
+            return commandCount > 0 ? POLYGON : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Quantizes the coordinate sequence into {@link #part}, dropping vertices closer than the generalization distance
+     * to the previous one, but always keeping the last one. For rings, the closing vertex is not collected. Returns the
+     * number of collected vertices.
+     */
+    private int collectPart(CoordinateSequence cs, boolean ring) {
+        partCount = 0;
+        int size = cs.size();
+        if (ring && size > 1) size--;
+        if (size == 0) return 0;
+        ensurePartCapacity(size);
+        int lastX = tileX(cs.getX(0));
+        int lastY = tileY(cs.getY(0));
+        part[0] = lastX;
+        part[1] = lastY;
+        partCount = 1;
+        final double d = generalizationDistance;
+        for (int i = 1; i < size; i++) {
+            int x = tileX(cs.getX(i));
+            int y = tileY(cs.getY(i));
+            if (Math.abs(x - lastX) <= d && Math.abs(y - lastY) <= d) {
+                // keep the end of lines in place
+                if (i == size - 1 && !ring && (x != lastX || y != lastY) && partCount > 1) {
+                    part[partCount * 2 - 2] = x;
+                    part[partCount * 2 - 1] = y;
+                }
+                continue;
+            }
+            part[partCount * 2] = x;
+            part[partCount * 2 + 1] = y;
+            partCount++;
+            lastX = x;
+            lastY = y;
+        }
+        // a ring whose last vertex collapsed on the first one
+        if (ring && partCount > 1 && part[0] == lastX && part[1] == lastY) {
+            partCount--;
+        }
+        return partCount;
+    }
+
+    /** Returns twice the signed area of the collected ring, positive when clockwise on screen (y axis down) */
+    private long partArea() {
+        long area = 0;
+        for (int i = 0, j = partCount - 1; i < partCount; j = i++) {
+            area += (long) part[j * 2] * part[i * 2 + 1] - (long) part[i * 2] * part[j * 2 + 1];
+        }
+        return area;
+    }
+
+    /** Writes the collected part as a MoveTo, LineTo and, for rings, ClosePath sequence */
+    private void writePart(boolean ring, boolean reverse) {
+        ensureCommandCapacity(partCount * 2 + 3);
+        int first = reverse ? partCount - 1 : 0;
+        addCommand(command(MOVE_TO, 1));
+        moveCursor(part[first * 2], part[first * 2 + 1]);
+        addCommand(command(LINE_TO, partCount - 1));
+        for (int k = 1; k < partCount; k++) {
+            int i = reverse ? partCount - 1 - k : k;
+            moveCursor(part[i * 2], part[i * 2 + 1]);
+        }
+        if (ring) {
+            addCommand(command(CLOSE_PATH, 1));
+        }
+    }
+
+    private void moveCursor(int x, int y) {
+        ensureCommandCapacity(2);
+        commands[commandCount++] = ProtobufWriter.zigZag(x - cursorX);
+        commands[commandCount++] = ProtobufWriter.zigZag(y - cursorY);
+        cursorX = x;
+        cursorY = y;
+    }
+
+    private void addCommand(int command) {
+        ensureCommandCapacity(1);
+        commands[commandCount++] = command;
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private int tileX(double x) {
+        return (int) Math.round((x - minX) * scaleX);
+    }
+
+    private int tileY(double y) {
+        return (int) Math.round((maxY - y) * scaleY);
+    }
+
+    private void ensureCommandCapacity(int additional) {
+        if (commandCount + additional > commands.length) {
+            commands = Arrays.copyOf(commands, Math.max(commands.length * 2, commandCount + additional));
+        }
+    }
+
+    private void ensurePartCapacity(int vertices) {
+        if (vertices * 2 > part.length) {
+            part = new int[Math.max(part.length * 2, vertices * 2)];
+        }
+    }
+
+    /** Returns the numeric suffix of a feature id (e.g., 12 for "roads.12"), or -1 if not available */
+    static long getNumericId(String fid) {
+        if (fid == null) return -1;
+        int start = fid.lastIndexOf('.') + 1;
+        if (start >= fid.length()) return -1;
+        long id = 0;
+        for (int i = start; i < fid.length(); i++) {
+            char c = fid.charAt(i);
+            if (c < '0' || c > '9' || id > (Long.MAX_VALUE - 9) / 10) return -1;
+            id = id * 10 + (c - '0');
+        }
+        return id;
+    }
+
+    /**
+     * Normalizes an attribute value to one of the types supported by the specification, so that equal values share the
+     * same dictionary entry
+     */
+    static Object normalizeValue(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Double || value instanceof Float) {
+            return value;
+        } else if (value instanceof Long
+                || value instanceof Integer
+                || value instanceof Short
+                || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigDecimal) {
+            return ((Number) value).doubleValue();
+        }
+        return value.toString();
+    }
+
+    private static void writeValue(ProtobufWriter writer, Object value) {
+        if (value instanceof String string) {
+            writer.writeString(VALUE_STRING, string);
+        } else if (value instanceof Long l) {
+            writer.writeSInt(VALUE_SINT, l);
+        } else if (value instanceof Double d) {
+            writer.writeDouble(VALUE_DOUBLE, d);
+        } else if (value instanceof Float f) {
+            writer.writeFloat(VALUE_FLOAT, f);
+        } else if (value instanceof Boolean b) {
+            writer.writeBoolean(VALUE_BOOL, b);
+        }
+    }
+
+    /** A layer being built, with its encoded features and the key and value dictionaries */
+    private class Layer {
+        final String name;
+        final ProtobufWriter features = new ProtobufWriter(4096);
+        final Map<String, Integer> keys = new LinkedHashMap<>();
+        final Map<Object, Integer> values = new LinkedHashMap<>();
+        int featureCount;
+
+        Layer(String name) {
+            this.name = name;
+        }
+
+        /** Collects the feature attributes as key/value index pairs in {@link #tags}, returns their count */
+        int collectTags(SimpleFeature feature) {
+            List<AttributeDescriptor> descriptors = feature.getFeatureType().getAttributeDescriptors();
+            if (tags.length < descriptors.size() * 2) {
+                tags = new int[descriptors.size() * 2];
+            }
+            int count = 0;
+            for (int i = 0; i < descriptors.size(); i++) {
+                AttributeDescriptor descriptor = descriptors.get(i);
+                if (descriptor instanceof GeometryDescriptor) continue;
+                Object value = feature.getAttribute(i);
+                if (value == null) continue;
+                value = normalizeValue(value);
+                tags[count++] = keys.computeIfAbsent(descriptor.getLocalName(), k -> keys.size());
+                tags[count++] = values.computeIfAbsent(value, v -> values.size());
+            }
+            return count;
+        }
+    }
+}
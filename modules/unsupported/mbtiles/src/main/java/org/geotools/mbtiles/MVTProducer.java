@@ -0,0 +1,316 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.mbtiles;
+
+import static org.geotools.mbtiles.MBTilesFile.SPHERICAL_MERCATOR;
+import static org.geotools.mbtiles.MBTilesFile.WORLD_ENVELOPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.geometry.jts.GeometryClipper;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.CRS;
+import org.geotools.util.logging.Logging;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Produces Mapbox Vector Tiles out of feature sources, for a set of tiles of the MBTiles (spherical mercator, TMS row
+ * order) grid. Each layer source is scanned only once for all the requested tiles, with each feature being added to all
+ * the tiles it intersects, so that seeding a pyramid does not require querying the source for every tile.
+ *
+ * <p>All the tiles of a call to {@link #produce(Consumer)} are kept in memory until the scan is completed, callers
+ * seeding large areas should split them in batches (e.g., the sub-pyramid under a low zoom level tile).
+ *
+ * <pre>{@code
+ * MVTProducer producer = new MVTProducer();
+ * producer.addTiles(10, 540, 630, 547, 637);
+ * producer.addLayer("roads", roadsSource, Query.ALL);
+ * producer.produce(tile -> mbtiles.saveTile(tile));
+ * }</pre>
+ */
+public class MVTProducer {
+
+    static final Logger LOGGER = Logging.getLogger(MVTProducer.class);
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    private final Set<MBTilesTileLocation> tiles = new LinkedHashSet<>();
+
+    private final List<LayerSource> layers = new ArrayList<>();
+
+    private int extent = MVTEncoder.DEFAULT_EXTENT;
+
+    private int buffer = MVTEncoder.DEFAULT_BUFFER;
+
+    private double generalizationDistance = 0;
+
+    private boolean compress = true;
+
+    /** Adds a tile to be produced, the row follows the TMS convention, starting from the south */
+    public void addTile(long zoomLevel, long column, long row) {
+        tiles.add(new MBTilesTileLocation(zoomLevel, column, row));
+    }
+
+    /** Adds a rectangle of tiles to be produced, bounds included, rows following the TMS convention */
+    public void addTiles(long zoomLevel, long minColumn, long minRow, long maxColumn, long maxRow) {
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                addTile(zoomLevel, column, row);
+            }
+        }
+    }
+
+    /**
+     * Adds a layer to the tiles. The query can be used to filter the features and select the attributes to be encoded,
+     * its type name is ignored, the spatial filter matching the tiles is added automatically.
+     */
+    public void addLayer(String name, SimpleFeatureSource source, Query query) {
+        layers.add(new LayerSource(name, source, query == null ? Query.ALL : query));
+    }
+
+    /** Sets the number of tile units along each side of the tiles, defaults to {@link MVTEncoder#DEFAULT_EXTENT} */
+    public void setExtent(int extent) {
+        this.extent = extent;
+    }
+
+    /** Sets the buffer around each tile, in tile units, defaults to {@link MVTEncoder#DEFAULT_BUFFER} */
+    public void setBuffer(int buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Sets the distance, in tile units, below which consecutive vertices are merged. Defaults to zero, which only
+     * removes vertices collapsing on the same tile unit.
+     */
+    public void setGeneralizationDistance(double generalizationDistance) {
+        this.generalizationDistance = generalizationDistance;
+    }
+
+    /** Sets whether the tiles should be gzipped, as required by MBTiles. Defaults to true */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Produces the tiles, scanning each layer source once. Tiles without any feature are not returned.
+     *
+     * @param consumer Receives the tiles, with their encoded data set, in the order they have been added
+     */
+    public void produce(Consumer<MBTilesTile> consumer) throws IOException {
+        if (tiles.isEmpty()) return;
+
+        // setup the encoders, grouped by zoom level
+        Map<MBTilesTileLocation, MVTEncoder> encoders = new LinkedHashMap<>();
+        Map<Long, List<MBTilesTileLocation>> zoomLevels = new TreeMap<>();
+        ReferencedEnvelope area = new ReferencedEnvelope(SPHERICAL_MERCATOR);
+        for (MBTilesTileLocation tile : tiles) {
+            ReferencedEnvelope envelope = MBTilesFile.toEnvelope(tile);
+            encoders.put(tile, new MVTEncoder(envelope, extent, buffer, generalizationDistance));
+            zoomLevels
+                    .computeIfAbsent(tile.getZoomLevel(), z -> new ArrayList<>())
+                    .add(tile);
+            envelope.expandBy(getBuffer(tile.getZoomLevel()));
+            area.expandToInclude(envelope);
+        }
+
+        for (LayerSource layer : layers) {
+            produceLayer(layer, area, encoders, zoomLevels);
+        }
+
+        for (Map.Entry<MBTilesTileLocation, MVTEncoder> entry : encoders.entrySet()) {
+            MVTEncoder encoder = entry.getValue();
+            if (encoder.isEmpty()) continue;
+            MBTilesTileLocation location = entry.getKey();
+            MBTilesTile tile =
+                    new MBTilesTile(location.getZoomLevel(), location.getTileColumn(), location.getTileRow());
+            byte[] data = encoder.encode();
+            tile.setData(compress ? gzip(data) : data);
+            consumer.accept(tile);
+        }
+    }
+
+    private void produceLayer(
+            LayerSource layer,
+            ReferencedEnvelope area,
+            Map<MBTilesTileLocation, MVTEncoder> encoders,
+            Map<Long, List<MBTilesTileLocation>> zoomLevels)
+            throws IOException {
+        SimpleFeatureType schema = layer.source.getSchema();
+        GeometryDescriptor gd = schema.getGeometryDescriptor();
+        if (gd == null) {
+            throw new IllegalArgumentException("Layer " + layer.name + " does not have a geometry");
+        }
+
+        // reprojection and area of interest in the native CRS
+        CoordinateReferenceSystem crs = gd.getCoordinateReferenceSystem();
+        MathTransform mt = null;
+        ReferencedEnvelope nativeArea = area;
+        try {
+            if (crs != null && !CRS.equalsIgnoreMetadata(crs, SPHERICAL_MERCATOR)) {
+                mt = CRS.findMathTransform(crs, SPHERICAL_MERCATOR, true);
+                nativeArea = area.transform(crs, true);
+            }
+        } catch (FactoryException | TransformException e) {
+            if (mt == null) {
+                throw new IOException("Cannot reproject layer " + layer.name + " to spherical mercator", e);
+            }
+            LOGGER.log(Level.FINE, "Could not compute the tiles area in the layer CRS, will read all features", e);
+            nativeArea = null;
+        }
+
+        Query query = new Query(layer.query);
+        query.setTypeName(schema.getTypeName());
+        if (nativeArea != null) {
+            Filter bbox = FF.bbox(FF.property(gd.getLocalName()), nativeArea);
+            Filter filter = layer.query.getFilter();
+            query.setFilter(filter == null || filter == Filter.INCLUDE ? bbox : FF.and(filter, bbox));
+        }
+        String[] names = query.getPropertyNames();
+        if (names != null && !List.of(names).contains(gd.getLocalName())) {
+            List<String> extended = new ArrayList<>(List.of(names));
+            extended.add(gd.getLocalName());
+            query.setPropertyNames(extended);
+        }
+        // geometries outside of the area are not needed, and might not be valid in spherical mercator (e.g., poles)
+        GeometryClipper nativeClipper = mt != null && nativeArea != null ? new GeometryClipper(nativeArea) : null;
+
+        MBTilesTileLocation key = new MBTilesTileLocation(0, 0, 0);
+        try (SimpleFeatureIterator it = layer.source.getFeatures(query).features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                Geometry geometry = (Geometry) feature.getDefaultGeometry();
+                if (geometry == null || geometry.isEmpty()) continue;
+                if (mt != null) {
+                    try {
+                        if (nativeClipper != null) {
+                            geometry = nativeClipper.clipSafe(geometry, false, 0);
+                            if (geometry == null || geometry.isEmpty()) continue;
+                        }
+                        geometry = JTS.transform(geometry, mt);
+                    } catch (TransformException e) {
+                        LOGGER.log(Level.FINE, "Skipping feature " + feature.getID() + ", cannot be reprojected", e);
+                        continue;
+                    }
+                }
+
+                Envelope envelope = geometry.getEnvelopeInternal();
+                for (Map.Entry<Long, List<MBTilesTileLocation>> entry : zoomLevels.entrySet()) {
+                    addToTiles(
+                            layer.name, feature, geometry, envelope, entry.getKey(), entry.getValue(), encoders, key);
+                }
+            }
+        }
+    }
+
+    /** Adds the feature to the tiles of the given zoom level it intersects */
+    private void addToTiles(
+            String layerName,
+            SimpleFeature feature,
+            Geometry geometry,
+            Envelope envelope,
+            long zoomLevel,
+            List<MBTilesTileLocation> zoomTiles,
+            Map<MBTilesTileLocation, MVTEncoder> encoders,
+            MBTilesTileLocation key) {
+        long tilesForZoom = MBTilesFile.tilesForZoom(zoomLevel);
+        double span = WORLD_ENVELOPE.getSpan(0) / tilesForZoom;
+        double tileBuffer = getBuffer(zoomLevel);
+        long minColumn = toTile(envelope.getMinX() - tileBuffer - WORLD_ENVELOPE.getMinX(), span, tilesForZoom);
+        long maxColumn = toTile(envelope.getMaxX() + tileBuffer - WORLD_ENVELOPE.getMinX(), span, tilesForZoom);
+        long minRow = toTile(envelope.getMinY() - tileBuffer - WORLD_ENVELOPE.getMinY(), span, tilesForZoom);
+        long maxRow = toTile(envelope.getMaxY() + tileBuffer - WORLD_ENVELOPE.getMinY(), span, tilesForZoom);
+
+        long candidates = (maxColumn - minColumn + 1) * (maxRow - minRow + 1);
+        if (candidates <= zoomTiles.size()) {
+            key.setZoomLevel(zoomLevel);
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    key.setTileColumn(column);
+                    key.setTileRow(row);
+                    MVTEncoder encoder = encoders.get(key);
+                    if (encoder != null) {
+                        encoder.addFeature(layerName, feature, geometry);
+                    }
+                }
+            }
+        } else {
+            for (MBTilesTileLocation tile : zoomTiles) {
+                long column = tile.getTileColumn();
+                long row = tile.getTileRow();
+                if (column >= minColumn && column <= maxColumn && row >= minRow && row <= maxRow) {
+                    encoders.get(tile).addFeature(layerName, feature, geometry);
+                }
+            }
+        }
+    }
+
+    private static long toTile(double offset, double span, long tilesForZoom) {
+        long tile = (long) Math.floor(offset / span);
+        return Math.max(0, Math.min(tilesForZoom - 1, tile));
+    }
+
+    /** Returns the tile buffer in spherical mercator units */
+    private double getBuffer(long zoomLevel) {
+        return WORLD_ENVELOPE.getSpan(0) / MBTilesFile.tilesForZoom(zoomLevel) * buffer / extent;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream gos = new GZIPOutputStream(bos)) {
+            gos.write(data);
+        }
+        return bos.toByteArray();
+    }
+
+    private static class LayerSource {
+        final String name;
+        final SimpleFeatureSource source;
+        final Query query;
+
+        LayerSource(String name, SimpleFeatureSource source, Query query) {
+            this.name = name;
+            this.source = source;
+            this.query = query;
+        }
+    }
+}
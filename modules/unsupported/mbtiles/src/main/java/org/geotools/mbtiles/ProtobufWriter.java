@@ -0,0 +1,165 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.mbtiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal protocol buffers writer, covering the wire types used by the Mapbox Vector Tile specification. Writes into a
+ * growable byte array, nested messages are written in a separate writer and then appended with
+ * {@link #writeMessage(int, ProtobufWriter)}.
+ */
+class ProtobufWriter {
+
+    static final int VARINT = 0;
+
+    static final int FIXED64 = 1;
+
+    static final int LENGTH_DELIMITED = 2;
+
+    static final int FIXED32 = 5;
+
+    byte[] buffer;
+
+    int size;
+
+    ProtobufWriter() {
+        this(256);
+    }
+
+    ProtobufWriter(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    /** Returns the number of bytes written so far */
+    int size() {
+        return size;
+    }
+
+    /** Discards the contents, keeping the allocated buffer */
+    void reset() {
+        size = 0;
+    }
+
+    /** Returns a copy of the bytes written so far */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    void writeTag(int field, int wireType) {
+        writeVarint((field << 3) | wireType);
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /** Writes a varint field */
+    void writeVarint(int field, long value) {
+        writeTag(field, VARINT);
+        writeVarint(value);
+    }
+
+    /** Writes a zig-zag encoded varint field ({@code sint64}) */
+    void writeSInt(int field, long value) {
+        writeVarint(field, zigZag(value));
+    }
+
+    void writeBoolean(int field, boolean value) {
+        writeVarint(field, value ? 1 : 0);
+    }
+
+    void writeDouble(int field, double value) {
+        writeTag(field, FIXED64);
+        ensureCapacity(8);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            buffer[size++] = (byte) (bits >>> (i * 8));
+        }
+    }
+
+    void writeFloat(int field, float value) {
+        writeTag(field, FIXED32);
+        ensureCapacity(4);
+        int bits = Float.floatToRawIntBits(value);
+        for (int i = 0; i < 4; i++) {
+            buffer[size++] = (byte) (bits >>> (i * 8));
+        }
+    }
+
+    void writeString(int field, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /** Writes a nested message */
+    void writeMessage(int field, ProtobufWriter message) {
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(message.size);
+        writeBytes(message.buffer, 0, message.size);
+    }
+
+    /** Writes a packed repeated field of unsigned 32 bits integers */
+    void writePacked(int field, int[] values, int length) {
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            bytes += varintSize(values[i] & 0xFFFFFFFFL);
+        }
+        writeTag(field, LENGTH_DELIMITED);
+        writeVarint(bytes);
+        for (int i = 0; i < length; i++) {
+            writeVarint(values[i] & 0xFFFFFFFFL);
+        }
+    }
+
+    void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (size + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+}
@@ -30,6 +30,7 @@
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -327,6 +328,48 @@ public void testGetBBoxWithFilter() throws IOException {
         assertNull(envelope);
     }
 
+    @Test
+    public void testPrefetchNeighbours() throws Exception {
+        File file = URLs.urlToFile(MBTilesFileVectorTileTest.class.getResource("madagascar.mbtiles"));
+        Set<MBTilesTileLocation> loaded = new HashSet<>();
+        MBTilesFile mbtiles = new MBTilesFile(file) {
+            @Override
+            public MBTilesTile loadTile(long zoomLevel, long column, long row) throws IOException {
+                loaded.add(new MBTilesTileLocation(zoomLevel, column, row));
+                return super.loadTile(zoomLevel, column, row);
+            }
+        };
+        // an executor that only queues the prefetches, run on demand
+        List<Runnable> prefetches = new ArrayList<>();
+        this.store = new MBTilesDataStore(null, mbtiles, prefetches::add);
+        SimpleFeatureSource water = store.getFeatureSource("water");
+
+        // spans two tiles at zoom level 7, columns 82 and 83 of row 59
+        BBOX bbox = getMercatorBoxFilter(5635550, 6200000, -1565430, -1252345);
+        countByVisit(water.getFeatures(new Query("water", bbox)));
+
+        // the adjacent tiles and the parent one are scheduled for loading in the background
+        Set<MBTilesTileLocation> expected = new HashSet<>();
+        for (long y = 58; y <= 60; y++) {
+            for (long x = 81; x <= 84; x++) {
+                if (y != 59 || x < 82 || x > 83) {
+                    expected.add(new MBTilesTileLocation(7, x, y));
+                }
+            }
+        }
+        expected.add(new MBTilesTileLocation(6, 41, 29));
+        assertEquals(expected.size(), prefetches.size());
+        prefetches.forEach(Runnable::run);
+        assertEquals(expected, loaded);
+
+        // a request for a single tile does not trigger any prefetch
+        loaded.clear();
+        prefetches.clear();
+        countByVisit(water.getFeatures(new Query("water", getMercatorBoxFilter(5635550, 5948635, -1565430, -1252345))));
+        assertTrue(prefetches.isEmpty());
+        assertTrue(loaded.isEmpty());
+    }
+
     private BBOX getMercatorBoxFilter(double minX, double maxX, double minY, double maxY) {
         return FF.bbox(DEFAULT_GEOM, new ReferencedEnvelope(minX, maxX, minY, maxY, SPHERICAL_MERCATOR));
     }
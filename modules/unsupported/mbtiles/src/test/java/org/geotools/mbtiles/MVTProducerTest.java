@@ -0,0 +1,249 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.mbtiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import no.ecc.vectortile.VectorTileDecoder;
+import org.apache.commons.io.IOUtils;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.CollectionFeatureSource;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
+import org.geotools.referencing.CRS;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKTReader;
+
+public class MVTProducerTest {
+
+    static final Envelope TILE = new Envelope(0, 4096, 0, 4096);
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    WKTReader reader = new WKTReader();
+
+    @Test
+    public void testEncodeGeometries() throws Exception {
+        SimpleFeatureType type =
+                DataUtilities.createType("test", "geom:Geometry,name:String,count:Integer,value:Double");
+        MVTEncoder encoder = new MVTEncoder(TILE);
+        // world coordinates have the y axis going up, tile ones going down
+        assertTrue(add(encoder, "lines", feature(type, "test.1", "LINESTRING(2 4094, 2 4086, 10 4086)")));
+        assertTrue(add(encoder, "polygons", feature(type, "test.2", "POLYGON((10 10, 20 10, 20 20, 10 20, 10 10))")));
+        assertTrue(add(encoder, "points", feature(type, "test.3", "POINT(25 4071)")));
+        assertFalse(add(encoder, "points", feature(type, "test.4", "POINT(25000 25000)")));
+        assertEquals(1, encoder.getFeatureCount("points"));
+
+        Map<String, VectorTileDecoder.Feature> features = decode(encoder.encode());
+        assertEquals(3, features.size());
+
+        VectorTileDecoder.Feature line = features.get("lines");
+        assertEquals(1, line.getId());
+        assertEquals(reader.read("LINESTRING (2 2, 2 10, 10 10)"), line.getGeometry());
+        assertEquals("test.1", line.getAttributes().get("name"));
+        assertEquals(1L, ((Number) line.getAttributes().get("count")).longValue());
+        assertEquals(2.5, ((Number) line.getAttributes().get("value")).doubleValue(), 0d);
+
+        VectorTileDecoder.Feature polygon = features.get("polygons");
+        assertEquals(2, polygon.getId());
+        assertTrue(polygon.getGeometry() instanceof Polygon);
+        assertTrue(polygon.getGeometry().isValid());
+        assertEquals(100, polygon.getGeometry().getArea(), 0d);
+        assertEquals(new Envelope(10, 20, 4076, 4086), polygon.getGeometry().getEnvelopeInternal());
+
+        VectorTileDecoder.Feature point = features.get("points");
+        assertEquals(reader.read("POINT (25 25)"), point.getGeometry());
+    }
+
+    @Test
+    public void testPolygonWithHole() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:Polygon");
+        MVTEncoder encoder = new MVTEncoder(TILE);
+        // shell clockwise and hole counterclockwise, the opposite of what MVT expects in tile space
+        add(
+                encoder,
+                "polygons",
+                feature(
+                        type,
+                        "f.1",
+                        "POLYGON((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 20 10, 20 20, 10 20, 10 10))"));
+        Geometry geometry = decode(encoder.encode()).get("polygons").getGeometry();
+        assertTrue(geometry instanceof Polygon);
+        assertEquals(1, ((Polygon) geometry).getNumInteriorRing());
+        assertEquals(100 * 100 - 10 * 10, geometry.getArea(), 0d);
+    }
+
+    @Test
+    public void testClipAndGeneralize() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:LineString");
+        // a line with a vertex every tile unit, going well beyond the tile
+        Coordinate[] coordinates = new Coordinate[10000];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(i - 2000, 2048);
+        }
+        SimpleFeature feature = SimpleFeatureBuilder.build(
+                type, new Object[] {new GeometryFactory().createLineString(coordinates)}, "f.1");
+
+        MVTEncoder encoder = new MVTEncoder(TILE, 4096, 64, 0);
+        add(encoder, "lines", feature);
+        Geometry clipped = decode(encoder.encode()).get("lines").getGeometry();
+        assertEquals(new Envelope(-64, 4160, 2048, 2048), clipped.getEnvelopeInternal());
+        assertEquals(4096 + 128 + 1, clipped.getNumPoints());
+
+        MVTEncoder generalizing = new MVTEncoder(TILE, 4096, 64, 10);
+        add(generalizing, "lines", feature);
+        LineString generalized =
+                (LineString) decode(generalizing.encode()).get("lines").getGeometry();
+        assertThat(generalized.getNumPoints(), lessThan(500));
+        // the end points are preserved
+        assertEquals(new Coordinate(-64, 2048), generalized.getCoordinateN(0));
+        assertEquals(new Coordinate(4160, 2048), generalized.getCoordinateN(generalized.getNumPoints() - 1));
+    }
+
+    @Test
+    public void testProducePyramidWithSingleScan() throws Exception {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("places");
+        tb.add("geom", Geometry.class, CRS.decode("EPSG:4326", true));
+        tb.add("name", String.class);
+        SimpleFeatureType type = tb.buildFeatureType();
+        ListFeatureCollection collection = new ListFeatureCollection(type);
+        collection.add(SimpleFeatureBuilder.build(type, new Object[] {reader.read("POINT(10 45)"), "point"}, "p.1"));
+        collection.add(SimpleFeatureBuilder.build(
+                type,
+                new Object[] {reader.read("POLYGON((-170 -80, 170 -80, 170 80, -170 80, -170 -80))"), "world"},
+                "p.2"));
+        AtomicInteger queries = new AtomicInteger();
+        CollectionFeatureSource source = new CollectionFeatureSource(collection) {
+            @Override
+            public SimpleFeatureCollection getFeatures(Query query) {
+                queries.incrementAndGet();
+                return super.getFeatures(query);
+            }
+        };
+
+        MVTProducer producer = new MVTProducer();
+        for (int z = 0; z <= 3; z++) {
+            long max = MBTilesFile.tilesForZoom(z) - 1;
+            producer.addTiles(z, 0, 0, max, max);
+        }
+        producer.addLayer("places", source, Query.ALL);
+        List<MBTilesTile> tiles = new ArrayList<>();
+        producer.produce(tiles::add);
+
+        assertEquals(1, queries.get());
+        // the polygon covers (almost) all the tiles, so all of them are returned
+        assertEquals(1 + 4 + 16 + 64, tiles.size());
+
+        // the point is found only in its own tile at zoom level 3 (TMS row)
+        List<String> pointTiles = new ArrayList<>();
+        for (MBTilesTile tile : tiles) {
+            for (VectorTileDecoder.Feature f : new VectorTileDecoder().decode(gunzip(tile.getData()))) {
+                if ("point".equals(f.getAttributes().get("name"))) {
+                    assertTrue(f.getGeometry() instanceof Point);
+                    if (tile.getZoomLevel() == 3) {
+                        pointTiles.add(tile.getTileColumn() + "/" + tile.getTileRow());
+                    }
+                }
+            }
+        }
+        assertEquals(List.of("4/5"), pointTiles);
+    }
+
+    @Test
+    public void testQueryFilter() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:Point:srid=3857,name:String");
+        ListFeatureCollection collection = new ListFeatureCollection(type);
+        collection.add(SimpleFeatureBuilder.build(type, new Object[] {reader.read("POINT(100 100)"), "a"}, "t.1"));
+        collection.add(SimpleFeatureBuilder.build(type, new Object[] {reader.read("POINT(200 200)"), "b"}, "t.2"));
+
+        MVTProducer producer = new MVTProducer();
+        producer.setCompress(false);
+        producer.addTile(0, 0, 0);
+        producer.addLayer(
+                "test",
+                DataUtilities.source(collection),
+                new Query("test", FF.equals(FF.property("name"), FF.literal("b"))));
+        List<MBTilesTile> tiles = new ArrayList<>();
+        producer.produce(tiles::add);
+
+        assertEquals(1, tiles.size());
+        List<Object> names = new ArrayList<>();
+        for (VectorTileDecoder.Feature f :
+                new VectorTileDecoder().decode(tiles.get(0).getData())) {
+            names.add(f.getAttributes().get("name"));
+        }
+        assertEquals(List.of("b"), names);
+    }
+
+    private boolean add(MVTEncoder encoder, String layer, SimpleFeature feature) {
+        return encoder.addFeature(layer, feature, (Geometry) feature.getDefaultGeometry());
+    }
+
+    private SimpleFeature feature(SimpleFeatureType type, String id, String wkt) throws Exception {
+        Object[] values = new Object[type.getAttributeCount()];
+        values[0] = reader.read(wkt);
+        if (values.length > 1) {
+            values[1] = id;
+            values[2] = 1;
+            values[3] = 2.5;
+        }
+        return SimpleFeatureBuilder.build(type, values, id);
+    }
+
+    private Map<String, VectorTileDecoder.Feature> decode(byte[] data) throws IOException {
+        VectorTileDecoder decoder = new VectorTileDecoder();
+        decoder.setAutoScale(false);
+        Map<String, VectorTileDecoder.Feature> result = new HashMap<>();
+        for (VectorTileDecoder.Feature feature : decoder.decode(data)) {
+            result.put(feature.getLayerName(), feature);
+        }
+        return result;
+    }
+
+    private byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream stream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return IOUtils.toByteArray(stream);
+        }
+    }
+}
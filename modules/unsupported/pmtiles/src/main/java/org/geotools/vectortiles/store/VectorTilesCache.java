@@ -0,0 +1,101 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.vectortiles.store;
+
+import io.tileverse.vectortile.model.VectorTile;
+import io.tileverse.vectortile.store.VectorTileStore;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.geotools.util.WeightedLoadingCache;
+import org.geotools.util.WeightedLoadingCache.Loader;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A cache of decoded vector tile features, bounded by their estimated size in bytes, that can be plugged into a
+ * {@link VectorTilesDataStore} with {@link VectorTilesDataStore#setTileCache(VectorTilesCache)}.
+ *
+ * <p>Tiles are cached per layer and zoom level. When a request spans several tiles, the adjacent tiles and the parent
+ * ones are loaded in the background, so that panning and zooming clients find them ready. The same cache can be shared
+ * among several stores.
+ *
+ * <p>Cached features are shared among the requests reading them, and should be treated as read-only. Requests needing
+ * reprojection, or a custom geometry factory, bypass the cache.
+ */
+public class VectorTilesCache {
+
+    /**
+     * Identifies a tile of a given layer, the column and row are relative to the first tile of the zoom level matrix
+     */
+    record TileKey(VectorTileStore store, String layer, int zoomLevel, long column, long row) {}
+
+    private final WeightedLoadingCache<TileKey, List<VectorTile.Layer.Feature>> cache;
+
+    /**
+     * Builds a cache with the given size, prefetching tiles using a shared pool of background threads
+     *
+     * @param maxSize the maximum estimated size of the cached features, in bytes
+     */
+    public VectorTilesCache(long maxSize) {
+        this(maxSize, WeightedLoadingCache.getPrefetchExecutor());
+    }
+
+    /**
+     * Builds a cache with the given size, prefetching tiles with the given executor
+     *
+     * @param maxSize the maximum estimated size of the cached features, in bytes
+     * @param executor the executor used to load tiles in the background
+     */
+    public VectorTilesCache(long maxSize, Executor executor) {
+        this.cache = new WeightedLoadingCache<>(maxSize, VectorTilesCache::getSize, executor);
+    }
+
+    List<VectorTile.Layer.Feature> getFeatures(TileKey key, Loader<TileKey, List<VectorTile.Layer.Feature>> loader)
+            throws IOException {
+        return cache.get(key, loader);
+    }
+
+    boolean prefetch(TileKey key, Loader<TileKey, List<VectorTile.Layer.Feature>> loader) {
+        return cache.prefetch(key, loader);
+    }
+
+    /** Removes all the tiles from the cache */
+    public void clear() {
+        cache.clear();
+    }
+
+    /** Returns the estimated size of the cached features, in bytes */
+    public long getSize() {
+        return cache.getWeight();
+    }
+
+    /** Returns the maximum estimated size of the cached features, in bytes */
+    public long getMaxSize() {
+        return cache.getMaxWeight();
+    }
+
+    private static long getSize(List<VectorTile.Layer.Feature> features) {
+        long size = WeightedLoadingCache.VALUE_OVERHEAD;
+        for (VectorTile.Layer.Feature feature : features) {
+            Geometry geometry = feature.getGeometry();
+            int points = geometry != null ? geometry.getNumPoints() : 0;
+            size += WeightedLoadingCache.estimateFeatureSize(
+                    points, feature.getAttributes().size());
+        }
+        return size;
+    }
+}
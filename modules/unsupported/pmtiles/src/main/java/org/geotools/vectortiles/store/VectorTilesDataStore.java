@@ -82,6 +82,8 @@ public abstract class VectorTilesDataStore extends ContentDataStore {
 
     private int displayTileSize = DEFAULT_DISPLAY_TILE_SIZE;
 
+    private VectorTilesCache tileCache;
+
     /**
      * Creates a new vector tiles datastore.
      *
@@ -131,6 +133,25 @@ public void setDisplayTileSize(int displayTileSize) {
         this.displayTileSize = displayTileSize;
     }
 
+    /**
+     * Returns the cache of decoded tiles used by this datastore, if any.
+     *
+     * @see #setTileCache(VectorTilesCache)
+     */
+    public VectorTilesCache getTileCache() {
+        return tileCache;
+    }
+
+    /**
+     * Sets the cache of decoded tiles, allowing repeated and neighbouring requests to reuse the tiles decoded by
+     * previous ones, and to have adjacent tiles loaded in the background. The cache can be shared among datastores.
+     *
+     * @param tileCache the tile cache, or {@code null} to disable caching (the default)
+     */
+    public void setTileCache(VectorTilesCache tileCache) {
+        this.tileCache = tileCache;
+    }
+
     /**
      * Creates the list of feature type names available in this datastore.
      *
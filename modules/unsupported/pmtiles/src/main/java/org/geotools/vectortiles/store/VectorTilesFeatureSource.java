@@ -34,7 +34,9 @@
 import io.tileverse.vectortile.store.VectorTileStore;
 import io.tileverse.vectortile.store.VectorTilesQuery;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -127,6 +129,12 @@ public class VectorTilesFeatureSource extends ContentFeatureSource {
 
     private static final Logger LOGGER = Logging.getLogger(VectorTilesFeatureSource.class);
 
+    /** Maximum number of tiles prefetched for a single request */
+    static final int MAX_PREFETCH = 64;
+
+    /** Fraction of the tile size the tile extent is shrunk by, when loading a single tile */
+    static final double TILE_EDGE_TOLERANCE = 1e-6;
+
     /** Detects presence of a function call in a filter */
     private static class FunctionDetector extends DefaultFilterVisitor {
 
@@ -336,14 +344,18 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
             return StreamFeatureReader.empty(targetSchema);
         }
 
-        Optional<VectorTilesQuery> vtQuery = toVectorTilesQuery(query);
         Stream<VectorTile.Layer.Feature> vectorTileFeatures;
-
-        if (vtQuery.isEmpty()) {
-            vectorTileFeatures = Stream.empty();
+        VectorTilesCache tileCache = getDataStore().getTileCache();
+        if (tileCache != null && isCacheable(query)) {
+            vectorTileFeatures = getCachedFeatures(tileCache, query);
         } else {
-            VectorTileStore tileStore = getTileStore();
-            vectorTileFeatures = tileStore.getFeatures(vtQuery.orElseThrow());
+            Optional<VectorTilesQuery> vtQuery = toVectorTilesQuery(query);
+            if (vtQuery.isEmpty()) {
+                vectorTileFeatures = Stream.empty();
+            } else {
+                VectorTileStore tileStore = getTileStore();
+                vectorTileFeatures = tileStore.getFeatures(vtQuery.orElseThrow());
+            }
         }
 
         return new VectorTilesFeatureReader(targetSchema, vectorTileFeatures)
@@ -394,6 +406,147 @@ private Optional<VectorTilesQuery> toVectorTilesQuery(Query query) {
         return Optional.of(vtQuery);
     }
 
+    /**
+     * Cached tiles are shared, so they cannot be used when geometries are transformed in place, or built with a custom
+     * geometry factory
+     */
+    private boolean isCacheable(Query query) {
+        Hints hints = query.getHints();
+        return hints.get(JTS_GEOMETRY_FACTORY) == null
+                && hints.get(JTS_COORDINATE_SEQUENCE_FACTORY) == null
+                && findMathTransform(query).isIdentity();
+    }
+
+    /**
+     * Reads the features tile by tile, going through the tile cache, and prefetches the tiles around the requested ones
+     * when the request spans tile edges
+     */
+    private Stream<VectorTile.Layer.Feature> getCachedFeatures(VectorTilesCache tileCache, Query query) {
+        final OptionalInt zoomLevel = determineZoomLevel(query);
+        if (!zoomLevel.isPresent()) {
+            return Stream.empty();
+        }
+        final int z = zoomLevel.getAsInt();
+        final TileGrid grid = new TileGrid(z);
+        Set<VectorTilesCache.TileKey> keys = new LinkedHashSet<>();
+        for (BoundingBox2D extent : queryExtent(query)) {
+            long[] range = grid.range(extent);
+            for (long row = range[2]; row <= range[3]; row++) {
+                for (long column = range[0]; column <= range[1]; column++) {
+                    keys.add(grid.key(column, row));
+                }
+            }
+            prefetch(tileCache, grid, range);
+        }
+
+        final Predicate<VectorTile.Layer.Feature> preFilter = preFilter(query);
+        return keys.stream()
+                .flatMap(key -> {
+                    try {
+                        return tileCache.getFeatures(key, this::loadTile).stream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .filter(preFilter);
+    }
+
+    /** Prefetches the tiles adjacent to the range, and the parent ones, if the range covers a few tiles */
+    private void prefetch(VectorTilesCache tileCache, TileGrid grid, long[] range) {
+        long tiles = (range[1] - range[0] + 1) * (range[3] - range[2] + 1);
+        if (tiles <= 1 || tiles > MAX_PREFETCH) {
+            return;
+        }
+        int budget = MAX_PREFETCH;
+        for (long row = range[2] - 1; row <= range[3] + 1 && budget > 0; row++) {
+            for (long column = range[0] - 1; column <= range[1] + 1 && budget > 0; column++) {
+                boolean inside = column >= range[0] && column <= range[1] && row >= range[2] && row <= range[3];
+                if (!inside && tileCache.prefetch(grid.key(column, row), this::loadTile)) {
+                    budget--;
+                }
+            }
+        }
+        int parentZoom = grid.zoomLevel - 1;
+        if (parentZoom >= getMatrixSet().minZoomLevel() && layerIsVisibleAtZoomLevel(parentZoom)) {
+            TileGrid parent = new TileGrid(parentZoom);
+            long[] parentRange = parent.range(grid.extent(range));
+            for (long row = parentRange[2]; row <= parentRange[3] && budget > 0; row++) {
+                for (long column = parentRange[0]; column <= parentRange[1] && budget > 0; column++) {
+                    if (tileCache.prefetch(parent.key(column, row), this::loadTile)) {
+                        budget--;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Loads all the features of this layer in a single tile, in the tile matrix set CRS */
+    private List<VectorTile.Layer.Feature> loadTile(VectorTilesCache.TileKey key) {
+        TileGrid grid = new TileGrid(key.zoomLevel());
+        // shrink the tile extent a bit, to avoid picking the neighbouring tiles sharing its edges
+        BoundingBox2D extent = grid.extent(new long[] {key.column(), key.column(), key.row(), key.row()});
+        double dx = (extent.maxX() - extent.minX()) * TILE_EDGE_TOLERANCE;
+        double dy = (extent.maxY() - extent.minY()) * TILE_EDGE_TOLERANCE;
+        BoundingBox2D inner =
+                new BoundingBox2D(extent.minX() + dx, extent.minY() + dy, extent.maxX() - dx, extent.maxY() - dy);
+        VectorTilesQuery vtQuery = new VectorTilesQuery()
+                .layers(this.layerMetadata.id())
+                .extent(List.of(inner))
+                .zoomLevel(key.zoomLevel())
+                .geometryFactory(JTSFactoryFinder.getGeometryFactory(null))
+                .transformToCrs(true);
+        try (Stream<VectorTile.Layer.Feature> features = getTileStore().getFeatures(vtQuery)) {
+            return features.toList();
+        }
+    }
+
+    /**
+     * The grid of tiles at a given zoom level, with column and rows relative to the first tile of the matrix, whatever
+     * its position, so that it works regardless of the matrix corner of origin
+     */
+    private class TileGrid {
+        final int zoomLevel;
+        final double originX;
+        final double originY;
+        final double tileWidth;
+        final double tileHeight;
+
+        TileGrid(int zoomLevel) {
+            this.zoomLevel = zoomLevel;
+            BoundingBox2D first =
+                    getMatrixSet().getTileMatrix(zoomLevel).first().extent();
+            this.originX = first.minX();
+            this.originY = first.minY();
+            this.tileWidth = first.maxX() - first.minX();
+            this.tileHeight = first.maxY() - first.minY();
+        }
+
+        /**
+         * Returns the min column, max column, min row and max row of the tiles intersecting the extent, an extent
+         * ending on a tile edge does not include the tile past it
+         */
+        long[] range(BoundingBox2D extent) {
+            long minColumn = (long) Math.floor((extent.minX() - originX) / tileWidth);
+            long maxColumn = (long) Math.ceil((extent.maxX() - originX) / tileWidth) - 1;
+            long minRow = (long) Math.floor((extent.minY() - originY) / tileHeight);
+            long maxRow = (long) Math.ceil((extent.maxY() - originY) / tileHeight) - 1;
+            return new long[] {minColumn, Math.max(minColumn, maxColumn), minRow, Math.max(minRow, maxRow)};
+        }
+
+        /** Returns the extent of a range of tiles */
+        BoundingBox2D extent(long[] range) {
+            return new BoundingBox2D(
+                    originX + range[0] * tileWidth,
+                    originY + range[2] * tileHeight,
+                    originX + (range[1] + 1) * tileWidth,
+                    originY + (range[3] + 1) * tileHeight);
+        }
+
+        VectorTilesCache.TileKey key(long column, long row) {
+            return new VectorTilesCache.TileKey(getTileStore(), layerMetadata.id(), zoomLevel, column, row);
+        }
+    }
+
     private UnaryOperator<Geometry> reprojectFunction(Query query) {
         final MathTransform mathTransform = findMathTransform(query);
 
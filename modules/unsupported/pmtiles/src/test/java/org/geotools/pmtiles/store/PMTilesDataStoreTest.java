@@ -34,8 +34,10 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.geotools.api.data.FeatureStore;
 import org.geotools.api.data.Query;
@@ -57,6 +59,7 @@
 import org.geotools.geometry.jts.JTS;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.CRS;
+import org.geotools.vectortiles.store.VectorTilesCache;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -208,6 +211,43 @@ public void getFeatureSourceGetFeatures() throws IOException {
         }
     }
 
+    /**
+     * Reading through the tile cache returns the same features as reading directly, and repeating the request reuses
+     * the decoded tiles, including the neighbours prefetched by the first request
+     */
+    @Test
+    public void getFeaturesWithTileCache() throws IOException {
+        TileMatrix tileMatrix = store.getTileStore().matrixSet().getTileMatrix(12);
+        BoundingBox2D tileExtent = tileMatrix.first().extent();
+        double width = tileExtent.maxX() - tileExtent.minX();
+        // spans the first tile and the one at its right
+        Polygon geometry = JTS.toGeometry(new Envelope(
+                tileExtent.minX() + width / 2, tileExtent.maxX() + width / 2, tileExtent.minY(), tileExtent.maxY()));
+        Query query = new Query("buildings", store.getFilterFactory().intersects("", geometry));
+        SimpleFeatureSource buildings = store.getFeatureSource("buildings");
+        Set<String> expected = getIds(buildings.getFeatures(query));
+
+        // prefetch synchronously, to get predictable results
+        VectorTilesCache cache = new VectorTilesCache(64 * 1024 * 1024, Runnable::run);
+        store.setTileCache(cache);
+        assertEquals(expected, getIds(buildings.getFeatures(query)));
+        long size = cache.getSize();
+        assertThat(size, greaterThan(0L));
+
+        assertEquals(expected, getIds(buildings.getFeatures(query)));
+        assertEquals(size, cache.getSize());
+    }
+
+    private Set<String> getIds(SimpleFeatureCollection features) {
+        Set<String> ids = new HashSet<>();
+        try (SimpleFeatureIterator it = features.features()) {
+            while (it.hasNext()) {
+                ids.add(it.next().getID());
+            }
+        }
+        return ids;
+    }
+
     /**
      * A filter using a function that casts to Feature (here dimension(geometry())) must be evaluated against a
      * SimpleFeature view of each vector tile feature, not the raw MvtFeature, which would return null and drop
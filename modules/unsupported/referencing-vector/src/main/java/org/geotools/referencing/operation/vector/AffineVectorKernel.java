@@ -0,0 +1,116 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static org.geotools.referencing.operation.vector.VectorMath.SPECIES;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorShuffle;
+import org.geotools.referencing.operation.projection.AffineKernel;
+
+/**
+ * Two-dimensional affine transform applied on interleaved coordinates. Each vector holds (<var>x</var>,<var>y</var>)
+ * pairs; a shuffle swapping the lanes of each pair gives the (<var>y</var>,<var>x</var>) operand, so the transform is
+ * computed as <code>v·A + swap(v)·B + C</code> with coefficient vectors repeating the pattern of one point.
+ *
+ * <p>Terms are omitted in the same cases than {@link java.awt.geom.AffineTransform} omits them, so both implementations
+ * produce the same values including for infinite coordinates.
+ */
+final class AffineVectorKernel implements AffineKernel {
+    /** Swaps the two lanes of each (<var>x</var>,<var>y</var>) pair. */
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+
+    /** The coefficients as given to the constructor. */
+    private final double m00, m10, m01, m11, m02, m12;
+
+    /** Whether the scale, shear and translation terms are applied. */
+    private final boolean scale, shear, translate;
+
+    /** The coefficients repeated for each pair: (m00, m11), (m01, m10) and (m02, m12). */
+    private final DoubleVector a, b, c;
+
+    /** Creates a kernel for the given coefficients, named as in {@link java.awt.geom.AffineTransform}. */
+    AffineVectorKernel(double m00, double m10, double m01, double m11, double m02, double m12) {
+        this.m00 = m00;
+        this.m10 = m10;
+        this.m01 = m01;
+        this.m11 = m11;
+        this.m02 = m02;
+        this.m12 = m12;
+        shear = m01 != 0 || m10 != 0;
+        scale = !shear || m00 != 0 || m11 != 0;
+        translate = m02 != 0 || m12 != 0;
+        a = pattern(m00, m11);
+        b = pattern(m01, m10);
+        c = pattern(m02, m12);
+    }
+
+    /** Returns a vector with the given values repeated in the even and odd lanes. */
+    private static DoubleVector pattern(final double even, final double odd) {
+        final double[] values = new double[SPECIES.length()];
+        for (int i = 0; i < values.length; i += 2) {
+            values[i] = even;
+            values[i + 1] = odd;
+        }
+        return DoubleVector.fromArray(SPECIES, values, 0);
+    }
+
+    @Override
+    public void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts) {
+        final int length = numPts * 2;
+        final int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            final DoubleVector v = DoubleVector.fromArray(SPECIES, srcPts, srcOff + i);
+            DoubleVector r;
+            if (scale) {
+                r = v.mul(a);
+                if (shear) {
+                    r = r.add(v.rearrange(SWAP).mul(b));
+                }
+            } else {
+                r = v.rearrange(SWAP).mul(b);
+            }
+            if (translate) {
+                r = r.add(c);
+            }
+            r.intoArray(dstPts, dstOff + i);
+        }
+        for (; i < length; i += 2) {
+            final double x = srcPts[srcOff + i];
+            final double y = srcPts[srcOff + i + 1];
+            double tx, ty;
+            if (scale) {
+                tx = m00 * x;
+                ty = m11 * y;
+                if (shear) {
+                    tx += m01 * y;
+                    ty += m10 * x;
+                }
+            } else {
+                tx = m01 * y;
+                ty = m10 * x;
+            }
+            if (translate) {
+                tx += m02;
+                ty += m12;
+            }
+            dstPts[dstOff + i] = tx;
+            dstPts[dstOff + i + 1] = ty;
+        }
+    }
+}
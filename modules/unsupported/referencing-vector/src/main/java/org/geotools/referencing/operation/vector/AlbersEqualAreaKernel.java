@@ -0,0 +1,104 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static jdk.incubator.vector.VectorOperators.COS;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LT;
+import static jdk.incubator.vector.VectorOperators.SIN;
+import static org.geotools.referencing.operation.vector.VectorMath.SPECIES;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import org.geotools.referencing.operation.projection.ProjectionFormula;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+
+/**
+ * Albers Equal Area equations, for both the ellipsoidal and the spherical cases.
+ *
+ * @see org.geotools.referencing.operation.projection.AlbersEqualArea
+ */
+final class AlbersEqualAreaKernel implements ProjectionKernel {
+    /** {@code true} for the spherical equations. */
+    private final boolean spherical;
+
+    /** The ellipsoid excentricity and its square, ignored in the spherical case. */
+    private final double e, es;
+
+    /** Constants computed by the projection. */
+    private final double n, c, rho0;
+
+    /** Negative values of <var>ρ</var>² greater than minus this tolerance are rounded to zero. */
+    private final double epsilon;
+
+    /** Creates a kernel for the given albers formula. */
+    AlbersEqualAreaKernel(final ProjectionFormula formula) {
+        final double[] k = formula.getCoefficients();
+        spherical = formula.getKind() == ProjectionFormula.Kind.ALBERS_EQUAL_AREA_SPHERICAL;
+        final int base = spherical ? 0 : 2;
+        e = spherical ? 0 : k[0];
+        es = spherical ? 0 : k[1];
+        n = k[base];
+        c = k[base + 1];
+        rho0 = k[base + 2];
+        epsilon = k[base + 3];
+    }
+
+    @Override
+    public void transform(final double[] lambda, final double[] phi, final int length) {
+        final int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, lambda, i).mul(n);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, phi, i);
+            DoubleVector rho;
+            if (spherical) {
+                rho = y.lanewise(SIN).mul(n * 2).neg().add(c);
+            } else {
+                rho = VectorMath.qsfn(y.lanewise(SIN), e, es).mul(n).neg().add(c);
+            }
+            final VectorMask<Double> negative = rho.compare(LT, 0);
+            final VectorMask<Double> invalid = negative.and(rho.compare(LE, -epsilon));
+            rho = rho.blend(0, negative).sqrt().div(n);
+            final DoubleVector ty = rho.mul(x.lanewise(COS)).neg().add(rho0);
+            final DoubleVector tx = rho.mul(x.lanewise(SIN));
+            tx.blend(Double.NaN, invalid).intoArray(lambda, i);
+            ty.blend(Double.NaN, invalid).intoArray(phi, i);
+        }
+        for (; i < length; i++) {
+            final double x = lambda[i] * n;
+            final double y = phi[i];
+            double rho;
+            if (spherical) {
+                rho = c - n * 2 * Math.sin(y);
+            } else {
+                rho = c - n * VectorMath.qsfn(Math.sin(y), e, es);
+            }
+            if (rho < 0.0) {
+                if (rho > -epsilon) {
+                    rho = 0.0;
+                } else {
+                    lambda[i] = phi[i] = Double.NaN;
+                    continue;
+                }
+            }
+            rho = Math.sqrt(rho) / n;
+            phi[i] = rho0 - rho * Math.cos(x);
+            lambda[i] = rho * Math.sin(x);
+        }
+    }
+}
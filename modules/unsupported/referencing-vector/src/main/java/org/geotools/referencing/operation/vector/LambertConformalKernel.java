@@ -0,0 +1,112 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static jdk.incubator.vector.VectorOperators.COS;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LT;
+import static jdk.incubator.vector.VectorOperators.POW;
+import static jdk.incubator.vector.VectorOperators.SIN;
+import static jdk.incubator.vector.VectorOperators.TAN;
+import static org.geotools.referencing.operation.vector.VectorMath.SPECIES;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import org.geotools.referencing.operation.projection.ProjectionFormula;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+
+/**
+ * Lambert Conic Conformal equations, for both the ellipsoidal and the spherical cases.
+ *
+ * @see org.geotools.referencing.operation.projection.LambertConformal
+ */
+final class LambertConformalKernel implements ProjectionKernel {
+    /** {@code true} for the spherical equations. */
+    private final boolean spherical;
+
+    /** The ellipsoid excentricity, ignored in the spherical case. */
+    private final double e;
+
+    /** Constants computed by the projection. */
+    private final double n, F, rho0;
+
+    /** Value subtracted from <var>n</var>·<var>λ</var>, non-zero for the Belgium variant. */
+    private final double offset;
+
+    /** Tolerance for detecting poles. */
+    private final double epsilon;
+
+    /** Creates a kernel for the given lambert conformal formula. */
+    LambertConformalKernel(final ProjectionFormula formula) {
+        final double[] c = formula.getCoefficients();
+        spherical = formula.getKind() == ProjectionFormula.Kind.LAMBERT_CONFORMAL_SPHERICAL;
+        final int base = spherical ? 0 : 1;
+        e = spherical ? 0 : c[0];
+        n = c[base];
+        F = c[base + 1];
+        rho0 = c[base + 2];
+        offset = c[base + 3];
+        epsilon = c[base + 4];
+    }
+
+    @Override
+    public void transform(final double[] lambda, final double[] phi, final int length) {
+        final int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, lambda, i);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, phi, i);
+            final VectorMask<Double> pole = y.abs().sub(Math.PI / 2).abs().compare(LT, epsilon);
+            final VectorMask<Double> invalid = pole.and(y.mul(n).compare(LE, 0));
+            DoubleVector rho;
+            if (spherical) {
+                rho = y.mul(0.5)
+                        .add(Math.PI / 4)
+                        .lanewise(TAN)
+                        .lanewise(POW, -n)
+                        .mul(F);
+            } else {
+                rho = VectorMath.tsfn(y, y.lanewise(SIN), e).lanewise(POW, n).mul(F);
+            }
+            rho = rho.blend(0, pole);
+            final DoubleVector theta = x.mul(n).sub(offset);
+            final DoubleVector ty = rho.mul(theta.lanewise(COS)).neg().add(rho0);
+            final DoubleVector tx = rho.mul(theta.lanewise(SIN));
+            tx.blend(Double.NaN, invalid).intoArray(lambda, i);
+            ty.blend(Double.NaN, invalid).intoArray(phi, i);
+        }
+        for (; i < length; i++) {
+            double x = lambda[i];
+            final double y = phi[i];
+            final double rho;
+            if (Math.abs(Math.abs(y) - Math.PI / 2) < epsilon) {
+                if (y * n <= 0) {
+                    lambda[i] = phi[i] = Double.NaN;
+                    continue;
+                }
+                rho = 0;
+            } else if (spherical) {
+                rho = F * Math.pow(Math.tan(Math.PI / 4 + 0.5 * y), -n);
+            } else {
+                rho = F * Math.pow(VectorMath.tsfn(y, Math.sin(y), e), n);
+            }
+            x = x * n - offset;
+            phi[i] = rho0 - rho * Math.cos(x);
+            lambda[i] = rho * Math.sin(x);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LOG;
+import static jdk.incubator.vector.VectorOperators.SIN;
+import static jdk.incubator.vector.VectorOperators.TAN;
+import static org.geotools.referencing.operation.vector.VectorMath.SPECIES;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import org.geotools.referencing.operation.projection.ProjectionFormula;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+
+/**
+ * Mercator equations, for both the ellipsoidal and the spherical cases. Longitudes are left unchanged.
+ *
+ * @see org.geotools.referencing.operation.projection.Mercator
+ */
+final class MercatorKernel implements ProjectionKernel {
+    /** {@code true} for the spherical equations. */
+    private final boolean spherical;
+
+    /** The ellipsoid excentricity, ignored in the spherical case. */
+    private final double e;
+
+    /** Latitudes with an absolute value greater than this limit can not be projected. */
+    private final double limit;
+
+    /** Creates a kernel for the given mercator formula. */
+    MercatorKernel(final ProjectionFormula formula) {
+        spherical = formula.getKind() == ProjectionFormula.Kind.MERCATOR_SPHERICAL;
+        if (spherical) {
+            e = 0;
+            limit = Math.PI / 2 - formula.getCoefficient(0);
+        } else {
+            e = formula.getCoefficient(0);
+            limit = Math.PI / 2 - formula.getCoefficient(1);
+        }
+    }
+
+    @Override
+    public void transform(final double[] lambda, final double[] phi, final int length) {
+        final int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, phi, i);
+            final VectorMask<Double> pole = y.abs().compare(GT, limit);
+            final DoubleVector ty;
+            if (spherical) {
+                ty = y.mul(0.5).add(Math.PI / 4).lanewise(TAN).lanewise(LOG);
+            } else {
+                ty = VectorMath.tsfn(y, y.lanewise(SIN), e).lanewise(LOG).neg();
+            }
+            ty.blend(Double.NaN, pole).intoArray(phi, i);
+            if (pole.anyTrue()) {
+                DoubleVector.fromArray(SPECIES, lambda, i)
+                        .blend(Double.NaN, pole)
+                        .intoArray(lambda, i);
+            }
+        }
+        for (; i < length; i++) {
+            final double y = phi[i];
+            if (Math.abs(y) > limit) {
+                lambda[i] = phi[i] = Double.NaN;
+            } else if (spherical) {
+                phi[i] = Math.log(Math.tan(Math.PI / 4 + 0.5 * y));
+            } else {
+                phi[i] = -Math.log(VectorMath.tsfn(y, Math.sin(y), e));
+            }
+        }
+    }
+}
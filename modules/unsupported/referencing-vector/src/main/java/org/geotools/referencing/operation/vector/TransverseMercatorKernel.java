@@ -0,0 +1,196 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static jdk.incubator.vector.VectorOperators.ATAN2;
+import static jdk.incubator.vector.VectorOperators.COS;
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LOG;
+import static jdk.incubator.vector.VectorOperators.SIN;
+import static jdk.incubator.vector.VectorOperators.TAN;
+import static org.geotools.referencing.operation.vector.VectorMath.SPECIES;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import org.geotools.referencing.operation.projection.ProjectionFormula;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+
+/**
+ * Transverse Mercator equations, for both the ellipsoidal and the spherical cases.
+ *
+ * @see org.geotools.referencing.operation.projection.TransverseMercator
+ */
+final class TransverseMercatorKernel implements ProjectionKernel {
+    /** Contants of the series expansion, as in the projection class. */
+    private static final double FC1 = 1.00000000000000000000000, // 1/1
+            FC2 = 0.50000000000000000000000, // 1/2
+            FC3 = 0.16666666666666666666666, // 1/6
+            FC4 = 0.08333333333333333333333, // 1/12
+            FC5 = 0.05000000000000000000000, // 1/20
+            FC6 = 0.03333333333333333333333, // 1/30
+            FC7 = 0.02380952380952380952380, // 1/42
+            FC8 = 0.01785714285714285714285; // 1/56
+
+    /** {@code true} for the spherical equations. */
+    private final boolean spherical;
+
+    /** Square of excentricity and derived <var>e'</var>². */
+    private final double es, esp;
+
+    /** Meridian distance at the latitude of origin (ellipsoidal case), or the latitude of origin (spherical case). */
+    private final double ml0;
+
+    /** Constants of the meridian distance. */
+    private final double en0, en1, en2, en3, en4;
+
+    /** Tolerance for {@code cos(φ) = 0} (ellipsoidal case) or points at infinity (spherical case). */
+    private final double epsilon;
+
+    /** Creates a kernel for the given transverse mercator formula. */
+    TransverseMercatorKernel(final ProjectionFormula formula) {
+        final double[] c = formula.getCoefficients();
+        spherical = formula.getKind() == ProjectionFormula.Kind.TRANSVERSE_MERCATOR_SPHERICAL;
+        if (spherical) {
+            ml0 = c[0];
+            epsilon = c[1];
+            es = esp = en0 = en1 = en2 = en3 = en4 = Double.NaN;
+        } else {
+            es = c[0];
+            esp = c[1];
+            ml0 = c[2];
+            en0 = c[3];
+            en1 = c[4];
+            en2 = c[5];
+            en3 = c[6];
+            en4 = c[7];
+            epsilon = c[8];
+        }
+    }
+
+    @Override
+    public void transform(final double[] lambda, final double[] phi, final int length) {
+        final int upper = SPECIES.loopBound(length);
+        int i = 0;
+        if (spherical) {
+            for (; i < upper; i += SPECIES.length()) {
+                final DoubleVector x = DoubleVector.fromArray(SPECIES, lambda, i);
+                final DoubleVector y = DoubleVector.fromArray(SPECIES, phi, i);
+                final DoubleVector b = y.lanewise(COS).mul(x.lanewise(SIN));
+                final VectorMask<Double> infinite = b.abs().sub(1).abs().compare(LE, epsilon);
+                final DoubleVector ty =
+                        y.lanewise(TAN).lanewise(ATAN2, x.lanewise(COS)).sub(ml0);
+                final DoubleVector tx =
+                        b.add(1).div(b.neg().add(1)).lanewise(LOG).mul(0.5);
+                tx.blend(Double.NaN, infinite).intoArray(lambda, i);
+                ty.blend(Double.NaN, infinite).intoArray(phi, i);
+            }
+            for (; i < length; i++) {
+                final double x = lambda[i];
+                final double y = phi[i];
+                final double b = Math.cos(y) * Math.sin(x);
+                if (Math.abs(Math.abs(b) - 1.0) <= epsilon) {
+                    lambda[i] = phi[i] = Double.NaN;
+                } else {
+                    phi[i] = Math.atan2(Math.tan(y), Math.cos(x)) - ml0;
+                    lambda[i] = 0.5 * Math.log((1.0 + b) / (1.0 - b));
+                }
+            }
+            return;
+        }
+        for (; i < upper; i += SPECIES.length()) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, lambda, i);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, phi, i);
+            final DoubleVector sinphi = y.lanewise(SIN);
+            final DoubleVector cosphi = y.lanewise(COS);
+            final VectorMask<Double> regular = cosphi.abs().compare(GT, epsilon);
+            DoubleVector t = DoubleVector.zero(SPECIES).blend(sinphi.div(cosphi), regular);
+            t = t.mul(t);
+            DoubleVector al = cosphi.mul(x);
+            final DoubleVector als = al.mul(al);
+            al = al.div(sinphi.mul(es).mul(sinphi).neg().add(1.0).sqrt());
+            final DoubleVector n = cosphi.mul(esp).mul(cosphi);
+
+            final DoubleVector ys1 =
+                    t.neg().add(543.0).mul(t).sub(3111.0).mul(t).add(1385.0);
+            final DoubleVector ys2 = t.sub(58.0)
+                    .mul(t)
+                    .add(61.0)
+                    .add(n.mul(t.mul(-330.0).add(270.0)))
+                    .add(als.mul(FC8).mul(ys1));
+            final DoubleVector ys3 = t.neg()
+                    .add(5.0)
+                    .add(n.mul(n.mul(4.0).add(9.0)))
+                    .add(als.mul(FC6).mul(ys2));
+            final DoubleVector ty = mlfn(y, sinphi, cosphi)
+                    .sub(ml0)
+                    .add(sinphi.mul(al)
+                            .mul(x)
+                            .mul(FC2)
+                            .mul(als.mul(FC4).mul(ys3).add(1.0)));
+
+            final DoubleVector xs1 = t.neg().add(179.0).mul(t).sub(479.0).mul(t).add(61.0);
+            final DoubleVector xs2 = t.sub(18.0)
+                    .mul(t)
+                    .add(5.0)
+                    .add(n.mul(t.mul(-58.0).add(14.0)))
+                    .add(als.mul(FC7).mul(xs1));
+            final DoubleVector tx = al.mul(als.mul(FC3)
+                    .mul(t.neg().add(1.0).add(n).add(als.mul(FC5).mul(xs2)))
+                    .add(FC1));
+            tx.intoArray(lambda, i);
+            ty.intoArray(phi, i);
+        }
+        for (; i < length; i++) {
+            final double x = lambda[i];
+            final double y = phi[i];
+            final double sinphi = Math.sin(y);
+            final double cosphi = Math.cos(y);
+            double t = Math.abs(cosphi) > epsilon ? sinphi / cosphi : 0;
+            t *= t;
+            double al = cosphi * x;
+            final double als = al * al;
+            al /= Math.sqrt(1.0 - es * sinphi * sinphi);
+            final double n = esp * cosphi * cosphi;
+
+            final double ys1 = 1385.0 + t * (t * (543.0 - t) - 3111.0);
+            final double ys2 = 61.0 + t * (t - 58.0) + n * (270.0 - 330.0 * t) + FC8 * als * ys1;
+            final double ys3 = 5.0 - t + n * (9.0 + 4.0 * n) + FC6 * als * ys2;
+            phi[i] = mlfn(y, sinphi, cosphi) - ml0 + sinphi * al * x * FC2 * (1.0 + FC4 * als * ys3);
+
+            final double xs1 = 61.0 + t * (t * (179.0 - t) - 479.0);
+            final double xs2 = 5.0 + t * (t - 18.0) + n * (14.0 - 58.0 * t) + FC7 * als * xs1;
+            lambda[i] = al * (FC1 + FC3 * als * (1.0 - t + n + FC5 * als * xs2));
+        }
+    }
+
+    /** Meridian distance, as the {@code mlfn} method of the projection. */
+    private DoubleVector mlfn(final DoubleVector phi, final DoubleVector sphi, final DoubleVector cphi) {
+        final DoubleVector cs = cphi.mul(sphi);
+        final DoubleVector ss = sphi.mul(sphi);
+        final DoubleVector series =
+                ss.mul(en4).add(en3).mul(ss).add(en2).mul(ss).add(en1);
+        return phi.mul(en0).sub(cs.mul(series));
+    }
+
+    /** Scalar version of {@link #mlfn(DoubleVector, DoubleVector, DoubleVector)}. */
+    private double mlfn(final double phi, double sphi, double cphi) {
+        cphi *= sphi;
+        sphi *= sphi;
+        return en0 * phi - cphi * (en1 + sphi * (en2 + sphi * (en3 + sphi * en4)));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import org.geotools.referencing.operation.projection.AffineKernel;
+import org.geotools.referencing.operation.projection.BatchKernelFactory;
+import org.geotools.referencing.operation.projection.ProjectionFormula;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+
+/**
+ * Creates batch kernels using the incubating Java Vector API. Kernels are provided for the Transverse Mercator,
+ * Mercator, Lambert Conic Conformal and Albers Equal Area projections, and for two-dimensional affine transforms.
+ *
+ * <p>The {@code jdk.incubator.vector} module is not resolved by default: the JVM must be started with
+ * {@code --add-modules jdk.incubator.vector}. When the module is missing, or when the hardware does not provide vectors
+ * of at least two {@code double} values, this factory returns {@code null} and map projections keep using their scalar
+ * implementation.
+ */
+public final class VectorKernelFactory implements BatchKernelFactory {
+    /** Whether the Vector API module has been resolved in the boot layer. */
+    private static final boolean MODULE_PRESENT =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Returns {@code true} if vector kernels can be used in this JVM. This method checks for the module before touching
+     * any Vector API class.
+     */
+    public static boolean isAvailable() {
+        return MODULE_PRESENT && VectorMath.SPECIES.length() >= 2;
+    }
+
+    @Override
+    public ProjectionKernel createProjectionKernel(final ProjectionFormula formula) {
+        if (!isAvailable()) {
+            return null;
+        }
+        switch (formula.getKind()) {
+            case TRANSVERSE_MERCATOR:
+            case TRANSVERSE_MERCATOR_SPHERICAL:
+                return new TransverseMercatorKernel(formula);
+            case MERCATOR:
+            case MERCATOR_SPHERICAL:
+                return new MercatorKernel(formula);
+            case LAMBERT_CONFORMAL:
+            case LAMBERT_CONFORMAL_SPHERICAL:
+                return new LambertConformalKernel(formula);
+            case ALBERS_EQUAL_AREA:
+            case ALBERS_EQUAL_AREA_SPHERICAL:
+                return new AlbersEqualAreaKernel(formula);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public AffineKernel createAffineKernel(double m00, double m10, double m01, double m11, double m02, double m12) {
+        if (!isAvailable()) {
+            return null;
+        }
+        return new AffineVectorKernel(m00, m10, m01, m11, m02, m12);
+    }
+}
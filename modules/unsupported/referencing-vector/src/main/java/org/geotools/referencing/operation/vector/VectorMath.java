@@ -0,0 +1,76 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static jdk.incubator.vector.VectorOperators.LOG;
+import static jdk.incubator.vector.VectorOperators.POW;
+import static jdk.incubator.vector.VectorOperators.TAN;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector counterparts of the helper functions defined in
+ * {@link org.geotools.referencing.operation.projection.MapProjection}. Each vector function has a scalar twin used for
+ * the loop tails. Both follow the operation order of the projection code.
+ */
+final class VectorMath {
+    /** The species used by every kernel. */
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /** Do not allow instantiation of this class. */
+    private VectorMath() {}
+
+    /**
+     * Computes function <code>t(&phi;)</code>, Snyder (7-10), as the projection {@code tsfn} method.
+     *
+     * @param phi The latitude in radians.
+     * @param sinphi The sine of the latitude.
+     * @param e The ellipsoid excentricity.
+     */
+    static DoubleVector tsfn(final DoubleVector phi, DoubleVector sinphi, final double e) {
+        sinphi = sinphi.mul(e);
+        final DoubleVector num = phi.neg().add(Math.PI / 2).mul(0.5).lanewise(TAN);
+        final DoubleVector ratio = sinphi.neg().add(1).div(sinphi.add(1));
+        return num.div(ratio.lanewise(POW, 0.5 * e));
+    }
+
+    /** Scalar version of {@link #tsfn(DoubleVector, DoubleVector, double)}. */
+    static double tsfn(final double phi, double sinphi, final double e) {
+        sinphi *= e;
+        return Math.tan(0.5 * (Math.PI / 2 - phi)) / Math.pow((1 - sinphi) / (1 + sinphi), 0.5 * e);
+    }
+
+    /**
+     * Computes <code>q(&phi;)</code>, Snyder (3-12), as the {@code qsfn} method of the Albers Equal Area projection.
+     *
+     * @param sinphi The sine of the latitude.
+     * @param e The ellipsoid excentricity, not zero.
+     * @param es The square of the excentricity.
+     */
+    static DoubleVector qsfn(final DoubleVector sinphi, final double e, final double es) {
+        final DoubleVector con = sinphi.mul(e);
+        final DoubleVector log = con.neg().add(1).div(con.add(1)).lanewise(LOG).mul(0.5 / e);
+        return sinphi.div(con.mul(con).neg().add(1)).sub(log).mul(1 - es);
+    }
+
+    /** Scalar version of {@link #qsfn(DoubleVector, double, double)}. */
+    static double qsfn(final double sinphi, final double e, final double es) {
+        final double con = e * sinphi;
+        return (1 - es) * (sinphi / (1. - con * con) - 0.5 / e * Math.log((1. - con) / (1. + con)));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.vector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.util.Random;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.MathTransformFactory;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.operation.projection.BatchKernels;
+import org.geotools.referencing.operation.projection.MapProjection;
+import org.geotools.referencing.operation.projection.ProjectionException;
+import org.geotools.referencing.operation.projection.ProjectionKernel;
+import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Compares the vector kernels with the scalar projection code. */
+public class VectorKernelFactoryTest {
+
+    /** Number of points, chosen to exercise several blocks and a vector loop tail. */
+    private static final int POINTS = 1003;
+
+    /** Maximal difference tolerated between the vector and scalar results, in metres. */
+    private static final double TOLERANCE = 1E-6;
+
+    private MathTransformFactory factory;
+
+    @Before
+    public void setUp() {
+        assumeTrue("Run with --add-modules jdk.incubator.vector", VectorKernelFactory.isAvailable());
+        factory = ReferencingFactoryFinder.getMathTransformFactory(null);
+    }
+
+    @Test
+    public void testTransverseMercator() throws Exception {
+        for (boolean sphere : new boolean[] {false, true}) {
+            ParameterValueGroup parameters = parameters("Transverse_Mercator", sphere);
+            parameters.parameter("central_meridian").setValue(15);
+            parameters.parameter("latitude_of_origin").setValue(10);
+            parameters.parameter("scale_factor").setValue(0.9996);
+            parameters.parameter("false_easting").setValue(500000);
+            assertMatchesScalar(parameters, TransverseMercatorKernel.class, 15, 8, 80);
+        }
+    }
+
+    @Test
+    public void testMercator() throws Exception {
+        for (boolean sphere : new boolean[] {false, true}) {
+            ParameterValueGroup parameters = parameters("Mercator_2SP", sphere);
+            parameters.parameter("standard_parallel_1").setValue(30);
+            parameters.parameter("central_meridian").setValue(-60);
+            MathTransform2D mt = assertMatchesScalar(parameters, MercatorKernel.class, -60, 110, 85);
+            assertPoleFails(mt, 90);
+        }
+    }
+
+    @Test
+    public void testLambertConformal() throws Exception {
+        for (boolean sphere : new boolean[] {false, true}) {
+            ParameterValueGroup parameters = parameters("Lambert_Conformal_Conic_2SP", sphere);
+            parameters.parameter("standard_parallel_1").setValue(45);
+            parameters.parameter("standard_parallel_2").setValue(55);
+            parameters.parameter("latitude_of_origin").setValue(50);
+            parameters.parameter("central_meridian").setValue(10);
+            parameters.parameter("false_northing").setValue(2000000);
+            MathTransform2D mt = assertMatchesScalar(parameters, LambertConformalKernel.class, 10, 30, 80);
+            assertPoleFails(mt, -90);
+        }
+        ParameterValueGroup belgium = parameters("Lambert_Conformal_Conic_2SP_Belgium", false);
+        belgium.parameter("standard_parallel_1").setValue(49.833333);
+        belgium.parameter("standard_parallel_2").setValue(51.166667);
+        belgium.parameter("latitude_of_origin").setValue(90);
+        belgium.parameter("central_meridian").setValue(4.356939);
+        assertMatchesScalar(belgium, LambertConformalKernel.class, 4.356939, 5, 80);
+    }
+
+    @Test
+    public void testAlbersEqualArea() throws Exception {
+        for (boolean sphere : new boolean[] {false, true}) {
+            ParameterValueGroup parameters = parameters("Albers_Conic_Equal_Area", sphere);
+            parameters.parameter("standard_parallel_1").setValue(29.5);
+            parameters.parameter("standard_parallel_2").setValue(45.5);
+            parameters.parameter("latitude_of_center").setValue(23);
+            parameters.parameter("longitude_of_center").setValue(-96);
+            assertMatchesScalar(parameters, AlbersEqualAreaKernel.class, -96, 40, 80);
+        }
+    }
+
+    /** Tests a projection preceded by an axis swap, as created for latitude first geographic CRS. */
+    @Test
+    public void testConcatenated() throws Exception {
+        MathTransform projection = factory.createParameterizedTransform(parameters("Transverse_Mercator", false));
+        MathTransform swap = new AffineTransform2D(0, 1, 1, 0, 0, 0);
+        MathTransform2D chain = (MathTransform2D) factory.createConcatenatedTransform(swap, projection);
+        double[] source = randomPoints(new Random(7), 0, 8, 80);
+        for (int i = 0; i < source.length; i += 2) {
+            double t = source[i];
+            source[i] = source[i + 1];
+            source[i + 1] = t;
+        }
+        assertSamePoints(chain, source);
+    }
+
+    @Test
+    public void testAffine() {
+        double[][] matrices = {
+            {2, 0.5, -0.25, 3, 100, -200}, // general
+            {2, 0, 0, -3, 100, -200}, // scale and translate
+            {0, 1, 1, 0, 0, 0}, // axis swap
+            {1, 0, 0, 1, 5, 6}, // translate only
+            {0.5, 0, 0, 0.5, 0, 0}, // scale only
+        };
+        double[] source = randomPoints(new Random(3), 0, 180, 90);
+        source[10] = Double.POSITIVE_INFINITY;
+        source[21] = Double.NaN;
+        source[source.length - 1] = Double.NEGATIVE_INFINITY;
+        for (double[] m : matrices) {
+            AffineTransform2D transform = new AffineTransform2D(m[0], m[1], m[2], m[3], m[4], m[5]);
+            double[] expected = new double[source.length];
+            new AffineTransform(m).transform(source, 0, expected, 0, POINTS);
+            double[] actual = new double[source.length];
+            transform.transform(source, 0, actual, 0, POINTS);
+            assertArrayEquals(expected, actual, 0);
+            // in place, with an odd offset
+            double[] inPlace = new double[source.length + 1];
+            System.arraycopy(source, 0, inPlace, 1, source.length);
+            transform.transform(inPlace, 1, inPlace, 1, POINTS);
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], inPlace[i + 1], 0);
+            }
+        }
+        assertTrue(BatchKernels.getAffineKernel(2, 0, 0, 2, 0, 0) instanceof AffineVectorKernel);
+    }
+
+    /** Returns the default parameters for the given projection on the WGS84 ellipsoid or a sphere. */
+    private ParameterValueGroup parameters(String name, boolean sphere) throws Exception {
+        ParameterValueGroup parameters = factory.getDefaultParameters(name);
+        parameters.parameter("semi_major").setValue(sphere ? 6371007 : 6378137);
+        parameters.parameter("semi_minor").setValue(sphere ? 6371007 : 6356752.314245179);
+        return parameters;
+    }
+
+    /**
+     * Creates the projection, checks that it uses a kernel of the expected type and compares its array transform with
+     * point by point transforms.
+     */
+    private MathTransform2D assertMatchesScalar(
+            ParameterValueGroup parameters,
+            Class<? extends ProjectionKernel> kernelType,
+            double centralMeridian,
+            double lonRange,
+            double latRange)
+            throws Exception {
+        MathTransform2D mt = (MathTransform2D) factory.createParameterizedTransform(parameters);
+        assertTrue(mt instanceof MapProjection);
+        ProjectionKernel kernel = BatchKernels.getProjectionKernel(((MapProjection) mt).getFormula());
+        assertNotNull(kernel);
+        assertEquals(kernelType, kernel.getClass());
+        assertSamePoints(mt, randomPoints(new Random(42), centralMeridian, lonRange, latRange));
+        return mt;
+    }
+
+    /** Compares the array transform with point by point transforms. */
+    private static void assertSamePoints(MathTransform2D mt, double[] source) throws TransformException {
+        double[] actual = new double[source.length];
+        mt.transform(source, 0, actual, 0, POINTS);
+        Point2D.Double point = new Point2D.Double();
+        for (int i = 0; i < POINTS; i++) {
+            point.setLocation(source[2 * i], source[2 * i + 1]);
+            mt.transform(point, point);
+            assertEquals("x of point " + i, point.x, actual[2 * i], TOLERANCE);
+            assertEquals("y of point " + i, point.y, actual[2 * i + 1], TOLERANCE);
+        }
+        // in place
+        double[] inPlace = source.clone();
+        mt.transform(inPlace, 0, inPlace, 0, POINTS);
+        assertArrayEquals(actual, inPlace, 0);
+    }
+
+    /** Checks that a pole makes the array transform fail for that point only. */
+    private static void assertPoleFails(MathTransform2D mt, double latitude) throws TransformException {
+        double[] source = randomPoints(new Random(1), 0, 1, 1);
+        source[6] = 0;
+        source[7] = latitude;
+        double[] target = new double[source.length];
+        try {
+            mt.transform(source, 0, target, 0, POINTS);
+            fail("Expected a ProjectionException");
+        } catch (ProjectionException e) {
+            // expected
+        }
+        assertTrue(Double.isNaN(target[6]));
+        assertTrue(Double.isNaN(target[7]));
+        assertTrue(Double.isFinite(target[4]) && Double.isFinite(target[8]));
+    }
+
+    /** Generates random (longitude, latitude) pairs around the given central meridian. */
+    private static double[] randomPoints(Random random, double centralMeridian, double lonRange, double latRange) {
+        double[] points = new double[POINTS * 2];
+        for (int i = 0; i < points.length; i += 2) {
+            points[i] = centralMeridian + (random.nextDouble() * 2 - 1) * lonRange;
+            points[i + 1] = (random.nextDouble() * 2 - 1) * latRange;
+        }
+        return points;
+    }
+}